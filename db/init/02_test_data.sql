@@ -66,38 +66,38 @@ INSERT INTO work_rules (work_place_id, latitude, longitude, user_id, standard_st
 -- 4. 位置情報 (Locations)
 -- ==================================================
 
-INSERT INTO locations (latitude, longitude, recorded_at, user_id, created_at) VALUES
+INSERT INTO locations (latitude_e6, longitude_e6, recorded_at, user_id, created_at) VALUES
 -- 田中さんの位置履歴（2025年6月）
-(35.681236, 139.767125, '2025-06-01 08:55:00+09', 'tanaka@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-01 18:05:00+09', 'tanaka@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-02 09:02:00+09', 'tanaka@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-02 17:58:00+09', 'tanaka@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-03 08:58:00+09', 'tanaka@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-03 17:32:00+09', 'tanaka@example.com', NOW()),
+(35681236, 139767125, '2025-06-01 08:55:00+09', 'tanaka@example.com', NOW()),
+(35681236, 139767125, '2025-06-01 18:05:00+09', 'tanaka@example.com', NOW()),
+(35681236, 139767125, '2025-06-02 09:02:00+09', 'tanaka@example.com', NOW()),
+(35681236, 139767125, '2025-06-02 17:58:00+09', 'tanaka@example.com', NOW()),
+(35681236, 139767125, '2025-06-03 08:58:00+09', 'tanaka@example.com', NOW()),
+(35681236, 139767125, '2025-06-03 17:32:00+09', 'tanaka@example.com', NOW()),
 
 -- 佐藤さんの位置履歴（2025年6月）- 支社勤務
-(35.689487, 139.691706, '2025-06-01 08:45:00+09', 'sato@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-01 17:35:00+09', 'sato@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-02 09:10:00+09', 'sato@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-02 17:25:00+09', 'sato@example.com', NOW()),
+(35689487, 139691706, '2025-06-01 08:45:00+09', 'sato@example.com', NOW()),
+(35689487, 139691706, '2025-06-01 17:35:00+09', 'sato@example.com', NOW()),
+(35689487, 139691706, '2025-06-02 09:10:00+09', 'sato@example.com', NOW()),
+(35689487, 139691706, '2025-06-02 17:25:00+09', 'sato@example.com', NOW()),
 
 -- 鈴木さんの位置履歴（2025年6月）
-(35.681236, 139.767125, '2025-06-01 08:25:00+09', 'suzuki@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-01 17:28:00+09', 'suzuki@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-02 08:32:00+09', 'suzuki@example.com', NOW()),
-(35.681236, 139.767125, '2025-06-02 17:35:00+09', 'suzuki@example.com', NOW()),
+(35681236, 139767125, '2025-06-01 08:25:00+09', 'suzuki@example.com', NOW()),
+(35681236, 139767125, '2025-06-01 17:28:00+09', 'suzuki@example.com', NOW()),
+(35681236, 139767125, '2025-06-02 08:32:00+09', 'suzuki@example.com', NOW()),
+(35681236, 139767125, '2025-06-02 17:35:00+09', 'suzuki@example.com', NOW()),
 
 -- 山田さんの位置履歴（2025年6月）- 支社勤務
-(35.689487, 139.691706, '2025-06-01 08:55:00+09', 'yamada@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-01 17:32:00+09', 'yamada@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-02 09:05:00+09', 'yamada@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-02 17:28:00+09', 'yamada@example.com', NOW()),
+(35689487, 139691706, '2025-06-01 08:55:00+09', 'yamada@example.com', NOW()),
+(35689487, 139691706, '2025-06-01 17:32:00+09', 'yamada@example.com', NOW()),
+(35689487, 139691706, '2025-06-02 09:05:00+09', 'yamada@example.com', NOW()),
+(35689487, 139691706, '2025-06-02 17:28:00+09', 'yamada@example.com', NOW()),
 
 -- 渡辺さんの位置履歴（2025年6月）- フレックス勤務
-(35.689487, 139.691706, '2025-06-01 10:15:00+09', 'watanabe@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-01 19:05:00+09', 'watanabe@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-02 09:45:00+09', 'watanabe@example.com', NOW()),
-(35.689487, 139.691706, '2025-06-02 18:50:00+09', 'watanabe@example.com', NOW());
+(35689487, 139691706, '2025-06-01 10:15:00+09', 'watanabe@example.com', NOW()),
+(35689487, 139691706, '2025-06-01 19:05:00+09', 'watanabe@example.com', NOW()),
+(35689487, 139691706, '2025-06-02 09:45:00+09', 'watanabe@example.com', NOW()),
+(35689487, 139691706, '2025-06-02 18:50:00+09', 'watanabe@example.com', NOW());
 
 -- ==================================================
 -- 5. 勤怠表 (Reports)
@@ -0,0 +1,39 @@
+-- ==================================================
+-- 001: locations の (user_id, recorded_at) 一意制約追加
+-- ==================================================
+-- 端末の再送で重複登録された位置情報を削除し、自然キーの一意制約を追加する。
+-- 既存環境に対して一度だけ実行する（新規環境は db/init のスキーマに含まれる）。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/001_locations_unique_user_recorded_at.sql
+--
+-- 重複の解消方針: 同一 (user_id, recorded_at) のうち最小IDの行を残す
+-- （最初に受け付けた登録を正とし、再送分を削除する）
+
+BEGIN;
+
+-- 実行中の登録による新たな重複を防ぐ
+LOCK TABLE locations IN SHARE ROW EXCLUSIVE MODE;
+
+-- 1. 削除対象件数の確認
+SELECT COUNT(*) AS duplicate_rows
+FROM (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY user_id, recorded_at ORDER BY id) AS rn
+    FROM locations
+) ranked
+WHERE ranked.rn > 1;
+
+-- 2. 重複行の削除（最小IDの行を残す）
+DELETE FROM locations l
+USING locations keep
+WHERE l.user_id = keep.user_id
+  AND l.recorded_at = keep.recorded_at
+  AND l.id > keep.id;
+
+-- 3. 一意制約の追加（既存の同一列の複合インデックスは制約のインデックスで代替する）
+ALTER TABLE locations
+    ADD CONSTRAINT uk_locations_user_recorded_at UNIQUE (user_id, recorded_at);
+DROP INDEX IF EXISTS idx_locations_user_date;
+
+COMMIT;
@@ -0,0 +1,45 @@
+-- ==================================================
+-- 002: work_rules の所属期間重複を排他制約で禁止
+-- ==================================================
+-- 同一ユーザーの勤怠ルールの所属期間が重複しないことをデータベースで保証する。
+-- アプリケーションでの読み込み後チェックでは同時登録の競合を防げないため、
+-- btree_gist 拡張を使った EXCLUDE 制約に置き換える。
+-- 既存環境に対して一度だけ実行する（新規環境は db/init のスキーマに含まれる）。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/002_work_rules_exclude_overlapping_membership.sql
+--
+-- 重複の解消方針: 所属期間の修正は業務判断が必要なため自動では行わない。
+-- 重複が残っている場合は一覧を出力して中断するので、修正後に再実行する。
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 実行中の登録・更新による新たな重複を防ぐ
+LOCK TABLE work_rules IN SHARE ROW EXCLUSIVE MODE;
+
+-- 1. 重複している勤怠ルールの一覧
+SELECT a.user_id,
+       a.id AS rule_id,
+       a.membership_start_date,
+       a.membership_end_date,
+       b.id AS overlapping_rule_id,
+       b.membership_start_date AS overlapping_start_date,
+       b.membership_end_date AS overlapping_end_date
+FROM work_rules a
+JOIN work_rules b
+  ON a.user_id = b.user_id
+ AND a.id < b.id
+ AND daterange(a.membership_start_date, a.membership_end_date, '[]')
+     && daterange(b.membership_start_date, b.membership_end_date, '[]')
+ORDER BY a.user_id, a.id;
+
+-- 2. 排他制約の追加（重複が残っている場合はここでエラーとなりロールバックされる）
+ALTER TABLE work_rules
+    ADD CONSTRAINT excl_work_rules_user_membership_period EXCLUDE USING gist (
+        user_id WITH =,
+        daterange(membership_start_date, membership_end_date, '[]') WITH &&
+    );
+
+COMMIT;
@@ -0,0 +1,35 @@
+-- ==================================================
+-- 003: 勤怠表生成ジョブテーブルの追加
+-- ==================================================
+-- 位置情報からの勤怠表生成を非同期ジョブとして受け付けるためのテーブルを作成する。
+-- ジョブの状態をデータベースに保持することで、実行中にインスタンスが停止しても
+-- 再起動後の定期スイープで再実行できる。
+-- 既存環境に対して一度だけ実行する（新規環境は db/init のスキーマに含まれる）。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/003_report_generation_jobs.sql
+
+BEGIN;
+
+CREATE TABLE report_generation_jobs (
+    job_id VARCHAR(36) PRIMARY KEY,            -- ジョブID (UUID)
+    user_id VARCHAR(255) NOT NULL,             -- ユーザーID
+    year_month VARCHAR(7) NOT NULL,            -- 対象年月 (YYYY-MM形式)
+    status VARCHAR(20) NOT NULL,               -- ステータス (PENDING, RUNNING, SUCCEEDED, FAILED)
+    requested_at TIMESTAMP NOT NULL,           -- 受付日時
+    started_at TIMESTAMP,                      -- 実行開始日時
+    finished_at TIMESTAMP,                     -- 終了日時
+    error_message VARCHAR(1000),               -- 失敗理由
+
+    CONSTRAINT chk_report_generation_jobs_status CHECK (status IN ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    CONSTRAINT chk_report_generation_jobs_year_month CHECK (year_month ~ '^\d{4}-\d{2}$')
+);
+
+-- 同一ユーザー・同一年月の未終了ジョブは1件のみ（INSERT ... ON CONFLICT DO NOTHING の競合先）
+CREATE UNIQUE INDEX uk_report_generation_jobs_active ON report_generation_jobs(user_id, year_month)
+    WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_report_generation_jobs_status_requested_at ON report_generation_jobs(status, requested_at);
+
+COMMENT ON TABLE report_generation_jobs IS '勤怠表生成ジョブ: 位置情報からの非同期生成の受付・実行状態を管理';
+
+COMMIT;
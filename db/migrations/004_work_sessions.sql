@@ -0,0 +1,96 @@
+-- ==================================================
+-- 004: 勤務セッションテーブルの追加
+-- ==================================================
+-- 位置情報の登録時に維持する勤務セッション（記録間隔が1時間以内で連続し、
+-- 作業場所の範囲内外が同じ位置情報のまとまり）のテーブルを作成し、
+-- 既存の位置情報から勤務セッションを作成する。
+-- 勤怠表生成は月に高々数十件の勤務セッションを読み込むだけになる。
+-- 既存環境に対して一度だけ、kairos.location.sessions.enabled を有効にする前に実行する
+-- （新規環境は db/init のスキーマに含まれる）。
+--
+-- 補足:
+--   - 作業場所の範囲内外は、位置情報の記録日に有効な勤怠ルール（無ければ最初に登録された
+--     デフォルト勤怠ルール）の座標から100メートル以内かで判定する。作業場所が無い場合は範囲内とする。
+--   - 記録日はこのセッションの TimeZone で判定するため、アプリケーションと同じタイムゾーンで実行すること。
+--   - アーカイブ済み（ファイルへ退避済み）の位置情報からは作成しない。
+--     勤務セッションが無い期間の勤怠表は、従来通り位置情報から生成される。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/004_work_sessions.sql
+
+BEGIN;
+
+CREATE TABLE work_sessions (
+    id BIGSERIAL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,            -- ユーザーID
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL, -- 最初の位置情報の記録日時
+    ended_at TIMESTAMP WITH TIME ZONE NOT NULL,   -- 最後の位置情報の記録日時
+    point_count INTEGER NOT NULL,             -- 含まれる位置情報の件数
+    within_geofence BOOLEAN NOT NULL,         -- 作業場所の範囲内のまとまりか
+
+    CONSTRAINT chk_work_sessions_period CHECK (started_at <= ended_at),
+    CONSTRAINT chk_work_sessions_point_count CHECK (point_count > 0),
+    -- 同一ユーザーのセッションは期間が重ならない
+    CONSTRAINT excl_work_sessions_user_period EXCLUDE USING gist (
+        user_id WITH =,
+        tstzrange(started_at, ended_at, '[]') WITH &&
+    )
+);
+
+CREATE INDEX idx_work_sessions_user_started_at ON work_sessions(user_id, started_at);
+
+COMMENT ON TABLE work_sessions IS '勤務セッション: 連続した位置情報のまとまりを位置情報の登録時に維持';
+
+-- 既存の位置情報から勤務セッションを作成する
+-- アプリケーションの判定（記録間隔の分未満切り捨てで60分以内）に合わせ、61分以上の間隔で区切る
+INSERT INTO work_sessions (user_id, started_at, ended_at, point_count, within_geofence)
+WITH judged AS (
+    SELECT l.user_id,
+           l.recorded_at,
+           CASE
+               WHEN workplace.latitude IS NULL THEN TRUE
+               -- Haversine公式（地球の平均半径6371km）
+               ELSE 2 * 6371000.0 * asin(sqrt(
+                        power(sin(radians(workplace.latitude - l.latitude) / 2), 2)
+                        + cos(radians(l.latitude)) * cos(radians(workplace.latitude))
+                          * power(sin(radians(workplace.longitude - l.longitude) / 2), 2)
+                    )) <= 100.0
+           END AS within_geofence
+    FROM locations l
+    LEFT JOIN LATERAL (
+        SELECT candidates.latitude, candidates.longitude
+        FROM (
+            SELECT w.latitude, w.longitude, 1 AS priority, w.id
+            FROM work_rules w
+            WHERE w.user_id = l.user_id
+              AND l.recorded_at::date BETWEEN w.membership_start_date AND w.membership_end_date
+            UNION ALL
+            SELECT d.latitude, d.longitude, 2 AS priority, d.id
+            FROM default_work_rules d
+            WHERE d.user_id = l.user_id
+        ) candidates
+        ORDER BY candidates.priority, candidates.id
+        LIMIT 1
+    ) workplace ON TRUE
+),
+marked AS (
+    SELECT judged.*,
+           CASE
+               WHEN LAG(recorded_at) OVER w IS NULL
+                 OR recorded_at - LAG(recorded_at) OVER w >= INTERVAL '61 minutes'
+                 OR within_geofence <> LAG(within_geofence) OVER w
+               THEN 1 ELSE 0
+           END AS is_session_start
+    FROM judged
+    WINDOW w AS (PARTITION BY user_id ORDER BY recorded_at)
+),
+numbered AS (
+    SELECT marked.*,
+           SUM(is_session_start) OVER (PARTITION BY user_id ORDER BY recorded_at) AS session_no
+    FROM marked
+)
+SELECT user_id, MIN(recorded_at), MAX(recorded_at), COUNT(*), BOOL_AND(within_geofence)
+FROM numbered
+GROUP BY user_id, session_no;
+
+COMMIT;
@@ -0,0 +1,63 @@
+-- ==================================================
+-- 005: 時間外労働の集計テーブルの追加
+-- ==================================================
+-- 36協定の上限に近いユーザーを勤務日詳細を読まずに抽出するため、
+-- 勤怠表ごとの残業時間・休出時間（月次）と、その年度累計を保持するテーブルを作成し、
+-- 既存の勤怠表の集計情報から値を作成する。
+-- 以降はアプリケーションが勤怠表の保存・削除と同じトランザクションで更新する。
+-- 既存環境に対して一度だけ、このバージョンのアプリケーションを起動する前に実行する
+-- （新規環境は db/init のスキーマに含まれる）。
+--
+-- 補足:
+--   - 年度は4月始まりで作成する。kairos.overtime.cap.fiscal-year-start-month を変更している場合は、
+--     下記の 4 を同じ値に置き換えてから実行すること。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/005_overtime_totals.sql
+
+BEGIN;
+
+CREATE TABLE overtime_monthly_totals (
+    user_id VARCHAR(255) NOT NULL,             -- ユーザーID
+    year_month VARCHAR(7) NOT NULL,            -- 勤怠年月 (YYYY-MM形式)
+    fiscal_year INTEGER NOT NULL,              -- 勤怠年月が属する年度
+    overtime_minutes BIGINT NOT NULL DEFAULT 0,      -- 残業時間（分）
+    holiday_work_minutes BIGINT NOT NULL DEFAULT 0,  -- 休出時間（分）
+
+    PRIMARY KEY (user_id, year_month),
+    CONSTRAINT chk_overtime_monthly_totals_year_month CHECK (year_month ~ '^\d{4}-\d{2}$')
+);
+
+CREATE TABLE overtime_fiscal_year_totals (
+    user_id VARCHAR(255) NOT NULL,             -- ユーザーID
+    fiscal_year INTEGER NOT NULL,              -- 年度
+    overtime_minutes BIGINT NOT NULL DEFAULT 0,      -- 年度累計の残業時間（分）
+    holiday_work_minutes BIGINT NOT NULL DEFAULT 0,  -- 年度累計の休出時間（分）
+
+    PRIMARY KEY (user_id, fiscal_year)
+);
+
+CREATE INDEX idx_overtime_monthly_totals_year_month ON overtime_monthly_totals(year_month, overtime_minutes);
+CREATE INDEX idx_overtime_fiscal_year_totals_fiscal_year ON overtime_fiscal_year_totals(fiscal_year, overtime_minutes);
+
+COMMENT ON TABLE overtime_monthly_totals IS '月次の時間外労働集計: 勤怠表ごとの残業時間・休出時間を勤怠表の保存時に記録';
+COMMENT ON TABLE overtime_fiscal_year_totals IS '年度の時間外労働集計: 年度累計の残業時間・休出時間を勤怠表の保存時に差分で更新';
+
+-- 既存の勤怠表の集計情報から作成する
+INSERT INTO overtime_monthly_totals (user_id, year_month, fiscal_year, overtime_minutes, holiday_work_minutes)
+SELECT user_id,
+       year_month,
+       CASE
+           WHEN CAST(substr(year_month, 6, 2) AS INTEGER) >= 4 THEN CAST(substr(year_month, 1, 4) AS INTEGER)
+           ELSE CAST(substr(year_month, 1, 4) AS INTEGER) - 1
+       END,
+       total_overtime_minutes,
+       total_holiday_work_minutes
+FROM reports;
+
+INSERT INTO overtime_fiscal_year_totals (user_id, fiscal_year, overtime_minutes, holiday_work_minutes)
+SELECT user_id, fiscal_year, SUM(overtime_minutes), SUM(holiday_work_minutes)
+FROM overtime_monthly_totals
+GROUP BY user_id, fiscal_year;
+
+COMMIT;
@@ -0,0 +1,45 @@
+-- ==================================================
+-- 006: 最新位置テーブルの追加
+-- ==================================================
+-- 作業場所にいるユーザーを1回の検索で取得するため、ユーザーごとの最新の位置情報を
+-- 座標のセル番号（0.001度の格子）付きで保持するテーブルを作成し、既存の位置情報から作成する。
+-- 以降はアプリケーションが位置情報の登録・更新・削除と同じトランザクションで更新する。
+-- 既存環境に対して一度だけ、このバージョンのアプリケーションを起動する前に実行する
+-- （新規環境は db/init のスキーマに含まれる）。
+--
+-- 補足:
+--   - セル番号は GeoGrid.cellOf と同じく
+--     floor(緯度 * 1000) * 1000000 + floor(経度 * 1000)（経度180度は-180度のセル）で計算する。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/006_latest_locations.sql
+
+BEGIN;
+
+CREATE TABLE latest_locations (
+    user_id VARCHAR(255) PRIMARY KEY,         -- ユーザーID
+    location_id BIGINT NOT NULL,              -- 最新の位置情報のID
+    latitude DOUBLE PRECISION NOT NULL,       -- 緯度
+    longitude DOUBLE PRECISION NOT NULL,      -- 経度
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL, -- 記録日時
+    grid_cell BIGINT NOT NULL                 -- 座標のセル番号
+);
+
+CREATE INDEX idx_latest_locations_grid_cell_recorded_at ON latest_locations(grid_cell, recorded_at);
+
+COMMENT ON TABLE latest_locations IS '最新位置: ユーザーごとの最新の位置情報を座標のセル番号付きで位置情報の登録時に維持';
+
+-- 既存の位置情報から作成する（ユーザーごとに記録日時が最も遅い位置情報）
+INSERT INTO latest_locations (user_id, location_id, latitude, longitude, recorded_at, grid_cell)
+SELECT DISTINCT ON (user_id)
+       user_id,
+       id,
+       latitude,
+       longitude,
+       recorded_at,
+       CAST(floor(latitude * 1000) AS BIGINT) * 1000000
+           + (MOD(CAST(floor(longitude * 1000) AS BIGINT) + 180000, 360000) - 180000)
+FROM locations
+ORDER BY user_id, recorded_at DESC;
+
+COMMIT;
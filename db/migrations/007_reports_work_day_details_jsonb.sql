@@ -0,0 +1,77 @@
+-- ==================================================
+-- 007: 勤怠表の勤務日詳細のJSONB列の追加
+-- ==================================================
+-- 勤怠表は月単位で読み書きされるため、勤務日詳細（report_details の約31行）を
+-- reports の1列（JSONB）にまとめて保存できるようにする。
+-- 列を追加して既存の勤務日詳細から作成する。保存形式の切り替えは kairos.reports.storage で行う
+-- （relational: 従来どおり report_details に保存、jsonb: reports.work_day_details に保存）。
+-- 既存環境に対して一度だけ、このバージョンのアプリケーションを起動する前に実行する
+-- （新規環境は db/init のスキーマに含まれる）。
+--
+-- 補足:
+--   - 勤務日詳細の要素は ReportDetailsJsonCodec と同じ形式
+--     （日付・日時はISO-8601の文字列、時間は分単位の整数、勤務日の昇順）で作成する。
+--   - 作成済み（work_day_details が NULL でない）の勤怠表は対象外のため、再実行できる。
+--   - relational で保存した勤怠表は work_day_details が更新されない。このファイルの実行後に relational のまま
+--     運用した期間がある場合は、jsonb に切り替える直前に「UPDATE reports SET work_day_details = NULL;」を
+--     実行してからこのファイルを再実行する（jsonb では work_day_details が NULL の勤怠表は report_details から読む）。
+--   - jsonb から relational に戻す場合は、末尾の「relational への切り戻し」を実行する。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/007_reports_work_day_details_jsonb.sql
+
+BEGIN;
+
+ALTER TABLE reports ADD COLUMN IF NOT EXISTS work_day_details JSONB;
+
+COMMENT ON COLUMN reports.work_day_details IS '勤務日詳細 (kairos.reports.storage=jsonb の場合の保存先、勤務日の昇順の配列)';
+
+-- 既存の勤務日詳細から作成する（勤務日詳細のない勤怠表は空の配列）
+UPDATE reports r
+SET work_day_details = COALESCE((
+    SELECT jsonb_agg(jsonb_build_object(
+               'workDate', to_char(d.work_date, 'YYYY-MM-DD'),
+               'holiday', d.is_holiday,
+               'leaveType', d.leave_type,
+               'startDateTime', to_char(d.start_date_time, 'YYYY-MM-DD"T"HH24:MI:SS'),
+               'endDateTime', to_char(d.end_date_time, 'YYYY-MM-DD"T"HH24:MI:SS'),
+               'workingMinutes', d.working_hours_minutes,
+               'overtimeMinutes', d.overtime_hours_minutes,
+               'holidayWorkMinutes', d.holiday_work_hours_minutes,
+               'note', d.note
+           ) ORDER BY d.work_date, d.id)
+    FROM report_details d
+    WHERE d.report_year_month = r.year_month
+      AND d.report_user_id = r.user_id
+), '[]'::jsonb)
+WHERE r.work_day_details IS NULL;
+
+COMMIT;
+
+-- ==================================================
+-- relational への切り戻し（必要な場合のみ、アプリケーションを relational で起動する前に手動で実行する）
+-- ==================================================
+-- BEGIN;
+-- DELETE FROM report_details d
+-- USING reports r
+-- WHERE d.report_year_month = r.year_month
+--   AND d.report_user_id = r.user_id
+--   AND r.work_day_details IS NOT NULL;
+-- INSERT INTO report_details (report_year_month, report_user_id, work_date, is_holiday, leave_type,
+--                             start_date_time, end_date_time, working_hours_minutes,
+--                             overtime_hours_minutes, holiday_work_hours_minutes, note)
+-- SELECT r.year_month, r.user_id,
+--        CAST(e->>'workDate' AS DATE),
+--        CAST(e->>'holiday' AS BOOLEAN),
+--        e->>'leaveType',
+--        CAST(e->>'startDateTime' AS TIMESTAMP),
+--        CAST(e->>'endDateTime' AS TIMESTAMP),
+--        CAST(e->>'workingMinutes' AS BIGINT),
+--        CAST(e->>'overtimeMinutes' AS BIGINT),
+--        CAST(e->>'holidayWorkMinutes' AS BIGINT),
+--        e->>'note'
+-- FROM reports r
+-- CROSS JOIN LATERAL jsonb_array_elements(r.work_day_details) AS e
+-- WHERE r.work_day_details IS NOT NULL;
+-- UPDATE reports SET work_day_details = NULL;
+-- COMMIT;
@@ -0,0 +1,56 @@
+-- ==================================================
+-- 008: 位置情報テーブルの容量削減（BRINインデックスとマイクロ度の座標）
+-- ==================================================
+-- locations は記録日時順に追記されるだけのテーブルのため、登録のたびに更新される
+-- B-treeインデックスを減らし、座標を整数で保存して行とインデックスを小さくする。
+--   - recorded_at のB-treeインデックスを BRIN インデックスに置き換える
+--   - user_id 単独のB-treeインデックスを削除する
+--     （一意制約 uk_locations_user_recorded_at のインデックスの先頭列が user_id のため不要）
+--   - latitude / longitude（DOUBLE PRECISION）を latitude_e6 / longitude_e6（INTEGER、マイクロ度）に変更する
+--     （度 × 1,000,000 を四捨五入、約0.1m単位。変換は LocationJpaEntity と同じ）
+-- 既存環境に対して一度だけ、このバージョンのアプリケーションを起動する前に実行する
+-- （新規環境は db/init のスキーマに含まれる）。
+--
+-- 補足:
+--   - 列の型変更でテーブルを1回書き直すため、実行中は locations への読み書きが待たされる。
+--     件数の多い環境では位置情報の登録が少ない時間帯に実行する。
+--   - 書き直しで不要行は残らないが、実行後に ANALYZE で統計情報を更新する。
+--   - BRIN は範囲ごとの最小値・最大値だけを持つため、記録日時が大きく前後する一括登録を行うと
+--     期間検索の効率が下がる。その場合は brin_summarize_new_values('idx_locations_recorded_at_brin') や
+--     REINDEX で要約し直す。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/008_locations_brin_and_microdegrees.sql
+
+BEGIN;
+
+-- 1. 座標をマイクロ度の整数に変更する
+ALTER TABLE locations DROP CONSTRAINT chk_locations_latitude;
+ALTER TABLE locations DROP CONSTRAINT chk_locations_longitude;
+
+ALTER TABLE locations
+    ALTER COLUMN latitude TYPE INTEGER USING CAST(round(CAST(latitude AS NUMERIC) * 1000000) AS INTEGER),
+    ALTER COLUMN longitude TYPE INTEGER USING CAST(round(CAST(longitude AS NUMERIC) * 1000000) AS INTEGER);
+
+ALTER TABLE locations RENAME COLUMN latitude TO latitude_e6;
+ALTER TABLE locations RENAME COLUMN longitude TO longitude_e6;
+
+ALTER TABLE locations ADD CONSTRAINT chk_locations_latitude
+    CHECK (latitude_e6 BETWEEN -90000000 AND 90000000);
+ALTER TABLE locations ADD CONSTRAINT chk_locations_longitude
+    CHECK (longitude_e6 BETWEEN -180000000 AND 180000000);
+
+COMMENT ON COLUMN locations.latitude_e6 IS '緯度 (マイクロ度: 度 × 1,000,000、-90.0～90.0)';
+COMMENT ON COLUMN locations.longitude_e6 IS '経度 (マイクロ度: 度 × 1,000,000、-180.0～180.0)';
+
+-- 2. インデックスを置き換える
+DROP INDEX IF EXISTS idx_locations_user_id;
+DROP INDEX IF EXISTS idx_locations_recorded_at;
+-- 001 より前に作成された環境の (user_id, recorded_at) の複合インデックス（一意制約が兼ねる）
+DROP INDEX IF EXISTS idx_locations_user_date;
+
+CREATE INDEX idx_locations_recorded_at_brin ON locations USING BRIN (recorded_at) WITH (pages_per_range = 32);
+
+COMMIT;
+
+ANALYZE locations;
@@ -0,0 +1,37 @@
+-- ==================================================
+-- 009: 変更イベントのアウトボックステーブルの追加
+-- ==================================================
+-- 位置情報の更新・削除と勤怠ルールの登録・更新・削除で内容が古くなった勤怠表を自動で作り直すため、
+-- 変更したユーザーと影響を受ける日付の範囲を、変更と同じトランザクションで記録するテーブルを作成する。
+-- アプリケーションは一定間隔でこのテーブルから変更イベントを取得し、影響を受けた未提出の勤怠表を
+-- 再計算してから削除する（kairos.reports.recompute）。
+-- 既存環境に対して一度だけ、このバージョンのアプリケーションを起動する前に実行する
+-- （新規環境は db/init のスキーマに含まれる）。
+--
+-- 補足:
+--   - 処理中の行は claimed_at に取得日時が入る。取得したインスタンスが停止した場合は
+--     kairos.reports.recompute.stale-after を過ぎた後に他のインスタンスが取得し直す。
+--   - 既存の勤怠表は再計算しない（変更イベントはこのバージョン以降の変更から記録される）。
+--
+-- 実行例:
+--   psql -h localhost -U kairos_user -d kairos_db -f db/migrations/009_domain_change_outbox.sql
+
+BEGIN;
+
+CREATE TABLE domain_change_outbox (
+    id BIGSERIAL PRIMARY KEY,                  -- 変更イベントID
+    event_type VARCHAR(30) NOT NULL,           -- 変更の種類 (LOCATION_CHANGED, WORK_RULE_CHANGED)
+    user_id VARCHAR(255) NOT NULL,             -- 変更したデータの所有者
+    from_date DATE NOT NULL,                   -- 影響を受ける期間の開始日
+    to_date DATE NOT NULL,                     -- 影響を受ける期間の終了日
+    occurred_at TIMESTAMP NOT NULL,            -- 発生日時
+    claimed_at TIMESTAMP,                      -- 処理の開始日時（未処理はNULL）
+    attempts INTEGER NOT NULL DEFAULT 0,       -- 処理に失敗した回数
+
+    CONSTRAINT chk_domain_change_outbox_event_type CHECK (event_type IN ('LOCATION_CHANGED', 'WORK_RULE_CHANGED')),
+    CONSTRAINT chk_domain_change_outbox_period CHECK (from_date <= to_date)
+);
+
+COMMENT ON TABLE domain_change_outbox IS '変更イベント: 勤怠表の再計算が必要な変更を変更と同じトランザクションで記録';
+
+COMMIT;
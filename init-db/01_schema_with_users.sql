@@ -8,6 +8,8 @@ SET timezone = 'Asia/Tokyo';
 
 -- 拡張機能の有効化（必要に応じて）
 -- CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+-- btree_gist: 勤怠ルールの所属期間重複を排他制約で防ぐため（スカラー列の = をGiSTで扱う）
+CREATE EXTENSION IF NOT EXISTS btree_gist;
 
 -- ==================================================
 -- 1. ユーザーテーブル (Users Domain)
@@ -48,6 +50,9 @@ CREATE TABLE reports (
     total_overtime_minutes BIGINT NOT NULL DEFAULT 0,               -- 総残業時間（分）
     total_holiday_work_minutes BIGINT NOT NULL DEFAULT 0,           -- 総休出時間（分）
     
+    -- 勤務日詳細（kairos.reports.storage=jsonb の場合の保存先）
+    work_day_details JSONB,
+    
     -- メタデータ
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
@@ -91,14 +96,70 @@ CREATE TABLE report_details (
     )
 );
 
+-- 勤怠表生成ジョブテーブル（位置情報からの非同期生成の受付・実行状態）
+CREATE TABLE report_generation_jobs (
+    job_id VARCHAR(36) PRIMARY KEY,            -- ジョブID (UUID)
+    user_id VARCHAR(255) NOT NULL,             -- ユーザーID
+    year_month VARCHAR(7) NOT NULL,            -- 対象年月 (YYYY-MM形式)
+    status VARCHAR(20) NOT NULL,               -- ステータス (PENDING, RUNNING, SUCCEEDED, FAILED)
+    requested_at TIMESTAMP NOT NULL,           -- 受付日時
+    started_at TIMESTAMP,                      -- 実行開始日時
+    finished_at TIMESTAMP,                     -- 終了日時
+    error_message VARCHAR(1000),               -- 失敗理由
+    
+    -- 制約
+    CONSTRAINT chk_report_generation_jobs_status CHECK (status IN ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    CONSTRAINT chk_report_generation_jobs_year_month CHECK (year_month ~ '^\d{4}-\d{2}$')
+);
+
+-- 変更イベントテーブル（位置情報・勤怠ルールの変更で再計算が必要になった勤怠表のアウトボックス）
+-- 変更と同じトランザクションで記録し、再計算を終えた行は削除する
+CREATE TABLE domain_change_outbox (
+    id BIGSERIAL PRIMARY KEY,                  -- 変更イベントID
+    event_type VARCHAR(30) NOT NULL,           -- 変更の種類 (LOCATION_CHANGED, WORK_RULE_CHANGED)
+    user_id VARCHAR(255) NOT NULL,             -- 変更したデータの所有者
+    from_date DATE NOT NULL,                   -- 影響を受ける期間の開始日
+    to_date DATE NOT NULL,                     -- 影響を受ける期間の終了日
+    occurred_at TIMESTAMP NOT NULL,            -- 発生日時
+    claimed_at TIMESTAMP,                      -- 処理の開始日時（未処理はNULL）
+    attempts INTEGER NOT NULL DEFAULT 0,       -- 処理に失敗した回数
+    
+    -- 制約
+    CONSTRAINT chk_domain_change_outbox_event_type CHECK (event_type IN ('LOCATION_CHANGED', 'WORK_RULE_CHANGED')),
+    CONSTRAINT chk_domain_change_outbox_period CHECK (from_date <= to_date)
+);
+
+-- 時間外労働の集計テーブル（勤怠表の保存時に更新する月次・年度累計の残業時間・休出時間）
+CREATE TABLE overtime_monthly_totals (
+    user_id VARCHAR(255) NOT NULL,             -- ユーザーID
+    year_month VARCHAR(7) NOT NULL,            -- 勤怠年月 (YYYY-MM形式)
+    fiscal_year INTEGER NOT NULL,              -- 勤怠年月が属する年度
+    overtime_minutes BIGINT NOT NULL DEFAULT 0,      -- 残業時間（分）
+    holiday_work_minutes BIGINT NOT NULL DEFAULT 0,  -- 休出時間（分）
+    
+    -- 制約
+    PRIMARY KEY (user_id, year_month),
+    CONSTRAINT chk_overtime_monthly_totals_year_month CHECK (year_month ~ '^\d{4}-\d{2}$')
+);
+
+CREATE TABLE overtime_fiscal_year_totals (
+    user_id VARCHAR(255) NOT NULL,             -- ユーザーID
+    fiscal_year INTEGER NOT NULL,              -- 年度
+    overtime_minutes BIGINT NOT NULL DEFAULT 0,      -- 年度累計の残業時間（分）
+    holiday_work_minutes BIGINT NOT NULL DEFAULT 0,  -- 年度累計の休出時間（分）
+    
+    -- 制約
+    PRIMARY KEY (user_id, fiscal_year)
+);
+
 -- ==================================================
 -- 3. 位置情報テーブル (Locations Domain)
 -- ==================================================
 
 CREATE TABLE locations (
     id BIGSERIAL PRIMARY KEY,
-    latitude DOUBLE PRECISION NOT NULL,       -- 緯度（-90.0～90.0）
-    longitude DOUBLE PRECISION NOT NULL,      -- 経度（-180.0～180.0）
+    latitude_e6 INTEGER NOT NULL,             -- 緯度（マイクロ度、-90000000～90000000）
+    longitude_e6 INTEGER NOT NULL,            -- 経度（マイクロ度、-180000000～180000000）
     recorded_at TIMESTAMP WITH TIME ZONE NOT NULL, -- 記録日時
     user_id VARCHAR(255) NOT NULL,            -- ユーザーID
     
@@ -106,8 +167,41 @@ CREATE TABLE locations (
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     
     -- 制約
-    CONSTRAINT chk_locations_latitude CHECK (latitude >= -90.0 AND latitude <= 90.0),
-    CONSTRAINT chk_locations_longitude CHECK (longitude >= -180.0 AND longitude <= 180.0)
+    CONSTRAINT chk_locations_latitude CHECK (latitude_e6 BETWEEN -90000000 AND 90000000),
+    CONSTRAINT chk_locations_longitude CHECK (longitude_e6 BETWEEN -180000000 AND 180000000),
+    -- 端末の再送による重複登録を防ぐ自然キー（INSERT ... ON CONFLICT の対象）
+    CONSTRAINT uk_locations_user_recorded_at UNIQUE (user_id, recorded_at)
+);
+
+-- 勤務セッション: 記録間隔が1時間以内で連続し、作業場所の範囲内外が同じ位置情報のまとまり
+-- 位置情報の登録時に延長・局所修復し、勤怠表生成時は位置情報の代わりに読み込む
+CREATE TABLE work_sessions (
+    id BIGSERIAL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,            -- ユーザーID
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL, -- 最初の位置情報の記録日時
+    ended_at TIMESTAMP WITH TIME ZONE NOT NULL,   -- 最後の位置情報の記録日時
+    point_count INTEGER NOT NULL,             -- 含まれる位置情報の件数
+    within_geofence BOOLEAN NOT NULL,         -- 作業場所の範囲内のまとまりか
+    
+    -- 制約
+    CONSTRAINT chk_work_sessions_period CHECK (started_at <= ended_at),
+    CONSTRAINT chk_work_sessions_point_count CHECK (point_count > 0),
+    -- 同一ユーザーのセッションは期間が重ならない
+    CONSTRAINT excl_work_sessions_user_period EXCLUDE USING gist (
+        user_id WITH =,
+        tstzrange(started_at, ended_at, '[]') WITH &&
+    )
+);
+
+-- 最新位置: ユーザーごとの最新の位置情報。位置情報の登録時に更新し、作業場所にいるユーザーの検索に使用する
+-- grid_cell は座標を0.001度の格子に区切ったセル番号（GeoGrid.cellOf と同じ計算）
+CREATE TABLE latest_locations (
+    user_id VARCHAR(255) PRIMARY KEY,         -- ユーザーID
+    location_id BIGINT NOT NULL,              -- 最新の位置情報のID
+    latitude DOUBLE PRECISION NOT NULL,       -- 緯度
+    longitude DOUBLE PRECISION NOT NULL,      -- 経度
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL, -- 記録日時
+    grid_cell BIGINT NOT NULL                 -- 座標のセル番号
 );
 
 -- ==================================================
@@ -140,7 +234,12 @@ CREATE TABLE work_rules (
         (break_start_time IS NULL AND break_end_time IS NULL) OR
         (break_start_time IS NOT NULL AND break_end_time IS NOT NULL AND break_start_time < break_end_time)
     ),
-    CONSTRAINT chk_work_rules_membership_period CHECK (membership_start_date <= membership_end_date)
+    CONSTRAINT chk_work_rules_membership_period CHECK (membership_start_date <= membership_end_date),
+    -- 同一ユーザーの所属期間（両端を含む）の重複を禁止する
+    CONSTRAINT excl_work_rules_user_membership_period EXCLUDE USING gist (
+        user_id WITH =,
+        daterange(membership_start_date, membership_end_date, '[]') WITH &&
+    )
 );
 
 -- デフォルト勤怠ルールテーブル（所属期間なし）
@@ -205,11 +304,19 @@ CREATE INDEX idx_reports_user_id ON reports(user_id);
 CREATE INDEX idx_reports_status ON reports(status);
 CREATE INDEX idx_report_details_work_date ON report_details(work_date);
 CREATE INDEX idx_report_details_user_id ON report_details(report_user_id);
+-- 同一ユーザー・同一年月の未終了ジョブは1件のみ（受付の重複をデータベースで防ぐ部分一意インデックス）
+CREATE UNIQUE INDEX uk_report_generation_jobs_active ON report_generation_jobs(user_id, year_month)
+    WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_report_generation_jobs_status_requested_at ON report_generation_jobs(status, requested_at);
+CREATE INDEX idx_overtime_monthly_totals_year_month ON overtime_monthly_totals(year_month, overtime_minutes);
+CREATE INDEX idx_overtime_fiscal_year_totals_fiscal_year ON overtime_fiscal_year_totals(fiscal_year, overtime_minutes);
 
 -- 位置情報関連
-CREATE INDEX idx_locations_user_id ON locations(user_id);
-CREATE INDEX idx_locations_recorded_at ON locations(recorded_at);
-CREATE INDEX idx_locations_user_date ON locations(user_id, recorded_at);
+-- user_id 単独・(user_id, recorded_at) の検索は一意制約 uk_locations_user_recorded_at のインデックスが兼ねる
+-- 記録日時順に追記されるため、期間検索（管理者用）は小さいBRINインデックスで行う
+CREATE INDEX idx_locations_recorded_at_brin ON locations USING BRIN (recorded_at) WITH (pages_per_range = 32);
+CREATE INDEX idx_work_sessions_user_started_at ON work_sessions(user_id, started_at);
+CREATE INDEX idx_latest_locations_grid_cell_recorded_at ON latest_locations(grid_cell, recorded_at);
 
 -- 勤怠ルール関連
 CREATE INDEX idx_work_rules_user_id ON work_rules(user_id);
@@ -229,7 +336,13 @@ CREATE INDEX idx_default_work_rules_work_place_id ON default_work_rules(work_pla
 COMMENT ON TABLE users IS 'ユーザー: システムのユーザー情報を管理';
 COMMENT ON TABLE reports IS '勤怠表: 月次の勤怠データと集計情報を管理';
 COMMENT ON TABLE report_details IS '勤務日詳細: 日次の勤務情報を管理';
+COMMENT ON TABLE report_generation_jobs IS '勤怠表生成ジョブ: 位置情報からの非同期生成の受付・実行状態を管理';
+COMMENT ON TABLE domain_change_outbox IS '変更イベント: 勤怠表の再計算が必要な変更を変更と同じトランザクションで記録';
+COMMENT ON TABLE overtime_monthly_totals IS '月次の時間外労働集計: 勤怠表ごとの残業時間・休出時間を勤怠表の保存時に記録';
+COMMENT ON TABLE overtime_fiscal_year_totals IS '年度の時間外労働集計: 年度累計の残業時間・休出時間を勤怠表の保存時に差分で更新';
 COMMENT ON TABLE locations IS '位置情報: GPS座標と記録日時を管理';
+COMMENT ON TABLE work_sessions IS '勤務セッション: 連続した位置情報のまとまりを位置情報の登録時に維持';
+COMMENT ON TABLE latest_locations IS '最新位置: ユーザーごとの最新の位置情報を座標のセル番号付きで位置情報の登録時に維持';
 COMMENT ON TABLE work_rules IS '勤怠ルール: 所属期間付きの勤務規則を管理';
 COMMENT ON TABLE default_work_rules IS 'デフォルト勤怠ルール: 所属期間なしの勤務規則を管理';
 COMMENT ON TABLE report_creation_rules IS '勤怠作成ルール: ユーザー毎の勤怠表作成設定を管理';
@@ -245,9 +358,10 @@ COMMENT ON COLUMN users.created_at IS 'アカウント作成日時';
 COMMENT ON COLUMN users.last_login_at IS '最終ログイン日時';
 COMMENT ON COLUMN reports.year_month IS '勤怠年月 (YYYY-MM形式)';
 COMMENT ON COLUMN reports.status IS '勤怠表ステータス (NOT_SUBMITTED/SUBMITTED/APPROVED)';
+COMMENT ON COLUMN reports.work_day_details IS '勤務日詳細 (kairos.reports.storage=jsonb の場合の保存先、勤務日の昇順の配列)';
 COMMENT ON COLUMN report_details.leave_type IS '休暇区分 (有給、代休、特休等)';
-COMMENT ON COLUMN locations.latitude IS '緯度 (-90.0～90.0)';
-COMMENT ON COLUMN locations.longitude IS '経度 (-180.0～180.0)';
+COMMENT ON COLUMN locations.latitude_e6 IS '緯度 (マイクロ度: 度 × 1,000,000、-90.0～90.0)';
+COMMENT ON COLUMN locations.longitude_e6 IS '経度 (マイクロ度: 度 × 1,000,000、-180.0～180.0)';
 COMMENT ON COLUMN work_rules.membership_start_date IS '勤怠先への所属開始日';
 COMMENT ON COLUMN work_rules.membership_end_date IS '勤怠先への所属終了日';
 COMMENT ON COLUMN report_creation_rules.closing_day IS '勤怠締め日 (1-31)';
@@ -0,0 +1,119 @@
+#!/usr/bin/env bash
+# ==================================================
+# 起動時間ベンチマーク: 通常のjarと高速起動（AOT / AOT + CDS）の比較
+# ==================================================
+# 各方式でアプリケーションを起動し、プロセス開始から /actuator/health が初めて成功するまでの時間を計測する。
+# Dockerfile の fast-start ターゲットと同じ手順（jarの展開とCDSの学習実行）をローカルで再現する。
+#
+# 使い方:
+#   mvn -DskipTests package && cp target/kairos-0.1.0.jar /tmp/kairos.jar
+#   mvn -DskipTests -Paot package && cp target/kairos-0.1.0.jar /tmp/kairos-aot.jar
+#   SPRING_PROFILES_ACTIVE=prod scripts/startup-benchmark.sh /tmp/kairos.jar /tmp/kairos-aot.jar
+#
+# 環境変数:
+#   SPRING_PROFILES_ACTIVE  起動するプロファイル（AOTビルド時の aot.profiles と同じにする。デフォルト: prod）
+#   ITERATIONS              方式ごとの起動回数（デフォルト: 5）
+#   PORT                    起動するポート（デフォルト: 18080）
+#   MANAGEMENT_PORT         Actuatorの管理用ポート（/actuator/health をこのポートで待つ。デフォルト: 18081）
+#   JAVA_OPTS               全方式に共通のJVMオプション（デフォルト: -Xmx512m -Xms256m）
+#   TIMEOUT_SECONDS         1回の起動を待つ上限（デフォルト: 180）
+#
+# prodプロファイルではPostgreSQLに接続できること（docker compose up -d postgres など）。
+# GNU date（ナノ秒）と curl が必要。
+
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+    echo "usage: $0 <通常のjar> <-Paotでビルドしたjar>" >&2
+    exit 2
+fi
+
+PLAIN_JAR=$(realpath "$1")
+AOT_JAR=$(realpath "$2")
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+export SPRING_PROFILES_ACTIVE=${SPRING_PROFILES_ACTIVE:-prod}
+ITERATIONS=${ITERATIONS:-5}
+PORT=${PORT:-18080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-18081}
+JAVA_OPTS=${JAVA_OPTS:--Xmx512m -Xms256m}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-180}
+
+WORK_DIR=$(mktemp -d)
+APP_PID=""
+
+cleanup() {
+    if [ -n "$APP_PID" ] && kill -0 "$APP_PID" 2>/dev/null; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+    fi
+    rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+now_millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 起動してから /actuator/health が成功するまでのミリ秒を出力し、プロセスを停止する
+measure_once() {
+    local log_file=$WORK_DIR/app.log
+    local started_at
+    started_at=$(now_millis)
+    # shellcheck disable=SC2086
+    "$JAVA" $JAVA_OPTS "$@" --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" >"$log_file" 2>&1 &
+    APP_PID=$!
+
+    local deadline=$(( started_at + TIMEOUT_SECONDS * 1000 ))
+    until curl -sf -o /dev/null "http://localhost:$MANAGEMENT_PORT/actuator/health"; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "アプリケーションが起動中に終了しました。ログ末尾:" >&2
+            tail -20 "$log_file" >&2
+            exit 1
+        fi
+        if [ "$(now_millis)" -gt "$deadline" ]; then
+            echo "${TIMEOUT_SECONDS}秒以内に起動しませんでした" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local elapsed=$(( $(now_millis) - started_at ))
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=""
+    echo "$elapsed"
+}
+
+# 方式ごとに ITERATIONS 回起動し、最小・中央値・最大を出力する
+benchmark() {
+    local name=$1
+    shift
+    local results=()
+    for _ in $(seq "$ITERATIONS"); do
+        results+=("$(measure_once "$@")")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+    local min median max
+    min=$(echo "$sorted" | head -1)
+    median=$(echo "$sorted" | sed -n "$(( (ITERATIONS + 1) / 2 ))p")
+    max=$(echo "$sorted" | tail -1)
+    printf '%-10s %8s %8s %8s\n' "$name" "$min" "$median" "$max"
+}
+
+# Dockerfile の fast-start ターゲットと同じ展開形式とCDSアーカイブを作成する
+echo "AOT jarを展開し、CDSアーカイブを作成しています..." >&2
+"$JAVA" -Djarmode=tools -jar "$AOT_JAR" extract --destination "$WORK_DIR/application" >/dev/null
+EXTRACTED_JAR=$(find "$WORK_DIR/application" -maxdepth 1 -name '*.jar' | head -1)
+"$JAVA" -XX:ArchiveClassesAtExit="$WORK_DIR/kairos.jsa" \
+    -Dspring.aot.enabled=true \
+    -Dspring.context.exit=onRefresh \
+    -Dspring.jpa.hibernate.ddl-auto=none \
+    -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+    -jar "$EXTRACTED_JAR" >"$WORK_DIR/training.log" 2>&1
+
+echo "profile=$SPRING_PROFILES_ACTIVE iterations=$ITERATIONS JAVA_OPTS=\"$JAVA_OPTS\"（単位: ミリ秒）"
+printf '%-10s %8s %8s %8s\n' "mode" "min" "median" "max"
+benchmark "jar" -jar "$PLAIN_JAR"
+benchmark "aot" -Dspring.aot.enabled=true -jar "$EXTRACTED_JAR"
+benchmark "aot+cds" -XX:SharedArchiveFile="$WORK_DIR/kairos.jsa" -Dspring.aot.enabled=true -jar "$EXTRACTED_JAR"
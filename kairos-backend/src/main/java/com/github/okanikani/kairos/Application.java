@@ -1,12 +1,29 @@
 package com.github.okanikani.kairos;
 
+import com.github.okanikani.kairos.commons.config.CacheInvalidationProperties;
+import com.github.okanikani.kairos.commons.config.ConcurrencyLimitProperties;
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
 import com.github.okanikani.kairos.commons.config.LocationFilteringProperties;
+import com.github.okanikani.kairos.commons.config.LocationStoreProperties;
+import com.github.okanikani.kairos.commons.config.LoginThrottleProperties;
+import com.github.okanikani.kairos.commons.config.OvertimeCapProperties;
+import com.github.okanikani.kairos.commons.config.QueryBudgetProperties;
+import com.github.okanikani.kairos.commons.config.ReplicaDataSourceProperties;
+import com.github.okanikani.kairos.commons.config.ReportJobProperties;
+import com.github.okanikani.kairos.commons.config.ReportRecomputeProperties;
+import com.github.okanikani.kairos.commons.config.RuleCacheProperties;
+import com.github.okanikani.kairos.commons.config.UserOnboardingProperties;
+import com.github.okanikani.kairos.commons.config.WorkSessionProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(LocationFilteringProperties.class)
+@EnableConfigurationProperties({LocationFilteringProperties.class, LocationArchiveProperties.class, QueryBudgetProperties.class,
+    RuleCacheProperties.class, ReportJobProperties.class, WorkSessionProperties.class, LocationStoreProperties.class,
+    ReplicaDataSourceProperties.class, OvertimeCapProperties.class, ConcurrencyLimitProperties.class,
+    LoginThrottleProperties.class, UserOnboardingProperties.class, ReportRecomputeProperties.class,
+    CacheInvalidationProperties.class})
 public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
@@ -0,0 +1,51 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import java.util.Objects;
+
+/**
+ * インスタンス間のキャッシュ無効化通知
+ *
+ * 通知のペイロードは「送信元ノードID|キャッシュ名|ユーザーID」の形式とする。
+ * ユーザーIDに区切り文字が含まれても復元できるよう、ユーザーIDを最後に置く。
+ */
+public record CacheInvalidationMessage(
+        String nodeId,      // 送信元のノードID（自ノードの通知を読み飛ばすために使用）
+        String cacheName,   // 無効化するキャッシュ名（CacheNames）
+        String userId       // 無効化するユーザーID
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public CacheInvalidationMessage {
+        Objects.requireNonNull(nodeId, "nodeIdは必須です");
+        Objects.requireNonNull(cacheName, "cacheNameは必須です");
+        Objects.requireNonNull(userId, "userIdは必須です");
+        if (nodeId.contains(SEPARATOR) || cacheName.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("nodeId・cacheNameに区切り文字は使用できません");
+        }
+    }
+
+    /**
+     * 通知のペイロードに変換する
+     * @return ペイロード
+     */
+    public String toPayload() {
+        return nodeId + SEPARATOR + cacheName + SEPARATOR + userId;
+    }
+
+    /**
+     * 通知のペイロードから復元する
+     * @param payload ペイロード
+     * @return 無効化通知（形式が不正な場合はnull）
+     */
+    public static CacheInvalidationMessage parse(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            return null;
+        }
+        return new CacheInvalidationMessage(parts[0], parts[1], parts[2]);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import java.util.Collection;
+
+/**
+ * 他インスタンスへのキャッシュ無効化通知の送信
+ *
+ * 書き込みと同じトランザクションで送信し、コミットされた場合のみ他インスタンスに届ける。
+ * 自インスタンスのキャッシュは各キャッシュ付きリポジトリが同期的に無効化するため、ここでは扱わない。
+ */
+public interface CacheInvalidationPublisher {
+
+    /**
+     * 指定ユーザーのエントリの無効化を通知する
+     * @param cacheName キャッシュ名（CacheNames）
+     * @param userId ユーザーID
+     */
+    void publish(String cacheName, String userId);
+
+    /**
+     * 複数ユーザーのエントリの無効化をまとめて通知する
+     * @param cacheName キャッシュ名（CacheNames）
+     * @param userIds ユーザーID
+     */
+    void publishAll(String cacheName, Collection<String> userIds);
+}
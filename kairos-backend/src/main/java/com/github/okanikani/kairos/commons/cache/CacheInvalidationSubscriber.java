@@ -0,0 +1,26 @@
+package com.github.okanikani.kairos.commons.cache;
+
+/**
+ * 他インスタンスからのキャッシュ無効化通知の受信先
+ *
+ * キャッシュ付きリポジトリが実装し、{@link PostgresCacheInvalidationListener} から呼び出される。
+ */
+public interface CacheInvalidationSubscriber {
+
+    /**
+     * 受信するキャッシュ名
+     * @return キャッシュ名（CacheNames）
+     */
+    String cacheName();
+
+    /**
+     * 指定ユーザーのエントリを無効化する
+     * @param userId ユーザーID
+     */
+    void evict(String userId);
+
+    /**
+     * 全エントリを無効化する（通知を取りこぼした可能性がある場合）
+     */
+    void evictAll();
+}
@@ -0,0 +1,18 @@
+package com.github.okanikani.kairos.commons.cache;
+
+/**
+ * キャッシュ名の定数定義
+ *
+ * メトリクスのcacheタグと、インスタンス間の無効化通知の宛先に使用する
+ */
+public final class CacheNames {
+
+    public static final String USERS = "users";
+    public static final String WORK_RULES = "workRules";
+    public static final String DEFAULT_WORK_RULES = "defaultWorkRules";
+    public static final String REPORT_CREATION_RULES = "reportCreationRules";
+    public static final String REPORTS = "reports";
+
+    private CacheNames() {
+    }
+}
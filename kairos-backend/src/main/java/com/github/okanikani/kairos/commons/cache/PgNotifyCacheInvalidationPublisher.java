@@ -0,0 +1,77 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import com.github.okanikani.kairos.commons.config.CacheInvalidationProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * PostgreSQL の NOTIFY によるキャッシュ無効化通知の送信
+ *
+ * NOTIFY は送信したトランザクションのコミット時に配信され、ロールバック時は破棄される。
+ * トランザクション外で呼び出した場合は即時に配信される（書き込みがコミット済みの後に呼び出すこと）。
+ * 無効の場合とデータソースの無い環境（dev）では何もしない。
+ */
+@Component
+public class PgNotifyCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    // 一括登録などで多数のユーザーを1回の問い合わせで通知する
+    static final String NOTIFY_ALL_SQL = "SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload";
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final CacheInvalidationProperties properties;
+    // 自インスタンスが送信した通知を受信時に読み飛ばすための識別子
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PgNotifyCacheInvalidationPublisher(ObjectProvider<JdbcTemplate> jdbcTemplate,
+                                              CacheInvalidationProperties properties) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplateは必須です");
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+    }
+
+    @Override
+    public void publish(String cacheName, String userId) {
+        Objects.requireNonNull(cacheName, "cacheNameは必須です");
+        Objects.requireNonNull(userId, "userIdは必須です");
+
+        JdbcTemplate template = enabledTemplate();
+        if (template == null) {
+            return;
+        }
+        String payload = new CacheInvalidationMessage(nodeId, cacheName, userId).toPayload();
+        template.query(NOTIFY_SQL, resultSet -> null, properties.channel(), payload);
+    }
+
+    @Override
+    public void publishAll(String cacheName, Collection<String> userIds) {
+        Objects.requireNonNull(cacheName, "cacheNameは必須です");
+        Objects.requireNonNull(userIds, "userIdsは必須です");
+
+        JdbcTemplate template = enabledTemplate();
+        if (template == null || userIds.isEmpty()) {
+            return;
+        }
+        String[] payloads = userIds.stream()
+            .distinct()
+            .map(userId -> new CacheInvalidationMessage(nodeId, cacheName, userId).toPayload())
+            .toArray(String[]::new);
+        template.query(NOTIFY_ALL_SQL, resultSet -> null, properties.channel(), payloads);
+    }
+
+    /**
+     * このインスタンスのノードID
+     * @return ノードID
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    private JdbcTemplate enabledTemplate() {
+        return properties.enabled() ? jdbcTemplate.getIfAvailable() : null;
+    }
+}
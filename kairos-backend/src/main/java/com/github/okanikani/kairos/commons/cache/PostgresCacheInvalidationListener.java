@@ -0,0 +1,224 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import com.github.okanikani.kairos.commons.config.CacheInvalidationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * PostgreSQL の LISTEN による他インスタンスからのキャッシュ無効化通知の受信
+ *
+ * コネクションプールとは別の専用接続で LISTEN し、受信した通知のキャッシュ名・ユーザーIDに一致する
+ * エントリを無効化する。自インスタンスが送信した通知は書き込み時に無効化済みのため読み飛ばす。
+ *
+ * 接続が切れている間の通知は届かないため、LISTEN を開始するたびに（起動時・再接続時）全エントリを無効化し、
+ * 取りこぼした可能性のある更新を読み直させる。
+ */
+@Component
+@Profile("prod")
+@ConditionalOnProperty(prefix = "kairos.cache.invalidation", name = "enabled", havingValue = "true")
+public class PostgresCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationListener.class);
+
+    // メトリクス名定数
+    static final String INVALIDATIONS_RECEIVED = "kairos.cache.invalidations.received";
+    static final String INVALIDATION_FLUSHES = "kairos.cache.invalidation.flushes";
+
+    private static final String APPLICATION_NAME = "kairos-cache-invalidation";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationProperties properties;
+    private final ObjectProvider<CacheInvalidationSubscriber> subscribers;
+    private final String nodeId;
+    private final Counter received;
+    private final Counter flushes;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile Connection connection;
+
+    public PostgresCacheInvalidationListener(
+        DataSourceProperties dataSourceProperties,
+        CacheInvalidationProperties properties,
+        ObjectProvider<CacheInvalidationSubscriber> subscribers,
+        PgNotifyCacheInvalidationPublisher publisher,
+        MeterRegistry meterRegistry) {
+
+        this.dataSourceProperties = Objects.requireNonNull(dataSourceProperties, "dataSourcePropertiesは必須です");
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+        this.subscribers = Objects.requireNonNull(subscribers, "subscribersは必須です");
+        this.nodeId = Objects.requireNonNull(publisher, "publisherは必須です").nodeId();
+        Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+        this.received = Counter.builder(INVALIDATIONS_RECEIVED)
+            .description("他インスタンスから受信したキャッシュ無効化通知の数")
+            .register(meterRegistry);
+        this.flushes = Counter.builder(INVALIDATION_FLUSHES)
+            .description("通知の取りこぼしに備えて全エントリを無効化した回数")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread listenerThread = new Thread(this::run, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        thread = listenerThread;
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        Thread listenerThread = thread;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection listening = openConnection()) {
+                connection = listening;
+                listen(listening);
+                // 接続していなかった間の通知は届かないため、保持しているエントリを全て読み直させる
+                flushAll();
+                logger.info("キャッシュ無効化通知の受信を開始しました: channel={}", properties.channel());
+                receive(listening);
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("キャッシュ無効化通知の受信が切断されました。{}後に再接続します: reason={}",
+                        properties.reconnectDelay(), e.getMessage());
+                }
+            } finally {
+                connection = null;
+            }
+            if (running && !sleep()) {
+                break;
+            }
+        }
+    }
+
+    private void listen(Connection listening) throws SQLException {
+        try (Statement statement = listening.createStatement()) {
+            // チャンネル名は設定値の検証で識別子として安全な文字列に限定している
+            statement.execute("LISTEN " + properties.channel());
+        }
+    }
+
+    private void receive(Connection listening) throws SQLException {
+        PGConnection pgConnection = listening.unwrap(PGConnection.class);
+        int timeoutMillis = (int) Math.min(properties.pollTimeout().toMillis(), Integer.MAX_VALUE);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+            }
+            // 通知が無い間も接続が生きていることを確認し、切断を早く検知する
+            try (Statement statement = listening.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+        }
+    }
+
+    /**
+     * 受信した通知のエントリを無効化する
+     * @param payload 通知のペイロード
+     */
+    void handle(String payload) {
+        CacheInvalidationMessage message = CacheInvalidationMessage.parse(payload);
+        if (message == null) {
+            logger.warn("不正なキャッシュ無効化通知を読み飛ばしました: payload={}", payload);
+            return;
+        }
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        received.increment();
+        for (CacheInvalidationSubscriber subscriber : subscribers()) {
+            if (subscriber.cacheName().equals(message.cacheName())) {
+                subscriber.evict(message.userId());
+            }
+        }
+    }
+
+    /**
+     * 全キャッシュの全エントリを無効化する
+     */
+    void flushAll() {
+        flushes.increment();
+        for (CacheInvalidationSubscriber subscriber : subscribers()) {
+            subscriber.evictAll();
+        }
+    }
+
+    private List<CacheInvalidationSubscriber> subscribers() {
+        return subscribers.orderedStream().toList();
+    }
+
+    private Connection openConnection() throws SQLException {
+        Properties connectionProperties = new Properties();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        if (username != null) {
+            connectionProperties.setProperty("user", username);
+        }
+        if (password != null) {
+            connectionProperties.setProperty("password", password);
+        }
+        // 通知を待つ間に経路上で接続が破棄されないようにし、応答の無い接続は待ち時間の2倍で見切る
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        connectionProperties.setProperty("socketTimeout",
+            String.valueOf(Math.max(1, properties.pollTimeout().multipliedBy(2).toSeconds())));
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        Connection opened = DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties);
+        opened.setAutoCommit(true);
+        return opened;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(properties.reconnectDelay().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection target) {
+        if (target == null) {
+            return;
+        }
+        try {
+            target.close();
+        } catch (SQLException e) {
+            logger.debug("キャッシュ無効化通知の接続を閉じられませんでした: reason={}", e.getMessage());
+        }
+    }
+}
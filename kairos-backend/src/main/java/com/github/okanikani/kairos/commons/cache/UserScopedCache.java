@@ -0,0 +1,184 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ユーザー単位の有界キャッシュ
+ *
+ * ユーザーIDをキーに1ユーザー分のデータ一式を保持する。
+ * 上限件数を超えた場合は最も長く参照されていないユーザーから追い出し（LRU）、
+ * 有効期限を過ぎたエントリは次回参照時に読み直す。
+ *
+ * 無効化と読み込みが並行した場合に無効化前の値を書き戻さないよう、
+ * 読み込み開始時の世代番号が変わっていなければ格納する。
+ * トランザクション内で無効化した場合は、コミット前に他スレッドが古い値を読み込む可能性があるため
+ * トランザクション完了後にも再度無効化する。
+ *
+ * @param <V> キャッシュする値の型（nullも「存在しない」という結果としてキャッシュする）
+ */
+public final class UserScopedCache<V> {
+
+    // メトリクス名定数
+    static final String CACHE_GETS = "kairos.cache.gets";
+    static final String CACHE_EVICTIONS = "kairos.cache.evictions";
+    static final String CACHE_SIZE = "kairos.cache.size";
+    static final String TAG_CACHE = "cache";
+    static final String TAG_RESULT = "result";
+
+    private final int maxUsers;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Entry<V>> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * @param name キャッシュ名（メトリクスのcacheタグに使用）
+     * @param maxUsers 保持するユーザー数の上限
+     * @param ttl エントリの有効期限
+     * @param meterRegistry メトリクス登録先
+     */
+    public UserScopedCache(String name, int maxUsers, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxUsers, ttl, meterRegistry, System::nanoTime);
+    }
+
+    UserScopedCache(String name, int maxUsers, Duration ttl, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        Objects.requireNonNull(name, "nameは必須です");
+        Objects.requireNonNull(ttl, "ttlは必須です");
+        Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+        if (maxUsers <= 0) {
+            throw new IllegalArgumentException("maxUsersは1以上である必要があります");
+        }
+
+        this.maxUsers = maxUsers;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTimeは必須です");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > UserScopedCache.this.maxUsers) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = Counter.builder(CACHE_GETS)
+            .description("ユーザー単位キャッシュの参照回数")
+            .tag(TAG_CACHE, name)
+            .tag(TAG_RESULT, "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(CACHE_GETS)
+            .description("ユーザー単位キャッシュの参照回数")
+            .tag(TAG_CACHE, name)
+            .tag(TAG_RESULT, "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder(CACHE_EVICTIONS)
+            .description("上限超過によりユーザー単位キャッシュから追い出した件数")
+            .tag(TAG_CACHE, name)
+            .register(meterRegistry);
+        Gauge.builder(CACHE_SIZE, this, UserScopedCache::size)
+            .description("ユーザー単位キャッシュが保持しているユーザー数")
+            .tag(TAG_CACHE, name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * キャッシュから値を取得し、存在しなければ読み込んで格納する
+     *
+     * @param userId ユーザーID
+     * @param loader キャッシュミス時の読み込み処理（ロックの外で実行する）
+     * @return キャッシュ済みまたは読み込んだ値
+     */
+    public V get(String userId, Supplier<V> loader) {
+        Objects.requireNonNull(userId, "userIdは必須です");
+        Objects.requireNonNull(loader, "loaderは必須です");
+
+        long now = nanoTime.getAsLong();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(userId);
+            if (entry != null) {
+                if (now - entry.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return entry.value();
+                }
+                entries.remove(userId);
+            }
+        }
+
+        misses.increment();
+        long loadingGeneration = generation.get();
+        V value = loader.get();
+        synchronized (entries) {
+            if (generation.get() == loadingGeneration) {
+                entries.put(userId, new Entry<>(value, now));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 指定ユーザーのエントリを無効化する
+     *
+     * @param userId ユーザーID
+     */
+    public void invalidate(String userId) {
+        Objects.requireNonNull(userId, "userIdは必須です");
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 全エントリを無効化する
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 保持しているユーザー数
+     *
+     * @return エントリ数
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evict(String userId) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 応答時間の変化から同時処理数の上限を自動調整するリミッター
+ *
+ * 長期の平均応答時間（処理が詰まっていない状態の目安）と直近の平均応答時間を比べ、
+ * 直近が長くなった（キューイングが始まった）ら上限を勾配に比例して下げ、同じ水準なら少しずつ上げる。
+ * 上限を超える要求は待たせずに拒否するため、過負荷時もスレッドやコネクションの待ち行列が伸びない。
+ *
+ * 勾配 = 許容倍率 × 長期平均 ÷ 直近平均（0.5〜1.0に制限）
+ * 新しい上限 = 勾配が1未満なら 現在の上限 × 勾配、1なら 現在の上限 + √現在の上限
+ * （急な変動を避けるため、実際には新しい上限へ一定の割合ずつ寄せる）
+ *
+ * 上限の半分も使っていない間は需要が少ないだけなので上限を変えない。
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // 長期平均に対して直近平均がこの倍率以内なら詰まっていないとみなす
+    private static final double RTT_TOLERANCE = 1.5;
+
+    // 1回の更新で新しい上限へ寄せる割合
+    private static final double SMOOTHING = 0.2;
+
+    // 長期平均・直近平均に用いるサンプル数
+    private static final int LONG_WINDOW = 600;
+    private static final int SHORT_WINDOW = 10;
+
+    // 負荷が下がって長期平均が直近平均のこの倍率を超えた場合は、長期平均を速やかに下げる
+    private static final double LONG_RTT_DRIFT_RATIO = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double estimatedLimit;
+    private double longRttNanos;
+    private double shortRttNanos;
+    private long samples;
+
+    /**
+     * @param initialLimit 初期の上限
+     * @param minLimit 上限の下限
+     * @param maxLimit 上限の上限
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                "上限は 0 < minLimit <= initialLimit <= maxLimit で指定してください。指定値: initial=%d, min=%d, max=%d",
+                initialLimit, minLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * 処理枠の取得を試みる
+     *
+     * 取得できた場合は処理の終了後に必ず {@link #release(long)} を呼ぶこと
+     *
+     * @return 上限未満で取得できた場合true、上限に達している場合false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 処理枠を返却し、応答時間から上限を更新する
+     *
+     * @param rttNanos 処理にかかった時間（ナノ秒）
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(Math.max(rttNanos, 1), inFlightAtCompletion);
+    }
+
+    /**
+     * 現在の同時処理数の上限
+     *
+     * @return 上限
+     */
+    public int limit() {
+        return (int) estimatedLimit;
+    }
+
+    /**
+     * 現在処理中の数
+     *
+     * @return 処理中の数
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        samples++;
+        if (samples == 1) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+        } else {
+            // サンプルが窓に満たない間は単純平均、以降は指数移動平均
+            longRttNanos += (rttNanos - longRttNanos) / Math.min(samples, LONG_WINDOW);
+            shortRttNanos += (rttNanos - shortRttNanos) / Math.min(samples, SHORT_WINDOW);
+        }
+        if (longRttNanos / shortRttNanos > LONG_RTT_DRIFT_RATIO) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+
+        double current = estimatedLimit;
+        if (inFlightAtCompletion < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+        double target = gradient < 1.0 ? current * gradient : current + Math.sqrt(current);
+        double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.commons.config.ConcurrencyLimitProperties;
+import com.github.okanikani.kairos.commons.config.ConcurrencyLimitProperties.EndpointClass;
+import com.github.okanikani.kairos.commons.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * エンドポイント分類ごとの同時実行数制限フィルター
+ *
+ * リクエストを設定の分類（位置情報の取り込み・勤怠表生成・認証など）に振り分け、分類ごとの
+ * {@link AdaptiveConcurrencyLimit} で処理枠を取得できた場合のみ後続へ渡す。
+ * 上限に達している場合はTomcatのスレッドやコネクションプールの待ち行列に並ばせず、
+ * 503（Retry-After付き）を即座に返す。
+ *
+ * 分類ごとの上限・処理中の数・拒否数をメトリクスとして公開する。
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    // メトリクス名定数
+    static final String LIMIT = "kairos.concurrency.limit";
+    static final String IN_FLIGHT = "kairos.concurrency.in.flight";
+    static final String REJECTED = "kairos.concurrency.rejected";
+    static final String TAG_CLASS = "class";
+
+    static final String ERROR_CODE = "SERVICE_OVERLOADED";
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<Budget> budgets = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+        Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapperは必須です");
+
+        // 秒未満は切り上げ（Retry-Afterは秒単位の整数）
+        long millis = properties.retryAfter().toMillis();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (millis + 999) / 1000));
+
+        for (Map.Entry<String, EndpointClass> entry : properties.classes().entrySet()) {
+            budgets.add(new Budget(entry.getKey(), entry.getValue(), meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Budget budget = properties.enabled() ? budgetFor(request.getMethod(), request.getRequestURI()) : null;
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!budget.limit.tryAcquire()) {
+            budget.rejected.increment();
+            if (logger.isDebugEnabled()) {
+                logger.debug("同時実行数の上限に達したためリクエストを拒否しました [class={}, limit={}, method={}, path={}]",
+                    budget.name, budget.limit.limit(), request.getMethod(), request.getRequestURI());
+            }
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            budget.limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private Budget budgetFor(String method, String path) {
+        for (Budget budget : budgets) {
+            if (budget.matches(method, path)) {
+                return budget;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+            ErrorResponse.of(ERROR_CODE, "サーバーが混雑しています。しばらくしてから再試行してください"));
+    }
+
+    /**
+     * エンドポイント分類ごとの処理枠とメトリクス
+     */
+    private final class Budget {
+
+        private final String name;
+        private final List<String[]> patterns = new ArrayList<>();
+        private final AdaptiveConcurrencyLimit limit;
+        private final Counter rejected;
+
+        private Budget(String name, EndpointClass endpointClass, MeterRegistry meterRegistry) {
+            this.name = name;
+            for (String path : endpointClass.paths()) {
+                // 「POST /api/locations」形式はメソッドとパス、「/api/locations」形式はパスのみで判定する
+                String trimmed = path.trim();
+                int separator = trimmed.indexOf(' ');
+                patterns.add(separator < 0
+                    ? new String[] {null, trimmed}
+                    : new String[] {trimmed.substring(0, separator), trimmed.substring(separator + 1).trim()});
+            }
+            this.limit = new AdaptiveConcurrencyLimit(
+                endpointClass.initialLimit(), endpointClass.minLimit(), endpointClass.maxLimit());
+
+            Gauge.builder(LIMIT, limit, AdaptiveConcurrencyLimit::limit)
+                .description("エンドポイント分類ごとの同時処理数の上限（応答時間から自動調整）")
+                .tag(TAG_CLASS, name)
+                .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT, limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("エンドポイント分類ごとの処理中のリクエスト数")
+                .tag(TAG_CLASS, name)
+                .register(meterRegistry);
+            this.rejected = Counter.builder(REJECTED)
+                .description("同時処理数の上限に達したため503で拒否したリクエスト数")
+                .tag(TAG_CLASS, name)
+                .register(meterRegistry);
+        }
+
+        private boolean matches(String method, String path) {
+            for (String[] pattern : patterns) {
+                if ((pattern[0] == null || pattern[0].equalsIgnoreCase(method)) && pathMatcher.match(pattern[1], path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
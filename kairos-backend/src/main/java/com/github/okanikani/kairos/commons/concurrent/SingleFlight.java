@@ -0,0 +1,75 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * キー単位で同時実行を1回にまとめる仕組み（シングルフライト）
+ *
+ * 同じキーの処理が実行中の間に呼び出された場合は、自身では処理を実行せず
+ * 先行する処理の完了を待ってその結果（または例外）を共有する。
+ * 結果は保持しないため、先行する処理の完了後に呼び出された場合は改めて実行する。
+ *
+ * @param <K> キーの型
+ * @param <V> 結果の型
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * キー単位で処理を実行する
+     * @param key キー
+     * @param supplier 処理
+     * @return 処理結果（同じキーの処理が実行中だった場合はその結果）
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        Objects.requireNonNull(key, "keyは必須です");
+        Objects.requireNonNull(supplier, "supplierは必須です");
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 実行中のキーの数を取得する
+     * @return キーの数
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 先行する処理の例外をそのまま伝える
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * キーごとのトークンバケットを固定長の配列で管理するレートリミッター
+ *
+ * キーのハッシュ値で配列の位置（ストライプ）を決め、各位置の状態を1つのlong値としてCASで更新するため、
+ * ロックを取らずに判定できる。配列の長さは固定でキーの数に関係なくメモリ使用量が一定になる。
+ * 異なるキーが同じ位置に割り当てられた場合はバケットを共有する（制限が厳しくなる方向にのみ誤差が出る）。
+ *
+ * バケットを使い切った状態でさらに取得しようとすると、一定時間ロックして補充も止める。
+ *
+ * 状態のビット配置（値0は「未使用＝満タン」を表す）:
+ * - 62ビット目: ロック中フラグ
+ * - 42〜61ビット目: 使用済みトークン数（1/1000トークン単位）
+ * - 0〜41ビット目: 最終更新時刻（ロック中は解除時刻）。生成時からの経過ミリ秒
+ */
+public class StripedTokenBuckets {
+
+    private static final long TOKEN_SCALE = 1000;
+    private static final int TIME_BITS = 42;
+    private static final int USED_BITS = 20;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long USED_MASK = (1L << USED_BITS) - 1;
+    private static final long LOCKED = 1L << (TIME_BITS + USED_BITS);
+
+    // 使用済みトークン数のビット幅に収まる容量の上限
+    public static final int MAX_CAPACITY = (int) (USED_MASK / TOKEN_SCALE);
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long capacityScaled;
+    private final long refillMillisPerToken;
+    private final long lockoutMillis;
+    private final LongSupplier clock;
+    private final long baseMillis;
+
+    /**
+     * @param slots 配列の長さ（2の累乗）
+     * @param capacity バケットの容量（連続して取得できるトークン数）
+     * @param refillPeriod トークン1つが補充されるまでの時間
+     * @param lockout 使い切った後にさらに取得しようとした場合のロック時間
+     * @param clock 現在時刻（ミリ秒）
+     */
+    public StripedTokenBuckets(int slots, int capacity, Duration refillPeriod, Duration lockout, LongSupplier clock) {
+        Objects.requireNonNull(refillPeriod, "refillPeriodは必須です");
+        Objects.requireNonNull(lockout, "lockoutは必須です");
+        this.clock = Objects.requireNonNull(clock, "clockは必須です");
+        if (slots <= 0 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slotsは2の累乗で指定してください。指定値: " + slots);
+        }
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacityは1〜" + MAX_CAPACITY + "で指定してください。指定値: " + capacity);
+        }
+        if (refillPeriod.toMillis() <= 0) {
+            throw new IllegalArgumentException("refillPeriodは1ミリ秒以上で指定してください。指定値: " + refillPeriod);
+        }
+        this.slots = new AtomicLongArray(slots);
+        this.mask = slots - 1;
+        this.capacityScaled = capacity * TOKEN_SCALE;
+        this.refillMillisPerToken = refillPeriod.toMillis();
+        this.lockoutMillis = Math.max(lockout.toMillis(), 0);
+        this.baseMillis = clock.getAsLong();
+    }
+
+    /**
+     * トークンを1つ取得する
+     *
+     * @param key バケットのキー
+     * @return 取得できた場合は {@link Duration#ZERO}、できなかった場合は再試行できるまでの時間
+     */
+    public Duration tryAcquire(String key) {
+        int index = indexOf(key);
+        while (true) {
+            long now = now();
+            long observed = slots.get(index);
+            long state = observed;
+            if ((state & LOCKED) != 0) {
+                long lockedUntil = state & TIME_MASK;
+                if (now < lockedUntil) {
+                    return Duration.ofMillis(lockedUntil - now);
+                }
+                // ロック期間が過ぎたら満タンの状態から再開する
+                state = 0;
+            }
+
+            long used = Math.max(0, usedOf(state) - refilledSince(state, now));
+            long next;
+            Duration result;
+            if (used + TOKEN_SCALE <= capacityScaled) {
+                next = ((used + TOKEN_SCALE) << TIME_BITS) | now;
+                result = Duration.ZERO;
+            } else if (lockoutMillis > 0) {
+                next = LOCKED | (now + lockoutMillis);
+                result = Duration.ofMillis(lockoutMillis);
+            } else {
+                // ロックしない設定の場合は次のトークンが補充されるまで待たせる
+                return Duration.ofMillis(Math.max(1, (used + TOKEN_SCALE - capacityScaled) * refillMillisPerToken / TOKEN_SCALE));
+            }
+            if (slots.compareAndSet(index, observed, next)) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * バケットを満タンに戻し、ロックを解除する
+     *
+     * @param key バケットのキー
+     */
+    public void reset(String key) {
+        slots.set(indexOf(key), 0);
+    }
+
+    /**
+     * ロック中か判定する
+     *
+     * @param key バケットのキー
+     * @return ロック中の場合true
+     */
+    public boolean isLocked(String key) {
+        long state = slots.get(indexOf(key));
+        return (state & LOCKED) != 0 && now() < (state & TIME_MASK);
+    }
+
+    private long usedOf(long state) {
+        return (state >>> TIME_BITS) & USED_MASK;
+    }
+
+    private long refilledSince(long state, long now) {
+        long elapsed = now - (state & TIME_MASK);
+        return elapsed <= 0 ? 0 : elapsed * TOKEN_SCALE / refillMillisPerToken;
+    }
+
+    private long now() {
+        return Math.max(0, clock.getAsLong() - baseMillis) & TIME_MASK;
+    }
+
+    private int indexOf(String key) {
+        Objects.requireNonNull(key, "keyは必須です");
+        // 文字列のハッシュ値の偏りを下位ビットへ拡散する
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
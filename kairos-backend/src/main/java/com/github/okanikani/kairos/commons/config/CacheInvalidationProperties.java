@@ -0,0 +1,90 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * キャッシュ無効化通知の設定プロパティ
+ *
+ * application.ymlの kairos.cache.invalidation セクションから設定値を読み込む
+ * 複数インスタンス構成で、書き込んだインスタンス以外のキャッシュを PostgreSQL の LISTEN/NOTIFY で
+ * 無効化する動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   cache:
+ *     invalidation:
+ *       enabled: true
+ *       channel: kairos_cache_invalidation
+ *       poll-timeout: 5s
+ *       reconnect-delay: 5s
+ */
+@ConfigurationProperties(prefix = "kairos.cache.invalidation")
+public record CacheInvalidationProperties(
+
+    /**
+     * 無効化通知の有効/無効
+     *
+     * true: 書き込み時に通知を送信し、他インスタンスからの通知を受信してキャッシュを無効化する
+     * false: 通知を送受信しない（キャッシュは有効期限でのみ他インスタンスの更新を取り込む、デフォルト）
+     */
+    boolean enabled,
+
+    /**
+     * 通知に使用するチャンネル名
+     *
+     * LISTEN文に埋め込むため、英小文字・数字・アンダースコアのみ使用できる
+     * デフォルト値: kairos_cache_invalidation
+     */
+    String channel,
+
+    /**
+     * 通知を待つ最大時間
+     *
+     * 待ち終えるたびに接続を確認するため、切断の検知までの時間の目安になる
+     * デフォルト値: 5秒
+     */
+    Duration pollTimeout,
+
+    /**
+     * 切断後に再接続を試みるまでの待ち時間
+     *
+     * デフォルト値: 5秒
+     */
+    Duration reconnectDelay
+
+) {
+
+    // 無効化通知設定値の定数定義
+    private static final String DEFAULT_CHANNEL = "kairos_cache_invalidation";
+    private static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    public CacheInvalidationProperties {
+        if (channel == null || channel.isBlank()) {
+            channel = DEFAULT_CHANNEL;
+        }
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("channelは英小文字・数字・アンダースコアで指定してください: " + channel);
+        }
+        if (pollTimeout == null || pollTimeout.isNegative() || pollTimeout.isZero()) {
+            pollTimeout = DEFAULT_POLL_TIMEOUT;
+        }
+        if (reconnectDelay == null || reconnectDelay.isNegative() || reconnectDelay.isZero()) {
+            reconnectDelay = DEFAULT_RECONNECT_DELAY;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のCacheInvalidationPropertiesインスタンス
+     */
+    public static CacheInvalidationProperties defaultSettings() {
+        return new CacheInvalidationProperties(false, DEFAULT_CHANNEL, DEFAULT_POLL_TIMEOUT, DEFAULT_RECONNECT_DELAY);
+    }
+}
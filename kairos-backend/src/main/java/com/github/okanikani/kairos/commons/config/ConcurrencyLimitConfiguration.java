@@ -0,0 +1,37 @@
+package com.github.okanikani.kairos.commons.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.commons.concurrent.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 同時実行数制限の設定クラス
+ *
+ * {@link ConcurrencyLimitFilter} をSpring Securityのフィルターより前に登録します。
+ * 拒否するリクエストでJWTの検証やユーザーの読み込みを行わないためです。
+ * 有効/無効は実行時にフィルター内で判定するため、フィルター自体は常に登録します。
+ */
+@Configuration
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * 同時実行数制限フィルターの登録
+     *
+     * @param properties 同時実行数制限の設定
+     * @param meterRegistry メトリクスの登録先
+     * @param objectMapper 拒否時のエラーレスポンスの出力に使用
+     * @return フィルターの登録情報
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(properties, meterRegistry, objectMapper));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * エンドポイント分類ごとの同時実行数制限の設定プロパティ
+ *
+ * application.ymlの kairos.concurrency-limit セクションから設定値を読み込む
+ * 分類ごとに同時処理数の上限を応答時間から自動調整し、上限を超えたリクエストは待たせずに503で拒否する
+ * 安価な位置情報の送信が、勤怠表生成やパスワードのハッシュ計算にスレッドとコネクションを奪われないようにする
+ *
+ * 設定例:
+ * kairos:
+ *   concurrency-limit:
+ *     enabled: true
+ *     retry-after: 1s
+ *     classes:
+ *       ingest:
+ *         paths: ["POST /api/locations"]
+ *         initial-limit: 50
+ *         min-limit: 10
+ *         max-limit: 200
+ */
+@ConfigurationProperties(prefix = "kairos.concurrency-limit")
+public record ConcurrencyLimitProperties(
+
+    /**
+     * 同時実行数制限の有効/無効
+     *
+     * 無効時もフィルターは登録され、全てのリクエストをそのまま通す
+     */
+    boolean enabled,
+
+    /**
+     * 拒否したリクエストに返すRetry-Afterの値
+     *
+     * 秒単位に切り上げて返す
+     * デフォルト値: 1秒
+     */
+    Duration retryAfter,
+
+    /**
+     * エンドポイント分類ごとの設定
+     *
+     * キーは分類名（メトリクスのタグに使用）。記述順に評価し、最初に一致した分類の上限を適用する
+     * どの分類にも一致しないリクエストは制限しない
+     */
+    Map<String, EndpointClass> classes
+
+) {
+
+    // 同時実行数制限の設定値の定数定義
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    public ConcurrencyLimitProperties {
+        if (retryAfter == null || retryAfter.isNegative() || retryAfter.isZero()) {
+            retryAfter = DEFAULT_RETRY_AFTER;
+        }
+        classes = classes == null ? Map.of() : new LinkedHashMap<>(classes);
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定（無効）のConcurrencyLimitPropertiesインスタンス
+     */
+    public static ConcurrencyLimitProperties defaultSettings() {
+        return new ConcurrencyLimitProperties(false, DEFAULT_RETRY_AFTER, Map.of());
+    }
+
+    /**
+     * エンドポイント分類の設定
+     *
+     * @param paths 対象のパスパターン（Antスタイル）。「POST /api/locations」のようにHTTPメソッドを前置すると、そのメソッドのみを対象とする
+     * @param initialLimit 起動直後の同時処理数の上限
+     * @param minLimit 自動調整で下げる下限
+     * @param maxLimit 自動調整で上げる上限
+     */
+    public record EndpointClass(
+        List<String> paths,
+        int initialLimit,
+        int minLimit,
+        int maxLimit
+    ) {
+
+        public EndpointClass {
+            paths = paths == null ? List.of() : List.copyOf(paths);
+            if (minLimit <= 0) {
+                minLimit = 1;
+            }
+            if (maxLimit < minLimit) {
+                maxLimit = minLimit;
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                initialLimit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.okanikani.kairos.commons.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.github.okanikani.kairos.commons.json.CompactJsonHttpMessageConverter;
+import com.github.okanikani.kairos.commons.json.CompactJsonWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * レスポンスのJSON出力の設定クラス
+ *
+ * - ObjectMapperにBlackbirdモジュールを登録し、DTOのgetter呼び出しをリフレクションから
+ *   生成したラムダに置き換える（勤怠表・位置情報一覧のようにDTOの数が多いレスポンスでCPU使用量が減る）
+ * - 自社クライアント向けのコンパクト形式（{@link CompactJsonHttpMessageConverter}）を登録する
+ *
+ * レスポンスの圧縮は server.compression で設定する
+ */
+@Configuration
+public class JsonSerializationConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<CompactJsonWriter<?>> compactJsonWriters;
+
+    public JsonSerializationConfiguration(ObjectProvider<CompactJsonWriter<?>> compactJsonWriters) {
+        this.compactJsonWriters = Objects.requireNonNull(compactJsonWriters, "compactJsonWritersは必須です");
+    }
+
+    /**
+     * Blackbirdモジュール（Spring BootがObjectMapperに自動で登録する）
+     *
+     * @return Blackbirdモジュール
+     */
+    @Bean
+    public static BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * コンパクト形式の出力を通常のJSONより前に登録する
+     *
+     * 通常のJSONの出力は application/*+json を扱うため、後ろに登録するとコンパクト形式を指定されても通常のJSONで出力される
+     * ObjectMapperは通常のJSONと同じ設定のものを使う
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int jsonIndex = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                jsonIndex = i;
+                break;
+            }
+        }
+        ObjectMapper objectMapper = jsonIndex < 0
+            ? Jackson2ObjectMapperBuilder.json().build()
+            : ((MappingJackson2HttpMessageConverter) converters.get(jsonIndex)).getObjectMapper();
+        CompactJsonHttpMessageConverter converter =
+            new CompactJsonHttpMessageConverter(objectMapper, compactJsonWriters.orderedStream().toList());
+        if (jsonIndex < 0) {
+            converters.add(converter);
+        } else {
+            converters.add(jsonIndex, converter);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 位置情報アーカイブ機能の設定プロパティ
+ *
+ * application.ymlの kairos.location.archive セクションから設定値を読み込む
+ * 締め済みの月の位置情報をローカルの圧縮カラムナファイルへ退避する動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   location:
+ *     archive:
+ *       enabled: true
+ *       base-dir: /var/lib/kairos/location-archive
+ *       retention-months: 3
+ */
+@ConfigurationProperties(prefix = "kairos.location.archive")
+public record LocationArchiveProperties(
+
+    /**
+     * アーカイブ機能の有効/無効
+     *
+     * true: アーカイブ済みの月はファイルから読み込み、範囲検索に合成する
+     * false: アーカイブファイルを一切参照しない（デフォルト）
+     */
+    boolean enabled,
+
+    /**
+     * アーカイブファイルの格納ディレクトリ
+     *
+     * ユーザーごとのサブディレクトリ配下に年月単位のファイルを作成する
+     */
+    String baseDir,
+
+    /**
+     * データベースに残す直近の月数
+     *
+     * 当月からこの月数以内の位置情報はアーカイブ対象外とする
+     * デフォルト値: 3ヶ月
+     */
+    int retentionMonths
+
+) {
+
+    // アーカイブ設定値の定数定義
+    private static final String DEFAULT_BASE_DIR = "./data/location-archive";
+    private static final int DEFAULT_RETENTION_MONTHS = 3;
+
+    public LocationArchiveProperties {
+        if (baseDir == null || baseDir.isBlank()) {
+            baseDir = DEFAULT_BASE_DIR;
+        }
+        if (retentionMonths <= 0) {
+            retentionMonths = DEFAULT_RETENTION_MONTHS;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のLocationArchivePropertiesインスタンス
+     */
+    public static LocationArchiveProperties defaultSettings() {
+        return new LocationArchiveProperties(false, DEFAULT_BASE_DIR, DEFAULT_RETENTION_MONTHS);
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 位置情報ファイルストアの設定プロパティ
+ *
+ * application.ymlの kairos.location.store セクションから設定値を読み込む
+ * single-node プロファイルで位置情報をデータベースの代わりにローカルのセグメントファイルへ
+ * 保存する際の格納先・fsyncのまとめ方・コンパクションの動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   location:
+ *     store:
+ *       base-dir: /var/lib/kairos/location-store
+ *       segment-records: 65536
+ *       sync-interval: 2ms
+ *       sync-batch-size: 256
+ *       compaction-garbage-ratio: 0.25
+ *       compaction-interval: 10m
+ */
+@ConfigurationProperties(prefix = "kairos.location.store")
+public record LocationStoreProperties(
+
+    /**
+     * セグメントファイルの格納ディレクトリ
+     *
+     * ユーザーごとのサブディレクトリ配下に追記専用のセグメントファイルを作成する
+     */
+    String baseDir,
+
+    /**
+     * 1セグメントファイルに格納するレコード数
+     *
+     * セグメントは作成時にこの件数分の領域を確保してメモリマップする
+     * デフォルト値: 65536件（約2.4MB、1分間隔の記録で約1.5ヶ月分）
+     */
+    int segmentRecords,
+
+    /**
+     * fsyncをまとめるために待つ最大時間
+     *
+     * この時間内に届いた書き込みを1回のfsyncで永続化してから応答する
+     * デフォルト値: 2ミリ秒
+     */
+    Duration syncInterval,
+
+    /**
+     * 1回のfsyncでまとめる書き込みの最大件数
+     *
+     * この件数に達した場合は待ち時間を待たずにfsyncする
+     * デフォルト値: 256件
+     */
+    int syncBatchSize,
+
+    /**
+     * コンパクションを行う不要レコードの割合
+     *
+     * 削除・更新で不要になったレコードが全体のこの割合を超えたユーザーのセグメントを書き直す
+     * デフォルト値: 0.25
+     */
+    double compactionGarbageRatio,
+
+    /**
+     * コンパクション要否の確認間隔
+     *
+     * デフォルト値: 10分
+     */
+    Duration compactionInterval
+
+) {
+
+    // ファイルストア設定値の定数定義
+    private static final String DEFAULT_BASE_DIR = "./data/location-store";
+    private static final int DEFAULT_SEGMENT_RECORDS = 65536;
+    private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(2);
+    private static final int DEFAULT_SYNC_BATCH_SIZE = 256;
+    private static final double DEFAULT_COMPACTION_GARBAGE_RATIO = 0.25;
+    private static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+
+    public LocationStoreProperties {
+        if (baseDir == null || baseDir.isBlank()) {
+            baseDir = DEFAULT_BASE_DIR;
+        }
+        if (segmentRecords <= 0) {
+            segmentRecords = DEFAULT_SEGMENT_RECORDS;
+        }
+        if (syncInterval == null || syncInterval.isNegative()) {
+            syncInterval = DEFAULT_SYNC_INTERVAL;
+        }
+        if (syncBatchSize <= 0) {
+            syncBatchSize = DEFAULT_SYNC_BATCH_SIZE;
+        }
+        if (compactionGarbageRatio <= 0.0 || compactionGarbageRatio >= 1.0) {
+            compactionGarbageRatio = DEFAULT_COMPACTION_GARBAGE_RATIO;
+        }
+        if (compactionInterval == null || compactionInterval.isNegative() || compactionInterval.isZero()) {
+            compactionInterval = DEFAULT_COMPACTION_INTERVAL;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のLocationStorePropertiesインスタンス
+     */
+    public static LocationStoreProperties defaultSettings() {
+        return new LocationStoreProperties(DEFAULT_BASE_DIR, DEFAULT_SEGMENT_RECORDS, DEFAULT_SYNC_INTERVAL,
+            DEFAULT_SYNC_BATCH_SIZE, DEFAULT_COMPACTION_GARBAGE_RATIO, DEFAULT_COMPACTION_INTERVAL);
+    }
+}
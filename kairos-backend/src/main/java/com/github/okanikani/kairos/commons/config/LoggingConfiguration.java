@@ -1,11 +1,16 @@
 package com.github.okanikani.kairos.commons.config;
 
+import com.github.okanikani.kairos.commons.monitoring.QueryBudgetMonitor;
+import com.github.okanikani.kairos.commons.monitoring.QueryCountScope;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.UUID;
 
 /**
@@ -21,26 +27,31 @@ import java.util.UUID;
  * 構造化ログ出力のためのMDC設定を行います。
  * 各リクエストにユニークなリクエストIDを付与し、
  * 認証済みユーザーのユーザーIDを追加します。
+ * リクエスト処理中のSQL発行数・JDBC実行時間・コネクション取得回数もMDCに設定し、予算超過を警告します。
+ * 集計値はリクエストの完了時に確定するため、MDCを消去する前にリクエストごとの完了ログを1行出力します。
  */
 @Configuration
 public class LoggingConfiguration {
     
+    private static final Logger logger = LoggerFactory.getLogger(LoggingConfiguration.class);
+    
     /**
      * MDCフィルター
      * 
      * 各HTTPリクエストにリクエストIDとユーザーIDを設定します。
      * ログトレーサビリティとデバッグ効率の向上を目的とします。
      * 
+     * @param queryBudgetMonitor SQL発行数予算の監視
      * @return MDCフィルター
      */
     @Bean
-    public Filter mdcFilter() {
+    public Filter mdcFilter(QueryBudgetMonitor queryBudgetMonitor) {
         return new Filter() {
             @Override
             public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
                     throws IOException, ServletException {
                 
-                try {
+                try (QueryCountScope queryCountScope = QueryCountScope.open()) {
                     // リクエストIDの生成と設定
                     String requestId = UUID.randomUUID().toString().substring(0, 8);
                     MDC.put("requestId", requestId);
@@ -51,14 +62,29 @@ public class LoggingConfiguration {
                         MDC.put("httpMethod", httpRequest.getMethod());
                     }
                     
-                    // フィルターチェーンの実行
-                    chain.doFilter(request, response);
-                    
-                    // 認証後のユーザーID設定（SecurityContextから取得）
-                    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                    if (authentication != null && authentication.isAuthenticated() 
-                            && !"anonymousUser".equals(authentication.getName())) {
-                        MDC.put("userId", authentication.getName());
+                    long start = System.nanoTime();
+                    try {
+                        // フィルターチェーンの実行
+                        chain.doFilter(request, response);
+                    } finally {
+                        // 認証後のユーザーID設定（SecurityContextから取得）
+                        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                        if (authentication != null && authentication.isAuthenticated() 
+                                && !"anonymousUser".equals(authentication.getName())) {
+                            MDC.put("userId", authentication.getName());
+                        }
+                        
+                        // SQL発行数・JDBC実行時間・コネクション取得回数の設定と予算チェック
+                        MDC.put("queryCount", String.valueOf(queryCountScope.statementCount()));
+                        MDC.put("jdbcTimeMs", String.valueOf(queryCountScope.jdbcTime().toMillis()));
+                        MDC.put("connectionCount", String.valueOf(queryCountScope.connectionCount()));
+                        if (request instanceof HttpServletRequest httpRequest) {
+                            queryBudgetMonitor.check(httpRequest.getMethod(), httpRequest.getRequestURI(),
+                                queryCountScope.statementCount(), queryCountScope.jdbcTime());
+                        }
+                        
+                        // MDCを消去する前に、集計値を持つ完了ログを1行出力する
+                        logCompletion(request, response, queryCountScope, Duration.ofNanos(System.nanoTime() - start));
                     }
                     
                 } finally {
@@ -68,4 +94,17 @@ public class LoggingConfiguration {
             }
         };
     }
-}
\ No newline at end of file
+    
+    private static void logCompletion(ServletRequest request, ServletResponse response,
+                                      QueryCountScope queryCountScope, Duration elapsed) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        String method = request instanceof HttpServletRequest httpRequest ? httpRequest.getMethod() : null;
+        String path = request instanceof HttpServletRequest httpRequest ? httpRequest.getRequestURI() : null;
+        Integer status = response instanceof HttpServletResponse httpResponse ? httpResponse.getStatus() : null;
+        logger.info("リクエストが完了しました [method={}, path={}, status={}, durationMs={}, queryCount={}, jdbcTimeMs={}, connectionCount={}]",
+            method, path, status, elapsed.toMillis(), queryCountScope.statementCount(),
+            queryCountScope.jdbcTime().toMillis(), queryCountScope.connectionCount());
+    }
+}
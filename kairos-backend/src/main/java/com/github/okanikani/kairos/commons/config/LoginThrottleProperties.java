@@ -0,0 +1,116 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ログイン試行の制限の設定プロパティ
+ *
+ * application.ymlの kairos.security.login-throttle セクションから設定値を読み込む
+ * ユーザーIDごと・接続元IPアドレスごとのトークンバケットで、パスワードのハッシュ照合の前に試行回数を制限する
+ * バケットを使い切った後も試行を続けた場合は、一定時間ログインを受け付けない
+ *
+ * 設定例:
+ * kairos:
+ *   security:
+ *     login-throttle:
+ *       enabled: true
+ *       slots: 65536
+ *       user:
+ *         capacity: 5
+ *         refill-period: 1m
+ *         lockout: 15m
+ *       ip:
+ *         capacity: 100
+ *         refill-period: 1s
+ *         lockout: 5m
+ */
+@ConfigurationProperties(prefix = "kairos.security.login-throttle")
+public record LoginThrottleProperties(
+
+    /**
+     * ログイン試行の制限の有効/無効
+     */
+    boolean enabled,
+
+    /**
+     * バケットを保持する配列の長さ（ユーザーID用・IPアドレス用それぞれ）
+     *
+     * メモリ使用量は 8バイト × slots で、キーの数に関係なく一定
+     * 2の累乗に切り上げる
+     * デフォルト値: 65536
+     */
+    int slots,
+
+    /**
+     * ユーザーIDごとの制限
+     *
+     * ログインに成功するとバケットを満タンに戻すため、実質的に連続した失敗の回数を制限する
+     */
+    Bucket user,
+
+    /**
+     * 接続元IPアドレスごとの制限
+     *
+     * 成功・失敗に関係なく全ての試行を数える（多数のユーザーIDを試す攻撃への対策）
+     */
+    Bucket ip
+
+) {
+
+    // ログイン試行の制限の設定値の定数定義
+    private static final int DEFAULT_SLOTS = 65_536;
+    private static final Bucket DEFAULT_USER = new Bucket(5, Duration.ofMinutes(1), Duration.ofMinutes(15));
+    private static final Bucket DEFAULT_IP = new Bucket(100, Duration.ofSeconds(1), Duration.ofMinutes(5));
+
+    public LoginThrottleProperties {
+        if (slots <= 0) {
+            slots = DEFAULT_SLOTS;
+        } else if (Integer.bitCount(slots) != 1) {
+            slots = Integer.highestOneBit(slots) << 1;
+        }
+        if (user == null) {
+            user = DEFAULT_USER;
+        }
+        if (ip == null) {
+            ip = DEFAULT_IP;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のLoginThrottlePropertiesインスタンス
+     */
+    public static LoginThrottleProperties defaultSettings() {
+        return new LoginThrottleProperties(true, DEFAULT_SLOTS, DEFAULT_USER, DEFAULT_IP);
+    }
+
+    /**
+     * トークンバケットの設定
+     *
+     * @param capacity 連続して試行できる回数
+     * @param refillPeriod 試行回数が1回分回復するまでの時間
+     * @param lockout 使い切った後も試行した場合にログインを受け付けない時間
+     */
+    public record Bucket(
+        int capacity,
+        Duration refillPeriod,
+        Duration lockout
+    ) {
+
+        public Bucket {
+            if (capacity <= 0) {
+                capacity = 1;
+            }
+            if (refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+                refillPeriod = Duration.ofMinutes(1);
+            }
+            if (lockout == null || lockout.isNegative()) {
+                lockout = Duration.ZERO;
+            }
+        }
+    }
+}
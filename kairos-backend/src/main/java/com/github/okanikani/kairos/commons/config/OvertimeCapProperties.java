@@ -0,0 +1,85 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * 時間外労働の上限（36協定）の設定プロパティ
+ *
+ * application.ymlの kairos.overtime.cap セクションから設定値を読み込む
+ * 勤怠表の保存時に集計する月次・年度累計の残業時間を、上限に近いユーザーの抽出に使用する
+ *
+ * 設定例:
+ * kairos:
+ *   overtime:
+ *     cap:
+ *       monthly-limit: 45h
+ *       yearly-limit: 360h
+ *       fiscal-year-start-month: 4
+ */
+@ConfigurationProperties(prefix = "kairos.overtime.cap")
+public record OvertimeCapProperties(
+
+    /**
+     * 1か月の残業時間の上限
+     *
+     * デフォルト値: 45時間（36協定の原則の上限）
+     */
+    Duration monthlyLimit,
+
+    /**
+     * 1年度の残業時間の上限
+     *
+     * デフォルト値: 360時間（36協定の原則の上限）
+     */
+    Duration yearlyLimit,
+
+    /**
+     * 年度（36協定の対象期間）の開始月
+     *
+     * 集計済みの値は保存時の年度で区切られるため、変更した場合は再集計が必要
+     * デフォルト値: 4（4月始まり）
+     */
+    int fiscalYearStartMonth
+
+) {
+
+    // 上限設定値の定数定義
+    private static final Duration DEFAULT_MONTHLY_LIMIT = Duration.ofHours(45);
+    private static final Duration DEFAULT_YEARLY_LIMIT = Duration.ofHours(360);
+    private static final int DEFAULT_FISCAL_YEAR_START_MONTH = 4;
+
+    public OvertimeCapProperties {
+        if (monthlyLimit == null || monthlyLimit.isNegative() || monthlyLimit.isZero()) {
+            monthlyLimit = DEFAULT_MONTHLY_LIMIT;
+        }
+        if (yearlyLimit == null || yearlyLimit.isNegative() || yearlyLimit.isZero()) {
+            yearlyLimit = DEFAULT_YEARLY_LIMIT;
+        }
+        if (fiscalYearStartMonth < 1 || fiscalYearStartMonth > 12) {
+            fiscalYearStartMonth = DEFAULT_FISCAL_YEAR_START_MONTH;
+        }
+    }
+
+    /**
+     * 勤怠年月が属する年度を取得
+     *
+     * @param yearMonth 勤怠年月
+     * @return 年度（開始月の属する西暦年）
+     */
+    public int fiscalYearOf(YearMonth yearMonth) {
+        return yearMonth.getMonthValue() >= fiscalYearStartMonth ? yearMonth.getYear() : yearMonth.getYear() - 1;
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のOvertimeCapPropertiesインスタンス
+     */
+    public static OvertimeCapProperties defaultSettings() {
+        return new OvertimeCapProperties(DEFAULT_MONTHLY_LIMIT, DEFAULT_YEARLY_LIMIT, DEFAULT_FISCAL_YEAR_START_MONTH);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * リクエスト単位のSQL発行数予算の設定プロパティ
+ * 
+ * application.ymlの kairos.monitoring.query-budget セクションから設定値を読み込む
+ * 1リクエストで発行されたSQL文の数が予算を超えた場合に警告ログを出力する
+ * 
+ * 設定例:
+ * kairos:
+ *   monitoring:
+ *     query-budget:
+ *       enabled: true
+ *       default-max-statements: 20
+ *       endpoints:
+ *         "[/api/reports/**]": 10
+ */
+@ConfigurationProperties(prefix = "kairos.monitoring.query-budget")
+public record QueryBudgetProperties(
+    
+    /**
+     * 予算超過の警告の有効/無効
+     * 
+     * 発行数の計測とMDCへの設定は無効時も行う
+     */
+    boolean enabled,
+    
+    /**
+     * エンドポイント別の予算に該当しないリクエストのSQL発行数上限
+     * デフォルト値: 20
+     */
+    int defaultMaxStatements,
+    
+    /**
+     * エンドポイント別のSQL発行数上限
+     * 
+     * キーはAntスタイルのパスパターン。記述順に評価し、最初に一致したものを使用する
+     */
+    Map<String, Integer> endpoints
+    
+) {
+    
+    // 予算設定値の定数定義
+    private static final int DEFAULT_MAX_STATEMENTS = 20;
+    
+    public QueryBudgetProperties {
+        if (defaultMaxStatements <= 0) {
+            defaultMaxStatements = DEFAULT_MAX_STATEMENTS;
+        }
+        endpoints = endpoints == null ? Map.of() : new LinkedHashMap<>(endpoints);
+    }
+    
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     * 
+     * @return デフォルト設定のQueryBudgetPropertiesインスタンス
+     */
+    public static QueryBudgetProperties defaultSettings() {
+        return new QueryBudgetProperties(true, DEFAULT_MAX_STATEMENTS, Map.of());
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.okanikani.kairos.commons.config;
+
+import com.github.okanikani.kairos.commons.monitoring.QueryCountStatementInspector;
+import com.github.okanikani.kairos.commons.monitoring.QueryTimingSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL発行数・JDBC実行時間の計測設定クラス
+ * 
+ * Hibernateに計測用のStatementInspectorとセッションイベントリスナーを登録します。
+ * 計測値は {@link com.github.okanikani.kairos.commons.monitoring.QueryCountScope} に集計されます。
+ */
+@Configuration
+public class QueryMonitoringConfiguration {
+    
+    /**
+     * Hibernateプロパティのカスタマイズ
+     * 
+     * @return 計測フックを登録するカスタマイザー
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryMonitoringHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                QueryTimingSessionEventListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.okanikani.kairos.commons.config;
+
+import com.github.okanikani.kairos.commons.datasource.ReadWriteRoutingDataSource;
+import com.github.okanikani.kairos.commons.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 主データベースとレプリカの振り分け設定クラス
+ *
+ * kairos.datasource.replica.enabled=true の場合に、主データベース用（spring.datasource）と
+ * レプリカ用（kairos.datasource.replica）の2つのコネクションプールを作成し、
+ * readOnlyトランザクションをレプリカへ振り分けるデータソースをアプリケーションのデータソースとして登録します。
+ * 無効の場合はSpring Bootの自動設定による単一のデータソースを使用します。
+ */
+@Configuration
+@Profile("prod")
+@ConditionalOnProperty(prefix = "kairos.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfiguration {
+
+    /**
+     * 主データベース用のコネクションプール
+     *
+     * @param dataSourceProperties spring.datasource の設定
+     * @return 主データベース用のデータソース
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("kairos-primary");
+        return dataSource;
+    }
+
+    /**
+     * レプリカ用のコネクションプール
+     *
+     * @param properties レプリカの設定
+     * @param dataSourceProperties spring.datasource の設定（ドライバーの指定に使用）
+     * @return レプリカ用のデータソース
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "kairos.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties, DataSourceProperties dataSourceProperties) {
+        if (!StringUtils.hasText(properties.url())) {
+            throw new IllegalStateException("kairos.datasource.replica.urlは必須です");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(dataSourceProperties.determineDriverClassName())
+            .url(properties.url())
+            .username(properties.username())
+            .password(properties.password())
+            .build();
+        dataSource.setPoolName("kairos-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * レプリケーション遅延の監視
+     *
+     * @param replicaDataSource レプリカ用のデータソース
+     * @param properties レプリカの設定
+     * @return 起動時に1回確認済みの監視
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties properties) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), properties.maxLag());
+        monitor.check();
+        return monitor;
+    }
+
+    /**
+     * アプリケーションが使用するデータソース
+     *
+     * コネクションの取得を最初のSQL発行まで遅らせ、トランザクションのreadOnly設定に従って振り分けます。
+     *
+     * @param primaryDataSource 主データベース用のデータソース
+     * @param replicaDataSource レプリカ用のデータソース
+     * @param replicaLagMonitor レプリケーション遅延の監視
+     * @return 振り分けを行うデータソース
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        // 接続の既定値（autoCommit・分離レベル）は起動時にトランザクション外で取得するため主データベースの値になる
+        return new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 参照用レプリカデータソースの設定プロパティ
+ *
+ * application.ymlの kairos.datasource.replica セクションから設定値を読み込む
+ * 読み取り専用トランザクションをレプリカへ振り分け、主データベースは書き込みに専念させる
+ * コネクションプールの設定は kairos.datasource.replica.hikari に spring.datasource.hikari と同じ形式で指定する
+ *
+ * 設定例:
+ * kairos:
+ *   datasource:
+ *     replica:
+ *       enabled: true
+ *       url: jdbc:postgresql://replica:5432/kairos_db
+ *       username: kairos_reader
+ *       password: secret
+ *       max-lag: 5s
+ *       lag-check-interval: 5s
+ *       hikari:
+ *         maximum-pool-size: 20
+ */
+@ConfigurationProperties(prefix = "kairos.datasource.replica")
+public record ReplicaDataSourceProperties(
+
+    /**
+     * レプリカへの振り分けの有効/無効
+     *
+     * true: readOnlyトランザクションをレプリカ用のコネクションプールで実行する（prodプロファイルのみ）
+     * false: すべて主データベースで実行する（デフォルト）
+     */
+    boolean enabled,
+
+    /**
+     * レプリカのJDBC URL
+     */
+    String url,
+
+    /**
+     * レプリカの接続ユーザー名
+     */
+    String username,
+
+    /**
+     * レプリカの接続パスワード
+     */
+    String password,
+
+    /**
+     * 許容するレプリケーション遅延
+     *
+     * 遅延がこの値を超えた場合、またはレプリカに接続できない場合は
+     * readOnlyトランザクションも主データベースで実行する
+     * デフォルト値: 5秒
+     */
+    Duration maxLag,
+
+    /**
+     * レプリケーション遅延の確認間隔
+     *
+     * デフォルト値: 5秒
+     */
+    Duration lagCheckInterval
+
+) {
+
+    // レプリカ設定値の定数定義
+    private static final Duration DEFAULT_MAX_LAG = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_LAG_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    public ReplicaDataSourceProperties {
+        if (maxLag == null || maxLag.isNegative()) {
+            maxLag = DEFAULT_MAX_LAG;
+        }
+        if (lagCheckInterval == null || lagCheckInterval.isNegative() || lagCheckInterval.isZero()) {
+            lagCheckInterval = DEFAULT_LAG_CHECK_INTERVAL;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のReplicaDataSourcePropertiesインスタンス
+     */
+    public static ReplicaDataSourceProperties defaultSettings() {
+        return new ReplicaDataSourceProperties(false, null, null, null, DEFAULT_MAX_LAG, DEFAULT_LAG_CHECK_INTERVAL);
+    }
+}
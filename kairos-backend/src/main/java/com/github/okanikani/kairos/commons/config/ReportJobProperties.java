@@ -0,0 +1,114 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 勤怠表生成ジョブの設定プロパティ
+ *
+ * application.ymlの kairos.reports.jobs セクションから設定値を読み込む
+ * 位置情報からの勤怠表生成をリクエストスレッドから切り離して実行するワーカーと、
+ * 取り残されたジョブを再投入・掃除する定期スイープの動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   reports:
+ *     jobs:
+ *       worker-threads: 2
+ *       queue-capacity: 100
+ *       sweep-interval: 30s
+ *       stale-after: 10m
+ *       retention: 7d
+ *       sweep-batch-size: 50
+ */
+@ConfigurationProperties(prefix = "kairos.reports.jobs")
+public record ReportJobProperties(
+
+    /**
+     * 勤怠表生成を実行するワーカースレッド数
+     *
+     * 生成処理はデータベース接続を占有するため、コネクションプールより小さく保つ
+     * デフォルト値: 2
+     */
+    int workerThreads,
+
+    /**
+     * 実行待ちキューの上限
+     *
+     * 上限を超えたジョブは受付状態のまま保存され、定期スイープで再投入される
+     * デフォルト値: 100
+     */
+    int queueCapacity,
+
+    /**
+     * 定期スイープの実行間隔
+     *
+     * デフォルト値: 30秒
+     */
+    Duration sweepInterval,
+
+    /**
+     * 実行中のまま放置されたジョブを受付状態に戻すまでの時間
+     *
+     * 実行中のインスタンスが停止した場合に、この時間を過ぎたジョブを再実行する
+     * デフォルト値: 10分
+     */
+    Duration staleAfter,
+
+    /**
+     * 終了したジョブを保持する期間
+     *
+     * デフォルト値: 7日
+     */
+    Duration retention,
+
+    /**
+     * 定期スイープで一度に再投入するジョブの最大件数
+     *
+     * デフォルト値: 50件
+     */
+    int sweepBatchSize
+
+) {
+
+    // ジョブ設定値の定数定義
+    private static final int DEFAULT_WORKER_THREADS = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 100;
+    private static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_STALE_AFTER = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(7);
+    private static final int DEFAULT_SWEEP_BATCH_SIZE = 50;
+
+    public ReportJobProperties {
+        if (workerThreads <= 0) {
+            workerThreads = DEFAULT_WORKER_THREADS;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        }
+        if (sweepInterval == null || sweepInterval.isNegative() || sweepInterval.isZero()) {
+            sweepInterval = DEFAULT_SWEEP_INTERVAL;
+        }
+        if (staleAfter == null || staleAfter.isNegative() || staleAfter.isZero()) {
+            staleAfter = DEFAULT_STALE_AFTER;
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            retention = DEFAULT_RETENTION;
+        }
+        if (sweepBatchSize <= 0) {
+            sweepBatchSize = DEFAULT_SWEEP_BATCH_SIZE;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のReportJobPropertiesインスタンス
+     */
+    public static ReportJobProperties defaultSettings() {
+        return new ReportJobProperties(DEFAULT_WORKER_THREADS, DEFAULT_QUEUE_CAPACITY, DEFAULT_SWEEP_INTERVAL,
+            DEFAULT_STALE_AFTER, DEFAULT_RETENTION, DEFAULT_SWEEP_BATCH_SIZE);
+    }
+}
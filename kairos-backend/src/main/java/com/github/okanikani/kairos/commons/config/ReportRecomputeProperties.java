@@ -0,0 +1,123 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 勤怠表の再計算の設定プロパティ
+ *
+ * application.ymlの kairos.reports.recompute セクションから設定値を読み込む
+ * 位置情報・勤怠ルールの変更イベントを一定間隔で取得し、影響を受けた未提出の勤怠表を作り直す処理の動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   reports:
+ *     recompute:
+ *       enabled: true
+ *       poll-interval: 5s
+ *       batch-size: 200
+ *       parallelism: 2
+ *       stale-after: 10m
+ *       max-attempts: 5
+ *       lookback-months: 12
+ */
+@ConfigurationProperties(prefix = "kairos.reports.recompute")
+public record ReportRecomputeProperties(
+
+    /**
+     * 再計算を有効にするか
+     *
+     * 無効の場合も変更イベントは記録され、有効にした時点で溜まった分が処理される
+     */
+    boolean enabled,
+
+    /**
+     * 変更イベントを取得する間隔
+     *
+     * デフォルト値: 5秒
+     */
+    Duration pollInterval,
+
+    /**
+     * 1回に取得する変更イベントの最大件数
+     *
+     * 同じユーザー・同じ勤怠年月の変更イベントは1回の再計算にまとめる
+     * デフォルト値: 200件
+     */
+    int batchSize,
+
+    /**
+     * 同時に再計算する勤怠表の数
+     *
+     * 再計算はデータベース接続を占有するため、コネクションプールより小さく保つ
+     * デフォルト値: 2
+     */
+    int parallelism,
+
+    /**
+     * 処理中のまま放置された変更イベントを取得し直すまでの時間
+     *
+     * 処理中のインスタンスが停止した場合に、この時間を過ぎたイベントを他のインスタンスで処理する
+     * デフォルト値: 10分
+     */
+    Duration staleAfter,
+
+    /**
+     * 変更イベントの処理を試みる最大回数
+     *
+     * この回数失敗したイベントは破棄する（利用者が勤怠表を生成し直せば最新になる）
+     * デフォルト値: 5回
+     */
+    int maxAttempts,
+
+    /**
+     * 再計算の対象とする過去の勤怠年月の範囲（現在の勤怠年月から遡る月数）
+     *
+     * 長い所属期間の勤怠ルールの変更で古い勤怠表まで作り直さないよう制限する
+     * デフォルト値: 12ヶ月
+     */
+    int lookbackMonths
+
+) {
+
+    // 再計算設定値の定数定義
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final int DEFAULT_PARALLELISM = 2;
+    private static final Duration DEFAULT_STALE_AFTER = Duration.ofMinutes(10);
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final int DEFAULT_LOOKBACK_MONTHS = 12;
+
+    public ReportRecomputeProperties {
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            pollInterval = DEFAULT_POLL_INTERVAL;
+        }
+        if (batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (parallelism <= 0) {
+            parallelism = DEFAULT_PARALLELISM;
+        }
+        if (staleAfter == null || staleAfter.isNegative() || staleAfter.isZero()) {
+            staleAfter = DEFAULT_STALE_AFTER;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        }
+        if (lookbackMonths < 0) {
+            lookbackMonths = DEFAULT_LOOKBACK_MONTHS;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のReportRecomputePropertiesインスタンス
+     */
+    public static ReportRecomputeProperties defaultSettings() {
+        return new ReportRecomputeProperties(true, DEFAULT_POLL_INTERVAL, DEFAULT_BATCH_SIZE, DEFAULT_PARALLELISM,
+            DEFAULT_STALE_AFTER, DEFAULT_MAX_ATTEMPTS, DEFAULT_LOOKBACK_MONTHS);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 勤怠ルールキャッシュの設定プロパティ
+ *
+ * application.ymlの kairos.rules.cache セクションから設定値を読み込む
+ * 勤怠表生成のたびに参照される勤怠ルール・デフォルト勤怠ルール・勤怠作成ルールを
+ * ユーザー単位でアプリケーション内にキャッシュする動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   rules:
+ *     cache:
+ *       enabled: true
+ *       max-users: 10000
+ *       ttl: 10m
+ */
+@ConfigurationProperties(prefix = "kairos.rules.cache")
+public record RuleCacheProperties(
+
+    /**
+     * キャッシュの有効/無効
+     *
+     * true: ルールリポジトリをキャッシュ付きの実装で包む
+     * false: 毎回リポジトリから読み込む（デフォルト）
+     */
+    boolean enabled,
+
+    /**
+     * キャッシュに保持するユーザー数の上限
+     *
+     * 上限を超えた場合は最も長く参照されていないユーザーから追い出す
+     * デフォルト値: 10000ユーザー
+     */
+    int maxUsers,
+
+    /**
+     * エントリの有効期限
+     *
+     * 書き込みは同一インスタンス内で即時に無効化されるが、
+     * 他インスタンスやSQLでの直接更新はこの期限内で反映される
+     * デフォルト値: 10分
+     */
+    Duration ttl
+
+) {
+
+    // キャッシュ設定値の定数定義
+    private static final int DEFAULT_MAX_USERS = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    public RuleCacheProperties {
+        if (maxUsers <= 0) {
+            maxUsers = DEFAULT_MAX_USERS;
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = DEFAULT_TTL;
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のRuleCachePropertiesインスタンス
+     */
+    public static RuleCacheProperties defaultSettings() {
+        return new RuleCacheProperties(false, DEFAULT_MAX_USERS, DEFAULT_TTL);
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行処理の設定クラス
+ * 
+ * {@link org.springframework.scheduling.annotation.Scheduled} を付与したメソッドを有効にします。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,59 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * ユーザー一括登録の設定プロパティ
+ *
+ * application.ymlの kairos.users.onboarding セクションから設定値を読み込む
+ * パスワードのハッシュ計算（BCrypt）はCPUを占有するため、専用のスレッドプールで並列に計算する
+ *
+ * 設定例:
+ * kairos:
+ *   users:
+ *     onboarding:
+ *       max-rows: 5000
+ *       hashing-threads: 0
+ */
+@ConfigurationProperties(prefix = "kairos.users.onboarding")
+public record UserOnboardingProperties(
+
+    /**
+     * 1回の一括登録で受け付ける最大行数
+     *
+     * デフォルト値: 5000
+     */
+    int maxRows,
+
+    /**
+     * パスワードのハッシュ計算に使うスレッド数
+     *
+     * 0以下の場合はCPUコア数を使用する
+     * 一括登録が同時に複数実行されても、ハッシュ計算の並列数はこの値を超えない
+     */
+    int hashingThreads
+
+) {
+
+    // ユーザー一括登録の設定値の定数定義
+    private static final int DEFAULT_MAX_ROWS = 5_000;
+
+    public UserOnboardingProperties {
+        if (maxRows <= 0) {
+            maxRows = DEFAULT_MAX_ROWS;
+        }
+        if (hashingThreads <= 0) {
+            hashingThreads = Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のUserOnboardingPropertiesインスタンス
+     */
+    public static UserOnboardingProperties defaultSettings() {
+        return new UserOnboardingProperties(DEFAULT_MAX_ROWS, 0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.okanikani.kairos.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 勤務セッションの設定プロパティ
+ *
+ * application.ymlの kairos.location.sessions セクションから設定値を読み込む
+ * 位置情報の登録時に勤務セッションを維持し、勤怠表生成時に位置情報の代わりに
+ * 勤務セッションを読み込む動作を制御する
+ *
+ * 設定例:
+ * kairos:
+ *   location:
+ *     sessions:
+ *       enabled: true
+ */
+@ConfigurationProperties(prefix = "kairos.location.sessions")
+public record WorkSessionProperties(
+
+    /**
+     * 勤務セッションの有効/無効
+     *
+     * true: 位置情報の登録・更新・削除時に勤務セッションを更新し、勤怠表は勤務セッションから生成する
+     * false: 勤怠表生成のたびに期間内の全位置情報からグループ化する（デフォルト）
+     *
+     * 既存環境で有効化する前に db/migrations/004_work_sessions.sql で勤務セッションを作成しておくこと
+     */
+    boolean enabled
+
+) {
+
+    /**
+     * デフォルト設定でのインスタンス生成
+     * テスト用途や設定が存在しない場合の fallback として使用
+     *
+     * @return デフォルト設定のWorkSessionPropertiesインスタンス
+     */
+    public static WorkSessionProperties defaultSettings() {
+        return new WorkSessionProperties(false);
+    }
+}
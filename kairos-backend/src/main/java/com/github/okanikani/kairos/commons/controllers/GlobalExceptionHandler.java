@@ -5,6 +5,7 @@ import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
 import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
 import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.exceptions.TooManyRequestsException;
 import com.github.okanikani.kairos.commons.exceptions.ValidationException;
 import com.github.okanikani.kairos.commons.monitoring.ErrorMetricsService;
 import io.jsonwebtoken.JwtException;
@@ -14,7 +15,9 @@ import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -49,6 +52,7 @@ public class GlobalExceptionHandler {
         this.errorMetricsService = null; // テスト環境では無効化
     }
     
+    @Autowired(required = false)
     public GlobalExceptionHandler(ErrorMetricsService errorMetricsService) {
         this.errorMetricsService = errorMetricsService;
     }
@@ -184,6 +188,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
     }
     
+    /**
+     * 試行回数超過例外のハンドリング
+     * 
+     * 短時間に同じ操作が繰り返された場合の例外です。再試行できるまでの秒数をRetry-Afterで返します。
+     * 
+     * @param ex TooManyRequestsException
+     * @return 429 Too Many Requests レスポンス
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest request) {
+        String errorCode = "TOO_MANY_REQUESTS";
+        
+        // エラーメトリクス記録（本番環境のみ）
+        if (errorMetricsService != null) {
+            errorMetricsService.recordError(errorCode, request.getRequestURI(), HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+        
+        ErrorResponse errorResponse = ErrorResponse.of(errorCode, ex.getMessage());
+        
+        // 秒未満は切り上げ（Retry-Afterは秒単位の整数）
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(errorResponse);
+    }
+    
     /**
      * カスタムバリデーション例外のハンドリング
      * 
@@ -0,0 +1,49 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 主データベースとレプリカを振り分けるデータソース
+ *
+ * 現在のトランザクションがreadOnlyで、レプリカの遅延が許容値以内の場合はレプリカのプールから、
+ * それ以外（書き込み・トランザクション外・遅延超過）は主データベースのプールからコネクションを取得する。
+ *
+ * トランザクション開始時点ではreadOnlyの設定がまだ反映されていないため、
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} で包み、
+ * 最初のSQL発行時に振り分けを決める前提で使用する。
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 振り分け先
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        Objects.requireNonNull(primary, "primaryは必須です");
+        Objects.requireNonNull(replica, "replicaは必須です");
+        this.replicaLagMonitor = Objects.requireNonNull(replicaLagMonitor, "replicaLagMonitorは必須です");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * レプリカのレプリケーション遅延の監視
+ *
+ * 定期的にレプリカへ遅延を問い合わせ、許容値以内かどうかを保持する。
+ * 許容値を超えた場合やレプリカに接続できない場合、{@link ReadWriteRoutingDataSource} は
+ * readOnlyトランザクションも主データベースへ振り分ける。
+ *
+ * 受信済みのWALをすべて適用済みであれば遅延は0とみなす。
+ * 主データベースに更新が無い間に最終適用時刻との差だけが伸びて、レプリカを外してしまわないようにするため。
+ * ただしWALの受信が止まっている間は受信済みのWALが増えないため、最終適用時刻からの経過時間を遅延とする。
+ * 受信プロセスの状態（pg_stat_wal_receiver.status）は権限の無いユーザーには見えないため、
+ * 受信プロセスが存在すれば受信中とみなす。
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE COALESCE(status, 'streaming') = 'streaming')
+                THEN EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+        END""";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    // 初回の確認までは起動時の確認結果を使う
+    private volatile boolean replicaAvailable;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+        this.replicaJdbcTemplate = Objects.requireNonNull(replicaJdbcTemplate, "replicaJdbcTemplateは必須です");
+        this.maxLag = Objects.requireNonNull(maxLag, "maxLagは必須です");
+    }
+
+    /**
+     * @return レプリカへ振り分けてよい場合true
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * レプリケーション遅延を確認して振り分け可否を更新する
+     *
+     * @return 更新後の振り分け可否
+     */
+    @Scheduled(fixedDelayString = "${kairos.datasource.replica.lag-check-interval:5s}",
+        initialDelayString = "${kairos.datasource.replica.lag-check-interval:5s}")
+    public boolean check() {
+        boolean available;
+        try {
+            Number lagMillis = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            if (lagMillis == null) {
+                // WALの受信が止まったまま一度も適用していない。遅延を判断できないため振り分けない
+                available = false;
+                if (replicaAvailable) {
+                    logger.warn("レプリカがWALを受信していないため、参照を主データベースに切り替えます");
+                }
+            } else {
+                long lag = lagMillis.longValue();
+                available = lag <= maxLag.toMillis();
+                if (!available && replicaAvailable) {
+                    logger.warn("レプリカの遅延が許容値を超えたため、参照を主データベースに切り替えます [lagMs={}, maxLagMs={}]",
+                        lag, maxLag.toMillis());
+                }
+            }
+        } catch (DataAccessException e) {
+            available = false;
+            if (replicaAvailable) {
+                logger.warn("レプリカに接続できないため、参照を主データベースに切り替えます", e);
+            }
+        }
+        if (available && !replicaAvailable) {
+            logger.info("参照をレプリカで実行します");
+        }
+        replicaAvailable = available;
+        return available;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 書き込みトランザクション内の参照をレプリカで実行するテンプレート
+ *
+ * 勤怠表生成のように、保存まで含めて書き込みトランザクション（アドバイザリロック）で
+ * 直列化している処理のうち、件数の多い位置情報の取得だけをレプリカへ逃がすために使用する。
+ *
+ * レプリカへの振り分けが有効かつ遅延が許容値以内の場合のみ、別のreadOnlyトランザクション
+ * （REQUIRES_NEW）で実行する。それ以外は呼び出し元のトランザクション内でそのまま実行し、
+ * 主データベースのコネクションを余分に取得しない。
+ *
+ * 変更直後の再計算のように、許容値以内の遅延でも古いデータを読むと困る処理は
+ * {@link #onPrimary(Supplier)} で包み、その間の参照を主データベースで実行する。
+ */
+@Component
+public class ReplicaReadTemplate {
+
+    // onPrimaryの実行中のスレッド
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ReplicaReadTemplate(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                               ObjectProvider<PlatformTransactionManager> transactionManager) {
+        Objects.requireNonNull(replicaLagMonitor, "replicaLagMonitorは必須です");
+        Objects.requireNonNull(transactionManager, "transactionManagerは必須です");
+        this.replicaLagMonitor = replicaLagMonitor.getIfAvailable();
+        PlatformTransactionManager manager = transactionManager.getIfAvailable();
+        if (this.replicaLagMonitor == null || manager == null) {
+            this.readOnlyTransactionTemplate = null;
+            return;
+        }
+        this.readOnlyTransactionTemplate = new TransactionTemplate(manager);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 参照処理を実行する
+     *
+     * @param query 参照処理
+     * @param <T> 結果の型
+     * @return 参照処理の結果
+     */
+    public <T> T read(Supplier<T> query) {
+        Objects.requireNonNull(query, "queryは必須です");
+        if (readOnlyTransactionTemplate == null || PRIMARY_ONLY.get() != null || !replicaLagMonitor.isReplicaAvailable()) {
+            return query.get();
+        }
+        return readOnlyTransactionTemplate.execute(status -> query.get());
+    }
+
+    /**
+     * 処理中の参照をレプリカへ振り分けずに主データベースで実行する
+     *
+     * @param action 処理
+     * @param <T> 結果の型
+     * @return 処理の結果
+     */
+    public <T> T onPrimary(Supplier<T> action) {
+        Objects.requireNonNull(action, "actionは必須です");
+        if (PRIMARY_ONLY.get() != null) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.okanikani.kairos.commons.exceptions;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 試行回数超過例外
+ * 
+ * 短時間に同じ操作が繰り返され、一定時間受け付けない場合に発生します。
+ * HTTPステータス 429 Too Many Requests として処理され、再試行できるまでの時間を Retry-After で返します。
+ * 
+ * 使用例:
+ * - 同一ユーザーID・同一接続元からのログイン試行の回数超過
+ */
+public class TooManyRequestsException extends KairosException {
+    
+    private static final long serialVersionUID = 6182735049127365840L;
+    
+    private final Duration retryAfter;
+    
+    /**
+     * メッセージと再試行できるまでの時間を指定してTooManyRequestsExceptionを生成します。
+     * 
+     * @param message エラーメッセージ
+     * @param retryAfter 再試行できるまでの時間
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = Objects.requireNonNull(retryAfter, "retryAfterは必須です");
+    }
+    
+    /**
+     * 再試行できるまでの時間を取得します。
+     * 
+     * @return 再試行できるまでの時間
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
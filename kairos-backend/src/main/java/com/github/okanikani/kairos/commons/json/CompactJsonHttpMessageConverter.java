@@ -0,0 +1,135 @@
+package com.github.okanikani.kairos.commons.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.commons.dto.ErrorResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * コンパクト形式（application/vnd.kairos.compact+json）のレスポンス出力
+ *
+ * 自社クライアントが Accept ヘッダーでこの形式を明示した場合のみ使用される
+ * （Accept が未指定・application/json・全形式を許可する指定の場合は従来どおりのJSONになる）。
+ * {@link CompactJsonWriter} が登録されたDTOはフィールド名を持たない配列として、そのDTOのコレクションは
+ * 配列の配列として、ObjectMapperのリフレクションを介さずにストリーミングで書き出す。
+ *
+ * エラー時に Accept が合わずに406とならないよう、{@link ErrorResponse} は通常のJSONとして出力する。
+ */
+public class CompactJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String COMPACT_JSON_VALUE = "application/vnd.kairos.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.valueOf(COMPACT_JSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, CompactJsonWriter<?>> writers = new HashMap<>();
+
+    public CompactJsonHttpMessageConverter(ObjectMapper objectMapper, List<CompactJsonWriter<?>> writers) {
+        super(COMPACT_JSON);
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapperは必須です");
+        Objects.requireNonNull(writers, "writersは必須です");
+        for (CompactJsonWriter<?> writer : writers) {
+            this.writers.put(writer.type(), writer);
+        }
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return writers.containsKey(clazz) || ErrorResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, @NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        // Accept から出力形式を決める段階（mediaTypeがnull）では候補に加えない。
+        // 加えると Accept: */* のリクエストにもコンパクト形式を返してしまうため。
+        // Accept でこの形式が明示された場合は application/*+json の候補から選ばれ、通常のJSONより前に登録したこのクラスで出力する
+        if (mediaType == null || !canWrite(mediaType)) {
+            return false;
+        }
+        if (supports(clazz)) {
+            return true;
+        }
+        // List<LocationResponse> のような、登録済みDTOのコレクション
+        return Collection.class.isAssignableFrom(clazz) && elementWriter(type) != null;
+    }
+
+    @Override
+    public boolean canRead(@NonNull Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(@Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object value, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException {
+        // 出力先のストリームはコンテナが閉じるため、ジェネレーターを閉じても閉じないようにする
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            if (value instanceof Collection<?> elements) {
+                CompactJsonWriter<?> writer = elementWriter(type);
+                generator.writeStartArray(elements, elements.size());
+                for (Object element : elements) {
+                    CompactJsonWriter<?> elementWriter = writer != null || element == null ? writer : writers.get(element.getClass());
+                    writeValue(elementWriter, element, generator);
+                }
+                generator.writeEndArray();
+            } else {
+                CompactJsonWriter<?> writer = writers.get(value.getClass());
+                if (writer != null) {
+                    writeValue(writer, value, generator);
+                } else {
+                    objectMapper.writeValue(generator, value);
+                }
+            }
+            generator.flush();
+        }
+    }
+
+    @Override
+    public Object read(@NonNull Type type, @Nullable Class<?> contextClass, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("コンパクト形式のリクエストは受け付けていません", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(@NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("コンパクト形式のリクエストは受け付けていません", inputMessage);
+    }
+
+    @Nullable
+    private CompactJsonWriter<?> elementWriter(@Nullable Type type) {
+        if (type == null) {
+            return null;
+        }
+        Class<?> elementType = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        return elementType == null ? null : writers.get(elementType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeValue(CompactJsonWriter<T> writer, Object value, JsonGenerator generator) throws IOException {
+        if (value == null || writer == null) {
+            generator.writeNull();
+            return;
+        }
+        writer.write((T) value, generator);
+    }
+}
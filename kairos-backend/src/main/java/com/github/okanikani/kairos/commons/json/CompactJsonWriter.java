@@ -0,0 +1,34 @@
+package com.github.okanikani.kairos.commons.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * レスポンスDTOのコンパクト形式（配列の配列）での出力
+ *
+ * フィールド名を出力せず、値を決められた順の配列として書き出す。
+ * 配列内の並びはクライアントとの取り決めのため、変更する場合は末尾への追加のみとする。
+ *
+ * 実装クラスをSpringのBeanとして登録すると {@link CompactJsonHttpMessageConverter} が使用する。
+ *
+ * @param <T> 出力対象のDTOの型
+ */
+public interface CompactJsonWriter<T> {
+
+    /**
+     * 出力対象のDTOの型
+     *
+     * @return DTOの型
+     */
+    Class<T> type();
+
+    /**
+     * DTOを1つのJSON配列として書き出す
+     *
+     * @param value 出力対象
+     * @param generator 出力先
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void write(T value, JsonGenerator generator) throws IOException;
+}
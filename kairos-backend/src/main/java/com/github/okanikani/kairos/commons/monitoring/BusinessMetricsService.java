@@ -0,0 +1,80 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * 業務メトリクス記録サービス
+ * 
+ * 位置情報の取り込み件数、生成した勤怠表の規模など
+ * 処理量に関するメトリクスをMicrometerに記録します。
+ * 勤務ルール解決のキャッシュ効率は勤務ルールのキャッシュ（kairos.cache.gets）で計測します。
+ */
+@Service
+public class BusinessMetricsService {
+    
+    // メトリクス名定数
+    static final String LOCATIONS_INGESTED = "kairos.locations.ingested";
+    static final String LOCATIONS_DUPLICATED = "kairos.locations.duplicated";
+    static final String REPORT_WORK_DAYS = "kairos.reports.generated.work.days";
+    static final String REPORT_GENERATION_COALESCED = "kairos.reports.generation.coalesced";
+    
+    private final Counter locationsIngested;
+    private final Counter locationsDuplicated;
+    private final DistributionSummary reportWorkDays;
+    private final Counter reportGenerationCoalesced;
+    
+    public BusinessMetricsService(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+        
+        this.locationsIngested = Counter.builder(LOCATIONS_INGESTED)
+            .description("取り込んだ位置情報の件数")
+            .register(meterRegistry);
+        this.locationsDuplicated = Counter.builder(LOCATIONS_DUPLICATED)
+            .description("同一ユーザー・同一記録日時のため登録しなかった位置情報の件数")
+            .register(meterRegistry);
+        this.reportWorkDays = DistributionSummary.builder(REPORT_WORK_DAYS)
+            .description("生成した勤怠表1件あたりの勤務日数")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.reportGenerationCoalesced = Counter.builder(REPORT_GENERATION_COALESCED)
+            .description("同一ユーザー・同一年月の生成中の勤怠表の結果を共有した回数")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 位置情報の取り込みを記録
+     * 
+     * @param count 取り込んだ件数
+     */
+    public void recordLocationsIngested(int count) {
+        locationsIngested.increment(count);
+    }
+    
+    /**
+     * 重複により登録しなかった位置情報を記録
+     */
+    public void recordDuplicateLocation() {
+        locationsDuplicated.increment();
+    }
+    
+    /**
+     * 勤怠表の生成を記録
+     * 
+     * @param workDays 生成した勤怠表の勤務日数
+     */
+    public void recordReportGenerated(int workDays) {
+        reportWorkDays.record(workDays);
+    }
+    
+    /**
+     * 生成中の勤怠表の結果を共有したことを記録
+     */
+    public void recordReportGenerationCoalesced() {
+        reportGenerationCoalesced.increment();
+    }
+}
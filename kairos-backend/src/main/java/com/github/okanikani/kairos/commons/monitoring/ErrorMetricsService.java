@@ -1,60 +1,61 @@
 package com.github.okanikani.kairos.commons.monitoring;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Objects;
 
 /**
  * エラーメトリクス追跡サービス
  * 
- * アプリケーション内で発生するエラーの統計情報を収集・追跡します。
- * 本番環境でのエラー監視とデバッグ支援を目的とします。
+ * アプリケーション内で発生するエラーの統計情報をMicrometerのカウンターとして記録します。
+ * 記録した値は /actuator/prometheus から収集でき、本番環境でのエラー監視に使用します。
  */
 @Service
 public class ErrorMetricsService {
     
     private static final Logger logger = LoggerFactory.getLogger(ErrorMetricsService.class);
     
+    // メトリクス名・タグ名定数
+    static final String ERROR_METRIC_NAME = "kairos.errors";
+    static final String TAG_ERROR_CODE = "error.code";
+    static final String TAG_STATUS = "status";
+    
     // HTTPステータスコード定数
     private static final int INTERNAL_SERVER_ERROR_THRESHOLD = 500;
-    private static final int METRICS_LOG_INTERVAL = 100;
     
-    // エラーコード別カウンター
-    private final Map<String, AtomicLong> errorCounts = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
     
-    // エラーパス別カウンター
-    private final Map<String, AtomicLong> errorPathCounts = new ConcurrentHashMap<>();
+    public ErrorMetricsService(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+    }
     
     /**
      * エラー発生を記録
      * 
+     * リクエストパスはIDを含み系列数が際限なく増えるため、タグには含めずログ出力のみに使用します。
+     * パス別の集計はSpring Boot標準の http.server.requests（URIテンプレート単位）を参照してください。
+     * 
      * @param errorCode エラーコード
      * @param requestPath リクエストパス
      * @param httpStatus HTTPステータスコード
      */
     public void recordError(String errorCode, String requestPath, int httpStatus) {
-        // エラーコード別カウント
-        errorCounts.computeIfAbsent(errorCode, k -> new AtomicLong(0)).incrementAndGet();
-        
-        // エラーパス別カウント
-        String pathKey = String.format("%s:%d", requestPath, httpStatus);
-        errorPathCounts.computeIfAbsent(pathKey, k -> new AtomicLong(0)).incrementAndGet();
+        Counter.builder(ERROR_METRIC_NAME)
+            .description("エラーコード・HTTPステータス別のエラー発生回数")
+            .tag(TAG_ERROR_CODE, errorCode)
+            .tag(TAG_STATUS, String.valueOf(httpStatus))
+            .register(meterRegistry)
+            .increment();
         
         // 重要度が高いエラーの場合は追加ログ出力
         if (httpStatus >= INTERNAL_SERVER_ERROR_THRESHOLD) {
             logger.error("重要エラー発生 [errorCode={}, requestPath={}, httpStatus={}]", 
                 errorCode, requestPath, httpStatus);
         }
-        
-        // メトリクス定期出力（100回ごと）
-        long totalErrors = errorCounts.values().stream().mapToLong(AtomicLong::get).sum();
-        if (totalErrors % METRICS_LOG_INTERVAL == 0) {
-            logMetricsSummary();
-        }
     }
     
     /**
@@ -62,26 +63,31 @@ public class ErrorMetricsService {
      */
     public void logMetricsSummary() {
         logger.info("エラーメトリクス概要:");
-        logger.info("- エラーコード別: {}", errorCounts);
-        logger.info("- パス別エラー: {}", errorPathCounts);
+        for (Counter counter : meterRegistry.find(ERROR_METRIC_NAME).counters()) {
+            logger.info("- errorCode={}, status={}: {}", 
+                counter.getId().getTag(TAG_ERROR_CODE), counter.getId().getTag(TAG_STATUS), (long) counter.count());
+        }
     }
     
     /**
      * 特定のエラーコードの発生回数を取得
      * 
      * @param errorCode エラーコード
-     * @return 発生回数
+     * @return 発生回数（全HTTPステータスの合計）
      */
     public long getErrorCount(String errorCode) {
-        return errorCounts.getOrDefault(errorCode, new AtomicLong(0)).get();
+        return (long) meterRegistry.find(ERROR_METRIC_NAME)
+            .tag(TAG_ERROR_CODE, errorCode)
+            .counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
     }
     
     /**
      * エラーメトリクスをリセット（主にテスト用）
      */
     public void resetMetrics() {
-        errorCounts.clear();
-        errorPathCounts.clear();
+        meterRegistry.find(ERROR_METRIC_NAME).meters().forEach(meterRegistry::remove);
         logger.info("エラーメトリクスをリセットしました");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 勤怠計算用の位置情報取得のJFRイベント
+ * 
+ * 勤怠表生成時の位置情報取得1回につき1件記録し、
+ * リポジトリからの取得・作業場所フィルタリング・ソートの所要時間と件数を保持します。
+ */
+@Name("kairos.LocationFetch")
+@Label("Location Fetch")
+@Category({"Kairos", "Reports"})
+@Description("勤怠計算用の位置情報取得（フェーズ別所要時間）")
+@StackTrace(false)
+public class LocationFetchEvent extends Event {
+    
+    @Label("User ID")
+    private String userId;
+    
+    @Label("Fetched Points")
+    @Description("リポジトリから取得した位置情報の件数")
+    private int fetchedCount;
+    
+    @Label("Filtered Points")
+    @Description("作業場所フィルタリング後の位置情報の件数")
+    private int filteredCount;
+    
+    @Label("Geofence Filtering")
+    @Description("作業場所フィルタリングを実行したかどうか")
+    private boolean geofenceFiltered;
+    
+    @Label("Repository Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long repositoryDuration;
+    
+    @Label("Filter Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long filterDuration;
+    
+    @Label("Sort Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long sortDuration;
+    
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+    
+    public void setFetchedCount(int fetchedCount) {
+        this.fetchedCount = fetchedCount;
+    }
+    
+    public void setFilteredCount(int filteredCount) {
+        this.filteredCount = filteredCount;
+    }
+    
+    public void setGeofenceFiltered(boolean geofenceFiltered) {
+        this.geofenceFiltered = geofenceFiltered;
+    }
+    
+    public void setRepositoryDuration(long repositoryDuration) {
+        this.repositoryDuration = repositoryDuration;
+    }
+    
+    public void setFilterDuration(long filterDuration) {
+        this.filterDuration = filterDuration;
+    }
+    
+    public void setSortDuration(long sortDuration) {
+        this.sortDuration = sortDuration;
+    }
+}
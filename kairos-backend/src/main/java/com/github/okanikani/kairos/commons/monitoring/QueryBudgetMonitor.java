@@ -0,0 +1,70 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import com.github.okanikani.kairos.commons.config.QueryBudgetProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * リクエスト単位のSQL発行数予算の監視
+ * 
+ * 1リクエストで発行されたSQL文の数をエンドポイント別の予算と比較し、
+ * 超過した場合はN+1問題などの兆候として警告ログを出力します。
+ */
+@Component
+public class QueryBudgetMonitor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetMonitor.class);
+    
+    private final QueryBudgetProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    
+    public QueryBudgetMonitor(QueryBudgetProperties properties) {
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+    }
+    
+    /**
+     * 指定パスに適用されるSQL発行数の上限を取得
+     * 
+     * @param requestPath リクエストパス
+     * @return SQL発行数の上限
+     */
+    public int budgetFor(String requestPath) {
+        Objects.requireNonNull(requestPath, "requestPathは必須です");
+        for (Map.Entry<String, Integer> entry : properties.endpoints().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), requestPath)) {
+                return entry.getValue();
+            }
+        }
+        return properties.defaultMaxStatements();
+    }
+    
+    /**
+     * リクエストのSQL発行数を予算と比較し、超過時は警告ログを出力
+     * 
+     * @param httpMethod HTTPメソッド
+     * @param requestPath リクエストパス
+     * @param statementCount SQL発行数
+     * @param jdbcTime JDBC実行時間
+     * @return 予算を超過した場合true
+     */
+    public boolean check(String httpMethod, String requestPath, int statementCount, Duration jdbcTime) {
+        if (!properties.enabled()) {
+            return false;
+        }
+        int budget = budgetFor(requestPath);
+        if (statementCount <= budget) {
+            return false;
+        }
+        if (logger.isWarnEnabled()) {
+            logger.warn("SQL発行数が予算を超過しました [method={}, path={}, queryCount={}, budget={}, jdbcTimeMs={}]",
+                httpMethod, requestPath, statementCount, budget, jdbcTime.toMillis());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import java.time.Duration;
+
+/**
+ * スレッド単位のSQL実行数・JDBC実行時間の計測スコープ
+ * 
+ * HTTPリクエスト（またはテスト）の処理中に発行されたSQL文の数とJDBC実行時間、
+ * コネクションプールからのコネクション取得回数を集計します。
+ * Hibernateのフック（{@link QueryCountStatementInspector}、{@link QueryTimingSessionEventListener}）が
+ * 現在のスレッドで開かれているスコープに加算します。
+ * 
+ * 既にスコープが開かれているスレッドで {@link #open()} した場合は既存の集計に合流するため、
+ * 統合テストでリクエスト処理を包むと、フィルターが開くスコープと同じ値を参照できます。
+ * 
+ * 使用例（統合テスト）:
+ * <pre>
+ * try (QueryCountScope scope = QueryCountScope.open()) {
+ *     mockMvc.perform(get("/api/reports/2024/1"));
+ *     assertThat(scope.statementCount()).isEqualTo(2);
+ * }
+ * </pre>
+ */
+public final class QueryCountScope implements AutoCloseable {
+    
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+    
+    private final Counter counter;
+    private final boolean owner;
+    
+    private QueryCountScope(Counter counter, boolean owner) {
+        this.counter = counter;
+        this.owner = owner;
+    }
+    
+    /**
+     * 計測スコープを開く（既存スコープがある場合は合流する）
+     * 
+     * @return 計測スコープ
+     */
+    public static QueryCountScope open() {
+        Counter existing = CURRENT.get();
+        if (existing != null) {
+            return new QueryCountScope(existing, false);
+        }
+        Counter counter = new Counter();
+        CURRENT.set(counter);
+        return new QueryCountScope(counter, true);
+    }
+    
+    /**
+     * 現在のスレッドのスコープにSQL文の発行を1件加算する（スコープがなければ何もしない）
+     */
+    static void recordStatement() {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements++;
+        }
+    }
+    
+    /**
+     * 現在のスレッドのスコープにJDBC実行時間を加算する（スコープがなければ何もしない）
+     * 
+     * @param nanos 実行時間（ナノ秒）
+     */
+    static void recordJdbcTime(long nanos) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.jdbcNanos += nanos;
+        }
+    }
+    
+    /**
+     * 現在のスレッドのスコープにコネクション取得を1件加算する（スコープがなければ何もしない）
+     */
+    static void recordConnectionAcquisition() {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.connections++;
+        }
+    }
+    
+    /**
+     * @return スコープ開始以降に発行されたSQL文の数
+     */
+    public int statementCount() {
+        return counter.statements;
+    }
+    
+    /**
+     * @return スコープ開始以降のJDBC実行時間の合計
+     */
+    public Duration jdbcTime() {
+        return Duration.ofNanos(counter.jdbcNanos);
+    }
+    
+    /**
+     * @return スコープ開始以降にコネクションプールから取得したコネクションの数
+     */
+    public int connectionCount() {
+        return counter.connections;
+    }
+    
+    /**
+     * 集計値を0に戻す（テストで準備処理の分を除外する場合に使用）
+     */
+    public void reset() {
+        counter.statements = 0;
+        counter.jdbcNanos = 0L;
+        counter.connections = 0;
+    }
+    
+    @Override
+    public void close() {
+        if (owner) {
+            CURRENT.remove();
+        }
+    }
+    
+    /**
+     * スレッド内でのみ更新される集計値
+     */
+    private static final class Counter {
+        private int statements;
+        private long jdbcNanos;
+        private int connections;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * SQL文の発行数を計測するHibernateのStatementInspector
+ * 
+ * SQLは書き換えずにそのまま返し、現在のスレッドの {@link QueryCountScope} に1件加算します。
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+    
+    private static final long serialVersionUID = 1L;
+    
+    @Override
+    public String inspect(String sql) {
+        QueryCountScope.recordStatement();
+        return sql;
+    }
+}
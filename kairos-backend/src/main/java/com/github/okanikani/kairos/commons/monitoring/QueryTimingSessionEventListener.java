@@ -0,0 +1,42 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBC実行時間・コネクション取得回数を計測するHibernateのセッションイベントリスナー
+ * 
+ * セッションごとにHibernateがインスタンスを生成するため、状態はセッション内でのみ共有されます。
+ * 計測した時間と取得回数は現在のスレッドの {@link QueryCountScope} に加算します。
+ */
+public class QueryTimingSessionEventListener extends BaseSessionEventListener {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private long statementStart;
+    private long batchStart;
+    
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        QueryCountScope.recordConnectionAcquisition();
+    }
+    
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+    
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCountScope.recordJdbcTime(System.nanoTime() - statementStart);
+    }
+    
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+    
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCountScope.recordJdbcTime(System.nanoTime() - batchStart);
+    }
+}
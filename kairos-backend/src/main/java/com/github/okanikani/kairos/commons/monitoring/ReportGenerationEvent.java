@@ -0,0 +1,97 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 勤怠表生成のJFRイベント
+ * 
+ * 位置情報からの勤怠表生成1回につき1件記録し、処理フェーズごとの所要時間と件数を保持します。
+ * JFRの記録が無効な場合、イベントの生成・コミットはほぼコストなしで無視されます。
+ * 
+ * 記録例: jcmd &lt;pid&gt; JFR.start name=kairos settings=profile duration=10m filename=kairos.jfr
+ */
+@Name("kairos.ReportGeneration")
+@Label("Report Generation")
+@Category({"Kairos", "Reports"})
+@Description("位置情報からの勤怠表生成（フェーズ別所要時間）")
+@StackTrace(false)
+public class ReportGenerationEvent extends Event {
+    
+    @Label("User ID")
+    private String userId;
+    
+    @Label("Year Month")
+    private String yearMonth;
+    
+    @Label("Location Points")
+    @Description("勤怠計算に使用した位置情報の件数")
+    private int locationCount;
+    
+    @Label("Work Day Groups")
+    @Description("位置情報のグルーピング結果（勤務日詳細）の件数")
+    private int groupCount;
+    
+    @Label("Rule Resolutions")
+    @Description("勤務ルールリポジトリへの問い合わせ回数（キャッシュヒットを除く）")
+    private int ruleResolutionCount;
+    
+    @Label("Fetch Duration")
+    @Description("位置情報の取得（作業場所フィルタリングを含む）")
+    @Timespan(Timespan.NANOSECONDS)
+    private long fetchDuration;
+    
+    @Label("Grouping Duration")
+    @Description("位置情報のグルーピングと勤務時間計算（勤務ルール解決を除く）")
+    @Timespan(Timespan.NANOSECONDS)
+    private long groupingDuration;
+    
+    @Label("Rule Resolution Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long ruleResolutionDuration;
+    
+    @Label("Persist Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long persistDuration;
+    
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+    
+    public void setYearMonth(String yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+    
+    public void setLocationCount(int locationCount) {
+        this.locationCount = locationCount;
+    }
+    
+    public void setGroupCount(int groupCount) {
+        this.groupCount = groupCount;
+    }
+    
+    public void setRuleResolutionCount(int ruleResolutionCount) {
+        this.ruleResolutionCount = ruleResolutionCount;
+    }
+    
+    public void setFetchDuration(long fetchDuration) {
+        this.fetchDuration = fetchDuration;
+    }
+    
+    public void setGroupingDuration(long groupingDuration) {
+        this.groupingDuration = groupingDuration;
+    }
+    
+    public void setRuleResolutionDuration(long ruleResolutionDuration) {
+        this.ruleResolutionDuration = ruleResolutionDuration;
+    }
+    
+    public void setPersistDuration(long persistDuration) {
+        this.persistDuration = persistDuration;
+    }
+}
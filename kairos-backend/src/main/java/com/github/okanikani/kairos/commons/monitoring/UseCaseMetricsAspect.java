@@ -0,0 +1,60 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * ユースケース実行時間計測アスペクト
+ * 
+ * 全ての *UseCase.execute の実行時間をヒストグラム付きタイマーとして記録します。
+ * Prometheus側で histogram_quantile を使ってp99レイテンシを算出・アラートできます。
+ * 
+ * タグ:
+ * - usecase: ユースケースのクラス名
+ * - outcome: success / error
+ * - exception: 例外クラス名（正常終了時は none）
+ */
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+    
+    // メトリクス名・タグ値定数
+    static final String USECASE_METRIC_NAME = "kairos.usecase.duration";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+    }
+    
+    @Around("execution(public * com.github.okanikani.kairos..applications.usecases.*UseCase.execute(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_SUCCESS;
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = OUTCOME_ERROR;
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(USECASE_METRIC_NAME)
+                .description("ユースケースの実行時間")
+                .tag("usecase", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+}
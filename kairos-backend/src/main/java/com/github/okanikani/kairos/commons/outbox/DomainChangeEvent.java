@@ -0,0 +1,44 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 勤怠表の入力となるデータの変更イベント
+ *
+ * 変更したユーザーと、変更の影響を受ける日付の範囲（開始日・終了日を含む）を保持する。
+ * 日付から勤怠年月への変換は勤怠締め日に依存するため、受け取る側で行う。
+ */
+public record DomainChangeEvent(
+        Long id,                     // 一意識別子（追加前はnull）
+        DomainChangeType type,       // 変更の種類
+        String userId,               // 変更したデータの所有者
+        LocalDate fromDate,          // 影響を受ける期間の開始日
+        LocalDate toDate,            // 影響を受ける期間の終了日
+        LocalDateTime occurredAt,    // 発生日時
+        int attempts                 // 処理に失敗した回数
+) {
+    public DomainChangeEvent {
+        Objects.requireNonNull(type, "typeは必須です");
+        Objects.requireNonNull(userId, "userIdは必須です");
+        Objects.requireNonNull(fromDate, "fromDateは必須です");
+        Objects.requireNonNull(toDate, "toDateは必須です");
+        Objects.requireNonNull(occurredAt, "occurredAtは必須です");
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("fromDateはtoDate以前である必要があります");
+        }
+    }
+
+    /**
+     * 追加前の変更イベントを作成する
+     * @param type 変更の種類
+     * @param userId 変更したデータの所有者
+     * @param fromDate 影響を受ける期間の開始日
+     * @param toDate 影響を受ける期間の終了日
+     * @return 変更イベント
+     */
+    public static DomainChangeEvent of(DomainChangeType type, String userId, LocalDate fromDate, LocalDate toDate) {
+        return new DomainChangeEvent(null, type, userId, fromDate, toDate, LocalDateTime.now(), 0);
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 変更イベントのアウトボックス
+ *
+ * 変更イベントはデータの変更と同じトランザクションで追加し、変更がロールバックされた場合は残さない。
+ * 処理する側は取得（処理中への遷移）・削除・差し戻しで少なくとも1回処理する。
+ */
+public interface DomainChangeOutbox {
+
+    /**
+     * 変更イベントを追加する
+     * 呼び出し元のトランザクションに参加する
+     * @param event 追加前の変更イベント
+     */
+    void append(DomainChangeEvent event);
+
+    /**
+     * 未処理の変更イベントを追加の古い順に取得し、処理中にする
+     * 複数のインスタンスが同時に取得しても同じイベントは重複して取得しない
+     * @param limit 最大件数
+     * @param claimedAt 処理の開始日時
+     * @param staleBefore この日時より前に処理を開始したまま残っているイベントも取得し直す
+     * @return 処理中にした変更イベント
+     */
+    List<DomainChangeEvent> claim(int limit, LocalDateTime claimedAt, LocalDateTime staleBefore);
+
+    /**
+     * 処理を終えた変更イベントを削除する
+     * @param ids 変更イベントID
+     */
+    void delete(Collection<Long> ids);
+
+    /**
+     * 処理に失敗した変更イベントを未処理に戻し、失敗回数を加算する
+     * @param ids 変更イベントID
+     */
+    void release(Collection<Long> ids);
+}
@@ -0,0 +1,89 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 変更イベントのJPAエンティティ
+ *
+ * 業務要件: 勤怠表の入力となるデータの変更を、変更と同じトランザクションで記録する
+ */
+@Entity
+@Table(name = "domain_change_outbox")
+public class DomainChangeOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private DomainChangeType type;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String userId;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    protected DomainChangeOutboxJpaEntity() {
+        // JPAのため
+    }
+
+    public DomainChangeOutboxJpaEntity(DomainChangeType type, String userId, LocalDate fromDate, LocalDate toDate,
+                                       LocalDateTime occurredAt, int attempts) {
+        this.type = Objects.requireNonNull(type, "種類は必須です");
+        this.userId = Objects.requireNonNull(userId, "ユーザーIDは必須です");
+        this.fromDate = Objects.requireNonNull(fromDate, "開始日は必須です");
+        this.toDate = Objects.requireNonNull(toDate, "終了日は必須です");
+        this.occurredAt = Objects.requireNonNull(occurredAt, "発生日時は必須です");
+        this.attempts = attempts;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public DomainChangeType getType() {
+        return type;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
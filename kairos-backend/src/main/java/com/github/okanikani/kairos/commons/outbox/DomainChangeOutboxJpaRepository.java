@@ -0,0 +1,62 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 変更イベントのSpring Data JPAリポジトリ
+ *
+ * 業務要件: 複数インスタンスから同じ変更イベントを重複して処理しないよう、行ロックを待たずに取得する
+ */
+@Repository
+public interface DomainChangeOutboxJpaRepository extends JpaRepository<DomainChangeOutboxJpaEntity, Long> {
+
+    // クエリパラメータ名の定数定義
+    String PARAM_IDS = "ids";
+
+    /**
+     * 未処理、または処理を開始したまま一定時間を過ぎた変更イベントを処理中にする
+     *
+     * 業務要件: 他のインスタンスが取得中の行は FOR UPDATE SKIP LOCKED で読み飛ばし、待たずに次の行を取得する
+     *
+     * @return 処理中にした変更イベント
+     */
+    @Transactional
+    @Query(value = "UPDATE domain_change_outbox SET claimed_at = :claimedAt "
+            + "WHERE id IN (SELECT id FROM domain_change_outbox "
+            + "WHERE claimed_at IS NULL OR claimed_at < :staleBefore "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "RETURNING *",
+           nativeQuery = true)
+    List<DomainChangeOutboxJpaEntity> claim(@Param("limit") int limit,
+                                            @Param("claimedAt") LocalDateTime claimedAt,
+                                            @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 処理を終えた変更イベントを削除
+     *
+     * @return 削除した件数
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DomainChangeOutboxJpaEntity e WHERE e.id IN :ids")
+    int deleteByIds(@Param(PARAM_IDS) Collection<Long> ids);
+
+    /**
+     * 処理に失敗した変更イベントを未処理に戻し、失敗回数を加算
+     *
+     * @return 更新した件数
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE DomainChangeOutboxJpaEntity e SET e.claimedAt = null, e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int release(@Param(PARAM_IDS) Collection<Long> ids);
+}
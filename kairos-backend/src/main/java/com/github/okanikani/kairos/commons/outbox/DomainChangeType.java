@@ -0,0 +1,17 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+/**
+ * 勤怠表の再計算が必要になる変更の種類
+ */
+public enum DomainChangeType {
+
+    /**
+     * 位置情報の更新・削除
+     */
+    LOCATION_CHANGED,
+
+    /**
+     * 勤怠ルールの登録・更新・削除
+     */
+    WORK_RULE_CHANGED
+}
@@ -0,0 +1,95 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * インメモリ変更イベントアウトボックス実装
+ *
+ * ※これは開発・テスト用の実装です。
+ * トランザクションに参加しないため、追加後に変更が失敗した場合もイベントは残る（再計算が1回余分に行われるのみ）。
+ */
+@Repository
+@Profile("dev")
+public class InMemoryDomainChangeOutbox implements DomainChangeOutbox {
+
+    private final Map<Long, DomainChangeEvent> storage = new LinkedHashMap<>();
+    private final Map<Long, LocalDateTime> claimedAt = new LinkedHashMap<>();
+    private long sequence;
+
+    @Override
+    public synchronized void append(DomainChangeEvent event) {
+        Objects.requireNonNull(event, "eventは必須です");
+
+        long id = ++sequence;
+        storage.put(id, new DomainChangeEvent(id, event.type(), event.userId(), event.fromDate(), event.toDate(),
+            event.occurredAt(), event.attempts()));
+    }
+
+    @Override
+    public synchronized List<DomainChangeEvent> claim(int limit, LocalDateTime claimedAt, LocalDateTime staleBefore) {
+        Objects.requireNonNull(claimedAt, "claimedAtは必須です");
+        Objects.requireNonNull(staleBefore, "staleBeforeは必須です");
+
+        List<DomainChangeEvent> claimed = new ArrayList<>();
+        for (DomainChangeEvent event : storage.values()) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+            LocalDateTime previous = this.claimedAt.get(event.id());
+            if (previous == null || previous.isBefore(staleBefore)) {
+                this.claimedAt.put(event.id(), claimedAt);
+                claimed.add(event);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized void delete(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+
+        for (Long id : ids) {
+            storage.remove(id);
+            claimedAt.remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void release(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+
+        for (Long id : ids) {
+            DomainChangeEvent event = storage.get(id);
+            if (event != null) {
+                storage.put(id, new DomainChangeEvent(id, event.type(), event.userId(), event.fromDate(),
+                    event.toDate(), event.occurredAt(), event.attempts() + 1));
+            }
+            claimedAt.remove(id);
+        }
+    }
+
+    /**
+     * 全イベントを取得する（テスト用）
+     * @return 追加順の変更イベント
+     */
+    public synchronized List<DomainChangeEvent> findAll() {
+        return List.copyOf(storage.values());
+    }
+
+    /**
+     * 全イベントを削除する（テスト用）
+     */
+    public synchronized void clear() {
+        storage.clear();
+        claimedAt.clear();
+    }
+}
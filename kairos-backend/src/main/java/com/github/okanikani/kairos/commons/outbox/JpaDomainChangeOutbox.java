@@ -0,0 +1,63 @@
+package com.github.okanikani.kairos.commons.outbox;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 変更イベントアウトボックスのJPA実装
+ *
+ * 業務要件: 変更イベントをデータの変更と同じトランザクションで domain_change_outbox に保存する
+ */
+@Repository
+@Profile("prod")
+public class JpaDomainChangeOutbox implements DomainChangeOutbox {
+
+    private final DomainChangeOutboxJpaRepository domainChangeOutboxJpaRepository;
+
+    public JpaDomainChangeOutbox(DomainChangeOutboxJpaRepository domainChangeOutboxJpaRepository) {
+        this.domainChangeOutboxJpaRepository = Objects.requireNonNull(domainChangeOutboxJpaRepository, "domainChangeOutboxJpaRepositoryは必須です");
+    }
+
+    @Override
+    public void append(DomainChangeEvent event) {
+        Objects.requireNonNull(event, "eventは必須です");
+        domainChangeOutboxJpaRepository.save(new DomainChangeOutboxJpaEntity(
+            event.type(), event.userId(), event.fromDate(), event.toDate(), event.occurredAt(), event.attempts()));
+    }
+
+    @Override
+    public List<DomainChangeEvent> claim(int limit, LocalDateTime claimedAt, LocalDateTime staleBefore) {
+        Objects.requireNonNull(claimedAt, "claimedAtは必須です");
+        Objects.requireNonNull(staleBefore, "staleBeforeは必須です");
+        return domainChangeOutboxJpaRepository.claim(limit, claimedAt, staleBefore)
+            .stream()
+            .map(this::toDomainModel)
+            .toList();
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+        if (!ids.isEmpty()) {
+            domainChangeOutboxJpaRepository.deleteByIds(ids);
+        }
+    }
+
+    @Override
+    public void release(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+        if (!ids.isEmpty()) {
+            domainChangeOutboxJpaRepository.release(ids);
+        }
+    }
+
+    private DomainChangeEvent toDomainModel(DomainChangeOutboxJpaEntity jpaEntity) {
+        return new DomainChangeEvent(jpaEntity.getId(), jpaEntity.getType(), jpaEntity.getUserId(),
+            jpaEntity.getFromDate(), jpaEntity.getToDate(), jpaEntity.getOccurredAt(), jpaEntity.getAttempts());
+    }
+}
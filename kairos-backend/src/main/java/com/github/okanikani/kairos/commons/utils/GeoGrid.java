@@ -0,0 +1,92 @@
+package com.github.okanikani.kairos.commons.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 緯度・経度を固定サイズの格子（セル）に区切る空間インデックス用ユーティリティクラス
+ *
+ * 座標を0.001度（緯度方向で約111メートル）単位のセル番号に変換する。
+ * 作業場所の周辺にいるユーザーを探す際、周辺のセルに含まれる位置だけを距離判定の対象にする。
+ *
+ * セル番号は「緯度方向の番号 × 1,000,000 + 経度方向の番号」で表す（各番号は座標×1000の切り捨て。
+ * 経度180度は-180度のセルに含める）。
+ */
+public class GeoGrid {
+
+    // 1度あたりのセル数（セルの一辺は0.001度）
+    private static final int CELLS_PER_DEGREE = 1000;
+
+    // 経度方向の番号を緯度方向の番号と区別するための桁（経度方向の番号は±180,000の範囲）
+    private static final long LATITUDE_MULTIPLIER = 1_000_000L;
+
+    private static final int MIN_LATITUDE_INDEX = -90 * CELLS_PER_DEGREE;
+    private static final int MAX_LATITUDE_INDEX = 90 * CELLS_PER_DEGREE;
+    private static final int MIN_LONGITUDE_INDEX = -180 * CELLS_PER_DEGREE;
+    private static final int LONGITUDE_INDEX_COUNT = 360 * CELLS_PER_DEGREE;
+
+    // 緯度1度あたりの距離の下限（メートル）。範囲を広めに見積もり、境界付近の位置を取りこぼさない
+    private static final double MIN_METERS_PER_DEGREE = 110_000.0;
+
+    // 探索範囲が極付近にかかると経度方向のセル数が発散するため、この緯度までを対象とする
+    private static final double MAX_SEARCHABLE_LATITUDE = 89.0;
+
+    private GeoGrid() {
+        // ユーティリティクラスなのでインスタンス化を防ぐ
+    }
+
+    /**
+     * 座標が含まれるセル番号を取得
+     *
+     * @param latitude 緯度（-90.0 〜 90.0）
+     * @param longitude 経度（-180.0 〜 180.0）
+     * @return セル番号
+     */
+    public static long cellOf(double latitude, double longitude) {
+        int latitudeIndex = (int) Math.floor(latitude * CELLS_PER_DEGREE);
+        int longitudeIndex = normalizeLongitudeIndex((int) Math.floor(longitude * CELLS_PER_DEGREE));
+        return latitudeIndex * LATITUDE_MULTIPLIER + longitudeIndex;
+    }
+
+    /**
+     * 中心から指定半径の円を覆うセル番号を取得
+     *
+     * 円に外接する矩形に重なるセルを返すため、結果のセルに含まれる位置は別途距離で判定すること。
+     * 経度180度をまたぐ範囲は反対側のセルに折り返す。
+     *
+     * @param latitude 中心の緯度
+     * @param longitude 中心の経度
+     * @param radiusMeters 半径（メートル）
+     * @return 円を覆うセル番号の集合
+     * @throws IllegalArgumentException 半径が負の場合、または探索範囲が極付近にかかる場合
+     */
+    public static Set<Long> cellsCovering(double latitude, double longitude, double radiusMeters) {
+        if (radiusMeters < 0) {
+            throw new IllegalArgumentException("半径は0以上で指定してください。指定値: " + radiusMeters);
+        }
+        double latitudeDelta = radiusMeters / MIN_METERS_PER_DEGREE;
+        if (Math.abs(latitude) + latitudeDelta > MAX_SEARCHABLE_LATITUDE) {
+            throw new IllegalArgumentException(
+                String.format("緯度%.1f度を超える範囲は探索できません。指定値: %f", MAX_SEARCHABLE_LATITUDE, latitude));
+        }
+        double longitudeDelta = latitudeDelta / Math.cos(Math.toRadians(Math.abs(latitude) + latitudeDelta));
+
+        int minLatitudeIndex = Math.max(MIN_LATITUDE_INDEX, (int) Math.floor((latitude - latitudeDelta) * CELLS_PER_DEGREE));
+        int maxLatitudeIndex = Math.min(MAX_LATITUDE_INDEX, (int) Math.floor((latitude + latitudeDelta) * CELLS_PER_DEGREE));
+        int minLongitudeIndex = (int) Math.floor((longitude - longitudeDelta) * CELLS_PER_DEGREE);
+        int maxLongitudeIndex = (int) Math.floor((longitude + longitudeDelta) * CELLS_PER_DEGREE);
+
+        Set<Long> cells = new HashSet<>();
+        for (int latitudeIndex = minLatitudeIndex; latitudeIndex <= maxLatitudeIndex; latitudeIndex++) {
+            for (int longitudeIndex = minLongitudeIndex; longitudeIndex <= maxLongitudeIndex; longitudeIndex++) {
+                cells.add(latitudeIndex * LATITUDE_MULTIPLIER + normalizeLongitudeIndex(longitudeIndex));
+            }
+        }
+        return cells;
+    }
+
+    // 経度方向の番号を-180度〜180度未満の範囲に折り返す（経度180度は-180度と同じセルになる）
+    private static int normalizeLongitudeIndex(int longitudeIndex) {
+        return Math.floorMod(longitudeIndex - MIN_LONGITUDE_INDEX, LONGITUDE_INDEX_COUNT) + MIN_LONGITUDE_INDEX;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.okanikani.kairos.locations.applications.usecases;
+
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.ArchiveLocationsResponse;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 位置情報アーカイブユースケース
+ * 締め済みの月の位置情報をアーカイブファイルへ移動し、データベースから削除する
+ */
+@Service
+public class ArchiveLocationsUseCase {
+
+    private final LocationRepository locationRepository;
+    private final LocationArchiveRepository locationArchiveRepository;
+    private final LocationArchiveProperties locationArchiveProperties;
+
+    public ArchiveLocationsUseCase(
+            LocationRepository locationRepository,
+            LocationArchiveRepository locationArchiveRepository,
+            LocationArchiveProperties locationArchiveProperties) {
+        this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
+        this.locationArchiveRepository = Objects.requireNonNull(locationArchiveRepository, "locationArchiveRepositoryは必須です");
+        this.locationArchiveProperties = Objects.requireNonNull(locationArchiveProperties, "locationArchivePropertiesは必須です");
+    }
+
+    /**
+     * 指定ユーザーの指定年月の位置情報をアーカイブする
+     * 
+     * 既にアーカイブ済みの月に対して再実行した場合は、アーカイブとデータベースの
+     * 位置情報を合わせて書き直すため、何度実行しても結果は変わらない。
+     * 
+     * @param yearMonth アーカイブ対象年月
+     * @param userId 対象ユーザーID
+     * @return アーカイブ結果
+     * @throws BusinessRuleViolationException アーカイブ機能が無効、または保持期間内の年月が指定された場合
+     */
+    @Transactional
+    public ArchiveLocationsResponse execute(YearMonth yearMonth, String userId) {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(userId, "userIdは必須です");
+        
+        if (!locationArchiveProperties.enabled()) {
+            throw new BusinessRuleViolationException("位置情報アーカイブ機能は無効です");
+        }
+        
+        // 業務ルール: 直近の保持期間内の月は勤怠表の再生成が頻繁なためアーカイブしない
+        YearMonth latestArchivable = YearMonth.now().minusMonths(locationArchiveProperties.retentionMonths());
+        if (yearMonth.isAfter(latestArchivable)) {
+            throw new BusinessRuleViolationException(
+                "アーカイブできるのは" + latestArchivable + "以前の年月のみです: " + yearMonth);
+        }
+        
+        User user = new User(userId);
+        LocalDateTime startDateTime = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime endDateTime = yearMonth.atEndOfMonth().atTime(LocalTime.MAX);
+        
+        // アーカイブ済み分も含めて取得し、月単位で書き直す
+        List<Location> locations = locationRepository.findByUserAndDateTimeRange(user, startDateTime, endDateTime);
+        if (locations.isEmpty()) {
+            return new ArchiveLocationsResponse(yearMonth, 0);
+        }
+        
+        // アーカイブの書き込みが完了してからデータベースの行を削除する
+        // 削除がロールバックされた場合はアーカイブも置き換え前に戻り、同じ位置情報が二重に残らない
+        locationArchiveRepository.archive(user, yearMonth, locations);
+        locationRepository.deleteAllById(locations.stream().map(Location::id).toList());
+        
+        return new ArchiveLocationsResponse(yearMonth, locations.size());
+    }
+}
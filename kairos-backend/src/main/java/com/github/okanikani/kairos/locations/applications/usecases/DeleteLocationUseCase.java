@@ -1,11 +1,20 @@
 package com.github.okanikani.kairos.locations.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.LatestLocationTracker;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionTracker;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Objects;
 
 /**
@@ -15,9 +24,16 @@ import java.util.Objects;
 public class DeleteLocationUseCase {
 
     private final LocationRepository locationRepository;
+    private final WorkSessionTracker workSessionTracker;
+    private final LatestLocationTracker latestLocationTracker;
+    private final DomainChangeOutbox domainChangeOutbox;
 
-    public DeleteLocationUseCase(LocationRepository locationRepository) {
+    public DeleteLocationUseCase(LocationRepository locationRepository, WorkSessionTracker workSessionTracker,
+                                 LatestLocationTracker latestLocationTracker, DomainChangeOutbox domainChangeOutbox) {
         this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
+        this.workSessionTracker = Objects.requireNonNull(workSessionTracker, "workSessionTrackerは必須です");
+        this.latestLocationTracker = Objects.requireNonNull(latestLocationTracker, "latestLocationTrackerは必須です");
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
     }
 
     /**
@@ -28,14 +44,20 @@ public class DeleteLocationUseCase {
      * @param userId 要求ユーザーID
      * @throws NullPointerException locationIdまたはuserIdがnullの場合
      * @throws ResourceNotFoundException 位置情報が存在しない場合
+     * @throws BusinessRuleViolationException アーカイブ済みの位置情報の場合
      * @throws AuthorizationException 権限がない場合
      */
+    @Transactional
     public void execute(Long locationId, String userId) {
         Objects.requireNonNull(locationId, "locationIdは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
         
         Location location = locationRepository.findById(locationId);
         if (location == null) {
+            // 業務ルール: アーカイブ済みの位置情報は読み取り専用
+            if (locationRepository.findArchivedByUserAndId(new User(userId), locationId).isPresent()) {
+                throw new BusinessRuleViolationException("アーカイブ済みの位置情報は削除できません");
+            }
             throw new ResourceNotFoundException("指定された位置情報が存在しません");
         }
         
@@ -45,6 +67,16 @@ public class DeleteLocationUseCase {
             throw new AuthorizationException("この位置情報を削除する権限がありません");
         }
         
-        locationRepository.deleteById(locationId);
+        // 削除した位置情報を含む勤務セッションを分割・縮小し、最新位置を求め直す
+        workSessionTracker.executeTracked(location.user(), () -> {
+            locationRepository.deleteById(locationId);
+            workSessionTracker.repairAround(location.user(), location.recordedAt());
+            latestLocationTracker.refresh(location.user());
+            return null;
+        });
+        
+        // 削除した位置情報の記録日を含む勤怠表を再計算の対象として、削除と同じトランザクションで記録する
+        LocalDate recordedDate = location.recordedAt().toLocalDate();
+        domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.LOCATION_CHANGED, userId, recordedDate, recordedDate));
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -29,6 +30,7 @@ public class FindAllLocationsUseCase {
      * @return 位置情報レスポンスのリスト
      * @throws NullPointerException userIdがnullの場合
      */
+    @Transactional(readOnly = true)
     public List<LocationResponse> execute(String userId) {
         Objects.requireNonNull(userId, "userIdは必須です");
         
@@ -5,7 +5,9 @@ import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -24,6 +26,7 @@ public class FindLocationByIdUseCase {
     /**
      * 指定したIDの位置情報を取得する
      * セキュリティチェック: 位置情報の所有者と要求者が一致する場合のみ取得可能
+     * アーカイブ済みの位置情報は要求者のアーカイブからのみ探す
      * 
      * @param locationId 位置情報ID
      * @param userId 要求ユーザーID
@@ -32,13 +35,15 @@ public class FindLocationByIdUseCase {
      * @throws ResourceNotFoundException 位置情報が存在しない場合
      * @throws AuthorizationException 権限がない場合
      */
+    @Transactional(readOnly = true)
     public LocationResponse execute(Long locationId, String userId) {
         Objects.requireNonNull(locationId, "locationIdは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
         
         Location location = locationRepository.findById(locationId);
         if (location == null) {
-            throw new ResourceNotFoundException("指定された位置情報が存在しません");
+            location = locationRepository.findArchivedByUserAndId(new User(userId), locationId)
+                .orElseThrow(() -> new ResourceNotFoundException("指定された位置情報が存在しません"));
         }
         
         // セキュリティチェック: 位置情報の所有者と要求者の一致確認
@@ -0,0 +1,74 @@
+package com.github.okanikani.kairos.locations.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.commons.utils.DistanceCalculator;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.FindPresenceRequest;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.PresenceResponse;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.WorkplacePresenceResponse;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LatestLocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.Workplace;
+import com.github.okanikani.kairos.locations.domains.services.WorkplaceDirectory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 作業場所にいるユーザーの取得ユースケース
+ *
+ * 位置情報の登録時に維持している最新位置から、勤怠先の範囲内にいるユーザーを1回の検索で取得する。
+ * ユーザーごとの位置情報の履歴は参照しない。
+ */
+@Service
+public class FindPresenceUseCase {
+
+    private final LatestLocationRepository latestLocationRepository;
+    private final WorkplaceDirectory workplaceDirectory;
+
+    public FindPresenceUseCase(LatestLocationRepository latestLocationRepository, WorkplaceDirectory workplaceDirectory) {
+        this.latestLocationRepository = Objects.requireNonNull(latestLocationRepository, "latestLocationRepositoryは必須です");
+        this.workplaceDirectory = Objects.requireNonNull(workplaceDirectory, "workplaceDirectoryは必須です");
+    }
+
+    /**
+     * 作業場所にいるユーザーを取得する
+     * @param request 取得リクエスト
+     * @return 作業場所にいるユーザーの最新位置一覧
+     * @throws ValidationException 最新位置とみなす時間が0以下の場合
+     * @throws ResourceNotFoundException 勤怠先を参照する勤怠ルールがない場合
+     */
+    @Transactional(readOnly = true)
+    public WorkplacePresenceResponse execute(FindPresenceRequest request) {
+        Objects.requireNonNull(request, "requestは必須です");
+        if (request.freshness().isNegative() || request.freshness().isZero()) {
+            throw new ValidationException("最新位置とみなす時間には正の値を指定してください");
+        }
+
+        Workplace workplace = workplaceDirectory.findByWorkPlaceId(request.workPlaceId())
+            .orElseThrow(() -> new ResourceNotFoundException("指定された勤怠先が見つかりません: " + request.workPlaceId()));
+        LocalDateTime since = LocalDateTime.now().minus(request.freshness());
+
+        List<PresenceResponse> users = latestLocationRepository
+            .findWithin(workplace.latitude(), workplace.longitude(), workplace.radiusMeters(), since)
+            .stream()
+            .map(location -> new PresenceResponse(
+                location.user().userId(),
+                location.latitude(),
+                location.longitude(),
+                location.recordedAt(),
+                DistanceCalculator.calculateDistance(
+                    workplace.latitude(), workplace.longitude(), location.latitude(), location.longitude())))
+            .toList();
+
+        return new WorkplacePresenceResponse(
+            workplace.workPlaceId(),
+            workplace.latitude(),
+            workplace.longitude(),
+            workplace.radiusMeters(),
+            since,
+            users);
+    }
+}
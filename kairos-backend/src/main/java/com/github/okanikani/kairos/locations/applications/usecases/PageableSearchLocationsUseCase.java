@@ -11,6 +11,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -36,6 +37,7 @@ public class PageableSearchLocationsUseCase {
      * @throws NullPointerException requestまたはuserIdがnullの場合
      * @throws IllegalArgumentException 検索条件が不正な場合
      */
+    @Transactional(readOnly = true)
     public PagedLocationResponse execute(PageableSearchLocationsRequest request, String userId) {
         Objects.requireNonNull(request, "requestは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
@@ -1,24 +1,57 @@
 package com.github.okanikani.kairos.locations.applications.usecases;
 
+import com.github.okanikani.kairos.commons.monitoring.BusinessMetricsService;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationResult;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.LatestLocationTracker;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionTracker;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 public class RegisterLocationUseCase {
     
     private final LocationRepository locationRepository;
+    private final BusinessMetricsService businessMetricsService;
+    private final WorkSessionTracker workSessionTracker;
+    private final LatestLocationTracker latestLocationTracker;
+    private final DomainChangeOutbox domainChangeOutbox;
     
-    public RegisterLocationUseCase(LocationRepository locationRepository) {
+    public RegisterLocationUseCase(LocationRepository locationRepository, BusinessMetricsService businessMetricsService,
+                                   WorkSessionTracker workSessionTracker, LatestLocationTracker latestLocationTracker,
+                                   DomainChangeOutbox domainChangeOutbox) {
         this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
+        this.businessMetricsService = Objects.requireNonNull(businessMetricsService, "businessMetricsServiceは必須です");
+        this.workSessionTracker = Objects.requireNonNull(workSessionTracker, "workSessionTrackerは必須です");
+        this.latestLocationTracker = Objects.requireNonNull(latestLocationTracker, "latestLocationTrackerは必須です");
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
     }
     
-    public LocationResponse execute(RegisterLocationRequest request, String userId) {
+    /**
+     * 位置情報を登録する
+     * 
+     * 業務ルール: 同一ユーザー・同一記録日時の位置情報は1件のみ保持する。
+     * 端末のタイムアウト後の再送などで重複した場合はエラーにせず、既存の位置情報を返す（冪等）。
+     * 遅れて届いた位置情報（前日以前の記録、または最新の勤務セッションの終了より前の記録）は、
+     * 作成済みの勤怠表を再計算の対象として記録する。
+     * 
+     * @param request 登録内容
+     * @param userId 登録するユーザーID
+     * @return 登録結果（重複の場合は既存の位置情報と重複フラグ）
+     */
+    @Transactional
+    public RegisterLocationResult execute(RegisterLocationRequest request, String userId) {
         Objects.requireNonNull(request, "requestは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
         
@@ -33,15 +66,38 @@ public class RegisterLocationUseCase {
             user
         );
         
-        // DB保存（IDが採番されたLocationが返却される）
-        Location savedLocation = locationRepository.save(location);
+        // DB保存（IDが採番されたLocationが返却される。重複時は保存されない）
+        // 新規の場合は同じユーザーの他の登録と直列化して勤務セッションを延長・修復し、最新位置を更新する
+        Optional<Location> savedLocation = workSessionTracker.executeTracked(user, () -> {
+            Optional<Location> saved = locationRepository.saveIfAbsent(location);
+            saved.ifPresent(added -> {
+                boolean late = workSessionTracker.recordAdded(added);
+                latestLocationTracker.recordAdded(added);
+                LocalDate recordedDate = added.recordedAt().toLocalDate();
+                if (late || recordedDate.isBefore(LocalDate.now())) {
+                    domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.LOCATION_CHANGED, userId, recordedDate, recordedDate));
+                }
+            });
+            return saved;
+        });
+        if (savedLocation.isPresent()) {
+            businessMetricsService.recordLocationsIngested(1);
+            return new RegisterLocationResult(toResponse(savedLocation.get()), false);
+        }
         
-        // レスポンス作成
+        // 重複：既存の位置情報を返す
+        businessMetricsService.recordDuplicateLocation();
+        Location existingLocation = locationRepository.findByUserAndRecordedAt(user, request.recordedAt())
+            .orElseThrow(() -> new IllegalStateException("重複した位置情報が見つかりません: " + request.recordedAt()));
+        return new RegisterLocationResult(toResponse(existingLocation), true);
+    }
+    
+    private LocationResponse toResponse(Location location) {
         return new LocationResponse(
-            savedLocation.id(),
-            savedLocation.latitude(),
-            savedLocation.longitude(),
-            savedLocation.recordedAt()
+            location.id(),
+            location.latitude(),
+            location.longitude(),
+            location.recordedAt()
         );
     }
-}
\ No newline at end of file
+}
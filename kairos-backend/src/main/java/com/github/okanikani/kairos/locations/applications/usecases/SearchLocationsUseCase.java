@@ -6,6 +6,7 @@ import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -32,6 +33,7 @@ public class SearchLocationsUseCase {
      * @throws NullPointerException requestまたはuserIdがnullの場合
      * @throws IllegalArgumentException 検索条件が不正な場合
      */
+    @Transactional(readOnly = true)
     public List<LocationResponse> execute(SearchLocationsRequest request, String userId) {
         Objects.requireNonNull(request, "requestは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
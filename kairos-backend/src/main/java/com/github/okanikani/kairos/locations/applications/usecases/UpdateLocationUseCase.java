@@ -1,15 +1,24 @@
 package com.github.okanikani.kairos.locations.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
 import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.UpdateLocationRequest;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.LatestLocationTracker;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionTracker;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Objects;
 
 /**
@@ -20,9 +29,16 @@ import java.util.Objects;
 public class UpdateLocationUseCase {
     
     private final LocationRepository locationRepository;
+    private final WorkSessionTracker workSessionTracker;
+    private final LatestLocationTracker latestLocationTracker;
+    private final DomainChangeOutbox domainChangeOutbox;
     
-    public UpdateLocationUseCase(LocationRepository locationRepository) {
+    public UpdateLocationUseCase(LocationRepository locationRepository, WorkSessionTracker workSessionTracker,
+                                 LatestLocationTracker latestLocationTracker, DomainChangeOutbox domainChangeOutbox) {
         this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
+        this.workSessionTracker = Objects.requireNonNull(workSessionTracker, "workSessionTrackerは必須です");
+        this.latestLocationTracker = Objects.requireNonNull(latestLocationTracker, "latestLocationTrackerは必須です");
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
     }
     
     /**
@@ -32,7 +48,10 @@ public class UpdateLocationUseCase {
      * @param userId 更新を実行するユーザーID
      * @return 更新された位置情報
      * @throws ValidationException 位置情報が存在しない、または他ユーザーの位置情報の場合
+     * @throws BusinessRuleViolationException アーカイブ済みの位置情報の場合
+     * @throws DuplicateResourceException 更新後の記録日時が同一ユーザーの他の位置情報と重複する場合
      */
+    @Transactional
     public LocationResponse execute(Long id, UpdateLocationRequest request, String userId) {
         Objects.requireNonNull(id, "IDは必須です");
         Objects.requireNonNull(request, "更新リクエストは必須です");
@@ -41,6 +60,10 @@ public class UpdateLocationUseCase {
         // 既存の位置情報を取得
         Location existingLocation = locationRepository.findById(id);
         if (existingLocation == null) {
+            // 業務ルール: アーカイブ済みの位置情報は読み取り専用
+            if (locationRepository.findArchivedByUserAndId(new User(userId), id).isPresent()) {
+                throw new BusinessRuleViolationException("アーカイブ済みの位置情報は更新できません");
+            }
             throw new ResourceNotFoundException("指定された位置情報が見つかりません");
         }
         
@@ -49,6 +72,13 @@ public class UpdateLocationUseCase {
             throw new AuthorizationException("他のユーザーの位置情報は更新できません");
         }
         
+        // 記録日時の変更で同一ユーザーの他の位置情報と重複しないことを確認
+        locationRepository.findByUserAndRecordedAt(existingLocation.user(), request.recordedAt())
+            .filter(other -> !other.id().equals(existingLocation.id()))
+            .ifPresent(other -> {
+                throw new DuplicateResourceException("同じ記録日時の位置情報が既に存在します: " + request.recordedAt());
+            });
+        
         // 更新する位置情報を作成（IDとユーザーは変更不可）
         Location updatedLocation = new Location(
             existingLocation.id(),
@@ -58,8 +88,24 @@ public class UpdateLocationUseCase {
             existingLocation.user()
         );
         
-        // 保存
-        Location savedLocation = locationRepository.save(updatedLocation);
+        // 保存（変更前・変更後の記録日時の前後の勤務セッションと、最新位置を作り直す）
+        Location savedLocation = workSessionTracker.executeTracked(existingLocation.user(), () -> {
+            Location saved = locationRepository.save(updatedLocation);
+            workSessionTracker.repairAround(existingLocation.user(), existingLocation.recordedAt());
+            if (!saved.recordedAt().equals(existingLocation.recordedAt())) {
+                workSessionTracker.repairAround(existingLocation.user(), saved.recordedAt());
+            }
+            latestLocationTracker.refresh(existingLocation.user());
+            return saved;
+        });
+        
+        // 変更前・変更後の記録日を含む勤怠表を再計算の対象として、更新と同じトランザクションで記録する
+        LocalDate previousDate = existingLocation.recordedAt().toLocalDate();
+        LocalDate savedDate = savedLocation.recordedAt().toLocalDate();
+        domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.LOCATION_CHANGED, userId, previousDate, previousDate));
+        if (!savedDate.equals(previousDate)) {
+            domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.LOCATION_CHANGED, userId, savedDate, savedDate));
+        }
         
         // レスポンスに変換
         return new LocationResponse(
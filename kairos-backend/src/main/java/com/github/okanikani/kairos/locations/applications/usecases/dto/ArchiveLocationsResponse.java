@@ -0,0 +1,15 @@
+package com.github.okanikani.kairos.locations.applications.usecases.dto;
+
+import java.time.YearMonth;
+
+/**
+ * 位置情報アーカイブ結果レスポンス
+ * 
+ * @param yearMonth アーカイブした年月
+ * @param archivedCount アーカイブファイルに格納した位置情報の件数
+ */
+public record ArchiveLocationsResponse(
+        YearMonth yearMonth,
+        int archivedCount
+) {
+}
@@ -0,0 +1,19 @@
+package com.github.okanikani.kairos.locations.applications.usecases.dto;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 作業場所にいるユーザーの取得リクエスト
+ * @param workPlaceId 勤怠先ID
+ * @param freshness 最新位置がこの時間内に記録されたユーザーを「現在いる」とみなす
+ */
+public record FindPresenceRequest(
+    Long workPlaceId,
+    Duration freshness
+) {
+    public FindPresenceRequest {
+        Objects.requireNonNull(workPlaceId, "workPlaceIdは必須です");
+        Objects.requireNonNull(freshness, "freshnessは必須です");
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.okanikani.kairos.locations.applications.usecases.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 作業場所にいるユーザーの最新位置
+ * @param userId ユーザーID
+ * @param latitude 最新位置の緯度
+ * @param longitude 最新位置の経度
+ * @param recordedAt 最新位置の記録日時
+ * @param distanceMeters 勤怠先からの距離（メートル）
+ */
+public record PresenceResponse(
+    String userId,
+    double latitude,
+    double longitude,
+    LocalDateTime recordedAt,
+    double distanceMeters
+) {
+}
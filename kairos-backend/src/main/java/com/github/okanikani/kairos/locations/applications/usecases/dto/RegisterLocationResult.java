@@ -0,0 +1,13 @@
+package com.github.okanikani.kairos.locations.applications.usecases.dto;
+
+/**
+ * 位置情報登録の結果
+ * 
+ * @param location 登録された位置情報（重複の場合は既存の位置情報）
+ * @param duplicate 同一ユーザー・同一記録日時の位置情報が既に存在したため登録しなかった場合true
+ */
+public record RegisterLocationResult(
+        LocationResponse location,
+        boolean duplicate
+) {
+}
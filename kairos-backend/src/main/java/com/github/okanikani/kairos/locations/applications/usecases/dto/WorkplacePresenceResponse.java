@@ -0,0 +1,23 @@
+package com.github.okanikani.kairos.locations.applications.usecases.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 作業場所にいるユーザーの一覧
+ * @param workPlaceId 勤怠先ID
+ * @param latitude 勤怠先の緯度
+ * @param longitude 勤怠先の経度
+ * @param radiusMeters 作業場所とみなした半径（メートル）
+ * @param since この日時以降に最新位置が記録されたユーザーを対象とした
+ * @param users 作業場所にいるユーザーの最新位置（ユーザーIDの昇順）
+ */
+public record WorkplacePresenceResponse(
+    Long workPlaceId,
+    double latitude,
+    double longitude,
+    double radiusMeters,
+    LocalDateTime since,
+    List<PresenceResponse> users
+) {
+}
@@ -0,0 +1,92 @@
+package com.github.okanikani.kairos.locations.domains.models.entities;
+
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 勤務セッションを表すエンティティ
+ *
+ * 記録間隔が1時間以内で連続し、かつ作業場所の範囲内外が同じ位置情報のまとまり。
+ * 位置情報の登録のたびに延長・分割して維持し、勤怠表生成時は位置情報の代わりに読み込む。
+ *
+ * @param id 一意識別子（新規作成時はnull、DB保存後に採番される）
+ * @param user 所有者
+ * @param startedAt 最初の位置情報の記録日時
+ * @param endedAt 最後の位置情報の記録日時
+ * @param pointCount セッションに含まれる位置情報の件数
+ * @param withinGeofence 作業場所の範囲内の位置情報のまとまりの場合true
+ */
+public record WorkSession(
+        Long id,
+        User user,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        int pointCount,
+        boolean withinGeofence
+) {
+    /**
+     * 同じセッションとみなす記録間隔の上限（分）
+     * 勤怠表生成時の勤務時間グループ化の判定基準と同じ値に保つ
+     */
+    public static final int GAP_THRESHOLD_MINUTES = 60;
+
+    public WorkSession {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(startedAt, "startedAtは必須です");
+        Objects.requireNonNull(endedAt, "endedAtは必須です");
+        if (endedAt.isBefore(startedAt)) {
+            throw new IllegalArgumentException("endedAtはstartedAt以降である必要があります");
+        }
+        if (pointCount <= 0) {
+            throw new IllegalArgumentException("pointCountは1以上である必要があります: " + pointCount);
+        }
+    }
+
+    /**
+     * 1件の位置情報から新しいセッションを開始する
+     * @param location 位置情報
+     * @param withinGeofence 作業場所の範囲内の場合true
+     * @return 新しいセッション
+     */
+    public static WorkSession start(Location location, boolean withinGeofence) {
+        Objects.requireNonNull(location, "locationは必須です");
+        return new WorkSession(null, location.user(), location.recordedAt(), location.recordedAt(), 1, withinGeofence);
+    }
+
+    /**
+     * 2つの記録日時が同じセッションとして連続しているかを判定する
+     * 間隔の分未満は切り捨てて判定する（勤怠表生成時の判定と同じ）
+     * @param previous 前の記録日時
+     * @param next 次の記録日時
+     * @return 連続している場合true
+     */
+    public static boolean isContinuous(LocalDateTime previous, LocalDateTime next) {
+        return Duration.between(previous, next).toMinutes() <= GAP_THRESHOLD_MINUTES;
+    }
+
+    /**
+     * セッションの末尾に位置情報を追加できるかを判定する
+     * @param recordedAt 追加する位置情報の記録日時（セッション終了より後）
+     * @param withinGeofence 追加する位置情報が作業場所の範囲内の場合true
+     * @return 追加できる場合true
+     */
+    public boolean canExtendTo(LocalDateTime recordedAt, boolean withinGeofence) {
+        return this.withinGeofence == withinGeofence && isContinuous(endedAt, recordedAt);
+    }
+
+    /**
+     * セッションの末尾に位置情報を追加したセッションを返す
+     * @param recordedAt 追加する位置情報の記録日時
+     * @return 延長したセッション
+     */
+    public WorkSession extendTo(LocalDateTime recordedAt) {
+        Objects.requireNonNull(recordedAt, "recordedAtは必須です");
+        if (!recordedAt.isAfter(endedAt)) {
+            throw new IllegalArgumentException("recordedAtはendedAtより後である必要があります");
+        }
+        return new WorkSession(id, user, startedAt, recordedAt, pointCount + 1, withinGeofence);
+    }
+}
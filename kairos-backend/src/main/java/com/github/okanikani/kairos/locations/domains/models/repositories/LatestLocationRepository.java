@@ -0,0 +1,45 @@
+package com.github.okanikani.kairos.locations.domains.models.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ユーザーごとの最新位置の保持を担当するインターフェース
+ *
+ * 位置情報の登録のたびに更新し、作業場所の周辺にいるユーザーを位置情報の履歴を読まずに取得できるようにする。
+ * 実装は座標の格子（GeoGrid）で索引付けし、周辺のセルに含まれる位置だけを距離判定する。
+ */
+public interface LatestLocationRepository {
+
+    /**
+     * 登録された位置情報が保持している最新位置より新しい場合に置き換える
+     * 端末の再送やオフライン中の記録など、古い位置情報の登録では変更しない
+     * @param location 登録済みの位置情報
+     */
+    void recordIfNewer(Location location);
+
+    /**
+     * ユーザーの最新位置を置き換える（位置情報の更新・削除時に履歴から求め直した値を反映する）
+     * @param location 新しい最新位置
+     */
+    void replace(Location location);
+
+    /**
+     * ユーザーの最新位置を削除する（位置情報が残っていない場合）
+     * @param user ユーザー
+     */
+    void remove(User user);
+
+    /**
+     * 最新位置が指定日時以降に記録され、中心から指定半径内にあるユーザーの最新位置を取得する
+     * @param latitude 中心の緯度
+     * @param longitude 中心の経度
+     * @param radiusMeters 半径（メートル）
+     * @param since この日時以降に記録された最新位置のみを対象とする
+     * @return 最新位置一覧（ユーザーIDの昇順）
+     */
+    List<Location> findWithin(double latitude, double longitude, double radiusMeters, LocalDateTime since);
+}
@@ -0,0 +1,78 @@
+package com.github.okanikani.kairos.locations.domains.models.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * アーカイブ済み位置情報の保存・参照を担当するインターフェース
+ *
+ * 締め済みの月の位置情報をユーザー・年月単位でまとめて保持する。
+ * 書き込みは月単位の一括置換のみで、個別の更新・削除は行わない。
+ * アーカイブ済みの位置情報は検索・参照のみ可能な読み取り専用のデータとして扱う。
+ */
+public interface LocationArchiveRepository {
+
+    /**
+     * アーカイブ機能が有効かどうか
+     * @return 有効な場合true
+     */
+    boolean isEnabled();
+
+    /**
+     * 指定ユーザー・年月の位置情報をアーカイブする
+     * 既にアーカイブが存在する場合は内容を置き換える
+     * トランザクション中に呼び出した場合、コミットされなければ置き換え前の状態に戻す
+     * @param user 対象ユーザー
+     * @param yearMonth 対象年月
+     * @param locations アーカイブする位置情報（全て対象年月内であること）
+     */
+    void archive(User user, YearMonth yearMonth, List<Location> locations);
+
+    /**
+     * 指定ユーザー・年月のアーカイブが存在するかどうか
+     * @param user 対象ユーザー
+     * @param yearMonth 対象年月
+     * @return 存在する場合true
+     */
+    boolean isArchived(User user, YearMonth yearMonth);
+
+    /**
+     * 指定したユーザーの指定した日時範囲のアーカイブ済み位置情報を取得する
+     * @param user 対象ユーザー
+     * @param startDateTime 開始日時
+     * @param endDateTime 終了日時
+     * @return 指定範囲のアーカイブ済み位置情報リスト（記録日時の昇順）
+     */
+    List<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    /**
+     * 指定した日時範囲の全ユーザーのアーカイブ済み位置情報を取得する
+     * @param startDateTime 開始日時
+     * @param endDateTime 終了日時
+     * @return 指定範囲のアーカイブ済み位置情報リスト（記録日時の昇順）
+     */
+    List<Location> findByDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    /**
+     * 指定したユーザーのアーカイブ済み位置情報をIDで取得する
+     * IDの索引を持たないため、ユーザーのアーカイブを全て読む。主記憶に無いIDの確認にのみ使う
+     * @param user 対象ユーザー
+     * @param id 位置情報のID
+     * @return アーカイブ済みの位置情報（存在しない場合、またはアーカイブ機能が無効な場合はempty）
+     */
+    Optional<Location> findByUserAndId(User user, Long id);
+
+    /**
+     * 指定したユーザー・記録日時のアーカイブ済み位置情報を取得する
+     * 記録日時の年月がアーカイブされていない場合はファイルを読まない
+     * @param user 対象ユーザー
+     * @param recordedAt 記録日時
+     * @return アーカイブ済みの位置情報（存在しない場合、またはアーカイブ機能が無効な場合はempty）
+     */
+    Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt);
+}
@@ -7,9 +7,13 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 位置情報のCRUDを担当するインターフェース
+ *
+ * 記録日時・期間・ユーザーによる検索は、アーカイブ済みの月の位置情報も含めて返す。
+ * IDによる取得・更新・削除はアーカイブ前の位置情報のみが対象となる。
  */
 public interface LocationRepository {
     /**
@@ -19,6 +23,22 @@ public interface LocationRepository {
      */
     Location save(Location location);
 
+    /**
+     * 新規位置情報を保存する（同一ユーザー・同一記録日時の位置情報が既にある場合は保存しない）
+     * 端末の再送による重複登録を防ぐため、(ユーザー, 記録日時) を自然キーとして扱う
+     * @param location 保存する位置情報（IDはnullであること）
+     * @return 保存された位置情報（DBで採番されたIDを含む）。重複のため保存しなかった場合はempty
+     */
+    Optional<Location> saveIfAbsent(Location location);
+
+    /**
+     * 指定したユーザー・記録日時の位置情報を取得する
+     * @param user 対象ユーザー
+     * @param recordedAt 記録日時
+     * @return 位置情報（存在しない場合はempty）
+     */
+    Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt);
+
     /**
      * 指定した日時範囲の位置情報を取得する
      * @param startDateTime 開始日時
@@ -56,25 +76,48 @@ public interface LocationRepository {
      */
     List<Location> findByUser(User user);
 
+    /**
+     * 指定したユーザーの最新（記録日時が最も遅い）位置情報を取得する
+     * @param user 対象ユーザー
+     * @return 最新の位置情報（位置情報がない場合はempty）
+     */
+    Optional<Location> findLatestByUser(User user);
+
     /**
      * IDで位置情報を取得する
+     * アーカイブ済みの位置情報は対象外（{@link #findArchivedByUserAndId} を使用する）
      * @param id 位置情報のID
      * @return 位置情報（存在しない場合はnull）
      */
     Location findById(Long id);
 
+    /**
+     * 指定したユーザーのアーカイブ済み位置情報をIDで取得する
+     * アーカイブ済みの位置情報は読み取り専用のため、更新・削除の対象にはならない
+     * @param user 対象ユーザー
+     * @param id 位置情報のID
+     * @return アーカイブ済みの位置情報（存在しない場合はempty）
+     */
+    Optional<Location> findArchivedByUserAndId(User user, Long id);
+
     /**
      * 位置情報を削除する
      * @param id 削除する位置情報のID
      */
     void deleteById(Long id);
 
+    /**
+     * 複数の位置情報をまとめて削除する
+     * @param ids 削除する位置情報のIDリスト
+     */
+    void deleteAllById(List<Long> ids);
+
     /**
      * 指定したユーザーの指定した日時範囲の位置情報をページネーション付きで取得する
      * @param user 対象ユーザー
      * @param startDateTime 開始日時
      * @param endDateTime 終了日時
-     * @param pageable ページング情報（ページ番号、サイズ、ソート条件）
+     * @param pageable ページング情報（ページ番号、サイズ、ソート条件。アーカイブ済みの位置情報を含む場合は記録日時の昇順に固定）
      * @return 指定ユーザーの指定範囲の位置情報ページ
      */
     Page<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
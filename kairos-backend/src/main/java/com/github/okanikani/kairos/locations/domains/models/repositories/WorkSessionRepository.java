@@ -0,0 +1,46 @@
+package com.github.okanikani.kairos.locations.domains.models.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.WorkSession;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 勤務セッションの永続化を担当するインターフェース
+ *
+ * 同一ユーザーのセッションは期間が重ならない。
+ */
+public interface WorkSessionRepository {
+
+    /**
+     * セッションを保存する
+     * IDがnullの場合は新規作成、それ以外は終了日時・件数を更新する
+     * @param workSession 保存するセッション
+     * @return 保存したセッション（新規作成時はIDが採番される）
+     */
+    WorkSession save(WorkSession workSession);
+
+    /**
+     * ユーザーの最新（開始日時が最も遅い）セッションを取得する
+     * @param user ユーザー
+     * @return 最新のセッション
+     */
+    Optional<WorkSession> findLatestByUser(User user);
+
+    /**
+     * 指定期間と重なるセッションを開始日時の昇順で取得する
+     * @param user ユーザー
+     * @param startDateTime 期間開始日時
+     * @param endDateTime 期間終了日時
+     * @return 終了日時が期間開始以降かつ開始日時が期間終了以前のセッション一覧
+     */
+    List<WorkSession> findOverlapping(User user, LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    /**
+     * 指定したIDのセッションを一括削除する
+     * @param ids 削除するセッションIDのリスト
+     */
+    void deleteAllById(List<Long> ids);
+}
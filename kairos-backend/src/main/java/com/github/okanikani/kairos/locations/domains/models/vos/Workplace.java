@@ -0,0 +1,11 @@
+package com.github.okanikani.kairos.locations.domains.models.vos;
+
+/**
+ * 位置情報ドメインにおける作業場所（勤怠先）の範囲を表すバリューオブジェクト
+ * @param workPlaceId 勤怠先ID
+ * @param latitude 勤怠先の緯度
+ * @param longitude 勤怠先の経度
+ * @param radiusMeters 作業場所とみなす半径（メートル）
+ */
+public record Workplace(Long workPlaceId, double latitude, double longitude, double radiusMeters) {
+}
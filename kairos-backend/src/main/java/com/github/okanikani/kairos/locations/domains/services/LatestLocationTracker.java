@@ -0,0 +1,47 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LatestLocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * 最新位置維持ドメインサービス
+ *
+ * 位置情報の登録では、登録された位置が最新であれば最新位置を置き換える。
+ * 更新・削除では最新位置が変わりうるため、ユーザーの位置情報から最新位置を求め直す。
+ */
+@Service
+public class LatestLocationTracker {
+
+    private final LatestLocationRepository latestLocationRepository;
+    private final LocationRepository locationRepository;
+
+    public LatestLocationTracker(LatestLocationRepository latestLocationRepository, LocationRepository locationRepository) {
+        this.latestLocationRepository = Objects.requireNonNull(latestLocationRepository, "latestLocationRepositoryは必須です");
+        this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
+    }
+
+    /**
+     * 登録された位置情報を最新位置に反映する
+     * @param location 登録済みの位置情報
+     */
+    public void recordAdded(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        latestLocationRepository.recordIfNewer(location);
+    }
+
+    /**
+     * 位置情報の更新・削除後に、ユーザーの最新位置を求め直す
+     * @param user ユーザー
+     */
+    public void refresh(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        locationRepository.findLatestByUser(user).ifPresentOrElse(
+            latestLocationRepository::replace,
+            () -> latestLocationRepository.remove(user));
+    }
+}
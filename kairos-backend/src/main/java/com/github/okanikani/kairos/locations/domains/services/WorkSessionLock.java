@@ -0,0 +1,21 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.util.function.Supplier;
+
+/**
+ * ユーザー単位で位置情報・勤務セッションの更新を直列化するロック
+ *
+ * 最新セッションの読み込みから延長・分割の保存までを同じユーザーの他の登録と重ねないために使用する。
+ */
+public interface WorkSessionLock {
+
+    /**
+     * ユーザーのロックを取得して処理を実行する
+     * @param user ユーザー
+     * @param action ロック中に実行する処理
+     * @return 処理結果
+     */
+    <T> T executeExclusively(User user, Supplier<T> action);
+}
@@ -0,0 +1,174 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.commons.config.WorkSessionProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.entities.WorkSession;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.repositories.WorkSessionRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 勤務セッション維持ドメインサービス
+ *
+ * 位置情報の登録のたびにユーザーの最新セッションを延長するか、新しいセッションを開始する。
+ * 最新セッションより前の位置情報（端末の再送・オフライン中の記録）や更新・削除の場合は、
+ * その前後のセッションだけを位置情報から作り直す（局所修復）。
+ */
+@Service
+public class WorkSessionTracker {
+
+    // 局所修復の対象範囲。この範囲外のセッションは位置情報が1件増減しても延長・結合・分割されない
+    // （記録間隔は分未満を切り捨てて判定するため、上限+1分まで含める）
+    private static final Duration REPAIR_MARGIN = Duration.ofMinutes(WorkSession.GAP_THRESHOLD_MINUTES + 1);
+
+    private final WorkSessionRepository workSessionRepository;
+    private final LocationRepository locationRepository;
+    private final WorkplaceGeofence workplaceGeofence;
+    private final WorkSessionLock workSessionLock;
+    private final WorkSessionProperties workSessionProperties;
+
+    public WorkSessionTracker(
+        WorkSessionRepository workSessionRepository,
+        LocationRepository locationRepository,
+        WorkplaceGeofence workplaceGeofence,
+        WorkSessionLock workSessionLock,
+        WorkSessionProperties workSessionProperties) {
+
+        this.workSessionRepository = Objects.requireNonNull(workSessionRepository, "workSessionRepositoryは必須です");
+        this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
+        this.workplaceGeofence = Objects.requireNonNull(workplaceGeofence, "workplaceGeofenceは必須です");
+        this.workSessionLock = Objects.requireNonNull(workSessionLock, "workSessionLockは必須です");
+        this.workSessionProperties = Objects.requireNonNull(workSessionProperties, "workSessionPropertiesは必須です");
+    }
+
+    /**
+     * 位置情報の変更と勤務セッションの更新をユーザー単位で直列化して実行する
+     * 勤務セッションが無効な場合はロックを取得せずに実行する
+     * @param user ユーザー
+     * @param action 位置情報の変更と、それに続くrecordAdded・repairAroundの呼び出し
+     * @return 処理結果
+     */
+    public <T> T executeTracked(User user, Supplier<T> action) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(action, "actionは必須です");
+        if (!workSessionProperties.enabled()) {
+            return action.get();
+        }
+        return workSessionLock.executeExclusively(user, action);
+    }
+
+    /**
+     * 登録された位置情報を勤務セッションに反映する
+     * @param location 登録済みの位置情報
+     * @return 最新セッションの終了より前の位置情報（遅れて届いた位置情報）の場合true。勤務セッションが無効な場合は常にfalse
+     */
+    public boolean recordAdded(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        if (!workSessionProperties.enabled()) {
+            return false;
+        }
+
+        Optional<WorkSession> latest = workSessionRepository.findLatestByUser(location.user());
+        if (latest.isPresent() && !location.recordedAt().isAfter(latest.get().endedAt())) {
+            // 最新セッションの終了より前の位置情報：前後のセッションを作り直す
+            repair(location.user(), location.recordedAt());
+            return true;
+        }
+
+        boolean withinGeofence = workplaceGeofence
+            .forDate(location.user(), location.recordedAt().toLocalDate())
+            .test(location);
+        if (latest.isPresent() && latest.get().canExtendTo(location.recordedAt(), withinGeofence)) {
+            workSessionRepository.save(latest.get().extendTo(location.recordedAt()));
+        } else {
+            workSessionRepository.save(WorkSession.start(location, withinGeofence));
+        }
+        return false;
+    }
+
+    /**
+     * 指定日時の位置情報の削除・変更を勤務セッションに反映する
+     * @param user ユーザー
+     * @param recordedAt 削除・変更された位置情報の記録日時
+     */
+    public void repairAround(User user, LocalDateTime recordedAt) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(recordedAt, "recordedAtは必須です");
+        if (!workSessionProperties.enabled()) {
+            return;
+        }
+        repair(user, recordedAt);
+    }
+
+    private void repair(User user, LocalDateTime recordedAt) {
+        List<WorkSession> affected = workSessionRepository.findOverlapping(
+            user, recordedAt.minus(REPAIR_MARGIN), recordedAt.plus(REPAIR_MARGIN));
+
+        // 影響するセッションに含まれる位置情報と、指定日時の位置情報だけを読み込み直す
+        LocalDateTime from = recordedAt;
+        LocalDateTime to = recordedAt;
+        if (!affected.isEmpty()) {
+            LocalDateTime firstStart = affected.get(0).startedAt();
+            LocalDateTime lastEnd = affected.get(affected.size() - 1).endedAt();
+            from = firstStart.isBefore(from) ? firstStart : from;
+            to = lastEnd.isAfter(to) ? lastEnd : to;
+        }
+        List<Location> locations = locationRepository.findByUserAndDateTimeRange(user, from, to);
+
+        List<WorkSession> rebuilt = sessionize(locations, workplaceGeofence);
+        if (!affected.isEmpty()) {
+            workSessionRepository.deleteAllById(affected.stream().map(WorkSession::id).toList());
+        }
+        rebuilt.forEach(workSessionRepository::save);
+    }
+
+    /**
+     * 位置情報を勤務セッションに分割する
+     * 記録間隔が上限を超えた位置、または作業場所の範囲内外が変わった位置で区切る
+     * @param locations 同一ユーザーの位置情報（順不同）
+     * @param workplaceGeofence 作業場所の範囲判定
+     * @return 開始日時の昇順の勤務セッション（ID未採番）
+     */
+    static List<WorkSession> sessionize(List<Location> locations, WorkplaceGeofence workplaceGeofence) {
+        List<Location> sorted = locations.stream()
+            .sorted(Comparator.comparing(Location::recordedAt))
+            .toList();
+
+        // 作業場所は日付単位で決まるため、同じ日の判定は使い回す
+        Map<LocalDate, Predicate<Location>> geofenceByDate = new HashMap<>();
+        List<WorkSession> sessions = new ArrayList<>();
+        WorkSession current = null;
+        for (Location location : sorted) {
+            boolean withinGeofence = geofenceByDate
+                .computeIfAbsent(location.recordedAt().toLocalDate(),
+                    date -> workplaceGeofence.forDate(location.user(), date))
+                .test(location);
+            if (current != null && current.canExtendTo(location.recordedAt(), withinGeofence)) {
+                current = current.extendTo(location.recordedAt());
+            } else {
+                if (current != null) {
+                    sessions.add(current);
+                }
+                current = WorkSession.start(location, withinGeofence);
+            }
+        }
+        if (current != null) {
+            sessions.add(current);
+        }
+        return sessions;
+    }
+}
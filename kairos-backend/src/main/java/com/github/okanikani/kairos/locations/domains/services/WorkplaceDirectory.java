@@ -0,0 +1,20 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.locations.domains.models.vos.Workplace;
+
+import java.util.Optional;
+
+/**
+ * 勤怠先IDから作業場所の範囲を取得するサービス
+ *
+ * 勤怠先の座標は勤怠ルールで管理されるため、locationsドメインの外側で実装する。
+ */
+public interface WorkplaceDirectory {
+
+    /**
+     * 勤怠先の作業場所の範囲を取得する
+     * @param workPlaceId 勤怠先ID
+     * @return 作業場所の範囲（勤怠先を参照する勤怠ルールがない場合はempty）
+     */
+    Optional<Workplace> findByWorkPlaceId(Long workPlaceId);
+}
@@ -0,0 +1,24 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+/**
+ * 位置情報が作業場所の範囲内かを判定するサービス
+ *
+ * 作業場所は勤怠ルールで管理されるため、locationsドメインの外側で実装する。
+ */
+public interface WorkplaceGeofence {
+
+    /**
+     * 指定日時点の作業場所の範囲判定を取得する
+     * 作業場所が設定されていない場合は全ての位置情報を範囲内として扱う
+     * @param user ユーザー
+     * @param date 判定する日付
+     * @return 位置情報が範囲内の場合trueを返す判定
+     */
+    Predicate<Location> forDate(User user, LocalDate date);
+}
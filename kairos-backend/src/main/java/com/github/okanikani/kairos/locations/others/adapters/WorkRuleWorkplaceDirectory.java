@@ -0,0 +1,53 @@
+package com.github.okanikani.kairos.locations.others.adapters;
+
+import com.github.okanikani.kairos.locations.domains.models.vos.Workplace;
+import com.github.okanikani.kairos.locations.domains.services.WorkplaceDirectory;
+import com.github.okanikani.kairos.rules.domains.models.entities.DefaultWorkRule;
+import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
+import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * WorkplaceDirectoryの実装クラス
+ *
+ * Anti-Corruption Layerパターンを適用し、ルールドメインの勤怠先座標から作業場所の範囲を作成する
+ * 許容半径はWorkRuleWorkplaceGeofenceと同じ
+ */
+@Service
+public class WorkRuleWorkplaceDirectory implements WorkplaceDirectory {
+
+    private final WorkRuleRepository workRuleRepository;
+    private final DefaultWorkRuleRepository defaultWorkRuleRepository;
+
+    public WorkRuleWorkplaceDirectory(WorkRuleRepository workRuleRepository, DefaultWorkRuleRepository defaultWorkRuleRepository) {
+        this.workRuleRepository = Objects.requireNonNull(workRuleRepository, "workRuleRepositoryは必須です");
+        this.defaultWorkRuleRepository = Objects.requireNonNull(defaultWorkRuleRepository, "defaultWorkRuleRepositoryは必須です");
+    }
+
+    @Override
+    public Optional<Workplace> findByWorkPlaceId(Long workPlaceId) {
+        Objects.requireNonNull(workPlaceId, "workPlaceIdは必須です");
+
+        // 1. 所属開始日が最も遅いWorkRuleの座標（最優先）
+        List<WorkRule> rules = workRuleRepository.findByWorkPlaceId(workPlaceId);
+        if (!rules.isEmpty()) {
+            WorkRule rule = rules.get(rules.size() - 1);
+            return Optional.of(new Workplace(workPlaceId, rule.latitude(), rule.longitude(),
+                WorkRuleWorkplaceGeofence.WORKPLACE_RADIUS_METERS));
+        }
+
+        // 2. DefaultWorkRuleをフォールバック
+        List<DefaultWorkRule> defaultRules = defaultWorkRuleRepository.findByWorkPlaceId(workPlaceId);
+        if (!defaultRules.isEmpty()) {
+            DefaultWorkRule rule = defaultRules.get(0);
+            return Optional.of(new Workplace(workPlaceId, rule.latitude(), rule.longitude(),
+                WorkRuleWorkplaceGeofence.WORKPLACE_RADIUS_METERS));
+        }
+        return Optional.empty();
+    }
+}
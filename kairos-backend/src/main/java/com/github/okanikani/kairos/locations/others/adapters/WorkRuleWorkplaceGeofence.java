@@ -0,0 +1,68 @@
+package com.github.okanikani.kairos.locations.others.adapters;
+
+import com.github.okanikani.kairos.commons.utils.DistanceCalculator;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.WorkplaceGeofence;
+import com.github.okanikani.kairos.rules.domains.models.entities.DefaultWorkRule;
+import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
+import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * WorkplaceGeofenceの実装クラス
+ *
+ * Anti-Corruption Layerパターンを適用し、ルールドメインの勤怠先座標から作業場所の範囲を判定する
+ * 作業場所の決定方法と許容半径は勤怠表生成時の位置情報フィルタリングと同じ
+ */
+@Service
+public class WorkRuleWorkplaceGeofence implements WorkplaceGeofence {
+
+    // 作業場所の許容半径（WorkRuleResolverServiceImplと同じ100メートル）
+    static final double WORKPLACE_RADIUS_METERS = 100.0;
+
+    private final WorkRuleRepository workRuleRepository;
+    private final DefaultWorkRuleRepository defaultWorkRuleRepository;
+
+    public WorkRuleWorkplaceGeofence(WorkRuleRepository workRuleRepository, DefaultWorkRuleRepository defaultWorkRuleRepository) {
+        this.workRuleRepository = Objects.requireNonNull(workRuleRepository, "workRuleRepositoryは必須です");
+        this.defaultWorkRuleRepository = Objects.requireNonNull(defaultWorkRuleRepository, "defaultWorkRuleRepositoryは必須です");
+    }
+
+    @Override
+    public Predicate<Location> forDate(User user, LocalDate date) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(date, "dateは必須です");
+
+        com.github.okanikani.kairos.rules.domains.models.vos.User ruleUser =
+            new com.github.okanikani.kairos.rules.domains.models.vos.User(user.userId());
+
+        // 1. 有効なWorkRuleを検索（最優先）
+        List<WorkRule> activeRules = workRuleRepository.findActiveByUserAndDate(ruleUser, date);
+        if (!activeRules.isEmpty()) {
+            WorkRule rule = activeRules.get(0);
+            return within(rule.latitude(), rule.longitude());
+        }
+
+        // 2. DefaultWorkRuleをフォールバック
+        List<DefaultWorkRule> defaultRules = defaultWorkRuleRepository.findByUser(ruleUser);
+        if (!defaultRules.isEmpty()) {
+            DefaultWorkRule rule = defaultRules.get(0);
+            return within(rule.latitude(), rule.longitude());
+        }
+
+        // 3. 作業場所が設定されていない場合は全て範囲内（寛容モードの勤怠表生成と同じ扱い）
+        return location -> true;
+    }
+
+    private Predicate<Location> within(double latitude, double longitude) {
+        return location -> DistanceCalculator.calculateDistance(
+            location.latitude(), location.longitude(), latitude, longitude) <= WORKPLACE_RADIUS_METERS;
+    }
+}
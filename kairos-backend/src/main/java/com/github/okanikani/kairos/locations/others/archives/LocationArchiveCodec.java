@@ -0,0 +1,239 @@
+package com.github.okanikani.kairos.locations.others.archives;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 位置情報アーカイブのカラムナ形式エンコーダー/デコーダー
+ *
+ * 1ファイル = 1ユーザー・1ヶ月分の位置情報を、列ごとに差分符号化して保持する。
+ *
+ * ファイル形式（ビッグエンディアン）:
+ * <pre>
+ * int    magic      'KLOC'
+ * byte   version    1
+ * int    count      レコード数
+ * long   baseMicros 先頭レコードの記録日時（エポックマイクロ秒）
+ * int    idsLength / timesLength / latitudesLength / longitudesLength 各列のバイト長
+ * byte[] ids        ID列（前レコードとの差分、ZigZag可変長整数）
+ * byte[] times      記録日時列（前レコードとの差分マイクロ秒、ZigZag可変長整数）
+ * byte[] latitudes  緯度列（1e-7度単位の固定小数点、前レコードとの差分）
+ * byte[] longitudes 経度列（1e-7度単位の固定小数点、前レコードとの差分）
+ * </pre>
+ *
+ * 記録日時は昇順に並べて格納するため、差分は通常数バイトに収まる。
+ * 記録日時列だけを先に復号して範囲外のファイルは残りの列を読まずに済ませる。
+ */
+public final class LocationArchiveCodec {
+
+    static final int MAGIC = 0x4B4C4F43; // 'KLOC'
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES * 4;
+
+    // 固定小数点の倍率（1e-7度 ≒ 1.1cm）
+    private static final double COORDINATE_SCALE = 10_000_000.0;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private LocationArchiveCodec() {
+        // ユーティリティクラスなのでインスタンス化を防ぐ
+    }
+
+    /**
+     * 位置情報リストをアーカイブ形式にエンコードする
+     * @param locations 位置情報リスト（IDが採番済みであること）
+     * @return エンコード済みバイト列
+     */
+    public static byte[] encode(List<Location> locations) {
+        Objects.requireNonNull(locations, "locationsは必須です");
+
+        List<Location> sorted = new ArrayList<>(locations);
+        sorted.sort((l1, l2) -> l1.recordedAt().compareTo(l2.recordedAt()));
+
+        ByteArrayOutputStream ids = new ByteArrayOutputStream();
+        ByteArrayOutputStream times = new ByteArrayOutputStream();
+        ByteArrayOutputStream latitudes = new ByteArrayOutputStream();
+        ByteArrayOutputStream longitudes = new ByteArrayOutputStream();
+
+        long baseMicros = sorted.isEmpty() ? 0L : toEpochMicros(sorted.get(0).recordedAt());
+        long previousId = 0L;
+        long previousMicros = baseMicros;
+        long previousLatitude = 0L;
+        long previousLongitude = 0L;
+
+        for (Location location : sorted) {
+            Long id = Objects.requireNonNull(location.id(), "アーカイブ対象の位置情報にはIDが必要です");
+            long micros = toEpochMicros(location.recordedAt());
+            long latitude = toFixedPoint(location.latitude());
+            long longitude = toFixedPoint(location.longitude());
+
+            writeVarLong(ids, id - previousId);
+            writeVarLong(times, micros - previousMicros);
+            writeVarLong(latitudes, latitude - previousLatitude);
+            writeVarLong(longitudes, longitude - previousLongitude);
+
+            previousId = id;
+            previousMicros = micros;
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE
+            + ids.size() + times.size() + latitudes.size() + longitudes.size());
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putInt(sorted.size());
+        buffer.putLong(baseMicros);
+        buffer.putInt(ids.size());
+        buffer.putInt(times.size());
+        buffer.putInt(latitudes.size());
+        buffer.putInt(longitudes.size());
+        buffer.put(ids.toByteArray());
+        buffer.put(times.toByteArray());
+        buffer.put(latitudes.toByteArray());
+        buffer.put(longitudes.toByteArray());
+        return buffer.array();
+    }
+
+    /**
+     * アーカイブ形式のバッファから指定範囲の位置情報を復号する
+     * @param source アーカイブ全体を保持するバッファ（position/limitは変更しない）
+     * @param user 位置情報の所有者
+     * @param startDateTime 開始日時（この日時を含む）
+     * @param endDateTime 終了日時（この日時を含む）
+     * @return 指定範囲の位置情報リスト（記録日時の昇順）
+     * @throws IllegalStateException アーカイブ形式が不正な場合
+     */
+    public static List<Location> decode(ByteBuffer source, User user,
+                                        LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(source, "sourceは必須です");
+        Objects.requireNonNull(user, "userは必須です");
+
+        ByteBuffer buffer = source.duplicate();
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("位置情報アーカイブの形式が不正です");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("未対応の位置情報アーカイブバージョンです: " + version);
+        }
+        int count = buffer.getInt();
+        long baseMicros = buffer.getLong();
+        int idsLength = buffer.getInt();
+        int timesLength = buffer.getInt();
+        int latitudesLength = buffer.getInt();
+        int longitudesLength = buffer.getInt();
+
+        int idsOffset = buffer.position();
+        int timesOffset = idsOffset + idsLength;
+        int latitudesOffset = timesOffset + timesLength;
+        int longitudesOffset = latitudesOffset + latitudesLength;
+        if (longitudesOffset + longitudesLength > buffer.limit()) {
+            throw new IllegalStateException("位置情報アーカイブが途中で切れています");
+        }
+
+        // 1. 記録日時列のみを復号し、対象範囲のインデックスを求める
+        long startMicros = toEpochMicros(startDateTime);
+        long endMicros = toEpochMicros(endDateTime);
+        long[] micros = new long[count];
+        buffer.position(timesOffset);
+        long previousMicros = baseMicros;
+        int from = -1;
+        int to = -1;
+        for (int i = 0; i < count; i++) {
+            previousMicros += readVarLong(buffer);
+            micros[i] = previousMicros;
+            if (previousMicros >= startMicros && previousMicros <= endMicros) {
+                if (from < 0) {
+                    from = i;
+                }
+                to = i;
+            }
+        }
+        if (from < 0) {
+            return Collections.emptyList();
+        }
+
+        // 2. 対象範囲の末尾まで残りの列を復号する（差分符号化のため先頭から順に読む）
+        ByteBuffer idColumn = buffer.duplicate().position(idsOffset);
+        ByteBuffer latitudeColumn = buffer.duplicate().position(latitudesOffset);
+        ByteBuffer longitudeColumn = buffer.duplicate().position(longitudesOffset);
+        long id = 0L;
+        long latitude = 0L;
+        long longitude = 0L;
+        List<Location> result = new ArrayList<>(to - from + 1);
+        for (int i = 0; i <= to; i++) {
+            id += readVarLong(idColumn);
+            latitude += readVarLong(latitudeColumn);
+            longitude += readVarLong(longitudeColumn);
+            if (i >= from) {
+                result.add(new Location(
+                    id,
+                    fromFixedPoint(latitude),
+                    fromFixedPoint(longitude),
+                    fromEpochMicros(micros[i]),
+                    user
+                ));
+            }
+        }
+        return result;
+    }
+
+    static long toFixedPoint(double degrees) {
+        return Math.round(degrees * COORDINATE_SCALE);
+    }
+
+    static double fromFixedPoint(long fixedPoint) {
+        return fixedPoint / COORDINATE_SCALE;
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+            + dateTime.getNano() / NANOS_PER_MICRO;
+    }
+
+    static LocalDateTime fromEpochMicros(long epochMicros) {
+        long seconds = Math.floorDiv(epochMicros, MICROS_PER_SECOND);
+        int nanos = (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    /**
+     * ZigZag符号化した可変長整数を書き込む（負の差分も小さい値に収める）
+     */
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.write((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.write((int) zigZag);
+    }
+
+    /**
+     * ZigZag符号化された可変長整数を読み込む
+     */
+    static long readVarLong(ByteBuffer buffer) {
+        long zigZag = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                throw new IllegalStateException("位置情報アーカイブの可変長整数が不正です");
+            }
+            b = buffer.get();
+            zigZag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.okanikani.kairos.locations.others.controllers;
 
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.locations.applications.usecases.ArchiveLocationsUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.DeleteLocationUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.FindAllLocationsUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.FindLocationByIdUseCase;
@@ -7,7 +9,9 @@ import com.github.okanikani.kairos.locations.applications.usecases.RegisterLocat
 import com.github.okanikani.kairos.locations.applications.usecases.SearchLocationsUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.UpdateLocationUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.PageableSearchLocationsUseCase;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.ArchiveLocationsResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationResult;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.UpdateLocationRequest;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.SearchLocationsRequest;
@@ -18,7 +22,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
@@ -34,8 +40,9 @@ public class LocationController {
     private final SearchLocationsUseCase searchLocationsUseCase;
     private final UpdateLocationUseCase updateLocationUseCase;
     private final PageableSearchLocationsUseCase pageableSearchLocationsUseCase;
+    private final ArchiveLocationsUseCase archiveLocationsUseCase;
     
-    public LocationController(RegisterLocationUseCase registerLocationUseCase, FindAllLocationsUseCase findAllLocationsUseCase, FindLocationByIdUseCase findLocationByIdUseCase, DeleteLocationUseCase deleteLocationUseCase, SearchLocationsUseCase searchLocationsUseCase, UpdateLocationUseCase updateLocationUseCase, PageableSearchLocationsUseCase pageableSearchLocationsUseCase) {
+    public LocationController(RegisterLocationUseCase registerLocationUseCase, FindAllLocationsUseCase findAllLocationsUseCase, FindLocationByIdUseCase findLocationByIdUseCase, DeleteLocationUseCase deleteLocationUseCase, SearchLocationsUseCase searchLocationsUseCase, UpdateLocationUseCase updateLocationUseCase, PageableSearchLocationsUseCase pageableSearchLocationsUseCase, ArchiveLocationsUseCase archiveLocationsUseCase) {
         this.registerLocationUseCase = Objects.requireNonNull(registerLocationUseCase, "registerLocationUseCaseは必須です");
         this.findAllLocationsUseCase = Objects.requireNonNull(findAllLocationsUseCase, "findAllLocationsUseCaseは必須です");
         this.findLocationByIdUseCase = Objects.requireNonNull(findLocationByIdUseCase, "findLocationByIdUseCaseは必須です");
@@ -43,13 +50,16 @@ public class LocationController {
         this.searchLocationsUseCase = Objects.requireNonNull(searchLocationsUseCase, "searchLocationsUseCaseは必須です");
         this.updateLocationUseCase = Objects.requireNonNull(updateLocationUseCase, "updateLocationUseCaseは必須です");
         this.pageableSearchLocationsUseCase = Objects.requireNonNull(pageableSearchLocationsUseCase, "pageableSearchLocationsUseCaseは必須です");
+        this.archiveLocationsUseCase = Objects.requireNonNull(archiveLocationsUseCase, "archiveLocationsUseCaseは必須です");
     }
     
     @PostMapping
     public ResponseEntity<LocationResponse> registerLocation(@RequestBody RegisterLocationRequest request, Authentication authentication) {
         String userId = authentication.getName();
-        LocationResponse response = registerLocationUseCase.execute(request, userId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        RegisterLocationResult result = registerLocationUseCase.execute(request, userId);
+        // 再送による重複は新規作成ではないため200で既存の位置情報を返す
+        HttpStatus status = result.duplicate() ? HttpStatus.OK : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(result.location());
     }
     
     @GetMapping
@@ -121,4 +131,21 @@ public class LocationController {
         PagedLocationResponse response = pageableSearchLocationsUseCase.execute(request, userId);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/archive/{year}/{month}")
+    public ResponseEntity<ArchiveLocationsResponse> archiveLocations(
+            @PathVariable(name = "year") int year,
+            @PathVariable(name = "month") int month,
+            Authentication authentication) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new ValidationException("無効な年月が指定されました: " + year + "/" + month, e);
+        }
+        
+        String userId = authentication.getName();
+        ArchiveLocationsResponse response = archiveLocationsUseCase.execute(yearMonth, userId);
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
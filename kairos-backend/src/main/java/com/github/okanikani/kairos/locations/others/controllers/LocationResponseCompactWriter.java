@@ -0,0 +1,42 @@
+package com.github.okanikani.kairos.locations.others.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.okanikani.kairos.commons.json.CompactJsonWriter;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 位置情報レスポンスのコンパクト形式での出力
+ *
+ * [ID, 緯度, 経度, 記録日時]
+ * 記録日時はISO-8601形式の文字列で出力する。一覧はこの配列の配列になる
+ */
+@Component
+public class LocationResponseCompactWriter implements CompactJsonWriter<LocationResponse> {
+
+    @Override
+    public Class<LocationResponse> type() {
+        return LocationResponse.class;
+    }
+
+    @Override
+    public void write(LocationResponse location, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        if (location.id() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(location.id());
+        }
+        generator.writeNumber(location.latitude());
+        generator.writeNumber(location.longitude());
+        if (location.recordedAt() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(location.recordedAt()));
+        }
+        generator.writeEndArray();
+    }
+}
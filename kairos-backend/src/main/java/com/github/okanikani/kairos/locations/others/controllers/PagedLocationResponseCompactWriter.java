@@ -0,0 +1,50 @@
+package com.github.okanikani.kairos.locations.others.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.okanikani.kairos.commons.json.CompactJsonWriter;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.PagedLocationResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * ページネーション対応位置情報レスポンスのコンパクト形式での出力
+ *
+ * [[位置情報, ...], ページ番号, 1ページあたりの件数, 全件数, 全ページ数, 最初のページか, 最後のページか, 次のページがあるか, 前のページがあるか]
+ * 位置情報の並びは {@link LocationResponseCompactWriter} と同じ
+ */
+@Component
+public class PagedLocationResponseCompactWriter implements CompactJsonWriter<PagedLocationResponse> {
+
+    private final LocationResponseCompactWriter locationWriter;
+
+    public PagedLocationResponseCompactWriter(LocationResponseCompactWriter locationWriter) {
+        this.locationWriter = Objects.requireNonNull(locationWriter, "locationWriterは必須です");
+    }
+
+    @Override
+    public Class<PagedLocationResponse> type() {
+        return PagedLocationResponse.class;
+    }
+
+    @Override
+    public void write(PagedLocationResponse page, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        generator.writeStartArray(page.content(), page.content().size());
+        for (LocationResponse location : page.content()) {
+            locationWriter.write(location, generator);
+        }
+        generator.writeEndArray();
+        generator.writeNumber(page.page());
+        generator.writeNumber(page.size());
+        generator.writeNumber(page.totalElements());
+        generator.writeNumber(page.totalPages());
+        generator.writeBoolean(page.first());
+        generator.writeBoolean(page.last());
+        generator.writeBoolean(page.hasNext());
+        generator.writeBoolean(page.hasPrevious());
+        generator.writeEndArray();
+    }
+}
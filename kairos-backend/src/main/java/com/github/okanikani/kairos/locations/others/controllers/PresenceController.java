@@ -0,0 +1,55 @@
+package com.github.okanikani.kairos.locations.others.controllers;
+
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.locations.applications.usecases.FindPresenceUseCase;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.FindPresenceRequest;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.WorkplacePresenceResponse;
+import com.github.okanikani.kairos.security.AdminAuthorization;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 作業場所にいるユーザーの参照API
+ *
+ * 全ユーザーの最新位置を返すため、管理者のみ利用できる
+ */
+@RestController
+@RequestMapping("/api/presence")
+public class PresenceController {
+
+    private final FindPresenceUseCase findPresenceUseCase;
+
+    public PresenceController(FindPresenceUseCase findPresenceUseCase) {
+        this.findPresenceUseCase = Objects.requireNonNull(findPresenceUseCase, "findPresenceUseCaseは必須です");
+    }
+
+    /**
+     * 勤怠先の範囲内にいるユーザーを取得
+     *
+     * @param workPlaceId 勤怠先ID
+     * @param withinMinutes 最新位置がこの分数以内に記録されたユーザーを対象とする
+     * @param authentication 認証情報
+     * @return 作業場所にいるユーザーの最新位置一覧
+     */
+    @GetMapping("/workplaces/{workPlaceId}")
+    public ResponseEntity<WorkplacePresenceResponse> findPresence(
+            @PathVariable(name = "workPlaceId") Long workPlaceId,
+            @RequestParam(name = "withinMinutes", defaultValue = "15") long withinMinutes,
+            Authentication authentication) {
+        AdminAuthorization.requireAdmin(authentication, "作業場所の在席状況は管理者のみ参照できます");
+        if (withinMinutes <= 0) {
+            throw new ValidationException("withinMinutesには1以上を指定してください");
+        }
+
+        return ResponseEntity.ok(findPresenceUseCase.execute(
+            new FindPresenceRequest(workPlaceId, Duration.ofMinutes(withinMinutes))));
+    }
+}
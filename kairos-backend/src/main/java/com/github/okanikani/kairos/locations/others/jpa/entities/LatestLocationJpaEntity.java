@@ -0,0 +1,62 @@
+package com.github.okanikani.kairos.locations.others.jpa.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * ユーザーごとの最新位置のJPAエンティティ
+ *
+ * 業務要件: 位置情報の登録時に更新する最新位置を、座標の格子（セル番号）付きで保存
+ * 更新はネイティブクエリの upsert で行うため、参照専用として扱う
+ */
+@Entity
+@Table(name = "latest_locations")
+public class LatestLocationJpaEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String userId;
+
+    @Column(name = "location_id", nullable = false)
+    private Long locationId;
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Column(name = "grid_cell", nullable = false)
+    private Long gridCell;
+
+    protected LatestLocationJpaEntity() {
+        // JPAのため
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public Long getGridCell() {
+        return gridCell;
+    }
+}
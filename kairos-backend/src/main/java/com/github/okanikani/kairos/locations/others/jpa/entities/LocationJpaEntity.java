@@ -9,26 +9,32 @@ import java.util.Objects;
  * 位置情報のJPAエンティティ
  * 
  * 業務要件: GPS座標と記録日時を管理し、ユーザーごとの位置情報を保存
+ *
+ * 座標は latitude_e6 / longitude_e6 列にマイクロ度の整数で保存し、度単位との変換はこのクラスで行う
  */
 @Entity
-@Table(name = "locations")
+@Table(name = "locations", uniqueConstraints = @UniqueConstraint(
+        name = "uk_locations_user_recorded_at", columnNames = {"user_id", "recorded_at"}))
 public class LocationJpaEntity {
 
+    // 座標は1e-6度（マイクロ度、約0.1m）単位の整数で保存する（緯度・経度で8バイト、DOUBLE PRECISIONの半分）
+    private static final double MICRODEGREES_PER_DEGREE = 1_000_000.0;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotNull(message = "緯度は必須です")
-    @DecimalMin(value = "-90.0", message = "緯度は-90.0以上である必要があります")
-    @DecimalMax(value = "90.0", message = "緯度は90.0以下である必要があります")
-    @Column(name = "latitude", nullable = false)
-    private Double latitude;
+    @Min(value = -90_000_000, message = "緯度は-90.0以上である必要があります")
+    @Max(value = 90_000_000, message = "緯度は90.0以下である必要があります")
+    @Column(name = "latitude_e6", nullable = false)
+    private Integer latitudeE6;
 
     @NotNull(message = "経度は必須です")
-    @DecimalMin(value = "-180.0", message = "経度は-180.0以上である必要があります")
-    @DecimalMax(value = "180.0", message = "経度は180.0以下である必要があります")
-    @Column(name = "longitude", nullable = false)
-    private Double longitude;
+    @Min(value = -180_000_000, message = "経度は-180.0以上である必要があります")
+    @Max(value = 180_000_000, message = "経度は180.0以下である必要があります")
+    @Column(name = "longitude_e6", nullable = false)
+    private Integer longitudeE6;
 
     @NotNull(message = "記録日時は必須です")
     @Column(name = "recorded_at", nullable = false)
@@ -43,8 +49,18 @@ public class LocationJpaEntity {
     }
 
     public LocationJpaEntity(Double latitude, Double longitude, LocalDateTime recordedAt, String userId) {
-        this.latitude = Objects.requireNonNull(latitude, "緯度は必須です");
-        this.longitude = Objects.requireNonNull(longitude, "経度は必須です");
+        this(null, latitude, longitude, recordedAt, userId);
+    }
+
+    /**
+     * 既存の位置情報を更新する場合のコンストラクタ
+     *
+     * @param id 位置情報のID（新規作成時はnull）
+     */
+    public LocationJpaEntity(Long id, Double latitude, Double longitude, LocalDateTime recordedAt, String userId) {
+        this.id = id;
+        this.latitudeE6 = toMicrodegrees(Objects.requireNonNull(latitude, "緯度は必須です"));
+        this.longitudeE6 = toMicrodegrees(Objects.requireNonNull(longitude, "経度は必須です"));
         this.recordedAt = Objects.requireNonNull(recordedAt, "記録日時は必須です");
         this.userId = Objects.requireNonNull(userId, "ユーザーIDは必須です");
     }
@@ -54,11 +70,11 @@ public class LocationJpaEntity {
     }
 
     public Double getLatitude() {
-        return latitude;
+        return fromMicrodegrees(latitudeE6);
     }
 
     public Double getLongitude() {
-        return longitude;
+        return fromMicrodegrees(longitudeE6);
     }
 
     public LocalDateTime getRecordedAt() {
@@ -69,6 +85,28 @@ public class LocationJpaEntity {
         return userId;
     }
 
+    /**
+     * 度単位の座標を保存用のマイクロ度に変換
+     *
+     * 小数点以下7桁目で四捨五入する（端末の測位精度より十分に細かい）
+     *
+     * @param degrees 度単位の座標
+     * @return マイクロ度単位の座標
+     */
+    public static int toMicrodegrees(double degrees) {
+        return Math.toIntExact(Math.round(degrees * MICRODEGREES_PER_DEGREE));
+    }
+
+    /**
+     * 保存用のマイクロ度を度単位の座標に変換
+     *
+     * @param microdegrees マイクロ度単位の座標
+     * @return 度単位の座標
+     */
+    public static double fromMicrodegrees(int microdegrees) {
+        return microdegrees / MICRODEGREES_PER_DEGREE;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
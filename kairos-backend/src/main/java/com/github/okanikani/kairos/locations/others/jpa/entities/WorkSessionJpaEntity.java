@@ -0,0 +1,71 @@
+package com.github.okanikani.kairos.locations.others.jpa.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 勤務セッションのJPAエンティティ
+ *
+ * 業務要件: 位置情報の登録時に維持する勤務セッション（連続した位置情報のまとまり）を保存
+ */
+@Entity
+@Table(name = "work_sessions")
+public class WorkSessionJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String userId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at", nullable = false)
+    private LocalDateTime endedAt;
+
+    @Column(name = "point_count", nullable = false)
+    private Integer pointCount;
+
+    @Column(name = "within_geofence", nullable = false)
+    private Boolean withinGeofence;
+
+    protected WorkSessionJpaEntity() {
+        // JPAのため
+    }
+
+    public WorkSessionJpaEntity(String userId, LocalDateTime startedAt, LocalDateTime endedAt,
+                                Integer pointCount, Boolean withinGeofence) {
+        this.userId = Objects.requireNonNull(userId, "ユーザーIDは必須です");
+        this.startedAt = Objects.requireNonNull(startedAt, "開始日時は必須です");
+        this.endedAt = Objects.requireNonNull(endedAt, "終了日時は必須です");
+        this.pointCount = Objects.requireNonNull(pointCount, "件数は必須です");
+        this.withinGeofence = Objects.requireNonNull(withinGeofence, "作業場所範囲内フラグは必須です");
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
+    public Integer getPointCount() {
+        return pointCount;
+    }
+
+    public Boolean getWithinGeofence() {
+        return withinGeofence;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.okanikani.kairos.locations.others.jpa.repositories;
+
+import com.github.okanikani.kairos.locations.others.jpa.entities.LatestLocationJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ユーザーごとの最新位置のSpring Data JPAリポジトリ
+ *
+ * 業務要件: 位置情報の登録時の最新位置の更新と、セル番号による周辺ユーザーの検索を提供
+ */
+@Repository
+public interface LatestLocationJpaRepository extends JpaRepository<LatestLocationJpaEntity, String> {
+
+    // クエリパラメータ名の定数定義
+    String PARAM_USER_ID = "userId";
+    String PARAM_LOCATION_ID = "locationId";
+    String PARAM_LATITUDE = "latitude";
+    String PARAM_LONGITUDE = "longitude";
+    String PARAM_RECORDED_AT = "recordedAt";
+    String PARAM_GRID_CELL = "gridCell";
+
+    /**
+     * 最新位置を登録・更新する（保持している最新位置より古い場合は更新しない）
+     *
+     * 同じユーザーの登録が並行しても、記録日時が最も遅い位置が残る
+     */
+    @Modifying
+    @Query(value = "INSERT INTO latest_locations (user_id, location_id, latitude, longitude, recorded_at, grid_cell) "
+            + "VALUES (:userId, :locationId, :latitude, :longitude, :recordedAt, :gridCell) "
+            + "ON CONFLICT (user_id) DO UPDATE SET location_id = EXCLUDED.location_id, latitude = EXCLUDED.latitude, "
+            + "longitude = EXCLUDED.longitude, recorded_at = EXCLUDED.recorded_at, grid_cell = EXCLUDED.grid_cell "
+            + "WHERE latest_locations.recorded_at <= EXCLUDED.recorded_at",
+           nativeQuery = true)
+    int upsertIfNewer(@Param(PARAM_USER_ID) String userId,
+                      @Param(PARAM_LOCATION_ID) Long locationId,
+                      @Param(PARAM_LATITUDE) Double latitude,
+                      @Param(PARAM_LONGITUDE) Double longitude,
+                      @Param(PARAM_RECORDED_AT) LocalDateTime recordedAt,
+                      @Param(PARAM_GRID_CELL) Long gridCell);
+
+    /**
+     * 最新位置を登録・置き換える（記録日時に関わらず上書きする）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO latest_locations (user_id, location_id, latitude, longitude, recorded_at, grid_cell) "
+            + "VALUES (:userId, :locationId, :latitude, :longitude, :recordedAt, :gridCell) "
+            + "ON CONFLICT (user_id) DO UPDATE SET location_id = EXCLUDED.location_id, latitude = EXCLUDED.latitude, "
+            + "longitude = EXCLUDED.longitude, recorded_at = EXCLUDED.recorded_at, grid_cell = EXCLUDED.grid_cell",
+           nativeQuery = true)
+    int upsert(@Param(PARAM_USER_ID) String userId,
+               @Param(PARAM_LOCATION_ID) Long locationId,
+               @Param(PARAM_LATITUDE) Double latitude,
+               @Param(PARAM_LONGITUDE) Double longitude,
+               @Param(PARAM_RECORDED_AT) LocalDateTime recordedAt,
+               @Param(PARAM_GRID_CELL) Long gridCell);
+
+    /**
+     * 指定したセルに含まれ、指定日時以降に記録された最新位置を取得
+     *
+     * (grid_cell, recorded_at) のインデックスで、周辺のセル以外の行を読まずに絞り込む
+     *
+     * @param gridCells セル番号
+     * @param since この日時以降に記録された最新位置のみを対象とする
+     * @return 最新位置一覧（ユーザーIDの昇順）
+     */
+    @Query("SELECT l FROM LatestLocationJpaEntity l WHERE l.gridCell IN :gridCells AND l.recordedAt >= :since ORDER BY l.userId")
+    List<LatestLocationJpaEntity> findByGridCellInAndRecordedAtSince(@Param("gridCells") Collection<Long> gridCells,
+                                                                     @Param("since") LocalDateTime since);
+}
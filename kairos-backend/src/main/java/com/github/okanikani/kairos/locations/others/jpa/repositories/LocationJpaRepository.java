@@ -7,9 +7,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 位置情報のSpring Data JPAリポジトリ
@@ -23,6 +25,39 @@ public interface LocationJpaRepository extends JpaRepository<LocationJpaEntity,
     String PARAM_USER_ID = "userId";
     String PARAM_START_DATE_TIME = "startDateTime";
     String PARAM_END_DATE_TIME = "endDateTime";
+    String PARAM_RECORDED_AT = "recordedAt";
+
+    /**
+     * 位置情報を挿入する（(user_id, recorded_at) が重複する場合は何もしない）
+     * 
+     * 業務要件: 端末の再送による重複登録を一意制約違反の例外なしで無視する
+     * 
+     * @param latitudeE6 緯度（マイクロ度、{@link LocationJpaEntity#toMicrodegrees} で変換した値）
+     * @param longitudeE6 経度（マイクロ度、{@link LocationJpaEntity#toMicrodegrees} で変換した値）
+     * @param recordedAt 記録日時
+     * @param userId ユーザーID
+     * @return 採番されたID（重複のため挿入しなかった場合は空リスト）
+     */
+    @Transactional
+    @Query(value = "INSERT INTO locations (latitude_e6, longitude_e6, recorded_at, user_id) "
+            + "VALUES (:latitudeE6, :longitudeE6, :recordedAt, :userId) "
+            + "ON CONFLICT (user_id, recorded_at) DO NOTHING RETURNING id",
+           nativeQuery = true)
+    List<Long> insertIgnoringDuplicate(@Param("latitudeE6") int latitudeE6,
+                                       @Param("longitudeE6") int longitudeE6,
+                                       @Param(PARAM_RECORDED_AT) LocalDateTime recordedAt,
+                                       @Param(PARAM_USER_ID) String userId);
+
+    /**
+     * ユーザーIDと記録日時で位置情報を検索
+     * 
+     * @param userId ユーザーID
+     * @param recordedAt 記録日時
+     * @return 該当する位置情報
+     */
+    @Query("SELECT l FROM LocationJpaEntity l WHERE l.userId = :userId AND l.recordedAt = :recordedAt")
+    Optional<LocationJpaEntity> findByUserIdAndRecordedAt(@Param(PARAM_USER_ID) String userId,
+                                                          @Param(PARAM_RECORDED_AT) LocalDateTime recordedAt);
 
     /**
      * ユーザーIDで位置情報を検索（記録日時の降順）
@@ -61,6 +96,39 @@ public interface LocationJpaRepository extends JpaRepository<LocationJpaEntity,
                                                              @Param(PARAM_END_DATE_TIME) LocalDateTime endDateTime,
                                                              Pageable pageable);
 
+    /**
+     * ユーザーIDと期間で位置情報を件数指定で検索（記録日時・IDの昇順）
+     * 
+     * 業務要件: アーカイブ済みの位置情報と合成するページで、ページ境界に揃わない範囲を取得する
+     * 
+     * @param userId ユーザーID
+     * @param startDateTime 開始日時
+     * @param endDateTime 終了日時
+     * @param offset 読み飛ばす件数
+     * @param limit 取得する最大件数
+     * @return 該当期間の位置情報一覧
+     */
+    @Query("SELECT l FROM LocationJpaEntity l WHERE l.userId = :userId AND l.recordedAt BETWEEN :startDateTime AND :endDateTime "
+            + "ORDER BY l.recordedAt, l.id LIMIT :limit OFFSET :offset")
+    List<LocationJpaEntity> findSliceByUserIdAndRecordedAtBetween(@Param(PARAM_USER_ID) String userId,
+                                                                  @Param(PARAM_START_DATE_TIME) LocalDateTime startDateTime,
+                                                                  @Param(PARAM_END_DATE_TIME) LocalDateTime endDateTime,
+                                                                  @Param("offset") int offset,
+                                                                  @Param("limit") int limit);
+
+    /**
+     * ユーザーIDと期間で位置情報の件数を取得
+     * 
+     * @param userId ユーザーID
+     * @param startDateTime 開始日時
+     * @param endDateTime 終了日時
+     * @return 該当期間の位置情報の件数
+     */
+    @Query("SELECT COUNT(l) FROM LocationJpaEntity l WHERE l.userId = :userId AND l.recordedAt BETWEEN :startDateTime AND :endDateTime")
+    long countByUserIdAndRecordedAtBetween(@Param(PARAM_USER_ID) String userId,
+                                           @Param(PARAM_START_DATE_TIME) LocalDateTime startDateTime,
+                                           @Param(PARAM_END_DATE_TIME) LocalDateTime endDateTime);
+
     /**
      * ユーザーIDで記録日時のみを取得（勤怠表生成用）
      * 
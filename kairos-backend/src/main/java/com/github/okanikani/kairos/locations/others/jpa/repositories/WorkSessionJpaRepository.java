@@ -0,0 +1,67 @@
+package com.github.okanikani.kairos.locations.others.jpa.repositories;
+
+import com.github.okanikani.kairos.locations.others.jpa.entities.WorkSessionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 勤務セッションのSpring Data JPAリポジトリ
+ *
+ * 業務要件: 勤務セッションの延長・局所修復・勤怠表生成時の読み込みを提供
+ */
+@Repository
+public interface WorkSessionJpaRepository extends JpaRepository<WorkSessionJpaEntity, Long> {
+
+    // クエリパラメータ名の定数定義
+    String PARAM_USER_ID = "userId";
+    String PARAM_START_DATE_TIME = "startDateTime";
+    String PARAM_END_DATE_TIME = "endDateTime";
+
+    /**
+     * ユーザーの最新（開始日時が最も遅い）勤務セッションを取得
+     *
+     * @param userId ユーザーID
+     * @return 最新の勤務セッション
+     */
+    @Query("SELECT s FROM WorkSessionJpaEntity s WHERE s.userId = :userId ORDER BY s.startedAt DESC LIMIT 1")
+    Optional<WorkSessionJpaEntity> findLatestByUserId(@Param(PARAM_USER_ID) String userId);
+
+    /**
+     * 期間と重なる勤務セッションを開始日時の昇順で取得
+     *
+     * @param userId ユーザーID
+     * @param startDateTime 期間開始日時
+     * @param endDateTime 期間終了日時
+     * @return 該当する勤務セッション一覧
+     */
+    @Query("SELECT s FROM WorkSessionJpaEntity s WHERE s.userId = :userId "
+            + "AND s.endedAt >= :startDateTime AND s.startedAt <= :endDateTime ORDER BY s.startedAt")
+    List<WorkSessionJpaEntity> findOverlapping(@Param(PARAM_USER_ID) String userId,
+                                               @Param(PARAM_START_DATE_TIME) LocalDateTime startDateTime,
+                                               @Param(PARAM_END_DATE_TIME) LocalDateTime endDateTime);
+
+    /**
+     * 勤務セッションの終了日時と件数を更新する
+     *
+     * 業務要件: 位置情報の登録ごとの延長を、エンティティの読み込みなしの1文で行う
+     *
+     * @param id 勤務セッションID
+     * @param endedAt 終了日時
+     * @param pointCount 件数
+     * @return 更新件数
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WorkSessionJpaEntity s SET s.endedAt = :endedAt, s.pointCount = :pointCount WHERE s.id = :id")
+    int updateEnd(@Param("id") Long id,
+                  @Param("endedAt") LocalDateTime endedAt,
+                  @Param("pointCount") Integer pointCount);
+}
@@ -0,0 +1,40 @@
+package com.github.okanikani.kairos.locations.others.locks;
+
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 単一インスタンス用の勤務セッションロック
+ *
+ * ※これは開発・テスト用の実装です。
+ * インメモリリポジトリは他インスタンスと共有されないため、同一インスタンス内の排他のみ行う。
+ * ユーザーごとにロックを保持し続けないよう、ユーザーIDのハッシュで固定数のロックに振り分ける。
+ */
+@Component
+@Profile("dev")
+public class LocalWorkSessionLock implements WorkSessionLock {
+
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    public LocalWorkSessionLock() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public <T> T executeExclusively(User user, Supplier<T> action) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(action, "actionは必須です");
+        synchronized (locks[Math.floorMod(user.userId().hashCode(), STRIPES)]) {
+            return action.get();
+        }
+    }
+}
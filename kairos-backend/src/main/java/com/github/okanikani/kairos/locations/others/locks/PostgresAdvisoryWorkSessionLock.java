@@ -0,0 +1,54 @@
+package com.github.okanikani.kairos.locations.others.locks;
+
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * PostgreSQLのアドバイザリロックによる勤務セッションロック
+ *
+ * トランザクション単位のアドバイザリロック（pg_advisory_xact_lock）を取得してから処理を実行する。
+ * 位置情報の保存と勤務セッションの更新は同じトランザクションで確定するため、
+ * 途中で失敗しても位置情報だけが残ることはない。
+ */
+@Component
+@Profile("prod")
+public class PostgresAdvisoryWorkSessionLock implements WorkSessionLock {
+
+    // ロックキーの名前空間（他用途のアドバイザリロックとキーが衝突しないよう接頭辞を付けてハッシュ化する）
+    private static final String LOCK_KEY_PREFIX = "kairos.locations.sessions:";
+
+    // ロック待ちの上限。保持時間は1件の登録分のため、超えた場合は異常として登録を失敗させる（端末は再送する）
+    static final String LOCK_TIMEOUT = "10s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostgresAdvisoryWorkSessionLock(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplateは必須です");
+        this.transactionTemplate = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManagerは必須です"));
+    }
+
+    @Override
+    public <T> T executeExclusively(User user, Supplier<T> action) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(action, "actionは必須です");
+
+        return transactionTemplate.execute(status -> {
+            // SET LOCAL はトランザクション終了時に元に戻る
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))",
+                resultSet -> null,
+                LOCK_KEY_PREFIX + user.userId());
+            return action.get();
+        });
+    }
+}
@@ -0,0 +1,274 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.archives.LocationArchiveCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 位置情報アーカイブのファイル実装
+ *
+ * {baseDir}/{ユーザーIDのBase64URL}/{yyyy-MM}.kloc に1ヶ月分ずつ格納する。
+ * 読み込みはメモリマップで行い、アーカイブ済みの月は連続した数KBの読み出しで済む。
+ * 書き込みは一時ファイルへの出力とfsync後のアトミックな置換で行う。
+ * トランザクション中の書き込みは、ロールバック時に置き換え前のアーカイブへ戻す。
+ */
+@Repository
+public class FileLocationArchiveRepository implements LocationArchiveRepository {
+
+    private static final String FILE_EXTENSION = ".kloc";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String BACKUP_FILE_EXTENSION = ".bak";
+    private static final Pattern ARCHIVE_FILE_NAME = Pattern.compile("(\\d{4}-\\d{2})\\.kloc");
+
+    private static final Logger log = LoggerFactory.getLogger(FileLocationArchiveRepository.class);
+
+    private final LocationArchiveProperties properties;
+    private final Path baseDir;
+
+    public FileLocationArchiveRepository(LocationArchiveProperties properties) {
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+        this.baseDir = Paths.get(properties.baseDir());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public void archive(User user, YearMonth yearMonth, List<Location> locations) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(locations, "locationsは必須です");
+
+        for (Location location : locations) {
+            if (!YearMonth.from(location.recordedAt()).equals(yearMonth)) {
+                throw new IllegalArgumentException(
+                    "アーカイブ対象外の年月の位置情報が含まれています: " + location.recordedAt());
+            }
+        }
+
+        Path target = archiveFile(user, yearMonth);
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_FILE_EXTENSION);
+        byte[] encoded = LocationArchiveCodec.encode(locations);
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(encoded);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                publishInTransaction(temp, target);
+            } else {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報アーカイブの書き込みに失敗しました: " + target, e);
+        }
+    }
+
+    /**
+     * トランザクション中にアーカイブを置き換える
+     *
+     * 置き換え前のアーカイブを退避してから置き換え、コミットされなかった場合は退避したアーカイブへ戻す
+     * （新規の場合は削除する）。データベースの行の削除がロールバックされたときに、
+     * 同じ位置情報がアーカイブとデータベースの両方に残らないようにするため。
+     */
+    private void publishInTransaction(Path temp, Path target) throws IOException {
+        Path backup = target.resolveSibling(target.getFileName() + BACKUP_FILE_EXTENSION);
+        boolean existed = Files.isRegularFile(target);
+        if (existed) {
+            Files.copy(target, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        Files.deleteIfExists(backup);
+                    } else if (existed) {
+                        Files.move(backup, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } else {
+                        Files.deleteIfExists(target);
+                    }
+                } catch (IOException e) {
+                    log.error("位置情報アーカイブをトランザクションの結果に合わせられませんでした: file={}, status={}",
+                        target, status, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean isArchived(User user, YearMonth yearMonth) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        return Files.isRegularFile(archiveFile(user, yearMonth));
+    }
+
+    @Override
+    public List<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(startDateTime, "startDateTimeは必須です");
+        Objects.requireNonNull(endDateTime, "endDateTimeは必須です");
+
+        if (!properties.enabled() || startDateTime.isAfter(endDateTime)) {
+            return List.of();
+        }
+
+        return readUserRange(baseDir.resolve(encodeUserId(user)), user, startDateTime, endDateTime);
+    }
+
+    @Override
+    public List<Location> findByDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(startDateTime, "startDateTimeは必須です");
+        Objects.requireNonNull(endDateTime, "endDateTimeは必須です");
+
+        if (!properties.enabled() || startDateTime.isAfter(endDateTime) || !Files.isDirectory(baseDir)) {
+            return List.of();
+        }
+
+        List<Location> result = new ArrayList<>();
+        for (Path userDir : list(baseDir)) {
+            if (Files.isDirectory(userDir)) {
+                User user = new User(decodeUserId(userDir.getFileName().toString()));
+                result.addAll(readUserRange(userDir, user, startDateTime, endDateTime));
+            }
+        }
+        result.sort(Comparator.comparing(Location::recordedAt).thenComparing(location -> location.user().userId()));
+        return result;
+    }
+
+    @Override
+    public Optional<Location> findByUserAndId(User user, Long id) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(id, "idは必須です");
+
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        // IDの索引は持たないため、ユーザーのアーカイブを全て読む
+        return readUserRange(baseDir.resolve(encodeUserId(user)), user, LocalDateTime.MIN, LocalDateTime.MAX).stream()
+            .filter(location -> location.id().equals(id))
+            .findFirst();
+    }
+
+    @Override
+    public Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(recordedAt, "recordedAtは必須です");
+
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        Path file = archiveFile(user, YearMonth.from(recordedAt));
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return readRange(file, user, recordedAt, recordedAt).stream().findFirst();
+    }
+
+    /**
+     * ユーザーのアーカイブのうち、範囲に含まれる年月のファイルを古い順に読む
+     * （各ファイル内は昇順のため連結で昇順になる）
+     */
+    private List<Location> readUserRange(Path userDir, User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (!Files.isDirectory(userDir)) {
+            return List.of();
+        }
+        YearMonth first = YearMonth.from(startDateTime);
+        YearMonth last = YearMonth.from(endDateTime);
+        List<YearMonth> months = new ArrayList<>();
+        for (Path file : list(userDir)) {
+            Matcher matcher = ARCHIVE_FILE_NAME.matcher(file.getFileName().toString());
+            if (matcher.matches()) {
+                YearMonth month = YearMonth.parse(matcher.group(1));
+                if (!month.isBefore(first) && !month.isAfter(last)) {
+                    months.add(month);
+                }
+            }
+        }
+        months.sort(Comparator.naturalOrder());
+
+        List<Location> result = new ArrayList<>();
+        for (YearMonth month : months) {
+            // 範囲を月内に絞り、LocalDateTime.MIN/MAXのような範囲でも記録日時の変換が桁あふれしないようにする
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            LocalDateTime monthEnd = month.atEndOfMonth().atTime(LocalTime.MAX);
+            result.addAll(readRange(userDir.resolve(month + FILE_EXTENSION), user,
+                startDateTime.isAfter(monthStart) ? startDateTime : monthStart,
+                endDateTime.isBefore(monthEnd) ? endDateTime : monthEnd));
+        }
+        return result;
+    }
+
+    private List<Path> list(Path dir) {
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries.toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報アーカイブの一覧取得に失敗しました: " + dir, e);
+        }
+    }
+
+    private List<Location> readRange(Path file, User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return LocationArchiveCodec.decode(mapped, user, startDateTime, endDateTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報アーカイブの読み込みに失敗しました: " + file, e);
+        }
+    }
+
+    private Path archiveFile(User user, YearMonth yearMonth) {
+        return baseDir.resolve(encodeUserId(user)).resolve(yearMonth + FILE_EXTENSION);
+    }
+
+    /**
+     * ユーザーIDをファイルシステム上安全なディレクトリ名に変換する
+     */
+    private String encodeUserId(User user) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(user.userId().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeUserId(String directoryName) {
+        return new String(Base64.getUrlDecoder().decode(directoryName), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.utils.DistanceCalculator;
+import com.github.okanikani.kairos.commons.utils.GeoGrid;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LatestLocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * インメモリ最新位置リポジトリ実装
+ *
+ * ※これは開発・テスト用の実装です。
+ * ユーザーごとの最新位置と、セルごとのユーザーIDの索引を同時に更新するため、更新・参照は排他的に行う。
+ */
+@Repository
+@Profile("dev")
+public class InMemoryLatestLocationRepository implements LatestLocationRepository {
+
+    private final Map<String, Location> latestByUserId = new HashMap<>();
+    private final Map<Long, Set<String>> userIdsByCell = new HashMap<>();
+
+    @Override
+    public synchronized void recordIfNewer(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        Location current = latestByUserId.get(location.user().userId());
+        if (current != null && current.recordedAt().isAfter(location.recordedAt())) {
+            return;
+        }
+        replace(location);
+    }
+
+    @Override
+    public synchronized void replace(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        remove(location.user());
+        latestByUserId.put(location.user().userId(), location);
+        userIdsByCell.computeIfAbsent(GeoGrid.cellOf(location.latitude(), location.longitude()), cell -> new HashSet<>())
+            .add(location.user().userId());
+    }
+
+    @Override
+    public synchronized void remove(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        Location previous = latestByUserId.remove(user.userId());
+        if (previous == null) {
+            return;
+        }
+        long cell = GeoGrid.cellOf(previous.latitude(), previous.longitude());
+        Set<String> userIds = userIdsByCell.get(cell);
+        userIds.remove(user.userId());
+        if (userIds.isEmpty()) {
+            userIdsByCell.remove(cell);
+        }
+    }
+
+    @Override
+    public synchronized List<Location> findWithin(double latitude, double longitude, double radiusMeters, LocalDateTime since) {
+        Objects.requireNonNull(since, "sinceは必須です");
+
+        List<Location> result = new ArrayList<>();
+        for (long cell : GeoGrid.cellsCovering(latitude, longitude, radiusMeters)) {
+            for (String userId : userIdsByCell.getOrDefault(cell, Set.of())) {
+                Location location = latestByUserId.get(userId);
+                if (!location.recordedAt().isBefore(since)
+                    && DistanceCalculator.calculateDistance(latitude, longitude, location.latitude(), location.longitude()) <= radiusMeters) {
+                    result.add(location);
+                }
+            }
+        }
+        result.sort(Comparator.comparing(location -> location.user().userId()));
+        return result;
+    }
+}
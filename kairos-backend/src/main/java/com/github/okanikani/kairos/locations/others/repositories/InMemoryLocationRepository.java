@@ -1,6 +1,7 @@
 package com.github.okanikani.kairos.locations.others.repositories;
 
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
 import org.springframework.context.annotation.Profile;
@@ -10,8 +11,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -21,7 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * TODO: PostgreSQL等を使用した永続化実装への置き換え
  */
 @Repository
-@Profile("dev")
+@Profile("dev & !single-node")
 public class InMemoryLocationRepository implements LocationRepository {
     
     // 時間定数
@@ -31,6 +35,11 @@ public class InMemoryLocationRepository implements LocationRepository {
     
     private final Map<Long, Location> locations = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final LocationArchiveRepository locationArchiveRepository;
+    
+    public InMemoryLocationRepository(LocationArchiveRepository locationArchiveRepository) {
+        this.locationArchiveRepository = locationArchiveRepository;
+    }
     
     @Override
     public Location save(Location location) {
@@ -51,13 +60,37 @@ public class InMemoryLocationRepository implements LocationRepository {
         return locationToSave;
     }
     
+    @Override
+    public synchronized Optional<Location> saveIfAbsent(Location location) {
+        if (location.id() != null) {
+            throw new IllegalArgumentException("saveIfAbsentは新規の位置情報（IDなし）のみ対象です");
+        }
+        // JPA実装の一意制約 (user_id, recorded_at) と同じく、重複時は保存しない
+        if (findByUserAndRecordedAt(location.user(), location.recordedAt()).isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(save(location));
+    }
+    
+    @Override
+    public Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt) {
+        Optional<Location> found = locations.values().stream()
+            .filter(location -> location.user().equals(user))
+            .filter(location -> location.recordedAt().equals(recordedAt))
+            .findFirst();
+        // アーカイブ済みの月の位置情報も重複判定の対象とする
+        return found.or(() -> locationArchiveRepository.findByUserAndRecordedAt(user, recordedAt));
+    }
+    
     @Override
     public List<Location> findByDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        return locations.values().stream()
+        List<Location> result = new ArrayList<>(locationArchiveRepository.findByDateTimeRange(startDateTime, endDateTime));
+        locations.values().stream()
             .filter(location -> !location.recordedAt().isBefore(startDateTime) && 
                                !location.recordedAt().isAfter(endDateTime))
-            .sorted((l1, l2) -> l1.recordedAt().compareTo(l2.recordedAt()))
-            .toList();
+            .forEach(result::add);
+        result.sort(Comparator.comparing(Location::recordedAt));
+        return List.copyOf(result);
     }
     
     @Override
@@ -69,9 +102,7 @@ public class InMemoryLocationRepository implements LocationRepository {
     
     @Override
     public List<Location> findAll() {
-        return locations.values().stream()
-            .sorted((l1, l2) -> l1.recordedAt().compareTo(l2.recordedAt()))
-            .toList();
+        return findByDateTimeRange(LocalDateTime.MIN, LocalDateTime.MAX);
     }
     
     @Override
@@ -79,38 +110,49 @@ public class InMemoryLocationRepository implements LocationRepository {
         return locations.get(id);
     }
     
+    @Override
+    public Optional<Location> findArchivedByUserAndId(User user, Long id) {
+        return locationArchiveRepository.findByUserAndId(user, id);
+    }
+    
     @Override
     public void deleteById(Long id) {
         locations.remove(id);
     }
     
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        ids.forEach(locations::remove);
+    }
+    
     @Override
     public List<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        return locations.values().stream()
+        List<Location> result = new ArrayList<>(locationArchiveRepository.findByUserAndDateTimeRange(user, startDateTime, endDateTime));
+        locations.values().stream()
             .filter(location -> location.user().equals(user))
             .filter(location -> !location.recordedAt().isBefore(startDateTime) && 
                                !location.recordedAt().isAfter(endDateTime))
-            .sorted((l1, l2) -> l1.recordedAt().compareTo(l2.recordedAt()))
-            .toList();
+            .forEach(result::add);
+        result.sort(Comparator.comparing(Location::recordedAt));
+        return List.copyOf(result);
     }
 
     @Override
     public List<Location> findByUser(User user) {
+        return findByUserAndDateTimeRange(user, LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    @Override
+    public Optional<Location> findLatestByUser(User user) {
         return locations.values().stream()
             .filter(location -> location.user().equals(user))
-            .sorted((l1, l2) -> l1.recordedAt().compareTo(l2.recordedAt()))
-            .toList();
+            .max(Comparator.comparing(Location::recordedAt));
     }
 
     @Override
     public Page<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable) {
-        // 全体のデータを取得してフィルタリング・ソート
-        List<Location> allFilteredLocations = locations.values().stream()
-            .filter(location -> location.user().equals(user))
-            .filter(location -> !location.recordedAt().isBefore(startDateTime) && 
-                               !location.recordedAt().isAfter(endDateTime))
-            .sorted((l1, l2) -> l1.recordedAt().compareTo(l2.recordedAt()))
-            .toList();
+        // アーカイブ済みの分も含めた全体のデータを取得してフィルタリング・ソート
+        List<Location> allFilteredLocations = findByUserAndDateTimeRange(user, startDateTime, endDateTime);
         
         // ページネーション情報を計算
         int totalElements = allFilteredLocations.size();
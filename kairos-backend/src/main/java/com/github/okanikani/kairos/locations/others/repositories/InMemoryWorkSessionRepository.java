@@ -0,0 +1,73 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.WorkSession;
+import com.github.okanikani.kairos.locations.domains.models.repositories.WorkSessionRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ※これは開発・テスト用の一時的な実装です。
+ * 本番環境ではデータベースを使用した実装に置き換える必要があります。
+ */
+@Repository
+@Profile("dev")
+public class InMemoryWorkSessionRepository implements WorkSessionRepository {
+
+    private final Map<Long, WorkSession> workSessions = new ConcurrentHashMap<>();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+
+    @Override
+    public WorkSession save(WorkSession workSession) {
+        Objects.requireNonNull(workSession, "workSessionは必須です");
+        WorkSession saved = workSession.id() == null
+            ? new WorkSession(idGenerator.getAndIncrement(), workSession.user(), workSession.startedAt(),
+                workSession.endedAt(), workSession.pointCount(), workSession.withinGeofence())
+            : workSession;
+        workSessions.put(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<WorkSession> findLatestByUser(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        return workSessions.values().stream()
+            .filter(workSession -> workSession.user().equals(user))
+            .max(Comparator.comparing(WorkSession::startedAt));
+    }
+
+    @Override
+    public List<WorkSession> findOverlapping(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(startDateTime, "startDateTimeは必須です");
+        Objects.requireNonNull(endDateTime, "endDateTimeは必須です");
+        return workSessions.values().stream()
+            .filter(workSession -> workSession.user().equals(user))
+            .filter(workSession -> !workSession.endedAt().isBefore(startDateTime)
+                && !workSession.startedAt().isAfter(endDateTime))
+            .sorted(Comparator.comparing(WorkSession::startedAt))
+            .toList();
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+        ids.forEach(workSessions::remove);
+    }
+
+    /**
+     * 全ての勤務セッションを削除する（テスト用）
+     */
+    public void clear() {
+        workSessions.clear();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.utils.DistanceCalculator;
+import com.github.okanikani.kairos.commons.utils.GeoGrid;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LatestLocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.jpa.entities.LatestLocationJpaEntity;
+import com.github.okanikani.kairos.locations.others.jpa.repositories.LatestLocationJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 最新位置リポジトリのJPA実装
+ *
+ * 業務要件: 位置情報の登録と同じトランザクションで最新位置を upsert し、
+ * 周辺ユーザーの検索ではセル番号で候補を絞ってから距離で判定する
+ */
+@Repository
+@Profile("prod")
+public class JpaLatestLocationRepository implements LatestLocationRepository {
+
+    private final LatestLocationJpaRepository latestLocationJpaRepository;
+
+    public JpaLatestLocationRepository(LatestLocationJpaRepository latestLocationJpaRepository) {
+        this.latestLocationJpaRepository = latestLocationJpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void recordIfNewer(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        latestLocationJpaRepository.upsertIfNewer(
+                location.user().userId(),
+                location.id(),
+                location.latitude(),
+                location.longitude(),
+                location.recordedAt(),
+                GeoGrid.cellOf(location.latitude(), location.longitude()));
+    }
+
+    @Override
+    @Transactional
+    public void replace(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        latestLocationJpaRepository.upsert(
+                location.user().userId(),
+                location.id(),
+                location.latitude(),
+                location.longitude(),
+                location.recordedAt(),
+                GeoGrid.cellOf(location.latitude(), location.longitude()));
+    }
+
+    @Override
+    @Transactional
+    public void remove(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        latestLocationJpaRepository.deleteById(user.userId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Location> findWithin(double latitude, double longitude, double radiusMeters, LocalDateTime since) {
+        Objects.requireNonNull(since, "sinceは必須です");
+        return latestLocationJpaRepository
+                .findByGridCellInAndRecordedAtSince(GeoGrid.cellsCovering(latitude, longitude, radiusMeters), since)
+                .stream()
+                .map(this::toDomainModel)
+                .filter(location -> DistanceCalculator.calculateDistance(
+                        latitude, longitude, location.latitude(), location.longitude()) <= radiusMeters)
+                .toList();
+    }
+
+    private Location toDomainModel(LatestLocationJpaEntity entity) {
+        return new Location(
+                entity.getLocationId(),
+                entity.getLatitude(),
+                entity.getLongitude(),
+                entity.getRecordedAt(),
+                new User(entity.getUserId()));
+    }
+}
@@ -1,33 +1,46 @@
 package com.github.okanikani.kairos.locations.others.repositories;
 
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
 import com.github.okanikani.kairos.locations.others.jpa.entities.LocationJpaEntity;
 import com.github.okanikani.kairos.locations.others.jpa.repositories.LocationJpaRepository;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * 位置情報リポジトリのJPA実装
  * 
  * 業務要件: ドメインモデルとJPAエンティティ間の変換とデータ永続化を担当
+ * 記録日時・期間・ユーザー指定の検索では、アーカイブ済みの月の位置情報も合成して返却する
+ * single-nodeプロファイルではセグメントファイル実装に置き換わる
  */
 @Repository
-@Profile("prod")
+@Profile("prod & !single-node")
 public class JpaLocationRepository implements LocationRepository {
 
+    private static final Comparator<Location> RECORDED_AT_ORDER =
+            Comparator.comparing(Location::recordedAt).thenComparing(Location::id);
+
     private final LocationJpaRepository locationJpaRepository;
+    private final LocationArchiveRepository locationArchiveRepository;
 
-    public JpaLocationRepository(LocationJpaRepository locationJpaRepository) {
+    public JpaLocationRepository(LocationJpaRepository locationJpaRepository,
+                                 LocationArchiveRepository locationArchiveRepository) {
         this.locationJpaRepository = locationJpaRepository;
+        this.locationArchiveRepository = locationArchiveRepository;
     }
 
     @Override
@@ -37,28 +50,102 @@ public class JpaLocationRepository implements LocationRepository {
         return toDomainModel(savedEntity);
     }
 
+    @Override
+    public Optional<Location> saveIfAbsent(Location location) {
+        if (location.id() != null) {
+            throw new IllegalArgumentException("saveIfAbsentは新規の位置情報（IDなし）のみ対象です");
+        }
+        // アーカイブ済みの月の再送はデータベースの一意制約では検出できないため、アーカイブも確認する
+        if (locationArchiveRepository.findByUserAndRecordedAt(location.user(), location.recordedAt()).isPresent()) {
+            return Optional.empty();
+        }
+        // INSERT ... ON CONFLICT DO NOTHING で重複時も例外を発生させずに1往復で判定する
+        int latitudeE6 = LocationJpaEntity.toMicrodegrees(location.latitude());
+        int longitudeE6 = LocationJpaEntity.toMicrodegrees(location.longitude());
+        List<Long> insertedIds = locationJpaRepository.insertIgnoringDuplicate(
+                latitudeE6,
+                longitudeE6,
+                location.recordedAt(),
+                location.user().userId()
+        );
+        if (insertedIds.isEmpty()) {
+            return Optional.empty();
+        }
+        // 保存した値（マイクロ度に丸めた座標）を返し、再取得した場合と一致させる
+        return Optional.of(new Location(
+                insertedIds.get(0),
+                LocationJpaEntity.fromMicrodegrees(latitudeE6),
+                LocationJpaEntity.fromMicrodegrees(longitudeE6),
+                location.recordedAt(),
+                location.user()
+        ));
+    }
+
+    @Override
+    public Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt) {
+        return locationJpaRepository.findByUserIdAndRecordedAt(user.userId(), recordedAt)
+                .map(this::toDomainModel)
+                .or(() -> locationArchiveRepository.findByUserAndRecordedAt(user, recordedAt));
+    }
+
     @Override
     public List<Location> findByUser(User user) {
-        return locationJpaRepository.findByUserIdOrderByRecordedAtDesc(user.userId())
+        List<Location> locations = locationJpaRepository.findByUserIdOrderByRecordedAtDesc(user.userId())
                 .stream()
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
+        
+        List<Location> archived = findArchived(user, LocalDateTime.MIN, LocalDateTime.MAX);
+        if (archived.isEmpty()) {
+            return locations;
+        }
+        locations.addAll(archived);
+        locations.sort(Comparator.comparing(Location::recordedAt).reversed());
+        return locations;
+    }
+
+    @Override
+    public Optional<Location> findLatestByUser(User user) {
+        return Optional.ofNullable(locationJpaRepository.findLatestByUserId(user.userId()))
+                .map(this::toDomainModel);
     }
 
     @Override
     public List<Location> findByDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        return locationJpaRepository.findByRecordedAtBetween(startDateTime, endDateTime)
+        List<Location> locations = locationJpaRepository.findByRecordedAtBetween(startDateTime, endDateTime)
                 .stream()
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
+        
+        if (!locationArchiveRepository.isEnabled()) {
+            return locations;
+        }
+        List<Location> archived = locationArchiveRepository.findByDateTimeRange(startDateTime, endDateTime);
+        if (archived.isEmpty()) {
+            return locations;
+        }
+        locations.addAll(archived);
+        locations.sort(Comparator.comparing(Location::recordedAt).thenComparing(location -> location.user().userId()));
+        return locations;
     }
 
     @Override
     public List<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        return locationJpaRepository.findByUserIdAndRecordedAtBetween(user.userId(), startDateTime, endDateTime)
+        List<Location> locations = locationJpaRepository.findByUserIdAndRecordedAtBetween(user.userId(), startDateTime, endDateTime)
                 .stream()
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
+        
+        // アーカイブ済みの月はデータベースから移動済みのため、アーカイブから補完する
+        List<Location> archived = findArchived(user, startDateTime, endDateTime);
+        if (archived.isEmpty()) {
+            return locations;
+        }
+        List<Location> merged = new ArrayList<>(archived.size() + locations.size());
+        merged.addAll(archived);
+        merged.addAll(locations);
+        merged.sort(Comparator.comparing(Location::recordedAt));
+        return merged;
     }
 
     @Override
@@ -71,10 +158,14 @@ public class JpaLocationRepository implements LocationRepository {
 
     @Override
     public List<Location> findAll() {
-        return locationJpaRepository.findAll()
+        List<Location> locations = locationJpaRepository.findAll()
                 .stream()
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
+        if (locationArchiveRepository.isEnabled()) {
+            locations.addAll(locationArchiveRepository.findByDateTimeRange(LocalDateTime.MIN, LocalDateTime.MAX));
+        }
+        return locations;
     }
 
     @Override
@@ -84,11 +175,21 @@ public class JpaLocationRepository implements LocationRepository {
                 .orElse(null);
     }
 
+    @Override
+    public Optional<Location> findArchivedByUserAndId(User user, Long id) {
+        return locationArchiveRepository.findByUserAndId(user, id);
+    }
+
     @Override
     public void deleteById(Long id) {
         locationJpaRepository.deleteById(id);
     }
 
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        locationJpaRepository.deleteAllByIdInBatch(ids);
+    }
+
     public List<Location> findByUserAndPeriod(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
         return findByUserAndDateTimeRange(user, startDateTime, endDateTime);
     }
@@ -104,6 +205,11 @@ public class JpaLocationRepository implements LocationRepository {
 
     @Override
     public Page<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable) {
+        List<Location> archived = findArchived(user, startDateTime, endDateTime);
+        if (!archived.isEmpty()) {
+            return mergeArchivedPage(user, startDateTime, endDateTime, pageable, archived);
+        }
+        
         Page<LocationJpaEntity> jpaEntityPage = locationJpaRepository.findByUserIdAndRecordedAtBetween(
             user.userId(), 
             startDateTime, 
@@ -114,11 +220,81 @@ public class JpaLocationRepository implements LocationRepository {
         return jpaEntityPage.map(this::toDomainModel);
     }
 
+    /**
+     * アーカイブ済みの位置情報とデータベースの行を記録日時順に合成したページを作成する
+     * 
+     * データベースのk件目（0始まり）の合成後の位置は k からアーカイブの件数分後ろまでの間になるため、
+     * ページに入りうる行（offset - アーカイブ件数 件目以降）だけを取得する。
+     * 取得範囲の1行前を合わせて読み、その行の合成後の位置を基準にページの先頭を求める。
+     */
+    private Page<Location> mergeArchivedPage(User user, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                             Pageable pageable, List<Location> archived) {
+        long databaseCount = locationJpaRepository.countByUserIdAndRecordedAtBetween(user.userId(), startDateTime, endDateTime);
+        long total = databaseCount + archived.size();
+        if (pageable.isUnpaged()) {
+            List<Location> merged = new ArrayList<>(findByUserAndDateTimeRange(user, startDateTime, endDateTime));
+            merged.sort(RECORDED_AT_ORDER);
+            return new PageImpl<>(merged, pageable, total);
+        }
+        
+        long pageStart = pageable.getOffset();
+        long pageEnd = pageStart + pageable.getPageSize();
+        long firstCandidate = Math.min(Math.max(0, pageStart - archived.size()), databaseCount);
+        long sliceStart = Math.max(0, firstCandidate - 1);
+        List<Location> rows = locationJpaRepository.findSliceByUserIdAndRecordedAtBetween(
+                user.userId(), startDateTime, endDateTime,
+                Math.toIntExact(sliceStart), Math.toIntExact(pageEnd - sliceStart))
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+        
+        long position = 0;
+        int archivedIndex = 0;
+        int rowIndex = 0;
+        if (sliceStart > 0) {
+            if (rows.isEmpty()) {
+                // 件数の取得後に行が削除された場合
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            Location anchor = rows.get(0);
+            while (archivedIndex < archived.size() && RECORDED_AT_ORDER.compare(archived.get(archivedIndex), anchor) < 0) {
+                archivedIndex++;
+            }
+            position = sliceStart + archivedIndex + 1;
+            rowIndex = 1;
+        }
+        
+        List<Location> content = new ArrayList<>(pageable.getPageSize());
+        while (position < pageEnd && (archivedIndex < archived.size() || rowIndex < rows.size())) {
+            Location next;
+            if (rowIndex >= rows.size()
+                    || (archivedIndex < archived.size() && RECORDED_AT_ORDER.compare(archived.get(archivedIndex), rows.get(rowIndex)) < 0)) {
+                next = archived.get(archivedIndex++);
+            } else {
+                next = rows.get(rowIndex++);
+            }
+            if (position >= pageStart) {
+                content.add(next);
+            }
+            position++;
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private List<Location> findArchived(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (!locationArchiveRepository.isEnabled()) {
+            return List.of();
+        }
+        return locationArchiveRepository.findByUserAndDateTimeRange(user, startDateTime, endDateTime);
+    }
+
     /**
      * ドメインモデルをJPAエンティティに変換
      */
     private LocationJpaEntity toJpaEntity(Location location) {
+        // IDを引き継ぎ、既存の位置情報の保存は更新として扱う
         return new LocationJpaEntity(
+                location.id(),
                 location.latitude(),
                 location.longitude(),
                 location.recordedAt(),
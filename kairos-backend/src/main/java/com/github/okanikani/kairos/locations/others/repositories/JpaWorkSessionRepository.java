@@ -0,0 +1,92 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.WorkSession;
+import com.github.okanikani.kairos.locations.domains.models.repositories.WorkSessionRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.jpa.entities.WorkSessionJpaEntity;
+import com.github.okanikani.kairos.locations.others.jpa.repositories.WorkSessionJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 勤務セッションリポジトリのJPA実装
+ *
+ * 業務要件: ドメインモデルとJPAエンティティ間の変換とデータ永続化を担当
+ */
+@Repository
+@Profile("prod")
+public class JpaWorkSessionRepository implements WorkSessionRepository {
+
+    private final WorkSessionJpaRepository workSessionJpaRepository;
+
+    public JpaWorkSessionRepository(WorkSessionJpaRepository workSessionJpaRepository) {
+        this.workSessionJpaRepository = Objects.requireNonNull(workSessionJpaRepository, "workSessionJpaRepositoryは必須です");
+    }
+
+    @Override
+    public WorkSession save(WorkSession workSession) {
+        Objects.requireNonNull(workSession, "workSessionは必須です");
+        if (workSession.id() == null) {
+            return toDomainModel(workSessionJpaRepository.save(toJpaEntity(workSession)));
+        }
+        // 延長は開始日時・範囲内外が変わらないため、終了日時と件数だけを更新する
+        int updated = workSessionJpaRepository.updateEnd(workSession.id(), workSession.endedAt(), workSession.pointCount());
+        if (updated == 0) {
+            throw new IllegalStateException("更新対象の勤務セッションが見つかりません: " + workSession.id());
+        }
+        return workSession;
+    }
+
+    @Override
+    public Optional<WorkSession> findLatestByUser(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        return workSessionJpaRepository.findLatestByUserId(user.userId())
+                .map(this::toDomainModel);
+    }
+
+    @Override
+    public List<WorkSession> findOverlapping(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(startDateTime, "startDateTimeは必須です");
+        Objects.requireNonNull(endDateTime, "endDateTimeは必須です");
+        return workSessionJpaRepository.findOverlapping(user.userId(), startDateTime, endDateTime)
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+        if (ids.isEmpty()) {
+            return;
+        }
+        workSessionJpaRepository.deleteAllByIdInBatch(ids);
+    }
+
+    private WorkSessionJpaEntity toJpaEntity(WorkSession workSession) {
+        return new WorkSessionJpaEntity(
+                workSession.user().userId(),
+                workSession.startedAt(),
+                workSession.endedAt(),
+                workSession.pointCount(),
+                workSession.withinGeofence()
+        );
+    }
+
+    private WorkSession toDomainModel(WorkSessionJpaEntity jpaEntity) {
+        return new WorkSession(
+                jpaEntity.getId(),
+                new User(jpaEntity.getUserId()),
+                jpaEntity.getStartedAt(),
+                jpaEntity.getEndedAt(),
+                jpaEntity.getPointCount(),
+                jpaEntity.getWithinGeofence()
+        );
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.segments.LocationSegmentStore;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 位置情報リポジトリのセグメントファイル実装
+ *
+ * 業務要件: 単一ノード構成（single-nodeプロファイル）で、件数の多い位置情報をデータベースの代わりに
+ * ローカルのセグメントファイルへ保存する。他のテーブルは引き続きデータベースを使用する。
+ * 記録日時・期間・ユーザー指定の検索では、アーカイブ済みの月の位置情報も合成して返却する。
+ *
+ * 位置情報の保存はデータベースのトランザクションに参加しない。
+ * 勤務セッションの更新などが失敗してロールバックされても、保存済みの位置情報は残る。
+ */
+@Repository
+@Profile("single-node")
+public class SegmentFileLocationRepository implements LocationRepository {
+
+    private static final Comparator<Location> RECORDED_AT_ORDER =
+        Comparator.comparing(Location::recordedAt).thenComparing(Location::id);
+
+    private final LocationSegmentStore locationSegmentStore;
+    private final LocationArchiveRepository locationArchiveRepository;
+
+    public SegmentFileLocationRepository(LocationSegmentStore locationSegmentStore,
+                                         LocationArchiveRepository locationArchiveRepository) {
+        this.locationSegmentStore = Objects.requireNonNull(locationSegmentStore, "locationSegmentStoreは必須です");
+        this.locationArchiveRepository = Objects.requireNonNull(locationArchiveRepository, "locationArchiveRepositoryは必須です");
+    }
+
+    @Override
+    public Location save(Location location) {
+        if (location.id() == null) {
+            return locationSegmentStore.insert(location, false).orElseThrow();
+        }
+        return locationSegmentStore.update(location);
+    }
+
+    @Override
+    public Optional<Location> saveIfAbsent(Location location) {
+        if (location.id() != null) {
+            throw new IllegalArgumentException("saveIfAbsentは新規の位置情報（IDなし）のみ対象です");
+        }
+        // アーカイブ済みの月の再送はセグメントの重複判定では検出できないため、アーカイブも確認する
+        if (locationArchiveRepository.findByUserAndRecordedAt(location.user(), location.recordedAt()).isPresent()) {
+            return Optional.empty();
+        }
+        return locationSegmentStore.insert(location, true);
+    }
+
+    @Override
+    public Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt) {
+        return locationSegmentStore.findByUserAndRecordedAt(user, recordedAt)
+            .or(() -> locationArchiveRepository.findByUserAndRecordedAt(user, recordedAt));
+    }
+
+    @Override
+    public List<Location> findByDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<Location> locations = locationSegmentStore.findBetween(startDateTime, endDateTime);
+        if (locationArchiveRepository.isEnabled()) {
+            locations.addAll(locationArchiveRepository.findByDateTimeRange(startDateTime, endDateTime));
+        }
+        locations.sort(RECORDED_AT_ORDER);
+        return locations;
+    }
+
+    @Override
+    public List<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<Location> locations = locationSegmentStore.findByUserBetween(user, startDateTime, endDateTime);
+
+        // アーカイブ済みの月はセグメントから移動済みのため、アーカイブから補完する
+        if (locationArchiveRepository.isEnabled()) {
+            locations.addAll(locationArchiveRepository.findByUserAndDateTimeRange(user, startDateTime, endDateTime));
+        }
+        locations.sort(RECORDED_AT_ORDER);
+        return locations;
+    }
+
+    @Override
+    public List<Location> findByDate(LocalDateTime date) {
+        // 指定日の0時0分0秒から23時59分59秒までの範囲で検索
+        LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
+        LocalDateTime endOfDay = date.toLocalDate().atTime(23, 59, 59);
+        return findByDateTimeRange(startOfDay, endOfDay);
+    }
+
+    @Override
+    public List<Location> findAll() {
+        return findByDateTimeRange(LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    @Override
+    public List<Location> findByUser(User user) {
+        return findByUserAndDateTimeRange(user, LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    @Override
+    public Optional<Location> findLatestByUser(User user) {
+        return locationSegmentStore.findByUserBetween(user, LocalDateTime.MIN, LocalDateTime.MAX).stream()
+            .max(RECORDED_AT_ORDER);
+    }
+
+    @Override
+    public Location findById(Long id) {
+        return locationSegmentStore.findById(id);
+    }
+
+    @Override
+    public Optional<Location> findArchivedByUserAndId(User user, Long id) {
+        return locationArchiveRepository.findByUserAndId(user, id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        locationSegmentStore.delete(List.of(id));
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        locationSegmentStore.delete(ids);
+    }
+
+    @Override
+    public Page<Location> findByUserAndDateTimeRange(User user, LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable) {
+        List<Location> locations = findByUserAndDateTimeRange(user, startDateTime, endDateTime);
+
+        int totalElements = locations.size();
+        int startIndex = (int) Math.min(pageable.getOffset(), totalElements);
+        int endIndex = Math.min(startIndex + pageable.getPageSize(), totalElements);
+        return new PageImpl<>(List.copyOf(locations.subList(startIndex, endIndex)), pageable, totalElements);
+    }
+}
@@ -0,0 +1,319 @@
+package com.github.okanikani.kairos.locations.others.segments;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 位置情報セグメントファイル（1ファイル分）
+ *
+ * 固定長レコードを追記するだけのファイルで、作成時に全レコード分の領域を確保してメモリマップする。
+ * 書き込み・読み込みともマップ領域への直接アクセスで行い、永続化は {@link #force(int, int)} で行う。
+ *
+ * ファイル形式（多バイト値はビッグエンディアン）:
+ *   ヘッダ（24バイト）: マジック(4) バージョン(2) フラグ(2) レコード数上限(4) 予約(4) 採番済み連番の最大値(8)
+ *   レコード（40バイト）: 種別(1) 予約(3) CRC32C(4) ID(8) 記録日時のエポックマイクロ秒(8) 緯度(8) 経度(8)
+ *
+ * 種別が0のレコードは未使用領域を表す。CRC32Cが一致しないレコードは書き込み途中で停止した
+ * レコードとみなし、それ以降を読み込まない（追記先のセグメントでは以降の領域を0で埋め直す）。
+ *
+ * 時刻範囲の検索用に、{@value #BLOCK_RECORDS}件ごとのブロックについて記録日時とIDの最小値・最大値を
+ * メモリ上に保持する（疎な索引）。到着順に追記されるため記録日時はほぼ昇順であり、
+ * 範囲検索で読むブロックは範囲の前後の数ブロックに絞られる。
+ *
+ * スレッドセーフではない。書き込みと読み込みの排他は {@link UserLocationLog} が行う。
+ */
+final class LocationSegment {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationSegment.class);
+
+    static final byte TYPE_PUT = 1;
+    static final byte TYPE_DELETE = 2;
+
+    static final int HEADER_SIZE = 24;
+    static final int RECORD_SIZE = 40;
+    static final int BLOCK_RECORDS = 128;
+
+    private static final int MAGIC = 0x4B4C5347; // "KLSG"
+    private static final short VERSION = 1;
+    private static final short FLAG_COMPACTED = 1;
+
+    // レコード内のオフセット
+    private static final int CRC_OFFSET = 4;
+    private static final int PAYLOAD_OFFSET = 8;
+    private static final int ID_OFFSET = 8;
+    private static final int MICROS_OFFSET = 16;
+    private static final int LATITUDE_OFFSET = 24;
+    private static final int LONGITUDE_OFFSET = 32;
+
+    private final Path path;
+    private final int number;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean compacted;
+    private final boolean writable;
+    private final long sequenceFloor;
+    private int count;
+
+    // ブロックごとのPUTレコードの記録日時・IDの最小値と最大値（PUTが無いブロックは最小値 > 最大値）
+    private final long[] blockMinMicros;
+    private final long[] blockMaxMicros;
+    private final long[] blockMinId;
+    private final long[] blockMaxId;
+
+    private LocationSegment(Path path, int number, MappedByteBuffer buffer, int capacity,
+                            boolean compacted, boolean writable, long sequenceFloor) {
+        this.path = path;
+        this.number = number;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.compacted = compacted;
+        this.writable = writable;
+        this.sequenceFloor = sequenceFloor;
+        int blocks = (capacity + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        this.blockMinMicros = new long[blocks];
+        this.blockMaxMicros = new long[blocks];
+        this.blockMinId = new long[blocks];
+        this.blockMaxId = new long[blocks];
+        Arrays.fill(blockMinMicros, Long.MAX_VALUE);
+        Arrays.fill(blockMaxMicros, Long.MIN_VALUE);
+        Arrays.fill(blockMinId, Long.MAX_VALUE);
+        Arrays.fill(blockMaxId, Long.MIN_VALUE);
+    }
+
+    /**
+     * 新しいセグメントファイルを作成する
+     *
+     * @param path 作成するファイル（既に存在する場合は失敗する）
+     * @param number セグメント番号
+     * @param capacity レコード数上限
+     * @param compacted コンパクションで作成したセグメントか（それより古いセグメントを全て置き換える）
+     * @param sequenceFloor 作成時点で採番済みの連番の最大値（コンパクション後も採番を巻き戻さないため）
+     */
+    static LocationSegment create(Path path, int number, int capacity, boolean compacted, long sequenceFloor) {
+        long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+        if (capacity < 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("セグメントのレコード数上限が大きすぎます: " + capacity);
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // READ_WRITEのマップはファイルをマップサイズまで拡張する（未書き込み領域は0）
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, MAGIC);
+            buffer.putShort(4, VERSION);
+            buffer.putShort(6, compacted ? FLAG_COMPACTED : 0);
+            buffer.putInt(8, capacity);
+            buffer.putLong(16, sequenceFloor);
+            buffer.force(0, HEADER_SIZE);
+            return new LocationSegment(path, number, buffer, capacity, compacted, true, sequenceFloor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("セグメントファイルの作成に失敗しました: " + path, e);
+        }
+    }
+
+    /**
+     * 既存のセグメントファイルを開き、有効なレコードを読み込んで索引を作成する
+     *
+     * @param path セグメントファイル
+     * @param number セグメント番号
+     * @param tail 追記先とするセグメントか（書き込み途中のレコード以降を0で埋め直す）
+     */
+    static LocationSegment open(Path path, int number, boolean tail) {
+        try (FileChannel channel = FileChannel.open(path, tail
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ})) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IllegalStateException("セグメントファイルのヘッダが不正です: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(
+                tail ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION) {
+                throw new IllegalStateException("セグメントファイルのヘッダが不正です: " + path);
+            }
+            boolean compacted = (buffer.getShort(6) & FLAG_COMPACTED) != 0;
+            int capacity = buffer.getInt(8);
+            if (HEADER_SIZE + (long) capacity * RECORD_SIZE > size) {
+                throw new IllegalStateException("セグメントファイルのサイズが不正です: " + path);
+            }
+            LocationSegment segment = new LocationSegment(path, number, buffer, capacity,
+                compacted, tail && !compacted, buffer.getLong(16));
+            segment.recover();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("セグメントファイルの読み込みに失敗しました: " + path, e);
+        }
+    }
+
+    private void recover() {
+        while (count < capacity) {
+            int offset = recordOffset(count);
+            byte type = buffer.get(offset);
+            if (type == 0) {
+                break;
+            }
+            if ((type != TYPE_PUT && type != TYPE_DELETE) || buffer.getInt(offset + CRC_OFFSET) != checksum(offset)) {
+                // 応答前に停止した書き込み。以降は確定していないため読み込まない
+                log.warn("書き込み途中のレコードを検出したため以降を破棄します: file={}, index={}", path, count);
+                if (writable) {
+                    for (int i = offset; i < buffer.capacity(); i++) {
+                        buffer.put(i, (byte) 0);
+                    }
+                    buffer.force();
+                }
+                break;
+            }
+            index(count, type, buffer.getLong(offset + ID_OFFSET), buffer.getLong(offset + MICROS_OFFSET));
+            count++;
+        }
+    }
+
+    /**
+     * レコードを追記する（永続化は {@link #force(int, int)} で別途行う）
+     *
+     * @return 追記したレコードの番号
+     */
+    int append(byte type, long id, long epochMicros, double latitude, double longitude) {
+        if (!writable || isFull()) {
+            throw new IllegalStateException("追記できないセグメントです: " + path);
+        }
+        int offset = recordOffset(count);
+        buffer.putLong(offset + ID_OFFSET, id);
+        buffer.putLong(offset + MICROS_OFFSET, epochMicros);
+        buffer.putDouble(offset + LATITUDE_OFFSET, latitude);
+        buffer.putDouble(offset + LONGITUDE_OFFSET, longitude);
+        buffer.put(offset, type);
+        buffer.putInt(offset + CRC_OFFSET, checksum(offset));
+        index(count, type, id, epochMicros);
+        return count++;
+    }
+
+    /**
+     * 指定した範囲のレコードをディスクへ書き出す
+     *
+     * @param fromIndex 開始レコード番号（含む）
+     * @param toIndex 終了レコード番号（含まない）
+     */
+    void force(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        buffer.force(recordOffset(fromIndex), (toIndex - fromIndex) * RECORD_SIZE);
+    }
+
+    /**
+     * 記録日時が範囲内の可能性があるブロックのPUTレコードの番号を列挙する
+     */
+    void forEachPutBetween(long fromMicros, long toMicros, IntConsumer action) {
+        for (int block = 0; block * BLOCK_RECORDS < count; block++) {
+            if (blockMaxMicros[block] < fromMicros || blockMinMicros[block] > toMicros) {
+                continue;
+            }
+            int end = Math.min(count, (block + 1) * BLOCK_RECORDS);
+            for (int i = block * BLOCK_RECORDS; i < end; i++) {
+                if (type(i) == TYPE_PUT) {
+                    long micros = epochMicros(i);
+                    if (micros >= fromMicros && micros <= toMicros) {
+                        action.accept(i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 指定したIDのPUTレコードの番号を列挙する
+     */
+    void forEachPutOf(long id, IntConsumer action) {
+        for (int block = 0; block * BLOCK_RECORDS < count; block++) {
+            if (blockMaxId[block] < id || blockMinId[block] > id) {
+                continue;
+            }
+            int end = Math.min(count, (block + 1) * BLOCK_RECORDS);
+            for (int i = block * BLOCK_RECORDS; i < end; i++) {
+                if (type(i) == TYPE_PUT && id(i) == id) {
+                    action.accept(i);
+                }
+            }
+        }
+    }
+
+    byte type(int index) {
+        return buffer.get(recordOffset(index));
+    }
+
+    long id(int index) {
+        return buffer.getLong(recordOffset(index) + ID_OFFSET);
+    }
+
+    long epochMicros(int index) {
+        return buffer.getLong(recordOffset(index) + MICROS_OFFSET);
+    }
+
+    double latitude(int index) {
+        return buffer.getDouble(recordOffset(index) + LATITUDE_OFFSET);
+    }
+
+    double longitude(int index) {
+        return buffer.getDouble(recordOffset(index) + LONGITUDE_OFFSET);
+    }
+
+    int count() {
+        return count;
+    }
+
+    int number() {
+        return number;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean isCompacted() {
+        return compacted;
+    }
+
+    boolean isWritable() {
+        return writable;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    long sequenceFloor() {
+        return sequenceFloor;
+    }
+
+    private void index(int index, byte type, long id, long epochMicros) {
+        if (type != TYPE_PUT) {
+            return;
+        }
+        int block = index / BLOCK_RECORDS;
+        blockMinMicros[block] = Math.min(blockMinMicros[block], epochMicros);
+        blockMaxMicros[block] = Math.max(blockMaxMicros[block], epochMicros);
+        blockMinId[block] = Math.min(blockMinId[block], id);
+        blockMaxId[block] = Math.max(blockMaxId[block], id);
+    }
+
+    private int checksum(int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.get(offset));
+        crc.update(buffer.slice(offset + PAYLOAD_OFFSET, RECORD_SIZE - PAYLOAD_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static int recordOffset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.okanikani.kairos.locations.others.segments;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 位置情報セグメントの定期コンパクション
+ *
+ * 削除・更新で不要になったレコードの割合が閾値を超えたユーザーのセグメントを一定間隔で書き直す。
+ * 書き直し中はそのユーザーの読み書きだけが待たされる。
+ */
+@Component
+@Profile("single-node")
+public class LocationSegmentCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationSegmentCompactor.class);
+
+    private final LocationSegmentStore locationSegmentStore;
+
+    public LocationSegmentCompactor(LocationSegmentStore locationSegmentStore) {
+        this.locationSegmentStore = Objects.requireNonNull(locationSegmentStore, "locationSegmentStoreは必須です");
+    }
+
+    @Scheduled(fixedDelayString = "${kairos.location.store.compaction-interval:10m}",
+        initialDelayString = "${kairos.location.store.compaction-interval:10m}")
+    public void compact() {
+        try {
+            int compacted = locationSegmentStore.compact();
+            if (compacted > 0) {
+                logger.info("位置情報セグメントをコンパクションしました: users={}", compacted);
+            }
+        } catch (RuntimeException e) {
+            // スケジューラーのスレッドを止めないよう例外は記録のみとし、次回に再試行する
+            logger.error("位置情報セグメントのコンパクションに失敗しました", e);
+        }
+    }
+}
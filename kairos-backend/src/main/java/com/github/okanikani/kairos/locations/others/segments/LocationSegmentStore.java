@@ -0,0 +1,271 @@
+package com.github.okanikani.kairos.locations.others.segments;
+
+import com.github.okanikani.kairos.commons.config.LocationStoreProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 位置情報のセグメントファイルストア
+ *
+ * ※単一ノード構成（single-nodeプロファイル）専用の実装です。
+ * 同じ格納ディレクトリを複数のプロセスから開いてはならない。
+ *
+ * {baseDir}/users.idx にユーザーIDと番号の対応を追記し、
+ * {baseDir}/{ユーザーの番号}/{セグメント番号}.seg にユーザーごとの位置情報を追記する。
+ * ユーザーごとのログは最初にアクセスした時点で読み込み、以降はメモリマップしたまま保持する。
+ *
+ * 書き込みはfsyncの完了を待ってから返す。同じ時間帯に届いた書き込みは
+ * {@link LocationSegmentSyncer} で1回のfsyncにまとめる。
+ */
+@Component
+@Profile("single-node")
+public class LocationSegmentStore implements AutoCloseable {
+
+    private static final String REGISTRY_FILE = "users.idx";
+
+    private final LocationStoreProperties properties;
+    private final Path baseDir;
+    private final Path registryFile;
+    private final LocationSegmentSyncer syncer;
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final Map<Integer, User> users = new ConcurrentHashMap<>();
+    private final Map<Integer, UserLocationLog> logs = new ConcurrentHashMap<>();
+    private int lastOrdinal;
+
+    public LocationSegmentStore(LocationStoreProperties properties) {
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+        this.baseDir = Paths.get(properties.baseDir());
+        this.registryFile = baseDir.resolve(REGISTRY_FILE);
+        loadRegistry();
+        this.syncer = new LocationSegmentSyncer(properties.syncInterval(), properties.syncBatchSize());
+    }
+
+    /**
+     * 新規の位置情報を採番して保存する
+     *
+     * @param ifAbsent 同一ユーザー・同一記録日時の位置情報が既にある場合は保存しないか
+     * @return 保存した位置情報（ifAbsentで既にあった場合はempty）
+     */
+    public Optional<Location> insert(Location location, boolean ifAbsent) {
+        Objects.requireNonNull(location, "locationは必須です");
+        List<CompletableFuture<Void>> pending = new ArrayList<>(1);
+        Optional<Location> saved = logOf(location.user()).insert(location, ifAbsent, pending);
+        // 書き出しの完了はユーザーのロックを解放してから待ち、同じユーザーの書き込みもまとめて書き出す
+        LocationSegmentSyncer.await(pending);
+        return saved;
+    }
+
+    /**
+     * 既存の位置情報を更新する
+     *
+     * @throws IllegalArgumentException 指定したユーザーのIDの位置情報が存在しない場合
+     */
+    public Location update(Location location) {
+        Objects.requireNonNull(location, "locationは必須です");
+        Objects.requireNonNull(location.id(), "location.idは必須です");
+        List<CompletableFuture<Void>> pending = new ArrayList<>(1);
+        Location saved = logOf(location.user()).update(location, pending);
+        LocationSegmentSyncer.await(pending);
+        return saved;
+    }
+
+    /**
+     * 位置情報をまとめて削除する（存在しないIDは無視する）
+     */
+    public void delete(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "idsは必須です");
+        Map<Integer, List<Long>> idsByOrdinal = new LinkedHashMap<>();
+        for (Long id : ids) {
+            idsByOrdinal.computeIfAbsent(ordinalOf(id), ordinal -> new ArrayList<>()).add(id);
+        }
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        idsByOrdinal.forEach((ordinal, userIds) -> {
+            UserLocationLog userLog = existingLog(ordinal);
+            if (userLog != null) {
+                userLog.delete(userIds, pending);
+            }
+        });
+        LocationSegmentSyncer.await(pending);
+    }
+
+    /**
+     * IDで位置情報を取得する
+     *
+     * @return 位置情報（存在しない場合はnull）
+     */
+    public Location findById(long id) {
+        UserLocationLog userLog = existingLog(ordinalOf(id));
+        return userLog == null ? null : userLog.findById(id);
+    }
+
+    public Optional<Location> findByUserAndRecordedAt(User user, LocalDateTime recordedAt) {
+        Objects.requireNonNull(recordedAt, "recordedAtは必須です");
+        UserLocationLog userLog = existingLog(user);
+        return userLog == null ? Optional.empty() : userLog.findByRecordedAt(recordedAt);
+    }
+
+    /**
+     * 指定したユーザーの記録日時が範囲内（両端を含む）の位置情報を取得する
+     *
+     * @return 位置情報リスト（順不同）
+     */
+    public List<Location> findByUserBetween(User user, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(startDateTime, "startDateTimeは必須です");
+        Objects.requireNonNull(endDateTime, "endDateTimeは必須です");
+        UserLocationLog userLog = existingLog(user);
+        return userLog == null ? new ArrayList<>() : userLog.findBetween(startDateTime, endDateTime);
+    }
+
+    /**
+     * 全ユーザーの記録日時が範囲内（両端を含む）の位置情報を取得する
+     *
+     * @return 位置情報リスト（順不同）
+     */
+    public List<Location> findBetween(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Objects.requireNonNull(startDateTime, "startDateTimeは必須です");
+        Objects.requireNonNull(endDateTime, "endDateTimeは必須です");
+        List<Location> result = new ArrayList<>();
+        for (Integer ordinal : users.keySet()) {
+            result.addAll(existingLog(ordinal).findBetween(startDateTime, endDateTime));
+        }
+        return result;
+    }
+
+    /**
+     * 不要なレコードが増えたユーザーのセグメントを書き直す
+     *
+     * @return 書き直したユーザー数
+     */
+    public int compact() {
+        int compacted = 0;
+        for (Integer ordinal : users.keySet()) {
+            if (existingLog(ordinal).compactIfNeeded(properties.compactionGarbageRatio())) {
+                compacted++;
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * 書き出し待ちのレコードを全て書き出してから停止する
+     */
+    @Override
+    @PreDestroy
+    public void close() {
+        syncer.close();
+    }
+
+    private UserLocationLog logOf(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        Integer ordinal = ordinals.get(user.userId());
+        if (ordinal == null) {
+            ordinal = register(user);
+        }
+        return existingLog(ordinal);
+    }
+
+    private UserLocationLog existingLog(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        Integer ordinal = ordinals.get(user.userId());
+        return ordinal == null ? null : existingLog(ordinal);
+    }
+
+    private UserLocationLog existingLog(int ordinal) {
+        User user = users.get(ordinal);
+        if (user == null) {
+            return null;
+        }
+        return logs.computeIfAbsent(ordinal, key -> UserLocationLog.open(
+            key, user, baseDir.resolve(String.valueOf(key)), properties.segmentRecords(), syncer));
+    }
+
+    private static int ordinalOf(long id) {
+        return (int) (id >>> UserLocationLog.SEQUENCE_BITS);
+    }
+
+    /**
+     * ユーザーに番号を割り当てて登録ファイルへ追記する
+     */
+    private synchronized int register(User user) {
+        Integer existing = ordinals.get(user.userId());
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = lastOrdinal + 1;
+        String line = ordinal + "\t" + Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(user.userId().getBytes(StandardCharsets.UTF_8)) + "\n";
+        try (FileChannel channel = FileChannel.open(registryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報ストアのユーザー登録に失敗しました: " + registryFile, e);
+        }
+        lastOrdinal = ordinal;
+        users.put(ordinal, user);
+        ordinals.put(user.userId(), ordinal);
+        return ordinal;
+    }
+
+    private void loadRegistry() {
+        try {
+            Files.createDirectories(baseDir);
+            if (!Files.exists(registryFile)) {
+                return;
+            }
+            byte[] content = Files.readAllBytes(registryFile);
+            int end = content.length;
+            while (end > 0 && content[end - 1] != '\n') {
+                end--;
+            }
+            if (end < content.length) {
+                // 追記途中で停止した行を切り捨てる（次の追記が途中の行に連結されないように）
+                try (FileChannel channel = FileChannel.open(registryFile, StandardOpenOption.WRITE)) {
+                    channel.truncate(end);
+                    channel.force(true);
+                }
+            }
+            for (String line : new String(content, 0, end, StandardCharsets.US_ASCII).split("\n")) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] columns = line.split("\t", 2);
+                int ordinal = Integer.parseInt(columns[0]);
+                User user = new User(new String(Base64.getUrlDecoder().decode(columns[1]), StandardCharsets.UTF_8));
+                users.put(ordinal, user);
+                ordinals.put(user.userId(), ordinal);
+                lastOrdinal = Math.max(lastOrdinal, ordinal);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報ストアのユーザー登録ファイルの読み込みに失敗しました: " + registryFile, e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.okanikani.kairos.locations.others.segments;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * セグメントへの書き込みをまとめてディスクへ書き出すスレッド（グループコミット）
+ *
+ * 書き込み側は追記したレコード範囲を登録し、書き出しの完了を待ってから応答する。
+ * 最初の登録から同期間隔が経過するか件数が上限に達するまでに届いた登録を、
+ * セグメントごとに1回のforceへまとめる。1件ごとにfsyncする場合に比べ、
+ * 同時に届く位置情報が多いほどfsyncの回数が減る。
+ */
+final class LocationSegmentSyncer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationSegmentSyncer.class);
+
+    // 登録待ちの確認間隔（停止要求に気付くまでの最大時間）
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private record Request(LocationSegment segment, int fromIndex, int toIndex, CompletableFuture<Void> done) {
+    }
+
+    private record Range(int fromIndex, int toIndex) {
+        Range merge(Range other) {
+            return new Range(Math.min(fromIndex, other.fromIndex), Math.max(toIndex, other.toIndex));
+        }
+    }
+
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final long syncIntervalNanos;
+    private final int batchSize;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    LocationSegmentSyncer(Duration syncInterval, int batchSize) {
+        this.syncIntervalNanos = Objects.requireNonNull(syncInterval, "syncIntervalは必須です").toNanos();
+        this.batchSize = batchSize;
+        this.thread = Thread.ofPlatform().name("location-segment-syncer").daemon().start(this::run);
+    }
+
+    /**
+     * 書き出し対象のレコード範囲を登録する
+     *
+     * 同じセグメントへの登録は追記順に行うこと（先に追記した範囲が後の登録より遅れて書き出されることはない）
+     *
+     * @return 書き出しが完了したら完了するFuture
+     */
+    CompletableFuture<Void> submit(LocationSegment segment, int fromIndex, int toIndex) {
+        if (!running) {
+            throw new IllegalStateException("位置情報ストアは停止しています");
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        queue.add(new Request(segment, fromIndex, toIndex, done));
+        return done;
+    }
+
+    /**
+     * 登録した範囲の書き出し完了を待つ
+     *
+     * @throws UncheckedIOException 書き出しに失敗した場合
+     */
+    static void await(List<CompletableFuture<Void>> pending) {
+        for (CompletableFuture<Void> done : pending) {
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException io) {
+                    throw io;
+                }
+                throw new IllegalStateException("位置情報の書き出しに失敗しました", e.getCause());
+            }
+        }
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Request first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + syncIntervalNanos;
+                while (batch.size() < batchSize) {
+                    Request next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 割り込まれた場合も集めた分は書き出し、残りを書き出してから終了する
+                running = false;
+                flush(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Request> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<LocationSegment, Range> ranges = new IdentityHashMap<>();
+        for (Request request : batch) {
+            ranges.merge(request.segment(), new Range(request.fromIndex(), request.toIndex()), Range::merge);
+        }
+        try {
+            ranges.forEach((segment, range) -> segment.force(range.fromIndex(), range.toIndex()));
+            batch.forEach(request -> request.done().complete(null));
+        } catch (RuntimeException e) {
+            log.error("位置情報セグメントの書き出しに失敗しました", e);
+            batch.forEach(request -> request.done().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 登録済みの範囲を全て書き出してからスレッドを停止する
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
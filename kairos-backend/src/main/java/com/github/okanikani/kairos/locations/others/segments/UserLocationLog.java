@@ -0,0 +1,451 @@
+package com.github.okanikani.kairos.locations.others.segments;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 1ユーザー分の位置情報ログ（セグメントファイルの列）
+ *
+ * 登録・更新・削除はすべてレコードの追記で表す。更新は同じIDのPUTレコードを、削除はDELETEレコードを
+ * 追記し、読み込み時は各IDの最後のレコードだけを有効とする。どのレコードが最後かは、
+ * 更新・削除されたIDについてだけメモリ上に保持する（多くの位置情報は登録後に変更されないため小さく済む）。
+ *
+ * IDは上位32ビットをユーザーの番号、下位32ビットをユーザー内の連番として採番する。
+ * 新規登録は必ず採番済みの最大値より大きい連番になるため、最大値以下のIDのPUTレコードは更新と判定できる。
+ *
+ * 更新・削除で不要になったレコードが増えた場合は、有効なレコードだけを記録日時順に並べた
+ * セグメントへ書き直す（コンパクション）。コンパクションで作成したセグメントは、
+ * それより番号の小さいセグメントを全て置き換える。置き換え前に停止した場合も、
+ * 次回の読み込み時に古いセグメントを削除して同じ状態になる。
+ */
+final class UserLocationLog {
+
+    private static final Logger log = LoggerFactory.getLogger(UserLocationLog.class);
+
+    static final int SEQUENCE_BITS = 32;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String SEGMENT_EXTENSION = ".seg";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    // 削除済みを表す位置
+    private static final long DELETED = -1L;
+
+    private final int ordinal;
+    private final User user;
+    private final Path dir;
+    private final int segmentRecords;
+    private final LocationSegmentSyncer syncer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<LocationSegment> segments = new ArrayList<>();
+    // 更新・削除されたIDの最後のPUTレコードの位置（削除済みはDELETED）
+    private final Map<Long, Long> overrides = new HashMap<>();
+    private long lastSequence;
+    private long totalRecords;
+    private long garbageRecords;
+
+    private UserLocationLog(int ordinal, User user, Path dir, int segmentRecords, LocationSegmentSyncer syncer) {
+        this.ordinal = ordinal;
+        this.user = user;
+        this.dir = dir;
+        this.segmentRecords = segmentRecords;
+        this.syncer = syncer;
+    }
+
+    /**
+     * ユーザーのディレクトリのセグメントを読み込む（ディレクトリが無い場合は作成する）
+     */
+    static UserLocationLog open(int ordinal, User user, Path dir, int segmentRecords, LocationSegmentSyncer syncer) {
+        UserLocationLog userLog = new UserLocationLog(ordinal, user, dir, segmentRecords, syncer);
+        userLog.load();
+        return userLog;
+    }
+
+    private void load() {
+        TreeMap<Integer, Path> files = new TreeMap<>();
+        try {
+            Files.createDirectories(dir);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                for (Path file : stream) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(TEMP_EXTENSION)) {
+                        // 書き直しの途中で停止したコンパクションの出力
+                        Files.delete(file);
+                    } else if (name.endsWith(SEGMENT_EXTENSION)) {
+                        files.put(Integer.parseInt(name.substring(0, name.length() - SEGMENT_EXTENSION.length())), file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報ディレクトリの読み込みに失敗しました: " + dir, e);
+        }
+
+        for (Map.Entry<Integer, Path> entry : files.entrySet()) {
+            LocationSegment segment = LocationSegment.open(
+                entry.getValue(), entry.getKey(), entry.getKey().equals(files.lastKey()));
+            if (segment.isCompacted()) {
+                // コンパクションで置き換え済みのセグメントを破棄する
+                segments.forEach(this::deleteSegmentFile);
+                segments.clear();
+                overrides.clear();
+                totalRecords = 0;
+                garbageRecords = 0;
+            }
+            segments.add(segment);
+            replay(segment);
+        }
+    }
+
+    private void replay(LocationSegment segment) {
+        lastSequence = Math.max(lastSequence, segment.sequenceFloor());
+        for (int i = 0; i < segment.count(); i++) {
+            long id = segment.id(i);
+            if (segment.type(i) == LocationSegment.TYPE_DELETE) {
+                overrides.put(id, DELETED);
+                garbageRecords += 2;
+            } else if (!segment.isCompacted() && sequenceOf(id) <= lastSequence) {
+                overrides.put(id, position(segment, i));
+                garbageRecords++;
+            }
+            lastSequence = Math.max(lastSequence, sequenceOf(id));
+            totalRecords++;
+        }
+    }
+
+    /**
+     * 新規の位置情報を採番して追記する
+     *
+     * @param ifAbsent 同じ記録日時の位置情報が既にある場合は追記しないか
+     * @param pending 書き出し完了を待つFutureの追加先
+     * @return 追記した位置情報（ifAbsentで既にあった場合はempty）
+     */
+    Optional<Location> insert(Location location, boolean ifAbsent, List<CompletableFuture<Void>> pending) {
+        long micros = toEpochMicros(location.recordedAt());
+        lock.writeLock().lock();
+        try {
+            if (ifAbsent && findByEpochMicrosLocked(micros).isPresent()) {
+                return Optional.empty();
+            }
+            if (lastSequence >= SEQUENCE_MASK) {
+                throw new IllegalStateException("位置情報IDの採番上限に達しました: " + user.userId());
+            }
+            // 新しいセグメントには採番前の最大値を記録するため、採番より先に追記先を用意する
+            writableTail();
+            long id = ((long) ordinal << SEQUENCE_BITS) | ++lastSequence;
+            append(LocationSegment.TYPE_PUT, id, micros, location.latitude(), location.longitude(), pending);
+            return Optional.of(toLocation(id, micros, location.latitude(), location.longitude()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 既存の位置情報を更新する（同じIDのPUTレコードを追記する）
+     *
+     * @throws IllegalArgumentException 位置情報が存在しない場合
+     */
+    Location update(Location location, List<CompletableFuture<Void>> pending) {
+        long micros = toEpochMicros(location.recordedAt());
+        lock.writeLock().lock();
+        try {
+            if (findPositionLocked(location.id()) == null) {
+                throw new IllegalArgumentException("更新対象の位置情報が存在しません: " + location.id());
+            }
+            long position = append(LocationSegment.TYPE_PUT, location.id(), micros,
+                location.latitude(), location.longitude(), pending);
+            overrides.put(location.id(), position);
+            garbageRecords++;
+            return toLocation(location.id(), micros, location.latitude(), location.longitude());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 位置情報を削除する（存在しないIDは無視する）
+     */
+    void delete(Collection<Long> ids, List<CompletableFuture<Void>> pending) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                if (findPositionLocked(id) != null) {
+                    append(LocationSegment.TYPE_DELETE, id, 0L, 0.0, 0.0, pending);
+                    overrides.put(id, DELETED);
+                    garbageRecords += 2;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Location findById(long id) {
+        lock.readLock().lock();
+        try {
+            Long position = findPositionLocked(id);
+            return position == null ? null : read(position);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Optional<Location> findByRecordedAt(LocalDateTime recordedAt) {
+        long micros = toEpochMicros(recordedAt);
+        lock.readLock().lock();
+        try {
+            return findByEpochMicrosLocked(micros);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 記録日時が範囲内（両端を含む）の位置情報を取得する
+     *
+     * @return 位置情報リスト（順不同）
+     */
+    List<Location> findBetween(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        long fromMicros = toEpochMicrosSaturated(startDateTime);
+        long toMicros = toEpochMicrosSaturated(endDateTime);
+        List<Location> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (LocationSegment segment : segments) {
+                segment.forEachPutBetween(fromMicros, toMicros, index -> {
+                    if (isLive(segment, index)) {
+                        result.add(read(segment, index));
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 不要なレコードの割合が閾値を超えている場合、有効なレコードだけのセグメントへ書き直す
+     *
+     * @return 書き直した場合はtrue
+     */
+    boolean compactIfNeeded(double garbageRatio) {
+        lock.writeLock().lock();
+        try {
+            if (garbageRecords == 0 || garbageRecords < totalRecords * garbageRatio) {
+                return false;
+            }
+            compactLocked();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactLocked() {
+        record Live(long id, long micros, double latitude, double longitude) {
+        }
+        List<Live> live = new ArrayList<>();
+        for (LocationSegment segment : segments) {
+            for (int i = 0; i < segment.count(); i++) {
+                if (segment.type(i) == LocationSegment.TYPE_PUT && isLive(segment, i)) {
+                    live.add(new Live(segment.id(i), segment.epochMicros(i), segment.latitude(i), segment.longitude(i)));
+                }
+            }
+        }
+        // 記録日時順に並べ、ブロックごとの記録日時の範囲が重ならないようにする
+        live.sort(Comparator.comparingLong(Live::micros).thenComparingLong(Live::id));
+
+        int number = nextSegmentNumber();
+        Path target = segmentPath(number);
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_EXTENSION);
+        LocationSegment compacted = LocationSegment.create(temp, number, live.size(), true, lastSequence);
+        for (Live record : live) {
+            compacted.append(LocationSegment.TYPE_PUT, record.id(), record.micros(), record.latitude(), record.longitude());
+        }
+        compacted.force(0, compacted.count());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("位置情報セグメントの置き換えに失敗しました: " + target, e);
+        }
+
+        log.info("位置情報セグメントをコンパクションしました: userId={}, records={}, live={}",
+            user.userId(), totalRecords, live.size());
+        segments.forEach(this::deleteSegmentFile);
+        segments.clear();
+        // 一時ファイル名で作成したため、開き直して置き換え後のパスで保持する
+        segments.add(LocationSegment.open(target, number, false));
+        overrides.clear();
+        totalRecords = live.size();
+        garbageRecords = 0;
+    }
+
+    private long append(byte type, long id, long micros, double latitude, double longitude,
+                        List<CompletableFuture<Void>> pending) {
+        LocationSegment tail = writableTail();
+        int index = tail.append(type, id, micros, latitude, longitude);
+        totalRecords++;
+        pending.add(syncer.submit(tail, index, index + 1));
+        return position(tail, index);
+    }
+
+    private LocationSegment writableTail() {
+        LocationSegment tail = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (tail == null || !tail.isWritable() || tail.isCompacted() || tail.isFull()) {
+            int number = nextSegmentNumber();
+            tail = LocationSegment.create(segmentPath(number), number, segmentRecords, false, lastSequence);
+            segments.add(tail);
+            syncDirectory();
+        }
+        return tail;
+    }
+
+    private Optional<Location> findByEpochMicrosLocked(long micros) {
+        for (LocationSegment segment : segments) {
+            Location[] found = new Location[1];
+            segment.forEachPutBetween(micros, micros, index -> {
+                if (found[0] == null && isLive(segment, index)) {
+                    found[0] = read(segment, index);
+                }
+            });
+            if (found[0] != null) {
+                return Optional.of(found[0]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Long findPositionLocked(long id) {
+        if ((id >>> SEQUENCE_BITS) != ordinal) {
+            return null;
+        }
+        Long override = overrides.get(id);
+        if (override != null) {
+            return override == DELETED ? null : override;
+        }
+        for (LocationSegment segment : segments) {
+            long[] found = {DELETED};
+            segment.forEachPutOf(id, index -> found[0] = position(segment, index));
+            if (found[0] != DELETED) {
+                return found[0];
+            }
+        }
+        return null;
+    }
+
+    private boolean isLive(LocationSegment segment, int index) {
+        Long override = overrides.get(segment.id(index));
+        return override == null || override == position(segment, index);
+    }
+
+    private Location read(long position) {
+        int number = (int) (position >>> 32);
+        int index = (int) position;
+        for (LocationSegment segment : segments) {
+            if (segment.number() == number) {
+                return read(segment, index);
+            }
+        }
+        throw new IllegalStateException("位置情報セグメントが見つかりません: " + number);
+    }
+
+    private Location read(LocationSegment segment, int index) {
+        return toLocation(segment.id(index), segment.epochMicros(index), segment.latitude(index), segment.longitude(index));
+    }
+
+    private Location toLocation(long id, long micros, double latitude, double longitude) {
+        return new Location(id, latitude, longitude, fromEpochMicros(micros), user);
+    }
+
+    private int nextSegmentNumber() {
+        return segments.isEmpty() ? 1 : segments.get(segments.size() - 1).number() + 1;
+    }
+
+    private Path segmentPath(int number) {
+        return dir.resolve(String.format("%010d%s", number, SEGMENT_EXTENSION));
+    }
+
+    private void deleteSegmentFile(LocationSegment segment) {
+        try {
+            Files.deleteIfExists(segment.path());
+        } catch (IOException e) {
+            // 削除できなくても次回の読み込み時に置き換え済みとして削除される
+            log.warn("置き換え済みの位置情報セグメントを削除できませんでした: {}", segment.path(), e);
+        }
+    }
+
+    /**
+     * ファイルの作成・名前変更をディスクへ書き出す
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // ディレクトリのfsyncに対応しないファイルシステムでは何もしない
+            log.debug("ディレクトリをfsyncできませんでした: {}", dir, e);
+        }
+    }
+
+    int ordinal() {
+        return ordinal;
+    }
+
+    User user() {
+        return user;
+    }
+
+    private static long position(LocationSegment segment, int index) {
+        return ((long) segment.number() << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    private static long sequenceOf(long id) {
+        return id & SEQUENCE_MASK;
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+            dateTime.getNano() / 1_000);
+    }
+
+    /**
+     * 検索条件用のエポックマイクロ秒（表現できない日時は最小値・最大値に丸める）
+     */
+    private static long toEpochMicrosSaturated(LocalDateTime dateTime) {
+        try {
+            return toEpochMicros(dateTime);
+        } catch (ArithmeticException e) {
+            return dateTime.getYear() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -6,6 +6,7 @@ import com.github.okanikani.kairos.reportcreationrules.domains.models.entities.R
 import com.github.okanikani.kairos.reportcreationrules.domains.models.repositories.ReportCreationRuleRepository;
 import com.github.okanikani.kairos.reportcreationrules.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +31,7 @@ public class FindAllReportCreationRulesUseCase {
      * @return ユーザーのレポート作成ルール（存在しない場合はnull）
      * @throws NullPointerException userIdがnullの場合
      */
+    @Transactional(readOnly = true)
     public ReportCreationRuleResponse execute(String userId) {
         Objects.requireNonNull(userId, "userIdは必須です");
         
@@ -8,6 +8,7 @@ import com.github.okanikani.kairos.reportcreationrules.domains.models.entities.R
 import com.github.okanikani.kairos.reportcreationrules.domains.models.repositories.ReportCreationRuleRepository;
 import com.github.okanikani.kairos.reportcreationrules.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -33,6 +34,7 @@ public class RegisterReportCreationRuleUseCase {
      * @return 登録された勤怠作成ルール情報
      * @throws DuplicateResourceException 指定されたユーザーの勤怠作成ルールが既に存在する場合
      */
+    @Transactional
     public ReportCreationRuleResponse execute(RegisterReportCreationRuleRequest request) {
         Objects.requireNonNull(request, "リクエストは必須です");
         
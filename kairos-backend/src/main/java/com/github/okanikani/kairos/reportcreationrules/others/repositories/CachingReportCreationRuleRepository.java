@@ -0,0 +1,92 @@
+package com.github.okanikani.kairos.reportcreationrules.others.repositories;
+
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationSubscriber;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
+import com.github.okanikani.kairos.commons.cache.UserScopedCache;
+import com.github.okanikani.kairos.commons.config.RuleCacheProperties;
+import com.github.okanikani.kairos.reportcreationrules.domains.models.entities.ReportCreationRule;
+import com.github.okanikani.kairos.reportcreationrules.domains.models.repositories.ReportCreationRuleRepository;
+import com.github.okanikani.kairos.reportcreationrules.domains.models.vos.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 勤怠作成ルールリポジトリのキャッシュ付き実装
+ *
+ * 勤怠表生成時に締め日・丸め単位の取得で繰り返し参照されるユーザー単位の検索をキャッシュする。
+ * ルール未登録（null）の結果もキャッシュし、未登録ユーザーへの問い合わせも省略する。
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "kairos.rules.cache", name = "enabled", havingValue = "true")
+public class CachingReportCreationRuleRepository implements ReportCreationRuleRepository, CacheInvalidationSubscriber {
+
+    static final String CACHE_NAME = CacheNames.REPORT_CREATION_RULES;
+
+    private final ReportCreationRuleRepository delegate;
+    private final UserScopedCache<ReportCreationRule> cache;
+
+    public CachingReportCreationRuleRepository(ReportCreationRuleRepository delegate, RuleCacheProperties properties,
+                                               MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate, "delegateは必須です");
+        Objects.requireNonNull(properties, "propertiesは必須です");
+        this.cache = new UserScopedCache<>(CACHE_NAME, properties.maxUsers(), properties.ttl(), meterRegistry);
+    }
+
+    @Override
+    public ReportCreationRule save(ReportCreationRule reportCreationRule) {
+        Objects.requireNonNull(reportCreationRule, "reportCreationRuleは必須です");
+        ReportCreationRule previous = reportCreationRule.id() != null ? delegate.findById(reportCreationRule.id()) : null;
+        ReportCreationRule saved = delegate.save(reportCreationRule);
+        if (previous != null) {
+            cache.invalidate(previous.user().userId());
+        }
+        cache.invalidate(saved.user().userId());
+        return saved;
+    }
+
+    @Override
+    public ReportCreationRule findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public ReportCreationRule findByUser(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        return cache.get(user.userId(), () -> delegate.findByUser(user));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        ReportCreationRule existing = delegate.findById(id);
+        delegate.deleteById(id);
+        if (existing != null) {
+            cache.invalidate(existing.user().userId());
+        }
+    }
+
+    @Override
+    public List<ReportCreationRule> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.okanikani.kairos.reportcreationrules.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
 import com.github.okanikani.kairos.reportcreationrules.domains.models.entities.ReportCreationRule;
 import com.github.okanikani.kairos.reportcreationrules.domains.models.repositories.ReportCreationRuleRepository;
 import com.github.okanikani.kairos.reportcreationrules.domains.models.vos.User;
@@ -16,21 +18,27 @@ import java.util.stream.Collectors;
  * 勤怠作成ルールリポジトリのJPA実装
  * 
  * 業務要件: ドメインモデルとJPAエンティティ間の変換とデータ永続化を担当
+ * 
+ * 保存・削除時は他インスタンスのキャッシュを無効化するよう通知する
  */
 @Repository
 @Profile("prod")
 public class JpaReportCreationRuleRepository implements ReportCreationRuleRepository {
 
     private final ReportCreationRuleJpaRepository reportCreationRuleJpaRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
-    public JpaReportCreationRuleRepository(ReportCreationRuleJpaRepository reportCreationRuleJpaRepository) {
+    public JpaReportCreationRuleRepository(ReportCreationRuleJpaRepository reportCreationRuleJpaRepository,
+                                           CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.reportCreationRuleJpaRepository = reportCreationRuleJpaRepository;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
     }
 
     @Override
     public ReportCreationRule save(ReportCreationRule reportCreationRule) {
         ReportCreationRuleJpaEntity jpaEntity = toJpaEntity(reportCreationRule);
         ReportCreationRuleJpaEntity savedEntity = reportCreationRuleJpaRepository.save(jpaEntity);
+        cacheInvalidationPublisher.publish(CacheNames.REPORT_CREATION_RULES, savedEntity.getUserId());
         return toDomainModel(savedEntity);
     }
 
@@ -58,7 +66,9 @@ public class JpaReportCreationRuleRepository implements ReportCreationRuleReposi
 
     @Override
     public void deleteById(Long id) {
+        Optional<String> userId = reportCreationRuleJpaRepository.findById(id).map(ReportCreationRuleJpaEntity::getUserId);
         reportCreationRuleJpaRepository.deleteById(id);
+        userId.ifPresent(value -> cacheInvalidationPublisher.publish(CacheNames.REPORT_CREATION_RULES, value));
     }
 
     @Override
@@ -9,6 +9,7 @@ import com.github.okanikani.kairos.reports.domains.models.entities.Report;
 import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -21,6 +22,7 @@ public class DeleteReportUseCase {
         this.reportRepository = Objects.requireNonNull(reportRepository, "reportRepositoryは必須です");
     }
     
+    @Transactional
     public void execute(DeleteReportRequest request) {
         Objects.requireNonNull(request, "requestは必須です");
         
@@ -0,0 +1,67 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.config.OvertimeCapProperties;
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.FindOvertimeCapRisksRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.OvertimeCapRiskResponse;
+import com.github.okanikani.kairos.reports.applications.usecases.mapper.ReportMapper;
+import com.github.okanikani.kairos.reports.domains.models.repositories.OvertimeTotalRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 時間外労働の上限（36協定）に近いユーザーの取得ユースケース
+ * 
+ * 勤怠表の保存時に維持している月次・年度累計の集計値から、月または年度の上限までの残り時間が
+ * 指定した時間以下のユーザーを抽出する。勤務日詳細は参照しない。
+ */
+@Service
+public class FindOvertimeCapRisksUseCase {
+    
+    private final OvertimeTotalRepository overtimeTotalRepository;
+    private final OvertimeCapProperties overtimeCapProperties;
+    
+    public FindOvertimeCapRisksUseCase(OvertimeTotalRepository overtimeTotalRepository, OvertimeCapProperties overtimeCapProperties) {
+        this.overtimeTotalRepository = Objects.requireNonNull(overtimeTotalRepository, "overtimeTotalRepositoryは必須です");
+        this.overtimeCapProperties = Objects.requireNonNull(overtimeCapProperties, "overtimeCapPropertiesは必須です");
+    }
+    
+    /**
+     * 上限に近いユーザーを取得する
+     * @param request 取得リクエスト
+     * @return 上限に近いユーザーの集計値一覧（年度累計の残業時間の降順）
+     */
+    @Transactional(readOnly = true)
+    public List<OvertimeCapRiskResponse> execute(FindOvertimeCapRisksRequest request) {
+        Objects.requireNonNull(request, "requestは必須です");
+        if (request.margin().isNegative()) {
+            throw new ValidationException("上限までの残り時間には0以上を指定してください");
+        }
+        
+        Duration monthlyLimit = overtimeCapProperties.monthlyLimit();
+        Duration yearlyLimit = overtimeCapProperties.yearlyLimit();
+        int fiscalYear = overtimeCapProperties.fiscalYearOf(request.yearMonth());
+        
+        return overtimeTotalRepository.findAtOrAbove(
+                request.yearMonth(),
+                fiscalYear,
+                monthlyLimit.minus(request.margin()),
+                yearlyLimit.minus(request.margin()))
+            .stream()
+            .map(total -> new OvertimeCapRiskResponse(
+                ReportMapper.toUserDto(total.owner()),
+                total.yearMonth(),
+                total.fiscalYear(),
+                total.monthOvertime(),
+                total.monthHolidayWork(),
+                total.fiscalYearOvertime(),
+                total.fiscalYearHolidayWork(),
+                monthlyLimit.minus(total.monthOvertime()),
+                yearlyLimit.minus(total.fiscalYearOvertime())))
+            .toList();
+    }
+}
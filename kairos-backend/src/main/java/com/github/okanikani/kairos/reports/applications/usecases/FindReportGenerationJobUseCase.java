@@ -0,0 +1,51 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportGenerationJobResponse;
+import com.github.okanikani.kairos.reports.applications.usecases.mapper.ReportMapper;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブ取得ユースケース
+ */
+@Service
+public class FindReportGenerationJobUseCase {
+
+    private final ReportGenerationJobRepository reportGenerationJobRepository;
+
+    public FindReportGenerationJobUseCase(ReportGenerationJobRepository reportGenerationJobRepository) {
+        this.reportGenerationJobRepository = Objects.requireNonNull(reportGenerationJobRepository, "reportGenerationJobRepositoryは必須です");
+    }
+
+    /**
+     * 勤怠表生成ジョブの状態を取得する
+     * @param jobId ジョブID
+     * @param userId ユーザーID
+     * @return ジョブの状態
+     * @throws ResourceNotFoundException ジョブが存在しない場合
+     * @throws AuthorizationException 他のユーザーのジョブの場合
+     */
+    @Transactional(readOnly = true)
+    public ReportGenerationJobResponse execute(String jobId, String userId) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        Objects.requireNonNull(userId, "userIdは必須です");
+
+        ReportGenerationJob job = reportGenerationJobRepository.findById(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("指定された勤怠表生成ジョブが存在しません");
+        }
+
+        // ユーザー権限チェック: 自分のジョブのみ参照可能
+        if (!job.owner().userId().equals(userId)) {
+            throw new AuthorizationException("この勤怠表生成ジョブを参照する権限がありません");
+        }
+
+        return ReportMapper.toReportGenerationJobResponse(job);
+    }
+}
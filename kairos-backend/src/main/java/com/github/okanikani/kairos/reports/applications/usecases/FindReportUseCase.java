@@ -7,6 +7,7 @@ import com.github.okanikani.kairos.reports.domains.models.entities.Report;
 import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -27,6 +28,7 @@ public class FindReportUseCase {
      * @param request 取得リクエスト
      * @return 勤怠表のレスポンス、見つからない場合はnull
      */
+    @Transactional(readOnly = true)
     public ReportResponse execute(FindReportRequest request) {
         Objects.requireNonNull(request, "requestは必須です");
         
@@ -1,6 +1,10 @@
 package com.github.okanikani.kairos.reports.applications.usecases;
 
+import com.github.okanikani.kairos.commons.concurrent.SingleFlight;
 import com.github.okanikani.kairos.commons.config.LocationFilteringProperties;
+import com.github.okanikani.kairos.commons.config.WorkSessionProperties;
+import com.github.okanikani.kairos.commons.monitoring.BusinessMetricsService;
+import com.github.okanikani.kairos.commons.monitoring.ReportGenerationEvent;
 import com.github.okanikani.kairos.commons.service.LocationFilteringService.WorkplaceLocation;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportResponse;
@@ -15,6 +19,8 @@ import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
 import com.github.okanikani.kairos.reports.domains.roundings.RoundingSetting;
 import com.github.okanikani.kairos.reports.domains.service.LocationService;
+import com.github.okanikani.kairos.reports.domains.service.LocationService.WorkSessionSpan;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationLock;
 import com.github.okanikani.kairos.reports.domains.service.ReportPeriodCalculator;
 import com.github.okanikani.kairos.reports.domains.service.SummaryFactory;
 import com.github.okanikani.kairos.reports.domains.service.WorkRuleResolverService;
@@ -24,11 +30,17 @@ import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 public class GenerateReportFromLocationUseCase {
@@ -39,23 +51,66 @@ public class GenerateReportFromLocationUseCase {
     private final ReportRepository reportRepository;
     private final WorkRuleResolverService workRuleResolverService;
     private final LocationFilteringProperties locationFilteringProperties;
+    private final BusinessMetricsService businessMetricsService;
+    private final ReportGenerationLock reportGenerationLock;
+    private final WorkSessionProperties workSessionProperties;
+    // 同一ユーザー・同一年月の同時リクエスト（二重クリック・複数タブ）は1回の生成にまとめる
+    private final SingleFlight<GenerationKey, ReportResponse> singleFlight = new SingleFlight<>();
     
     public GenerateReportFromLocationUseCase(
         LocationService locationService, 
         ReportRepository reportRepository,
         WorkRuleResolverService workRuleResolverService,
-        LocationFilteringProperties locationFilteringProperties) {
+        LocationFilteringProperties locationFilteringProperties,
+        BusinessMetricsService businessMetricsService,
+        ReportGenerationLock reportGenerationLock,
+        WorkSessionProperties workSessionProperties) {
         
         this.locationService = Objects.requireNonNull(locationService, "locationServiceは必須です");
         this.reportRepository = Objects.requireNonNull(reportRepository, "reportRepositoryは必須です");
         this.workRuleResolverService = Objects.requireNonNull(workRuleResolverService, "workRuleResolverServiceは必須です");
         this.locationFilteringProperties = Objects.requireNonNull(locationFilteringProperties, "locationFilteringPropertiesは必須です");
+        this.businessMetricsService = Objects.requireNonNull(businessMetricsService, "businessMetricsServiceは必須です");
+        this.reportGenerationLock = Objects.requireNonNull(reportGenerationLock, "reportGenerationLockは必須です");
+        this.workSessionProperties = Objects.requireNonNull(workSessionProperties, "workSessionPropertiesは必須です");
     }
     
     public ReportResponse execute(GenerateReportFromLocationRequest request) {
         Objects.requireNonNull(request, "requestは必須です");
         
         User user = ReportMapper.toUser(request.user());
+        AtomicBoolean generated = new AtomicBoolean();
+        ReportResponse response = singleFlight.execute(new GenerationKey(user.userId(), request.yearMonth()), () -> {
+            generated.set(true);
+            // 他インスタンスでの同じ勤怠表の生成とは保存まで含めて直列化する
+            return reportGenerationLock.executeExclusively(request.yearMonth(), user, () -> generate(request, user, false).orElseThrow());
+        });
+        
+        if (!generated.get()) {
+            logger.debug("生成中の勤怠表の結果を共有しました: userId={}, yearMonth={}", user.userId(), request.yearMonth());
+            businessMetricsService.recordReportGenerationCoalesced();
+        }
+        return response;
+    }
+    
+    /**
+     * 未提出の勤怠表のみ位置情報から作り直す
+     * 
+     * 状態は生成ロック内で保存の直前に確認し直すため、確認後に提出された勤怠表を未提出で上書きしない
+     * 
+     * @param request 生成リクエスト
+     * @return 作り直した勤怠表（未作成・提出済み以降の場合は空）
+     */
+    public Optional<ReportResponse> regenerateIfNotSubmitted(GenerateReportFromLocationRequest request) {
+        Objects.requireNonNull(request, "requestは必須です");
+        
+        User user = ReportMapper.toUser(request.user());
+        return reportGenerationLock.executeExclusively(request.yearMonth(), user, () -> generate(request, user, true));
+    }
+    
+    private Optional<ReportResponse> generate(GenerateReportFromLocationRequest request, User user, boolean onlyIfNotSubmitted) {
+        ReportGenerationEvent event = new ReportGenerationEvent();
+        event.begin();
         
         // 勤怠締め日を取得
         int closingDay = workRuleResolverService.getClosingDay(user);
@@ -64,14 +119,36 @@ public class GenerateReportFromLocationUseCase {
         ReportPeriodCalculator.ReportPeriod period = 
             ReportPeriodCalculator.calculatePeriod(request.yearMonth(), closingDay);
         
-        // 期間内の位置情報記録日時を取得（作業場所フィルタリング対応）
-        List<LocalDateTime> locationTimes = getLocationRecordTimes(period, user);
+        // 期間内の勤務セッションと、セッションの無い範囲の位置情報記録日時を取得（作業場所フィルタリング対応）
+        // 勤務セッションが無い月（有効化前にアーカイブ済みの月など）は位置情報から導出する
+        long fetchStart = System.nanoTime();
+        Optional<WorkplaceLocation> workplace = resolveFilteringWorkplace(period, user);
+        List<WorkSessionSpan> allWorkSessions = workSessionProperties.enabled() 
+            ? locationService.getWorkSessions(period, user) 
+            : List.of();
+        // セッションの範囲内外は位置情報の登録時に、記録日時点の作業場所で判定済み
+        List<WorkSessionSpan> workSessions = workplace.isPresent()
+            ? allWorkSessions.stream().filter(WorkSessionSpan::withinGeofence).toList()
+            : allWorkSessions;
+        List<LocalDateTime> locationTimes = new ArrayList<>();
+        for (ReportPeriodCalculator.ReportPeriod uncovered : periodsWithoutWorkSessions(period, allWorkSessions)) {
+            locationTimes.addAll(getLocationRecordTimes(uncovered, user, workplace));
+        }
+        long groupingStart = System.nanoTime();
         
         // 丸め設定を取得
         RoundingSetting roundingSetting = workRuleResolverService.createRoundingSetting(user);
         
-        // 位置情報を1時間以内の間隔でグルーピングして勤務日詳細を生成
-        List<DetailDto> workDays = groupLocationTimesAndCreateDetails(locationTimes, user, roundingSetting);
+        // 1時間以内の間隔でグルーピングして勤務日詳細を生成
+        WorkRuleLookup workRuleLookup = new WorkRuleLookup(user);
+        List<DetailDto> workDays = new ArrayList<>(
+            mergeWorkSessionsAndCreateDetails(workSessions, roundingSetting, workRuleLookup));
+        if (!locationTimes.isEmpty()) {
+            workDays.addAll(groupLocationTimesAndCreateDetails(locationTimes, roundingSetting, workRuleLookup));
+            workDays.sort(Comparator.comparing(workDay -> workDay.startDateTime().value()));
+        }
+        int locationCount = locationTimes.size()
+            + workSessions.stream().mapToInt(WorkSessionSpan::pointCount).sum();
         
         // 勤怠表エンティティを作成
         List<Detail> details = workDays.stream()
@@ -90,10 +167,71 @@ public class GenerateReportFromLocationUseCase {
         );
         
         // 保存
+        long persistStart = System.nanoTime();
+        if (onlyIfNotSubmitted && reportRepository.lockStatus(request.yearMonth(), user) != ReportStatus.NOT_SUBMITTED) {
+            logger.debug("未提出ではなくなったため勤怠表を保存しません: userId={}, yearMonth={}", user.userId(), request.yearMonth());
+            return Optional.empty();
+        }
         reportRepository.save(report);
+        long persistEnd = System.nanoTime();
+        businessMetricsService.recordReportGenerated(details.size());
+        
+        if (event.shouldCommit()) {
+            event.setUserId(user.userId());
+            event.setYearMonth(request.yearMonth().toString());
+            event.setLocationCount(locationCount);
+            event.setGroupCount(workDays.size());
+            event.setRuleResolutionCount(workRuleLookup.resolutionCount);
+            event.setFetchDuration(groupingStart - fetchStart);
+            event.setGroupingDuration(persistStart - groupingStart - workRuleLookup.resolutionNanos);
+            event.setRuleResolutionDuration(workRuleLookup.resolutionNanos);
+            event.setPersistDuration(persistEnd - persistStart);
+            event.commit();
+        }
         
         // レスポンス作成
-        return ReportMapper.toReportResponse(report);
+        return Optional.of(ReportMapper.toReportResponse(report));
+    }
+    
+    /**
+     * 勤怠計算期間のうち、勤務セッションが1件も無い月の範囲を求める
+     * 
+     * 勤務セッションは有効化時に当時データベースにあった位置情報から作成しており、
+     * それ以前にアーカイブした月には存在しない。アーカイブは月単位のため月単位で判定し、
+     * 隣り合う月の範囲は1つにまとめる。勤務セッションが無効な場合は期間全体を返す。
+     * 
+     * @param period 勤怠計算期間
+     * @param workSessions 期間と重なる勤務セッション（作業場所の範囲外も含む）
+     * @return 勤務セッションが無い範囲のリスト（昇順）
+     */
+    static List<ReportPeriodCalculator.ReportPeriod> periodsWithoutWorkSessions(
+        ReportPeriodCalculator.ReportPeriod period,
+        List<WorkSessionSpan> workSessions) {
+        
+        List<ReportPeriodCalculator.ReportPeriod> uncovered = new ArrayList<>();
+        LocalDate uncoveredStart = null;
+        LocalDate partEnd = null;
+        for (YearMonth month = YearMonth.from(period.startDate()); !month.isAfter(YearMonth.from(period.endDate())); month = month.plusMonths(1)) {
+            LocalDate partStart = month.atDay(1).isBefore(period.startDate()) ? period.startDate() : month.atDay(1);
+            partEnd = month.atEndOfMonth().isAfter(period.endDate()) ? period.endDate() : month.atEndOfMonth();
+            if (!hasWorkSession(workSessions, partStart, partEnd)) {
+                if (uncoveredStart == null) {
+                    uncoveredStart = partStart;
+                }
+            } else if (uncoveredStart != null) {
+                uncovered.add(new ReportPeriodCalculator.ReportPeriod(uncoveredStart, partStart.minusDays(1)));
+                uncoveredStart = null;
+            }
+        }
+        if (uncoveredStart != null) {
+            uncovered.add(new ReportPeriodCalculator.ReportPeriod(uncoveredStart, partEnd));
+        }
+        return uncovered;
+    }
+    
+    private static boolean hasWorkSession(List<WorkSessionSpan> workSessions, LocalDate from, LocalDate to) {
+        return workSessions.stream().anyMatch(session ->
+            !session.endedAt().toLocalDate().isBefore(from) && !session.startedAt().toLocalDate().isAfter(to));
     }
     
     /**
@@ -103,14 +241,53 @@ public class GenerateReportFromLocationUseCase {
      * 
      * @param period 勤怠計算期間
      * @param user ユーザー
+     * @param workplace フィルタリングに使用する作業場所（空の場合は全ての位置情報を対象とする）
      * @return 位置情報記録日時リスト
      */
-    private List<LocalDateTime> getLocationRecordTimes(ReportPeriodCalculator.ReportPeriod period, User user) {
+    private List<LocalDateTime> getLocationRecordTimes(
+        ReportPeriodCalculator.ReportPeriod period, 
+        User user, 
+        Optional<WorkplaceLocation> workplace) {
+        
+        if (workplace.isEmpty()) {
+            return locationService.getLocationRecordTimes(period, user);
+        }
+        
+        // 作業場所近辺の位置情報のみを取得
+        WorkplaceLocation workplaceLocation = workplace.get();
+        if (logger.isInfoEnabled()) {
+            logger.info("位置情報フィルタリングを実行します。作業場所: 緯度={}, 経度={}, 許容距離={}m, ユーザー: {}", 
+                workplaceLocation.latitude(), workplaceLocation.longitude(), 
+                workplaceLocation.radiusMeters(), user.userId());
+        }
+        
+        List<LocalDateTime> filteredTimes = locationService.getLocationRecordTimesNearWorkplace(period, user, workplaceLocation);
+        
+        if (logger.isInfoEnabled()) {
+            logger.info("位置情報フィルタリング結果: {}件の位置情報を取得しました。ユーザー: {}", 
+                filteredTimes.size(), user.userId());
+        }
+        
+        return filteredTimes;
+    }
+    
+    /**
+     * 位置情報フィルタリングに使用する作業場所を取得
+     * 
+     * 勤務セッションを使用する場合は、作業場所が得られたときのみ範囲内のセッションに絞り込む。
+     * セッションの範囲内外は位置情報の登録時に、記録日時点の作業場所で判定済み。
+     * 
+     * @param period 勤怠計算期間
+     * @param user ユーザー
+     * @return 作業場所（フィルタリングが無効、または寛容モードで作業場所が未設定の場合は空）
+     * @throws IllegalStateException 厳密モードで作業場所が設定されていない場合
+     */
+    private Optional<WorkplaceLocation> resolveFilteringWorkplace(ReportPeriodCalculator.ReportPeriod period, User user) {
         
         // 位置情報フィルタリングが無効な場合は従来通りの処理
         if (!locationFilteringProperties.enabled()) {
             logger.debug("位置情報フィルタリング機能は無効です。全ての位置情報を取得します。");
-            return locationService.getLocationRecordTimes(period, user);
+            return Optional.empty();
         }
         
         // 作業場所情報を取得（期間終了日時点の作業場所を使用）
@@ -127,26 +304,10 @@ public class GenerateReportFromLocationUseCase {
                 if (logger.isWarnEnabled()) {
                     logger.warn(message + " 全ての位置情報を勤怠対象とします。");
                 }
-                return locationService.getLocationRecordTimes(period, user);
             }
         }
         
-        // 作業場所近辺の位置情報のみを取得
-        WorkplaceLocation workplaceLocation = workplace.get();
-        if (logger.isInfoEnabled()) {
-            logger.info("位置情報フィルタリングを実行します。作業場所: 緯度={}, 経度={}, 許容距離={}m, ユーザー: {}", 
-                workplaceLocation.latitude(), workplaceLocation.longitude(), 
-                workplaceLocation.radiusMeters(), user.userId());
-        }
-        
-        List<LocalDateTime> filteredTimes = locationService.getLocationRecordTimesNearWorkplace(period, user, workplaceLocation);
-        
-        if (logger.isInfoEnabled()) {
-            logger.info("位置情報フィルタリング結果: {}件の位置情報を取得しました。ユーザー: {}", 
-                filteredTimes.size(), user.userId());
-        }
-        
-        return filteredTimes;
+        return workplace;
     }
     
     // 勤務時間グループ化の判定基準定数
@@ -155,14 +316,14 @@ public class GenerateReportFromLocationUseCase {
     /**
      * 位置情報記録日時を1時間以内の間隔でグルーピングし、勤務日詳細を作成する
      * @param locationTimes 位置情報記録日時のリスト（昇順）
-     * @param user ユーザー
      * @param roundingSetting 丸め設定
+     * @param workRuleLookup 勤務ルールの取得（生成処理内でのみ有効）
      * @return 勤務日詳細のリスト
      */
     private List<DetailDto> groupLocationTimesAndCreateDetails(
         List<LocalDateTime> locationTimes, 
-        User user, 
-        RoundingSetting roundingSetting) {
+        RoundingSetting roundingSetting,
+        WorkRuleLookup workRuleLookup) {
         List<DetailDto> workDays = new ArrayList<>();
         
         if (locationTimes.isEmpty()) {
@@ -183,7 +344,8 @@ public class GenerateReportFromLocationUseCase {
                 currentGroup.add(current);
             } else {
                 // 新しいグループ開始：現在のグループから勤務日詳細を作成
-                DetailDto workDay = createDetailFromGroup(currentGroup, user, roundingSetting);
+                DetailDto workDay = createDetail(
+                    currentGroup.get(0), currentGroup.get(currentGroup.size() - 1), roundingSetting, workRuleLookup);
                 workDays.add(workDay);
                 
                 // 新しいグループ開始
@@ -194,7 +356,8 @@ public class GenerateReportFromLocationUseCase {
         
         // 最後のグループを処理
         if (!currentGroup.isEmpty()) {
-            DetailDto workDay = createDetailFromGroup(currentGroup, user, roundingSetting);
+            DetailDto workDay = createDetail(
+                currentGroup.get(0), currentGroup.get(currentGroup.size() - 1), roundingSetting, workRuleLookup);
             workDays.add(workDay);
         }
         
@@ -202,18 +365,58 @@ public class GenerateReportFromLocationUseCase {
     }
     
     /**
-     * 位置情報記録日時のグループから勤務日詳細を作成する
-     * @param group 位置情報記録日時のグループ
-     * @param user ユーザー
+     * 勤務セッションのうち間隔が1時間以内のものを結合し、勤務日詳細を作成する
+     * 
+     * 勤務セッションは作業場所の範囲内外が変わる位置でも区切られているため、
+     * 位置情報を直接グルーピングした場合と同じ単位にまとめ直す
+     * 
+     * @param workSessions 勤務セッションの範囲リスト（開始日時の昇順）
+     * @param roundingSetting 丸め設定
+     * @param workRuleLookup 勤務ルールの取得（生成処理内でのみ有効）
+     * @return 勤務日詳細のリスト
+     */
+    private List<DetailDto> mergeWorkSessionsAndCreateDetails(
+        List<WorkSessionSpan> workSessions,
+        RoundingSetting roundingSetting,
+        WorkRuleLookup workRuleLookup) {
+        List<DetailDto> workDays = new ArrayList<>();
+        if (workSessions.isEmpty()) {
+            return workDays;
+        }
+        
+        LocalDateTime groupStart = workSessions.get(0).startedAt();
+        LocalDateTime groupEnd = workSessions.get(0).endedAt();
+        for (int i = 1; i < workSessions.size(); i++) {
+            WorkSessionSpan current = workSessions.get(i);
+            
+            // 前のセッションの終了との間隔が1時間以内かチェック
+            Duration gap = Duration.between(groupEnd, current.startedAt());
+            if (gap.toMinutes() <= WORK_TIME_GROUPING_THRESHOLD_MINUTES) {
+                groupEnd = current.endedAt();
+            } else {
+                workDays.add(createDetail(groupStart, groupEnd, roundingSetting, workRuleLookup));
+                groupStart = current.startedAt();
+                groupEnd = current.endedAt();
+            }
+        }
+        workDays.add(createDetail(groupStart, groupEnd, roundingSetting, workRuleLookup));
+        
+        return workDays;
+    }
+    
+    /**
+     * 勤務開始・終了の記録日時から勤務日詳細を作成する
+     * @param rawStartTime グループ最初の記録日時
+     * @param rawEndTime グループ最後の記録日時
      * @param roundingSetting 丸め設定
+     * @param workRuleLookup 勤務ルールの取得（生成処理内でのみ有効）
      * @return 勤務日詳細
      */
-    private DetailDto createDetailFromGroup(
-        List<LocalDateTime> group, 
-        User user, 
-        RoundingSetting roundingSetting) {
-        LocalDateTime rawStartTime = group.get(0);
-        LocalDateTime rawEndTime = group.get(group.size() - 1);
+    private DetailDto createDetail(
+        LocalDateTime rawStartTime,
+        LocalDateTime rawEndTime,
+        RoundingSetting roundingSetting,
+        WorkRuleLookup workRuleLookup) {
         
         // WorkTimeファクトリメソッドで丸め処理適用
         com.github.okanikani.kairos.reports.domains.models.vos.WorkTime startWorkTime = 
@@ -225,8 +428,7 @@ public class GenerateReportFromLocationUseCase {
         LocalDateTime endTime = endWorkTime.value();
         
         // 勤務ルール取得
-        WorkRuleResolverService.WorkRuleInfo workRule = 
-            workRuleResolverService.resolveWorkRule(user, startTime.toLocalDate());
+        WorkRuleResolverService.WorkRuleInfo workRule = workRuleLookup.resolve(startTime.toLocalDate());
         
         // 休日判定・勤務時間計算
         boolean isHoliday = isHolidayDate(startTime);
@@ -246,6 +448,40 @@ public class GenerateReportFromLocationUseCase {
         );
     }
     
+    /**
+     * 1回の生成処理内での勤務ルール取得
+     * 同じ勤務日の勤務ルールは生成処理内で使い回し、問い合わせ回数と所要時間を集計する
+     */
+    private final class WorkRuleLookup {
+        
+        private final User user;
+        private final Map<LocalDate, WorkRuleResolverService.WorkRuleInfo> cache = new HashMap<>();
+        private int resolutionCount;
+        private long resolutionNanos;
+        
+        private WorkRuleLookup(User user) {
+            this.user = user;
+        }
+        
+        /**
+         * 勤務日の勤務ルールを取得する
+         * @param workDate 勤務日
+         * @return 勤務ルール情報
+         */
+        private WorkRuleResolverService.WorkRuleInfo resolve(LocalDate workDate) {
+            WorkRuleResolverService.WorkRuleInfo cached = cache.get(workDate);
+            if (cached != null) {
+                return cached;
+            }
+            long start = System.nanoTime();
+            WorkRuleResolverService.WorkRuleInfo resolved = workRuleResolverService.resolveWorkRule(user, workDate);
+            resolutionNanos += System.nanoTime() - start;
+            resolutionCount++;
+            cache.put(workDate, resolved);
+            return resolved;
+        }
+    }
+    
     /**
      * 日付が休日かどうかを判定する
      * @param dateTime 判定対象の日時
@@ -299,4 +535,10 @@ public class GenerateReportFromLocationUseCase {
             return new WorkTimeCalculation(overtimeHours, Duration.ZERO);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * シングルフライトのキー
+     */
+    private record GenerationKey(String userId, YearMonth yearMonth) {
+    }
+}
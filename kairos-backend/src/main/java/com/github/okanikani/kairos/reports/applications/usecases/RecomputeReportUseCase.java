@@ -0,0 +1,66 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.KairosException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * 勤怠表再計算ユースケース
+ *
+ * 位置情報・勤怠ルールの変更で内容が古くなった勤怠表を作り直す。
+ * 作り直すのは未提出の勤怠表のみとし、未作成・提出済み以降の勤怠表は変更しない。
+ * 状態は生成ロック内で保存の直前にも確認し、途中で提出された勤怠表は上書きしない。
+ */
+@Service
+public class RecomputeReportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecomputeReportUseCase.class);
+
+    private final ReportRepository reportRepository;
+    private final GenerateReportFromLocationUseCase generateReportFromLocationUseCase;
+
+    public RecomputeReportUseCase(
+        ReportRepository reportRepository,
+        GenerateReportFromLocationUseCase generateReportFromLocationUseCase) {
+
+        this.reportRepository = Objects.requireNonNull(reportRepository, "reportRepositoryは必須です");
+        this.generateReportFromLocationUseCase = Objects.requireNonNull(generateReportFromLocationUseCase, "generateReportFromLocationUseCaseは必須です");
+    }
+
+    /**
+     * 未提出の勤怠表を位置情報から作り直す
+     * @param yearMonth 勤怠年月
+     * @param userId ユーザーID
+     * @return 作り直した場合はtrue、対象外（未作成・提出済み・生成できない）の場合はfalse
+     */
+    public boolean execute(YearMonth yearMonth, String userId) {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(userId, "userIdは必須です");
+
+        // 対象外の勤怠表は生成ロックを取らずに除外する
+        Report report = reportRepository.find(yearMonth, new User(userId));
+        if (report == null || report.status() != ReportStatus.NOT_SUBMITTED) {
+            return false;
+        }
+
+        try {
+            return generateReportFromLocationUseCase
+                .regenerateIfNotSubmitted(new GenerateReportFromLocationRequest(yearMonth, new UserDto(userId)))
+                .isPresent();
+        } catch (KairosException e) {
+            // 勤怠ルール未設定など再試行しても変わらない失敗。利用者が生成し直すまで現在の勤怠表を残す
+            logger.warn("勤怠表を再計算できませんでした: userId={}, yearMonth={}, reason={}", userId, yearMonth, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
 import com.github.okanikani.kairos.reports.domains.service.SummaryFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +34,7 @@ public class RegisterReportUseCase {
      * @param request 登録リクエスト
      * @return 登録された勤怠表のレスポンス
      */
+    @Transactional
     public ReportResponse execute(RegisterReportRequest request) {
         Objects.requireNonNull(request, "requestは必須です");
         
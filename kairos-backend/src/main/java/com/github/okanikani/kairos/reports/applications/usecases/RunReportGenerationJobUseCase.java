@@ -0,0 +1,75 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.KairosException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.mapper.ReportMapper;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブ実行ユースケース
+ *
+ * ワーカースレッドから呼び出され、受付状態のジョブを実行中に遷移させてから勤怠表を生成する。
+ * 他のワーカー・インスタンスが既に実行を開始している場合は何もしない。
+ */
+@Service
+public class RunReportGenerationJobUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunReportGenerationJobUseCase.class);
+
+    // 想定外の例外の詳細はログにのみ出力し、クライアントには汎用メッセージを返す
+    static final String UNEXPECTED_ERROR_MESSAGE = "勤怠表の生成中にエラーが発生しました";
+
+    private final ReportGenerationJobRepository reportGenerationJobRepository;
+    private final GenerateReportFromLocationUseCase generateReportFromLocationUseCase;
+
+    public RunReportGenerationJobUseCase(
+        ReportGenerationJobRepository reportGenerationJobRepository,
+        GenerateReportFromLocationUseCase generateReportFromLocationUseCase) {
+
+        this.reportGenerationJobRepository = Objects.requireNonNull(reportGenerationJobRepository, "reportGenerationJobRepositoryは必須です");
+        this.generateReportFromLocationUseCase = Objects.requireNonNull(generateReportFromLocationUseCase, "generateReportFromLocationUseCaseは必須です");
+    }
+
+    /**
+     * 勤怠表生成ジョブを実行する
+     * @param jobId ジョブID
+     */
+    public void execute(String jobId) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+
+        ReportGenerationJob job = reportGenerationJobRepository.claim(jobId, LocalDateTime.now());
+        if (job == null) {
+            logger.debug("勤怠表生成ジョブは実行済みまたは実行中のためスキップします: jobId={}", jobId);
+            return;
+        }
+
+        try {
+            generateReportFromLocationUseCase.execute(new GenerateReportFromLocationRequest(
+                job.yearMonth(),
+                ReportMapper.toUserDto(job.owner())
+            ));
+            finish(job.succeed(LocalDateTime.now()));
+        } catch (KairosException e) {
+            logger.warn("勤怠表生成ジョブが失敗しました: jobId={}, reason={}", jobId, e.getMessage());
+            finish(job.fail(e.getMessage(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            logger.error("勤怠表生成ジョブで予期しないエラーが発生しました: jobId={}", jobId, e);
+            finish(job.fail(UNEXPECTED_ERROR_MESSAGE, LocalDateTime.now()));
+        }
+    }
+
+    private void finish(ReportGenerationJob finished) {
+        if (!reportGenerationJobRepository.finish(finished)) {
+            // 実行が長引いて受付状態に戻され、他のワーカー・インスタンスが実行し直している
+            logger.info("勤怠表生成ジョブは他の実行に引き継がれているため結果を破棄します: jobId={}, status={}",
+                finished.jobId(), finished.status());
+        }
+    }
+}
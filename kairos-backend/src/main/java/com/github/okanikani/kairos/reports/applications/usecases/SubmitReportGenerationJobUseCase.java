@@ -0,0 +1,63 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportGenerationJobResponse;
+import com.github.okanikani.kairos.reports.applications.usecases.mapper.ReportMapper;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationJobDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブ受付ユースケース
+ *
+ * 位置情報からの勤怠表生成を非同期ジョブとして受け付ける。
+ * 同一ユーザー・同一年月のジョブが未終了の場合は新たに受け付けず、既存のジョブを返す（シングルフライト）。
+ */
+@Service
+public class SubmitReportGenerationJobUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmitReportGenerationJobUseCase.class);
+
+    private final ReportGenerationJobRepository reportGenerationJobRepository;
+    private final ReportGenerationJobDispatcher reportGenerationJobDispatcher;
+
+    public SubmitReportGenerationJobUseCase(
+        ReportGenerationJobRepository reportGenerationJobRepository,
+        ReportGenerationJobDispatcher reportGenerationJobDispatcher) {
+
+        this.reportGenerationJobRepository = Objects.requireNonNull(reportGenerationJobRepository, "reportGenerationJobRepositoryは必須です");
+        this.reportGenerationJobDispatcher = Objects.requireNonNull(reportGenerationJobDispatcher, "reportGenerationJobDispatcherは必須です");
+    }
+
+    /**
+     * 勤怠表生成ジョブを受け付ける
+     * @param request 生成リクエスト
+     * @return 受け付けたジョブ、または実行待ち・実行中の既存ジョブ
+     */
+    public ReportGenerationJobResponse execute(GenerateReportFromLocationRequest request) {
+        Objects.requireNonNull(request, "requestは必須です");
+
+        ReportGenerationJob job = ReportGenerationJob.accept(
+            request.yearMonth(),
+            ReportMapper.toUser(request.user()),
+            LocalDateTime.now()
+        );
+        ReportGenerationJob accepted = reportGenerationJobRepository.saveIfNoActiveJob(job);
+
+        // 実行中のジョブは投入不要。受付状態のジョブは既存のものでも投入する（投入済みなら何もしない）
+        if (accepted.status() == ReportGenerationJobStatus.PENDING
+                && !reportGenerationJobDispatcher.dispatch(accepted.jobId())) {
+            // 受付状態のまま残し、定期スイープで再投入する
+            logger.info("実行キューが満杯のため勤怠表生成ジョブの投入を保留しました: jobId={}", accepted.jobId());
+        }
+
+        return ReportMapper.toReportGenerationJobResponse(accepted);
+    }
+}
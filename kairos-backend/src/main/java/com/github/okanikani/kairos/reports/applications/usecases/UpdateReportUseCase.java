@@ -13,6 +13,7 @@ import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
 import com.github.okanikani.kairos.reports.domains.service.SummaryFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -26,6 +27,7 @@ public class UpdateReportUseCase {
         this.reportRepository = Objects.requireNonNull(reportRepository, "reportRepositoryは必須です");
     }
     
+    @Transactional
     public ReportResponse execute(UpdateReportRequest request) {
         Objects.requireNonNull(request, "requestは必須です");
         
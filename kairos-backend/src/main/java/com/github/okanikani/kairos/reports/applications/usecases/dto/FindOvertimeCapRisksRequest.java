@@ -0,0 +1,20 @@
+package com.github.okanikani.kairos.reports.applications.usecases.dto;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * 時間外労働の上限に近いユーザーの取得リクエスト
+ * @param yearMonth 対象の勤怠年月
+ * @param margin 上限までの残り時間がこの値以下のユーザーを対象とする
+ */
+public record FindOvertimeCapRisksRequest(
+    YearMonth yearMonth,
+    Duration margin
+) {
+    public FindOvertimeCapRisksRequest {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(margin, "marginは必須です");
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.okanikani.kairos.reports.applications.usecases.dto;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * 時間外労働の上限に近いユーザーのレスポンスDTO
+ * @param user ユーザー
+ * @param yearMonth 対象の勤怠年月
+ * @param fiscalYear 年度
+ * @param monthOvertime 勤怠年月の残業時間
+ * @param monthHolidayWork 勤怠年月の休出時間
+ * @param fiscalYearOvertime 年度累計の残業時間
+ * @param fiscalYearHolidayWork 年度累計の休出時間
+ * @param monthlyRemaining 月の上限までの残り時間（超過している場合は負の値）
+ * @param yearlyRemaining 年度の上限までの残り時間（超過している場合は負の値）
+ */
+public record OvertimeCapRiskResponse(
+        UserDto user,
+        YearMonth yearMonth,
+        int fiscalYear,
+        Duration monthOvertime,
+        Duration monthHolidayWork,
+        Duration fiscalYearOvertime,
+        Duration fiscalYearHolidayWork,
+        Duration monthlyRemaining,
+        Duration yearlyRemaining
+) {
+    public OvertimeCapRiskResponse {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+    }
+}
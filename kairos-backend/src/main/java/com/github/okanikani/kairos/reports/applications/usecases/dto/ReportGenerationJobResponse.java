@@ -0,0 +1,35 @@
+package com.github.okanikani.kairos.reports.applications.usecases.dto;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブレスポンスDTO
+ * @param jobId ジョブID
+ * @param yearMonth 対象年月
+ * @param owner 所有者
+ * @param status ステータス（文字列表現）
+ * @param requestedAt 受付日時
+ * @param startedAt 実行開始日時（未開始の場合null）
+ * @param finishedAt 終了日時（未終了の場合null）
+ * @param errorMessage 失敗理由（失敗時以外はnull）
+ */
+public record ReportGenerationJobResponse(
+        String jobId,
+        YearMonth yearMonth,
+        UserDto owner,
+        String status,
+        LocalDateTime requestedAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+) {
+    public ReportGenerationJobResponse {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(owner, "ownerは必須です");
+        Objects.requireNonNull(status, "statusは必須です");
+        Objects.requireNonNull(requestedAt, "requestedAtは必須です");
+    }
+}
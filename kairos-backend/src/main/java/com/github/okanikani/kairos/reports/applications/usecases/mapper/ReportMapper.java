@@ -4,6 +4,7 @@ import com.github.okanikani.kairos.reports.applications.usecases.dto.*;
 import com.github.okanikani.kairos.reports.domains.models.constants.LeaveType;
 import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
 import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
 import com.github.okanikani.kairos.reports.domains.models.vos.*;
 
 import java.util.List;
@@ -114,4 +115,20 @@ public class ReportMapper {
             toSummaryDto(report.summary())
         );
     }
-}
\ No newline at end of file
+    
+    /**
+     * ReportGenerationJobドメインオブジェクトからReportGenerationJobResponseに変換
+     */
+    public static ReportGenerationJobResponse toReportGenerationJobResponse(ReportGenerationJob job) {
+        return new ReportGenerationJobResponse(
+            job.jobId(),
+            job.yearMonth(),
+            toUserDto(job.owner()),
+            job.status().name(),
+            job.requestedAt(),
+            job.startedAt(),
+            job.finishedAt(),
+            job.errorMessage()
+        );
+    }
+}
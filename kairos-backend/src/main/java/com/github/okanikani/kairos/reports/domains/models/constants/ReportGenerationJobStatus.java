@@ -0,0 +1,19 @@
+package com.github.okanikani.kairos.reports.domains.models.constants;
+
+/**
+ * 勤怠表生成ジョブのステータスを表わす定数
+ */
+public enum ReportGenerationJobStatus {
+    PENDING,     // 受付済み（実行待ち）
+    RUNNING,     // 実行中
+    SUCCEEDED,   // 完了
+    FAILED;      // 失敗
+
+    /**
+     * 実行が終了しているかどうか
+     * @return 完了または失敗の場合true
+     */
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.okanikani.kairos.reports.domains.models.entities;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 勤怠表生成ジョブを表わすクラス
+ *
+ * 位置情報からの勤怠表生成をリクエストスレッドから切り離して実行するための受付記録。
+ * 生成結果の勤怠表自体は勤怠表リポジトリに保存し、ジョブは状態のみを保持する。
+ *
+ * @param jobId ジョブID
+ * @param yearMonth 対象年月
+ * @param owner 所有者
+ * @param status ステータス
+ * @param requestedAt 受付日時
+ * @param startedAt 実行開始日時（未開始の場合null）
+ * @param finishedAt 終了日時（未終了の場合null）
+ * @param errorMessage 失敗理由（失敗時以外はnull）
+ */
+public record ReportGenerationJob(
+        String jobId,
+        YearMonth yearMonth,
+        User owner,
+        ReportGenerationJobStatus status,
+        LocalDateTime requestedAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+) {
+    public ReportGenerationJob {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(owner, "ownerは必須です");
+        Objects.requireNonNull(status, "statusは必須です");
+        Objects.requireNonNull(requestedAt, "requestedAtは必須です");
+    }
+
+    /**
+     * 新規ジョブを受付状態で作成する
+     * @param yearMonth 対象年月
+     * @param owner 所有者
+     * @param requestedAt 受付日時
+     * @return 受付状態のジョブ
+     */
+    public static ReportGenerationJob accept(YearMonth yearMonth, User owner, LocalDateTime requestedAt) {
+        return new ReportGenerationJob(
+            UUID.randomUUID().toString(),
+            yearMonth,
+            owner,
+            ReportGenerationJobStatus.PENDING,
+            requestedAt,
+            null,
+            null,
+            null
+        );
+    }
+
+    /**
+     * 完了状態のジョブを返す
+     * @param finishedAt 終了日時
+     * @return 完了状態のジョブ
+     */
+    public ReportGenerationJob succeed(LocalDateTime finishedAt) {
+        Objects.requireNonNull(finishedAt, "finishedAtは必須です");
+        return new ReportGenerationJob(jobId, yearMonth, owner, ReportGenerationJobStatus.SUCCEEDED,
+            requestedAt, startedAt, finishedAt, null);
+    }
+
+    /**
+     * 失敗状態のジョブを返す
+     * @param errorMessage 失敗理由
+     * @param finishedAt 終了日時
+     * @return 失敗状態のジョブ
+     */
+    public ReportGenerationJob fail(String errorMessage, LocalDateTime finishedAt) {
+        Objects.requireNonNull(finishedAt, "finishedAtは必須です");
+        return new ReportGenerationJob(jobId, yearMonth, owner, ReportGenerationJobStatus.FAILED,
+            requestedAt, startedAt, finishedAt, errorMessage);
+    }
+}
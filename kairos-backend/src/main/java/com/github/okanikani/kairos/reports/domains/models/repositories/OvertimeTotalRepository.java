@@ -0,0 +1,44 @@
+package com.github.okanikani.kairos.reports.domains.models.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.vos.OvertimeTotal;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 時間外労働の集計値の永続化を担当するインターフェース
+ *
+ * 勤怠表の保存・削除のたびに月ごとの値を置き換え、年度累計には変更前との差分だけを加算する。
+ * 勤務日詳細を読み直さずに、月次・年度累計の残業時間を参照できる。
+ */
+public interface OvertimeTotalRepository {
+
+    /**
+     * 勤怠年月の残業時間・休出時間を記録し、年度累計に差分を反映する
+     * @param user ユーザー
+     * @param yearMonth 勤怠年月
+     * @param fiscalYear 勤怠年月が属する年度
+     * @param overtime 勤怠年月の残業時間
+     * @param holidayWork 勤怠年月の休出時間
+     */
+    void record(User user, YearMonth yearMonth, int fiscalYear, Duration overtime, Duration holidayWork);
+
+    /**
+     * 勤怠年月の記録を削除し、年度累計から差し引く
+     * @param user ユーザー
+     * @param yearMonth 勤怠年月
+     */
+    void remove(User user, YearMonth yearMonth);
+
+    /**
+     * 勤怠年月の残業時間、または年度累計の残業時間が閾値以上のユーザーの集計値を取得する
+     * @param yearMonth 勤怠年月
+     * @param fiscalYear 勤怠年月が属する年度
+     * @param monthlyThreshold 勤怠年月の残業時間の閾値
+     * @param yearlyThreshold 年度累計の残業時間の閾値
+     * @return 集計値一覧（年度累計の残業時間の降順）
+     */
+    List<OvertimeTotal> findAtOrAbove(YearMonth yearMonth, int fiscalYear, Duration monthlyThreshold, Duration yearlyThreshold);
+}
@@ -0,0 +1,68 @@
+package com.github.okanikani.kairos.reports.domains.models.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 勤怠表生成ジョブの永続化を担当するインターフェース
+ *
+ * 同一ユーザー・同一年月の未終了ジョブ（受付済み・実行中）は常に1件以下に保つ。
+ */
+public interface ReportGenerationJobRepository {
+
+    /**
+     * 同一ユーザー・同一年月の未終了ジョブが無い場合のみジョブを保存する
+     * @param job 保存する受付状態のジョブ
+     * @return 保存したジョブ、または既に存在していた未終了ジョブ
+     */
+    ReportGenerationJob saveIfNoActiveJob(ReportGenerationJob job);
+
+    /**
+     * ジョブIDでジョブを検索する
+     * @param jobId ジョブID
+     * @return ジョブ（存在しない場合はnull）
+     */
+    ReportGenerationJob findById(String jobId);
+
+    /**
+     * 受付状態のジョブを実行中に遷移させる
+     * 複数のワーカー・インスタンスが同じジョブを重複して実行しないよう、受付状態の場合のみ遷移する
+     * @param jobId ジョブID
+     * @param startedAt 実行開始日時
+     * @return 遷移できた場合は実行中のジョブ、既に他で実行中・終了済みの場合はnull
+     */
+    ReportGenerationJob claim(String jobId, LocalDateTime startedAt);
+
+    /**
+     * 終了したジョブの状態を保存する
+     * 実行中に受付状態へ戻され、他のワーカー・インスタンスが実行し直している場合に
+     * 古い実行の結果で上書きしないよう、同じ実行開始日時で実行中の場合のみ保存する
+     * @param job 完了または失敗状態のジョブ
+     * @return 保存できた場合はtrue、既に他の実行に引き継がれている場合はfalse
+     */
+    boolean finish(ReportGenerationJob job);
+
+    /**
+     * 受付状態のジョブを受付日時の古い順に取得する
+     * @param limit 最大件数
+     * @return 受付状態のジョブ一覧
+     */
+    List<ReportGenerationJob> findPending(int limit);
+
+    /**
+     * 指定日時より前に実行を開始したまま終了していないジョブを受付状態に戻す
+     * 実行中のインスタンスが停止した場合の再実行に使用する
+     * @param startedBefore 基準日時
+     * @return 受付状態に戻した件数
+     */
+    int requeueStale(LocalDateTime startedBefore);
+
+    /**
+     * 指定日時より前に終了したジョブを削除する
+     * @param finishedBefore 基準日時
+     * @return 削除した件数
+     */
+    int deleteFinishedBefore(LocalDateTime finishedBefore);
+}
@@ -1,5 +1,6 @@
 package com.github.okanikani.kairos.reports.domains.models.repositories;
 
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
 import com.github.okanikani.kairos.reports.domains.models.entities.Report;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
 
@@ -14,6 +15,14 @@ public interface ReportRepository {
 
     Report find(YearMonth yearMonth, User user);
 
+    /**
+     * 勤怠表の状態を取得し、呼び出し元のトランザクションが終わるまで他からの更新を待たせる
+     * @param yearMonth 勤怠年月
+     * @param user ユーザー
+     * @return 勤怠表の状態（存在しない場合はnull）
+     */
+    ReportStatus lockStatus(YearMonth yearMonth, User user);
+
     List<Report> findAll();
 
     void update(Report report);
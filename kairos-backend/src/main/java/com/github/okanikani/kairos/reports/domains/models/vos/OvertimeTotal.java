@@ -0,0 +1,34 @@
+package com.github.okanikani.kairos.reports.domains.models.vos;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * ユーザーの時間外労働の集計値を表わすクラス
+ * @param owner 所有者
+ * @param yearMonth 集計対象の勤怠年月
+ * @param fiscalYear 勤怠年月が属する年度
+ * @param monthOvertime 勤怠年月の残業時間
+ * @param monthHolidayWork 勤怠年月の休出時間
+ * @param fiscalYearOvertime 年度内に保存済みの勤怠表の残業時間の合計
+ * @param fiscalYearHolidayWork 年度内に保存済みの勤怠表の休出時間の合計
+ */
+public record OvertimeTotal(
+        User owner,
+        YearMonth yearMonth,
+        int fiscalYear,
+        Duration monthOvertime,
+        Duration monthHolidayWork,
+        Duration fiscalYearOvertime,
+        Duration fiscalYearHolidayWork
+) {
+    public OvertimeTotal {
+        Objects.requireNonNull(owner, "ownerは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(monthOvertime, "monthOvertimeは必須です");
+        Objects.requireNonNull(monthHolidayWork, "monthHolidayWorkは必須です");
+        Objects.requireNonNull(fiscalYearOvertime, "fiscalYearOvertimeは必須です");
+        Objects.requireNonNull(fiscalYearHolidayWork, "fiscalYearHolidayWorkは必須です");
+    }
+}
@@ -36,4 +36,28 @@ public interface LocationService {
         User user, 
         WorkplaceLocation workplace
     );
-}
\ No newline at end of file
+    
+    /**
+     * 期間と重なる勤務セッションを取得
+     * 
+     * 位置情報の登録時に維持している勤務セッションを読み込むため、期間内の位置情報を全件読み込むより軽い。
+     * 期間の境界をまたぐセッションは、期間内の位置情報の範囲に切り詰める。
+     * セッションの有無で位置情報から導出する範囲を判断するため、作業場所の範囲外のセッションも含めて返す。
+     * 
+     * @param period 勤怠計算期間
+     * @param user ユーザー
+     * @return 勤務セッションの範囲リスト（開始日時の昇順）
+     */
+    List<WorkSessionSpan> getWorkSessions(ReportPeriodCalculator.ReportPeriod period, User user);
+    
+    /**
+     * 勤務セッションの範囲
+     * 
+     * @param startedAt 最初の位置情報の記録日時
+     * @param endedAt 最後の位置情報の記録日時
+     * @param pointCount 含まれる位置情報の件数
+     * @param withinGeofence 作業場所の範囲内のセッションの場合true
+     */
+    record WorkSessionSpan(LocalDateTime startedAt, LocalDateTime endedAt, int pointCount, boolean withinGeofence) {
+    }
+}
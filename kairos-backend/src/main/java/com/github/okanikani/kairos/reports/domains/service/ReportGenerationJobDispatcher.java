@@ -0,0 +1,17 @@
+package com.github.okanikani.kairos.reports.domains.service;
+
+/**
+ * 勤怠表生成ジョブを非同期実行に引き渡すサービス
+ *
+ * 実行基盤（スレッドプール等）はreportsドメインの外側で実装する。
+ */
+public interface ReportGenerationJobDispatcher {
+
+    /**
+     * ジョブを実行キューに投入する
+     * 既に同じジョブが投入済みの場合は何もしない
+     * @param jobId ジョブID
+     * @return 投入済みの場合true、キューが満杯で受け付けられなかった場合false
+     */
+    boolean dispatch(String jobId);
+}
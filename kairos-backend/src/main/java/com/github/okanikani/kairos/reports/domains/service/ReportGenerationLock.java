@@ -0,0 +1,26 @@
+package com.github.okanikani.kairos.reports.domains.service;
+
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+
+import java.time.YearMonth;
+import java.util.function.Supplier;
+
+/**
+ * 同一ユーザー・同一年月の勤怠表生成を直列化するロック
+ *
+ * 複数インスタンスで同じ勤怠表を同時に生成・保存しないよう、実行基盤（データベース等）で排他制御する。
+ * 同一インスタンス内の同時実行は呼び出し側でまとめる前提とする。
+ */
+public interface ReportGenerationLock {
+
+    /**
+     * ロックを取得して処理を実行する
+     * 他で同じ勤怠表を生成中の場合は完了を待ってから実行する
+     * @param yearMonth 対象年月
+     * @param user 所有者
+     * @param action 処理
+     * @return 処理結果
+     * @param <T> 処理結果の型
+     */
+    <T> T executeExclusively(YearMonth yearMonth, User user, Supplier<T> action);
+}
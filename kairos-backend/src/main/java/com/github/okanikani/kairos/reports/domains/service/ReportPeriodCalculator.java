@@ -46,6 +46,27 @@ public class ReportPeriodCalculator {
         return new ReportPeriod(periodStart, periodEnd);
     }
     
+    /**
+     * 日付が勤怠計算期間に含まれる勤怠年月を算出
+     * 
+     * {@link #calculatePeriod} の逆算。勤怠締め日より後の日付は翌月の勤怠年月に含まれる
+     * 
+     * 例：日付=2025/06/20、勤怠締め日=15の場合 → 2025/07
+     * 
+     * @param date 日付
+     * @param closingDay 勤怠締め日
+     * @return 勤怠年月
+     */
+    public static YearMonth reportYearMonthOf(LocalDate date, int closingDay) {
+        if (closingDay < 1 || closingDay > 31) {
+            throw new ValidationException("勤怠締め日は1-31の範囲で指定してください");
+        }
+        
+        YearMonth yearMonth = YearMonth.from(date);
+        int periodEndDay = Math.min(closingDay, yearMonth.lengthOfMonth());
+        return date.getDayOfMonth() <= periodEndDay ? yearMonth : yearMonth.plusMonths(1);
+    }
+    
     /**
      * 勤怠計算期間を表すレコード
      * 開始日と終了日を保持し、時刻変換メソッドを提供
@@ -1,9 +1,13 @@
 package com.github.okanikani.kairos.reports.others.adapters;
 
+import com.github.okanikani.kairos.commons.datasource.ReplicaReadTemplate;
+import com.github.okanikani.kairos.commons.monitoring.LocationFetchEvent;
 import com.github.okanikani.kairos.commons.service.LocationFilteringService;
 import com.github.okanikani.kairos.commons.service.LocationFilteringService.WorkplaceLocation;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.entities.WorkSession;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.repositories.WorkSessionRepository;
 import com.github.okanikani.kairos.reports.domains.service.LocationService;
 import com.github.okanikani.kairos.reports.domains.service.ReportPeriodCalculator;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,16 +24,24 @@ import java.util.Objects;
  * 位置情報サービス実装クラス
  * 勤怠表ドメインから位置情報ドメインへのアダプター
  * Anti-Corruption Layerパターンを適用し、位置情報ドメインとの境界を管理
+ * 
+ * 勤怠表生成は保存まで含めて書き込みトランザクションで実行されるため、
+ * 件数の多い位置情報・勤務セッションの取得はレプリカへの振り分けが有効な場合にレプリカで実行する
  */
 @Service
 public class LocationServiceImpl implements LocationService {
     
     private final LocationRepository locationRepository;
     private final LocationFilteringService locationFilteringService;
+    private final WorkSessionRepository workSessionRepository;
+    private final ReplicaReadTemplate replicaReadTemplate;
     
-    public LocationServiceImpl(LocationRepository locationRepository, LocationFilteringService locationFilteringService) {
+    public LocationServiceImpl(LocationRepository locationRepository, LocationFilteringService locationFilteringService,
+                               WorkSessionRepository workSessionRepository, ReplicaReadTemplate replicaReadTemplate) {
         this.locationRepository = Objects.requireNonNull(locationRepository, "locationRepositoryは必須です");
         this.locationFilteringService = Objects.requireNonNull(locationFilteringService, "locationFilteringServiceは必須です");
+        this.workSessionRepository = Objects.requireNonNull(workSessionRepository, "workSessionRepositoryは必須です");
+        this.replicaReadTemplate = Objects.requireNonNull(replicaReadTemplate, "replicaReadTemplateは必須です");
     }
     
     @Override
@@ -35,22 +49,38 @@ public class LocationServiceImpl implements LocationService {
         Objects.requireNonNull(period, "periodは必須です");
         Objects.requireNonNull(user, "userは必須です");
         
+        LocationFetchEvent event = new LocationFetchEvent();
+        event.begin();
+        
         // 位置情報ドメインのユーザー情報に変換（Anti-Corruption Layer）
         com.github.okanikani.kairos.locations.domains.models.vos.User locationUser = 
             convertToLocationUser(user);
         
         // ユーザー・期間指定で位置情報を取得
-        List<Location> locations = locationRepository.findByUserAndDateTimeRange(
+        long repositoryStart = System.nanoTime();
+        List<Location> locations = replicaReadTemplate.read(() -> locationRepository.findByUserAndDateTimeRange(
             locationUser,
             period.startDateTime(), 
             period.endDateTime()
-        );
+        ));
+        long sortStart = System.nanoTime();
         
         // 記録日時を抽出してソート
-        return locations.stream()
+        List<LocalDateTime> recordTimes = locations.stream()
             .map(Location::recordedAt)
             .sorted()
             .toList();
+        
+        if (event.shouldCommit()) {
+            event.setUserId(user.userId());
+            event.setFetchedCount(locations.size());
+            event.setFilteredCount(locations.size());
+            event.setGeofenceFiltered(false);
+            event.setRepositoryDuration(sortStart - repositoryStart);
+            event.setSortDuration(System.nanoTime() - sortStart);
+            event.commit();
+        }
+        return recordTimes;
     }
     
     @Override
@@ -63,16 +93,21 @@ public class LocationServiceImpl implements LocationService {
         Objects.requireNonNull(user, "userは必須です");
         Objects.requireNonNull(workplace, "workplaceは必須です");
         
+        LocationFetchEvent event = new LocationFetchEvent();
+        event.begin();
+        
         // 位置情報ドメインのユーザー情報に変換（Anti-Corruption Layer）
         com.github.okanikani.kairos.locations.domains.models.vos.User locationUser = 
             convertToLocationUser(user);
         
         // ユーザー・期間指定で位置情報を取得
-        List<Location> locations = locationRepository.findByUserAndDateTimeRange(
+        long repositoryStart = System.nanoTime();
+        List<Location> locations = replicaReadTemplate.read(() -> locationRepository.findByUserAndDateTimeRange(
             locationUser,
             period.startDateTime(), 
             period.endDateTime()
-        );
+        ));
+        long filterStart = System.nanoTime();
         
         // 作業場所からの距離に基づいてフィルタリング
         List<Location> filteredLocations = locationFilteringService.filterByWorkplaceDistance(
@@ -80,12 +115,72 @@ public class LocationServiceImpl implements LocationService {
             workplace, 
             workplace.radiusMeters()
         );
+        long sortStart = System.nanoTime();
         
         // 記録日時を抽出してソート
-        return filteredLocations.stream()
+        List<LocalDateTime> recordTimes = filteredLocations.stream()
             .map(Location::recordedAt)
             .sorted()
             .toList();
+        
+        if (event.shouldCommit()) {
+            event.setUserId(user.userId());
+            event.setFetchedCount(locations.size());
+            event.setFilteredCount(filteredLocations.size());
+            event.setGeofenceFiltered(true);
+            event.setRepositoryDuration(filterStart - repositoryStart);
+            event.setFilterDuration(sortStart - filterStart);
+            event.setSortDuration(System.nanoTime() - sortStart);
+            event.commit();
+        }
+        return recordTimes;
+    }
+    
+    @Override
+    public List<WorkSessionSpan> getWorkSessions(
+            ReportPeriodCalculator.ReportPeriod period, 
+            User user) {
+        
+        Objects.requireNonNull(period, "periodは必須です");
+        Objects.requireNonNull(user, "userは必須です");
+        
+        // 位置情報ドメインのユーザー情報に変換（Anti-Corruption Layer）
+        com.github.okanikani.kairos.locations.domains.models.vos.User locationUser = 
+            convertToLocationUser(user);
+        
+        // 境界をまたぐセッションの位置情報も含め、1回のreadOnlyトランザクションで取得する
+        return replicaReadTemplate.read(() -> toWorkSessionSpans(
+            workSessionRepository.findOverlapping(locationUser, period.startDateTime(), period.endDateTime()),
+            period, locationUser));
+    }
+    
+    private List<WorkSessionSpan> toWorkSessionSpans(
+            List<WorkSession> sessions, 
+            ReportPeriodCalculator.ReportPeriod period, 
+            com.github.okanikani.kairos.locations.domains.models.vos.User locationUser) {
+        
+        List<WorkSessionSpan> spans = new ArrayList<>(sessions.size());
+        for (WorkSession session : sessions) {
+            if (!session.startedAt().isBefore(period.startDateTime()) && !session.endedAt().isAfter(period.endDateTime())) {
+                spans.add(new WorkSessionSpan(session.startedAt(), session.endedAt(), session.pointCount(),
+                    session.withinGeofence()));
+                continue;
+            }
+            // 期間の境界をまたぐセッション（月に高々2件）は期間内の位置情報だけで範囲を求める
+            LocalDateTime from = session.startedAt().isBefore(period.startDateTime()) ? period.startDateTime() : session.startedAt();
+            LocalDateTime to = session.endedAt().isAfter(period.endDateTime()) ? period.endDateTime() : session.endedAt();
+            List<LocalDateTime> recordTimes = locationRepository.findByUserAndDateTimeRange(locationUser, from, to)
+                .stream()
+                .map(Location::recordedAt)
+                .sorted()
+                .toList();
+            if (!recordTimes.isEmpty()) {
+                spans.add(new WorkSessionSpan(recordTimes.get(0), recordTimes.get(recordTimes.size() - 1), recordTimes.size(),
+                    session.withinGeofence()));
+            }
+        }
+        spans.sort(Comparator.comparing(WorkSessionSpan::startedAt));
+        return spans;
     }
     
     /**
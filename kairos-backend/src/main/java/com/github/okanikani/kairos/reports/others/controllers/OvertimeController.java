@@ -0,0 +1,67 @@
+package com.github.okanikani.kairos.reports.others.controllers;
+
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.reports.applications.usecases.FindOvertimeCapRisksUseCase;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.FindOvertimeCapRisksRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.OvertimeCapRiskResponse;
+import com.github.okanikani.kairos.security.AdminAuthorization;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 時間外労働の集計API
+ *
+ * 全ユーザーの集計値を返すため、管理者のみ利用できる
+ */
+@RestController
+@RequestMapping("/api/overtime")
+public class OvertimeController {
+
+    private final FindOvertimeCapRisksUseCase findOvertimeCapRisksUseCase;
+
+    public OvertimeController(FindOvertimeCapRisksUseCase findOvertimeCapRisksUseCase) {
+        this.findOvertimeCapRisksUseCase = Objects.requireNonNull(findOvertimeCapRisksUseCase, "findOvertimeCapRisksUseCaseは必須です");
+    }
+
+    /**
+     * 月または年度の残業時間の上限までの残りが指定時間以下のユーザーを取得
+     *
+     * @param year 年
+     * @param month 月
+     * @param withinHours 上限までの残り時間（時間）。0の場合は上限に達したユーザーのみ
+     * @param authentication 認証情報
+     * @return 上限に近いユーザーの集計値一覧
+     */
+    @GetMapping("/{year}/{month}/cap-risks")
+    public ResponseEntity<List<OvertimeCapRiskResponse>> findCapRisks(
+            @PathVariable(name = "year") int year,
+            @PathVariable(name = "month") int month,
+            @RequestParam(name = "withinHours", defaultValue = "0") long withinHours,
+            Authentication authentication) {
+        AdminAuthorization.requireAdmin(authentication, "時間外労働の集計は管理者のみ参照できます");
+
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new ValidationException("無効な年月が指定されました: " + year + "/" + month, e);
+        }
+        if (withinHours < 0) {
+            throw new ValidationException("withinHoursには0以上を指定してください");
+        }
+
+        return ResponseEntity.ok(findOvertimeCapRisksUseCase.execute(
+            new FindOvertimeCapRisksRequest(yearMonth, Duration.ofHours(withinHours))));
+    }
+}
@@ -1,25 +1,33 @@
 package com.github.okanikani.kairos.reports.others.controllers;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
 import com.github.okanikani.kairos.commons.exceptions.ValidationException;
 import com.github.okanikani.kairos.reports.applications.usecases.DeleteReportUseCase;
+import com.github.okanikani.kairos.reports.applications.usecases.FindReportGenerationJobUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.FindReportUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.GenerateReportFromLocationUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.RegisterReportUseCase;
+import com.github.okanikani.kairos.reports.applications.usecases.SubmitReportGenerationJobUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.UpdateReportUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.DeleteReportRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.FindReportRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.RegisterReportRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.UpdateReportRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportGenerationJobResponse;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportResponse;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.DateTimeException;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Objects;
 
@@ -27,18 +35,26 @@ import java.util.Objects;
 @RequestMapping("/api/reports")
 public class ReportController {
     
+    // 生成ジョブのポーリング間隔の目安（秒）。Retry-Afterヘッダーで返す
+    private static final int JOB_POLL_INTERVAL_SECONDS = 1;
+    
     private final RegisterReportUseCase registerReportUseCase;
     private final FindReportUseCase findReportUseCase;
     private final UpdateReportUseCase updateReportUseCase;
     private final DeleteReportUseCase deleteReportUseCase;
     private final GenerateReportFromLocationUseCase generateReportFromLocationUseCase;
+    private final SubmitReportGenerationJobUseCase submitReportGenerationJobUseCase;
+    private final FindReportGenerationJobUseCase findReportGenerationJobUseCase;
     
-    public ReportController(RegisterReportUseCase registerReportUseCase, FindReportUseCase findReportUseCase, UpdateReportUseCase updateReportUseCase, DeleteReportUseCase deleteReportUseCase, GenerateReportFromLocationUseCase generateReportFromLocationUseCase) {
+    public ReportController(RegisterReportUseCase registerReportUseCase, FindReportUseCase findReportUseCase, UpdateReportUseCase updateReportUseCase, DeleteReportUseCase deleteReportUseCase, GenerateReportFromLocationUseCase generateReportFromLocationUseCase,
+                            SubmitReportGenerationJobUseCase submitReportGenerationJobUseCase, FindReportGenerationJobUseCase findReportGenerationJobUseCase) {
         this.registerReportUseCase = Objects.requireNonNull(registerReportUseCase, "registerReportUseCaseは必須です");
         this.findReportUseCase = Objects.requireNonNull(findReportUseCase, "findReportUseCaseは必須です");
         this.updateReportUseCase = Objects.requireNonNull(updateReportUseCase, "updateReportUseCaseは必須です");
         this.deleteReportUseCase = Objects.requireNonNull(deleteReportUseCase, "deleteReportUseCaseは必須です");
         this.generateReportFromLocationUseCase = Objects.requireNonNull(generateReportFromLocationUseCase, "generateReportFromLocationUseCaseは必須です");
+        this.submitReportGenerationJobUseCase = Objects.requireNonNull(submitReportGenerationJobUseCase, "submitReportGenerationJobUseCaseは必須です");
+        this.findReportGenerationJobUseCase = Objects.requireNonNull(findReportGenerationJobUseCase, "findReportGenerationJobUseCaseは必須です");
     }
     
     @PostMapping
@@ -149,4 +165,93 @@ public class ReportController {
         ReportResponse response = generateReportFromLocationUseCase.execute(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
-}
\ No newline at end of file
+    
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportGenerationJobBody> submitReportGenerationJob(
+            @RequestBody GenerateReportFromLocationRequest request,
+            Authentication authentication) {
+        // セキュリティチェック: JWT認証ユーザーとリクエストユーザーIDの一致確認
+        String authenticatedUserId = authentication.getName();
+        if (!authenticatedUserId.equals(request.user().userId())) {
+            throw new AuthorizationException("認証されたユーザーとリクエストのユーザーが一致しません");
+        }
+        
+        // 生成はワーカーで実行し、リクエストスレッドは受付のみで返す
+        // 同一年月のジョブが未終了の場合は既存のジョブが返る
+        ReportGenerationJobBody body = ReportGenerationJobBody.from(submitReportGenerationJobUseCase.execute(request));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create(body.statusUrl()))
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(JOB_POLL_INTERVAL_SECONDS))
+                .body(body);
+    }
+    
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportGenerationJobBody> findReportGenerationJob(
+            @PathVariable(name = "jobId") String jobId,
+            Authentication authentication) {
+        ReportGenerationJobResponse job = findReportGenerationJobUseCase.execute(jobId, authentication.getName());
+        return ResponseEntity.ok(ReportGenerationJobBody.from(job));
+    }
+    
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<?> findReportGenerationJobResult(
+            @PathVariable(name = "jobId") String jobId,
+            Authentication authentication) {
+        String userId = authentication.getName();
+        ReportGenerationJobResponse job = findReportGenerationJobUseCase.execute(jobId, userId);
+        
+        ReportGenerationJobStatus status = ReportGenerationJobStatus.valueOf(job.status());
+        if (status == ReportGenerationJobStatus.FAILED) {
+            throw new BusinessRuleViolationException(job.errorMessage() != null
+                    ? job.errorMessage()
+                    : "勤怠表の生成に失敗しました");
+        }
+        if (status != ReportGenerationJobStatus.SUCCEEDED) {
+            // 未完了の場合はジョブの状態を返し、再度ポーリングさせる
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(JOB_POLL_INTERVAL_SECONDS))
+                    .body(ReportGenerationJobBody.from(job));
+        }
+        
+        ReportResponse response = findReportUseCase.execute(new FindReportRequest(job.yearMonth(), new UserDto(userId)));
+        if (response == null) {
+            // 生成後に勤怠表が削除された場合
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 勤怠表生成ジョブのレスポンスボディ
+     * 
+     * ジョブの状態に加え、ポーリング先と結果取得先のURLを含める
+     */
+    public record ReportGenerationJobBody(
+            String jobId,
+            YearMonth yearMonth,
+            UserDto owner,
+            String status,
+            LocalDateTime requestedAt,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String errorMessage,
+            String statusUrl,
+            String resultUrl
+    ) {
+        static ReportGenerationJobBody from(ReportGenerationJobResponse job) {
+            String statusUrl = "/api/reports/jobs/" + job.jobId();
+            return new ReportGenerationJobBody(
+                    job.jobId(),
+                    job.yearMonth(),
+                    job.owner(),
+                    job.status(),
+                    job.requestedAt(),
+                    job.startedAt(),
+                    job.finishedAt(),
+                    job.errorMessage(),
+                    statusUrl,
+                    statusUrl + "/result"
+            );
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.okanikani.kairos.reports.others.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.okanikani.kairos.commons.json.CompactJsonWriter;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.DetailDto;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportResponse;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.SummaryDto;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.WorkTimeDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 勤怠表レスポンスのコンパクト形式での出力
+ *
+ * [勤怠年月, 所有者のユーザーID, ステータス, [勤務日, ...], サマリ]
+ * 勤務日: [勤務日付, 休日フラグ, 休暇区分, 勤務開始日時, 勤務終了日時, 就業秒数, 残業秒数, 休出秒数, 特記事項]
+ * サマリ: [就業日数, 有給日数, 代休日数, 特休日数, 総就業秒数, 総残業秒数, 総休出秒数]
+ *
+ * 日付・日時はISO-8601形式の文字列、時間は秒数で出力する
+ */
+@Component
+public class ReportResponseCompactWriter implements CompactJsonWriter<ReportResponse> {
+
+    @Override
+    public Class<ReportResponse> type() {
+        return ReportResponse.class;
+    }
+
+    @Override
+    public void write(ReportResponse report, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        generator.writeString(report.yearMonth().toString());
+        generator.writeString(report.owner().userId());
+        generator.writeString(report.status());
+
+        generator.writeStartArray(report.workDays(), report.workDays().size());
+        for (DetailDto detail : report.workDays()) {
+            writeDetail(detail, generator);
+        }
+        generator.writeEndArray();
+
+        writeSummary(report.summary(), generator);
+        generator.writeEndArray();
+    }
+
+    private void writeDetail(DetailDto detail, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        generator.writeString(detail.workDate().toString());
+        generator.writeBoolean(detail.isHoliday());
+        generator.writeString(detail.leaveType());
+        writeWorkTime(detail.startDateTime(), generator);
+        writeWorkTime(detail.endDateTime(), generator);
+        writeDuration(detail.workingHours(), generator);
+        writeDuration(detail.overtimeHours(), generator);
+        writeDuration(detail.holidayWorkHours(), generator);
+        generator.writeString(detail.note());
+        generator.writeEndArray();
+    }
+
+    private void writeSummary(SummaryDto summary, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        generator.writeNumber(summary.workDays());
+        generator.writeNumber(summary.paidLeaveDays());
+        generator.writeNumber(summary.compensatoryLeaveDays());
+        generator.writeNumber(summary.specialLeaveDays());
+        writeDuration(summary.totalWorkTime(), generator);
+        writeDuration(summary.totalOvertime(), generator);
+        writeDuration(summary.totalHolidayWork(), generator);
+        generator.writeEndArray();
+    }
+
+    private static void writeWorkTime(WorkTimeDto workTime, JsonGenerator generator) throws IOException {
+        if (workTime == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(workTime.value()));
+        }
+    }
+
+    private static void writeDuration(Duration duration, JsonGenerator generator) throws IOException {
+        if (duration == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(duration.toSeconds());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.okanikani.kairos.reports.others.jobs;
+
+import com.github.okanikani.kairos.commons.config.ReportJobProperties;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationJobDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブの定期スイープ
+ *
+ * 以下を起動時および一定間隔で実行する。
+ * - 停止したインスタンスが実行中のまま残したジョブを受付状態に戻す
+ * - キュー溢れや再起動で投入されていない受付状態のジョブを再投入する
+ * - 保持期間を過ぎた終了済みジョブを削除する
+ */
+@Component
+public class ReportGenerationJobSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportGenerationJobSweeper.class);
+
+    private final ReportGenerationJobRepository reportGenerationJobRepository;
+    private final ReportGenerationJobDispatcher reportGenerationJobDispatcher;
+    private final ReportJobProperties reportJobProperties;
+
+    public ReportGenerationJobSweeper(
+        ReportGenerationJobRepository reportGenerationJobRepository,
+        ReportGenerationJobDispatcher reportGenerationJobDispatcher,
+        ReportJobProperties reportJobProperties) {
+
+        this.reportGenerationJobRepository = Objects.requireNonNull(reportGenerationJobRepository, "reportGenerationJobRepositoryは必須です");
+        this.reportGenerationJobDispatcher = Objects.requireNonNull(reportGenerationJobDispatcher, "reportGenerationJobDispatcherは必須です");
+        this.reportJobProperties = Objects.requireNonNull(reportJobProperties, "reportJobPropertiesは必須です");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sweep();
+    }
+
+    @Scheduled(fixedDelayString = "${kairos.reports.jobs.sweep-interval:30s}",
+        initialDelayString = "${kairos.reports.jobs.sweep-interval:30s}")
+    public void sweep() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            int requeued = reportGenerationJobRepository.requeueStale(now.minus(reportJobProperties.staleAfter()));
+            if (requeued > 0) {
+                logger.warn("実行中のまま停止した勤怠表生成ジョブを受付状態に戻しました: count={}", requeued);
+            }
+
+            List<ReportGenerationJob> pendingJobs = reportGenerationJobRepository.findPending(reportJobProperties.sweepBatchSize());
+            for (ReportGenerationJob job : pendingJobs) {
+                if (!reportGenerationJobDispatcher.dispatch(job.jobId())) {
+                    // キューが満杯のため残りは次回のスイープに回す
+                    break;
+                }
+            }
+
+            int deleted = reportGenerationJobRepository.deleteFinishedBefore(now.minus(reportJobProperties.retention()));
+            if (deleted > 0) {
+                logger.debug("保持期間を過ぎた勤怠表生成ジョブを削除しました: count={}", deleted);
+            }
+        } catch (RuntimeException e) {
+            // スケジューラーのスレッドを止めないよう例外は記録のみとし、次回のスイープで再試行する
+            logger.error("勤怠表生成ジョブのスイープに失敗しました", e);
+        }
+    }
+}
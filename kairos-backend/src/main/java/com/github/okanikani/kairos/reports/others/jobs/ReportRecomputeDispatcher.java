@@ -0,0 +1,211 @@
+package com.github.okanikani.kairos.reports.others.jobs;
+
+import com.github.okanikani.kairos.commons.config.ReportRecomputeProperties;
+import com.github.okanikani.kairos.commons.datasource.ReplicaReadTemplate;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.reports.applications.usecases.RecomputeReportUseCase;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.domains.service.ReportPeriodCalculator;
+import com.github.okanikani.kairos.reports.domains.service.WorkRuleResolverService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 変更イベントによる勤怠表の再計算ディスパッチャー
+ *
+ * 以下を一定間隔で実行する。
+ * - アウトボックスから変更イベントを取得し、影響を受ける勤怠表（ユーザー・勤怠年月）ごとにまとめる
+ * - まとめた勤怠表を固定サイズのスレッドプールで並列に再計算し、全て終わるまで待つ
+ *   （変更の直後に実行するため、レプリカに未反映の変更を読まないよう参照は主データベースで行う）
+ * - 再計算を終えたイベントを削除し、失敗したイベントは最大試行回数まで次回に回す
+ */
+@Component
+public class ReportRecomputeDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportRecomputeDispatcher.class);
+
+    // 停止時に実行中の再計算の完了を待つ時間（完了しなかったイベントは処理中のまま残り、一定時間後に取得し直される）
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final DomainChangeOutbox domainChangeOutbox;
+    private final RecomputeReportUseCase recomputeReportUseCase;
+    private final WorkRuleResolverService workRuleResolverService;
+    private final ReportRecomputeProperties reportRecomputeProperties;
+    private final ReplicaReadTemplate replicaReadTemplate;
+    private final ExecutorService executor;
+
+    public ReportRecomputeDispatcher(
+        DomainChangeOutbox domainChangeOutbox,
+        RecomputeReportUseCase recomputeReportUseCase,
+        WorkRuleResolverService workRuleResolverService,
+        ReportRecomputeProperties reportRecomputeProperties,
+        ReplicaReadTemplate replicaReadTemplate) {
+
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
+        this.recomputeReportUseCase = Objects.requireNonNull(recomputeReportUseCase, "recomputeReportUseCaseは必須です");
+        this.workRuleResolverService = Objects.requireNonNull(workRuleResolverService, "workRuleResolverServiceは必須です");
+        this.reportRecomputeProperties = Objects.requireNonNull(reportRecomputeProperties, "reportRecomputePropertiesは必須です");
+        this.replicaReadTemplate = Objects.requireNonNull(replicaReadTemplate, "replicaReadTemplateは必須です");
+        this.executor = Executors.newFixedThreadPool(reportRecomputeProperties.parallelism(), new WorkerThreadFactory());
+    }
+
+    @Scheduled(fixedDelayString = "${kairos.reports.recompute.poll-interval:5s}",
+        initialDelayString = "${kairos.reports.recompute.poll-interval:5s}")
+    public void poll() {
+        if (!reportRecomputeProperties.enabled()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<DomainChangeEvent> events = domainChangeOutbox.claim(reportRecomputeProperties.batchSize(), now,
+                now.minus(reportRecomputeProperties.staleAfter()));
+            if (!events.isEmpty()) {
+                process(events, now.toLocalDate());
+            }
+        } catch (RuntimeException e) {
+            // スケジューラーのスレッドを止めないよう例外は記録のみとし、取得済みのイベントは一定時間後に取得し直す
+            logger.error("勤怠表の再計算に失敗しました", e);
+        }
+    }
+
+    private void process(List<DomainChangeEvent> events, LocalDate today) {
+        // 同じ勤怠表に影響する変更イベントは1回の再計算にまとめる
+        Map<RecomputeTarget, List<Long>> eventIdsByTarget = new LinkedHashMap<>();
+        Map<String, Integer> closingDays = new HashMap<>();
+        Set<Long> failedEventIds = new HashSet<>();
+        for (DomainChangeEvent event : events) {
+            try {
+                int closingDay = closingDays.computeIfAbsent(event.userId(),
+                    userId -> workRuleResolverService.getClosingDay(new User(userId)));
+                for (YearMonth yearMonth : affectedYearMonths(event, closingDay, today)) {
+                    eventIdsByTarget.computeIfAbsent(new RecomputeTarget(event.userId(), yearMonth), target -> new ArrayList<>())
+                        .add(event.id());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("変更イベントの対象の勤怠表を特定できませんでした: eventId={}, reason={}", event.id(), e.getMessage());
+                failedEventIds.add(event.id());
+            }
+        }
+
+        Map<RecomputeTarget, Future<Boolean>> futures = new LinkedHashMap<>();
+        for (RecomputeTarget target : eventIdsByTarget.keySet()) {
+            futures.put(target, executor.submit(() -> replicaReadTemplate.onPrimary(
+                () -> recomputeReportUseCase.execute(target.yearMonth(), target.userId()))));
+        }
+        int recomputed = 0;
+        for (Map.Entry<RecomputeTarget, Future<Boolean>> entry : futures.entrySet()) {
+            RecomputeTarget target = entry.getKey();
+            try {
+                if (entry.getValue().get()) {
+                    recomputed++;
+                }
+            } catch (ExecutionException e) {
+                logger.warn("勤怠表の再計算に失敗しました: userId={}, yearMonth={}",
+                    target.userId(), target.yearMonth(), e.getCause());
+                failedEventIds.addAll(eventIdsByTarget.get(target));
+            } catch (InterruptedException e) {
+                // 停止中。終わっていない再計算のイベントは次回に回す
+                Thread.currentThread().interrupt();
+                failedEventIds.addAll(eventIdsByTarget.get(target));
+            }
+        }
+
+        complete(events, failedEventIds);
+        logger.debug("変更イベントを処理しました: events={}, reports={}, recomputed={}, failed={}",
+            events.size(), futures.size(), recomputed, failedEventIds.size());
+    }
+
+    private void complete(List<DomainChangeEvent> events, Set<Long> failedEventIds) {
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        for (DomainChangeEvent event : events) {
+            if (!failedEventIds.contains(event.id())) {
+                completedIds.add(event.id());
+            } else if (event.attempts() + 1 < reportRecomputeProperties.maxAttempts()) {
+                retryIds.add(event.id());
+            } else {
+                logger.error("最大試行回数に達したため変更イベントを破棄します: eventId={}, userId={}, period={}〜{}",
+                    event.id(), event.userId(), event.fromDate(), event.toDate());
+                completedIds.add(event.id());
+            }
+        }
+        domainChangeOutbox.delete(completedIds);
+        domainChangeOutbox.release(retryIds);
+    }
+
+    /**
+     * 変更イベントの期間を含む勤怠年月を求める
+     * 現在の勤怠年月より後と、遡る範囲より前の勤怠年月は対象外とする
+     */
+    private List<YearMonth> affectedYearMonths(DomainChangeEvent event, int closingDay, LocalDate today) {
+        YearMonth current = ReportPeriodCalculator.reportYearMonthOf(today, closingDay);
+        YearMonth earliest = current.minusMonths(reportRecomputeProperties.lookbackMonths());
+        YearMonth from = ReportPeriodCalculator.reportYearMonthOf(event.fromDate(), closingDay);
+        YearMonth to = ReportPeriodCalculator.reportYearMonthOf(event.toDate(), closingDay);
+
+        List<YearMonth> yearMonths = new ArrayList<>();
+        for (YearMonth yearMonth = from.isBefore(earliest) ? earliest : from;
+             !yearMonth.isAfter(to) && !yearMonth.isAfter(current);
+             yearMonth = yearMonth.plusMonths(1)) {
+            yearMonths.add(yearMonth);
+        }
+        return yearMonths;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 再計算する勤怠表
+     */
+    private record RecomputeTarget(String userId, YearMonth yearMonth) {
+    }
+
+    /**
+     * スレッドダンプで識別できるようワーカースレッドに名前を付ける
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "report-recompute-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.okanikani.kairos.reports.others.jobs;
+
+import com.github.okanikani.kairos.commons.config.ReportJobProperties;
+import com.github.okanikani.kairos.reports.applications.usecases.RunReportGenerationJobUseCase;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationJobDispatcher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 固定サイズのスレッドプールで勤怠表生成ジョブを実行するディスパッチャー
+ *
+ * 実行待ちキューは上限付きとし、溢れたジョブは受け付けずに呼び出し元へ返す。
+ * 受け付けられなかったジョブは受付状態のまま永続化されているため、定期スイープで再投入される。
+ */
+@Component
+public class ThreadPoolReportGenerationJobDispatcher implements ReportGenerationJobDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadPoolReportGenerationJobDispatcher.class);
+
+    // 停止時に実行中のジョブの完了を待つ時間（完了しなかったジョブは再起動後のスイープで再実行される）
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final RunReportGenerationJobUseCase runReportGenerationJobUseCase;
+    private final ThreadPoolExecutor executor;
+    // 実行待ち・実行中のジョブID（同一ジョブの二重投入を防ぐ）
+    private final Set<String> inFlightJobIds = ConcurrentHashMap.newKeySet();
+
+    public ThreadPoolReportGenerationJobDispatcher(
+        RunReportGenerationJobUseCase runReportGenerationJobUseCase,
+        ReportJobProperties reportJobProperties) {
+
+        this.runReportGenerationJobUseCase = Objects.requireNonNull(runReportGenerationJobUseCase, "runReportGenerationJobUseCaseは必須です");
+        Objects.requireNonNull(reportJobProperties, "reportJobPropertiesは必須です");
+
+        this.executor = new ThreadPoolExecutor(
+            reportJobProperties.workerThreads(),
+            reportJobProperties.workerThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(reportJobProperties.queueCapacity()),
+            new WorkerThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public boolean dispatch(String jobId) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+
+        if (!inFlightJobIds.add(jobId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlightJobIds.remove(jobId);
+            return false;
+        }
+    }
+
+    /**
+     * 実行待ち・実行中のジョブ数を取得する
+     * @return ジョブ数
+     */
+    public int inFlightCount() {
+        return inFlightJobIds.size();
+    }
+
+    private void run(String jobId) {
+        try {
+            runReportGenerationJobUseCase.execute(jobId);
+        } catch (RuntimeException e) {
+            // ジョブ状態の保存自体に失敗した場合。実行中のまま残り、一定時間後にスイープで再実行される
+            logger.error("勤怠表生成ジョブの実行に失敗しました: jobId={}", jobId, e);
+        } finally {
+            inFlightJobIds.remove(jobId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * スレッドダンプで識別できるようワーカースレッドに名前を付ける
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "report-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
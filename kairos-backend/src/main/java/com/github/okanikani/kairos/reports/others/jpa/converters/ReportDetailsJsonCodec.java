@@ -0,0 +1,119 @@
+package com.github.okanikani.kairos.reports.others.jpa.converters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.reports.domains.models.constants.LeaveType;
+import com.github.okanikani.kairos.reports.domains.models.vos.Detail;
+import com.github.okanikani.kairos.reports.domains.models.vos.WorkTime;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 勤務日詳細の一覧とJSON文字列の相互変換
+ *
+ * 業務要件: 勤怠表の勤務日詳細を reports.work_day_details（JSONB）に1列で保存
+ *
+ * 要素の形式は db/migrations/007 の既存データからの作成と同じ
+ * （日付・日時はISO-8601の文字列、時間は分単位の整数、勤務日の昇順）
+ * レスポンス用のObjectMapperの設定に影響されないよう、専用のObjectMapperを使う
+ */
+public class ReportDetailsJsonCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private static final TypeReference<List<DetailDocument>> DOCUMENTS_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * JSONの1要素（勤務日1日分）
+     */
+    record DetailDocument(
+            String workDate,
+            boolean holiday,
+            String leaveType,
+            String startDateTime,
+            String endDateTime,
+            long workingMinutes,
+            long overtimeMinutes,
+            long holidayWorkMinutes,
+            String note
+    ) {
+    }
+
+    /**
+     * 勤務日詳細の一覧をJSON文字列に変換
+     *
+     * @param details 勤務日詳細の一覧
+     * @return JSON文字列（配列）
+     */
+    public String encode(List<Detail> details) {
+        Objects.requireNonNull(details, "detailsは必須です");
+        List<DetailDocument> documents = details.stream()
+                .sorted(Comparator.comparing(Detail::workDate))
+                .map(ReportDetailsJsonCodec::toDocument)
+                .toList();
+        try {
+            return OBJECT_MAPPER.writeValueAsString(documents);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("勤務日詳細をJSONに変換できませんでした", e);
+        }
+    }
+
+    /**
+     * JSON文字列を勤務日詳細の一覧に変換
+     *
+     * @param json JSON文字列（配列）
+     * @return 勤務日詳細の一覧
+     */
+    public List<Detail> decode(String json) {
+        Objects.requireNonNull(json, "jsonは必須です");
+        try {
+            return OBJECT_MAPPER.readValue(json, DOCUMENTS_TYPE).stream()
+                    .map(ReportDetailsJsonCodec::toDetail)
+                    .toList();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("勤務日詳細のJSONを読み込めませんでした", e);
+        }
+    }
+
+    private static DetailDocument toDocument(Detail detail) {
+        return new DetailDocument(
+                detail.workDate().toString(),
+                detail.isHoliday(),
+                detail.leaveType() != null ? detail.leaveType().name() : null,
+                detail.startDateTime() != null ? format(detail.startDateTime().value()) : null,
+                detail.endDateTime() != null ? format(detail.endDateTime().value()) : null,
+                detail.workingHours().toMinutes(),
+                detail.overtimeHours().toMinutes(),
+                detail.holidayWorkHours().toMinutes(),
+                detail.note()
+        );
+    }
+
+    private static Detail toDetail(DetailDocument document) {
+        return new Detail(
+                LocalDate.parse(document.workDate()),
+                document.holiday(),
+                document.leaveType() != null ? LeaveType.valueOf(document.leaveType()) : null,
+                document.startDateTime() != null ? new WorkTime(LocalDateTime.parse(document.startDateTime())) : null,
+                document.endDateTime() != null ? new WorkTime(LocalDateTime.parse(document.endDateTime())) : null,
+                Duration.ofMinutes(document.workingMinutes()),
+                Duration.ofMinutes(document.overtimeMinutes()),
+                Duration.ofMinutes(document.holidayWorkMinutes()),
+                document.note()
+        );
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
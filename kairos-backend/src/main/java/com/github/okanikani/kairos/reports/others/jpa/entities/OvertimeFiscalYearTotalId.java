@@ -0,0 +1,51 @@
+package com.github.okanikani.kairos.reports.others.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 年度の時間外労働集計の複合主キー（ユーザーIDと年度）
+ */
+@Embeddable
+public class OvertimeFiscalYearTotalId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String userId;
+
+    @Column(name = "fiscal_year", nullable = false)
+    private int fiscalYear;
+
+    protected OvertimeFiscalYearTotalId() {
+        // JPAのため
+    }
+
+    public OvertimeFiscalYearTotalId(String userId, int fiscalYear) {
+        this.userId = Objects.requireNonNull(userId, "ユーザーIDは必須です");
+        this.fiscalYear = fiscalYear;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public int getFiscalYear() {
+        return fiscalYear;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OvertimeFiscalYearTotalId that = (OvertimeFiscalYearTotalId) o;
+        return fiscalYear == that.fiscalYear && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, fiscalYear);
+    }
+}
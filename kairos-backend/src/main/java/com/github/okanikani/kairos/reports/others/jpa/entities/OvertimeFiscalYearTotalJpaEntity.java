@@ -0,0 +1,42 @@
+package com.github.okanikani.kairos.reports.others.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * 年度の時間外労働集計のJPAエンティティ
+ * 
+ * 業務要件: ユーザーごとの年度累計の残業時間・休出時間を保持する。
+ * 値は勤怠表の保存時に差分を加算するSQLで更新するため、エンティティからは更新しない
+ */
+@Entity
+@Table(name = "overtime_fiscal_year_totals")
+public class OvertimeFiscalYearTotalJpaEntity {
+
+    @EmbeddedId
+    private OvertimeFiscalYearTotalId id;
+
+    @Column(name = "overtime_minutes", nullable = false)
+    private long overtimeMinutes;
+
+    @Column(name = "holiday_work_minutes", nullable = false)
+    private long holidayWorkMinutes;
+
+    protected OvertimeFiscalYearTotalJpaEntity() {
+        // JPAのため
+    }
+
+    public OvertimeFiscalYearTotalId getId() {
+        return id;
+    }
+
+    public long getOvertimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    public long getHolidayWorkMinutes() {
+        return holidayWorkMinutes;
+    }
+}
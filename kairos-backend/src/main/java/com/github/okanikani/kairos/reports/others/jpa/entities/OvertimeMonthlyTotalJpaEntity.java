@@ -0,0 +1,56 @@
+package com.github.okanikani.kairos.reports.others.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.time.Duration;
+/**
+ * 月次の時間外労働集計のJPAエンティティ
+ * 
+ * 業務要件: 勤怠表ごとの残業時間・休出時間を保持し、再保存時に年度累計へ反映する差分の基準とする。
+ * 行の作成はSQL（同時登録時の重複を無視する）で行い、値の更新は行ロックを取得してから行う
+ */
+@Entity
+@Table(name = "overtime_monthly_totals")
+public class OvertimeMonthlyTotalJpaEntity {
+
+    @EmbeddedId
+    private ReportId id;
+
+    @Column(name = "fiscal_year", nullable = false)
+    private int fiscalYear;
+
+    @Column(name = "overtime_minutes", nullable = false)
+    private long overtimeMinutes;
+
+    @Column(name = "holiday_work_minutes", nullable = false)
+    private long holidayWorkMinutes;
+
+    protected OvertimeMonthlyTotalJpaEntity() {
+        // JPAのため
+    }
+
+    public ReportId getId() {
+        return id;
+    }
+
+    public int getFiscalYear() {
+        return fiscalYear;
+    }
+
+    public long getOvertimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    public long getHolidayWorkMinutes() {
+        return holidayWorkMinutes;
+    }
+
+    public void update(int fiscalYear, Duration overtime, Duration holidayWork) {
+        this.fiscalYear = fiscalYear;
+        this.overtimeMinutes = overtime.toMinutes();
+        this.holidayWorkMinutes = holidayWork.toMinutes();
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.okanikani.kairos.reports.others.jpa.entities;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.util.Objects;
+
+/**
+ * 勤務日詳細をJSONBで保持する勤怠表のJPAエンティティ
+ *
+ * 業務要件: 月単位で読み書きされる勤怠表を reports の1行で保存し、勤務日詳細の結合と行単位の書き込みをなくす
+ *
+ * {@link ReportJpaEntity} と同じ reports テーブルに対応し、report_details の代わりに
+ * work_day_details（JSONB）列を使う（kairos.reports.storage=jsonb の場合に使用）
+ * work_day_details が NULL の行は db/migrations/007 の実行前に保存された勤怠表で、勤務日詳細は report_details にある
+ */
+@Entity
+@Table(name = "reports")
+public class ReportDocumentJpaEntity {
+
+    @EmbeddedId
+    private ReportId id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportStatus status;
+
+    @Embedded
+    private SummaryJpaEntity summary;
+
+    @Column(name = "work_day_details", columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
+    private String workDayDetails;
+
+    protected ReportDocumentJpaEntity() {
+        // JPAのため
+    }
+
+    public ReportDocumentJpaEntity(ReportId id, ReportStatus status, SummaryJpaEntity summary, String workDayDetails) {
+        this.id = Objects.requireNonNull(id, "IDは必須です");
+        this.status = Objects.requireNonNull(status, "ステータスは必須です");
+        this.summary = Objects.requireNonNull(summary, "サマリーは必須です");
+        this.workDayDetails = Objects.requireNonNull(workDayDetails, "勤務日詳細は必須です");
+    }
+
+    public ReportId getId() {
+        return id;
+    }
+
+    public ReportStatus getStatus() {
+        return status;
+    }
+
+    public SummaryJpaEntity getSummary() {
+        return summary;
+    }
+
+    /**
+     * 勤務日詳細のJSON文字列（db/migrations/007 の実行前に保存された勤怠表の場合はnull）
+     */
+    public String getWorkDayDetails() {
+        return workDayDetails;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportDocumentJpaEntity that = (ReportDocumentJpaEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
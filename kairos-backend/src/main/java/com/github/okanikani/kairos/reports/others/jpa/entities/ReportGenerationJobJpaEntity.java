@@ -0,0 +1,105 @@
+package com.github.okanikani.kairos.reports.others.jpa.entities;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブのJPAエンティティ
+ * 
+ * 業務要件: 非同期に実行する勤怠表生成の受付・実行状態を保持し、再起動後も実行を継続できるようにする
+ */
+@Entity
+@Table(name = "report_generation_jobs")
+public class ReportGenerationJobJpaEntity {
+
+    @Id
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String userId;
+
+    @Column(name = "year_month", nullable = false, length = 7)
+    private YearMonth yearMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportGenerationJobStatus status;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    protected ReportGenerationJobJpaEntity() {
+        // JPAのため
+    }
+
+    public ReportGenerationJobJpaEntity(String jobId, String userId, YearMonth yearMonth,
+                                        ReportGenerationJobStatus status, LocalDateTime requestedAt,
+                                        LocalDateTime startedAt, LocalDateTime finishedAt, String errorMessage) {
+        this.jobId = Objects.requireNonNull(jobId, "ジョブIDは必須です");
+        this.userId = Objects.requireNonNull(userId, "ユーザーIDは必須です");
+        this.yearMonth = Objects.requireNonNull(yearMonth, "年月は必須です");
+        this.status = Objects.requireNonNull(status, "ステータスは必須です");
+        this.requestedAt = Objects.requireNonNull(requestedAt, "受付日時は必須です");
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.errorMessage = errorMessage;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    public ReportGenerationJobStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportGenerationJobJpaEntity that = (ReportGenerationJobJpaEntity) o;
+        return Objects.equals(jobId, that.jobId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.okanikani.kairos.reports.others.jpa.repositories;
+
+import com.github.okanikani.kairos.reports.others.jpa.entities.OvertimeMonthlyTotalJpaEntity;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 時間外労働集計のSpring Data JPAリポジトリ
+ * 
+ * 業務要件: 月次の集計値の置き換えと、年度累計への差分の加算を同時更新に対して安全に行う
+ */
+@Repository
+public interface OvertimeTotalJpaRepository extends JpaRepository<OvertimeMonthlyTotalJpaEntity, ReportId> {
+
+    // クエリパラメータ名の定数定義
+    String PARAM_USER_ID = "userId";
+    String PARAM_YEAR_MONTH = "yearMonth";
+    String PARAM_FISCAL_YEAR = "fiscalYear";
+
+    /**
+     * 月次の集計行を0で作成する（既に存在する場合は何もしない）
+     * 
+     * @return 作成した件数（0または1）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO overtime_monthly_totals (user_id, year_month, fiscal_year, overtime_minutes, holiday_work_minutes) "
+            + "VALUES (:userId, :yearMonth, :fiscalYear, 0, 0) "
+            + "ON CONFLICT (user_id, year_month) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param(PARAM_USER_ID) String userId,
+                       @Param(PARAM_YEAR_MONTH) String yearMonth,
+                       @Param(PARAM_FISCAL_YEAR) int fiscalYear);
+
+    /**
+     * 月次の集計行を行ロックを取得して検索
+     * 
+     * 同じ勤怠表の保存が並行した場合も、差分の基準となる値を1件ずつ確定させる
+     * 
+     * @param id 勤怠表のID
+     * @return 月次の集計行（存在しない場合はEmpty）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM OvertimeMonthlyTotalJpaEntity t WHERE t.id = :id")
+    Optional<OvertimeMonthlyTotalJpaEntity> findForUpdate(@Param("id") ReportId id);
+
+    /**
+     * 年度累計に差分を加算する（行が無い場合は差分の値で作成する）
+     * 
+     * @return 更新した件数
+     */
+    @Modifying
+    @Query(value = "INSERT INTO overtime_fiscal_year_totals (user_id, fiscal_year, overtime_minutes, holiday_work_minutes) "
+            + "VALUES (:userId, :fiscalYear, :overtimeMinutes, :holidayWorkMinutes) "
+            + "ON CONFLICT (user_id, fiscal_year) DO UPDATE SET "
+            + "overtime_minutes = overtime_fiscal_year_totals.overtime_minutes + EXCLUDED.overtime_minutes, "
+            + "holiday_work_minutes = overtime_fiscal_year_totals.holiday_work_minutes + EXCLUDED.holiday_work_minutes",
+           nativeQuery = true)
+    int addToFiscalYear(@Param(PARAM_USER_ID) String userId,
+                        @Param(PARAM_FISCAL_YEAR) int fiscalYear,
+                        @Param("overtimeMinutes") long overtimeMinutes,
+                        @Param("holidayWorkMinutes") long holidayWorkMinutes);
+
+    /**
+     * 勤怠年月の残業時間、または年度累計の残業時間が閾値以上のユーザーを検索
+     * 
+     * 年度累計の行を起点に、勤怠年月の行を主キーで結合する（勤務日詳細は参照しない）
+     * 
+     * @return [ユーザーID, 勤怠年月の残業時間（分）, 勤怠年月の休出時間（分）, 年度累計の残業時間（分）, 年度累計の休出時間（分）] の一覧
+     */
+    @Query(value = "SELECT f.user_id, COALESCE(m.overtime_minutes, 0), COALESCE(m.holiday_work_minutes, 0), "
+            + "f.overtime_minutes, f.holiday_work_minutes "
+            + "FROM overtime_fiscal_year_totals f "
+            + "LEFT JOIN overtime_monthly_totals m ON m.user_id = f.user_id AND m.year_month = :yearMonth "
+            + "WHERE f.fiscal_year = :fiscalYear "
+            + "AND (f.overtime_minutes >= :yearlyThresholdMinutes OR m.overtime_minutes >= :monthlyThresholdMinutes) "
+            + "ORDER BY f.overtime_minutes DESC, f.user_id",
+           nativeQuery = true)
+    List<Object[]> findAtOrAbove(@Param(PARAM_YEAR_MONTH) String yearMonth,
+                                 @Param(PARAM_FISCAL_YEAR) int fiscalYear,
+                                 @Param("monthlyThresholdMinutes") long monthlyThresholdMinutes,
+                                 @Param("yearlyThresholdMinutes") long yearlyThresholdMinutes);
+}
@@ -0,0 +1,15 @@
+package com.github.okanikani.kairos.reports.others.jpa.repositories;
+
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportDocumentJpaEntity;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 勤務日詳細をJSONBで保持する勤怠表のSpring Data JPAリポジトリ
+ *
+ * 業務要件: reports の1行だけで勤怠表を読み書きする（report_details を結合しない）
+ */
+@Repository
+public interface ReportDocumentJpaRepository extends JpaRepository<ReportDocumentJpaEntity, ReportId> {
+}
@@ -0,0 +1,124 @@
+package com.github.okanikani.kairos.reports.others.jpa.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportGenerationJobJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 勤怠表生成ジョブのSpring Data JPAリポジトリ
+ * 
+ * 業務要件: ジョブの受付・状態遷移を複数インスタンスから安全に行うための条件付き更新を提供
+ */
+@Repository
+public interface ReportGenerationJobJpaRepository extends JpaRepository<ReportGenerationJobJpaEntity, String> {
+
+    // クエリパラメータ名の定数定義
+    String PARAM_JOB_ID = "jobId";
+    String PARAM_USER_ID = "userId";
+    String PARAM_YEAR_MONTH = "yearMonth";
+
+    /**
+     * 受付状態のジョブを挿入する（同一ユーザー・同一年月の未終了ジョブが存在する場合は何もしない）
+     * 
+     * 業務要件: 部分一意インデックス uk_report_generation_jobs_active により、
+     * 同時に受け付けたリクエストのうち1件のみを登録する
+     * 
+     * @return 挿入した件数（0または1）
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO report_generation_jobs (job_id, user_id, year_month, status, requested_at) "
+            + "VALUES (:jobId, :userId, :yearMonth, 'PENDING', :requestedAt) "
+            + "ON CONFLICT (user_id, year_month) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING",
+           nativeQuery = true)
+    int insertIfNoActiveJob(@Param(PARAM_JOB_ID) String jobId,
+                            @Param(PARAM_USER_ID) String userId,
+                            @Param(PARAM_YEAR_MONTH) String yearMonth,
+                            @Param("requestedAt") LocalDateTime requestedAt);
+
+    /**
+     * 同一ユーザー・同一年月の未終了ジョブを検索
+     * 
+     * @return 未終了ジョブ（存在しない場合はEmpty）
+     */
+    @Query(value = "SELECT * FROM report_generation_jobs "
+            + "WHERE user_id = :userId AND year_month = :yearMonth AND status IN ('PENDING', 'RUNNING')",
+           nativeQuery = true)
+    Optional<ReportGenerationJobJpaEntity> findActive(@Param(PARAM_USER_ID) String userId,
+                                                      @Param(PARAM_YEAR_MONTH) String yearMonth);
+
+    /**
+     * 受付状態のジョブを実行中に遷移させる
+     * 
+     * @return 更新した件数（他で実行済みの場合は0）
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE ReportGenerationJobJpaEntity j SET j.status = com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus.RUNNING, "
+            + "j.startedAt = :startedAt "
+            + "WHERE j.jobId = :jobId AND j.status = com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus.PENDING")
+    int claim(@Param(PARAM_JOB_ID) String jobId, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * 実行中のジョブを終了状態に遷移させる
+     * 
+     * 業務要件: 実行開始日時が一致する場合のみ更新し、受付状態に戻されて他で実行し直している
+     * ジョブを古い実行の結果で上書きしない
+     * 
+     * @return 更新した件数（他の実行に引き継がれている場合は0）
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE ReportGenerationJobJpaEntity j SET j.status = :status, j.finishedAt = :finishedAt, j.errorMessage = :errorMessage "
+            + "WHERE j.jobId = :jobId AND j.startedAt = :startedAt "
+            + "AND j.status = com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus.RUNNING")
+    int finish(@Param(PARAM_JOB_ID) String jobId,
+               @Param("startedAt") LocalDateTime startedAt,
+               @Param("status") ReportGenerationJobStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt,
+               @Param("errorMessage") String errorMessage);
+
+    /**
+     * 受付状態のジョブを受付日時の古い順に検索
+     * 
+     * @param pageable 取得件数
+     * @return 受付状態のジョブ一覧
+     */
+    @Query("SELECT j FROM ReportGenerationJobJpaEntity j "
+            + "WHERE j.status = com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus.PENDING "
+            + "ORDER BY j.requestedAt")
+    List<ReportGenerationJobJpaEntity> findPending(Pageable pageable);
+
+    /**
+     * 実行開始から一定時間を過ぎた実行中のジョブを受付状態に戻す
+     * 
+     * @return 更新した件数
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE ReportGenerationJobJpaEntity j SET j.status = com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus.PENDING, "
+            + "j.startedAt = null "
+            + "WHERE j.status = com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus.RUNNING "
+            + "AND j.startedAt < :startedBefore")
+    int requeueStale(@Param("startedBefore") LocalDateTime startedBefore);
+
+    /**
+     * 指定日時より前に終了したジョブを削除
+     * 
+     * @return 削除した件数
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReportGenerationJobJpaEntity j WHERE j.finishedAt IS NOT NULL AND j.finishedAt < :finishedBefore")
+    int deleteFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
 import java.util.List;
@@ -79,4 +80,17 @@ public interface ReportJpaRepository extends JpaRepository<ReportJpaEntity, Repo
      */
     @Query("SELECT COUNT(r) > 0 FROM ReportJpaEntity r WHERE r.id.yearMonth = :yearMonth AND r.id.userId = :userId")
     boolean existsByYearMonthAndUserId(@Param("yearMonth") YearMonth yearMonth, @Param(USER_ID_PARAM) String userId);
-}
\ No newline at end of file
+
+    /**
+     * 年月とユーザーIDで勤怠表の状態を行ロック付きで取得
+     * 
+     * 書き込みトランザクション内で呼び出し、コミットまで同じ勤怠表の更新を待たせる
+     * 
+     * @param yearMonth 年月（yyyy-MM）
+     * @param userId ユーザーID
+     * @return 状態（存在しない場合はEmpty）
+     */
+    @Transactional
+    @Query(value = "SELECT status FROM reports WHERE year_month = :yearMonth AND user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<String> findStatusForUpdate(@Param("yearMonth") String yearMonth, @Param(USER_ID_PARAM) String userId);
+}
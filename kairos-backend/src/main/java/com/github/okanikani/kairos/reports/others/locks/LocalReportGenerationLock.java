@@ -0,0 +1,30 @@
+package com.github.okanikani.kairos.reports.others.locks;
+
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 単一インスタンス用の勤怠表生成ロック
+ *
+ * ※これは開発・テスト用の実装です。
+ * インメモリリポジトリは他インスタンスと共有されないため、インスタンス間の排他は不要。
+ * 同一インスタンス内の同時実行は勤怠表生成ユースケースのシングルフライトでまとめられる。
+ */
+@Component
+@Profile("dev")
+public class LocalReportGenerationLock implements ReportGenerationLock {
+
+    @Override
+    public <T> T executeExclusively(YearMonth yearMonth, User user, Supplier<T> action) {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(action, "actionは必須です");
+        return action.get();
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.okanikani.kairos.reports.others.locks;
+
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * PostgreSQLのアドバイザリロックによる勤怠表生成ロック
+ *
+ * トランザクション単位のアドバイザリロック（pg_advisory_xact_lock）を取得してから処理を実行する。
+ * ロックはコミット・ロールバック時に自動で解放されるため、インスタンスが停止しても残らない。
+ * 処理内のリポジトリ操作は同じトランザクションに参加するため、勤怠表の保存が確定するまで
+ * 他インスタンスの同じ勤怠表の生成は待たされる。
+ */
+@Component
+@Profile("prod")
+public class PostgresAdvisoryReportGenerationLock implements ReportGenerationLock {
+
+    // ロックキーの名前空間（他用途のアドバイザリロックとキーが衝突しないよう接頭辞を付けてハッシュ化する）
+    private static final String LOCK_KEY_PREFIX = "kairos.reports.generate:";
+
+    // ロック待ちの上限。超えた場合は生成中として扱う
+    static final String LOCK_TIMEOUT = "30s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostgresAdvisoryReportGenerationLock(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplateは必須です");
+        this.transactionTemplate = new TransactionTemplate(
+            Objects.requireNonNull(transactionManager, "transactionManagerは必須です"));
+    }
+
+    @Override
+    public <T> T executeExclusively(YearMonth yearMonth, User user, Supplier<T> action) {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(action, "actionは必須です");
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // SET LOCAL はトランザクション終了時に元に戻る
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+                jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?), ?)",
+                    resultSet -> null,
+                    LOCK_KEY_PREFIX + user.userId(),
+                    toLockKey(yearMonth));
+                return action.get();
+            });
+        } catch (CannotAcquireLockException e) {
+            throw new DuplicateResourceException("同じ年月の勤怠表を生成中です。しばらく時間をおいて再度お試しください", e);
+        }
+    }
+
+    /**
+     * 年月をロックキー（int）に変換する
+     * @param yearMonth 年月
+     * @return YYYYMM形式の整数
+     */
+    static int toLockKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.repositories.OvertimeTotalRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.OvertimeTotal;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * インメモリ時間外労働集計リポジトリ実装
+ *
+ * ※これは開発・テスト用の実装です。
+ * 差分の反映が他の更新と交錯しないよう、更新・参照は排他的に行う。
+ */
+@Repository
+@Profile("dev")
+public class InMemoryOvertimeTotalRepository implements OvertimeTotalRepository {
+
+    private final Map<MonthKey, Totals> monthlyTotals = new HashMap<>();
+    private final Map<FiscalYearKey, Totals> fiscalYearTotals = new HashMap<>();
+
+    @Override
+    public synchronized void record(User user, YearMonth yearMonth, int fiscalYear, Duration overtime, Duration holidayWork) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(overtime, "overtimeは必須です");
+        Objects.requireNonNull(holidayWork, "holidayWorkは必須です");
+
+        remove(user, yearMonth);
+        monthlyTotals.put(new MonthKey(user.userId(), yearMonth), new Totals(fiscalYear, overtime, holidayWork));
+        fiscalYearTotals.merge(new FiscalYearKey(user.userId(), fiscalYear),
+            new Totals(fiscalYear, overtime, holidayWork), Totals::plus);
+    }
+
+    @Override
+    public synchronized void remove(User user, YearMonth yearMonth) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+
+        Totals previous = monthlyTotals.remove(new MonthKey(user.userId(), yearMonth));
+        if (previous != null) {
+            fiscalYearTotals.computeIfPresent(new FiscalYearKey(user.userId(), previous.fiscalYear()),
+                (key, totals) -> totals.minus(previous));
+        }
+    }
+
+    @Override
+    public synchronized List<OvertimeTotal> findAtOrAbove(YearMonth yearMonth, int fiscalYear,
+                                                          Duration monthlyThreshold, Duration yearlyThreshold) {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(monthlyThreshold, "monthlyThresholdは必須です");
+        Objects.requireNonNull(yearlyThreshold, "yearlyThresholdは必須です");
+
+        List<OvertimeTotal> result = new ArrayList<>();
+        for (Map.Entry<FiscalYearKey, Totals> entry : fiscalYearTotals.entrySet()) {
+            if (entry.getKey().fiscalYear() != fiscalYear) {
+                continue;
+            }
+            String userId = entry.getKey().userId();
+            Totals year = entry.getValue();
+            Totals month = monthlyTotals.getOrDefault(new MonthKey(userId, yearMonth),
+                new Totals(fiscalYear, Duration.ZERO, Duration.ZERO));
+            if (month.overtime().compareTo(monthlyThreshold) >= 0 || year.overtime().compareTo(yearlyThreshold) >= 0) {
+                result.add(new OvertimeTotal(new User(userId), yearMonth, fiscalYear,
+                    month.overtime(), month.holidayWork(), year.overtime(), year.holidayWork()));
+            }
+        }
+        result.sort(Comparator.comparing(OvertimeTotal::fiscalYearOvertime).reversed());
+        return result;
+    }
+
+    private record MonthKey(String userId, YearMonth yearMonth) {
+    }
+
+    private record FiscalYearKey(String userId, int fiscalYear) {
+    }
+
+    private record Totals(int fiscalYear, Duration overtime, Duration holidayWork) {
+
+        Totals plus(Totals other) {
+            return new Totals(fiscalYear, overtime.plus(other.overtime), holidayWork.plus(other.holidayWork));
+        }
+
+        Totals minus(Totals other) {
+            return new Totals(fiscalYear, overtime.minus(other.overtime), holidayWork.minus(other.holidayWork));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * インメモリ勤怠表生成ジョブリポジトリ実装
+ *
+ * ※これは開発・テスト用の実装です。
+ * リクエストスレッドとワーカースレッドから同時に呼び出されるため、全操作を同期化している。
+ */
+@Repository
+@Profile("dev")
+public class InMemoryReportGenerationJobRepository implements ReportGenerationJobRepository {
+
+    private final Map<String, ReportGenerationJob> storage = new LinkedHashMap<>();
+
+    @Override
+    public synchronized ReportGenerationJob saveIfNoActiveJob(ReportGenerationJob job) {
+        Objects.requireNonNull(job, "jobは必須です");
+
+        ReportGenerationJob active = storage.values().stream()
+            .filter(existing -> !existing.status().isFinished())
+            .filter(existing -> existing.owner().equals(job.owner()))
+            .filter(existing -> existing.yearMonth().equals(job.yearMonth()))
+            .findFirst()
+            .orElse(null);
+        if (active != null) {
+            return active;
+        }
+
+        storage.put(job.jobId(), job);
+        return job;
+    }
+
+    @Override
+    public synchronized ReportGenerationJob findById(String jobId) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        return storage.get(jobId);
+    }
+
+    @Override
+    public synchronized ReportGenerationJob claim(String jobId, LocalDateTime startedAt) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        Objects.requireNonNull(startedAt, "startedAtは必須です");
+
+        ReportGenerationJob job = storage.get(jobId);
+        if (job == null || job.status() != ReportGenerationJobStatus.PENDING) {
+            return null;
+        }
+
+        ReportGenerationJob running = new ReportGenerationJob(job.jobId(), job.yearMonth(), job.owner(),
+            ReportGenerationJobStatus.RUNNING, job.requestedAt(), startedAt, null, null);
+        storage.put(jobId, running);
+        return running;
+    }
+
+    @Override
+    public synchronized boolean finish(ReportGenerationJob job) {
+        Objects.requireNonNull(job, "jobは必須です");
+
+        ReportGenerationJob current = storage.get(job.jobId());
+        if (current == null || current.status() != ReportGenerationJobStatus.RUNNING
+                || !Objects.equals(current.startedAt(), job.startedAt())) {
+            return false;
+        }
+        storage.put(job.jobId(), job);
+        return true;
+    }
+
+    @Override
+    public synchronized List<ReportGenerationJob> findPending(int limit) {
+        return storage.values().stream()
+            .filter(job -> job.status() == ReportGenerationJobStatus.PENDING)
+            .sorted(Comparator.comparing(ReportGenerationJob::requestedAt))
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public synchronized int requeueStale(LocalDateTime startedBefore) {
+        Objects.requireNonNull(startedBefore, "startedBeforeは必須です");
+
+        List<ReportGenerationJob> staleJobs = storage.values().stream()
+            .filter(job -> job.status() == ReportGenerationJobStatus.RUNNING)
+            .filter(job -> job.startedAt().isBefore(startedBefore))
+            .toList();
+        for (ReportGenerationJob job : staleJobs) {
+            storage.put(job.jobId(), new ReportGenerationJob(job.jobId(), job.yearMonth(), job.owner(),
+                ReportGenerationJobStatus.PENDING, job.requestedAt(), null, null, null));
+        }
+        return staleJobs.size();
+    }
+
+    @Override
+    public synchronized int deleteFinishedBefore(LocalDateTime finishedBefore) {
+        Objects.requireNonNull(finishedBefore, "finishedBeforeは必須です");
+
+        int before = storage.size();
+        storage.values().removeIf(job -> job.status().isFinished() && job.finishedAt().isBefore(finishedBefore));
+        return before - storage.size();
+    }
+
+    /**
+     * 全ジョブを削除する（テスト用）
+     */
+    public synchronized void clear() {
+        storage.clear();
+    }
+}
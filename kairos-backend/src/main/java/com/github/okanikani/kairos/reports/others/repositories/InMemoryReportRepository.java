@@ -1,6 +1,7 @@
 package com.github.okanikani.kairos.reports.others.repositories;
 
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
 import com.github.okanikani.kairos.reports.domains.models.entities.Report;
 import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
@@ -8,10 +9,10 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.time.YearMonth;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * インメモリ勤怠表リポジトリ実装
@@ -24,7 +25,7 @@ import java.util.Objects;
 @Profile("dev")
 public class InMemoryReportRepository implements ReportRepository {
     
-    private final Map<String, Report> storage = new HashMap<>();
+    private final Map<String, Report> storage = new ConcurrentHashMap<>();
     
     @Override
     public void save(Report report) {
@@ -41,6 +42,13 @@ public class InMemoryReportRepository implements ReportRepository {
         return storage.get(key);
     }
     
+    @Override
+    public ReportStatus lockStatus(YearMonth yearMonth, User user) {
+        // インメモリ実装では行ロックを取れないため、現在の状態を返すのみ
+        Report report = find(yearMonth, user);
+        return report != null ? report.status() : null;
+    }
+    
     @Override
     public List<Report> findAll() {
         return storage.values().stream().toList();
@@ -0,0 +1,98 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.repositories.OvertimeTotalRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.OvertimeTotal;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.others.jpa.entities.OvertimeMonthlyTotalJpaEntity;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportId;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.OvertimeTotalJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 時間外労働集計リポジトリのJPA実装
+ *
+ * 業務要件: 月次の集計行を行ロックで直列化して差分を求め、年度累計には差分だけを加算する。
+ * 勤怠表の保存と同じトランザクションで実行され、ロールバック時は集計値も元に戻る
+ */
+@Repository
+@Profile("prod")
+public class JpaOvertimeTotalRepository implements OvertimeTotalRepository {
+
+    private final OvertimeTotalJpaRepository overtimeTotalJpaRepository;
+
+    public JpaOvertimeTotalRepository(OvertimeTotalJpaRepository overtimeTotalJpaRepository) {
+        this.overtimeTotalJpaRepository = overtimeTotalJpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void record(User user, YearMonth yearMonth, int fiscalYear, Duration overtime, Duration holidayWork) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(overtime, "overtimeは必須です");
+        Objects.requireNonNull(holidayWork, "holidayWorkは必須です");
+
+        overtimeTotalJpaRepository.insertIfAbsent(user.userId(), yearMonth.toString(), fiscalYear);
+        OvertimeMonthlyTotalJpaEntity monthly = overtimeTotalJpaRepository
+                .findForUpdate(new ReportId(yearMonth, user.userId()))
+                .orElseThrow();
+
+        if (monthly.getFiscalYear() == fiscalYear) {
+            long overtimeDelta = overtime.toMinutes() - monthly.getOvertimeMinutes();
+            long holidayWorkDelta = holidayWork.toMinutes() - monthly.getHolidayWorkMinutes();
+            if (overtimeDelta != 0 || holidayWorkDelta != 0) {
+                overtimeTotalJpaRepository.addToFiscalYear(user.userId(), fiscalYear, overtimeDelta, holidayWorkDelta);
+            }
+        } else {
+            // 年度の開始月の設定を変更した場合は、変更前の年度から新しい年度へ付け替える
+            overtimeTotalJpaRepository.addToFiscalYear(user.userId(), monthly.getFiscalYear(),
+                    -monthly.getOvertimeMinutes(), -monthly.getHolidayWorkMinutes());
+            overtimeTotalJpaRepository.addToFiscalYear(user.userId(), fiscalYear,
+                    overtime.toMinutes(), holidayWork.toMinutes());
+        }
+        monthly.update(fiscalYear, overtime, holidayWork);
+    }
+
+    @Override
+    @Transactional
+    public void remove(User user, YearMonth yearMonth) {
+        Objects.requireNonNull(user, "userは必須です");
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+
+        overtimeTotalJpaRepository.findForUpdate(new ReportId(yearMonth, user.userId()))
+                .ifPresent(monthly -> {
+                    overtimeTotalJpaRepository.addToFiscalYear(user.userId(), monthly.getFiscalYear(),
+                            -monthly.getOvertimeMinutes(), -monthly.getHolidayWorkMinutes());
+                    overtimeTotalJpaRepository.delete(monthly);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OvertimeTotal> findAtOrAbove(YearMonth yearMonth, int fiscalYear,
+                                             Duration monthlyThreshold, Duration yearlyThreshold) {
+        Objects.requireNonNull(yearMonth, "yearMonthは必須です");
+        Objects.requireNonNull(monthlyThreshold, "monthlyThresholdは必須です");
+        Objects.requireNonNull(yearlyThreshold, "yearlyThresholdは必須です");
+
+        return overtimeTotalJpaRepository.findAtOrAbove(yearMonth.toString(), fiscalYear,
+                        monthlyThreshold.toMinutes(), yearlyThreshold.toMinutes())
+                .stream()
+                .map(row -> new OvertimeTotal(
+                        new User((String) row[0]),
+                        yearMonth,
+                        fiscalYear,
+                        Duration.ofMinutes(((Number) row[1]).longValue()),
+                        Duration.ofMinutes(((Number) row[2]).longValue()),
+                        Duration.ofMinutes(((Number) row[3]).longValue()),
+                        Duration.ofMinutes(((Number) row[4]).longValue())))
+                .toList();
+    }
+}
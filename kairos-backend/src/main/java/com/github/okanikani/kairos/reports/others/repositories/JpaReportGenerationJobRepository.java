@@ -0,0 +1,111 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportGenerationJobJpaEntity;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportGenerationJobJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 勤怠表生成ジョブリポジトリのJPA実装
+ * 
+ * 業務要件: ジョブの状態遷移を条件付き更新で行い、複数インスタンスでの重複実行を防ぐ
+ */
+@Repository
+@Profile("prod")
+public class JpaReportGenerationJobRepository implements ReportGenerationJobRepository {
+
+    private final ReportGenerationJobJpaRepository reportGenerationJobJpaRepository;
+
+    public JpaReportGenerationJobRepository(ReportGenerationJobJpaRepository reportGenerationJobJpaRepository) {
+        this.reportGenerationJobJpaRepository = reportGenerationJobJpaRepository;
+    }
+
+    @Override
+    public ReportGenerationJob saveIfNoActiveJob(ReportGenerationJob job) {
+        Objects.requireNonNull(job, "jobは必須です");
+
+        String userId = job.owner().userId();
+        String yearMonth = job.yearMonth().toString();
+        int inserted = reportGenerationJobJpaRepository.insertIfNoActiveJob(
+                job.jobId(), userId, yearMonth, job.requestedAt());
+        if (inserted > 0) {
+            return job;
+        }
+
+        // 競合したジョブが検索までの間に終了していた場合は、受け付け直す
+        return reportGenerationJobJpaRepository.findActive(userId, yearMonth)
+                .map(this::toDomainModel)
+                .orElseGet(() -> saveIfNoActiveJob(job));
+    }
+
+    @Override
+    public ReportGenerationJob findById(String jobId) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        return reportGenerationJobJpaRepository.findById(jobId)
+                .map(this::toDomainModel)
+                .orElse(null);
+    }
+
+    @Override
+    public ReportGenerationJob claim(String jobId, LocalDateTime startedAt) {
+        Objects.requireNonNull(jobId, "jobIdは必須です");
+        Objects.requireNonNull(startedAt, "startedAtは必須です");
+
+        if (reportGenerationJobJpaRepository.claim(jobId, startedAt) == 0) {
+            return null;
+        }
+        return findById(jobId);
+    }
+
+    @Override
+    public boolean finish(ReportGenerationJob job) {
+        Objects.requireNonNull(job, "jobは必須です");
+        Objects.requireNonNull(job.startedAt(), "job.startedAtは必須です");
+        return reportGenerationJobJpaRepository.finish(job.jobId(), job.startedAt(), job.status(),
+                job.finishedAt(), job.errorMessage()) > 0;
+    }
+
+    @Override
+    public List<ReportGenerationJob> findPending(int limit) {
+        return reportGenerationJobJpaRepository.findPending(PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public int requeueStale(LocalDateTime startedBefore) {
+        Objects.requireNonNull(startedBefore, "startedBeforeは必須です");
+        return reportGenerationJobJpaRepository.requeueStale(startedBefore);
+    }
+
+    @Override
+    public int deleteFinishedBefore(LocalDateTime finishedBefore) {
+        Objects.requireNonNull(finishedBefore, "finishedBeforeは必須です");
+        return reportGenerationJobJpaRepository.deleteFinishedBefore(finishedBefore);
+    }
+
+    /**
+     * JPAエンティティをドメインモデルに変換
+     */
+    private ReportGenerationJob toDomainModel(ReportGenerationJobJpaEntity jpaEntity) {
+        return new ReportGenerationJob(
+                jpaEntity.getJobId(),
+                jpaEntity.getYearMonth(),
+                new User(jpaEntity.getUserId()),
+                jpaEntity.getStatus(),
+                jpaEntity.getRequestedAt(),
+                jpaEntity.getStartedAt(),
+                jpaEntity.getFinishedAt(),
+                jpaEntity.getErrorMessage()
+        );
+    }
+}
@@ -1,11 +1,15 @@
 package com.github.okanikani.kairos.reports.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
 import com.github.okanikani.kairos.reports.domains.models.constants.LeaveType;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
 import com.github.okanikani.kairos.reports.domains.models.entities.Report;
 import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
 import com.github.okanikani.kairos.reports.domains.models.vos.*;
 import com.github.okanikani.kairos.reports.others.jpa.entities.*;
 import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
@@ -18,21 +22,30 @@ import java.util.stream.Collectors;
  * 勤怠表リポジトリのJPA実装
  * 
  * 業務要件: ドメインモデルとJPAエンティティ間の変換とデータ永続化を担当
+ *
+ * 勤務日詳細は report_details に1日1行で保存する（kairos.reports.storage=relational、デフォルト）
+ * kairos.reports.storage=jsonb の場合は {@link JsonbReportRepository} を使用する
+ * 保存・削除時は他インスタンスのキャッシュを無効化するよう通知する
  */
 @Repository
 @Profile("prod")
+@ConditionalOnProperty(prefix = "kairos.reports", name = "storage", havingValue = "relational", matchIfMissing = true)
 public class JpaReportRepository implements ReportRepository {
 
     private final ReportJpaRepository reportJpaRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
-    public JpaReportRepository(ReportJpaRepository reportJpaRepository) {
+    public JpaReportRepository(ReportJpaRepository reportJpaRepository,
+                               CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.reportJpaRepository = reportJpaRepository;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
     }
 
     @Override
     public void save(Report report) {
         ReportJpaEntity jpaEntity = toJpaEntity(report);
         reportJpaRepository.save(jpaEntity);
+        cacheInvalidationPublisher.publish(CacheNames.REPORTS, report.owner().userId());
     }
 
     @Override
@@ -42,6 +55,13 @@ public class JpaReportRepository implements ReportRepository {
                 .orElse(null);
     }
 
+    @Override
+    public ReportStatus lockStatus(YearMonth yearMonth, User user) {
+        return reportJpaRepository.findStatusForUpdate(yearMonth.toString(), user.userId())
+                .map(ReportStatus::valueOf)
+                .orElse(null);
+    }
+
     @Override
     public List<Report> findAll() {
         return reportJpaRepository.findAll()
@@ -60,6 +80,7 @@ public class JpaReportRepository implements ReportRepository {
     public void delete(YearMonth yearMonth, User user) {
         ReportId reportId = new ReportId(yearMonth, user.userId());
         reportJpaRepository.deleteById(reportId);
+        cacheInvalidationPublisher.publish(CacheNames.REPORTS, user.userId());
     }
 
     public List<Report> findByUser(User user) {
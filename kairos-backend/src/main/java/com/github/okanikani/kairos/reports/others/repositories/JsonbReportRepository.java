@@ -0,0 +1,139 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.others.jpa.converters.ReportDetailsJsonCodec;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportDocumentJpaEntity;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportId;
+import com.github.okanikani.kairos.reports.others.jpa.entities.SummaryJpaEntity;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportDocumentJpaRepository;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 勤怠表リポジトリのJPA実装（勤務日詳細をJSONBで保存）
+ *
+ * 業務要件: 勤怠表を reports の1行（勤務日詳細は work_day_details 列）で読み書きし、
+ * report_details の結合と勤務日ごとの行の削除・登録をなくす
+ *
+ * kairos.reports.storage=jsonb の場合に {@link JpaReportRepository} の代わりに使用する（db/migrations/007 の実行が前提）
+ * work_day_details が NULL の勤怠表（移行前に保存されたもの）は report_details から読み、次の保存でJSONBに移る
+ * 保存・削除時は他インスタンスのキャッシュを無効化するよう通知する
+ */
+@Repository
+@Profile("prod")
+@ConditionalOnProperty(prefix = "kairos.reports", name = "storage", havingValue = "jsonb")
+public class JsonbReportRepository implements ReportRepository {
+
+    private final ReportDocumentJpaRepository reportDocumentJpaRepository;
+    private final JpaReportRepository relationalReportRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ReportDetailsJsonCodec codec = new ReportDetailsJsonCodec();
+
+    public JsonbReportRepository(ReportDocumentJpaRepository reportDocumentJpaRepository,
+                                 ReportJpaRepository reportJpaRepository,
+                                 CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this.reportDocumentJpaRepository = Objects.requireNonNull(reportDocumentJpaRepository, "reportDocumentJpaRepositoryは必須です");
+        this.cacheInvalidationPublisher = Objects.requireNonNull(cacheInvalidationPublisher, "cacheInvalidationPublisherは必須です");
+        this.relationalReportRepository = new JpaReportRepository(
+                Objects.requireNonNull(reportJpaRepository, "reportJpaRepositoryは必須です"), cacheInvalidationPublisher);
+    }
+
+    @Override
+    public void save(Report report) {
+        reportDocumentJpaRepository.save(toJpaEntity(report));
+        cacheInvalidationPublisher.publish(CacheNames.REPORTS, report.owner().userId());
+    }
+
+    @Override
+    public Report find(YearMonth yearMonth, User user) {
+        return reportDocumentJpaRepository.findById(new ReportId(yearMonth, user.userId()))
+                .map(this::toDomainModel)
+                .orElse(null);
+    }
+
+    @Override
+    public ReportStatus lockStatus(YearMonth yearMonth, User user) {
+        // 状態列は保存方式によらず reports に持つ
+        return relationalReportRepository.lockStatus(yearMonth, user);
+    }
+
+    @Override
+    public List<Report> findAll() {
+        return reportDocumentJpaRepository.findAll()
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public void update(Report report) {
+        // JPAでは保存操作がupsertとして動作するため、saveメソッドを使用
+        save(report);
+    }
+
+    @Override
+    public void delete(YearMonth yearMonth, User user) {
+        // 移行前の report_details の行は外部キーの ON DELETE CASCADE で削除される
+        reportDocumentJpaRepository.deleteById(new ReportId(yearMonth, user.userId()));
+        cacheInvalidationPublisher.publish(CacheNames.REPORTS, user.userId());
+    }
+
+    /**
+     * ドメインモデルをJPAエンティティに変換
+     */
+    private ReportDocumentJpaEntity toJpaEntity(Report report) {
+        ReportId reportId = new ReportId(report.yearMonth(), report.owner().userId());
+
+        SummaryJpaEntity summaryJpa = new SummaryJpaEntity(
+                report.summary().workDays(),
+                report.summary().paidLeaveDays(),
+                report.summary().compensatoryLeaveDays(),
+                report.summary().specialLeaveDays(),
+                report.summary().totalWorkTime(),
+                report.summary().totalOvertime(),
+                report.summary().totalHolidayWork()
+        );
+
+        return new ReportDocumentJpaEntity(reportId, report.status(), summaryJpa, codec.encode(report.workDays()));
+    }
+
+    /**
+     * JPAエンティティをドメインモデルに変換
+     */
+    private Report toDomainModel(ReportDocumentJpaEntity jpaEntity) {
+        if (jpaEntity.getWorkDayDetails() == null) {
+            // 移行前に保存された勤怠表は勤務日詳細を report_details から読む
+            return relationalReportRepository.find(jpaEntity.getId().getYearMonth(), new User(jpaEntity.getId().getUserId()));
+        }
+
+        Summary summary = new Summary(
+                jpaEntity.getSummary().getWorkDays(),
+                jpaEntity.getSummary().getPaidLeaveDays(),
+                jpaEntity.getSummary().getCompensatoryLeaveDays(),
+                jpaEntity.getSummary().getSpecialLeaveDays(),
+                jpaEntity.getSummary().getTotalWorkTime(),
+                jpaEntity.getSummary().getTotalOvertime(),
+                jpaEntity.getSummary().getTotalHolidayWork()
+        );
+
+        return new Report(
+                jpaEntity.getId().getYearMonth(),
+                new User(jpaEntity.getId().getUserId()),
+                jpaEntity.getStatus(),
+                codec.decode(jpaEntity.getWorkDayDetails()),
+                summary
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.OvertimeCapProperties;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.repositories.OvertimeTotalRepository;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 時間外労働の集計値を維持する勤怠表リポジトリ
+ *
+ * プロファイルごとの実装（JPA/InMemory）を包み、勤怠表の登録・更新・生成・削除と同じトランザクションで
+ * 月次の残業時間・休出時間を記録する。年度累計は変更前の月の値との差分だけを反映するため、
+ * 上限に近いユーザーの抽出で勤務日詳細を読み直す必要がない。
+ */
+@Repository
+@Primary
+public class OvertimeTrackingReportRepository implements ReportRepository {
+
+    private final ReportRepository delegate;
+    private final OvertimeTotalRepository overtimeTotalRepository;
+    private final OvertimeCapProperties overtimeCapProperties;
+
+    public OvertimeTrackingReportRepository(ReportRepository delegate, OvertimeTotalRepository overtimeTotalRepository,
+                                            OvertimeCapProperties overtimeCapProperties) {
+        this.delegate = Objects.requireNonNull(delegate, "delegateは必須です");
+        this.overtimeTotalRepository = Objects.requireNonNull(overtimeTotalRepository, "overtimeTotalRepositoryは必須です");
+        this.overtimeCapProperties = Objects.requireNonNull(overtimeCapProperties, "overtimeCapPropertiesは必須です");
+    }
+
+    @Override
+    public void save(Report report) {
+        delegate.save(report);
+        record(report);
+    }
+
+    @Override
+    public Report find(YearMonth yearMonth, User user) {
+        return delegate.find(yearMonth, user);
+    }
+
+    @Override
+    public ReportStatus lockStatus(YearMonth yearMonth, User user) {
+        return delegate.lockStatus(yearMonth, user);
+    }
+
+    @Override
+    public List<Report> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void update(Report report) {
+        delegate.update(report);
+        record(report);
+    }
+
+    @Override
+    public void delete(YearMonth yearMonth, User user) {
+        delegate.delete(yearMonth, user);
+        overtimeTotalRepository.remove(user, yearMonth);
+    }
+
+    private void record(Report report) {
+        overtimeTotalRepository.record(
+            report.owner(),
+            report.yearMonth(),
+            overtimeCapProperties.fiscalYearOf(report.yearMonth()),
+            report.summary().totalOvertime(),
+            report.summary().totalHolidayWork()
+        );
+    }
+}
@@ -2,9 +2,13 @@ package com.github.okanikani.kairos.rules.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -15,9 +19,11 @@ import java.util.Objects;
 public class DeleteWorkRuleUseCase {
 
     private final WorkRuleRepository workRuleRepository;
+    private final DomainChangeOutbox domainChangeOutbox;
 
-    public DeleteWorkRuleUseCase(WorkRuleRepository workRuleRepository) {
+    public DeleteWorkRuleUseCase(WorkRuleRepository workRuleRepository, DomainChangeOutbox domainChangeOutbox) {
         this.workRuleRepository = Objects.requireNonNull(workRuleRepository, "workRuleRepositoryは必須です");
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
     }
 
     /**
@@ -29,6 +35,7 @@ public class DeleteWorkRuleUseCase {
      * @throws ResourceNotFoundException 勤務ルールが存在しない場合
      * @throws AuthorizationException 権限がない場合
      */
+    @Transactional
     public void execute(Long workRuleId, String userId) {
         Objects.requireNonNull(workRuleId, "workRuleIdは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
@@ -44,5 +51,9 @@ public class DeleteWorkRuleUseCase {
         }
         
         workRuleRepository.deleteById(workRuleId);
+        
+        // 所属期間の勤怠表を再計算の対象として、削除と同じトランザクションで記録する
+        domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.WORK_RULE_CHANGED, workRule.user().userId(),
+            workRule.membershipStartDate(), workRule.membershipEndDate()));
     }
 }
\ No newline at end of file
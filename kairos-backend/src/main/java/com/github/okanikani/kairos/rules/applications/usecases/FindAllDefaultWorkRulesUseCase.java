@@ -6,6 +6,7 @@ import com.github.okanikani.kairos.rules.domains.models.entities.DefaultWorkRule
 import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +31,7 @@ public class FindAllDefaultWorkRulesUseCase {
      * @return ユーザーの全デフォルト勤務ルールのリスト
      * @throws NullPointerException userIdがnullの場合
      */
+    @Transactional(readOnly = true)
     public List<DefaultWorkRuleResponse> execute(String userId) {
         Objects.requireNonNull(userId, "userIdは必須です");
         
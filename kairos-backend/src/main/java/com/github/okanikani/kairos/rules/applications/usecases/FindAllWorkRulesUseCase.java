@@ -6,6 +6,7 @@ import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +31,7 @@ public class FindAllWorkRulesUseCase {
      * @return ユーザーの全勤務ルールのリスト
      * @throws NullPointerException userIdがnullの場合
      */
+    @Transactional(readOnly = true)
     public List<WorkRuleResponse> execute(String userId) {
         Objects.requireNonNull(userId, "userIdは必須です");
         
@@ -7,6 +7,7 @@ import com.github.okanikani.kairos.rules.applications.usecases.dto.WorkRuleRespo
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -32,6 +33,7 @@ public class FindWorkRuleByIdUseCase {
      * @throws ResourceNotFoundException 勤務ルールが存在しない場合
      * @throws AuthorizationException 権限がない場合
      */
+    @Transactional(readOnly = true)
     public WorkRuleResponse execute(Long workRuleId, String userId) {
         Objects.requireNonNull(workRuleId, "workRuleIdは必須です");
         Objects.requireNonNull(userId, "userIdは必須です");
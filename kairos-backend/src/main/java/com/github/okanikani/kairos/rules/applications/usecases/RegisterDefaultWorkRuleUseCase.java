@@ -8,6 +8,7 @@ import com.github.okanikani.kairos.rules.domains.models.entities.DefaultWorkRule
 import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -33,6 +34,7 @@ public class RegisterDefaultWorkRuleUseCase {
      * @return 登録されたデフォルト勤怠ルール情報
      * @throws DuplicateResourceException 同一ユーザー・同一勤怠先で既にデフォルト勤怠ルールが存在する場合
      */
+    @Transactional
     public DefaultWorkRuleResponse execute(RegisterDefaultWorkRuleRequest request) {
         Objects.requireNonNull(request, "リクエストは必須です");
         
@@ -1,37 +1,47 @@
 package com.github.okanikani.kairos.rules.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.RegisterWorkRuleRequest;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.WorkRuleResponse;
 import com.github.okanikani.kairos.rules.applications.usecases.mapper.WorkRuleMapper;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
-import com.github.okanikani.kairos.rules.domains.service.WorkRuleDomainService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Objects;
 
 @Service
 public class RegisterWorkRuleUseCase {
     
     private final WorkRuleRepository workRuleRepository;
-    private final WorkRuleDomainService workRuleDomainService;
+    private final DomainChangeOutbox domainChangeOutbox;
     
-    public RegisterWorkRuleUseCase(WorkRuleRepository workRuleRepository, WorkRuleDomainService workRuleDomainService) {
+    public RegisterWorkRuleUseCase(WorkRuleRepository workRuleRepository, DomainChangeOutbox domainChangeOutbox) {
         this.workRuleRepository = Objects.requireNonNull(workRuleRepository, "workRuleRepositoryは必須です");
-        this.workRuleDomainService = Objects.requireNonNull(workRuleDomainService, "workRuleDomainServiceは必須です");
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
     }
     
+    /**
+     * 勤怠ルールを登録する
+     * 
+     * @param request 登録リクエスト
+     * @return 登録された勤怠ルールレスポンス
+     * @throws DuplicateResourceException 同一ユーザーの既存の勤怠ルールと所属期間が重複する場合
+     */
+    @Transactional
     public WorkRuleResponse execute(RegisterWorkRuleRequest request) {
         Objects.requireNonNull(request, "requestは必須です");
         
         User user = new User(request.user().userId());
         
         // 業務ルール: 同一ユーザーの所属期間重複チェック
-        List<WorkRule> existingRules = workRuleRepository.findByUser(user);
-        if (workRuleDomainService.hasOverlappingPeriod(existingRules, request.membershipStartDate(), request.membershipEndDate())) {
+        // 最終的な保証は保存時の排他制約で行い、ここでは保存を試みる前の早期判定のみ行う
+        if (workRuleRepository.existsOverlapping(user, request.membershipStartDate(), request.membershipEndDate(), null)) {
             throw new DuplicateResourceException("指定された所属期間は既存の勤怠ルールと重複しています");
         }
         
@@ -41,6 +51,10 @@ public class RegisterWorkRuleUseCase {
         // 保存
         WorkRule savedWorkRule = workRuleRepository.save(workRule);
         
+        // 所属期間の勤怠表を再計算の対象として、登録と同じトランザクションで記録する
+        domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.WORK_RULE_CHANGED, savedWorkRule.user().userId(),
+            savedWorkRule.membershipStartDate(), savedWorkRule.membershipEndDate()));
+        
         // レスポンス作成
         return WorkRuleMapper.toWorkRuleResponse(savedWorkRule);
     }
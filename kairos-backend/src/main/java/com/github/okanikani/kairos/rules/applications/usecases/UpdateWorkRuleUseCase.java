@@ -1,7 +1,11 @@
 package com.github.okanikani.kairos.rules.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.UpdateWorkRuleRequest;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.UserDto;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.WorkRuleResponse;
@@ -9,6 +13,7 @@ import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -19,9 +24,11 @@ import java.util.Objects;
 public class UpdateWorkRuleUseCase {
 
     private final WorkRuleRepository workRuleRepository;
+    private final DomainChangeOutbox domainChangeOutbox;
 
-    public UpdateWorkRuleUseCase(WorkRuleRepository workRuleRepository) {
+    public UpdateWorkRuleUseCase(WorkRuleRepository workRuleRepository, DomainChangeOutbox domainChangeOutbox) {
         this.workRuleRepository = Objects.requireNonNull(workRuleRepository, "workRuleRepositoryは必須です");
+        this.domainChangeOutbox = Objects.requireNonNull(domainChangeOutbox, "domainChangeOutboxは必須です");
     }
 
     /**
@@ -34,7 +41,9 @@ public class UpdateWorkRuleUseCase {
      * @throws NullPointerException workRuleId、request、またはuserIdがnullの場合
      * @throws ResourceNotFoundException 勤務ルールが存在しない場合
      * @throws AuthorizationException 権限がない場合
+     * @throws DuplicateResourceException 更新後の所属期間が同一ユーザーの他の勤怠ルールと重複する場合
      */
+    @Transactional
     public WorkRuleResponse execute(Long workRuleId, UpdateWorkRuleRequest request, String userId) {
         Objects.requireNonNull(workRuleId, "workRuleIdは必須です");
         Objects.requireNonNull(request, "requestは必須です");
@@ -52,6 +61,11 @@ public class UpdateWorkRuleUseCase {
         
         // 新しい勤務ルールエンティティを作成（リクエストの値で更新）
         User user = new User(request.user().userId());
+        
+        // 業務ルール: 自身を除く同一ユーザーの勤務ルールと所属期間が重複しないこと
+        if (workRuleRepository.existsOverlapping(user, request.membershipStartDate(), request.membershipEndDate(), workRuleId)) {
+            throw new DuplicateResourceException("指定された所属期間は既存の勤怠ルールと重複しています");
+        }
         WorkRule updatedWorkRule = new WorkRule(
             workRuleId,  // IDは既存のものを維持
             request.workPlaceId(),
@@ -68,9 +82,22 @@ public class UpdateWorkRuleUseCase {
         
         workRuleRepository.save(updatedWorkRule);
         
+        // 変更前・変更後の所属期間の勤怠表を再計算の対象として、更新と同じトランザクションで記録する
+        appendChange(existingWorkRule);
+        if (!updatedWorkRule.user().equals(existingWorkRule.user())
+            || !updatedWorkRule.membershipStartDate().equals(existingWorkRule.membershipStartDate())
+            || !updatedWorkRule.membershipEndDate().equals(existingWorkRule.membershipEndDate())) {
+            appendChange(updatedWorkRule);
+        }
+        
         return toWorkRuleResponse(updatedWorkRule);
     }
 
+    private void appendChange(WorkRule workRule) {
+        domainChangeOutbox.append(DomainChangeEvent.of(DomainChangeType.WORK_RULE_CHANGED, workRule.user().userId(),
+            workRule.membershipStartDate(), workRule.membershipEndDate()));
+    }
+
     /**
      * WorkRuleエンティティをWorkRuleResponseに変換する
      * 
@@ -15,6 +15,8 @@ public interface WorkRuleRepository {
      * 勤怠ルールを保存する
      * @param workRule 保存する勤怠ルール
      * @return 保存された勤怠ルール（IDが設定される）
+     * @throws com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException
+     *         同一ユーザーの他の勤怠ルールと所属期間が重複する場合
      */
     WorkRule save(WorkRule workRule);
     
@@ -32,6 +34,13 @@ public interface WorkRuleRepository {
      */
     List<WorkRule> findByUser(User user);
     
+    /**
+     * 勤怠先の勤怠ルール一覧を取得する
+     * @param workPlaceId 勤怠先ID
+     * @return 勤怠ルール一覧（所属開始日の昇順）
+     */
+    List<WorkRule> findByWorkPlaceId(Long workPlaceId);
+    
     /**
      * 指定日時点で有効なユーザーの勤怠ルール一覧を取得する
      * @param user ユーザー
@@ -40,6 +49,16 @@ public interface WorkRuleRepository {
      */
     List<WorkRule> findActiveByUserAndDate(User user, LocalDate targetDate);
     
+    /**
+     * 指定期間と所属期間が重複するユーザーの勤怠ルールが存在するかどうか
+     * @param user ユーザー
+     * @param startDate 所属開始日
+     * @param endDate 所属終了日
+     * @param excludeId 判定から除外する勤怠ルールID（更新対象自身、新規登録時はnull）
+     * @return 重複する勤怠ルールが存在する場合true
+     */
+    boolean existsOverlapping(User user, LocalDate startDate, LocalDate endDate, Long excludeId);
+    
     /**
      * 勤怠ルールを削除する
      * @param id 削除する勤怠ルールID
@@ -110,6 +110,10 @@ public class WorkRuleJpaEntity {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Long getWorkPlaceId() {
         return workPlaceId;
     }
@@ -84,6 +84,40 @@ public interface WorkRuleJpaRepository extends JpaRepository<WorkRuleJpaEntity,
                                                             @Param("endDate") LocalDate endDate,
                                                             @Param("excludeId") Long excludeId);
 
+    /**
+     * ユーザーIDと期間で重複する勤怠ルールが存在するか判定
+     * 業務要件: 登録時の重複事前チェック用（件数のみ取得し、行は読み込まない）
+     * 
+     * @param userId ユーザーID
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return 重複する勤怠ルールが存在する場合true
+     */
+    @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END FROM WorkRuleJpaEntity w " +
+           "WHERE w.userId = :userId AND " +
+           "((w.membershipStartDate <= :endDate) AND (w.membershipEndDate >= :startDate))")
+    boolean existsOverlappingRules(@Param(USER_ID_PARAM) String userId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * ユーザーIDと期間で重複する勤怠ルールが存在するか判定（ID除外）
+     * 業務要件: 更新時の重複事前チェック用（自分自身を除外）
+     * 
+     * @param userId ユーザーID
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @param excludeId 除外するID
+     * @return 重複する勤怠ルールが存在する場合true
+     */
+    @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END FROM WorkRuleJpaEntity w " +
+           "WHERE w.userId = :userId AND w.id != :excludeId AND " +
+           "((w.membershipStartDate <= :endDate) AND (w.membershipEndDate >= :startDate))")
+    boolean existsOverlappingRulesExcludingId(@Param(USER_ID_PARAM) String userId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate,
+                                              @Param("excludeId") Long excludeId);
+
     /**
      * 有効期間内の勤怠ルールを検索（管理者用）
      * 
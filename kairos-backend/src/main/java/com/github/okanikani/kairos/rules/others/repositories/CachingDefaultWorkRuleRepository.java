@@ -0,0 +1,106 @@
+package com.github.okanikani.kairos.rules.others.repositories;
+
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationSubscriber;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
+import com.github.okanikani.kairos.commons.cache.UserScopedCache;
+import com.github.okanikani.kairos.commons.config.RuleCacheProperties;
+import com.github.okanikani.kairos.rules.domains.models.entities.DefaultWorkRule;
+import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.vos.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * デフォルト勤怠ルールリポジトリのキャッシュ付き実装
+ *
+ * ユーザー単位の一覧取得をキャッシュし、ユーザーと勤怠先の組み合わせ検索もキャッシュから絞り込む。
+ * 勤怠先単位・全件の検索は管理用途のためキャッシュせず委譲する。
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "kairos.rules.cache", name = "enabled", havingValue = "true")
+public class CachingDefaultWorkRuleRepository implements DefaultWorkRuleRepository, CacheInvalidationSubscriber {
+
+    static final String CACHE_NAME = CacheNames.DEFAULT_WORK_RULES;
+
+    private final DefaultWorkRuleRepository delegate;
+    private final UserScopedCache<List<DefaultWorkRule>> cache;
+
+    public CachingDefaultWorkRuleRepository(DefaultWorkRuleRepository delegate, RuleCacheProperties properties,
+                                            MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate, "delegateは必須です");
+        Objects.requireNonNull(properties, "propertiesは必須です");
+        this.cache = new UserScopedCache<>(CACHE_NAME, properties.maxUsers(), properties.ttl(), meterRegistry);
+    }
+
+    @Override
+    public DefaultWorkRule save(DefaultWorkRule defaultWorkRule) {
+        Objects.requireNonNull(defaultWorkRule, "defaultWorkRuleは必須です");
+        DefaultWorkRule previous = defaultWorkRule.id() != null ? delegate.findById(defaultWorkRule.id()) : null;
+        DefaultWorkRule saved = delegate.save(defaultWorkRule);
+        if (previous != null) {
+            cache.invalidate(previous.user().userId());
+        }
+        cache.invalidate(saved.user().userId());
+        return saved;
+    }
+
+    @Override
+    public DefaultWorkRule findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<DefaultWorkRule> findByUser(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        return cache.get(user.userId(), () -> List.copyOf(delegate.findByUser(user)));
+    }
+
+    @Override
+    public List<DefaultWorkRule> findByWorkPlaceId(Long workPlaceId) {
+        return delegate.findByWorkPlaceId(workPlaceId);
+    }
+
+    @Override
+    public DefaultWorkRule findByUserAndWorkPlaceId(User user, Long workPlaceId) {
+        Objects.requireNonNull(workPlaceId, "workPlaceIdは必須です");
+        return findByUser(user).stream()
+            .filter(rule -> workPlaceId.equals(rule.workPlaceId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        DefaultWorkRule existing = delegate.findById(id);
+        delegate.deleteById(id);
+        if (existing != null) {
+            cache.invalidate(existing.user().userId());
+        }
+    }
+
+    @Override
+    public List<DefaultWorkRule> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
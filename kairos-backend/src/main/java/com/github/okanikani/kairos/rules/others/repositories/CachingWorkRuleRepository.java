@@ -0,0 +1,110 @@
+package com.github.okanikani.kairos.rules.others.repositories;
+
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationSubscriber;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
+import com.github.okanikani.kairos.commons.cache.UserScopedCache;
+import com.github.okanikani.kairos.commons.config.RuleCacheProperties;
+import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
+import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.vos.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 勤怠ルールリポジトリのキャッシュ付き実装
+ *
+ * プロファイルごとの実装（JPA/InMemory）を包み、ユーザーの勤怠ルール一覧を丸ごとキャッシュする。
+ * 指定日に有効なルールの検索はキャッシュ済みの一覧から絞り込むため、勤怠表生成時の日ごとの問い合わせが不要になる。
+ * 保存・削除時は対象ユーザーのエントリを同期的に無効化する（更新でユーザーが変わる場合は変更前後の両方）。
+ * 他インスタンスでの書き込みは CacheInvalidationSubscriber として受け取った通知で無効化する。
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "kairos.rules.cache", name = "enabled", havingValue = "true")
+public class CachingWorkRuleRepository implements WorkRuleRepository, CacheInvalidationSubscriber {
+
+    static final String CACHE_NAME = CacheNames.WORK_RULES;
+
+    private final WorkRuleRepository delegate;
+    private final UserScopedCache<List<WorkRule>> cache;
+
+    public CachingWorkRuleRepository(WorkRuleRepository delegate, RuleCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate, "delegateは必須です");
+        Objects.requireNonNull(properties, "propertiesは必須です");
+        this.cache = new UserScopedCache<>(CACHE_NAME, properties.maxUsers(), properties.ttl(), meterRegistry);
+    }
+
+    @Override
+    public WorkRule save(WorkRule workRule) {
+        Objects.requireNonNull(workRule, "workRuleは必須です");
+        WorkRule previous = workRule.id() != null ? delegate.findById(workRule.id()) : null;
+        WorkRule saved = delegate.save(workRule);
+        if (previous != null) {
+            cache.invalidate(previous.user().userId());
+        }
+        cache.invalidate(saved.user().userId());
+        return saved;
+    }
+
+    @Override
+    public WorkRule findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<WorkRule> findByUser(User user) {
+        Objects.requireNonNull(user, "userは必須です");
+        return cache.get(user.userId(), () -> List.copyOf(delegate.findByUser(user)));
+    }
+
+    @Override
+    public List<WorkRule> findByWorkPlaceId(Long workPlaceId) {
+        // キャッシュはユーザー単位のため、勤怠先単位の検索は委譲先に任せる
+        return delegate.findByWorkPlaceId(workPlaceId);
+    }
+
+    @Override
+    public List<WorkRule> findActiveByUserAndDate(User user, LocalDate targetDate) {
+        Objects.requireNonNull(targetDate, "targetDateは必須です");
+        return findByUser(user).stream()
+            .filter(rule -> !targetDate.isBefore(rule.membershipStartDate())
+                && !targetDate.isAfter(rule.membershipEndDate()))
+            .toList();
+    }
+
+    @Override
+    public boolean existsOverlapping(User user, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        // 重複判定は登録可否に直結するため、他インスタンスの更新を見逃さないよう常に委譲する
+        return delegate.existsOverlapping(user, startDate, endDate, excludeId);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        WorkRule existing = delegate.findById(id);
+        delegate.deleteById(id);
+        if (existing != null) {
+            cache.invalidate(existing.user().userId());
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -1,15 +1,18 @@
 package com.github.okanikani.kairos.rules.others.repositories;
 
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
+import com.github.okanikani.kairos.rules.domains.service.WorkRuleDomainService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -17,6 +20,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * ※これは開発・テスト用の一時的な実装です。
  * 本番環境ではデータベースを使用した実装に置き換える必要があります。
  * TODO: PostgreSQL等を使用した永続化実装への置き換え
+ * 
+ * 所属期間の重複はJPA実装の排他制約と同様に保存時に拒否する
  */
 @Repository
 @Profile("dev")
@@ -24,9 +29,18 @@ public class InMemoryWorkRuleRepository implements WorkRuleRepository {
     
     private final Map<Long, WorkRule> workRules = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final WorkRuleDomainService workRuleDomainService;
+    
+    public InMemoryWorkRuleRepository(WorkRuleDomainService workRuleDomainService) {
+        this.workRuleDomainService = Objects.requireNonNull(workRuleDomainService, "workRuleDomainServiceは必須です");
+    }
     
     @Override
-    public WorkRule save(WorkRule workRule) {
+    public synchronized WorkRule save(WorkRule workRule) {
+        if (existsOverlapping(workRule.user(), workRule.membershipStartDate(), workRule.membershipEndDate(), workRule.id())) {
+            throw new DuplicateResourceException("指定された所属期間は既存の勤怠ルールと重複しています");
+        }
+        
         Long id = workRule.id();
         WorkRule workRuleToSave = workRule;
         if (id == null) {
@@ -62,6 +76,14 @@ public class InMemoryWorkRuleRepository implements WorkRuleRepository {
             .toList();
     }
     
+    @Override
+    public List<WorkRule> findByWorkPlaceId(Long workPlaceId) {
+        return workRules.values().stream()
+            .filter(rule -> rule.workPlaceId().equals(workPlaceId))
+            .sorted(Comparator.comparing(WorkRule::membershipStartDate))
+            .toList();
+    }
+    
     @Override
     public List<WorkRule> findActiveByUserAndDate(User user, LocalDate targetDate) {
         return workRules.values().stream()
@@ -70,6 +92,15 @@ public class InMemoryWorkRuleRepository implements WorkRuleRepository {
             .toList();
     }
     
+    @Override
+    public boolean existsOverlapping(User user, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        List<WorkRule> otherRules = workRules.values().stream()
+            .filter(rule -> rule.user().equals(user))
+            .filter(rule -> excludeId == null || !excludeId.equals(rule.id()))
+            .toList();
+        return workRuleDomainService.hasOverlappingPeriod(otherRules, startDate, endDate);
+    }
+    
     @Override
     public void deleteById(Long id) {
         workRules.remove(id);
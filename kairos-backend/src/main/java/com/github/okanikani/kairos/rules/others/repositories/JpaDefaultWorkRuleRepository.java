@@ -1,5 +1,7 @@
 package com.github.okanikani.kairos.rules.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
 import com.github.okanikani.kairos.rules.domains.models.entities.DefaultWorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
@@ -16,21 +18,27 @@ import java.util.stream.Collectors;
  * デフォルト勤怠ルールリポジトリのJPA実装
  * 
  * 業務要件: ドメインモデルとJPAエンティティ間の変換とデータ永続化を担当
+ * 
+ * 保存・削除時は他インスタンスのキャッシュを無効化するよう通知する
  */
 @Repository
 @Profile("prod")
 public class JpaDefaultWorkRuleRepository implements DefaultWorkRuleRepository {
 
     private final DefaultWorkRuleJpaRepository defaultWorkRuleJpaRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
-    public JpaDefaultWorkRuleRepository(DefaultWorkRuleJpaRepository defaultWorkRuleJpaRepository) {
+    public JpaDefaultWorkRuleRepository(DefaultWorkRuleJpaRepository defaultWorkRuleJpaRepository,
+                                        CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.defaultWorkRuleJpaRepository = defaultWorkRuleJpaRepository;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
     }
 
     @Override
     public DefaultWorkRule save(DefaultWorkRule defaultWorkRule) {
         DefaultWorkRuleJpaEntity jpaEntity = toJpaEntity(defaultWorkRule);
         DefaultWorkRuleJpaEntity savedEntity = defaultWorkRuleJpaRepository.save(jpaEntity);
+        cacheInvalidationPublisher.publish(CacheNames.DEFAULT_WORK_RULES, savedEntity.getUserId());
         return toDomainModel(savedEntity);
     }
 
@@ -66,7 +74,9 @@ public class JpaDefaultWorkRuleRepository implements DefaultWorkRuleRepository {
 
     @Override
     public void deleteById(Long id) {
+        Optional<String> userId = defaultWorkRuleJpaRepository.findById(id).map(DefaultWorkRuleJpaEntity::getUserId);
         defaultWorkRuleJpaRepository.deleteById(id);
+        userId.ifPresent(value -> cacheInvalidationPublisher.publish(CacheNames.DEFAULT_WORK_RULES, value));
     }
 
     @Override
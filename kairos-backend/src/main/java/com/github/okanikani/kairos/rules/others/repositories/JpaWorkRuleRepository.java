@@ -1,13 +1,18 @@
 package com.github.okanikani.kairos.rules.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import com.github.okanikani.kairos.rules.others.jpa.entities.WorkRuleJpaEntity;
 import com.github.okanikani.kairos.rules.others.jpa.repositories.WorkRuleJpaRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -17,22 +22,48 @@ import java.util.stream.Collectors;
  * 勤怠ルールリポジトリのJPA実装
  * 
  * 業務要件: ドメインモデルとJPAエンティティ間の変換とデータ永続化を担当
+ * 
+ * 所属期間の重複はデータベースの排他制約（excl_work_rules_user_membership_period）で防ぎ、
+ * 違反はDuplicateResourceExceptionに変換する
+ * 
+ * 保存・削除時は他インスタンスのキャッシュを無効化するよう通知する（更新でユーザーが変わる場合は変更前後の両方）
  */
 @Repository
 @Profile("prod")
 public class JpaWorkRuleRepository implements WorkRuleRepository {
 
+    // PostgreSQLの排他制約違反（exclusion_violation）のSQLSTATE
+    private static final String SQL_STATE_EXCLUSION_VIOLATION = "23P01";
+
     private final WorkRuleJpaRepository workRuleJpaRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
-    public JpaWorkRuleRepository(WorkRuleJpaRepository workRuleJpaRepository) {
+    public JpaWorkRuleRepository(WorkRuleJpaRepository workRuleJpaRepository,
+                                 CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.workRuleJpaRepository = workRuleJpaRepository;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
     }
 
     @Override
     public WorkRule save(WorkRule workRule) {
         WorkRuleJpaEntity jpaEntity = toJpaEntity(workRule);
-        WorkRuleJpaEntity savedEntity = workRuleJpaRepository.save(jpaEntity);
-        return toDomainModel(savedEntity);
+        String previousUserId = workRule.id() != null
+                ? workRuleJpaRepository.findById(workRule.id()).map(WorkRuleJpaEntity::getUserId).orElse(null)
+                : null;
+        try {
+            // 制約違反をこの呼び出しの中で検出するため即時にフラッシュする
+            WorkRuleJpaEntity savedEntity = workRuleJpaRepository.saveAndFlush(jpaEntity);
+            if (previousUserId != null && !previousUserId.equals(savedEntity.getUserId())) {
+                cacheInvalidationPublisher.publish(CacheNames.WORK_RULES, previousUserId);
+            }
+            cacheInvalidationPublisher.publish(CacheNames.WORK_RULES, savedEntity.getUserId());
+            return toDomainModel(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e)) {
+                throw new DuplicateResourceException("指定された所属期間は既存の勤怠ルールと重複しています");
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -50,6 +81,14 @@ public class JpaWorkRuleRepository implements WorkRuleRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<WorkRule> findByWorkPlaceId(Long workPlaceId) {
+        return workRuleJpaRepository.findByWorkPlaceIdOrderByMembershipStartDate(workPlaceId)
+                .stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<WorkRule> findActiveByUserAndDate(User user, LocalDate targetDate) {
         return workRuleJpaRepository.findByUserIdAndEffectiveDate(user.userId(), targetDate)
@@ -58,9 +97,19 @@ public class JpaWorkRuleRepository implements WorkRuleRepository {
                 .orElse(List.of());
     }
 
+    @Override
+    public boolean existsOverlapping(User user, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        if (excludeId == null) {
+            return workRuleJpaRepository.existsOverlappingRules(user.userId(), startDate, endDate);
+        }
+        return workRuleJpaRepository.existsOverlappingRulesExcludingId(user.userId(), startDate, endDate, excludeId);
+    }
+
     @Override
     public void deleteById(Long id) {
+        Optional<String> userId = workRuleJpaRepository.findById(id).map(WorkRuleJpaEntity::getUserId);
         workRuleJpaRepository.deleteById(id);
+        userId.ifPresent(value -> cacheInvalidationPublisher.publish(CacheNames.WORK_RULES, value));
     }
 
     public Optional<WorkRule> findByUserAndEffectiveDate(User user, LocalDate effectiveDate) {
@@ -86,6 +135,19 @@ public class JpaWorkRuleRepository implements WorkRuleRepository {
         return workRuleJpaRepository.existsById(id);
     }
 
+    /**
+     * 排他制約違反かどうかを原因例外のSQLSTATEから判定
+     */
+    private boolean isExclusionViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && SQL_STATE_EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * ドメインモデルをJPAエンティティに変換
      */
@@ -104,9 +166,9 @@ public class JpaWorkRuleRepository implements WorkRuleRepository {
         );
         
         // IDが存在する場合は設定（更新時）
+        // 設定しないと別行として挿入され、排他制約により自身との重複として拒否される
         if (workRule.id() != null) {
-            // JPAエンティティのIDを設定するためにリフレクションを使用
-            // または専用のコンストラクタを追加する必要がある
+            jpaEntity.setId(workRule.id());
         }
         
         return jpaEntity;
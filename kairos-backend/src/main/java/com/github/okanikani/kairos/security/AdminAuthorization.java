@@ -0,0 +1,58 @@
+package com.github.okanikani.kairos.security;
+
+import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.users.domains.models.entities.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+
+/**
+ * 管理者のみ利用できるAPIの権限チェック
+ *
+ * CustomUserPrincipal の権限名は ROLE_ プレフィックスなし（Role#getRawAuthority）のため、
+ * 権限名の文字列を直接比較せず Role#isAdmin で判定する
+ */
+public final class AdminAuthorization {
+
+    private AdminAuthorization() {
+    }
+
+    /**
+     * 管理者権限（Role#isAdmin）を持つかチェック
+     *
+     * @param authentication 認証情報（null可）
+     * @return 管理者権限がある場合true
+     */
+    public static boolean isAdmin(Authentication authentication) {
+        if (authentication == null) {
+            return false;
+        }
+        if (authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getUser().role().isAdmin();
+        }
+        return authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .anyMatch(AdminAuthorization::isAdminAuthority);
+    }
+
+    /**
+     * 管理者権限がない場合は例外を送出する
+     *
+     * @param authentication 認証情報
+     * @param message 権限がない場合のエラーメッセージ
+     * @throws AuthorizationException 管理者権限がない場合
+     */
+    public static void requireAdmin(Authentication authentication, String message) {
+        if (!isAdmin(authentication)) {
+            throw new AuthorizationException(message);
+        }
+    }
+
+    // 権限名は ROLE_ プレフィックスの有無どちらでも受け付ける
+    private static boolean isAdminAuthority(String authority) {
+        return Arrays.stream(Role.values())
+            .filter(Role::isAdmin)
+            .anyMatch(role -> role.getRawAuthority().equals(authority) || role.getAuthority().equals(authority));
+    }
+}
@@ -6,6 +6,7 @@ import com.github.okanikani.kairos.users.applications.usecases.dto.LoginRequest;
 import com.github.okanikani.kairos.users.applications.usecases.dto.LoginResponse;
 import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
 import com.github.okanikani.kairos.users.applications.usecases.dto.UserResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,21 +21,29 @@ public class AuthController {
     
     private final AuthenticationUseCase authenticationUseCase;
     private final RegisterUserUseCase registerUserUseCase;
+    private final LoginAttemptThrottle loginAttemptThrottle;
     
-    public AuthController(AuthenticationUseCase authenticationUseCase, RegisterUserUseCase registerUserUseCase) {
+    public AuthController(AuthenticationUseCase authenticationUseCase, RegisterUserUseCase registerUserUseCase,
+                          LoginAttemptThrottle loginAttemptThrottle) {
         this.authenticationUseCase = authenticationUseCase;
         this.registerUserUseCase = registerUserUseCase;
+        this.loginAttemptThrottle = loginAttemptThrottle;
     }
     
     /**
      * ログイン認証
      * 
+     * パスワードの照合より前に、接続元・ユーザーIDごとの試行回数を確認する
+     * 
      * @param request ログインリクエスト
+     * @param httpRequest HTTPリクエスト（接続元IPアドレスの取得に使用）
      * @return ログインレスポンス（JWTトークン含む）
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        loginAttemptThrottle.acquire(request.userId(), httpRequest.getRemoteAddr());
         LoginResponse response = authenticationUseCase.authenticate(request);
+        loginAttemptThrottle.recordSuccess(request.userId());
         return ResponseEntity.ok(response);
     }
     
@@ -17,9 +17,11 @@ import java.util.Objects;
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final LoginAttemptThrottle loginAttemptThrottle;
     
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, LoginAttemptThrottle loginAttemptThrottle) {
         this.userRepository = Objects.requireNonNull(userRepository, "userRepositoryは必須です");
+        this.loginAttemptThrottle = Objects.requireNonNull(loginAttemptThrottle, "loginAttemptThrottleは必須です");
     }
     
     /**
@@ -39,6 +41,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("アカウントが無効化されています: " + userId);
         }
         
-        return new CustomUserPrincipal(user);
+        // ログイン試行回数の超過によるロックを反映する（DaoAuthenticationProviderはパスワード照合の前に判定する）
+        return new CustomUserPrincipal(user, !loginAttemptThrottle.isLocked(userId));
     }
 }
\ No newline at end of file
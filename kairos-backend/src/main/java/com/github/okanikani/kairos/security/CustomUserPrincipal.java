@@ -18,9 +18,19 @@ public class CustomUserPrincipal implements UserDetails {
     private static final long serialVersionUID = 7239485610273958412L;
     
     private final transient User user;
+    private final boolean accountNonLocked;
     
     public CustomUserPrincipal(User user) {
+        this(user, true);
+    }
+    
+    /**
+     * @param user ユーザー
+     * @param accountNonLocked ログイン試行回数の超過によりロックされていない場合true
+     */
+    public CustomUserPrincipal(User user, boolean accountNonLocked) {
         this.user = Objects.requireNonNull(user, "ユーザーは必須です");
+        this.accountNonLocked = accountNonLocked;
     }
     
     /**
@@ -54,7 +64,7 @@ public class CustomUserPrincipal implements UserDetails {
     
     @Override
     public boolean isAccountNonLocked() {
-        return true; // アカウントロックは現在未実装
+        return accountNonLocked;
     }
     
     @Override
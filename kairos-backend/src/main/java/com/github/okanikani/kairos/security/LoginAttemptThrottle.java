@@ -0,0 +1,120 @@
+package com.github.okanikani.kairos.security;
+
+import com.github.okanikani.kairos.commons.concurrent.StripedTokenBuckets;
+import com.github.okanikani.kairos.commons.config.LoginThrottleProperties;
+import com.github.okanikani.kairos.commons.config.LoginThrottleProperties.Bucket;
+import com.github.okanikani.kairos.commons.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * ログイン試行の制限
+ *
+ * パスワードのハッシュ照合（BCrypt強度12）は1回でCPUを長時間占有するため、照合の前に
+ * 接続元IPアドレスごと・ユーザーIDごとのトークンバケットで試行回数を制限する。
+ * 状態は固定長の配列に保持し、ロックを取らずに判定する（{@link StripedTokenBuckets}）。
+ *
+ * ユーザーIDのロックはパスワードによるログインのみを止め、発行済みのトークンでのAPI利用は妨げない。
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptThrottle.class);
+
+    // メトリクス名定数
+    static final String LOGIN_THROTTLED = "kairos.auth.login.throttled";
+    static final String TAG_REASON = "reason";
+
+    private final LoginThrottleProperties properties;
+    private final StripedTokenBuckets userBuckets;
+    private final StripedTokenBuckets ipBuckets;
+    private final Counter throttledByUser;
+    private final Counter throttledByIp;
+
+    public LoginAttemptThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.properties = Objects.requireNonNull(properties, "propertiesは必須です");
+        Objects.requireNonNull(meterRegistry, "meterRegistryは必須です");
+
+        this.userBuckets = buckets(properties.slots(), properties.user());
+        this.ipBuckets = buckets(properties.slots(), properties.ip());
+        this.throttledByUser = Counter.builder(LOGIN_THROTTLED)
+            .description("試行回数の制限により照合せずに拒否したログイン試行の回数")
+            .tag(TAG_REASON, "user")
+            .register(meterRegistry);
+        this.throttledByIp = Counter.builder(LOGIN_THROTTLED)
+            .description("試行回数の制限により照合せずに拒否したログイン試行の回数")
+            .tag(TAG_REASON, "ip")
+            .register(meterRegistry);
+    }
+
+    private static StripedTokenBuckets buckets(int slots, Bucket bucket) {
+        return new StripedTokenBuckets(slots, Math.min(bucket.capacity(), StripedTokenBuckets.MAX_CAPACITY),
+            bucket.refillPeriod(), bucket.lockout(), System::currentTimeMillis);
+    }
+
+    /**
+     * ログイン試行を1回分数える
+     *
+     * パスワードの照合より前に呼び出すこと。接続元IPアドレス、ユーザーIDの順に判定する
+     *
+     * @param userId ログインしようとしているユーザーID
+     * @param clientAddress 接続元IPアドレス
+     * @throws TooManyRequestsException 試行回数の上限に達している場合
+     */
+    public void acquire(String userId, String clientAddress) {
+        Objects.requireNonNull(userId, "userIdは必須です");
+        Objects.requireNonNull(clientAddress, "clientAddressは必須です");
+        if (!properties.enabled()) {
+            return;
+        }
+
+        Duration ipWait = ipBuckets.tryAcquire(clientAddress);
+        if (!ipWait.isZero()) {
+            throttledByIp.increment();
+            if (logger.isWarnEnabled()) {
+                logger.warn("接続元のログイン試行回数が上限に達しました [clientAddress={}, retryAfterSeconds={}]",
+                    clientAddress, ipWait.toSeconds());
+            }
+            throw new TooManyRequestsException("ログインの試行回数が多すぎます。しばらくしてから再試行してください", ipWait);
+        }
+
+        Duration userWait = userBuckets.tryAcquire(userId);
+        if (!userWait.isZero()) {
+            throttledByUser.increment();
+            if (logger.isWarnEnabled()) {
+                logger.warn("ユーザーのログイン試行回数が上限に達しました [userId={}, retryAfterSeconds={}]",
+                    userId, userWait.toSeconds());
+            }
+            throw new TooManyRequestsException("ログインの試行回数が多すぎます。しばらくしてから再試行してください", userWait);
+        }
+    }
+
+    /**
+     * ログインの成功を記録し、ユーザーIDの試行回数を戻す
+     *
+     * @param userId ログインしたユーザーID
+     */
+    public void recordSuccess(String userId) {
+        Objects.requireNonNull(userId, "userIdは必須です");
+        if (properties.enabled()) {
+            userBuckets.reset(userId);
+        }
+    }
+
+    /**
+     * ユーザーIDが試行回数超過によりロックされているか判定
+     *
+     * @param userId ユーザーID
+     * @return ロック中の場合true
+     */
+    public boolean isLocked(String userId) {
+        Objects.requireNonNull(userId, "userIdは必須です");
+        return properties.enabled() && userBuckets.isLocked(userId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.okanikani.kairos.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +18,9 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -35,10 +39,13 @@ public class SecurityConfiguration {
     
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final Integer managementPort;
     
-    public SecurityConfiguration(JwtAuthenticationFilter jwtAuthFilter, UserDetailsService userDetailsService) {
+    public SecurityConfiguration(JwtAuthenticationFilter jwtAuthFilter, UserDetailsService userDetailsService,
+                                 @Value("${management.server.port:#{null}}") Integer managementPort) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.userDetailsService = userDetailsService;
+        this.managementPort = managementPort;
     }
     
     @Bean
@@ -54,6 +61,7 @@ public class SecurityConfiguration {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()  // 認証エンドポイントは許可
                         .requestMatchers("/actuator/health").permitAll()  // ヘルスチェックは許可
+                        .requestMatchers(metricsScrapeRequest(managementPort)).permitAll()  // メトリクス収集は管理用ポートへのリクエストのみ許可
                         .anyRequest().authenticated()  // その他は認証必須
                 )
                 
@@ -84,6 +92,23 @@ public class SecurityConfiguration {
         return http.build();
     }
     
+    /**
+     * 認証なしで許可するメトリクス収集リクエスト
+     * 管理用ポート（management.server.port）を分けている場合は、そのポートに届いたリクエストのみを対象とし、
+     * APIポートからはメトリクスを取得できないようにする。
+     * 管理用ポートを分けていない場合（開発環境）はパスのみで判定する。
+     * 
+     * @param managementPort 管理用ポート（APIポートと共用の場合はnull）
+     * @return リクエストマッチャー
+     */
+    static RequestMatcher metricsScrapeRequest(Integer managementPort) {
+        RequestMatcher prometheusPath = PathPatternRequestMatcher.withDefaults().matcher("/actuator/prometheus");
+        if (managementPort == null || managementPort <= 0) {
+            return prometheusPath;
+        }
+        return new AndRequestMatcher(prometheusPath, request -> request.getLocalPort() == managementPort);
+    }
+    
     /**
      * 認証プロバイダーの設定
      * UserDetailsServiceとPasswordEncoderを使用したDAO認証
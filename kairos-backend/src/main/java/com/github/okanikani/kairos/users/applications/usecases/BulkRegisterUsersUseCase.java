@@ -0,0 +1,323 @@
+package com.github.okanikani.kairos.users.applications.usecases;
+
+import com.github.okanikani.kairos.commons.config.UserOnboardingProperties;
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterRowResult;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterRowResult.Status;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import com.github.okanikani.kairos.users.domains.models.entities.Role;
+import com.github.okanikani.kairos.users.domains.models.entities.User;
+import com.github.okanikani.kairos.users.domains.models.repositories.UserRepository;
+import com.github.okanikani.kairos.users.domains.services.PasswordService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ユーザー一括登録ユースケース
+ *
+ * 新しい取引先の従業員をまとめて登録する。1件ずつの登録（{@link RegisterUserUseCase}）と比べて、
+ * - 重複チェックは全行分を1回の問い合わせで行う
+ * - パスワードのハッシュ計算は専用のスレッドプールで並列に行う
+ * - 保存はJDBCのバッチでまとめて行う
+ *
+ * 不正な行や重複した行があっても他の行の登録は続け、行ごとの結果を返す。
+ */
+@Service
+public class BulkRegisterUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkRegisterUsersUseCase.class);
+
+    // ハッシュ計算前の入力値検証でUserを生成するための仮の値（保存はしない）
+    private static final String PENDING_HASH = "pending";
+
+    // 停止時に計算中のハッシュの完了を待つ時間
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final UserRepository userRepository;
+    private final PasswordService passwordService;
+    private final int maxRows;
+    private final ExecutorService hashingExecutor;
+
+    public BulkRegisterUsersUseCase(
+            UserRepository userRepository,
+            PasswordService passwordService,
+            UserOnboardingProperties userOnboardingProperties) {
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepositoryは必須です");
+        this.passwordService = Objects.requireNonNull(passwordService, "passwordServiceは必須です");
+        Objects.requireNonNull(userOnboardingProperties, "userOnboardingPropertiesは必須です");
+
+        this.maxRows = userOnboardingProperties.maxRows();
+        // 一括登録が同時に実行されても、ハッシュ計算でCPUコア数を超えるスレッドを使わないよう共有する
+        this.hashingExecutor = Executors.newFixedThreadPool(
+            userOnboardingProperties.hashingThreads(), new HashingThreadFactory());
+    }
+
+    /**
+     * ユーザー一括登録を実行
+     *
+     * @param requests 登録リクエストの一覧（入力順）
+     * @return 行ごとの登録結果
+     * @throws ValidationException 一覧が空、または最大行数を超えている場合
+     */
+    public BulkRegisterResponse execute(List<RegisterRequest> requests) {
+        Objects.requireNonNull(requests, "リクエストは必須です");
+        if (requests.isEmpty()) {
+            throw new ValidationException("登録するユーザーが指定されていません");
+        }
+        if (requests.size() > maxRows) {
+            throw new ValidationException(
+                "一度に登録できるユーザーは" + maxRows + "件までです。指定件数: " + requests.size());
+        }
+
+        BulkRegisterRowResult[] results = new BulkRegisterRowResult[requests.size()];
+
+        // 1. 各行の入力値検証と、一覧内での重複チェック
+        List<Candidate> candidates = validateRows(requests, results);
+
+        // 2. 既存ユーザーとの重複チェック（全行分を1回で問い合わせる）
+        candidates = excludeExistingUsers(candidates, results);
+
+        // 3. パスワードのハッシュ計算（並列）
+        List<User> hashedUsers = hashPasswords(candidates, results);
+
+        // 4. まとめて保存
+        saveUsers(hashedUsers, candidates, results);
+
+        BulkRegisterResponse response = BulkRegisterResponse.of(Arrays.asList(results));
+        logger.info("ユーザーを一括登録しました [total={}, created={}, duplicate={}, invalid={}, failed={}]",
+            response.total(), response.created(), response.duplicate(), response.invalid(), response.failed());
+        return response;
+    }
+
+    private List<Candidate> validateRows(List<RegisterRequest> requests, BulkRegisterRowResult[] results) {
+        List<Candidate> candidates = new ArrayList<>(requests.size());
+        Set<String> seenUserIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            RegisterRequest request = requests.get(index);
+            String userId = request == null ? null : request.userId();
+
+            User user;
+            try {
+                user = validate(request);
+            } catch (ValidationException e) {
+                results[index] = rejected(index, userId, Status.INVALID, e.getMessage());
+                continue;
+            }
+
+            String email = user.email().toLowerCase(Locale.ROOT);
+            if (seenUserIds.contains(user.userId())) {
+                results[index] = rejected(index, userId, Status.DUPLICATE,
+                    "ユーザーID「" + user.userId() + "」が前の行と重複しています");
+                continue;
+            }
+            if (seenEmails.contains(email)) {
+                results[index] = rejected(index, userId, Status.DUPLICATE,
+                    "メールアドレス「" + user.email() + "」が前の行と重複しています");
+                continue;
+            }
+            seenUserIds.add(user.userId());
+            seenEmails.add(email);
+            candidates.add(new Candidate(index, request.password(), user));
+        }
+        return candidates;
+    }
+
+    /**
+     * 入力値を検証し、ハッシュ化前のユーザーを生成
+     *
+     * パスワードの強度やユーザーID・メールアドレスの形式の検証は {@link User} に任せ、
+     * ハッシュ計算だけを後回しにする
+     */
+    private User validate(RegisterRequest request) {
+        if (request == null) {
+            throw new ValidationException("登録内容が指定されていません");
+        }
+        if (isBlank(request.userId())) {
+            throw new ValidationException("ユーザーIDは必須です");
+        }
+        if (isBlank(request.username())) {
+            throw new ValidationException("ユーザー名は必須です");
+        }
+        if (isBlank(request.email())) {
+            throw new ValidationException("メールアドレスは必須です");
+        }
+        if (isBlank(request.password())) {
+            throw new ValidationException("パスワードは必須です");
+        }
+
+        return User.createNewWithRole(
+            request.userId(),
+            request.username(),
+            request.email(),
+            request.password(),
+            determineRole(request.role()),
+            rawPassword -> PENDING_HASH
+        );
+    }
+
+    private List<Candidate> excludeExistingUsers(List<Candidate> candidates, BulkRegisterRowResult[] results) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<String> userIds = candidates.stream().map(candidate -> candidate.user().userId()).toList();
+        List<String> emails = candidates.stream().map(candidate -> candidate.user().email()).toList();
+        Set<String> existingUserIds = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        for (User existing : userRepository.findByUserIdInOrEmailIn(userIds, emails)) {
+            existingUserIds.add(existing.userId());
+            existingEmails.add(existing.email().toLowerCase(Locale.ROOT));
+        }
+
+        List<Candidate> remaining = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            User user = candidate.user();
+            if (existingUserIds.contains(user.userId())) {
+                results[candidate.index()] = rejected(candidate.index(), user.userId(), Status.DUPLICATE,
+                    "ユーザーID「" + user.userId() + "」は既に使用されています");
+            } else if (existingEmails.contains(user.email().toLowerCase(Locale.ROOT))) {
+                results[candidate.index()] = rejected(candidate.index(), user.userId(), Status.DUPLICATE,
+                    "メールアドレス「" + user.email() + "」は既に使用されています");
+            } else {
+                remaining.add(candidate);
+            }
+        }
+        return remaining;
+    }
+
+    private List<User> hashPasswords(List<Candidate> candidates, BulkRegisterRowResult[] results) {
+        List<Future<String>> hashes = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            hashes.add(hashingExecutor.submit(() -> passwordService.hashPassword(candidate.rawPassword())));
+        }
+
+        List<User> hashedUsers = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            try {
+                hashedUsers.add(withHashedPassword(candidate.user(), hashes.get(i).get()));
+            } catch (ExecutionException e) {
+                logger.warn("パスワードのハッシュ化に失敗しました [row={}, userId={}]",
+                    candidate.index() + 1, candidate.user().userId(), e.getCause());
+                results[candidate.index()] = rejected(candidate.index(), candidate.user().userId(), Status.FAILED,
+                    "パスワードのハッシュ化に失敗しました");
+            } catch (InterruptedException e) {
+                hashes.forEach(hash -> hash.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("パスワードのハッシュ化中に中断されました", e);
+            }
+        }
+        return hashedUsers;
+    }
+
+    private void saveUsers(List<User> hashedUsers, List<Candidate> candidates, BulkRegisterRowResult[] results) {
+        Map<String, User> savedByUserId = new HashMap<>();
+        for (User saved : userRepository.saveAllNew(hashedUsers)) {
+            savedByUserId.put(saved.userId(), saved);
+        }
+
+        for (Candidate candidate : candidates) {
+            if (results[candidate.index()] != null) {
+                continue;
+            }
+            User saved = savedByUserId.get(candidate.user().userId());
+            results[candidate.index()] = saved != null
+                ? new BulkRegisterRowResult(candidate.index() + 1, saved.userId(), Status.CREATED, saved.id(), null)
+                // 重複チェックの後に他の登録処理で同じユーザーID・メールアドレスが使われた場合
+                : rejected(candidate.index(), candidate.user().userId(), Status.DUPLICATE,
+                    "ユーザーIDまたはメールアドレスが登録処理中に他のユーザーで使用されました");
+        }
+    }
+
+    private static User withHashedPassword(User user, String hashedPassword) {
+        return new User(
+            user.id(),
+            user.userId(),
+            user.username(),
+            user.email(),
+            hashedPassword,
+            user.role(),
+            user.enabled(),
+            user.createdAt(),
+            user.lastLoginAt()
+        );
+    }
+
+    private static BulkRegisterRowResult rejected(int index, String userId, Status status, String message) {
+        return new BulkRegisterRowResult(index + 1, userId, status, null, message);
+    }
+
+    /**
+     * ロールの決定（指定されていない場合はUSER）
+     */
+    private static Role determineRole(String roleString) {
+        if (isBlank(roleString)) {
+            return Role.USER;
+        }
+        try {
+            return Role.valueOf(roleString.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("無効なロールが指定されました: " + roleString, e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+        try {
+            if (!hashingExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                hashingExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            hashingExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 登録対象の行（入力順の位置・平文パスワード・ハッシュ化前のユーザー）
+     */
+    private record Candidate(int index, String rawPassword, User user) {
+    }
+
+    /**
+     * スレッドダンプで識別できるようハッシュ計算スレッドに名前を付ける
+     */
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
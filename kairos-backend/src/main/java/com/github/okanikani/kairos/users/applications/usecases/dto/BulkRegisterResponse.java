@@ -0,0 +1,49 @@
+package com.github.okanikani.kairos.users.applications.usecases.dto;
+
+import java.util.List;
+
+/**
+ * ユーザー一括登録のレスポンスDTO
+ *
+ * @param total 入力行数
+ * @param created 登録できた行数
+ * @param duplicate 重複のため登録しなかった行数
+ * @param invalid 入力値が不正なため登録しなかった行数
+ * @param failed その他の理由で登録できなかった行数
+ * @param rows 行ごとの結果（入力順）
+ */
+public record BulkRegisterResponse(
+    int total,
+    int created,
+    int duplicate,
+    int invalid,
+    int failed,
+    List<BulkRegisterRowResult> rows
+) {
+
+    public BulkRegisterResponse {
+        rows = rows == null ? List.of() : List.copyOf(rows);
+    }
+
+    /**
+     * 行ごとの結果から件数を集計してレスポンスを生成
+     *
+     * @param rows 行ごとの結果（入力順）
+     * @return レスポンス
+     */
+    public static BulkRegisterResponse of(List<BulkRegisterRowResult> rows) {
+        int created = 0;
+        int duplicate = 0;
+        int invalid = 0;
+        int failed = 0;
+        for (BulkRegisterRowResult row : rows) {
+            switch (row.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicate++;
+                case INVALID -> invalid++;
+                case FAILED -> failed++;
+            }
+        }
+        return new BulkRegisterResponse(rows.size(), created, duplicate, invalid, failed, rows);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.okanikani.kairos.users.applications.usecases.dto;
+
+/**
+ * ユーザー一括登録の行ごとの結果DTO
+ *
+ * @param row 行番号（1始まり。CSVの場合はヘッダー行を除いた番号）
+ * @param userId ユーザーID（入力値。未指定の場合はnull）
+ * @param status 登録結果
+ * @param id 採番されたID（登録できた場合のみ）
+ * @param message 登録できなかった理由（登録できた場合はnull）
+ */
+public record BulkRegisterRowResult(
+    int row,
+    String userId,
+    Status status,
+    Long id,
+    String message
+) {
+
+    /**
+     * 行ごとの登録結果
+     */
+    public enum Status {
+        /** 登録できた */
+        CREATED,
+        /** ユーザーIDまたはメールアドレスが既存のユーザー・同じ一覧内の前の行と重複した */
+        DUPLICATE,
+        /** 入力値が不正 */
+        INVALID,
+        /** パスワードのハッシュ化など、入力値以外の理由で失敗した */
+        FAILED
+    }
+}
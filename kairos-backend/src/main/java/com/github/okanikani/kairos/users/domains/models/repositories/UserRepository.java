@@ -2,6 +2,7 @@ package com.github.okanikani.kairos.users.domains.models.repositories;
 
 import com.github.okanikani.kairos.users.domains.models.entities.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +58,25 @@ public interface UserRepository {
      */
     List<User> findByEnabledTrue();
     
+    /**
+     * ユーザーIDまたはメールアドレスのいずれかが一致するユーザーをまとめて取得
+     * 一括登録時の重複チェックを1回の問い合わせで行うために使用
+     * 
+     * @param userIds ユーザーIDの一覧
+     * @param emails メールアドレスの一覧（大文字小文字区別なし）
+     * @return いずれかが一致したユーザーのリスト
+     */
+    List<User> findByUserIdInOrEmailIn(Collection<String> userIds, Collection<String> emails);
+    
+    /**
+     * 新規ユーザーをまとめて保存
+     * ユーザーIDまたはメールアドレスが既存のユーザーと重複するものは保存せずに読み飛ばす
+     * 
+     * @param users 保存する新規ユーザー（IDはnull）
+     * @return 実際に保存されたユーザー（IDが自動採番される）
+     */
+    List<User> saveAllNew(List<User> users);
+    
     /**
      * ユーザーIDが既に存在するかチェック
      * 
@@ -0,0 +1,140 @@
+package com.github.okanikani.kairos.users.others.controllers;
+
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ユーザー一括登録のCSVを登録リクエストの一覧に変換する
+ *
+ * 1行目はヘッダー行で、列の並びは自由（userId, username, email, password は必須、role は任意）。
+ * 値はダブルクォートで囲むとカンマや改行を含められる（"" はダブルクォート1文字）。
+ * 空行は読み飛ばす。
+ *
+ * 例:
+ * userId,username,email,password,role
+ * yamada-taro,山田 太郎,taro@example.com,Passw0rd!,USER
+ */
+final class RegisterRequestCsvParser {
+
+    // Excelで保存したCSVの先頭に付くバイト順マーク
+    private static final String BOM = "\uFEFF";
+
+    private static final String USER_ID = "userid";
+    private static final String USERNAME = "username";
+    private static final String EMAIL = "email";
+    private static final String PASSWORD = "password";
+    private static final String ROLE = "role";
+    private static final List<String> REQUIRED_COLUMNS = List.of(USER_ID, USERNAME, EMAIL, PASSWORD);
+
+    private RegisterRequestCsvParser() {
+    }
+
+    /**
+     * CSVを登録リクエストの一覧に変換
+     *
+     * @param csv CSV文字列
+     * @return 登録リクエストの一覧（データ行の順）
+     * @throws ValidationException ヘッダー行に必須の列がない、またはクォートが閉じられていない場合
+     */
+    static List<RegisterRequest> parse(String csv) {
+        Objects.requireNonNull(csv, "csvは必須です");
+
+        List<List<String>> records = readRecords(csv.startsWith(BOM) ? csv.substring(1) : csv);
+        if (records.isEmpty()) {
+            throw new ValidationException("CSVにヘッダー行がありません");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new ValidationException("CSVのヘッダー行に必須の列がありません: " + required);
+            }
+        }
+
+        List<RegisterRequest> requests = new ArrayList<>(records.size() - 1);
+        for (List<String> record : records.subList(1, records.size())) {
+            requests.add(new RegisterRequest(
+                value(record, columns.get(USER_ID)),
+                value(record, columns.get(USERNAME)),
+                value(record, columns.get(EMAIL)),
+                value(record, columns.get(PASSWORD)),
+                value(record, columns.get(ROLE))
+            ));
+        }
+        return requests;
+    }
+
+    private static String value(List<String> record, Integer column) {
+        if (column == null || column >= record.size()) {
+            return null;
+        }
+        String value = record.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<List<String>> readRecords(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int line = 1;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                line++;
+                endRecord(records, fields, field);
+                fields = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ValidationException("CSVのダブルクォートが閉じられていません（" + line + "行目）");
+        }
+        endRecord(records, fields, field);
+        return records;
+    }
+
+    private static void endRecord(List<List<String>> records, List<String> fields, StringBuilder field) {
+        fields.add(field.toString());
+        field.setLength(0);
+        // 空行は読み飛ばす
+        if (fields.size() > 1 || !fields.get(0).isBlank()) {
+            records.add(fields);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.okanikani.kairos.users.others.controllers;
+
+import com.github.okanikani.kairos.security.AdminAuthorization;
+import com.github.okanikani.kairos.users.applications.usecases.BulkRegisterUsersUseCase;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ユーザー一括登録API
+ *
+ * 取引先の従業員をまとめて登録するため、管理者のみ利用できる
+ * 不正な行や重複した行があっても他の行は登録し、行ごとの結果を返す
+ */
+@RestController
+@RequestMapping("/api/users")
+public class UserOnboardingController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final BulkRegisterUsersUseCase bulkRegisterUsersUseCase;
+
+    public UserOnboardingController(BulkRegisterUsersUseCase bulkRegisterUsersUseCase) {
+        this.bulkRegisterUsersUseCase = Objects.requireNonNull(bulkRegisterUsersUseCase, "bulkRegisterUsersUseCaseは必須です");
+    }
+
+    /**
+     * ユーザー一括登録（JSON配列）
+     *
+     * @param requests 登録リクエストの一覧
+     * @param authentication 認証情報
+     * @return 行ごとの登録結果
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkRegisterResponse> bulkRegister(
+            @RequestBody List<RegisterRequest> requests,
+            Authentication authentication) {
+        requireAdmin(authentication);
+        return ResponseEntity.ok(bulkRegisterUsersUseCase.execute(requests));
+    }
+
+    /**
+     * ユーザー一括登録（CSV）
+     *
+     * 1行目はヘッダー行（userId, username, email, password, role）
+     *
+     * @param csv CSV文字列
+     * @param authentication 認証情報
+     * @return 行ごとの登録結果（行番号はヘッダー行を除いたデータ行の番号）
+     */
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<BulkRegisterResponse> bulkRegisterCsv(
+            @RequestBody String csv,
+            Authentication authentication) {
+        requireAdmin(authentication);
+        return ResponseEntity.ok(bulkRegisterUsersUseCase.execute(RegisterRequestCsvParser.parse(csv)));
+    }
+
+    private void requireAdmin(Authentication authentication) {
+        AdminAuthorization.requireAdmin(authentication, "ユーザーの一括登録は管理者のみ実行できます");
+    }
+}
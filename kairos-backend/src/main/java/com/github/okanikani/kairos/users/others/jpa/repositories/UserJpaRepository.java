@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,26 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
      */
     List<UserJpaEntity> findByEnabledTrue();
     
+    /**
+     * ユーザーIDまたはメールアドレス（大文字小文字区別なし）のいずれかが一致するユーザーを取得
+     *
+     * @param userIds ユーザーIDの一覧
+     * @param emails 小文字に揃えたメールアドレスの一覧
+     * @return いずれかが一致したユーザーのリスト
+     */
+    @Query("SELECT u FROM UserJpaEntity u WHERE u.userId IN :userIds OR LOWER(u.email) IN :emails")
+    List<UserJpaEntity> findByUserIdInOrLowerEmailIn(
+        @Param("userIds") Collection<String> userIds,
+        @Param("emails") Collection<String> emails);
+
+    /**
+     * ユーザーIDの一覧に一致するユーザーを取得
+     *
+     * @param userIds ユーザーIDの一覧
+     * @return 見つかったユーザーのリスト
+     */
+    List<UserJpaEntity> findByUserIdIn(Collection<String> userIds);
+
     /**
      * ユーザーIDが既に存在するかチェック
      * 
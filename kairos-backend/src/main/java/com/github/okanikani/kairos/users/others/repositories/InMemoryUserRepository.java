@@ -85,6 +85,34 @@ public class InMemoryUserRepository implements UserRepository {
             .toList();
     }
     
+    @Override
+    public List<User> findByUserIdInOrEmailIn(Collection<String> userIds, Collection<String> emails) {
+        Objects.requireNonNull(userIds, "ユーザーIDの一覧は必須です");
+        Objects.requireNonNull(emails, "メールアドレスの一覧は必須です");
+
+        Set<String> userIdSet = new HashSet<>(userIds);
+        Set<String> emailSet = new HashSet<>();
+        emails.forEach(email -> emailSet.add(email.toLowerCase(Locale.ROOT)));
+        return users.values().stream()
+            .filter(user -> userIdSet.contains(user.userId())
+                || emailSet.contains(user.email().toLowerCase(Locale.ROOT)))
+            .toList();
+    }
+
+    @Override
+    public synchronized List<User> saveAllNew(List<User> newUsers) {
+        Objects.requireNonNull(newUsers, "ユーザーの一覧は必須です");
+
+        List<User> saved = new ArrayList<>(newUsers.size());
+        for (User user : newUsers) {
+            if (existsByUserId(user.userId()) || existsByEmail(user.email())) {
+                continue;
+            }
+            saved.add(save(user));
+        }
+        return saved;
+    }
+
     @Override
     public boolean existsByUserId(String userId) {
         Objects.requireNonNull(userId, "ユーザーIDは必須です");
@@ -1,29 +1,54 @@
 package com.github.okanikani.kairos.users.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
 import com.github.okanikani.kairos.users.domains.models.entities.User;
 import com.github.okanikani.kairos.users.domains.models.repositories.UserRepository;
 import com.github.okanikani.kairos.users.others.jpa.entities.UserJpaEntity;
 import com.github.okanikani.kairos.users.others.jpa.repositories.UserJpaRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * JPAユーザーリポジトリ実装
  * PostgreSQLデータベースを使用した永続化
+ * 書き込み時は他インスタンスのキャッシュを無効化するよう同じトランザクションで通知する
  */
 @Repository
 @ConditionalOnProperty(name = "kairos.repositories.type", havingValue = "jpa")
 public class JpaUserRepository implements UserRepository {
     
+    // 一括登録のINSERT文。ユーザーID・メールアドレスの一意制約に違反する行は読み飛ばす
+    // （重複チェックの後に他のリクエストで登録された場合でも一括登録全体を失敗させないため）
+    static final String INSERT_USER_SQL = """
+        INSERT INTO users (user_id, username, email, hashed_password, role, enabled, created_at, last_login_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    // 1回のJDBCバッチで送信する行数
+    static final int INSERT_BATCH_SIZE = 500;
+
     private final UserJpaRepository userJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
     
-    public JpaUserRepository(UserJpaRepository userJpaRepository) {
+    public JpaUserRepository(UserJpaRepository userJpaRepository, JdbcTemplate jdbcTemplate,
+                             CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.userJpaRepository = Objects.requireNonNull(userJpaRepository, "userJpaRepositoryは必須です");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplateは必須です");
+        this.cacheInvalidationPublisher = Objects.requireNonNull(cacheInvalidationPublisher, "cacheInvalidationPublisherは必須です");
     }
     
     @Override
@@ -33,6 +58,7 @@ public class JpaUserRepository implements UserRepository {
         
         UserJpaEntity entity = UserJpaEntity.fromDomain(user);
         UserJpaEntity savedEntity = userJpaRepository.save(entity);
+        cacheInvalidationPublisher.publish(CacheNames.USERS, savedEntity.getUserId());
         return savedEntity.toDomain();
     }
     
@@ -79,6 +105,60 @@ public class JpaUserRepository implements UserRepository {
             .toList();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findByUserIdInOrEmailIn(Collection<String> userIds, Collection<String> emails) {
+        Objects.requireNonNull(userIds, "ユーザーIDの一覧は必須です");
+        Objects.requireNonNull(emails, "メールアドレスの一覧は必須です");
+        if (userIds.isEmpty() && emails.isEmpty()) {
+            return List.of();
+        }
+        
+        List<String> lowerEmails = emails.stream()
+            .map(email -> email.toLowerCase(Locale.ROOT))
+            .toList();
+        return userJpaRepository.findByUserIdInOrLowerEmailIn(userIds, lowerEmails).stream()
+            .map(UserJpaEntity::toDomain)
+            .toList();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * IDがIDENTITY採番のためHibernateではINSERTをバッチにできない。JDBCのバッチで直接INSERTし、
+     * 保存後にユーザーIDで読み直して採番されたIDを取得する。
+     * 読み直した行のハッシュ化済みパスワード（ソルトを含むため行ごとに異なる）が一致するものを、
+     * このメソッドで保存できた行と判定する。
+     */
+    @Override
+    @Transactional
+    public List<User> saveAllNew(List<User> users) {
+        Objects.requireNonNull(users, "ユーザーの一覧は必須です");
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, INSERT_BATCH_SIZE, (statement, user) -> {
+            statement.setString(1, user.userId());
+            statement.setString(2, user.username());
+            statement.setString(3, user.email());
+            statement.setString(4, user.hashedPassword());
+            statement.setString(5, user.role().name());
+            statement.setBoolean(6, user.enabled());
+            statement.setTimestamp(7, Timestamp.valueOf(user.createdAt()));
+            statement.setTimestamp(8, user.lastLoginAt() == null ? null : Timestamp.valueOf(user.lastLoginAt()));
+        });
+        
+        Map<String, String> hashedPasswords = new HashMap<>();
+        users.forEach(user -> hashedPasswords.put(user.userId(), user.hashedPassword()));
+        List<User> saved = userJpaRepository.findByUserIdIn(hashedPasswords.keySet()).stream()
+            .filter(entity -> entity.getHashedPassword().equals(hashedPasswords.get(entity.getUserId())))
+            .map(UserJpaEntity::toDomain)
+            .toList();
+        cacheInvalidationPublisher.publishAll(CacheNames.USERS, saved.stream().map(User::userId).toList());
+        return saved;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public boolean existsByUserId(String userId) {
@@ -100,6 +180,8 @@ public class JpaUserRepository implements UserRepository {
     public void deleteById(Long id) {
         Objects.requireNonNull(id, "IDは必須です");
         
+        userJpaRepository.findById(id).ifPresent(entity ->
+            cacheInvalidationPublisher.publish(CacheNames.USERS, entity.getUserId()));
         userJpaRepository.deleteById(id);
     }
     
@@ -109,6 +191,7 @@ public class JpaUserRepository implements UserRepository {
         Objects.requireNonNull(userId, "ユーザーIDは必須です");
         
         userJpaRepository.deleteByUserId(userId);
+        cacheInvalidationPublisher.publish(CacheNames.USERS, userId);
     }
     
     @Override
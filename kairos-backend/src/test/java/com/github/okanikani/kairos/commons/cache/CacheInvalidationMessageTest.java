@@ -0,0 +1,46 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheInvalidationMessageTest {
+
+    @Test
+    void parse_toPayloadの結果_元の通知に戻る() {
+        // Arrange
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-1", CacheNames.WORK_RULES, "user001");
+
+        // Act
+        CacheInvalidationMessage parsed = CacheInvalidationMessage.parse(message.toPayload());
+
+        // Assert
+        assertEquals("node-1|workRules|user001", message.toPayload());
+        assertEquals(message, parsed);
+    }
+
+    @Test
+    void parse_区切り文字を含むユーザーID_ユーザーIDとして復元される() {
+        // Act
+        CacheInvalidationMessage parsed = CacheInvalidationMessage.parse("node-1|users|a|b");
+
+        // Assert
+        assertNotNull(parsed);
+        assertEquals("a|b", parsed.userId());
+    }
+
+    @Test
+    void parse_不正な形式_nullを返す() {
+        // Act & Assert
+        assertNull(CacheInvalidationMessage.parse(null));
+        assertNull(CacheInvalidationMessage.parse("node-1|users"));
+        assertNull(CacheInvalidationMessage.parse("|users|user001"));
+    }
+
+    @Test
+    void constructor_区切り文字を含むキャッシュ名_IllegalArgumentExceptionが発生する() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> new CacheInvalidationMessage("node-1", "work|rules", "user001"));
+    }
+}
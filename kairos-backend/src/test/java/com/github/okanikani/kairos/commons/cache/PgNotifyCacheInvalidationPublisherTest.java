@@ -0,0 +1,104 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import com.github.okanikani.kairos.commons.config.CacheInvalidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PgNotifyCacheInvalidationPublisherTest {
+
+    @Mock
+    private ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jdbcTemplateProvider.getIfAvailable()).thenReturn(jdbcTemplate);
+    }
+
+    @Test
+    void publish_有効時_設定したチャンネルにノードID付きのペイロードで通知する() {
+        // Arrange
+        PgNotifyCacheInvalidationPublisher publisher = new PgNotifyCacheInvalidationPublisher(
+            jdbcTemplateProvider, properties(true));
+
+        // Act
+        publisher.publish(CacheNames.WORK_RULES, "user001");
+
+        // Assert
+        verify(jdbcTemplate).query(eq(PgNotifyCacheInvalidationPublisher.NOTIFY_SQL), any(ResultSetExtractor.class),
+            eq("test_channel"), eq(publisher.nodeId() + "|workRules|user001"));
+    }
+
+    @Test
+    void publishAll_重複したユーザーID_1回の問い合わせで重複を除いて通知する() {
+        // Arrange
+        PgNotifyCacheInvalidationPublisher publisher = new PgNotifyCacheInvalidationPublisher(
+            jdbcTemplateProvider, properties(true));
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+
+        // Act
+        publisher.publishAll(CacheNames.USERS, List.of("user001", "user002", "user001"));
+
+        // Assert
+        verify(jdbcTemplate).query(eq(PgNotifyCacheInvalidationPublisher.NOTIFY_ALL_SQL), any(ResultSetExtractor.class),
+            eq("test_channel"), payloads.capture());
+        assertArrayEquals(new String[] {
+            publisher.nodeId() + "|users|user001", publisher.nodeId() + "|users|user002"
+        }, (String[]) payloads.getValue());
+    }
+
+    @Test
+    void publish_無効時_通知しない() {
+        // Arrange
+        PgNotifyCacheInvalidationPublisher publisher = new PgNotifyCacheInvalidationPublisher(
+            jdbcTemplateProvider, properties(false));
+
+        // Act
+        publisher.publish(CacheNames.WORK_RULES, "user001");
+        publisher.publishAll(CacheNames.USERS, List.of("user001"));
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void publish_JdbcTemplateが無い環境_何もしない() {
+        // Arrange
+        when(jdbcTemplateProvider.getIfAvailable()).thenReturn(null);
+        PgNotifyCacheInvalidationPublisher publisher = new PgNotifyCacheInvalidationPublisher(
+            jdbcTemplateProvider, properties(true));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> publisher.publish(CacheNames.WORK_RULES, "user001"));
+        verify(jdbcTemplate, never()).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+    }
+
+    @Test
+    void properties_識別子として使えないチャンネル名_IllegalArgumentExceptionが発生する() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> new CacheInvalidationProperties(true, "cache; DROP TABLE users", null, null));
+    }
+
+    private static CacheInvalidationProperties properties(boolean enabled) {
+        return new CacheInvalidationProperties(enabled, "test_channel", Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import com.github.okanikani.kairos.commons.config.CacheInvalidationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PostgresCacheInvalidationListenerTest {
+
+    @Mock
+    private ObjectProvider<CacheInvalidationSubscriber> subscriberProvider;
+
+    @Mock
+    private ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+
+    @Mock
+    private CacheInvalidationSubscriber workRules;
+
+    @Mock
+    private CacheInvalidationSubscriber reportCreationRules;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PgNotifyCacheInvalidationPublisher publisher;
+    private PostgresCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(workRules.cacheName()).thenReturn(CacheNames.WORK_RULES);
+        when(reportCreationRules.cacheName()).thenReturn(CacheNames.REPORT_CREATION_RULES);
+        when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.of(workRules, reportCreationRules));
+
+        meterRegistry = new SimpleMeterRegistry();
+        CacheInvalidationProperties properties = CacheInvalidationProperties.defaultSettings();
+        publisher = new PgNotifyCacheInvalidationPublisher(jdbcTemplateProvider, properties);
+        listener = new PostgresCacheInvalidationListener(new DataSourceProperties(), properties,
+            subscriberProvider, publisher, meterRegistry);
+    }
+
+    @Test
+    void handle_他ノードからの通知_キャッシュ名が一致するエントリのみ無効化する() {
+        // Act
+        listener.handle("other-node|workRules|user001");
+
+        // Assert
+        verify(workRules).evict("user001");
+        verify(reportCreationRules, never()).evict(anyString());
+        assertEquals(1.0, meterRegistry.get(PostgresCacheInvalidationListener.INVALIDATIONS_RECEIVED).counter().count());
+    }
+
+    @Test
+    void handle_自ノードからの通知_書き込み時に無効化済みのため読み飛ばす() {
+        // Act
+        listener.handle(publisher.nodeId() + "|workRules|user001");
+
+        // Assert
+        verify(workRules, never()).evict(anyString());
+        assertEquals(0.0, meterRegistry.get(PostgresCacheInvalidationListener.INVALIDATIONS_RECEIVED).counter().count());
+    }
+
+    @Test
+    void handle_不正なペイロード_例外を出さずに読み飛ばす() {
+        // Act & Assert
+        assertDoesNotThrow(() -> listener.handle("broken"));
+        verify(workRules, never()).evict(anyString());
+    }
+
+    @Test
+    void flushAll_全キャッシュの全エントリを無効化する() {
+        // Act
+        listener.flushAll();
+
+        // Assert
+        verify(workRules).evictAll();
+        verify(reportCreationRules).evictAll();
+        assertEquals(1.0, meterRegistry.get(PostgresCacheInvalidationListener.INVALIDATION_FLUSHES).counter().count());
+    }
+}
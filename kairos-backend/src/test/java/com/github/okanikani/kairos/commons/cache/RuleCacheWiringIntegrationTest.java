@@ -0,0 +1,56 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import com.github.okanikani.kairos.reportcreationrules.domains.models.repositories.ReportCreationRuleRepository;
+import com.github.okanikani.kairos.reportcreationrules.others.repositories.CachingReportCreationRuleRepository;
+import com.github.okanikani.kairos.reportcreationrules.others.repositories.InMemoryReportCreationRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.repositories.DefaultWorkRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
+import com.github.okanikani.kairos.rules.others.repositories.CachingDefaultWorkRuleRepository;
+import com.github.okanikani.kairos.rules.others.repositories.CachingWorkRuleRepository;
+import com.github.okanikani.kairos.rules.others.repositories.InMemoryWorkRuleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 勤怠ルールキャッシュ有効時のBean構成テスト
+ * キャッシュ付き実装が優先され、プロファイルごとの実装はそのまま注入できることを検証
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@TestPropertySource(properties = {
+    "jwt.secret=test-secret-key-for-integration-testing-must-be-at-least-256-bits",
+    "jwt.expiration=86400000",
+    "kairos.rules.cache.enabled=true"
+})
+@DisplayName("勤怠ルールキャッシュのBean構成テスト")
+class RuleCacheWiringIntegrationTest {
+
+    @Autowired
+    private WorkRuleRepository workRuleRepository;
+
+    @Autowired
+    private DefaultWorkRuleRepository defaultWorkRuleRepository;
+
+    @Autowired
+    private ReportCreationRuleRepository reportCreationRuleRepository;
+
+    @Autowired
+    private InMemoryWorkRuleRepository inMemoryWorkRuleRepository;
+
+    @Autowired
+    private InMemoryReportCreationRuleRepository inMemoryReportCreationRuleRepository;
+
+    @Test
+    @DisplayName("キャッシュ有効時はインターフェース型の注入先にキャッシュ付き実装が使われる")
+    void キャッシュ有効時はキャッシュ付き実装が注入される() {
+        assertInstanceOf(CachingWorkRuleRepository.class, workRuleRepository);
+        assertInstanceOf(CachingDefaultWorkRuleRepository.class, defaultWorkRuleRepository);
+        assertInstanceOf(CachingReportCreationRuleRepository.class, reportCreationRuleRepository);
+        assertNotNull(inMemoryWorkRuleRepository);
+        assertNotNull(inMemoryReportCreationRuleRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.okanikani.kairos.commons.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserScopedCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private UserScopedCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        cache = new UserScopedCache<>("test", 2, Duration.ofMinutes(1), meterRegistry, now::get);
+    }
+
+    @Test
+    void get_正常ケース_2回目以降はローダーを呼ばずヒットとして記録される() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = cache.get("user001", () -> "rules-" + loads.incrementAndGet());
+        String second = cache.get("user001", () -> "rules-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("rules-1", first);
+        assertEquals("rules-1", second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("kairos.cache.gets").tag("cache", "test").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("kairos.cache.gets").tag("cache", "test").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_正常ケース_nullの結果もキャッシュされる() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get("user001", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        String result = cache.get("user001", () -> "unexpected");
+
+        // Assert
+        assertNull(result);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_境界値ケース_有効期限切れのエントリは読み直される() {
+        // Arrange
+        cache.get("user001", () -> "old");
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // Act
+        String result = cache.get("user001", () -> "new");
+
+        // Assert
+        assertEquals("new", result);
+    }
+
+    @Test
+    void get_境界値ケース_上限を超えると最も長く参照されていないユーザーが追い出される() {
+        // Arrange
+        cache.get("user001", () -> "a");
+        cache.get("user002", () -> "b");
+        cache.get("user001", () -> "unexpected"); // user001を最近参照済みにする
+
+        // Act
+        cache.get("user003", () -> "c");
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get("user001", () -> "reloaded"));
+        assertEquals("reloaded", cache.get("user002", () -> "reloaded"));
+        assertEquals(2.0, meterRegistry.get("kairos.cache.evictions").tag("cache", "test").counter().count());
+    }
+
+    @Test
+    void invalidate_正常ケース_対象ユーザーのみ読み直される() {
+        // Arrange
+        cache.get("user001", () -> "a");
+        cache.get("user002", () -> "b");
+
+        // Act
+        cache.invalidate("user001");
+
+        // Assert
+        assertEquals("a2", cache.get("user001", () -> "a2"));
+        assertEquals("b", cache.get("user002", () -> "unexpected"));
+    }
+
+    @Test
+    void invalidate_異常ケース_読み込み中に無効化された値は格納されない() {
+        // Act: ローダー実行中に別スレッドの書き込みで無効化された状況を再現
+        String loaded = cache.get("user001", () -> {
+            cache.invalidate("user001");
+            return "stale";
+        });
+
+        // Assert
+        assertEquals("stale", loaded);
+        assertEquals(0, cache.size());
+        assertEquals("fresh", cache.get("user001", () -> "fresh"));
+    }
+
+    @Test
+    void constructor_異常ケース_上限が0以下の場合は例外が発生する() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new UserScopedCache<String>("invalid", 0, Duration.ofMinutes(1), meterRegistry));
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryAcquire_上限に達している_取得できない() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+
+        // Act
+        boolean first = limit.tryAcquire();
+        boolean second = limit.tryAcquire();
+        boolean third = limit.tryAcquire();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2, limit.inFlight());
+    }
+
+    @Test
+    void release_返却後_再び取得できる() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 10);
+        limit.tryAcquire();
+
+        // Act
+        limit.release(FAST);
+
+        // Assert
+        assertEquals(0, limit.inFlight());
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void release_上限まで使用し応答時間が安定_上限を上げる() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            runSaturated(limit, FAST);
+        }
+
+        // Assert
+        assertTrue(limit.limit() > 10, "上限: " + limit.limit());
+    }
+
+    @Test
+    void release_応答時間が長くなった_上限を下げる() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 2, 20);
+        for (int i = 0; i < 100; i++) {
+            runSaturated(limit, FAST);
+        }
+        int before = limit.limit();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            runSaturated(limit, SLOW);
+        }
+
+        // Assert
+        assertTrue(limit.limit() < before, "変更前: " + before + ", 変更後: " + limit.limit());
+        assertTrue(limit.limit() >= 2);
+    }
+
+    @Test
+    void release_上限の半分未満しか使用していない_上限を変えない() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(i % 2 == 0 ? FAST : SLOW);
+        }
+
+        // Assert
+        assertEquals(10, limit.limit());
+    }
+
+    @Test
+    void release_上限の範囲外に調整される場合_最小値と最大値に制限する() {
+        // Arrange
+        AdaptiveConcurrencyLimit growing = new AdaptiveConcurrencyLimit(4, 2, 5);
+        AdaptiveConcurrencyLimit shrinking = new AdaptiveConcurrencyLimit(5, 3, 5);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            runSaturated(growing, FAST);
+            runSaturated(shrinking, FAST);
+        }
+        for (int i = 0; i < 20; i++) {
+            runSaturated(shrinking, SLOW * 10);
+        }
+
+        // Assert
+        assertEquals(5, growing.limit());
+        assertEquals(3, shrinking.limit());
+    }
+
+    @Test
+    void constructor_初期値が範囲外_例外が発生する() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(0, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(20, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 6, 10));
+    }
+
+    // 上限いっぱいまで処理枠を取得し、全て同じ応答時間で返却する
+    private static void runSaturated(AdaptiveConcurrencyLimit limit, long rttNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.okanikani.kairos.commons.config.ConcurrencyLimitProperties;
+import com.github.okanikani.kairos.commons.config.ConcurrencyLimitProperties.EndpointClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void doFilter_上限に達した分類_503とRetryAfterを返し拒否数を記録する() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter(true);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<?> inFlight = executor.submit(() -> {
+                filter.doFilter(request("POST", "/api/reports/generate"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    awaitQuietly(release);
+                });
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // Act
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("POST", "/api/reports/generate"), rejected, chain);
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(503, rejected.getStatus());
+            assertEquals("2", rejected.getHeader("Retry-After"));
+            assertTrue(rejected.getContentAsString().contains(ConcurrencyLimitFilter.ERROR_CODE));
+            assertNull(chain.getRequest(), "拒否したリクエストは後続に渡さない");
+            assertEquals(1.0, meterRegistry.get(ConcurrencyLimitFilter.REJECTED)
+                .tag(ConcurrencyLimitFilter.TAG_CLASS, "report-generation").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doFilter_別の分類_上限の影響を受けない() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        FilterChain holding = (req, res) -> filter.doFilter(request("POST", "/api/locations"), response, chain);
+
+        // Act（勤怠表生成の処理枠を保持したまま位置情報を送信する）
+        filter.doFilter(request("POST", "/api/reports/generate"), new MockHttpServletResponse(), holding);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_どの分類にも一致しない_制限せずに通す() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        FilterChain holding = (req, res) -> filter.doFilter(request("GET", "/api/reports/generate"), response, chain);
+
+        // Act（同じパスでもメソッドが異なる場合は対象外）
+        filter.doFilter(request("POST", "/api/reports/generate"), new MockHttpServletResponse(), holding);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_無効設定_上限に関係なく通す() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        FilterChain holding = (req, res) -> filter.doFilter(request("POST", "/api/reports/generate"), response, chain);
+
+        // Act
+        filter.doFilter(request("POST", "/api/reports/generate"), new MockHttpServletResponse(), holding);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_処理後_上限と処理中の数をメトリクスに公開する() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = filter(true);
+
+        // Act
+        filter.doFilter(request("POST", "/api/locations"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals(10.0, meterRegistry.get(ConcurrencyLimitFilter.LIMIT)
+            .tag(ConcurrencyLimitFilter.TAG_CLASS, "ingest").gauge().value());
+        assertEquals(0.0, meterRegistry.get(ConcurrencyLimitFilter.IN_FLIGHT)
+            .tag(ConcurrencyLimitFilter.TAG_CLASS, "ingest").gauge().value());
+    }
+
+    private ConcurrencyLimitFilter filter(boolean enabled) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(enabled, Duration.ofMillis(1500), Map.of(
+            "report-generation", new EndpointClass(List.of("POST /api/reports/generate"), 1, 1, 1),
+            "ingest", new EndpointClass(List.of("POST /api/locations"), 10, 1, 20)
+        ));
+        return new ConcurrencyLimitFilter(properties, meterRegistry, objectMapper);
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_同一キーの同時実行_処理は1回で結果を共有する() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                return "result-" + calls.incrementAndGet();
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "result-" + calls.incrementAndGet()));
+            waitUntilFollowerBlocked();
+            release.countDown();
+
+            // Assert
+            assertEquals("result-1", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("result-1", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_先行処理で例外発生_後続にも同じ例外が伝わる() throws Exception {
+        // Arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("生成失敗");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                throw failure;
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+            waitUntilFollowerBlocked();
+            release.countDown();
+
+            // Assert
+            Exception leaderException = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerException = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertSame(failure, leaderException.getCause());
+            assertSame(failure, followerException.getCause());
+
+            // 失敗後は改めて実行できる
+            assertEquals("retry", singleFlight.execute("key", () -> "retry"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_異なるキー_それぞれ実行する() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String first = singleFlight.execute("key1", () -> "result-" + calls.incrementAndGet());
+        String second = singleFlight.execute("key2", () -> "result-" + calls.incrementAndGet());
+
+        // Assert
+        assertEquals("result-1", first);
+        assertEquals("result-2", second);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    /**
+     * 後続の呼び出しが先行処理の完了待ちに入るまで待つ
+     * 完了待ちに入ったかは外部から観測できないため、短時間待ってから先行処理を再開する
+     */
+    private void waitUntilFollowerBlocked() throws InterruptedException {
+        Thread.sleep(100);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.okanikani.kairos.commons.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketsTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    void tryAcquire_容量まで_取得できる() {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(3, Duration.ofMinutes(1), Duration.ofMinutes(15));
+
+        // Act & Assert
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user1"));
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user1"));
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user1"));
+        assertFalse(buckets.isLocked("user1"));
+    }
+
+    @Test
+    void tryAcquire_使い切った後に取得_ロックしてロック時間を返す() {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(2, Duration.ofMinutes(1), Duration.ofMinutes(15));
+        buckets.tryAcquire("user1");
+        buckets.tryAcquire("user1");
+
+        // Act
+        Duration wait = buckets.tryAcquire("user1");
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        Duration remaining = buckets.tryAcquire("user1");
+
+        // Assert
+        assertEquals(Duration.ofMinutes(15), wait);
+        assertEquals(Duration.ofMinutes(10), remaining, "ロック中は補充されない");
+        assertTrue(buckets.isLocked("user1"));
+    }
+
+    @Test
+    void tryAcquire_ロック期間経過後_満タンの状態から再開する() {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(2, Duration.ofMinutes(1), Duration.ofMinutes(15));
+        buckets.tryAcquire("user1");
+        buckets.tryAcquire("user1");
+        buckets.tryAcquire("user1");
+
+        // Act
+        clock.addAndGet(Duration.ofMinutes(15).toMillis());
+
+        // Assert
+        assertFalse(buckets.isLocked("user1"));
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user1"));
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user1"));
+    }
+
+    @Test
+    void tryAcquire_時間経過_補充された分だけ取得できる() {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(2, Duration.ofSeconds(10), Duration.ofMinutes(15));
+        buckets.tryAcquire("user1");
+        buckets.tryAcquire("user1");
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(10).toMillis());
+        Duration refilled = buckets.tryAcquire("user1");
+
+        // Assert
+        assertEquals(Duration.ZERO, refilled);
+        assertFalse(buckets.tryAcquire("user1").isZero());
+    }
+
+    @Test
+    void tryAcquire_ロック時間がゼロ_補充までの時間を返しロックしない() {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(1, Duration.ofSeconds(10), Duration.ZERO);
+        buckets.tryAcquire("user1");
+        clock.addAndGet(Duration.ofSeconds(4).toMillis());
+
+        // Act
+        Duration wait = buckets.tryAcquire("user1");
+
+        // Assert
+        assertEquals(Duration.ofSeconds(6), wait);
+        assertFalse(buckets.isLocked("user1"));
+    }
+
+    @Test
+    void tryAcquire_異なるキー_互いに影響しない() {
+        // Arrange
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 1, Duration.ofMinutes(1), Duration.ofMinutes(15), clock::get);
+        buckets.tryAcquire("user1");
+        buckets.tryAcquire("user1");
+
+        // Act & Assert
+        assertTrue(buckets.isLocked("user1"));
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user2"));
+    }
+
+    @Test
+    void reset_ロック中_ロックを解除して満タンに戻す() {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(1, Duration.ofMinutes(1), Duration.ofMinutes(15));
+        buckets.tryAcquire("user1");
+        buckets.tryAcquire("user1");
+
+        // Act
+        buckets.reset("user1");
+
+        // Assert
+        assertFalse(buckets.isLocked("user1"));
+        assertEquals(Duration.ZERO, buckets.tryAcquire("user1"));
+    }
+
+    @Test
+    void tryAcquire_同時に取得_容量を超えて取得されない() throws Exception {
+        // Arrange
+        StripedTokenBuckets buckets = buckets(50, Duration.ofHours(1), Duration.ofMinutes(15));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                int acquired = 0;
+                for (int j = 0; j < 20; j++) {
+                    if (buckets.tryAcquire("user1").isZero()) {
+                        acquired++;
+                    }
+                }
+                return acquired;
+            });
+        }
+
+        try {
+            // Act
+            int total = 0;
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                total += future.get();
+            }
+
+            // Assert
+            assertEquals(50, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void constructor_配列の長さが2の累乗でない_例外が発生する() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> new StripedTokenBuckets(1000, 1, Duration.ofMinutes(1), Duration.ZERO, clock::get));
+        assertThrows(IllegalArgumentException.class,
+            () -> new StripedTokenBuckets(1024, StripedTokenBuckets.MAX_CAPACITY + 1, Duration.ofMinutes(1), Duration.ZERO, clock::get));
+    }
+
+    private StripedTokenBuckets buckets(int capacity, Duration refillPeriod, Duration lockout) {
+        return new StripedTokenBuckets(64, capacity, refillPeriod, lockout, clock::get);
+    }
+}
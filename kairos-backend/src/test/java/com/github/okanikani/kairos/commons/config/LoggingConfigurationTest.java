@@ -0,0 +1,83 @@
+package com.github.okanikani.kairos.commons.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.github.okanikani.kairos.commons.monitoring.QueryBudgetMonitor;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LoggingConfigurationのUnit Test
+ *
+ * テスト対象: MDCを消去する前に、SQL発行数などの集計値を持つ完了ログを出力すること
+ */
+class LoggingConfigurationTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingConfiguration.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Filter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        QueryBudgetMonitor queryBudgetMonitor = new QueryBudgetMonitor(
+            new QueryBudgetProperties(false, 50, Map.of()));
+        filter = new LoggingConfiguration().mdcFilter(queryBudgetMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    void doFilter_リクエスト完了_集計値をMDCに持つ完了ログを出力する() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports/2024/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> ((MockHttpServletResponse) res).setStatus(200));
+
+        // Assert
+        assertThat(appender.list).hasSize(1);
+        Map<String, String> mdc = appender.list.get(0).getMDCPropertyMap();
+        assertThat(mdc).containsEntry("httpMethod", "GET")
+            .containsEntry("requestPath", "/api/reports/2024/1")
+            .containsEntry("queryCount", "0")
+            .containsEntry("jdbcTimeMs", "0")
+            .containsEntry("connectionCount", "0")
+            .containsKey("requestId");
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("status=200", "queryCount=0");
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    void doFilter_処理中に例外_完了ログを出力してからMDCを消去する() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/locations");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act & Assert
+        assertThatThrownBy(() -> filter.doFilter(request, response, (req, res) -> {
+            throw new IllegalStateException("処理失敗");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getMDCPropertyMap()).containsEntry("queryCount", "0");
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+}
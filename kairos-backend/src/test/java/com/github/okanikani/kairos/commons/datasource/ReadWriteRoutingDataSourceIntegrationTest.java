@@ -0,0 +1,129 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 主データベースとレプリカの振り分けの統合テスト
+ *
+ * 2つのPostgreSQLを主データベース・レプリカに見立て、それぞれに異なる値を入れた同名のテーブルを用意し、
+ * トランザクションのreadOnly設定に応じてどちらから読み取ったかを確認する。
+ * レプリケーションは構成しないため、レプリカ側の遅延は常に0として扱われる。
+ */
+@Testcontainers
+@DisplayName("ReadWriteRoutingDataSource統合テスト")
+class ReadWriteRoutingDataSourceIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> primaryPostgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static PostgreSQLContainer<?> replicaPostgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = dataSource(primaryPostgres);
+        replica = dataSource(replicaPostgres);
+        new JdbcTemplate(primary).execute("DROP TABLE IF EXISTS node; CREATE TABLE node (name text); INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).execute("DROP TABLE IF EXISTS node; CREATE TABLE node (name text); INSERT INTO node VALUES ('replica')");
+
+        replicaLagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replica), Duration.ofSeconds(5));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyトランザクション_レプリカから読み取る() {
+        // Arrange
+        replicaLagMonitor.check();
+
+        // Act
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Assert
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void 書き込みトランザクション_主データベースで読み書きする() {
+        // Arrange
+        replicaLagMonitor.check();
+
+        // Act
+        String node = writeTransaction.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET name = 'primary-updated'");
+            return currentNode();
+        });
+
+        // Assert
+        assertThat(node).isEqualTo("primary-updated");
+        assertThat(new JdbcTemplate(replica).queryForObject("SELECT name FROM node", String.class)).isEqualTo("replica");
+    }
+
+    @Test
+    void レプリカ停止_readOnlyトランザクションも主データベースから読み取る() {
+        // Arrange
+        replicaLagMonitor.check();
+        replica.close();
+        replicaLagMonitor.check();
+
+        // Act
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Assert
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static HikariDataSource dataSource(PostgreSQLContainer<?> postgres) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReadWriteRoutingDataSourceのUnit Test
+ *
+ * テスト対象: トランザクションのreadOnly設定とレプリカの遅延に応じた振り分け
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private Connection connection;
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_readOnlyトランザクション_レプリカから取得する() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection result = dataSource.getConnection();
+
+        // Assert
+        assertThat(result).isSameAs(connection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void getConnection_書き込みトランザクション_主データベースから取得する() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection result = dataSource.getConnection();
+
+        // Assert
+        assertThat(result).isSameAs(connection);
+        verifyNoInteractions(replica, replicaLagMonitor);
+    }
+
+    @Test
+    void getConnection_レプリカの遅延が許容値超過_readOnlyでも主データベースから取得する() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection result = dataSource.getConnection();
+
+        // Assert
+        assertThat(result).isSameAs(connection);
+        verifyNoInteractions(replica);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaLagMonitorのUnit Test
+ *
+ * テスト対象: レプリケーション遅延による振り分け可否の判定
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(jdbcTemplate, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void check_遅延が許容値以内_レプリカへ振り分ける() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class)).thenReturn(5_000L);
+
+        // Act & Assert
+        assertThat(monitor.check()).isTrue();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void check_遅延が許容値超過_主データベースへ戻す() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class)).thenReturn(0L, 5_001L);
+        monitor.check();
+
+        // Act & Assert
+        assertThat(monitor.check()).isFalse();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void check_WAL受信が停止し遅延を判断できない_主データベースへ戻す() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class)).thenReturn(0L).thenReturn(null);
+        monitor.check();
+
+        // Act & Assert
+        assertThat(monitor.check()).isFalse();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void lagQuery_WAL受信プロセスの有無_受信済みWALの適用完了だけで遅延0としない() {
+        // Act & Assert
+        assertThat(ReplicaLagMonitor.LAG_QUERY)
+            .contains("pg_stat_wal_receiver")
+            .containsSubsequence("pg_stat_wal_receiver", "pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0");
+    }
+
+    @Test
+    void check_レプリカに接続できない_主データベースへ戻す() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class))
+            .thenReturn(0L)
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        monitor.check();
+
+        // Act & Assert
+        assertThat(monitor.check()).isFalse();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void isReplicaAvailable_確認前_振り分けない() {
+        // Act & Assert
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.okanikani.kairos.commons.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaReadTemplateのUnit Test
+ *
+ * テスト対象: レプリカへの振り分けが有効な場合のみ別のreadOnlyトランザクションで参照すること
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaReadTemplateTest {
+
+    @Mock
+    private ObjectProvider<ReplicaLagMonitor> replicaLagMonitorProvider;
+
+    @Mock
+    private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void read_レプリカが利用可能_REQUIRES_NEWのreadOnlyトランザクションで実行する() {
+        // Arrange
+        when(replicaLagMonitorProvider.getIfAvailable()).thenReturn(replicaLagMonitor);
+        when(transactionManagerProvider.getIfAvailable()).thenReturn(transactionManager);
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ReplicaReadTemplate template = new ReplicaReadTemplate(replicaLagMonitorProvider, transactionManagerProvider);
+
+        // Act
+        String result = template.read(() -> "locations");
+
+        // Assert
+        assertThat(result).isEqualTo("locations");
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void read_主データベース指定中_レプリカが利用可能でも呼び出し元のトランザクションで実行する() {
+        // Arrange
+        when(replicaLagMonitorProvider.getIfAvailable()).thenReturn(replicaLagMonitor);
+        when(transactionManagerProvider.getIfAvailable()).thenReturn(transactionManager);
+        ReplicaReadTemplate template = new ReplicaReadTemplate(replicaLagMonitorProvider, transactionManagerProvider);
+
+        // Act
+        String result = template.onPrimary(() -> template.read(() -> "locations"));
+
+        // Assert
+        assertThat(result).isEqualTo("locations");
+        verifyNoInteractions(transactionManager);
+        verifyNoInteractions(replicaLagMonitor);
+    }
+
+    @Test
+    void read_主データベース指定の終了後_再びレプリカで実行する() {
+        // Arrange
+        when(replicaLagMonitorProvider.getIfAvailable()).thenReturn(replicaLagMonitor);
+        when(transactionManagerProvider.getIfAvailable()).thenReturn(transactionManager);
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ReplicaReadTemplate template = new ReplicaReadTemplate(replicaLagMonitorProvider, transactionManagerProvider);
+        template.onPrimary(() -> "reports");
+
+        // Act
+        template.read(() -> "locations");
+
+        // Assert
+        verify(transactionManager).getTransaction(any());
+    }
+
+    @Test
+    void read_レプリカの遅延が許容値超過_呼び出し元のトランザクションで実行する() {
+        // Arrange
+        when(replicaLagMonitorProvider.getIfAvailable()).thenReturn(replicaLagMonitor);
+        when(transactionManagerProvider.getIfAvailable()).thenReturn(transactionManager);
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(false);
+        ReplicaReadTemplate template = new ReplicaReadTemplate(replicaLagMonitorProvider, transactionManagerProvider);
+
+        // Act
+        String result = template.read(() -> "locations");
+
+        // Assert
+        assertThat(result).isEqualTo("locations");
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void read_レプリカ未設定_呼び出し元のトランザクションで実行する() {
+        // Arrange
+        when(replicaLagMonitorProvider.getIfAvailable()).thenReturn(null);
+        when(transactionManagerProvider.getIfAvailable()).thenReturn(transactionManager);
+        ReplicaReadTemplate template = new ReplicaReadTemplate(replicaLagMonitorProvider, transactionManagerProvider);
+
+        // Act
+        String result = template.read(() -> "locations");
+
+        // Assert
+        assertThat(result).isEqualTo("locations");
+        verifyNoInteractions(transactionManager);
+    }
+}
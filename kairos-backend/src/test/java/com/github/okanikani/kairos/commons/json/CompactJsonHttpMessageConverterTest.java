@@ -0,0 +1,95 @@
+package com.github.okanikani.kairos.commons.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.commons.dto.ErrorResponse;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.PagedLocationResponse;
+import com.github.okanikani.kairos.locations.others.controllers.LocationResponseCompactWriter;
+import com.github.okanikani.kairos.locations.others.controllers.PagedLocationResponseCompactWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactJsonHttpMessageConverterTest {
+
+    private static final Type LOCATION_LIST = new ParameterizedTypeReference<List<LocationResponse>>() {}.getType();
+    private static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final LocationResponseCompactWriter locationWriter = new LocationResponseCompactWriter();
+    private final CompactJsonHttpMessageConverter converter = new CompactJsonHttpMessageConverter(
+        objectMapper, List.of(locationWriter, new PagedLocationResponseCompactWriter(locationWriter)));
+
+    @Test
+    void canWrite_コンパクト形式を指定した場合のみ登録済みDTOとそのコレクションを対象とする() {
+        // Act & Assert
+        assertThat(converter.canWrite(LOCATION_LIST, List.class, CompactJsonHttpMessageConverter.COMPACT_JSON)).isTrue();
+        assertThat(converter.canWrite(LocationResponse.class, LocationResponse.class, CompactJsonHttpMessageConverter.COMPACT_JSON)).isTrue();
+        assertThat(converter.canWrite(ErrorResponse.class, ErrorResponse.class, CompactJsonHttpMessageConverter.COMPACT_JSON)).isTrue();
+        assertThat(converter.canWrite(STRING_LIST, List.class, CompactJsonHttpMessageConverter.COMPACT_JSON)).isFalse();
+        assertThat(converter.canWrite(LocationResponse.class, LocationResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        // Accept から出力形式を決める段階では候補に加えない（Accept: */* でコンパクト形式を返さないため）
+        assertThat(converter.canWrite(LocationResponse.class, LocationResponse.class, null)).isFalse();
+        assertThat(converter.canRead(LocationResponse.class, CompactJsonHttpMessageConverter.COMPACT_JSON)).isFalse();
+    }
+
+    @Test
+    void write_位置情報の一覧_配列の配列で出力する() throws Exception {
+        // Arrange
+        List<LocationResponse> locations = List.of(
+            new LocationResponse(1L, 35.681236, 139.767125, LocalDateTime.of(2024, 1, 15, 9, 0)),
+            new LocationResponse(2L, 35.6895, 139.6917, LocalDateTime.of(2024, 1, 15, 9, 0, 30, 500_000_000)));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(locations, LOCATION_LIST, CompactJsonHttpMessageConverter.COMPACT_JSON, output);
+
+        // Assert
+        JSONAssert.assertEquals("""
+            [[1, 35.681236, 139.767125, "2024-01-15T09:00:00"],
+             [2, 35.6895, 139.6917, "2024-01-15T09:00:30.5"]]
+            """, output.getBodyAsString(StandardCharsets.UTF_8), true);
+        assertThat(output.getHeaders().getContentType()).isEqualTo(CompactJsonHttpMessageConverter.COMPACT_JSON);
+    }
+
+    @Test
+    void write_ページネーション_位置情報の配列とページ情報を出力する() throws Exception {
+        // Arrange
+        PagedLocationResponse page = new PagedLocationResponse(
+            List.of(new LocationResponse(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 15, 9, 0))),
+            0, 20, 1, 1, true, true, false, false);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(page, PagedLocationResponse.class, CompactJsonHttpMessageConverter.COMPACT_JSON, output);
+
+        // Assert
+        JSONAssert.assertEquals("""
+            [[[1, 35.0, 139.0, "2024-01-15T09:00:00"]], 0, 20, 1, 1, true, true, false, false]
+            """, output.getBodyAsString(StandardCharsets.UTF_8), true);
+    }
+
+    @Test
+    void write_エラーレスポンス_通常のJSONで出力する() throws Exception {
+        // Arrange
+        ErrorResponse error = ErrorResponse.of("VALIDATION_ERROR", "入力値が不正です");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(error, ErrorResponse.class, CompactJsonHttpMessageConverter.COMPACT_JSON, output);
+
+        // Assert
+        assertThat(objectMapper.readTree(output.getBodyAsString(StandardCharsets.UTF_8)).get("errorCode").asText())
+            .isEqualTo("VALIDATION_ERROR");
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessMetricsServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessMetricsService businessMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        businessMetricsService = new BusinessMetricsService(meterRegistry);
+    }
+
+    @Test
+    void recordLocationsIngested_正常ケース_件数が加算される() {
+        // Act
+        businessMetricsService.recordLocationsIngested(1);
+        businessMetricsService.recordLocationsIngested(10);
+
+        // Assert
+        assertEquals(11.0, meterRegistry.get("kairos.locations.ingested").counter().count());
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorMetricsServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ErrorMetricsService errorMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        errorMetricsService = new ErrorMetricsService(meterRegistry);
+    }
+
+    @Test
+    void recordError_正常ケース_エラーコードとステータス別にカウントされる() {
+        // Act
+        errorMetricsService.recordError("RESOURCE_NOT_FOUND", "/api/locations/1", 404);
+        errorMetricsService.recordError("RESOURCE_NOT_FOUND", "/api/locations/2", 404);
+        errorMetricsService.recordError("VALIDATION_ERROR", "/api/locations", 400);
+
+        // Assert
+        assertEquals(2L, errorMetricsService.getErrorCount("RESOURCE_NOT_FOUND"));
+        assertEquals(1L, errorMetricsService.getErrorCount("VALIDATION_ERROR"));
+        assertEquals(2.0, meterRegistry.get("kairos.errors")
+            .tag("error.code", "RESOURCE_NOT_FOUND").tag("status", "404").counter().count());
+    }
+
+    @Test
+    void getErrorCount_正常ケース_未記録のエラーコードは0を返す() {
+        // Act & Assert
+        assertEquals(0L, errorMetricsService.getErrorCount("UNKNOWN"));
+    }
+
+    @Test
+    void resetMetrics_正常ケース_カウンターが削除される() {
+        // Arrange
+        errorMetricsService.recordError("INTERNAL_SERVER_ERROR", "/api/reports", 500);
+
+        // Act
+        errorMetricsService.resetMetrics();
+
+        // Assert
+        assertEquals(0L, errorMetricsService.getErrorCount("INTERNAL_SERVER_ERROR"));
+        assertTrue(meterRegistry.find("kairos.errors").counters().isEmpty());
+    }
+
+    @Test
+    void constructor_nullRegistry_例外が発生する() {
+        // Act & Assert
+        NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> new ErrorMetricsService(null)
+        );
+        assertEquals("meterRegistryは必須です", exception.getMessage());
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import com.github.okanikani.kairos.commons.config.QueryBudgetProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBudgetMonitorTest {
+
+    private QueryBudgetMonitor createMonitor(boolean enabled) {
+        Map<String, Integer> endpoints = new LinkedHashMap<>();
+        endpoints.put("/api/reports/generate", 30);
+        endpoints.put("/api/reports/**", 10);
+        return new QueryBudgetMonitor(new QueryBudgetProperties(enabled, 20, endpoints));
+    }
+
+    @Test
+    void budgetFor_正常ケース_記述順で最初に一致したパターンの予算を返す() {
+        // Arrange
+        QueryBudgetMonitor monitor = createMonitor(true);
+
+        // Act & Assert
+        assertEquals(30, monitor.budgetFor("/api/reports/generate"));
+        assertEquals(10, monitor.budgetFor("/api/reports/2024/1"));
+        assertEquals(20, monitor.budgetFor("/api/locations"));
+    }
+
+    @Test
+    void check_正常ケース_予算超過時にtrueを返す() {
+        // Arrange
+        QueryBudgetMonitor monitor = createMonitor(true);
+
+        // Act & Assert
+        assertTrue(monitor.check("GET", "/api/reports/2024/1", 11, Duration.ofMillis(5)));
+        assertFalse(monitor.check("GET", "/api/reports/2024/1", 10, Duration.ofMillis(5)));
+    }
+
+    @Test
+    void check_正常ケース_無効設定では超過とみなさない() {
+        // Arrange
+        QueryBudgetMonitor monitor = createMonitor(false);
+
+        // Act & Assert
+        assertFalse(monitor.check("GET", "/api/reports/2024/1", 100, Duration.ZERO));
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.rules.others.controllers.WorkRuleController.RegisterWorkRuleRequestBody;
+import com.github.okanikani.kairos.rules.others.controllers.WorkRuleController.UpdateWorkRuleRequestBody;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginRequest;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JPA実装でのリクエスト単位のSQL発行数・コネクション取得回数の統合テスト
+ *
+ * prodプロファイル（JPAリポジトリ・勤務セッション・ルールキャッシュ有効）でAPIを呼び出し、
+ * {@link QueryCountScope} の集計値が想定どおりであることを確認する。
+ * 集計値が変わった場合は、N+1やトランザクション境界の変化が無いかを確認してから期待値を更新すること。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+@Testcontainers
+@TestPropertySource(properties = {
+    "jwt.secret=test-secret-key-for-integration-testing-must-be-at-least-256-bits",
+    "jwt.expiration=86400000",
+    "kairos.cache.invalidation.enabled=false",
+    "kairos.reports.recompute.enabled=false"
+})
+@DisplayName("SQL発行数・コネクション取得回数のJPA統合テスト")
+class QueryCountJpaIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("位置情報から勤怠表を生成_SQL発行数が想定どおり")
+    void 位置情報から勤怠表を生成_SQL発行数が想定どおり() throws Exception {
+        // Arrange: 勤怠ルールと2日分の位置情報（1時間を超える間隔で区切られ、勤務日詳細は4件）
+        String userId = "querycount001";
+        String token = registerAndLogin(userId);
+        registerWorkRule(token, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30));
+        for (LocalDateTime recordedAt : new LocalDateTime[] {
+            LocalDateTime.of(2024, 3, 4, 9, 0), LocalDateTime.of(2024, 3, 4, 9, 30), LocalDateTime.of(2024, 3, 4, 18, 0),
+            LocalDateTime.of(2024, 3, 5, 9, 0), LocalDateTime.of(2024, 3, 5, 18, 0)}) {
+            registerLocation(token, recordedAt);
+        }
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(
+            YearMonth.of(2024, 4), new UserDto(userId));
+
+        // Act
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            mockMvc.perform(post("/api/reports/generate")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+
+            // Assert
+            // 勤怠締め日・勤務セッション・セッションの無い4/1分の位置情報・勤怠表の存在確認（保存時のmerge）・
+            // 勤怠表・勤務日詳細4件・時間外労働の月次集計の追加と取得（勤務ルールは位置情報の登録時にキャッシュ済み）
+            assertThat(scope.statementCount()).isEqualTo(11);
+            // 生成ロックのトランザクション内で保存まで行う
+            assertThat(scope.connectionCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("勤怠ルールを更新_コネクション取得は1回")
+    void 勤怠ルールを更新_コネクション取得は1回() throws Exception {
+        // Arrange
+        String token = registerAndLogin("querycount002");
+        long workRuleId = registerWorkRule(token, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30));
+        UpdateWorkRuleRequestBody update = new UpdateWorkRuleRequestBody(
+            1L, 35.6762, 139.7649,
+            LocalTime.of(10, 0), LocalTime.of(19, 0), LocalTime.of(12, 0), LocalTime.of(13, 0),
+            LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30));
+
+        // Act
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            mockMvc.perform(put("/api/work-rules/" + workRuleId)
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(update)))
+                    .andExpect(status().isOk());
+
+            // Assert
+            // 取得・期間重複チェック・更新を1つの書き込みトランザクションで行う
+            assertThat(scope.connectionCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("同じ記録日時の位置情報を再送_コネクション取得は1回")
+    void 同じ記録日時の位置情報を再送_コネクション取得は1回() throws Exception {
+        // Arrange
+        String token = registerAndLogin("querycount003");
+        LocalDateTime recordedAt = LocalDateTime.of(2024, 3, 4, 9, 0);
+        registerLocation(token, recordedAt);
+
+        // Act
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            mockMvc.perform(post("/api/locations")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RegisterLocationRequest(35.6762, 139.7649, recordedAt))))
+                    .andExpect(status().isOk());
+
+            // Assert
+            // 重複時の登録の試行と既存の位置情報の取得を1つの書き込みトランザクションで行う
+            assertThat(scope.connectionCount()).isEqualTo(1);
+        }
+    }
+
+    private String registerAndLogin(String userId) throws Exception {
+        String password = "QueryCount123!";
+        RegisterRequest registerRequest = new RegisterRequest(
+            userId, "SQL発行数テストユーザー", userId + "@example.com", password, "USER");
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(userId, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(loginResult.getResponse().getContentAsString(), LoginResponse.class).accessToken();
+    }
+
+    private long registerWorkRule(String token, LocalDate membershipStartDate, LocalDate membershipEndDate) throws Exception {
+        RegisterWorkRuleRequestBody workRule = new RegisterWorkRuleRequestBody(
+            1L, 35.6762, 139.7649,
+            LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0),
+            membershipStartDate, membershipEndDate);
+        MvcResult result = mockMvc.perform(post("/api/work-rules")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(workRule)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void registerLocation(String token, LocalDateTime recordedAt) throws Exception {
+        mockMvc.perform(post("/api/locations")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterLocationRequest(35.6762, 139.7649, recordedAt))))
+                .andExpect(status().isCreated());
+    }
+}
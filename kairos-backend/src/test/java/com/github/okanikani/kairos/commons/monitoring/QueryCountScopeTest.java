@@ -0,0 +1,85 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountScopeTest {
+
+    private final QueryCountStatementInspector inspector = new QueryCountStatementInspector();
+
+    @Test
+    void open_正常ケース_スコープ内のSQL発行数が集計される() {
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            // Act
+            String sql = inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            QueryCountScope.recordJdbcTime(Duration.ofMillis(3).toNanos());
+
+            // Assert
+            assertEquals("select 1", sql);
+            assertEquals(2, scope.statementCount());
+            assertEquals(Duration.ofMillis(3), scope.jdbcTime());
+        }
+    }
+
+    @Test
+    void open_正常ケース_入れ子のスコープは外側の集計に合流する() {
+        try (QueryCountScope outer = QueryCountScope.open()) {
+            inspector.inspect("select 1");
+
+            // Act
+            try (QueryCountScope inner = QueryCountScope.open()) {
+                inspector.inspect("select 2");
+                assertEquals(2, inner.statementCount());
+            }
+            inspector.inspect("select 3");
+
+            // Assert: 内側のクローズで外側のスコープは終了しない
+            assertEquals(3, outer.statementCount());
+        }
+    }
+
+    @Test
+    void inspect_正常ケース_スコープ外では集計されない() {
+        // Act
+        inspector.inspect("select 1");
+
+        // Assert
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            assertEquals(0, scope.statementCount());
+        }
+    }
+
+    @Test
+    void jdbcConnectionAcquisitionEnd_正常ケース_セッションをまたいでコネクション取得回数が集計される() {
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            // Act（リポジトリ呼び出しごとにセッションが分かれる場合を再現する）
+            new QueryTimingSessionEventListener().jdbcConnectionAcquisitionEnd();
+            new QueryTimingSessionEventListener().jdbcConnectionAcquisitionEnd();
+
+            // Assert
+            assertEquals(2, scope.connectionCount());
+        }
+    }
+
+    @Test
+    void reset_正常ケース_集計値が0に戻る() {
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            // Arrange
+            inspector.inspect("select 1");
+            QueryCountScope.recordJdbcTime(1_000L);
+            QueryCountScope.recordConnectionAcquisition();
+
+            // Act
+            scope.reset();
+
+            // Assert
+            assertEquals(0, scope.statementCount());
+            assertEquals(Duration.ZERO, scope.jdbcTime());
+            assertEquals(0, scope.connectionCount());
+        }
+    }
+}
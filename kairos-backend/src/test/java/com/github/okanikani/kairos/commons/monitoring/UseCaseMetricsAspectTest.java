@@ -0,0 +1,79 @@
+package com.github.okanikani.kairos.commons.monitoring;
+
+import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.locations.applications.usecases.FindAllLocationsUseCase;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.reports.applications.usecases.DeleteReportUseCase;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.DeleteReportRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UseCaseMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UseCaseMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new UseCaseMetricsAspect(meterRegistry);
+    }
+
+    @Test
+    void measure_正常ケース_成功時にユースケース名とsuccessで記録される() {
+        // Arrange
+        LocationRepository locationRepository = mock(LocationRepository.class);
+        when(locationRepository.findByUser(any())).thenReturn(List.of());
+        FindAllLocationsUseCase useCase = proxy(new FindAllLocationsUseCase(locationRepository));
+
+        // Act
+        useCase.execute("testuser");
+        useCase.execute("testuser");
+
+        // Assert
+        Timer timer = meterRegistry.get("kairos.usecase.duration")
+            .tag("usecase", "FindAllLocationsUseCase")
+            .tag("outcome", "success")
+            .tag("exception", "none")
+            .timer();
+        assertEquals(2L, timer.count());
+    }
+
+    @Test
+    void measure_異常ケース_例外時にerrorと例外名で記録され再送出される() {
+        // Arrange
+        ReportRepository reportRepository = mock(ReportRepository.class);
+        DeleteReportUseCase useCase = proxy(new DeleteReportUseCase(reportRepository));
+        DeleteReportRequest request = new DeleteReportRequest(YearMonth.of(2024, 1), new UserDto("testuser"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> useCase.execute(request));
+        Timer timer = meterRegistry.get("kairos.usecase.duration")
+            .tag("usecase", "DeleteReportUseCase")
+            .tag("outcome", "error")
+            .tag("exception", "ResourceNotFoundException")
+            .timer();
+        assertEquals(1L, timer.count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.okanikani.kairos.commons.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GeoGridのUnit Test
+ *
+ * テスト対象: セル番号の計算と、円を覆うセルの列挙
+ */
+class GeoGridTest {
+
+    @Test
+    void cellOf_同じセル内の座標_同じセル番号になる() {
+        assertEquals(GeoGrid.cellOf(35.68120, 139.76710), GeoGrid.cellOf(35.68199, 139.76799));
+        assertNotEquals(GeoGrid.cellOf(35.68120, 139.76710), GeoGrid.cellOf(35.68220, 139.76710));
+        assertNotEquals(GeoGrid.cellOf(35.68120, 139.76710), GeoGrid.cellOf(35.68120, 139.76810));
+    }
+
+    @Test
+    void cellOf_経度180度_マイナス180度と同じセルになる() {
+        assertEquals(GeoGrid.cellOf(0.0, -180.0), GeoGrid.cellOf(0.0, 180.0));
+    }
+
+    @Test
+    void cellsCovering_半径内の座標_いずれかのセルに含まれる() {
+        // Arrange
+        double latitude = 35.6812;
+        double longitude = 139.7671;
+        Set<Long> cells = GeoGrid.cellsCovering(latitude, longitude, 100.0);
+
+        // Act & Assert: 中心から東西南北・斜めに100メートル弱離れた座標
+        for (double[] offset : new double[][] {{0.00085, 0}, {-0.00085, 0}, {0, 0.00105}, {0, -0.00105}, {0.0006, 0.0007}}) {
+            double pointLatitude = latitude + offset[0];
+            double pointLongitude = longitude + offset[1];
+            assertTrue(DistanceCalculator.calculateDistance(latitude, longitude, pointLatitude, pointLongitude) <= 100.0);
+            assertTrue(cells.contains(GeoGrid.cellOf(pointLatitude, pointLongitude)));
+        }
+        // 数セル四方に収まる
+        assertTrue(cells.size() <= 16);
+    }
+
+    @Test
+    void cellsCovering_経度180度をまたぐ範囲_反対側のセルも含む() {
+        Set<Long> cells = GeoGrid.cellsCovering(0.0, 179.9999, 100.0);
+
+        assertTrue(cells.contains(GeoGrid.cellOf(0.0, 179.9995)));
+        assertTrue(cells.contains(GeoGrid.cellOf(0.0, -179.9995)));
+    }
+
+    @Test
+    void cellsCovering_極付近_IllegalArgumentExceptionが発生する() {
+        assertThrows(IllegalArgumentException.class, () -> GeoGrid.cellsCovering(89.5, 0.0, 100.0));
+        assertThrows(IllegalArgumentException.class, () -> GeoGrid.cellsCovering(35.0, 139.0, -1.0));
+    }
+}
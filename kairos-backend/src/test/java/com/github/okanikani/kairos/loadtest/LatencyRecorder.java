@@ -0,0 +1,102 @@
+package com.github.okanikani.kairos.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 操作ごとの応答時間と失敗数を記録する
+ *
+ * 全ての応答時間を保持して集計時に並べ替えるため、百分位は近似ではなく実測値になる。
+ * 数百端末・数分程度の試験を想定しており、記録は同期化した配列への追記のみとする。
+ */
+public class LatencyRecorder {
+
+    private final String operation;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int failures;
+
+    public LatencyRecorder(String operation) {
+        this.operation = Objects.requireNonNull(operation, "operationは必須です");
+    }
+
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * 成功した操作の応答時間を記録
+     *
+     * @param latencyNanos 応答時間（ナノ秒）
+     */
+    public synchronized void recordSuccess(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    /**
+     * 失敗した操作（エラー応答・通信エラー）を記録
+     */
+    public synchronized void recordFailure() {
+        failures++;
+    }
+
+    /**
+     * 記録した結果を集計
+     *
+     * @param elapsed 計測期間（スループットの算出に使用）
+     * @return 集計結果
+     */
+    public synchronized LatencyStats summarize(Duration elapsed) {
+        Objects.requireNonNull(elapsed, "elapsedは必須です");
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+        return new LatencyStats(
+            operation,
+            count,
+            failures,
+            count / seconds,
+            percentile(sorted, 50),
+            percentile(sorted, 90),
+            percentile(sorted, 99),
+            sorted.length == 0 ? Duration.ZERO : Duration.ofNanos(sorted[sorted.length - 1])
+        );
+    }
+
+    // 最近傍順位法（nearest-rank）で百分位を求める
+    private static Duration percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * 操作ごとの集計結果
+     *
+     * @param operation 操作名
+     * @param successes 成功数
+     * @param failures 失敗数
+     * @param throughput 1秒あたりの成功数
+     * @param p50 応答時間の50パーセンタイル
+     * @param p90 応答時間の90パーセンタイル
+     * @param p99 応答時間の99パーセンタイル
+     * @param max 応答時間の最大値
+     */
+    public record LatencyStats(
+        String operation,
+        int successes,
+        int failures,
+        double throughput,
+        Duration p50,
+        Duration p90,
+        Duration p99,
+        Duration max
+    ) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.okanikani.kairos.loadtest;
+
+import com.github.okanikani.kairos.loadtest.LatencyRecorder.LatencyStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecorderTest {
+
+    @Test
+    void summarize_記録した応答時間_百分位とスループットを算出する() {
+        // Arrange
+        LatencyRecorder recorder = new LatencyRecorder("op");
+        for (int millis = 100; millis >= 1; millis--) {
+            recorder.recordSuccess(Duration.ofMillis(millis).toNanos());
+        }
+        recorder.recordFailure();
+
+        // Act
+        LatencyStats stats = recorder.summarize(Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals("op", stats.operation());
+        assertEquals(100, stats.successes());
+        assertEquals(1, stats.failures());
+        assertEquals(10.0, stats.throughput(), 0.001);
+        assertEquals(Duration.ofMillis(50), stats.p50());
+        assertEquals(Duration.ofMillis(90), stats.p90());
+        assertEquals(Duration.ofMillis(99), stats.p99());
+        assertEquals(Duration.ofMillis(100), stats.max());
+    }
+
+    @Test
+    void summarize_記録なし_応答時間はゼロ() {
+        // Arrange
+        LatencyRecorder recorder = new LatencyRecorder("op");
+
+        // Act
+        LatencyStats stats = recorder.summarize(Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals(0, stats.successes());
+        assertEquals(Duration.ZERO, stats.p99());
+        assertEquals(Duration.ZERO, stats.max());
+    }
+
+    @Test
+    void recordSuccess_初期容量を超える記録_全件を保持する() {
+        // Arrange
+        LatencyRecorder recorder = new LatencyRecorder("op");
+
+        // Act
+        for (int i = 1; i <= 5000; i++) {
+            recorder.recordSuccess(i);
+        }
+
+        // Assert
+        LatencyStats stats = recorder.summarize(Duration.ofSeconds(1));
+        assertEquals(5000, stats.successes());
+        assertEquals(Duration.ofNanos(5000), stats.max());
+    }
+}
@@ -0,0 +1,356 @@
+package com.github.okanikani.kairos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.okanikani.kairos.loadtest.LatencyRecorder.LatencyStats;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginRequest;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST APIの負荷生成器
+ *
+ * 端末（ユーザー）ごとに仮想スレッドを1つ割り当て、実際の利用に近い流れでAPIを呼び出す。
+ * 1. ユーザー登録（既に登録済みの場合はそのまま）とログイン（全端末分を計測期間の前に行う）
+ * 2. 位置情報の定期送信（勤務地周辺を数メートルずつ移動する）
+ * 3. 当月の勤怠表の定期参照と定期生成
+ *
+ * 応答時間は「送信する予定だった時刻」から計測する。サーバーが遅延して送信が後ろにずれても、
+ * 待たされた時間を含めて記録するため、過負荷時に応答時間を過小評価しない（coordinated omission の補正）。
+ *
+ * 単体で実行する場合は起動済みのサーバーを対象とする:
+ * java -cp ... -Dloadtest.base-url=http://localhost:8080 com.github.okanikani.kairos.loadtest.LoadGenerator
+ */
+public class LoadGenerator {
+
+    static final String LOGIN = "login";
+    static final String POST_LOCATION = "POST /api/locations";
+    static final String GET_REPORT = "GET /api/reports/{y}/{m}";
+    static final String GENERATE_REPORT = "POST /api/reports/generate";
+
+    private static final String PASSWORD = "LoadTest123!";
+
+    // 端末の初期位置（東京駅付近）と、端末ごとにずらす範囲（度）
+    private static final double BASE_LATITUDE = 35.6812;
+    private static final double BASE_LONGITUDE = 139.7671;
+    private static final double DEVICE_SPREAD_DEGREES = 0.05;
+
+    // 1回の位置情報送信で移動する最大距離（度、約5メートル）
+    private static final double STEP_DEGREES = 0.00005;
+
+    // 各間隔に加えるゆらぎの割合
+    private static final double JITTER_RATIO = 0.2;
+
+    private final LoadTestSettings settings;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final List<LatencyRecorder> recorders = List.of(
+        new LatencyRecorder(LOGIN),
+        new LatencyRecorder(POST_LOCATION),
+        new LatencyRecorder(GET_REPORT),
+        new LatencyRecorder(GENERATE_REPORT)
+    );
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private long measureFromNanos;
+    private long measureUntilNanos;
+
+    public LoadGenerator(LoadTestSettings settings) {
+        this.settings = Objects.requireNonNull(settings, "settingsは必須です");
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator generator = new LoadGenerator(LoadTestSettings.fromSystemProperties("http://localhost:8080"));
+        generator.printReport(generator.run());
+    }
+
+    /**
+     * 全端末を動作させ、計測期間の結果を集計する
+     *
+     * @return 操作ごとの集計結果
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    public List<LatencyStats> run() throws InterruptedException {
+        List<Device> devices = signInAll();
+
+        long startNanos = System.nanoTime();
+        measureFromNanos = startNanos + settings.warmup().toNanos();
+        measureUntilNanos = measureFromNanos + settings.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            devices.forEach(device -> executor.submit(device::run));
+            executor.shutdown();
+            long timeoutNanos = measureUntilNanos - System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+            if (!executor.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+
+        return recorders.stream()
+            .map(recorder -> recorder.summarize(settings.duration()))
+            .toList();
+    }
+
+    // ユーザー登録とログインは計測期間の前にまとめて行う（パスワードのハッシュ計算が計測期間の負荷に混ざらないようにする）
+    private List<Device> signInAll() throws InterruptedException {
+        List<Device> devices = new ArrayList<>();
+        for (int i = 0; i < settings.devices(); i++) {
+            devices.add(new Device("lt-" + runId + "-" + i));
+        }
+        List<Future<Boolean>> signedIn = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            devices.forEach(device -> signedIn.add(executor.submit(device::signIn)));
+        }
+
+        List<Device> ready = new ArrayList<>();
+        for (int i = 0; i < devices.size(); i++) {
+            try {
+                if (signedIn.get(i).get()) {
+                    ready.add(devices.get(i));
+                }
+            } catch (ExecutionException e) {
+                recorder(LOGIN).recordFailure();
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * 集計結果を標準出力に表示し、出力ファイルが指定されていればCSVで追記する
+     *
+     * @param results 操作ごとの集計結果
+     * @throws IOException 出力ファイルへの書き込みに失敗した場合
+     */
+    public void printReport(List<LatencyStats> results) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%n負荷試験結果: devices=%d, duration=%ds, warmup=%ds, baseUrl=%s%n",
+            settings.devices(), settings.duration().toSeconds(), settings.warmup().toSeconds(), settings.baseUrl()));
+        table.append(String.format(Locale.ROOT, "%-28s %8s %6s %9s %9s %9s %9s %9s%n",
+            "operation", "ok", "error", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (LatencyStats stats : results) {
+            table.append(String.format(Locale.ROOT, "%-28s %8d %6d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                stats.operation(), stats.successes(), stats.failures(), stats.throughput(),
+                millis(stats.p50()), millis(stats.p90()), millis(stats.p99()), millis(stats.max())));
+        }
+        System.out.print(table);
+
+        if (settings.outputFile() != null) {
+            writeCsv(Path.of(settings.outputFile()), results);
+        }
+    }
+
+    private void writeCsv(Path path, List<LatencyStats> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(path)) {
+            lines.add("timestamp,label,devices,duration_seconds,operation,ok,error,rps,p50_ms,p90_ms,p99_ms,max_ms");
+        }
+        String timestamp = OffsetDateTime.now().toString();
+        String label = System.getProperty("loadtest.label", "");
+        for (LatencyStats stats : results) {
+            lines.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%s,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f",
+                timestamp, label, settings.devices(), settings.duration().toSeconds(), stats.operation(),
+                stats.successes(), stats.failures(), stats.throughput(),
+                millis(stats.p50()), millis(stats.p90()), millis(stats.p99()), millis(stats.max())));
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private LatencyRecorder recorder(String operation) {
+        return recorders.stream()
+            .filter(recorder -> recorder.operation().equals(operation))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    // 計測期間内に予定されていた操作だけを集計する
+    private void record(String operation, long scheduledNanos, boolean success) {
+        long endNanos = System.nanoTime();
+        if (scheduledNanos < measureFromNanos || scheduledNanos >= measureUntilNanos) {
+            return;
+        }
+        if (success) {
+            recorder(operation).recordSuccess(endNanos - scheduledNanos);
+        } else {
+            recorder(operation).recordFailure();
+        }
+    }
+
+    private static long jittered(Duration interval) {
+        double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-JITTER_RATIO, JITTER_RATIO);
+        return (long) (interval.toNanos() * factor);
+    }
+
+    /**
+     * 1台の端末の動作
+     */
+    private final class Device {
+
+        private final String userId;
+        private double latitude;
+        private double longitude;
+        private String accessToken;
+
+        private Device(String userId) {
+            this.userId = userId;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            this.latitude = BASE_LATITUDE + random.nextDouble(-DEVICE_SPREAD_DEGREES, DEVICE_SPREAD_DEGREES);
+            this.longitude = BASE_LONGITUDE + random.nextDouble(-DEVICE_SPREAD_DEGREES, DEVICE_SPREAD_DEGREES);
+        }
+
+        void run() {
+            try {
+                // 全端末が同じ瞬間に送信しないよう、最初の送信を各間隔の範囲でずらす
+                long now = System.nanoTime();
+                long nextLocation = now + randomOffset(settings.locationInterval());
+                long nextFetch = now + randomOffset(settings.reportFetchInterval());
+                long nextGenerate = now + randomOffset(settings.reportGenerateInterval());
+                while (true) {
+                    long next = Math.min(nextLocation, Math.min(nextFetch, nextGenerate));
+                    if (next >= measureUntilNanos) {
+                        return;
+                    }
+                    sleepUntil(next);
+                    if (next == nextLocation) {
+                        postLocation(next);
+                        nextLocation += jittered(settings.locationInterval());
+                    } else if (next == nextFetch) {
+                        fetchReport(next);
+                        nextFetch += jittered(settings.reportFetchInterval());
+                    } else {
+                        generateReport(next);
+                        nextGenerate += jittered(settings.reportGenerateInterval());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        boolean signIn() throws InterruptedException {
+            HttpResponse<String> registered = send(HttpRequest.newBuilder(uri("/api/auth/register"))
+                .POST(json(new RegisterRequest(userId, "負荷試験ユーザー", userId + "@example.com", PASSWORD, "USER"))));
+            // 409は同じユーザーIDで再実行した場合
+            if (registered == null || (registered.statusCode() != 201 && registered.statusCode() != 409)) {
+                recorder(LOGIN).recordFailure();
+                return false;
+            }
+
+            long loginNanos = System.nanoTime();
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .POST(json(new LoginRequest(userId, PASSWORD))));
+            if (response == null || response.statusCode() != 200) {
+                recorder(LOGIN).recordFailure();
+                return false;
+            }
+            recorder(LOGIN).recordSuccess(System.nanoTime() - loginNanos);
+            try {
+                accessToken = objectMapper.readValue(response.body(), LoginResponse.class).accessToken();
+            } catch (IOException e) {
+                return false;
+            }
+            return true;
+        }
+
+        private void postLocation(long scheduledNanos) throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            latitude += random.nextDouble(-STEP_DEGREES, STEP_DEGREES);
+            longitude += random.nextDouble(-STEP_DEGREES, STEP_DEGREES);
+            HttpResponse<String> response = send(authorized("/api/locations")
+                .POST(json(new RegisterLocationRequest(latitude, longitude, LocalDateTime.now()))));
+            record(POST_LOCATION, scheduledNanos, response != null && response.statusCode() == 201);
+        }
+
+        private void fetchReport(long scheduledNanos) throws InterruptedException {
+            YearMonth yearMonth = YearMonth.now();
+            HttpResponse<String> response = send(authorized(
+                "/api/reports/" + yearMonth.getYear() + "/" + yearMonth.getMonthValue()).GET());
+            // 初回の生成前は勤怠表が無いため404も正常な応答として扱う
+            record(GET_REPORT, scheduledNanos,
+                response != null && (response.statusCode() == 200 || response.statusCode() == 404));
+        }
+
+        private void generateReport(long scheduledNanos) throws InterruptedException {
+            HttpResponse<String> response = send(authorized("/api/reports/generate")
+                .POST(json(new GenerateReportFromLocationRequest(YearMonth.now(), new UserDto(userId)))));
+            record(GENERATE_REPORT, scheduledNanos, response != null && response.statusCode() == 201);
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + accessToken);
+        }
+
+        private long randomOffset(Duration interval) {
+            return ThreadLocalRandom.current().nextLong(Math.max(interval.toNanos(), 1));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(settings.baseUrl() + path);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException("リクエストのJSON変換に失敗しました", e);
+        }
+    }
+
+    // 通信エラーは失敗として扱い、試験自体は継続する
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws InterruptedException {
+        HttpRequest request = builder
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(30))
+            .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void sleepUntil(long nanos) throws InterruptedException {
+        long remaining = nanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
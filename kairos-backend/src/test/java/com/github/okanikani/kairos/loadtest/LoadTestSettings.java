@@ -0,0 +1,73 @@
+package com.github.okanikani.kairos.loadtest;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * 負荷試験の設定
+ *
+ * システムプロパティ（-Dloadtest.devices=200 など）で上書きできる。
+ * 間隔は各端末で±20%のゆらぎを加え、全端末が同じ瞬間に送信しないようにする。
+ *
+ * @param baseUrl 対象APIのベースURL（例: http://localhost:8080）
+ * @param devices 同時に動作させる端末（ユーザー）数
+ * @param duration 計測期間（ウォームアップを除く）
+ * @param warmup 計測前のウォームアップ期間。この間の結果は集計しない
+ * @param locationInterval 端末が位置情報を送信する間隔
+ * @param reportFetchInterval 端末が当月の勤怠表を参照する間隔
+ * @param reportGenerateInterval 端末が当月の勤怠表を生成する間隔
+ * @param outputFile 集計結果をCSVで追記するファイル（未指定の場合は出力しない）
+ */
+public record LoadTestSettings(
+    String baseUrl,
+    int devices,
+    Duration duration,
+    Duration warmup,
+    Duration locationInterval,
+    Duration reportFetchInterval,
+    Duration reportGenerateInterval,
+    String outputFile
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public LoadTestSettings {
+        Objects.requireNonNull(baseUrl, "baseUrlは必須です");
+        Objects.requireNonNull(duration, "durationは必須です");
+        Objects.requireNonNull(warmup, "warmupは必須です");
+        Objects.requireNonNull(locationInterval, "locationIntervalは必須です");
+        Objects.requireNonNull(reportFetchInterval, "reportFetchIntervalは必須です");
+        Objects.requireNonNull(reportGenerateInterval, "reportGenerateIntervalは必須です");
+        if (devices <= 0) {
+            throw new IllegalArgumentException("devicesは1以上で指定してください。指定値: " + devices);
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("durationは正の値で指定してください。指定値: " + duration);
+        }
+    }
+
+    /**
+     * システムプロパティから設定を読み込む
+     *
+     * @param defaultBaseUrl loadtest.base-url が未指定の場合のベースURL
+     * @return 負荷試験の設定
+     */
+    public static LoadTestSettings fromSystemProperties(String defaultBaseUrl) {
+        Properties properties = System.getProperties();
+        return new LoadTestSettings(
+            properties.getProperty(PREFIX + "base-url", defaultBaseUrl),
+            Integer.parseInt(properties.getProperty(PREFIX + "devices", "50")),
+            seconds(properties, "duration-seconds", "60"),
+            seconds(properties, "warmup-seconds", "10"),
+            seconds(properties, "location-interval-seconds", "5"),
+            seconds(properties, "report-fetch-interval-seconds", "20"),
+            seconds(properties, "report-generate-interval-seconds", "60"),
+            properties.getProperty(PREFIX + "output-file")
+        );
+    }
+
+    private static Duration seconds(Properties properties, String key, String defaultValue) {
+        return Duration.ofSeconds(Long.parseLong(properties.getProperty(PREFIX + key, defaultValue)));
+    }
+}
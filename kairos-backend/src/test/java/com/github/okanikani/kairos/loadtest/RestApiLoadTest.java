@@ -0,0 +1,48 @@
+package com.github.okanikani.kairos.loadtest;
+
+import com.github.okanikani.kairos.loadtest.LatencyRecorder.LatencyStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST APIの負荷試験
+ *
+ * devプロファイル（InMemoryリポジトリ）でアプリケーションをランダムポートに起動し、{@link LoadGenerator} で負荷をかける。
+ * 通常のテスト実行では動作せず、次のように明示的に実行する:
+ * mvn test -Dtest=RestApiLoadTest -Dloadtest.enabled=true -Dloadtest.devices=200 -Dloadtest.output-file=target/load-test.csv
+ *
+ * 応答時間の基準は環境に依存するため判定せず、結果の表（CSV）を変更前後で比較する。
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    // 全端末が同じ接続元（localhost）からログインするため、接続元ごとのログイン試行の制限は無効にする
+    properties = "kairos.security.login-throttle.enabled=false"
+)
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+class RestApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void 端末からの位置情報送信と勤怠表の生成_参照を継続する() throws Exception {
+        // Arrange
+        LoadGenerator generator = new LoadGenerator(LoadTestSettings.fromSystemProperties("http://localhost:" + port));
+
+        // Act
+        List<LatencyStats> results = generator.run();
+        generator.printReport(results);
+
+        // Assert
+        assertThat(results)
+            .filteredOn(stats -> stats.operation().equals(LoadGenerator.POST_LOCATION))
+            .singleElement()
+            .satisfies(stats -> assertThat(stats.successes()).isPositive());
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.okanikani.kairos.locations.applications.usecases;
+
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.ArchiveLocationsResponse;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ArchiveLocationsUseCaseTest {
+
+    private ArchiveLocationsUseCase archiveLocationsUseCase;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private LocationArchiveRepository locationArchiveRepository;
+
+    private final User user = new User("testuser");
+    private final YearMonth closedMonth = YearMonth.of(2024, 1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        archiveLocationsUseCase = new ArchiveLocationsUseCase(
+            locationRepository, locationArchiveRepository, new LocationArchiveProperties(true, "unused", 3));
+    }
+
+    @Test
+    void execute_正常ケース_アーカイブ後にデータベースから削除される() {
+        // Arrange
+        List<Location> locations = List.of(
+            new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user),
+            new Location(2L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 18, 0), user)
+        );
+        when(locationRepository.findByUserAndDateTimeRange(eq(user), any(), any())).thenReturn(locations);
+
+        // Act
+        ArchiveLocationsResponse response = archiveLocationsUseCase.execute(closedMonth, "testuser");
+
+        // Assert
+        assertEquals(closedMonth, response.yearMonth());
+        assertEquals(2, response.archivedCount());
+        var inOrder = inOrder(locationArchiveRepository, locationRepository);
+        inOrder.verify(locationArchiveRepository).archive(user, closedMonth, locations);
+        inOrder.verify(locationRepository).deleteAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    void execute_正常ケース_位置情報がない場合はアーカイブしない() {
+        // Arrange
+        when(locationRepository.findByUserAndDateTimeRange(eq(user), any(), any())).thenReturn(List.of());
+
+        // Act
+        ArchiveLocationsResponse response = archiveLocationsUseCase.execute(closedMonth, "testuser");
+
+        // Assert
+        assertEquals(0, response.archivedCount());
+        verify(locationArchiveRepository, never()).archive(any(), any(), any());
+        verify(locationRepository, never()).deleteAllById(any());
+    }
+
+    @Test
+    void execute_異常ケース_保持期間内の年月で例外が発生する() {
+        // Act & Assert
+        assertThrows(BusinessRuleViolationException.class,
+            () -> archiveLocationsUseCase.execute(YearMonth.now(), "testuser"));
+        verify(locationRepository, never()).findByUserAndDateTimeRange(any(), any(), any());
+    }
+
+    @Test
+    void execute_異常ケース_アーカイブ機能無効で例外が発生する() {
+        // Arrange
+        ArchiveLocationsUseCase disabled = new ArchiveLocationsUseCase(
+            locationRepository, locationArchiveRepository, LocationArchiveProperties.defaultSettings());
+
+        // Act & Assert
+        assertThrows(BusinessRuleViolationException.class,
+            () -> disabled.execute(closedMonth, "testuser"));
+    }
+}
@@ -1,19 +1,28 @@
 package com.github.okanikani.kairos.locations.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.LatestLocationTracker;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -24,10 +33,21 @@ class DeleteLocationUseCaseTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private WorkSessionTracker workSessionTracker;
+
+    @Mock
+    private LatestLocationTracker latestLocationTracker;
+
+    @Mock
+    private DomainChangeOutbox domainChangeOutbox;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deleteLocationUseCase = new DeleteLocationUseCase(locationRepository);
+        // ロック中の処理はそのまま実行する
+        when(workSessionTracker.executeTracked(any(User.class), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        deleteLocationUseCase = new DeleteLocationUseCase(locationRepository, workSessionTracker, latestLocationTracker, domainChangeOutbox);
     }
 
     @Test
@@ -48,6 +68,13 @@ class DeleteLocationUseCaseTest {
         // Assert
         verify(locationRepository, times(1)).findById(eq(locationId));
         verify(locationRepository, times(1)).deleteById(eq(locationId));
+        verify(workSessionTracker, times(1)).repairAround(user, recordedAt);
+        verify(latestLocationTracker, times(1)).refresh(user);
+        verify(domainChangeOutbox, times(1)).append(argThat(event ->
+            event.type() == DomainChangeType.LOCATION_CHANGED
+                && event.userId().equals(userId)
+                && event.fromDate().equals(LocalDate.of(2024, 1, 1))
+                && event.toDate().equals(LocalDate.of(2024, 1, 1))));
     }
 
     @Test
@@ -65,6 +92,27 @@ class DeleteLocationUseCaseTest {
         assertEquals("指定された位置情報が存在しません", exception.getMessage());
         verify(locationRepository, times(1)).findById(eq(locationId));
         verify(locationRepository, never()).deleteById(any());
+        verify(domainChangeOutbox, never()).append(any());
+    }
+
+    @Test
+    void execute_アーカイブ済みの位置情報_例外が発生し削除されない() {
+        // Arrange
+        Long locationId = 1L;
+        String userId = "testuser";
+        User user = new User(userId);
+        when(locationRepository.findById(eq(locationId))).thenReturn(null);
+        when(locationRepository.findArchivedByUserAndId(eq(user), eq(locationId)))
+            .thenReturn(Optional.of(new Location(locationId, 35.6812, 139.7671, LocalDateTime.of(2023, 1, 1, 9, 0), user)));
+
+        // Act & Assert
+        BusinessRuleViolationException exception = assertThrows(
+            BusinessRuleViolationException.class,
+            () -> deleteLocationUseCase.execute(locationId, userId)
+        );
+        assertEquals("アーカイブ済みの位置情報は削除できません", exception.getMessage());
+        verify(locationRepository, never()).deleteById(any());
+        verify(domainChangeOutbox, never()).append(any());
     }
 
     @Test
@@ -118,8 +166,18 @@ class DeleteLocationUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new DeleteLocationUseCase(null)
+            () -> new DeleteLocationUseCase(null, workSessionTracker, latestLocationTracker, domainChangeOutbox)
         );
         assertEquals("locationRepositoryは必須です", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_nullWorkSessionTracker_例外が発生する() {
+        // Act & Assert
+        NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> new DeleteLocationUseCase(locationRepository, null, latestLocationTracker, domainChangeOutbox)
+        );
+        assertEquals("workSessionTrackerは必須です", exception.getMessage());
+    }
+}
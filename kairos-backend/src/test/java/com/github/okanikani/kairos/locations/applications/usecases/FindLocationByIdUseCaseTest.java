@@ -12,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -71,6 +72,25 @@ class FindLocationByIdUseCaseTest {
         verify(locationRepository, times(1)).findById(eq(locationId));
     }
 
+    @Test
+    void execute_アーカイブ済みの位置情報_要求者のアーカイブから取得される() {
+        // Arrange
+        Long locationId = 1L;
+        String userId = "testuser";
+        User user = new User(userId);
+        LocalDateTime recordedAt = LocalDateTime.of(2023, 1, 1, 9, 0);
+        when(locationRepository.findById(eq(locationId))).thenReturn(null);
+        when(locationRepository.findArchivedByUserAndId(eq(user), eq(locationId)))
+            .thenReturn(Optional.of(new Location(locationId, 35.6812, 139.7671, recordedAt, user)));
+
+        // Act
+        LocationResponse response = findLocationByIdUseCase.execute(locationId, userId);
+
+        // Assert
+        assertEquals(locationId, response.id());
+        assertEquals(recordedAt, response.recordedAt());
+    }
+
     @Test
     void execute_他のユーザーの位置情報_例外が発生する() {
         // Arrange
@@ -0,0 +1,89 @@
+package com.github.okanikani.kairos.locations.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.FindPresenceRequest;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.WorkplacePresenceResponse;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LatestLocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.models.vos.Workplace;
+import com.github.okanikani.kairos.locations.domains.services.WorkplaceDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * FindPresenceUseCaseのUnit Test
+ *
+ * テスト対象: 勤怠先の座標と最新位置の有効期間による検索
+ */
+@ExtendWith(MockitoExtension.class)
+class FindPresenceUseCaseTest {
+
+    @Mock
+    private LatestLocationRepository latestLocationRepository;
+
+    @Mock
+    private WorkplaceDirectory workplaceDirectory;
+
+    private FindPresenceUseCase usecase;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new FindPresenceUseCase(latestLocationRepository, workplaceDirectory);
+    }
+
+    @Test
+    void execute_正常ケース_勤怠先の範囲内の最新位置を距離付きで返す() {
+        // Arrange
+        Workplace workplace = new Workplace(10L, 35.6812, 139.7671, 100.0);
+        when(workplaceDirectory.findByWorkPlaceId(10L)).thenReturn(Optional.of(workplace));
+        Location location = new Location(1L, 35.6812, 139.7671, LocalDateTime.now().minusMinutes(3), new User("user001"));
+        when(latestLocationRepository.findWithin(eq(35.6812), eq(139.7671), eq(100.0), any(LocalDateTime.class)))
+            .thenReturn(List.of(location));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        WorkplacePresenceResponse response = usecase.execute(new FindPresenceRequest(10L, Duration.ofMinutes(15)));
+
+        // Assert
+        assertEquals(10L, response.workPlaceId());
+        assertFalse(response.since().isBefore(before.minusMinutes(15)));
+        assertEquals(1, response.users().size());
+        assertEquals("user001", response.users().get(0).userId());
+        assertEquals(0.0, response.users().get(0).distanceMeters(), 0.001);
+    }
+
+    @Test
+    void execute_勤怠先が存在しない_ResourceNotFoundExceptionが発生する() {
+        // Arrange
+        when(workplaceDirectory.findByWorkPlaceId(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+            () -> usecase.execute(new FindPresenceRequest(99L, Duration.ofMinutes(15))));
+        verifyNoInteractions(latestLocationRepository);
+    }
+
+    @Test
+    void execute_有効期間が0以下_ValidationExceptionが発生する() {
+        // Act & Assert
+        assertThrows(ValidationException.class,
+            () -> usecase.execute(new FindPresenceRequest(10L, Duration.ZERO)));
+        verify(latestLocationRepository, never()).findWithin(anyDouble(), anyDouble(), anyDouble(), any());
+    }
+}
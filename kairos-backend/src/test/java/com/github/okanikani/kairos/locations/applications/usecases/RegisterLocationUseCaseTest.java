@@ -1,17 +1,28 @@
 package com.github.okanikani.kairos.locations.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.commons.monitoring.BusinessMetricsService;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationResult;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
 import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
 import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.domains.services.LatestLocationTracker;
+import com.github.okanikani.kairos.locations.domains.services.WorkSessionTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,10 +35,25 @@ class RegisterLocationUseCaseTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private WorkSessionTracker workSessionTracker;
+
+    @Mock
+    private LatestLocationTracker latestLocationTracker;
+
+    @Mock
+    private DomainChangeOutbox domainChangeOutbox;
+
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        registerLocationUseCase = new RegisterLocationUseCase(locationRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        // ロック中の処理はそのまま実行する
+        when(workSessionTracker.executeTracked(any(User.class), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        registerLocationUseCase = new RegisterLocationUseCase(locationRepository, new BusinessMetricsService(meterRegistry), workSessionTracker,
+            latestLocationTracker, domainChangeOutbox);
     }
 
     @Test
@@ -48,19 +74,84 @@ class RegisterLocationUseCaseTest {
             new User("testuser")
         );
 
-        when(locationRepository.save(any(Location.class))).thenReturn(savedLocation);
+        when(locationRepository.saveIfAbsent(any(Location.class))).thenReturn(Optional.of(savedLocation));
 
         // Act
-        LocationResponse response = registerLocationUseCase.execute(request, "testuser");
+        RegisterLocationResult result = registerLocationUseCase.execute(request, "testuser");
+        LocationResponse response = result.location();
 
         // Assert
         assertNotNull(response);
+        assertFalse(result.duplicate());
         assertEquals(1L, response.id());
         assertEquals(35.6812, response.latitude());
         assertEquals(139.7671, response.longitude());
         assertEquals(recordedAt, response.recordedAt());
+        assertEquals(1.0, meterRegistry.get("kairos.locations.ingested").counter().count());
+
+        verify(locationRepository, times(1)).saveIfAbsent(any(Location.class));
+        verify(latestLocationTracker).recordAdded(savedLocation);
+        verify(workSessionTracker, times(1)).recordAdded(savedLocation);
+        // 前日以前の記録のため、記録日を含む勤怠表を再計算の対象とする
+        verify(domainChangeOutbox).append(argThat((DomainChangeEvent event) ->
+            event.type() == DomainChangeType.LOCATION_CHANGED && event.userId().equals("testuser")
+                && event.fromDate().equals(LocalDate.of(2024, 1, 1)) && event.toDate().equals(LocalDate.of(2024, 1, 1))));
+    }
+
+    @Test
+    void execute_当日の最新位置_再計算の対象としない() {
+        // Arrange
+        LocalDateTime recordedAt = LocalDate.now().atTime(0, 0);
+        User user = new User("testuser");
+        Location savedLocation = new Location(1L, 35.6812, 139.7671, recordedAt, user);
+        when(locationRepository.saveIfAbsent(any(Location.class))).thenReturn(Optional.of(savedLocation));
+        when(workSessionTracker.recordAdded(savedLocation)).thenReturn(false);
+
+        // Act
+        registerLocationUseCase.execute(new RegisterLocationRequest(35.6812, 139.7671, recordedAt), "testuser");
 
-        verify(locationRepository, times(1)).save(any(Location.class));
+        // Assert
+        verify(domainChangeOutbox, never()).append(any());
+    }
+
+    @Test
+    void execute_当日の最新セッションより前に遅れて届いた位置情報_再計算の対象とする() {
+        // Arrange
+        LocalDateTime recordedAt = LocalDate.now().atTime(0, 0);
+        User user = new User("testuser");
+        Location savedLocation = new Location(1L, 35.6812, 139.7671, recordedAt, user);
+        when(locationRepository.saveIfAbsent(any(Location.class))).thenReturn(Optional.of(savedLocation));
+        when(workSessionTracker.recordAdded(savedLocation)).thenReturn(true);
+
+        // Act
+        registerLocationUseCase.execute(new RegisterLocationRequest(35.6812, 139.7671, recordedAt), "testuser");
+
+        // Assert
+        verify(domainChangeOutbox).append(argThat((DomainChangeEvent event) ->
+            event.fromDate().equals(recordedAt.toLocalDate()) && event.toDate().equals(recordedAt.toLocalDate())));
+    }
+
+    @Test
+    void execute_正常ケース_同一記録日時の再送は既存の位置情報を返す() {
+        // Arrange
+        LocalDateTime recordedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+        RegisterLocationRequest request = new RegisterLocationRequest(35.6812, 139.7671, recordedAt);
+        User user = new User("testuser");
+        Location existingLocation = new Location(5L, 35.6812, 139.7671, recordedAt, user);
+
+        when(locationRepository.saveIfAbsent(any(Location.class))).thenReturn(Optional.empty());
+        when(locationRepository.findByUserAndRecordedAt(user, recordedAt)).thenReturn(Optional.of(existingLocation));
+
+        // Act
+        RegisterLocationResult result = registerLocationUseCase.execute(request, "testuser");
+
+        // Assert
+        assertTrue(result.duplicate());
+        assertEquals(5L, result.location().id());
+        assertEquals(0.0, meterRegistry.get("kairos.locations.ingested").counter().count());
+        assertEquals(1.0, meterRegistry.get("kairos.locations.duplicated").counter().count());
+        verify(workSessionTracker, never()).recordAdded(any());
+        verify(domainChangeOutbox, never()).append(any());
     }
 
     @Test
@@ -71,7 +162,7 @@ class RegisterLocationUseCaseTest {
             () -> registerLocationUseCase.execute(null, "testuser")
         );
         assertEquals("requestは必須です", exception.getMessage());
-        verify(locationRepository, never()).save(any());
+        verify(locationRepository, never()).saveIfAbsent(any());
     }
 
     @Test
@@ -89,7 +180,7 @@ class RegisterLocationUseCaseTest {
             () -> registerLocationUseCase.execute(request, "testuser")
         );
         assertTrue(exception.getMessage().contains("緯度は-90.0～90.0の範囲で指定してください"));
-        verify(locationRepository, never()).save(any());
+        verify(locationRepository, never()).saveIfAbsent(any());
     }
 
     @Test
@@ -107,7 +198,7 @@ class RegisterLocationUseCaseTest {
             () -> registerLocationUseCase.execute(request, "testuser")
         );
         assertTrue(exception.getMessage().contains("経度は-180.0～180.0の範囲で指定してください"));
-        verify(locationRepository, never()).save(any());
+        verify(locationRepository, never()).saveIfAbsent(any());
     }
 
     @Test
@@ -115,8 +206,18 @@ class RegisterLocationUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new RegisterLocationUseCase(null)
+            () -> new RegisterLocationUseCase(null, new BusinessMetricsService(meterRegistry), workSessionTracker, latestLocationTracker, domainChangeOutbox)
         );
         assertEquals("locationRepositoryは必須です", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_nullWorkSessionTracker_例外が発生する() {
+        // Act & Assert
+        NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> new RegisterLocationUseCase(locationRepository, new BusinessMetricsService(meterRegistry), null, latestLocationTracker, domainChangeOutbox)
+        );
+        assertEquals("workSessionTrackerは必須です", exception.getMessage());
+    }
+}
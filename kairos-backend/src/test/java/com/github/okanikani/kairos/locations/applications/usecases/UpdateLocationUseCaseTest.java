@@ -1,8 +1,12 @@
 package com.github.okanikani.kairos.locations.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
 import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.UpdateLocationRequest;
 import com.github.okanikani.kairos.locations.domains.models.entities.Location;
@@ -14,10 +18,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
@@ -29,6 +36,9 @@ class UpdateLocationUseCaseTest {
     @MockitoBean
     private LocationRepository locationRepository;
 
+    @MockitoBean
+    private DomainChangeOutbox domainChangeOutbox;
+
     private User testUser;
     private Location existingLocation;
     private LocalDateTime now;
@@ -74,6 +84,25 @@ class UpdateLocationUseCaseTest {
         verify(locationRepository).save(any(Location.class));
     }
 
+    @Test
+    void execute_記録日の変更_変更前と変更後の記録日が再計算対象として記録される() {
+        // Arrange
+        Location location = new Location(1L, 35.6762, 139.6503, LocalDateTime.of(2024, 1, 31, 23, 30), testUser);
+        UpdateLocationRequest request = new UpdateLocationRequest(35.6762, 139.6503, LocalDateTime.of(2024, 2, 1, 0, 30));
+        when(locationRepository.findById(1L)).thenReturn(location);
+        when(locationRepository.save(any(Location.class)))
+            .thenReturn(new Location(1L, 35.6762, 139.6503, request.recordedAt(), testUser));
+
+        // Act
+        updateLocationUseCase.execute(1L, request, "testuser");
+
+        // Assert
+        verify(domainChangeOutbox).append(argThat(event -> event.type() == DomainChangeType.LOCATION_CHANGED
+            && event.fromDate().equals(LocalDate.of(2024, 1, 31)) && event.toDate().equals(LocalDate.of(2024, 1, 31))));
+        verify(domainChangeOutbox).append(argThat(event -> event.type() == DomainChangeType.LOCATION_CHANGED
+            && event.fromDate().equals(LocalDate.of(2024, 2, 1)) && event.toDate().equals(LocalDate.of(2024, 2, 1))));
+    }
+
     @Test
     void execute_位置情報が存在しない場合_例外が発生する() {
         // Arrange
@@ -96,6 +125,50 @@ class UpdateLocationUseCaseTest {
         verify(locationRepository, never()).save(any());
     }
 
+    @Test
+    void execute_アーカイブ済みの位置情報_例外が発生し更新されない() {
+        // Arrange
+        UpdateLocationRequest request = new UpdateLocationRequest(
+            35.6892,
+            139.6917,
+            now.plusHours(1)
+        );
+        User user = new User("testuser");
+        when(locationRepository.findById(1L)).thenReturn(null);
+        when(locationRepository.findArchivedByUserAndId(user, 1L))
+            .thenReturn(Optional.of(new Location(1L, 35.6812, 139.7671, now, user)));
+
+        // Act & Assert
+        BusinessRuleViolationException exception = assertThrows(
+            BusinessRuleViolationException.class,
+            () -> updateLocationUseCase.execute(1L, request, "testuser")
+        );
+        
+        assertEquals("アーカイブ済みの位置情報は更新できません", exception.getMessage());
+        verify(locationRepository, never()).save(any());
+    }
+
+    @Test
+    void execute_記録日時が他の位置情報と重複する場合_例外が発生する() {
+        // Arrange
+        UpdateLocationRequest request = new UpdateLocationRequest(
+            35.6892,
+            139.6917,
+            now.plusHours(1)
+        );
+        Location otherLocation = new Location(2L, 35.0, 139.0, now.plusHours(1), testUser);
+        
+        when(locationRepository.findById(1L)).thenReturn(existingLocation);
+        when(locationRepository.findByUserAndRecordedAt(testUser, now.plusHours(1))).thenReturn(Optional.of(otherLocation));
+
+        // Act & Assert
+        assertThrows(
+            DuplicateResourceException.class,
+            () -> updateLocationUseCase.execute(1L, request, "testuser")
+        );
+        verify(locationRepository, never()).save(any());
+    }
+
     @Test
     void execute_他ユーザーの位置情報を更新しようとした場合_例外が発生する() {
         // Arrange
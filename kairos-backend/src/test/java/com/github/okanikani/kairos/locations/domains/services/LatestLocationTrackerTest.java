@@ -0,0 +1,72 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.repositories.InMemoryLatestLocationRepository;
+import com.github.okanikani.kairos.locations.others.repositories.InMemoryLocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LatestLocationTrackerTest {
+
+    private static final double LATITUDE = 35.6812;
+    private static final double LONGITUDE = 139.7671;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    private final User user = new User("testuser");
+
+    private InMemoryLocationRepository locationRepository;
+    private InMemoryLatestLocationRepository latestLocationRepository;
+    private LatestLocationTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        locationRepository = new InMemoryLocationRepository(mock(LocationArchiveRepository.class));
+        latestLocationRepository = new InMemoryLatestLocationRepository();
+        tracker = new LatestLocationTracker(latestLocationRepository, locationRepository);
+    }
+
+    @Test
+    void refresh_最新の位置情報を削除_1つ前の位置情報が最新位置になる() {
+        // Arrange
+        Location previous = register(BASE);
+        Location latest = register(BASE.plusMinutes(10));
+
+        // Act
+        locationRepository.deleteById(latest.id());
+        tracker.refresh(user);
+
+        // Assert
+        assertEquals(List.of(previous), findNear());
+    }
+
+    @Test
+    void refresh_位置情報が残っていない_最新位置が削除される() {
+        // Arrange
+        Location only = register(BASE);
+
+        // Act
+        locationRepository.deleteById(only.id());
+        tracker.refresh(user);
+
+        // Assert
+        assertTrue(findNear().isEmpty());
+    }
+
+    private Location register(LocalDateTime recordedAt) {
+        Location saved = locationRepository.saveIfAbsent(new Location(null, LATITUDE, LONGITUDE, recordedAt, user)).orElseThrow();
+        tracker.recordAdded(saved);
+        return saved;
+    }
+
+    private List<Location> findNear() {
+        return latestLocationRepository.findWithin(LATITUDE, LONGITUDE, 100.0, BASE.minusDays(1));
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.okanikani.kairos.locations.domains.services;
+
+import com.github.okanikani.kairos.commons.config.WorkSessionProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.entities.WorkSession;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationArchiveRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.locks.LocalWorkSessionLock;
+import com.github.okanikani.kairos.locations.others.repositories.InMemoryLocationRepository;
+import com.github.okanikani.kairos.locations.others.repositories.InMemoryWorkSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class WorkSessionTrackerTest {
+
+    // 緯度36度未満を作業場所の範囲内とみなす
+    private static final double INSIDE = 35.0;
+    private static final double OUTSIDE = 37.0;
+    private static final WorkplaceGeofence GEOFENCE = (user, date) -> location -> location.latitude() < 36.0;
+
+    private final User user = new User("testuser");
+
+    private InMemoryLocationRepository locationRepository;
+    private InMemoryWorkSessionRepository workSessionRepository;
+    private WorkSessionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        locationRepository = new InMemoryLocationRepository(mock(LocationArchiveRepository.class));
+        workSessionRepository = new InMemoryWorkSessionRepository();
+        tracker = new WorkSessionTracker(workSessionRepository, locationRepository, GEOFENCE,
+            new LocalWorkSessionLock(), new WorkSessionProperties(true));
+    }
+
+    @Test
+    void recordAdded_1時間以内の位置情報_最新セッションを延長する() {
+        // Act
+        register(at(9, 0), INSIDE);
+        register(at(9, 30), INSIDE);
+        register(at(10, 30), INSIDE);
+
+        // Assert
+        List<WorkSession> sessions = allSessions();
+        assertEquals(1, sessions.size());
+        assertEquals(at(9, 0), sessions.get(0).startedAt());
+        assertEquals(at(10, 30), sessions.get(0).endedAt());
+        assertEquals(3, sessions.get(0).pointCount());
+        assertTrue(sessions.get(0).withinGeofence());
+    }
+
+    @Test
+    void recordAdded_1時間を超える間隔_新しいセッションを開始する() {
+        // Act（60分59秒は分未満切り捨てで60分のため同じセッション、61分は別セッション）
+        register(at(9, 0), INSIDE);
+        register(at(10, 0).plusSeconds(59), INSIDE);
+        register(at(11, 1).plusSeconds(59), INSIDE);
+
+        // Assert
+        List<WorkSession> sessions = allSessions();
+        assertEquals(2, sessions.size());
+        assertEquals(2, sessions.get(0).pointCount());
+        assertEquals(1, sessions.get(1).pointCount());
+    }
+
+    @Test
+    void recordAdded_作業場所の範囲内外が変わる_新しいセッションを開始する() {
+        // Act
+        register(at(9, 0), INSIDE);
+        register(at(9, 10), OUTSIDE);
+        register(at(9, 20), OUTSIDE);
+
+        // Assert
+        List<WorkSession> sessions = allSessions();
+        assertEquals(2, sessions.size());
+        assertTrue(sessions.get(0).withinGeofence());
+        assertFalse(sessions.get(1).withinGeofence());
+        assertEquals(2, sessions.get(1).pointCount());
+    }
+
+    @Test
+    void recordAdded_遅れて届いた位置情報_離れていた2つのセッションを結合する() {
+        // Arrange
+        register(at(9, 0), INSIDE);
+        register(at(11, 0), INSIDE);
+        assertEquals(2, allSessions().size());
+
+        // Act
+        register(at(10, 0), INSIDE);
+
+        // Assert
+        List<WorkSession> sessions = allSessions();
+        assertEquals(1, sessions.size());
+        assertEquals(at(9, 0), sessions.get(0).startedAt());
+        assertEquals(at(11, 0), sessions.get(0).endedAt());
+        assertEquals(3, sessions.get(0).pointCount());
+    }
+
+    @Test
+    void recordAdded_遅れて届いた位置情報のみ_trueを返す() {
+        // Arrange
+        register(at(9, 0), INSIDE);
+        register(at(11, 0), INSIDE);
+
+        // Act
+        boolean latest = tracker.executeTracked(user, () -> tracker.recordAdded(
+            locationRepository.saveIfAbsent(new Location(null, INSIDE, 139.0, at(11, 30), user)).orElseThrow()));
+        boolean late = tracker.executeTracked(user, () -> tracker.recordAdded(
+            locationRepository.saveIfAbsent(new Location(null, INSIDE, 139.0, at(10, 0), user)).orElseThrow()));
+
+        // Assert
+        assertFalse(latest);
+        assertTrue(late);
+    }
+
+    @Test
+    void repairAround_セッション途中の位置情報を削除_セッションを分割する() {
+        // Arrange
+        register(at(9, 0), INSIDE);
+        Location middle = register(at(9, 50), INSIDE);
+        register(at(10, 40), INSIDE);
+
+        // Act
+        tracker.executeTracked(user, () -> {
+            locationRepository.deleteById(middle.id());
+            tracker.repairAround(user, middle.recordedAt());
+            return null;
+        });
+
+        // Assert
+        List<WorkSession> sessions = allSessions();
+        assertEquals(2, sessions.size());
+        assertEquals(at(9, 0), sessions.get(0).endedAt());
+        assertEquals(at(10, 40), sessions.get(1).startedAt());
+    }
+
+    @Test
+    void recordAdded_順不同の登録_全件から分割した結果と一致する() {
+        // Arrange: 範囲内外・間隔が混在した位置情報を作成
+        Random random = new Random(42);
+        List<Location> points = new ArrayList<>();
+        LocalDateTime time = at(0, 0);
+        for (int i = 0; i < 200; i++) {
+            time = time.plusMinutes(1 + random.nextInt(90));
+            points.add(new Location(null, random.nextInt(5) == 0 ? OUTSIDE : INSIDE, 139.0, time, user));
+        }
+        List<Location> shuffled = new ArrayList<>(points);
+        Collections.shuffle(shuffled, random);
+
+        // Act
+        for (Location point : shuffled) {
+            register(point.recordedAt(), point.latitude());
+        }
+
+        // Assert
+        List<WorkSession> expected = WorkSessionTracker.sessionize(points, GEOFENCE);
+        List<WorkSession> actual = allSessions();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).startedAt(), actual.get(i).startedAt());
+            assertEquals(expected.get(i).endedAt(), actual.get(i).endedAt());
+            assertEquals(expected.get(i).pointCount(), actual.get(i).pointCount());
+            assertEquals(expected.get(i).withinGeofence(), actual.get(i).withinGeofence());
+        }
+    }
+
+    @Test
+    void recordAdded_勤務セッション無効_セッションを保存しない() {
+        // Arrange
+        tracker = new WorkSessionTracker(workSessionRepository, locationRepository, GEOFENCE,
+            new LocalWorkSessionLock(), WorkSessionProperties.defaultSettings());
+
+        // Act
+        register(at(9, 0), INSIDE);
+
+        // Assert
+        assertTrue(allSessions().isEmpty());
+    }
+
+    @Test
+    void constructor_nullWorkSessionRepository_例外が発生する() {
+        // Act & Assert
+        NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> new WorkSessionTracker(null, locationRepository, GEOFENCE,
+                new LocalWorkSessionLock(), WorkSessionProperties.defaultSettings())
+        );
+        assertEquals("workSessionRepositoryは必須です", exception.getMessage());
+    }
+
+    private Location register(LocalDateTime recordedAt, double latitude) {
+        return tracker.executeTracked(user, () -> {
+            Location saved = locationRepository.saveIfAbsent(new Location(null, latitude, 139.0, recordedAt, user)).orElseThrow();
+            tracker.recordAdded(saved);
+            return saved;
+        });
+    }
+
+    private List<WorkSession> allSessions() {
+        return workSessionRepository.findOverlapping(user, LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2024, 1, 10, hour, minute);
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.okanikani.kairos.locations.others.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.UpdateLocationRequest;
 import com.github.okanikani.kairos.security.JwtService;
@@ -221,12 +222,12 @@ class LocationApiIntegrationTest {
     void GPS座標境界値テスト() throws Exception {
         LocalDateTime now = LocalDateTime.now();
         
-        // 有効な境界値
+        // 有効な境界値（同一記録日時は重複登録となるため1秒ずつずらす）
         RegisterLocationRequest[] validRequests = {
-            new RegisterLocationRequest(90.0, 180.0, now),     // 最大値
-            new RegisterLocationRequest(-90.0, -180.0, now),   // 最小値
-            new RegisterLocationRequest(0.0, 0.0, now),        // 中央値
-            new RegisterLocationRequest(35.6762, 139.7649, now) // 実際の座標（東京駅）
+            new RegisterLocationRequest(90.0, 180.0, now),                   // 最大値
+            new RegisterLocationRequest(-90.0, -180.0, now.plusSeconds(1)),  // 最小値
+            new RegisterLocationRequest(0.0, 0.0, now.plusSeconds(2)),       // 中央値
+            new RegisterLocationRequest(35.6762, 139.7649, now.plusSeconds(3)) // 実際の座標（東京駅）
         };
         
         for (RegisterLocationRequest request : validRequests) {
@@ -240,6 +241,28 @@ class LocationApiIntegrationTest {
         }
     }
     
+    @Test
+    @DisplayName("重複登録テスト_同一記録日時の再送")
+    void 重複登録テスト_同一記録日時の再送は既存の位置情報を返す() throws Exception {
+        RegisterLocationRequest request = new RegisterLocationRequest(35.6762, 139.7649, LocalDateTime.of(2024, 5, 1, 9, 0));
+        
+        MvcResult first = mockMvc.perform(post("/api/locations")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        LocationResponse created = objectMapper.readValue(first.getResponse().getContentAsString(), LocationResponse.class);
+        
+        // タイムアウト後の再送を想定
+        mockMvc.perform(post("/api/locations")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(created.id()));
+    }
+    
     @Test
     @DisplayName("認証エラーテスト_未認証でのアクセス")
     void 認証エラーテスト_未認証でのアクセス() throws Exception {
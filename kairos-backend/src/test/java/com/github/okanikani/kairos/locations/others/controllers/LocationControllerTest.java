@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.okanikani.kairos.commons.dto.ErrorResponse;
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.locations.applications.usecases.ArchiveLocationsUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.DeleteLocationUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.FindAllLocationsUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.FindLocationByIdUseCase;
@@ -11,7 +12,9 @@ import com.github.okanikani.kairos.locations.applications.usecases.RegisterLocat
 import com.github.okanikani.kairos.locations.applications.usecases.SearchLocationsUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.UpdateLocationUseCase;
 import com.github.okanikani.kairos.locations.applications.usecases.PageableSearchLocationsUseCase;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.ArchiveLocationsResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationRequest;
+import com.github.okanikani.kairos.locations.applications.usecases.dto.RegisterLocationResult;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.UpdateLocationRequest;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.LocationResponse;
 import com.github.okanikani.kairos.locations.applications.usecases.dto.PagedLocationResponse;
@@ -28,6 +31,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.context.annotation.Import;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 
@@ -71,6 +75,9 @@ class LocationControllerTest {
     @MockitoBean
     private PageableSearchLocationsUseCase pageableSearchLocationsUseCase;
     
+    @MockitoBean
+    private ArchiveLocationsUseCase archiveLocationsUseCase;
+    
     @MockitoBean
     private JwtService jwtService;
 
@@ -92,7 +99,7 @@ class LocationControllerTest {
             recordedAt
         );
 
-        when(registerLocationUseCase.execute(any(RegisterLocationRequest.class), anyString())).thenReturn(expectedResponse);
+        when(registerLocationUseCase.execute(any(RegisterLocationRequest.class), anyString())).thenReturn(new RegisterLocationResult(expectedResponse, false));
 
         // Act & Assert
         mockMvc.perform(post("/api/locations")
@@ -108,6 +115,26 @@ class LocationControllerTest {
         verify(registerLocationUseCase, times(1)).execute(any(RegisterLocationRequest.class), eq("testuser"));
     }
 
+    @Test
+    @WithMockUser(username = "testuser")
+    void registerLocation_重複した再送_200ステータスと既存の位置情報を返す() throws Exception {
+        // Arrange
+        LocalDateTime recordedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+        RegisterLocationRequest request = new RegisterLocationRequest(35.6812, 139.7671, recordedAt);
+        LocationResponse existingResponse = new LocationResponse(1L, 35.6812, 139.7671, recordedAt);
+
+        when(registerLocationUseCase.execute(any(RegisterLocationRequest.class), anyString()))
+            .thenReturn(new RegisterLocationResult(existingResponse, true));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/locations")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
     @Test
     @WithMockUser(username = "testuser")
     void registerLocation_ユースケースで例外発生_400ステータスとエラーレスポンスを返す() throws Exception {
@@ -780,4 +807,34 @@ class LocationControllerTest {
 
         verify(pageableSearchLocationsUseCase, times(1)).execute(any(), eq("testuser"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void archiveLocations_正常ケース_200ステータスとアーカイブ件数を返す() throws Exception {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        when(archiveLocationsUseCase.execute(yearMonth, "testuser"))
+            .thenReturn(new ArchiveLocationsResponse(yearMonth, 42));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/locations/archive/2024/1")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.yearMonth").value("2024-01"))
+                .andExpect(jsonPath("$.archivedCount").value(42));
+
+        verify(archiveLocationsUseCase, times(1)).execute(yearMonth, "testuser");
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void archiveLocations_無効な月_400ステータスを返す() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/locations/archive/2024/13")
+                .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        verify(archiveLocationsUseCase, never()).execute(any(), any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.okanikani.kairos.locations.others.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.rules.others.controllers.WorkRuleController.RegisterWorkRuleRequestBody;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginRequest;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import com.github.okanikani.kairos.users.domains.models.repositories.UserRepository;
+import com.github.okanikani.kairos.users.others.repositories.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 作業場所の在席状況API統合テスト
+ * 登録・ログインしたユーザーのJWTでアクセスし、管理者のみ参照できることを検証
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "jwt.secret=test-secret-key-for-integration-testing-must-be-at-least-256-bits",
+    "jwt.expiration=86400000"
+})
+@DisplayName("作業場所の在席状況API統合テスト")
+class PresenceApiIntegrationTest {
+
+    // 他のテストの勤怠ルールと重ならない勤怠先ID
+    private static final long WORK_PLACE_ID = 4040L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        // テスト用のユーザーをクリア（InMemoryRepositoryの場合）
+        if (userRepository instanceof InMemoryUserRepository inMemoryUserRepository) {
+            inMemoryUserRepository.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("管理者ユーザーのJWT_勤怠先の在席状況を取得できる")
+    void 管理者ユーザー_在席状況を取得できる() throws Exception {
+        // Arrange
+        String token = registerAndLogin("presenceadmin", "ADMIN");
+        LocalDate today = LocalDate.now();
+        RegisterWorkRuleRequestBody workRule = new RegisterWorkRuleRequestBody(
+            WORK_PLACE_ID, 35.6762, 139.7649,
+            LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0),
+            today.minusDays(1), today.plusDays(1));
+        mockMvc.perform(post("/api/work-rules")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(workRule)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/presence/workplaces/" + WORK_PLACE_ID)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workPlaceId").value(WORK_PLACE_ID));
+    }
+
+    @Test
+    @DisplayName("一般ユーザーのJWT_403が返される")
+    void 一般ユーザー_403が返される() throws Exception {
+        // Arrange
+        String token = registerAndLogin("presenceuser", "USER");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/presence/workplaces/" + WORK_PLACE_ID)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private String registerAndLogin(String userId, String role) throws Exception {
+        String password = "PresenceTest123!";
+        RegisterRequest registerRequest = new RegisterRequest(
+            userId, "在席状況テストユーザー", userId + "@example.com", password, role);
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(userId, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(loginResult.getResponse().getContentAsString(), LoginResponse.class).accessToken();
+    }
+}
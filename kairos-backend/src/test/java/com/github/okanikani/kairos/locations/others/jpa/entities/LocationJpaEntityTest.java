@@ -0,0 +1,38 @@
+package com.github.okanikani.kairos.locations.others.jpa.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationJpaEntityTest {
+
+    @Test
+    void コンストラクタ_小数点以下6桁までの座標_そのまま読み戻せる() {
+        // Arrange & Act
+        LocationJpaEntity entity = new LocationJpaEntity(35.681236, 139.767125, LocalDateTime.of(2024, 1, 15, 9, 0), "user1");
+
+        // Assert
+        assertThat(entity.getLatitude()).isEqualTo(35.681236);
+        assertThat(entity.getLongitude()).isEqualTo(139.767125);
+    }
+
+    @Test
+    void コンストラクタ_小数点以下7桁目がある座標_マイクロ度に四捨五入される() {
+        // Arrange & Act
+        LocationJpaEntity entity = new LocationJpaEntity(35.6812368, -139.7671254, LocalDateTime.of(2024, 1, 15, 9, 0), "user1");
+
+        // Assert
+        assertThat(entity.getLatitude()).isEqualTo(35.681237);
+        assertThat(entity.getLongitude()).isEqualTo(-139.767125);
+    }
+
+    @Test
+    void toMicrodegrees_範囲の端_整数に収まる() {
+        // Act & Assert
+        assertThat(LocationJpaEntity.toMicrodegrees(90.0)).isEqualTo(90_000_000);
+        assertThat(LocationJpaEntity.toMicrodegrees(-180.0)).isEqualTo(-180_000_000);
+        assertThat(LocationJpaEntity.fromMicrodegrees(180_000_000)).isEqualTo(180.0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.okanikani.kairos.locations.others.jpa.repositories;
+
+import com.github.okanikani.kairos.locations.others.jpa.entities.LocationJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 位置情報テーブルのレイアウトごとの登録スループットとディスク使用量の比較
+ *
+ * db/migrations/008 より前のレイアウト（DOUBLE PRECISIONの座標、user_id・recorded_at のB-treeインデックス）と
+ * 現在のレイアウト（マイクロ度の整数の座標、recorded_at のBRINインデックス）のテーブルに、
+ * 端末と同じく1件ずつ INSERT ... ON CONFLICT DO NOTHING で並行して登録した時間と、
+ * 登録後のテーブル・インデックスのサイズを比較する。
+ * 時間がかかりDockerも必要なため、通常のテスト実行では実行しない。
+ *
+ * 実行例:
+ *   mvn test -Dtest=LocationTableLayoutBenchmarkTest -Dkairos.benchmark=true
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("位置情報テーブルのレイアウトのベンチマーク")
+@TestPropertySource(properties = {
+        "spring.autoconfigure.exclude="
+})
+@EnabledIfSystemProperty(named = "kairos.benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LocationTableLayoutBenchmarkTest {
+
+    private static final int USERS = 50;
+    private static final int POINTS_PER_USER = 4_000;
+    private static final int THREADS = 8;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(THREADS));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void BRINとマイクロ度_B_treeとDOUBLE_PRECISIONより登録が速くディスク使用量が小さい() throws Exception {
+        // Arrange
+        jdbcTemplate.execute("""
+            CREATE TABLE locations_legacy (
+                id BIGSERIAL PRIMARY KEY,
+                latitude DOUBLE PRECISION NOT NULL,
+                longitude DOUBLE PRECISION NOT NULL,
+                recorded_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                user_id VARCHAR(255) NOT NULL,
+                created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                CONSTRAINT uk_locations_legacy_user_recorded_at UNIQUE (user_id, recorded_at)
+            )""");
+        jdbcTemplate.execute("CREATE INDEX idx_locations_legacy_user_id ON locations_legacy(user_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_locations_legacy_recorded_at ON locations_legacy(recorded_at)");
+        jdbcTemplate.execute("""
+            CREATE TABLE locations_compact (
+                id BIGSERIAL PRIMARY KEY,
+                latitude_e6 INTEGER NOT NULL,
+                longitude_e6 INTEGER NOT NULL,
+                recorded_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                user_id VARCHAR(255) NOT NULL,
+                created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                CONSTRAINT uk_locations_compact_user_recorded_at UNIQUE (user_id, recorded_at)
+            )""");
+        jdbcTemplate.execute("CREATE INDEX idx_locations_compact_recorded_at_brin ON locations_compact "
+            + "USING BRIN (recorded_at) WITH (pages_per_range = 32)");
+        Result legacyResult;
+        Result compactResult;
+
+        // Act
+        legacyResult = run("B-tree + DOUBLE PRECISION", "locations_legacy",
+            "INSERT INTO locations_legacy (latitude, longitude, recorded_at, user_id) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT (user_id, recorded_at) DO NOTHING RETURNING id",
+            false);
+        compactResult = run("BRIN + microdegrees", "locations_compact",
+            "INSERT INTO locations_compact (latitude_e6, longitude_e6, recorded_at, user_id) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT (user_id, recorded_at) DO NOTHING RETURNING id",
+            true);
+
+        // Assert
+        assertTrue(compactResult.insertPerSecond() > legacyResult.insertPerSecond(),
+            "登録のスループットが従来のレイアウトを下回りました");
+        assertTrue(compactResult.totalBytes() < legacyResult.totalBytes(),
+            "ディスク使用量が従来のレイアウトを上回りました");
+    }
+
+    private record Result(double insertPerSecond, long tableBytes, long indexBytes) {
+
+        long totalBytes() {
+            return tableBytes + indexBytes;
+        }
+    }
+
+    private Result run(String name, String table, String insertSql, boolean microdegrees) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // 登録: 全ユーザーの位置情報を記録日時の順に（端末から届く順に）1件ずつ登録する
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < POINTS_PER_USER; i++) {
+                        for (int u = thread; u < USERS; u += THREADS) {
+                            double latitude = 35.0 + u * 0.01 + i * 1e-6;
+                            double longitude = 139.0 + u * 0.01 + i * 1e-6;
+                            Object lat = microdegrees ? LocationJpaEntity.toMicrodegrees(latitude) : latitude;
+                            Object lon = microdegrees ? LocationJpaEntity.toMicrodegrees(longitude) : longitude;
+                            jdbcTemplate.queryForList(insertSql, Long.class,
+                                lat, lon, Timestamp.valueOf(BASE.plusMinutes(i)), "benchmark-user-" + u);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            jdbcTemplate.execute("VACUUM ANALYZE " + table);
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+            assertEquals((long) USERS * POINTS_PER_USER, count);
+            Long tableBytes = jdbcTemplate.queryForObject("SELECT pg_table_size(?::regclass)", Long.class, table);
+            Long indexBytes = jdbcTemplate.queryForObject("SELECT pg_indexes_size(?::regclass)", Long.class, table);
+
+            Result result = new Result(count / seconds, tableBytes, indexBytes);
+            System.out.printf("%s: insert=%.0f rows/s, table=%d bytes, indexes=%d bytes%n",
+                name, result.insertPerSecond(), result.tableBytes(), result.indexBytes());
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileLocationArchiveRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileLocationArchiveRepository repository;
+    private final User user = new User("testuser");
+
+    @BeforeEach
+    void setUp() {
+        repository = new FileLocationArchiveRepository(
+            new LocationArchiveProperties(true, tempDir.toString(), 3));
+    }
+
+    @Test
+    void archive_正常ケース_範囲検索で同じ位置情報が復元される() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        List<Location> locations = List.of(
+            new Location(10L, 35.6812345, 139.7671234, LocalDateTime.of(2024, 1, 15, 9, 0, 0), user),
+            new Location(11L, 35.6812400, 139.7671100, LocalDateTime.of(2024, 1, 15, 9, 1, 0, 500_000_000), user),
+            new Location(7L, -33.8688197, -151.2092955, LocalDateTime.of(2024, 1, 31, 23, 59, 59), user)
+        );
+
+        // Act
+        repository.archive(user, yearMonth, locations);
+        List<Location> restored = repository.findByUserAndDateTimeRange(
+            user, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59, 59));
+
+        // Assert
+        assertTrue(repository.isArchived(user, yearMonth));
+        assertEquals(locations, restored);
+    }
+
+    @Test
+    void findByUserAndDateTimeRange_正常ケース_範囲外の位置情報は含まれない() {
+        // Arrange
+        List<Location> january = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 10, 8, 0);
+        for (int i = 0; i < 100; i++) {
+            january.add(new Location((long) i + 1, 35.0, 139.0, base.plusMinutes(i), user));
+        }
+        repository.archive(user, YearMonth.of(2024, 1), january);
+        repository.archive(user, YearMonth.of(2024, 2), List.of(
+            new Location(500L, 35.0, 139.0, LocalDateTime.of(2024, 2, 1, 9, 0), user)));
+
+        // Act
+        List<Location> result = repository.findByUserAndDateTimeRange(
+            user, base.plusMinutes(10), LocalDateTime.of(2024, 2, 1, 9, 0));
+
+        // Assert
+        assertEquals(91, result.size());
+        assertEquals(base.plusMinutes(10), result.get(0).recordedAt());
+        assertEquals(500L, result.get(result.size() - 1).id());
+    }
+
+    @Test
+    void findByUserAndDateTimeRange_無効設定_アーカイブを参照しない() {
+        // Arrange
+        repository.archive(user, YearMonth.of(2024, 1), List.of(
+            new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user)));
+        FileLocationArchiveRepository disabled = new FileLocationArchiveRepository(
+            new LocationArchiveProperties(false, tempDir.toString(), 3));
+
+        // Act
+        List<Location> result = disabled.findByUserAndDateTimeRange(
+            user, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 0, 0));
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void archive_異常ケース_対象年月外の位置情報で例外が発生する() {
+        // Arrange
+        List<Location> locations = List.of(
+            new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 2, 1, 0, 0), user));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> repository.archive(user, YearMonth.of(2024, 1), locations));
+        assertFalse(repository.isArchived(user, YearMonth.of(2024, 1)));
+    }
+
+    @Test
+    void findByUserAndRecordedAt_正常ケース_アーカイブ済みの記録日時のみ見つかる() {
+        // Arrange
+        Location archived = new Location(3L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user);
+        repository.archive(user, YearMonth.of(2024, 1), List.of(archived));
+
+        // Act & Assert
+        assertEquals(Optional.of(archived), repository.findByUserAndRecordedAt(user, archived.recordedAt()));
+        assertTrue(repository.findByUserAndRecordedAt(user, archived.recordedAt().plusSeconds(1)).isEmpty());
+        assertTrue(repository.findByUserAndRecordedAt(user, LocalDateTime.of(2024, 2, 10, 9, 0)).isEmpty());
+        assertTrue(repository.findByUserAndRecordedAt(new User("otheruser"), archived.recordedAt()).isEmpty());
+    }
+
+    @Test
+    void findByUserAndDateTimeRange_上下限なしの範囲_全ての年月のアーカイブを昇順で返す() {
+        // Arrange
+        Location december = new Location(1L, 35.0, 139.0, LocalDateTime.of(2023, 12, 31, 23, 0), user);
+        Location march = new Location(2L, 35.0, 139.0, LocalDateTime.of(2024, 3, 1, 0, 0), user);
+        repository.archive(user, YearMonth.of(2024, 3), List.of(march));
+        repository.archive(user, YearMonth.of(2023, 12), List.of(december));
+
+        // Act
+        List<Location> result = repository.findByUserAndDateTimeRange(user, LocalDateTime.MIN, LocalDateTime.MAX);
+
+        // Assert
+        assertEquals(List.of(december, march), result);
+    }
+
+    @Test
+    void findByDateTimeRange_正常ケース_全ユーザーのアーカイブを記録日時の昇順で返す() {
+        // Arrange
+        User otherUser = new User("other/user+1");
+        Location first = new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user);
+        Location second = new Location(2L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 30), otherUser);
+        Location outOfRange = new Location(3L, 35.0, 139.0, LocalDateTime.of(2024, 1, 11, 9, 0), otherUser);
+        repository.archive(user, YearMonth.of(2024, 1), List.of(first));
+        repository.archive(otherUser, YearMonth.of(2024, 1), List.of(second, outOfRange));
+
+        // Act
+        List<Location> result = repository.findByDateTimeRange(
+            LocalDateTime.of(2024, 1, 10, 0, 0), LocalDateTime.of(2024, 1, 10, 23, 59));
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void findByUserAndId_正常ケース_指定ユーザーのアーカイブからIDで探す() {
+        // Arrange
+        Location january = new Location(10L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user);
+        Location february = new Location(20L, 35.0, 139.0, LocalDateTime.of(2024, 2, 10, 9, 0), user);
+        repository.archive(user, YearMonth.of(2024, 1), List.of(january));
+        repository.archive(user, YearMonth.of(2024, 2), List.of(february));
+
+        // Act & Assert
+        assertEquals(Optional.of(february), repository.findByUserAndId(user, 20L));
+        assertTrue(repository.findByUserAndId(user, 30L).isEmpty());
+        assertTrue(repository.findByUserAndId(new User("otheruser"), 20L).isEmpty());
+    }
+
+    @Test
+    void archive_トランザクション中_ロールバックで新規のアーカイブは削除される() throws IOException {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        List<Location> locations = List.of(
+            new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user));
+
+        // Act
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+            () -> repository.archive(user, yearMonth, locations));
+
+        // Assert
+        assertFalse(repository.isArchived(user, yearMonth));
+        assertEquals(List.of(), archiveFiles());
+    }
+
+    @Test
+    void archive_トランザクション中_ロールバックで置き換え前のアーカイブに戻る() throws IOException {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        List<Location> before = List.of(
+            new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user));
+        List<Location> after = List.of(
+            before.get(0),
+            new Location(2L, 35.0, 139.0, LocalDateTime.of(2024, 1, 11, 9, 0), user));
+        repository.archive(user, yearMonth, before);
+
+        // Act
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+            () -> repository.archive(user, yearMonth, after));
+
+        // Assert
+        assertEquals(before, repository.findByUserAndDateTimeRange(
+            user, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59)));
+        assertEquals(List.of("2024-01.kloc"), archiveFiles());
+    }
+
+    @Test
+    void archive_トランザクション中_コミットで置き換え後のアーカイブが残る() throws IOException {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        List<Location> before = List.of(
+            new Location(1L, 35.0, 139.0, LocalDateTime.of(2024, 1, 10, 9, 0), user));
+        List<Location> after = List.of(
+            before.get(0),
+            new Location(2L, 35.0, 139.0, LocalDateTime.of(2024, 1, 11, 9, 0), user));
+        repository.archive(user, yearMonth, before);
+
+        // Act
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+            () -> repository.archive(user, yearMonth, after));
+
+        // Assert
+        assertEquals(after, repository.findByUserAndDateTimeRange(
+            user, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59)));
+        assertEquals(List.of("2024-01.kloc"), archiveFiles());
+    }
+
+    /**
+     * トランザクション同期を有効にして処理を実行し、指定した結果でトランザクションを完了させる
+     */
+    private void inTransaction(int status, Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            // アーカイブはトランザクション完了までは置き換え後の内容を返す
+            assertFalse(repository.findByUserAndDateTimeRange(
+                user, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59)).isEmpty());
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<String> archiveFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile).map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
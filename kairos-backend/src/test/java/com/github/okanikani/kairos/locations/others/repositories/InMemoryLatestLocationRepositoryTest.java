@@ -0,0 +1,86 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemoryLatestLocationRepositoryのUnit Test
+ *
+ * テスト対象: 最新位置の置き換えと、セル索引を使った周辺ユーザーの検索
+ */
+class InMemoryLatestLocationRepositoryTest {
+
+    // 東京駅
+    private static final double CENTER_LATITUDE = 35.6812;
+    private static final double CENTER_LONGITUDE = 139.7671;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    private InMemoryLatestLocationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryLatestLocationRepository();
+    }
+
+    @Test
+    void recordIfNewer_古い位置情報_最新位置は変わらない() {
+        repository.recordIfNewer(location(1L, "user001", CENTER_LATITUDE, CENTER_LONGITUDE, BASE.plusMinutes(10)));
+
+        // 再送された古い位置情報（範囲外）
+        repository.recordIfNewer(location(2L, "user001", 35.70, 139.70, BASE));
+
+        assertThat(findNearCenter(BASE)).extracting(Location::id).containsExactly(1L);
+    }
+
+    @Test
+    void recordIfNewer_範囲外へ移動_範囲内の検索に含まれなくなる() {
+        repository.recordIfNewer(location(1L, "user001", CENTER_LATITUDE, CENTER_LONGITUDE, BASE));
+
+        repository.recordIfNewer(location(2L, "user001", 35.70, 139.70, BASE.plusMinutes(5)));
+
+        assertThat(findNearCenter(BASE)).isEmpty();
+    }
+
+    @Test
+    void findWithin_半径内かつ指定日時以降_該当ユーザーをユーザーIDの昇順で返す() {
+        // 範囲内（約50メートル）
+        repository.recordIfNewer(location(1L, "user002", CENTER_LATITUDE + 0.0004, CENTER_LONGITUDE, BASE));
+        // 範囲内（中心）
+        repository.recordIfNewer(location(2L, "user001", CENTER_LATITUDE, CENTER_LONGITUDE, BASE));
+        // 隣のセルだが半径外（約150メートル）
+        repository.recordIfNewer(location(3L, "user003", CENTER_LATITUDE + 0.00135, CENTER_LONGITUDE, BASE));
+        // 範囲内だが古い
+        repository.recordIfNewer(location(4L, "user004", CENTER_LATITUDE, CENTER_LONGITUDE, BASE.minusHours(1)));
+
+        List<Location> result = findNearCenter(BASE);
+
+        assertThat(result).extracting(location -> location.user().userId()).containsExactly("user001", "user002");
+    }
+
+    @Test
+    void replaceとremove_最新位置の置き換えと削除が検索に反映される() {
+        repository.recordIfNewer(location(1L, "user001", 35.70, 139.70, BASE.plusMinutes(10)));
+
+        // 更新・削除により履歴から求め直した最新位置は、記録日時が古くても置き換える
+        repository.replace(location(2L, "user001", CENTER_LATITUDE, CENTER_LONGITUDE, BASE));
+        assertThat(findNearCenter(BASE)).extracting(Location::id).containsExactly(2L);
+
+        repository.remove(new User("user001"));
+        assertThat(findNearCenter(BASE)).isEmpty();
+    }
+
+    private List<Location> findNearCenter(LocalDateTime since) {
+        return repository.findWithin(CENTER_LATITUDE, CENTER_LONGITUDE, 100.0, since);
+    }
+
+    private Location location(Long id, String userId, double latitude, double longitude, LocalDateTime recordedAt) {
+        return new Location(id, latitude, longitude, recordedAt, new User(userId));
+    }
+}
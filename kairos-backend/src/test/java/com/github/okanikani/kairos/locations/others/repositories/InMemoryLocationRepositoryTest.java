@@ -0,0 +1,64 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryLocationRepositoryTest extends LocationRepositoryContractTest {
+
+    private InMemoryLocationRepository repository;
+    private final LocalDateTime recordedAt = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryLocationRepository(archiveRepository());
+    }
+
+    @Override
+    protected LocationRepository repository() {
+        return repository;
+    }
+
+    @Test
+    void saveIfAbsent_正常ケース_新規の位置情報は採番して保存される() {
+        // Act
+        Optional<Location> saved = repository.saveIfAbsent(new Location(null, 35.0, 139.0, recordedAt, user));
+
+        // Assert
+        assertTrue(saved.isPresent());
+        assertNotNull(saved.get().id());
+        assertEquals(saved, repository.findByUserAndRecordedAt(user, recordedAt));
+    }
+
+    @Test
+    void saveIfAbsent_正常ケース_同一ユーザーかつ同一記録日時は保存されない() {
+        // Arrange
+        repository.saveIfAbsent(new Location(null, 35.0, 139.0, recordedAt, user));
+
+        // Act
+        Optional<Location> duplicate = repository.saveIfAbsent(new Location(null, 35.1, 139.1, recordedAt, user));
+
+        // Assert
+        assertTrue(duplicate.isEmpty());
+        assertEquals(1, repository.findByUser(user).size());
+    }
+
+    @Test
+    void saveIfAbsent_正常ケース_別ユーザーの同一記録日時は保存される() {
+        // Arrange
+        repository.saveIfAbsent(new Location(null, 35.0, 139.0, recordedAt, user));
+
+        // Act
+        Optional<Location> saved = repository.saveIfAbsent(new Location(null, 35.0, 139.0, recordedAt, new User("otheruser")));
+
+        // Assert
+        assertTrue(saved.isPresent());
+    }
+}
@@ -0,0 +1,329 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LocationRepositoryの実装が満たすべき共通の振る舞い
+ *
+ * 各実装のテストはこのクラスを継承し、空のリポジトリを返す {@link #repository()} を実装する
+ * リポジトリには {@link #archiveRepository()} のアーカイブを渡す
+ */
+abstract class LocationRepositoryContractTest {
+
+    protected final User user = new User("contractuser");
+    protected final User otherUser = new User("othercontractuser");
+    protected final LocalDateTime base = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    @TempDir
+    Path archiveDir;
+
+    private FileLocationArchiveRepository archiveRepository;
+
+    /**
+     * @return テスト対象のリポジトリ（位置情報が1件も無い状態）
+     */
+    protected abstract LocationRepository repository();
+
+    /**
+     * @return テスト対象のリポジトリに渡すアーカイブ（有効設定、アーカイブが1件も無い状態）
+     */
+    protected FileLocationArchiveRepository archiveRepository() {
+        if (archiveRepository == null) {
+            archiveRepository = new FileLocationArchiveRepository(
+                new LocationArchiveProperties(true, archiveDir.toString(), 3));
+        }
+        return archiveRepository;
+    }
+
+    @Test
+    void contract_save_新規の位置情報は採番され_IDで取得できる() {
+        // Act
+        Location saved = repository().save(new Location(null, 35.0, 139.0, base, user));
+
+        // Assert
+        assertNotNull(saved.id());
+        assertEquals(saved, repository().findById(saved.id()));
+    }
+
+    @Test
+    void contract_save_既存IDの位置情報は更新される() {
+        // Arrange
+        Location saved = repository().save(new Location(null, 35.0, 139.0, base, user));
+
+        // Act
+        Location updated = repository().save(new Location(saved.id(), 35.5, 139.5, base.plusMinutes(5), user));
+
+        // Assert
+        assertEquals(saved.id(), updated.id());
+        assertEquals(updated, repository().findById(saved.id()));
+        assertEquals(List.of(updated), repository().findByUserAndDateTimeRange(user, base, base.plusHours(1)));
+        assertTrue(repository().findByUserAndRecordedAt(user, base).isEmpty());
+    }
+
+    @Test
+    void contract_saveIfAbsent_同一ユーザーかつ同一記録日時は保存されない() {
+        // Arrange
+        Location first = repository().saveIfAbsent(new Location(null, 35.0, 139.0, base, user)).orElseThrow();
+
+        // Act
+        Optional<Location> duplicate = repository().saveIfAbsent(new Location(null, 35.1, 139.1, base, user));
+        Optional<Location> other = repository().saveIfAbsent(new Location(null, 35.1, 139.1, base, otherUser));
+
+        // Assert
+        assertTrue(duplicate.isEmpty());
+        assertTrue(other.isPresent());
+        assertEquals(Optional.of(first), repository().findByUserAndRecordedAt(user, base));
+    }
+
+    @Test
+    void contract_saveIfAbsent_アーカイブ済みの同一記録日時は保存されない() {
+        // Arrange
+        Location archived = new Location(9001L, 35.0, 139.0, base, user);
+        archive(archived);
+
+        // Act
+        Optional<Location> result = repository().saveIfAbsent(new Location(null, 35.0, 139.0, base, user));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(Optional.of(archived), repository().findByUserAndRecordedAt(user, base));
+        assertEquals(List.of(archived), repository().findByUserAndDateTimeRange(user, base.minusHours(1), base.plusHours(1)));
+        assertTrue(repository().saveIfAbsent(new Location(null, 35.0, 139.0, base, otherUser)).isPresent());
+    }
+
+    @Test
+    void contract_saveIfAbsent_IDありの位置情報は例外が発生する() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> repository().saveIfAbsent(new Location(1L, 35.0, 139.0, base, user)));
+    }
+
+    @Test
+    void contract_findByUserAndDateTimeRange_両端を含む範囲を記録日時の昇順で返す() {
+        // Arrange（登録順と記録日時の順を入れ替える）
+        Location late = save(base.plusHours(2), user);
+        Location early = save(base, user);
+        Location middle = save(base.plusHours(1), user);
+        save(base.plusHours(3), user);
+        save(base.plusHours(1), otherUser);
+
+        // Act
+        List<Location> result = repository().findByUserAndDateTimeRange(user, base, base.plusHours(2));
+
+        // Assert
+        assertEquals(List.of(early, middle, late), result);
+    }
+
+    @Test
+    void contract_findByDateTimeRange_全ユーザーの範囲内の位置情報を記録日時の昇順で返す() {
+        // Arrange
+        Location second = save(base.plusMinutes(30), otherUser);
+        Location first = save(base, user);
+        save(base.minusMinutes(1), user);
+
+        // Act
+        List<Location> result = repository().findByDateTimeRange(base, base.plusHours(1));
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void contract_findByDate_指定日の位置情報のみ返す() {
+        // Arrange
+        Location inDay = save(base, user);
+        save(base.plusDays(1), user);
+
+        // Act
+        List<Location> result = repository().findByDate(base.withHour(0));
+
+        // Assert
+        assertEquals(List.of(inDay), result);
+    }
+
+    @Test
+    void contract_findByUser_指定ユーザーの位置情報のみ返す() {
+        // Arrange
+        Location first = save(base, user);
+        Location second = save(base.plusHours(1), user);
+        save(base, otherUser);
+
+        // Act
+        List<Location> result = repository().findByUser(user);
+
+        // Assert（並び順は実装により異なるため件数と内容のみ確認する）
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(first, second)));
+    }
+
+    @Test
+    void contract_findById_存在しないIDはnullを返す() {
+        // Act & Assert
+        assertNull(repository().findById(Long.MAX_VALUE));
+    }
+
+    @Test
+    void contract_deleteById_削除した位置情報は検索されない() {
+        // Arrange
+        Location deleted = save(base, user);
+        Location kept = save(base.plusHours(1), user);
+
+        // Act
+        repository().deleteById(deleted.id());
+
+        // Assert
+        assertNull(repository().findById(deleted.id()));
+        assertTrue(repository().findByUserAndRecordedAt(user, base).isEmpty());
+        assertEquals(List.of(kept), repository().findByUserAndDateTimeRange(user, base, base.plusHours(1)));
+        // 削除後は同じ記録日時で再登録できる
+        assertTrue(repository().saveIfAbsent(new Location(null, 35.0, 139.0, base, user)).isPresent());
+    }
+
+    @Test
+    void contract_deleteAllById_複数ユーザーの位置情報をまとめて削除する() {
+        // Arrange
+        Location first = save(base, user);
+        Location second = save(base, otherUser);
+        Location kept = save(base.plusHours(1), user);
+
+        // Act
+        repository().deleteAllById(List.of(first.id(), second.id()));
+
+        // Assert
+        assertEquals(List.of(kept), repository().findByDateTimeRange(base, base.plusHours(1)));
+    }
+
+    @Test
+    void contract_findByUserAndDateTimeRange_ページング_指定ページと総件数を返す() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            save(base.plusMinutes(i), user);
+        }
+
+        // Act
+        Page<Location> page = repository().findByUserAndDateTimeRange(user, base, base.plusHours(1),
+            PageRequest.of(1, 2, Sort.by("recordedAt")));
+
+        // Assert
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of(base.plusMinutes(2), base.plusMinutes(3)),
+            page.getContent().stream().map(Location::recordedAt).toList());
+    }
+
+    @Test
+    void contract_findByUserAndDateTimeRange_ページング_アーカイブ済みの位置情報を記録日時順に合成する() {
+        // Arrange
+        LocalDateTime february = base.plusMonths(1);
+        List<Location> expected = new ArrayList<>();
+        expected.add(save(base, user));
+        expected.add(save(base.plusMinutes(1), user));
+        Location archivedFirst = new Location(9001L, 35.0, 139.0, february, user);
+        Location archivedSecond = new Location(9002L, 35.0, 139.0, february.plusMinutes(1), user);
+        Location archivedLast = new Location(9003L, 35.0, 139.0, february.plusDays(2), user);
+        archive(archivedFirst, archivedSecond, archivedLast);
+        // アーカイブ後に届いた同じ月の位置情報はアーカイブの間に並ぶ
+        Location lateInFebruary = save(february.plusDays(1), user);
+        expected.addAll(List.of(archivedFirst, archivedSecond, lateInFebruary, archivedLast));
+        expected.add(save(base.plusMonths(2), user));
+        save(february.plusMinutes(5), otherUser);
+
+        // Act & Assert（どのページサイズでも、ページを連結すると全体を記録日時順に並べたものと一致する）
+        for (int size = 1; size <= expected.size() + 1; size++) {
+            List<Location> concatenated = new ArrayList<>();
+            for (int page = 0; page * size <= expected.size(); page++) {
+                Page<Location> result = repository().findByUserAndDateTimeRange(user, base, base.plusMonths(3),
+                    PageRequest.of(page, size, Sort.by("recordedAt")));
+                assertEquals(expected.size(), result.getTotalElements());
+                concatenated.addAll(result.getContent());
+            }
+            assertEquals(expected, concatenated, "size=" + size);
+        }
+    }
+
+    @Test
+    void contract_findByUser_アーカイブ済みの位置情報も返す() {
+        // Arrange
+        Location stored = save(base.plusMonths(1), user);
+        Location archived = new Location(9001L, 35.0, 139.0, base, user);
+        archive(archived);
+        archive(new Location(9002L, 35.0, 139.0, base, otherUser));
+
+        // Act
+        List<Location> result = repository().findByUser(user);
+
+        // Assert（並び順は実装により異なるため件数と内容のみ確認する）
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(stored, archived)));
+    }
+
+    @Test
+    void contract_findByDateTimeRange_アーカイブ済みの全ユーザーの位置情報も記録日時の昇順で返す() {
+        // Arrange
+        Location stored = save(base.plusMinutes(20), user);
+        Location archived = new Location(9001L, 35.0, 139.0, base.plusMinutes(10), user);
+        Location otherArchived = new Location(9002L, 35.0, 139.0, base.plusMinutes(30), otherUser);
+        archive(archived);
+        archive(otherArchived);
+
+        // Act
+        List<Location> result = repository().findByDateTimeRange(base, base.plusHours(1));
+
+        // Assert
+        assertEquals(List.of(archived, stored, otherArchived), result);
+    }
+
+    @Test
+    void contract_findArchivedByUserAndId_所有者のアーカイブのみ対象で_IDでは取得できない() {
+        // Arrange
+        Location archived = new Location(9001L, 35.0, 139.0, base, user);
+        archive(archived);
+
+        // Act & Assert
+        assertEquals(Optional.of(archived), repository().findArchivedByUserAndId(user, 9001L));
+        assertTrue(repository().findArchivedByUserAndId(otherUser, 9001L).isEmpty());
+        assertTrue(repository().findArchivedByUserAndId(user, 9002L).isEmpty());
+        assertNull(repository().findById(9001L));
+    }
+
+    @Test
+    void contract_findLatestByUser_記録日時が最も遅い位置情報を返し_無ければemptyを返す() {
+        // Arrange
+        save(base.plusMinutes(10), user);
+        Location latest = save(base.plusMinutes(30), user);
+        save(base.plusMinutes(20), user);
+        save(base.plusHours(1), otherUser);
+
+        // Act & Assert
+        assertEquals(Optional.of(latest), repository().findLatestByUser(user));
+        assertTrue(repository().findLatestByUser(new User("nolocationuser")).isEmpty());
+    }
+
+    /**
+     * 位置情報を記録日時の年月のアーカイブとして書き込む（同じ年月の既存のアーカイブは置き換える）
+     */
+    protected void archive(Location... locations) {
+        Location first = locations[0];
+        archiveRepository().archive(first.user(), YearMonth.from(first.recordedAt()), List.of(locations));
+    }
+
+    protected Location save(LocalDateTime recordedAt, User owner) {
+        return repository().saveIfAbsent(new Location(null, 35.0, 139.0, recordedAt, owner)).orElseThrow();
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.LocationArchiveProperties;
+import com.github.okanikani.kairos.commons.config.LocationStoreProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.domains.models.vos.User;
+import com.github.okanikani.kairos.locations.others.jpa.repositories.LocationJpaRepository;
+import com.github.okanikani.kairos.locations.others.segments.LocationSegmentStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 位置情報の保存先ごとの登録・範囲検索スループットの比較
+ *
+ * PostgreSQL（JpaLocationRepository）とセグメントファイル（SegmentFileLocationRepository）に
+ * 同じ件数の位置情報を並行して登録し、1日分の範囲検索を繰り返した時間を比較する。
+ * 時間がかかりDockerも必要なため、通常のテスト実行では実行しない。
+ *
+ * 実行例:
+ *   mvn test -Dtest=LocationStoreBenchmarkTest -Dkairos.benchmark=true
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("位置情報ストアのベンチマーク")
+@TestPropertySource(properties = {
+        "spring.autoconfigure.exclude="
+})
+@EnabledIfSystemProperty(named = "kairos.benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LocationStoreBenchmarkTest {
+
+    private static final int USERS = 20;
+    private static final int POINTS_PER_USER = 2_000;
+    private static final int THREADS = 8;
+    private static final int RANGE_QUERIES = 2_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(THREADS));
+    }
+
+    @Autowired
+    private LocationJpaRepository locationJpaRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void セグメントファイル_PostgreSQLより登録と範囲検索のスループットが高い() throws Exception {
+        // Arrange
+        FileLocationArchiveRepository archive = new FileLocationArchiveRepository(LocationArchiveProperties.defaultSettings());
+        JpaLocationRepository jpa = new JpaLocationRepository(locationJpaRepository, archive);
+        Result postgresResult;
+        Result segmentResult;
+
+        // Act
+        postgresResult = run("PostgreSQL", jpa);
+        try (LocationSegmentStore store = new LocationSegmentStore(new LocationStoreProperties(
+                tempDir.toString(), 0, Duration.ofMillis(2), 256, 0.25, Duration.ofMinutes(10)))) {
+            segmentResult = run("SegmentFile", new SegmentFileLocationRepository(store, archive));
+        }
+
+        // Assert
+        assertTrue(segmentResult.ingestPerSecond() > postgresResult.ingestPerSecond(),
+            "登録のスループットがPostgreSQLを下回りました");
+        assertTrue(segmentResult.rangeScanPerSecond() > postgresResult.rangeScanPerSecond(),
+            "範囲検索のスループットがPostgreSQLを下回りました");
+    }
+
+    private record Result(double ingestPerSecond, double rangeScanPerSecond) {
+    }
+
+    private Result run(String name, LocationRepository repository) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // 登録: ユーザーごとに1分間隔の位置情報を端末と同じく1件ずつ登録する
+            long ingestStart = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                User user = new User("benchmark-user-" + u);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < POINTS_PER_USER; i++) {
+                        repository.saveIfAbsent(new Location(null, 35.0 + i * 1e-6, 139.0, BASE.plusMinutes(i), user));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double ingestSeconds = (System.nanoTime() - ingestStart) / 1e9;
+
+            // 範囲検索: 勤怠表生成・一覧表示と同じく1日分を検索する
+            long scanStart = System.nanoTime();
+            futures.clear();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int q = thread; q < RANGE_QUERIES; q += THREADS) {
+                        User user = new User("benchmark-user-" + (q % USERS));
+                        LocalDateTime from = BASE.plusHours(q % 24);
+                        List<Location> result = repository.findByUserAndDateTimeRange(user, from, from.plusDays(1));
+                        assertEquals(Math.min(POINTS_PER_USER - (q % 24) * 60, 24 * 60 + 1), result.size());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double scanSeconds = (System.nanoTime() - scanStart) / 1e9;
+
+            Result result = new Result(USERS * POINTS_PER_USER / ingestSeconds, RANGE_QUERIES / scanSeconds);
+            System.out.printf("%s: ingest=%.0f points/s, range-scan=%.0f queries/s%n",
+                name, result.ingestPerSecond(), result.rangeScanPerSecond());
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
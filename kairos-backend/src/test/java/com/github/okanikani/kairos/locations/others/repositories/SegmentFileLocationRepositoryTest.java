@@ -0,0 +1,232 @@
+package com.github.okanikani.kairos.locations.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.LocationStoreProperties;
+import com.github.okanikani.kairos.locations.domains.models.entities.Location;
+import com.github.okanikani.kairos.locations.domains.models.repositories.LocationRepository;
+import com.github.okanikani.kairos.locations.others.segments.LocationSegmentStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentFileLocationRepositoryTest extends LocationRepositoryContractTest {
+
+    // セグメントの切り替えを確認できるよう小さくする
+    private static final int SEGMENT_RECORDS = 4;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_SIZE = 40;
+
+    @TempDir
+    Path tempDir;
+
+    private LocationSegmentStore store;
+    private SegmentFileLocationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Override
+    protected LocationRepository repository() {
+        return repository;
+    }
+
+    @Test
+    void save_再起動後も保存した位置情報を読み込める() {
+        // Arrange（複数セグメントにまたがる件数を保存する）
+        List<Location> saved = new ArrayList<>();
+        for (int i = 0; i < SEGMENT_RECORDS * 2 + 1; i++) {
+            saved.add(save(base.plusMinutes(i), user));
+        }
+        Location updated = repository.save(new Location(saved.get(0).id(), 36.0, 140.0, base, user));
+        repository.deleteById(saved.get(1).id());
+
+        // Act
+        reopen();
+
+        // Assert
+        assertEquals(updated, repository.findById(updated.id()));
+        assertNull(repository.findById(saved.get(1).id()));
+        assertEquals(saved.size() - 1, repository.findByUser(user).size());
+        // 採番は再起動後も重複しない
+        Location next = save(base.plusDays(1), user);
+        assertTrue(saved.stream().noneMatch(location -> location.id().equals(next.id())));
+    }
+
+    @Test
+    void open_書き込み途中のレコード_以降を破棄して追記を続けられる() throws IOException {
+        // Arrange
+        Location kept = save(base, user);
+        Location torn = save(base.plusMinutes(1), user);
+        store.close();
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // 2件目のレコードの座標だけが書き込まれた状態（CRC不一致）にする
+            file.seek(HEADER_SIZE + RECORD_SIZE + 24);
+            file.writeDouble(1.0);
+        }
+
+        // Act
+        open();
+        Location appended = save(base.plusMinutes(2), user);
+        reopen();
+
+        // Assert
+        assertEquals(List.of(kept, appended), repository.findByUser(user));
+        assertTrue(repository.findByUserAndRecordedAt(user, torn.recordedAt()).isEmpty());
+    }
+
+    @Test
+    void compact_不要なレコードが閾値を超える_有効なレコードだけに書き直す() throws IOException {
+        // Arrange
+        List<Location> saved = new ArrayList<>();
+        for (int i = 0; i < SEGMENT_RECORDS * 2; i++) {
+            saved.add(save(base.plusMinutes(i), user));
+        }
+        repository.deleteAllById(saved.subList(0, SEGMENT_RECORDS).stream().map(Location::id).toList());
+        List<Location> expected = repository.findByUser(user);
+
+        // Act
+        int compacted = store.compact();
+
+        // Assert
+        assertEquals(1, compacted);
+        assertEquals(1, segmentFiles().size());
+        assertEquals(expected, repository.findByUser(user));
+        reopen();
+        assertEquals(expected, repository.findByUser(user));
+        // 削除したIDは再採番されない
+        Location next = save(base.plusDays(1), user);
+        assertTrue(saved.stream().noneMatch(location -> location.id().equals(next.id())));
+    }
+
+    @Test
+    void compact_不要なレコードが閾値以下_書き直さない() {
+        // Arrange
+        for (int i = 0; i < SEGMENT_RECORDS * 2; i++) {
+            save(base.plusMinutes(i), user);
+        }
+
+        // Act & Assert
+        assertEquals(0, store.compact());
+    }
+
+    @Test
+    void open_置き換え前に停止したコンパクション_置き換え済みのセグメントを破棄する() throws IOException {
+        // Arrange: コンパクション前のセグメントを退避しておき、削除されなかった状態を再現する
+        List<Location> saved = new ArrayList<>();
+        for (int i = 0; i < SEGMENT_RECORDS * 2; i++) {
+            saved.add(save(base.plusMinutes(i), user));
+        }
+        repository.deleteAllById(saved.subList(0, SEGMENT_RECORDS).stream().map(Location::id).toList());
+        List<Location> expected = repository.findByUser(user);
+        Path backup = Files.createDirectory(tempDir.resolve("backup"));
+        List<Path> oldSegments = segmentFiles();
+        for (Path segment : oldSegments) {
+            Files.copy(segment, backup.resolve(segment.getFileName()));
+        }
+        store.compact();
+        store.close();
+        for (Path segment : oldSegments) {
+            Files.copy(backup.resolve(segment.getFileName()), segment, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Act
+        open();
+
+        // Assert
+        assertEquals(expected, repository.findByUser(user));
+        assertEquals(1, segmentFiles().size());
+    }
+
+    @Test
+    void saveIfAbsent_並行登録_全件が一意なIDで保存される() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 25;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(save(base.plusSeconds(offset + i), user).id());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertEquals(threads * perThread, ids.size());
+        reopen();
+        assertEquals(threads * perThread, repository.findByUser(user).size());
+    }
+
+    @Test
+    void findById_他ユーザー番号のID_nullを返す() {
+        // Arrange
+        Location saved = save(base, user);
+
+        // Act & Assert（ユーザーの番号部分だけを変えたID）
+        assertNull(repository.findById(saved.id() + (1L << 32)));
+    }
+
+    @Test
+    void save_他ユーザーの位置情報IDで更新_例外が発生する() {
+        // Arrange
+        Location saved = save(base, user);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> repository.save(new Location(saved.id(), 35.0, 139.0, base, otherUser)));
+    }
+
+    private void open() {
+        store = new LocationSegmentStore(new LocationStoreProperties(
+            tempDir.toString(), SEGMENT_RECORDS, Duration.ofMillis(1), 16, 0.25, Duration.ofMinutes(10)));
+        repository = new SegmentFileLocationRepository(store, archiveRepository());
+    }
+
+    private void reopen() {
+        store.close();
+        open();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir.resolve("1"))) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+}
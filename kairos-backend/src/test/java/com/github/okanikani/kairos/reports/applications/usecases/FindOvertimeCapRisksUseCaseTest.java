@@ -0,0 +1,88 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.config.OvertimeCapProperties;
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.FindOvertimeCapRisksRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.OvertimeCapRiskResponse;
+import com.github.okanikani.kairos.reports.domains.models.repositories.OvertimeTotalRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.OvertimeTotal;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FindOvertimeCapRisksUseCaseのUnit Test
+ *
+ * テスト対象: 上限と残り時間から求める閾値、上限までの残り時間の算出
+ */
+@ExtendWith(MockitoExtension.class)
+class FindOvertimeCapRisksUseCaseTest {
+
+    @Mock
+    private OvertimeTotalRepository overtimeTotalRepository;
+
+    private FindOvertimeCapRisksUseCase usecase;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new FindOvertimeCapRisksUseCase(overtimeTotalRepository, OvertimeCapProperties.defaultSettings());
+    }
+
+    @Test
+    void execute_正常ケース_上限から残り時間を引いた閾値で抽出し残り時間を返す() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2025, 1);
+        OvertimeTotal total = new OvertimeTotal(new User("user001"), yearMonth, 2024,
+            Duration.ofHours(40), Duration.ofHours(8), Duration.ofHours(300), Duration.ofHours(16));
+        when(overtimeTotalRepository.findAtOrAbove(yearMonth, 2024, Duration.ofHours(35), Duration.ofHours(350)))
+            .thenReturn(List.of(total));
+
+        // Act
+        List<OvertimeCapRiskResponse> result = usecase.execute(
+            new FindOvertimeCapRisksRequest(yearMonth, Duration.ofHours(10)));
+
+        // Assert
+        assertEquals(1, result.size());
+        OvertimeCapRiskResponse response = result.get(0);
+        assertEquals("user001", response.user().userId());
+        assertEquals(2024, response.fiscalYear());
+        assertEquals(Duration.ofHours(5), response.monthlyRemaining());
+        assertEquals(Duration.ofHours(60), response.yearlyRemaining());
+    }
+
+    @Test
+    void execute_上限超過_残り時間は負の値で返す() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2025, 4);
+        OvertimeTotal total = new OvertimeTotal(new User("user001"), yearMonth, 2025,
+            Duration.ofHours(50), Duration.ZERO, Duration.ofHours(50), Duration.ZERO);
+        when(overtimeTotalRepository.findAtOrAbove(yearMonth, 2025, Duration.ofHours(45), Duration.ofHours(360)))
+            .thenReturn(List.of(total));
+
+        // Act
+        List<OvertimeCapRiskResponse> result = usecase.execute(new FindOvertimeCapRisksRequest(yearMonth, Duration.ZERO));
+
+        // Assert
+        assertEquals(Duration.ofHours(-5), result.get(0).monthlyRemaining());
+    }
+
+    @Test
+    void execute_残り時間が負_ValidationExceptionが発生する() {
+        // Arrange
+        FindOvertimeCapRisksRequest request = new FindOvertimeCapRisksRequest(YearMonth.of(2025, 1), Duration.ofHours(-1));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> usecase.execute(request));
+        verifyNoInteractions(overtimeTotalRepository);
+    }
+}
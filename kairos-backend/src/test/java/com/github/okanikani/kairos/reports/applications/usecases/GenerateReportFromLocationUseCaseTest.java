@@ -1,9 +1,12 @@
 package com.github.okanikani.kairos.reports.applications.usecases;
 
 import com.github.okanikani.kairos.commons.config.LocationFilteringProperties;
+import com.github.okanikani.kairos.commons.config.WorkSessionProperties;
+import com.github.okanikani.kairos.commons.monitoring.BusinessMetricsService;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportResponse;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
 import com.github.okanikani.kairos.reports.domains.models.entities.Report;
 import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
 import com.github.okanikani.kairos.reports.domains.service.LocationService;
@@ -11,16 +14,28 @@ import com.github.okanikani.kairos.reports.domains.service.ReportPeriodCalculato
 import com.github.okanikani.kairos.reports.domains.service.WorkRuleResolverService;
 import com.github.okanikani.kairos.reports.domains.roundings.MinuteBasedRoundingSetting;
 import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.others.locks.LocalReportGenerationLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +59,9 @@ class GenerateReportFromLocationUseCaseTest {
     @Mock
     private LocationFilteringProperties locationFilteringProperties;
 
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessMetricsService businessMetricsService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -53,11 +71,16 @@ class GenerateReportFromLocationUseCaseTest {
         when(locationFilteringProperties.defaultToleranceMeters()).thenReturn(100);
         when(locationFilteringProperties.strictMode()).thenReturn(false);
         
+        meterRegistry = new SimpleMeterRegistry();
+        businessMetricsService = new BusinessMetricsService(meterRegistry);
         generateReportFromLocationUseCase = new GenerateReportFromLocationUseCase(
             locationService, 
             reportRepository,
             workRuleResolverService,
-            locationFilteringProperties
+            locationFilteringProperties,
+            businessMetricsService,
+            new LocalReportGenerationLock(),
+            WorkSessionProperties.defaultSettings()
         );
     }
     
@@ -187,12 +210,52 @@ class GenerateReportFromLocationUseCaseTest {
         verify(reportRepository, times(1)).save(any(Report.class));
     }
 
+    @Test
+    void regenerateIfNotSubmitted_未提出のまま_作り直して保存する() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+
+        setupDefaultWorkRuleMocks(user);
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(LocalDateTime.of(2024, 1, 1, 9, 0)));
+        when(reportRepository.lockStatus(yearMonth, user)).thenReturn(ReportStatus.NOT_SUBMITTED);
+
+        // Act
+        Optional<ReportResponse> response = generateReportFromLocationUseCase.regenerateIfNotSubmitted(request);
+
+        // Assert
+        assertTrue(response.isPresent());
+        verify(reportRepository, times(1)).save(any(Report.class));
+    }
+
+    @Test
+    void regenerateIfNotSubmitted_生成中に提出された_保存しない() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+
+        setupDefaultWorkRuleMocks(user);
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(LocalDateTime.of(2024, 1, 1, 9, 0)));
+        when(reportRepository.lockStatus(yearMonth, user)).thenReturn(ReportStatus.SUBMITTED);
+
+        // Act
+        Optional<ReportResponse> response = generateReportFromLocationUseCase.regenerateIfNotSubmitted(request);
+
+        // Assert
+        assertTrue(response.isEmpty());
+        verify(reportRepository, never()).save(any(Report.class));
+    }
+
     @Test
     void constructor_nullLocationService_例外が発生する() {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new GenerateReportFromLocationUseCase(null, reportRepository, workRuleResolverService, locationFilteringProperties)
+            () -> new GenerateReportFromLocationUseCase(null, reportRepository, workRuleResolverService, locationFilteringProperties, businessMetricsService, new LocalReportGenerationLock(), WorkSessionProperties.defaultSettings())
         );
         assertEquals("locationServiceは必須です", exception.getMessage());
     }
@@ -202,7 +265,7 @@ class GenerateReportFromLocationUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new GenerateReportFromLocationUseCase(locationService, null, workRuleResolverService, locationFilteringProperties)
+            () -> new GenerateReportFromLocationUseCase(locationService, null, workRuleResolverService, locationFilteringProperties, businessMetricsService, new LocalReportGenerationLock(), WorkSessionProperties.defaultSettings())
         );
         assertEquals("reportRepositoryは必須です", exception.getMessage());
     }
@@ -212,7 +275,7 @@ class GenerateReportFromLocationUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new GenerateReportFromLocationUseCase(locationService, reportRepository, null, locationFilteringProperties)
+            () -> new GenerateReportFromLocationUseCase(locationService, reportRepository, null, locationFilteringProperties, businessMetricsService, new LocalReportGenerationLock(), WorkSessionProperties.defaultSettings())
         );
         assertEquals("workRuleResolverServiceは必須です", exception.getMessage());
     }
@@ -222,11 +285,94 @@ class GenerateReportFromLocationUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new GenerateReportFromLocationUseCase(locationService, reportRepository, workRuleResolverService, null)
+            () -> new GenerateReportFromLocationUseCase(locationService, reportRepository, workRuleResolverService, null, businessMetricsService, new LocalReportGenerationLock(), WorkSessionProperties.defaultSettings())
         );
         assertEquals("locationFilteringPropertiesは必須です", exception.getMessage());
     }
 
+    @Test
+    void constructor_nullReportGenerationLock_例外が発生する() {
+        // Act & Assert
+        NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> new GenerateReportFromLocationUseCase(locationService, reportRepository, workRuleResolverService, locationFilteringProperties, businessMetricsService, null, WorkSessionProperties.defaultSettings())
+        );
+        assertEquals("reportGenerationLockは必須です", exception.getMessage());
+    }
+
+    @Test
+    void constructor_nullWorkSessionProperties_例外が発生する() {
+        // Act & Assert
+        NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> new GenerateReportFromLocationUseCase(locationService, reportRepository, workRuleResolverService, locationFilteringProperties, businessMetricsService, new LocalReportGenerationLock(), null)
+        );
+        assertEquals("workSessionPropertiesは必須です", exception.getMessage());
+    }
+
+    @Test
+    void execute_同一ユーザー同一年月の同時リクエスト_生成は1回で結果を共有する() throws Exception {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        setupDefaultWorkRuleMocks(user);
+
+        // 先行リクエストを位置情報取得中で止めておく
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenAnswer(invocation -> {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(LocalDateTime.of(2024, 1, 10, 9, 0));
+            });
+
+        AtomicReference<ReportResponse> leaderResponse = new AtomicReference<>();
+        AtomicReference<ReportResponse> followerResponse = new AtomicReference<>();
+        Thread leader = new Thread(() -> leaderResponse.set(generateReportFromLocationUseCase.execute(request)));
+        Thread follower = new Thread(() -> followerResponse.set(generateReportFromLocationUseCase.execute(request)));
+
+        // Act
+        leader.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        follower.start();
+        // 後続リクエストが先行リクエストの完了待ちに入るまで待つ
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        // Assert
+        assertNotNull(leaderResponse.get());
+        assertSame(leaderResponse.get(), followerResponse.get());
+        verify(locationService, times(1)).getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user));
+        verify(reportRepository, times(1)).save(any(Report.class));
+        assertEquals(1.0, meterRegistry.get("kairos.reports.generation.coalesced").counter().count());
+    }
+
+    @Test
+    void execute_生成完了後の再リクエスト_改めて生成する() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        setupDefaultWorkRuleMocks(user);
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(LocalDateTime.of(2024, 1, 10, 9, 0)));
+
+        // Act
+        generateReportFromLocationUseCase.execute(request);
+        generateReportFromLocationUseCase.execute(request);
+
+        // Assert
+        verify(reportRepository, times(2)).save(any(Report.class));
+        assertEquals(0.0, meterRegistry.get("kairos.reports.generation.coalesced").counter().count());
+    }
+
     @Test
     void execute_休日勤務_休日フラグと休出時間が正しく設定される() {
         // Arrange
@@ -512,6 +658,151 @@ class GenerateReportFromLocationUseCaseTest {
         verify(reportRepository, times(1)).save(any(Report.class));
     }
 
+    @Test
+    void execute_勤務セッション有効_1時間以内のセッションを結合して位置情報は読み込まない() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        GenerateReportFromLocationUseCase useCase = createUseCaseWithWorkSessions();
+
+        // 範囲内外の切り替わりで区切られたセッション（間隔30分）と、1時間1分後のセッション（月末締め）
+        setupDefaultWorkRuleMocks(user);
+        when(workRuleResolverService.getClosingDay(eq(user))).thenReturn(31);
+        when(locationService.getWorkSessions(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(
+                new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 1, 10, 9, 0), LocalDateTime.of(2024, 1, 10, 12, 0), 37, true),
+                new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 1, 10, 12, 30), LocalDateTime.of(2024, 1, 10, 18, 0), 67, false),
+                new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 1, 10, 19, 1), LocalDateTime.of(2024, 1, 10, 20, 0), 13, true)
+            ));
+
+        // Act
+        ReportResponse response = useCase.execute(request);
+
+        // Assert
+        assertEquals(2, response.workDays().size());
+        assertEquals(LocalDateTime.of(2024, 1, 10, 9, 0), response.workDays().get(0).startDateTime().value());
+        assertEquals(LocalDateTime.of(2024, 1, 10, 18, 0), response.workDays().get(0).endDateTime().value());
+        // 19:01は15分切り上げ丸めにより19:15に調整される
+        assertEquals(LocalDateTime.of(2024, 1, 10, 19, 15), response.workDays().get(1).startDateTime().value());
+        assertEquals(LocalDateTime.of(2024, 1, 10, 20, 0), response.workDays().get(1).endDateTime().value());
+        verify(locationService, never()).getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user));
+    }
+
+    @Test
+    void execute_勤務セッション有効_セッションが無い期間_位置情報から生成する() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        GenerateReportFromLocationUseCase useCase = createUseCaseWithWorkSessions();
+
+        setupDefaultWorkRuleMocks(user);
+        when(locationService.getWorkSessions(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of());
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(LocalDateTime.of(2024, 1, 10, 9, 0), LocalDateTime.of(2024, 1, 10, 10, 0)));
+
+        // Act
+        ReportResponse response = useCase.execute(request);
+
+        // Assert
+        assertEquals(1, response.workDays().size());
+        verify(locationService, times(1)).getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user));
+    }
+
+    @Test
+    void execute_勤務セッション有効_位置情報フィルタリング有効_作業場所の範囲内のセッションのみ読み込む() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        GenerateReportFromLocationUseCase useCase = createUseCaseWithWorkSessions();
+
+        when(locationFilteringProperties.enabled()).thenReturn(true);
+        com.github.okanikani.kairos.commons.service.LocationFilteringService.WorkplaceLocation workplace = 
+            new com.github.okanikani.kairos.commons.service.LocationFilteringService.WorkplaceLocation(35.6812, 139.7671, 100.0);
+        when(workRuleResolverService.resolveWorkplaceLocation(eq(user), any())).thenReturn(java.util.Optional.of(workplace));
+        setupDefaultWorkRuleMocks(user);
+        when(workRuleResolverService.getClosingDay(eq(user))).thenReturn(31);
+        when(locationService.getWorkSessions(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(
+                new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 1, 10, 9, 0), LocalDateTime.of(2024, 1, 10, 18, 0), 100, true),
+                new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 1, 11, 9, 0), LocalDateTime.of(2024, 1, 11, 18, 0), 100, false)
+            ));
+
+        // Act
+        ReportResponse response = useCase.execute(request);
+
+        // Assert
+        assertEquals(1, response.workDays().size());
+        assertEquals(LocalDate.of(2024, 1, 10), response.workDays().get(0).workDate());
+        verify(locationService, never()).getLocationRecordTimesNearWorkplace(any(), any(), any());
+        verify(workRuleResolverService, times(1)).resolveWorkplaceLocation(eq(user), any());
+    }
+
+    @Test
+    void execute_勤務セッション有効_セッションの無い月をまたぐ期間_その月のみ位置情報から生成する() {
+        // Arrange: 15日締めの2024年2月分（1/16〜2/15）。1月は勤務セッションの作成前にアーカイブ済みでセッションが無い
+        YearMonth yearMonth = YearMonth.of(2024, 2);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        GenerateReportFromLocationUseCase useCase = createUseCaseWithWorkSessions();
+
+        setupDefaultWorkRuleMocks(user);
+        when(workRuleResolverService.getClosingDay(eq(user))).thenReturn(15);
+        when(locationService.getWorkSessions(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(List.of(
+                new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 2, 5, 9, 0), LocalDateTime.of(2024, 2, 5, 18, 0), 100, true)
+            ));
+        ReportPeriodCalculator.ReportPeriod january = new ReportPeriodCalculator.ReportPeriod(
+            LocalDate.of(2024, 1, 16), LocalDate.of(2024, 1, 31));
+        when(locationService.getLocationRecordTimes(january, user))
+            .thenReturn(List.of(LocalDateTime.of(2024, 1, 22, 9, 0), LocalDateTime.of(2024, 1, 22, 9, 45)));
+
+        // Act
+        ReportResponse response = useCase.execute(request);
+
+        // Assert
+        assertEquals(2, response.workDays().size());
+        assertEquals(LocalDate.of(2024, 1, 22), response.workDays().get(0).workDate());
+        assertEquals(LocalDate.of(2024, 2, 5), response.workDays().get(1).workDate());
+        verify(locationService, times(1)).getLocationRecordTimes(january, user);
+        verify(locationService, times(1)).getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user));
+    }
+
+    @Test
+    void periodsWithoutWorkSessions_セッションの無い月_隣り合う月はまとめて返す() {
+        // Arrange: 10日締めの期間（1/11〜4/10）で、2月にのみセッションがある
+        ReportPeriodCalculator.ReportPeriod period = new ReportPeriodCalculator.ReportPeriod(
+            LocalDate.of(2024, 1, 11), LocalDate.of(2024, 4, 10));
+        List<LocationService.WorkSessionSpan> sessions = List.of(
+            new LocationService.WorkSessionSpan(LocalDateTime.of(2024, 2, 20, 9, 0), LocalDateTime.of(2024, 2, 20, 18, 0), 10, false));
+
+        // Act
+        List<ReportPeriodCalculator.ReportPeriod> uncovered =
+            GenerateReportFromLocationUseCase.periodsWithoutWorkSessions(period, sessions);
+
+        // Assert
+        assertEquals(List.of(
+            new ReportPeriodCalculator.ReportPeriod(LocalDate.of(2024, 1, 11), LocalDate.of(2024, 1, 31)),
+            new ReportPeriodCalculator.ReportPeriod(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 10))
+        ), uncovered);
+        assertEquals(List.of(period), GenerateReportFromLocationUseCase.periodsWithoutWorkSessions(period, List.of()));
+    }
+
+    private GenerateReportFromLocationUseCase createUseCaseWithWorkSessions() {
+        return new GenerateReportFromLocationUseCase(
+            locationService,
+            reportRepository,
+            workRuleResolverService,
+            locationFilteringProperties,
+            businessMetricsService,
+            new LocalReportGenerationLock(),
+            new WorkSessionProperties(true)
+        );
+    }
+
     @Test
     void execute_位置情報フィルタリング有効_作業場所フィルタリングが実行される() {
         // Arrange
@@ -622,4 +913,74 @@ class GenerateReportFromLocationUseCaseTest {
         verify(locationService, never()).getLocationRecordTimesNearWorkplace(any(), any(), any());
         verify(reportRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void execute_正常ケース_同じ勤務日の勤務ルールは1回だけ解決される() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+
+        // 同じ日に2つの勤務グループ（間隔が1時間超）
+        List<LocalDateTime> locationTimes = Arrays.asList(
+            LocalDateTime.of(2024, 1, 10, 9, 0),
+            LocalDateTime.of(2024, 1, 10, 10, 0),
+            LocalDateTime.of(2024, 1, 10, 13, 0),
+            LocalDateTime.of(2024, 1, 10, 14, 0)
+        );
+
+        setupDefaultWorkRuleMocks(user);
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(locationTimes);
+
+        // Act
+        ReportResponse response = generateReportFromLocationUseCase.execute(request);
+
+        // Assert
+        assertEquals(2, response.workDays().size());
+        verify(workRuleResolverService, times(1)).resolveWorkRule(eq(user), any());
+        assertEquals(1L, meterRegistry.get("kairos.reports.generated.work.days").summary().count());
+        assertEquals(2.0, meterRegistry.get("kairos.reports.generated.work.days").summary().totalAmount());
+    }
+
+    @Test
+    void execute_正常ケース_JFRイベントにフェーズ別の件数が記録される(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2024, 1);
+        User user = new User("testuser");
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(yearMonth, new UserDto("testuser"));
+        List<LocalDateTime> locationTimes = Arrays.asList(
+            LocalDateTime.of(2024, 1, 10, 9, 0),
+            LocalDateTime.of(2024, 1, 10, 10, 0),
+            LocalDateTime.of(2024, 1, 11, 9, 0)
+        );
+
+        setupDefaultWorkRuleMocks(user);
+        when(locationService.getLocationRecordTimes(any(ReportPeriodCalculator.ReportPeriod.class), eq(user)))
+            .thenReturn(locationTimes);
+
+        // Act
+        Path file = tempDir.resolve("report.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("kairos.ReportGeneration");
+            recording.start();
+            generateReportFromLocationUseCase.execute(request);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals("kairos.ReportGeneration"))
+            .toList();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("testuser", event.getString("userId"));
+        assertEquals("2024-01", event.getString("yearMonth"));
+        assertEquals(3, event.getInt("locationCount"));
+        assertEquals(2, event.getInt("groupCount"));
+        assertEquals(2, event.getInt("ruleResolutionCount"));
+        assertFalse(event.getDuration("persistDuration").isNegative());
+    }
+}
+
@@ -0,0 +1,115 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportResponse;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RecomputeReportUseCaseTest {
+
+    private RecomputeReportUseCase recomputeReportUseCase;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private GenerateReportFromLocationUseCase generateReportFromLocationUseCase;
+
+    private final YearMonth yearMonth = YearMonth.of(2024, 1);
+    private final User user = new User("user001");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        recomputeReportUseCase = new RecomputeReportUseCase(reportRepository, generateReportFromLocationUseCase);
+    }
+
+    @Test
+    void execute_未提出の勤怠表_位置情報から作り直す() {
+        // Arrange
+        when(reportRepository.find(yearMonth, user)).thenReturn(report(ReportStatus.NOT_SUBMITTED));
+        when(generateReportFromLocationUseCase.regenerateIfNotSubmitted(any())).thenReturn(Optional.of(mock(ReportResponse.class)));
+
+        // Act
+        boolean recomputed = recomputeReportUseCase.execute(yearMonth, "user001");
+
+        // Assert
+        assertTrue(recomputed);
+        verify(generateReportFromLocationUseCase).regenerateIfNotSubmitted(argThat((GenerateReportFromLocationRequest request) ->
+            request.yearMonth().equals(yearMonth) && request.user().userId().equals("user001")));
+    }
+
+    @Test
+    void execute_提出済みの勤怠表_作り直さない() {
+        // Arrange
+        when(reportRepository.find(yearMonth, user)).thenReturn(report(ReportStatus.SUBMITTED));
+
+        // Act
+        boolean recomputed = recomputeReportUseCase.execute(yearMonth, "user001");
+
+        // Assert
+        assertFalse(recomputed);
+        verify(generateReportFromLocationUseCase, never()).regenerateIfNotSubmitted(any());
+    }
+
+    @Test
+    void execute_未作成の勤怠表_作成しない() {
+        // Arrange
+        when(reportRepository.find(yearMonth, user)).thenReturn(null);
+
+        // Act
+        boolean recomputed = recomputeReportUseCase.execute(yearMonth, "user001");
+
+        // Assert
+        assertFalse(recomputed);
+        verify(generateReportFromLocationUseCase, never()).regenerateIfNotSubmitted(any());
+    }
+
+    @Test
+    void execute_生成中に提出された_作り直さずfalseを返す() {
+        // Arrange
+        when(reportRepository.find(yearMonth, user)).thenReturn(report(ReportStatus.NOT_SUBMITTED));
+        when(generateReportFromLocationUseCase.regenerateIfNotSubmitted(any())).thenReturn(Optional.empty());
+
+        // Act
+        boolean recomputed = recomputeReportUseCase.execute(yearMonth, "user001");
+
+        // Assert
+        assertFalse(recomputed);
+    }
+
+    @Test
+    void execute_業務エラーで生成できない_再試行せずfalseを返す() {
+        // Arrange
+        when(reportRepository.find(yearMonth, user)).thenReturn(report(ReportStatus.NOT_SUBMITTED));
+        when(generateReportFromLocationUseCase.regenerateIfNotSubmitted(any())).thenThrow(new BusinessRuleViolationException("勤怠ルールが未設定です"));
+
+        // Act
+        boolean recomputed = recomputeReportUseCase.execute(yearMonth, "user001");
+
+        // Assert
+        assertFalse(recomputed);
+    }
+
+    private Report report(ReportStatus status) {
+        Summary summary = new Summary(0.0, 0.0, 0.0, 0.0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        return new Report(yearMonth, user, status, List.of(), summary);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.commons.exceptions.BusinessRuleViolationException;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RunReportGenerationJobUseCaseTest {
+
+    private RunReportGenerationJobUseCase runReportGenerationJobUseCase;
+
+    @Mock
+    private ReportGenerationJobRepository reportGenerationJobRepository;
+
+    @Mock
+    private GenerateReportFromLocationUseCase generateReportFromLocationUseCase;
+
+    private final ReportGenerationJob runningJob = new ReportGenerationJob(
+        "job-001", YearMonth.of(2024, 1), new User("user001"), ReportGenerationJobStatus.RUNNING,
+        LocalDateTime.of(2024, 2, 1, 9, 0), LocalDateTime.of(2024, 2, 1, 9, 0, 1), null, null);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        runReportGenerationJobUseCase = new RunReportGenerationJobUseCase(
+            reportGenerationJobRepository, generateReportFromLocationUseCase);
+    }
+
+    @Test
+    void execute_正常ケース_勤怠表を生成してジョブを完了状態にする() {
+        // Arrange
+        when(reportGenerationJobRepository.claim(eq("job-001"), any())).thenReturn(runningJob);
+
+        // Act
+        runReportGenerationJobUseCase.execute("job-001");
+
+        // Assert
+        ArgumentCaptor<GenerateReportFromLocationRequest> requestCaptor =
+            ArgumentCaptor.forClass(GenerateReportFromLocationRequest.class);
+        verify(generateReportFromLocationUseCase).execute(requestCaptor.capture());
+        assertEquals(YearMonth.of(2024, 1), requestCaptor.getValue().yearMonth());
+        assertEquals("user001", requestCaptor.getValue().user().userId());
+
+        ArgumentCaptor<ReportGenerationJob> jobCaptor = ArgumentCaptor.forClass(ReportGenerationJob.class);
+        verify(reportGenerationJobRepository).finish(jobCaptor.capture());
+        assertEquals(ReportGenerationJobStatus.SUCCEEDED, jobCaptor.getValue().status());
+        assertNotNull(jobCaptor.getValue().finishedAt());
+        assertEquals(runningJob.startedAt(), jobCaptor.getValue().startedAt());
+    }
+
+    @Test
+    void execute_他で実行済み_何もしない() {
+        // Arrange
+        when(reportGenerationJobRepository.claim(eq("job-001"), any())).thenReturn(null);
+
+        // Act
+        runReportGenerationJobUseCase.execute("job-001");
+
+        // Assert
+        verify(generateReportFromLocationUseCase, never()).execute(any());
+        verify(reportGenerationJobRepository, never()).finish(any());
+    }
+
+    @Test
+    void execute_業務例外発生_例外のメッセージで失敗状態にする() {
+        // Arrange
+        when(reportGenerationJobRepository.claim(eq("job-001"), any())).thenReturn(runningJob);
+        when(generateReportFromLocationUseCase.execute(any()))
+            .thenThrow(new BusinessRuleViolationException("勤怠ルールが登録されていません"));
+
+        // Act
+        runReportGenerationJobUseCase.execute("job-001");
+
+        // Assert
+        ArgumentCaptor<ReportGenerationJob> jobCaptor = ArgumentCaptor.forClass(ReportGenerationJob.class);
+        verify(reportGenerationJobRepository).finish(jobCaptor.capture());
+        assertEquals(ReportGenerationJobStatus.FAILED, jobCaptor.getValue().status());
+        assertEquals("勤怠ルールが登録されていません", jobCaptor.getValue().errorMessage());
+    }
+
+    @Test
+    void execute_予期しない例外発生_汎用メッセージで失敗状態にする() {
+        // Arrange
+        when(reportGenerationJobRepository.claim(eq("job-001"), any())).thenReturn(runningJob);
+        when(generateReportFromLocationUseCase.execute(any()))
+            .thenThrow(new RuntimeException("データベース接続エラー"));
+
+        // Act
+        runReportGenerationJobUseCase.execute("job-001");
+
+        // Assert
+        ArgumentCaptor<ReportGenerationJob> jobCaptor = ArgumentCaptor.forClass(ReportGenerationJob.class);
+        verify(reportGenerationJobRepository).finish(jobCaptor.capture());
+        assertEquals(ReportGenerationJobStatus.FAILED, jobCaptor.getValue().status());
+        assertEquals(RunReportGenerationJobUseCase.UNEXPECTED_ERROR_MESSAGE, jobCaptor.getValue().errorMessage());
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.okanikani.kairos.reports.applications.usecases;
+
+import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.ReportGenerationJobResponse;
+import com.github.okanikani.kairos.reports.applications.usecases.dto.UserDto;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportGenerationJobRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.domains.service.ReportGenerationJobDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SubmitReportGenerationJobUseCaseTest {
+
+    private SubmitReportGenerationJobUseCase submitReportGenerationJobUseCase;
+
+    @Mock
+    private ReportGenerationJobRepository reportGenerationJobRepository;
+
+    @Mock
+    private ReportGenerationJobDispatcher reportGenerationJobDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        submitReportGenerationJobUseCase = new SubmitReportGenerationJobUseCase(
+            reportGenerationJobRepository, reportGenerationJobDispatcher);
+    }
+
+    @Test
+    void execute_正常ケース_受付状態のジョブを保存して投入する() {
+        // Arrange
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(
+            YearMonth.of(2024, 1), new UserDto("user001"));
+        when(reportGenerationJobRepository.saveIfNoActiveJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reportGenerationJobDispatcher.dispatch(anyString())).thenReturn(true);
+
+        // Act
+        ReportGenerationJobResponse response = submitReportGenerationJobUseCase.execute(request);
+
+        // Assert
+        ArgumentCaptor<ReportGenerationJob> captor = ArgumentCaptor.forClass(ReportGenerationJob.class);
+        verify(reportGenerationJobRepository).saveIfNoActiveJob(captor.capture());
+        ReportGenerationJob saved = captor.getValue();
+        assertEquals(ReportGenerationJobStatus.PENDING, saved.status());
+        assertEquals(YearMonth.of(2024, 1), saved.yearMonth());
+        assertEquals(new User("user001"), saved.owner());
+
+        assertEquals(saved.jobId(), response.jobId());
+        assertEquals("PENDING", response.status());
+        assertEquals("user001", response.owner().userId());
+        verify(reportGenerationJobDispatcher).dispatch(saved.jobId());
+    }
+
+    @Test
+    void execute_実行中のジョブが存在する_既存のジョブを返し投入しない() {
+        // Arrange
+        ReportGenerationJob running = new ReportGenerationJob("existing-job", YearMonth.of(2024, 1), new User("user001"),
+            ReportGenerationJobStatus.RUNNING, LocalDateTime.of(2024, 2, 1, 9, 0), LocalDateTime.of(2024, 2, 1, 9, 0, 1),
+            null, null);
+        when(reportGenerationJobRepository.saveIfNoActiveJob(any())).thenReturn(running);
+
+        // Act
+        ReportGenerationJobResponse response = submitReportGenerationJobUseCase.execute(
+            new GenerateReportFromLocationRequest(YearMonth.of(2024, 1), new UserDto("user001")));
+
+        // Assert
+        assertEquals("existing-job", response.jobId());
+        assertEquals("RUNNING", response.status());
+        verify(reportGenerationJobDispatcher, never()).dispatch(anyString());
+    }
+
+    @Test
+    void execute_実行キューが満杯_受付状態のままジョブを返す() {
+        // Arrange
+        when(reportGenerationJobRepository.saveIfNoActiveJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reportGenerationJobDispatcher.dispatch(anyString())).thenReturn(false);
+
+        // Act
+        ReportGenerationJobResponse response = submitReportGenerationJobUseCase.execute(
+            new GenerateReportFromLocationRequest(YearMonth.of(2024, 1), new UserDto("user001")));
+
+        // Assert
+        assertEquals("PENDING", response.status());
+        verify(reportGenerationJobDispatcher).dispatch(response.jobId());
+    }
+
+    @Test
+    void execute_nullリクエスト_NullPointerExceptionが発生する() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> submitReportGenerationJobUseCase.execute(null));
+    }
+}
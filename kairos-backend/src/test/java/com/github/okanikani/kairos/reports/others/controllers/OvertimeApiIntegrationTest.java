@@ -0,0 +1,106 @@
+package com.github.okanikani.kairos.reports.others.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginRequest;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import com.github.okanikani.kairos.users.domains.models.repositories.UserRepository;
+import com.github.okanikani.kairos.users.others.repositories.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 時間外労働の集計API統合テスト
+ * 登録・ログインしたユーザーのJWTでアクセスし、管理者のみ参照できることを検証
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "jwt.secret=test-secret-key-for-integration-testing-must-be-at-least-256-bits",
+    "jwt.expiration=86400000"
+})
+@DisplayName("時間外労働の集計API統合テスト")
+class OvertimeApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        // テスト用のユーザーをクリア（InMemoryRepositoryの場合）
+        if (userRepository instanceof InMemoryUserRepository inMemoryUserRepository) {
+            inMemoryUserRepository.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("管理者ユーザーのJWT_上限に近いユーザーの一覧を取得できる")
+    void 管理者ユーザー_一覧を取得できる() throws Exception {
+        // Arrange
+        String token = registerAndLogin("overtimeadmin", "ADMIN");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/overtime/2025/1/cap-risks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    @DisplayName("システム管理者ユーザーのJWT_上限に近いユーザーの一覧を取得できる")
+    void システム管理者ユーザー_一覧を取得できる() throws Exception {
+        // Arrange
+        String token = registerAndLogin("overtimesysadmin", "SYSTEM_ADMIN");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/overtime/2025/1/cap-risks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("一般ユーザーのJWT_403が返される")
+    void 一般ユーザー_403が返される() throws Exception {
+        // Arrange
+        String token = registerAndLogin("overtimeuser", "USER");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/overtime/2025/1/cap-risks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private String registerAndLogin(String userId, String role) throws Exception {
+        String password = "OvertimeTest123!";
+        RegisterRequest registerRequest = new RegisterRequest(
+            userId, "時間外労働テストユーザー", userId + "@example.com", password, role);
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(userId, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(loginResult.getResponse().getContentAsString(), LoginResponse.class).accessToken();
+    }
+}
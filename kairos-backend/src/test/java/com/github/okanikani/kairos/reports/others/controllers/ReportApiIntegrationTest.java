@@ -1,6 +1,7 @@
 package com.github.okanikani.kairos.reports.others.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.commons.monitoring.QueryCountScope;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.DetailDto;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.GenerateReportFromLocationRequest;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.RegisterReportRequest;
@@ -177,6 +178,78 @@ class ReportApiIntegrationTest {
                 .andExpect(jsonPath("$.status").value("NOT_SUBMITTED"));
     }
     
+    @Test
+    @DisplayName("位置情報からレポート非同期生成フロー")
+    void 位置情報からレポート非同期生成フロー() throws Exception {
+        GenerateReportFromLocationRequest generateRequest = new GenerateReportFromLocationRequest(
+            YearMonth.of(2024, 4),
+            new UserDto(testUserId)
+        );
+        
+        // 1. ジョブ受付（202とジョブ状態URL）
+        MvcResult submitResult = mockMvc.perform(post("/api/reports/jobs")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(generateRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.owner.userId").value(testUserId))
+                .andReturn();
+        String statusUrl = submitResult.getResponse().getHeader("Location");
+        String resultUrl = objectMapper.readTree(submitResult.getResponse().getContentAsString()).get("resultUrl").asText();
+        
+        // 2. 完了までポーリング
+        String status = null;
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            MvcResult pollResult = mockMvc.perform(get(statusUrl)
+                    .header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            status = objectMapper.readTree(pollResult.getResponse().getContentAsString()).get("status").asText();
+            if (status.equals("SUCCEEDED") || status.equals("FAILED")) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(status).isEqualTo("SUCCEEDED");
+        
+        // 3. 結果取得
+        mockMvc.perform(get(resultUrl)
+                .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.yearMonth").value("2024-04"))
+                .andExpect(jsonPath("$.owner.userId").value(testUserId));
+        
+        // 4. 他ユーザーはジョブを参照できない
+        setupSecondUser("reporttest003");
+        String otherUserToken = getTokenForUser("reporttest003");
+        mockMvc.perform(get(statusUrl)
+                .header("Authorization", "Bearer " + otherUserToken))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    @DisplayName("位置情報からレポート生成_SQL発行数")
+    void 位置情報からレポート生成_SQL発行数が計測される() throws Exception {
+        GenerateReportFromLocationRequest generateRequest = new GenerateReportFromLocationRequest(
+            YearMonth.of(2024, 3),
+            new UserDto(testUserId)
+        );
+        
+        // リクエスト処理を計測スコープで包み、フィルターと同じ集計値を参照する
+        try (QueryCountScope scope = QueryCountScope.open()) {
+            mockMvc.perform(post("/api/reports/generate")
+                    .header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(generateRequest)))
+                    .andExpect(status().isCreated());
+            
+            // dev プロファイルはInMemoryリポジトリのためSQLは発行されない
+            assertThat(scope.statementCount()).isZero();
+        }
+    }
+    
     @Test
     @DisplayName("認証エラーテスト_未認証でのアクセス")
     void 認証エラーテスト_未認証でのアクセス() throws Exception {
@@ -5,11 +5,14 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.github.okanikani.kairos.commons.controllers.GlobalExceptionHandler;
 import com.github.okanikani.kairos.commons.dto.ErrorResponse;
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.json.CompactJsonHttpMessageConverter;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
 import com.github.okanikani.kairos.reports.applications.usecases.DeleteReportUseCase;
+import com.github.okanikani.kairos.reports.applications.usecases.FindReportGenerationJobUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.FindReportUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.GenerateReportFromLocationUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.RegisterReportUseCase;
+import com.github.okanikani.kairos.reports.applications.usecases.SubmitReportGenerationJobUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.UpdateReportUseCase;
 import com.github.okanikani.kairos.reports.applications.usecases.dto.*;
 import com.github.okanikani.kairos.security.JwtService;
@@ -19,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,7 +43,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ReportController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, ReportResponseCompactWriter.class})
 class ReportControllerTest {
 
     @Autowired
@@ -63,6 +67,12 @@ class ReportControllerTest {
     @MockitoBean
     private GenerateReportFromLocationUseCase generateReportFromLocationUseCase;
 
+    @MockitoBean
+    private SubmitReportGenerationJobUseCase submitReportGenerationJobUseCase;
+
+    @MockitoBean
+    private FindReportGenerationJobUseCase findReportGenerationJobUseCase;
+
     @MockitoBean
     private JwtService jwtService;
 
@@ -223,6 +233,69 @@ class ReportControllerTest {
                 .andExpect(jsonPath("$.status").value("NOT_SUBMITTED"));
     }
 
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReport_コンパクト形式を指定_配列の配列で返す() throws Exception {
+        // Arrange
+        DetailDto detailDto = new DetailDto(
+            LocalDate.of(2024, 1, 1),
+            false,
+            null,
+            new WorkTimeDto(LocalDateTime.of(2024, 1, 1, 9, 0)),
+            new WorkTimeDto(LocalDateTime.of(2024, 1, 1, 18, 0)),
+            Duration.ofHours(8),
+            Duration.ofMinutes(30),
+            Duration.ZERO,
+            null
+        );
+        SummaryDto summaryDto = new SummaryDto(1.0, 0.0, 0.0, 0.0, Duration.ofHours(8), Duration.ofMinutes(30), Duration.ZERO);
+        when(findReportUseCase.execute(any())).thenReturn(new ReportResponse(
+            YearMonth.of(2024, 1), new UserDto("testuser"), "NOT_SUBMITTED", List.of(detailDto), summaryDto));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/{year}/{month}", 2024, 1)
+                .accept(CompactJsonHttpMessageConverter.COMPACT_JSON)
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CompactJsonHttpMessageConverter.COMPACT_JSON))
+                .andExpect(content().json("""
+                    ["2024-01", "testuser", "NOT_SUBMITTED",
+                     [["2024-01-01", false, null, "2024-01-01T09:00:00", "2024-01-01T18:00:00", 28800, 1800, 0, null]],
+                     [1.0, 0.0, 0.0, 0.0, 28800, 1800, 0]]
+                    """, JsonCompareMode.STRICT));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReport_全形式を許可_通常のJSONで返す() throws Exception {
+        // Arrange
+        SummaryDto summaryDto = new SummaryDto(0.0, 0.0, 0.0, 0.0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        when(findReportUseCase.execute(any())).thenReturn(new ReportResponse(
+            YearMonth.of(2024, 1), new UserDto("testuser"), "NOT_SUBMITTED", List.of(), summaryDto));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/{year}/{month}", 2024, 1)
+                .accept(MediaType.ALL)
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.owner.userId").value("testuser"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReport_コンパクト形式を指定してエラー_エラーは通常のJSONで返す() throws Exception {
+        // Arrange
+        when(findReportUseCase.execute(any())).thenThrow(new ResourceNotFoundException("指定された勤怠表が存在しません"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/{year}/{month}", 2024, 1)
+                .accept(CompactJsonHttpMessageConverter.COMPACT_JSON)
+                .with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").exists());
+    }
+
     @Test
     @WithMockUser(username = "testuser")
     void findReport_存在しない勤怠表_404ステータスを返す() throws Exception {
@@ -667,4 +740,115 @@ class ReportControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void submitReportGenerationJob_正常ケース_202ステータスとジョブ状態URLを返す() throws Exception {
+        // Arrange
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(
+            YearMonth.of(2024, 1), new UserDto("testuser"));
+        when(submitReportGenerationJobUseCase.execute(any())).thenReturn(jobResponse("job-001", "PENDING", null));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/reports/jobs")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/reports/jobs/job-001"))
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.jobId").value("job-001"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.statusUrl").value("/api/reports/jobs/job-001"))
+                .andExpect(jsonPath("$.resultUrl").value("/api/reports/jobs/job-001/result"));
+
+        verify(submitReportGenerationJobUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void submitReportGenerationJob_認証ユーザーとリクエストユーザーが異なる_403ステータスを返す() throws Exception {
+        // Arrange
+        GenerateReportFromLocationRequest request = new GenerateReportFromLocationRequest(
+            YearMonth.of(2024, 1), new UserDto("otheruser"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/reports/jobs")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+
+        verify(submitReportGenerationJobUseCase, never()).execute(any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReportGenerationJob_存在しないジョブ_404ステータスを返す() throws Exception {
+        // Arrange
+        when(findReportGenerationJobUseCase.execute("unknown", "testuser"))
+            .thenThrow(new ResourceNotFoundException("指定された勤怠表生成ジョブが存在しません"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/jobs/{jobId}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReportGenerationJobResult_実行中_202ステータスとジョブ状態を返す() throws Exception {
+        // Arrange
+        when(findReportGenerationJobUseCase.execute("job-001", "testuser"))
+            .thenReturn(jobResponse("job-001", "RUNNING", null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/jobs/{jobId}/result", "job-001"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        verify(findReportUseCase, never()).execute(any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReportGenerationJobResult_完了_200ステータスと勤怠表を返す() throws Exception {
+        // Arrange
+        when(findReportGenerationJobUseCase.execute("job-001", "testuser"))
+            .thenReturn(jobResponse("job-001", "SUCCEEDED", null));
+        SummaryDto summaryDto = new SummaryDto(0.0, 0.0, 0.0, 0.0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        when(findReportUseCase.execute(any())).thenReturn(new ReportResponse(
+            YearMonth.of(2024, 1), new UserDto("testuser"), "NOT_SUBMITTED", List.of(), summaryDto));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/jobs/{jobId}/result", "job-001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.yearMonth").value("2024-01"))
+                .andExpect(jsonPath("$.status").value("NOT_SUBMITTED"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser")
+    void findReportGenerationJobResult_失敗_422ステータスと失敗理由を返す() throws Exception {
+        // Arrange
+        when(findReportGenerationJobUseCase.execute("job-001", "testuser"))
+            .thenReturn(jobResponse("job-001", "FAILED", "勤怠ルールが登録されていません"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/jobs/{jobId}/result", "job-001"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("勤怠ルールが登録されていません"));
+    }
+
+    private ReportGenerationJobResponse jobResponse(String jobId, String status, String errorMessage) {
+        return new ReportGenerationJobResponse(
+            jobId,
+            YearMonth.of(2024, 1),
+            new UserDto("testuser"),
+            status,
+            LocalDateTime.of(2024, 2, 1, 9, 0),
+            null,
+            null,
+            errorMessage
+        );
+    }
+}
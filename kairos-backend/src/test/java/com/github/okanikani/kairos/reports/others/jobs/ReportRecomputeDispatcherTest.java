@@ -0,0 +1,175 @@
+package com.github.okanikani.kairos.reports.others.jobs;
+
+import com.github.okanikani.kairos.commons.config.ReportRecomputeProperties;
+import com.github.okanikani.kairos.commons.datasource.ReplicaReadTemplate;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
+import com.github.okanikani.kairos.reports.applications.usecases.RecomputeReportUseCase;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.domains.service.WorkRuleResolverService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportRecomputeDispatcherのUnit Test
+ *
+ * テスト対象: 変更イベントの勤怠表ごとのまとめ、再計算する勤怠年月の範囲、失敗時の差し戻しと破棄
+ */
+class ReportRecomputeDispatcherTest {
+
+    @Mock
+    private DomainChangeOutbox domainChangeOutbox;
+
+    @Mock
+    private RecomputeReportUseCase recomputeReportUseCase;
+
+    @Mock
+    private WorkRuleResolverService workRuleResolverService;
+
+    @Mock
+    private ReplicaReadTemplate replicaReadTemplate;
+
+    private ReportRecomputeDispatcher dispatcher;
+
+    private final YearMonth currentMonth = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 月末締め（勤怠年月と暦の月が一致）・遡るのは3ヶ月・最大3回
+        ReportRecomputeProperties properties = new ReportRecomputeProperties(true, Duration.ofSeconds(5), 100, 2,
+            Duration.ofMinutes(10), 3, 3);
+        dispatcher = new ReportRecomputeDispatcher(domainChangeOutbox, recomputeReportUseCase, workRuleResolverService, properties,
+            replicaReadTemplate);
+        when(replicaReadTemplate.onPrimary(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(workRuleResolverService.getClosingDay(any(User.class))).thenReturn(31);
+        when(recomputeReportUseCase.execute(any(), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void poll_同じ勤怠表への複数の変更_1回の再計算にまとめて全イベントを削除する() {
+        // Arrange
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+        givenEvents(
+            event(1L, "user001", lastMonth.atDay(3), lastMonth.atDay(3), 0),
+            event(2L, "user001", lastMonth.atDay(20), lastMonth.atDay(20), 0),
+            event(3L, "user002", lastMonth.atDay(3), lastMonth.atDay(3), 0));
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        verify(recomputeReportUseCase, times(1)).execute(lastMonth, "user001");
+        verify(recomputeReportUseCase, times(1)).execute(lastMonth, "user002");
+        verify(domainChangeOutbox).delete(List.of(1L, 2L, 3L));
+        verify(domainChangeOutbox).release(List.of());
+    }
+
+    @Test
+    void poll_変更直後の再計算_参照を主データベースで行う() {
+        // Arrange
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+        givenEvents(event(1L, "user001", lastMonth.atDay(3), lastMonth.atDay(3), 0));
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        InOrder inOrder = inOrder(replicaReadTemplate, recomputeReportUseCase);
+        inOrder.verify(replicaReadTemplate).onPrimary(any());
+        inOrder.verify(recomputeReportUseCase).execute(lastMonth, "user001");
+    }
+
+    @Test
+    void poll_長い所属期間の勤怠ルールの変更_遡る範囲から現在の勤怠年月までを再計算する() {
+        // Arrange
+        givenEvents(event(1L, "user001", currentMonth.minusYears(2).atDay(1), currentMonth.plusYears(1).atEndOfMonth(), 0));
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        for (int months = 0; months <= 3; months++) {
+            verify(recomputeReportUseCase).execute(currentMonth.minusMonths(months), "user001");
+        }
+        verify(recomputeReportUseCase, times(4)).execute(any(), any());
+        verify(domainChangeOutbox).delete(List.of(1L));
+    }
+
+    @Test
+    void poll_勤怠締め日より後の変更_翌月の勤怠表を再計算する() {
+        // Arrange
+        when(workRuleResolverService.getClosingDay(new User("user001"))).thenReturn(15);
+        YearMonth twoMonthsAgo = currentMonth.minusMonths(2);
+        givenEvents(event(1L, "user001", twoMonthsAgo.atDay(20), twoMonthsAgo.atDay(20), 0));
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        verify(recomputeReportUseCase).execute(twoMonthsAgo.plusMonths(1), "user001");
+        verify(recomputeReportUseCase, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void poll_再計算に失敗_最大試行回数未満のイベントは差し戻し到達したイベントは破棄する() {
+        // Arrange
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+        givenEvents(
+            event(1L, "user001", lastMonth.atDay(3), lastMonth.atDay(3), 0),
+            event(2L, "user001", lastMonth.atDay(4), lastMonth.atDay(4), 2),
+            event(3L, "user002", lastMonth.atDay(3), lastMonth.atDay(3), 0));
+        when(recomputeReportUseCase.execute(lastMonth, "user001")).thenThrow(new IllegalStateException("接続エラー"));
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        verify(domainChangeOutbox).delete(List.of(2L, 3L));
+        verify(domainChangeOutbox).release(List.of(1L));
+    }
+
+    @Test
+    void poll_無効_変更イベントを取得しない() {
+        // Arrange
+        dispatcher.shutdown();
+        dispatcher = new ReportRecomputeDispatcher(domainChangeOutbox, recomputeReportUseCase, workRuleResolverService,
+            new ReportRecomputeProperties(false, null, 0, 0, null, 0, 0), replicaReadTemplate);
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        verifyNoInteractions(domainChangeOutbox, recomputeReportUseCase);
+    }
+
+    private void givenEvents(DomainChangeEvent... events) {
+        when(domainChangeOutbox.claim(anyInt(), any(), any())).thenReturn(List.of(events));
+    }
+
+    private static DomainChangeEvent event(Long id, String userId, LocalDate fromDate, LocalDate toDate, int attempts) {
+        return new DomainChangeEvent(id, DomainChangeType.LOCATION_CHANGED, userId, fromDate, toDate,
+            LocalDateTime.now(), attempts);
+    }
+}
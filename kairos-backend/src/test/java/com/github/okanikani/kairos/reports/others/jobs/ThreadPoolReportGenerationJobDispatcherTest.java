@@ -0,0 +1,93 @@
+package com.github.okanikani.kairos.reports.others.jobs;
+
+import com.github.okanikani.kairos.commons.config.ReportJobProperties;
+import com.github.okanikani.kairos.reports.applications.usecases.RunReportGenerationJobUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ThreadPoolReportGenerationJobDispatcherのUnit Test
+ * 
+ * テスト対象: 上限付きキューでの受付可否と二重投入の防止
+ */
+class ThreadPoolReportGenerationJobDispatcherTest {
+
+    @Mock
+    private RunReportGenerationJobUseCase runReportGenerationJobUseCase;
+
+    private ThreadPoolReportGenerationJobDispatcher dispatcher;
+
+    // ワーカーを停止させておくためのラッチ
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // ワーカー1スレッド・キュー1件
+        ReportJobProperties properties = new ReportJobProperties(1, 1, Duration.ofSeconds(30),
+            Duration.ofMinutes(10), Duration.ofDays(7), 50);
+        dispatcher = new ThreadPoolReportGenerationJobDispatcher(runReportGenerationJobUseCase, properties);
+
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(runReportGenerationJobUseCase).execute(anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_キューが満杯_falseを返す() throws Exception {
+        assertThat(dispatcher.dispatch("job-1")).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.dispatch("job-2")).isTrue();
+
+        // 実行中1件・待ち1件で満杯
+        assertThat(dispatcher.dispatch("job-3")).isFalse();
+        assertThat(dispatcher.inFlightCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatch_投入済みのジョブ_再投入せずtrueを返す() throws Exception {
+        assertThat(dispatcher.dispatch("job-1")).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(dispatcher.dispatch("job-1")).isTrue();
+        assertThat(dispatcher.inFlightCount()).isEqualTo(1);
+
+        release.countDown();
+        dispatcher.shutdown();
+        verify(runReportGenerationJobUseCase, times(1)).execute("job-1");
+    }
+
+    @Test
+    void dispatch_実行完了後_同じジョブを再投入できる() throws Exception {
+        release.countDown();
+        assertThat(dispatcher.dispatch("job-1")).isTrue();
+        verify(runReportGenerationJobUseCase, timeout(5000)).execute("job-1");
+        
+        // 実行完了後はinFlightから除かれる
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.inFlightCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatcher.inFlightCount()).isZero();
+        assertThat(dispatcher.dispatch("job-1")).isTrue();
+    }
+}
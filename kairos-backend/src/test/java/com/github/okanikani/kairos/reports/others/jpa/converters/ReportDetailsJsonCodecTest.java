@@ -0,0 +1,70 @@
+package com.github.okanikani.kairos.reports.others.jpa.converters;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.LeaveType;
+import com.github.okanikani.kairos.reports.domains.models.vos.Detail;
+import com.github.okanikani.kairos.reports.domains.models.vos.WorkTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportDetailsJsonCodecTest {
+
+    private final ReportDetailsJsonCodec codec = new ReportDetailsJsonCodec();
+
+    @Test
+    void encode_勤務日の昇順で出力され_decodeで元に戻る() {
+        // Arrange
+        Detail leave = new Detail(LocalDate.of(2025, 1, 8), false, LeaveType.COMPENSATORY_LEAVE,
+                null, null, Duration.ZERO, Duration.ZERO, Duration.ZERO, "代休取得");
+        Detail work = new Detail(LocalDate.of(2025, 1, 6), false, null,
+                new WorkTime(LocalDateTime.of(2025, 1, 6, 9, 0)),
+                new WorkTime(LocalDateTime.of(2025, 1, 6, 18, 30)),
+                Duration.ofHours(8), Duration.ofMinutes(30), Duration.ZERO, null);
+
+        // Act
+        String json = codec.encode(List.of(leave, work));
+        List<Detail> decoded = codec.decode(json);
+
+        // Assert
+        assertThat(json).contains("\"startDateTime\":\"2025-01-06T09:00:00\"", "\"workingMinutes\":480");
+        assertThat(decoded).containsExactly(work, leave);
+    }
+
+    @Test
+    void decode_移行SQLで作成した形式_読み込める() {
+        // Arrange: db/migrations/007 の jsonb_build_object と同じキー（キーの順序はjsonbで並び替わる）
+        String json = """
+                [{"note": null, "holiday": true, "workDate": "2025-01-11", "leaveType": null,
+                  "endDateTime": "2025-01-11T15:00:00", "startDateTime": "2025-01-11T10:00:00",
+                  "workingMinutes": 300, "overtimeMinutes": 0, "holidayWorkMinutes": 300}]
+                """;
+
+        // Act
+        List<Detail> decoded = codec.decode(json);
+
+        // Assert
+        assertThat(decoded).containsExactly(new Detail(LocalDate.of(2025, 1, 11), true, null,
+                new WorkTime(LocalDateTime.of(2025, 1, 11, 10, 0)),
+                new WorkTime(LocalDateTime.of(2025, 1, 11, 15, 0)),
+                Duration.ofMinutes(300), Duration.ZERO, Duration.ofMinutes(300), null));
+    }
+
+    @Test
+    void decode_空の配列_空のリストを返す() {
+        // Act & Assert
+        assertThat(codec.decode("[]")).isEmpty();
+    }
+
+    @Test
+    void decode_不正なJSON_IllegalStateExceptionが発生する() {
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode("{"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.okanikani.kairos.reports.others.jpa.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.others.jpa.entities.ReportGenerationJobJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReportGenerationJobJpaRepositoryの統合テスト
+ * 実行中に受付状態へ戻されたジョブの終了を条件付き更新で扱えることを確認する
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("ReportGenerationJobJpaRepository統合テスト")
+@TestPropertySource(properties = {
+        "spring.autoconfigure.exclude="
+})
+class ReportGenerationJobJpaRepositoryIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 2, 1, 9, 0);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private ReportGenerationJobJpaRepository reportGenerationJobJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        reportGenerationJobJpaRepository.deleteAll();
+        reportGenerationJobJpaRepository.saveAndFlush(new ReportGenerationJobJpaEntity(
+                "job-001", "user001", YearMonth.of(2024, 1), ReportGenerationJobStatus.PENDING,
+                BASE, null, null, null));
+    }
+
+    @Test
+    void finish_受付状態に戻され他で実行し直しているジョブ_古い実行の終了では更新しない() {
+        // Arrange
+        reportGenerationJobJpaRepository.claim("job-001", BASE.plusSeconds(1));
+        reportGenerationJobJpaRepository.requeueStale(BASE.plusMinutes(10));
+        reportGenerationJobJpaRepository.claim("job-001", BASE.plusMinutes(11));
+
+        // Act
+        int current = reportGenerationJobJpaRepository.finish("job-001", BASE.plusMinutes(11),
+                ReportGenerationJobStatus.SUCCEEDED, BASE.plusMinutes(12), null);
+        int stale = reportGenerationJobJpaRepository.finish("job-001", BASE.plusSeconds(1),
+                ReportGenerationJobStatus.FAILED, BASE.plusMinutes(13), "タイムアウト");
+
+        // Assert
+        assertThat(current).isEqualTo(1);
+        assertThat(stale).isZero();
+        ReportGenerationJobJpaEntity job = reportGenerationJobJpaRepository.findById("job-001").orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportGenerationJobStatus.SUCCEEDED);
+        assertThat(job.getFinishedAt()).isEqualTo(BASE.plusMinutes(12));
+        assertThat(job.getErrorMessage()).isNull();
+    }
+
+    @Test
+    void finish_終了済みのジョブ_再度の終了では更新しない() {
+        // Arrange
+        reportGenerationJobJpaRepository.claim("job-001", BASE.plusSeconds(1));
+        reportGenerationJobJpaRepository.finish("job-001", BASE.plusSeconds(1),
+                ReportGenerationJobStatus.SUCCEEDED, BASE.plusSeconds(2), null);
+
+        // Act
+        int updated = reportGenerationJobJpaRepository.finish("job-001", BASE.plusSeconds(1),
+                ReportGenerationJobStatus.FAILED, BASE.plusSeconds(3), "失敗");
+
+        // Assert
+        assertThat(updated).isZero();
+        assertThat(reportGenerationJobJpaRepository.findById("job-001").orElseThrow().getStatus())
+                .isEqualTo(ReportGenerationJobStatus.SUCCEEDED);
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.okanikani.kairos.reports.others.locks;
+
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostgresAdvisoryReportGenerationLockのUnit Test
+ * 
+ * テスト対象: トランザクション内でアドバイザリロックを取得してから処理を実行すること
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresAdvisoryReportGenerationLockTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostgresAdvisoryReportGenerationLock lock;
+
+    @BeforeEach
+    void setUp() {
+        lock = new PostgresAdvisoryReportGenerationLock(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void executeExclusively_正常ケース_ロック取得後に処理を実行してコミットする() {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // Act
+        String result = lock.executeExclusively(YearMonth.of(2024, 1), new User("user001"), () -> {
+            // ロック取得後に実行されていること
+            verify(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), any(), any());
+            return "generated";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("generated");
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager);
+        inOrder.verify(jdbcTemplate).execute("SET LOCAL lock_timeout = '30s'");
+        inOrder.verify(jdbcTemplate).query(eq("SELECT pg_advisory_xact_lock(hashtext(?), ?)"),
+            any(ResultSetExtractor.class), eq("kairos.reports.generate:user001"), eq(202401));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void executeExclusively_ロック待ちタイムアウト_DuplicateResourceExceptionに変換する() {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(), any()))
+            .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> lock.executeExclusively(YearMonth.of(2024, 1), new User("user001"), () -> "unused"))
+            .isInstanceOf(DuplicateResourceException.class);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void toLockKey_年月_YYYYMM形式の整数に変換する() {
+        assertThat(PostgresAdvisoryReportGenerationLock.toLockKey(YearMonth.of(2024, 12))).isEqualTo(202412);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.vos.OvertimeTotal;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemoryOvertimeTotalRepositoryのUnit Test
+ * 
+ * テスト対象: 月次の値の置き換えと年度累計への差分反映、閾値による抽出
+ */
+class InMemoryOvertimeTotalRepositoryTest {
+
+    private static final User USER1 = new User("user001");
+    private static final User USER2 = new User("user002");
+
+    private InMemoryOvertimeTotalRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOvertimeTotalRepository();
+    }
+
+    @Test
+    void record_同じ月を再記録_年度累計には差分だけが反映される() {
+        repository.record(USER1, YearMonth.of(2024, 4), 2024, Duration.ofHours(30), Duration.ofHours(8));
+        repository.record(USER1, YearMonth.of(2024, 5), 2024, Duration.ofHours(20), Duration.ZERO);
+        repository.record(USER1, YearMonth.of(2024, 4), 2024, Duration.ofHours(40), Duration.ofHours(4));
+
+        List<OvertimeTotal> result = repository.findAtOrAbove(YearMonth.of(2024, 4), 2024, Duration.ZERO, Duration.ZERO);
+
+        assertThat(result).hasSize(1);
+        OvertimeTotal total = result.get(0);
+        assertThat(total.monthOvertime()).isEqualTo(Duration.ofHours(40));
+        assertThat(total.monthHolidayWork()).isEqualTo(Duration.ofHours(4));
+        assertThat(total.fiscalYearOvertime()).isEqualTo(Duration.ofHours(60));
+        assertThat(total.fiscalYearHolidayWork()).isEqualTo(Duration.ofHours(4));
+    }
+
+    @Test
+    void remove_記録済みの月を削除_年度累計から差し引かれる() {
+        repository.record(USER1, YearMonth.of(2024, 4), 2024, Duration.ofHours(30), Duration.ZERO);
+        repository.record(USER1, YearMonth.of(2024, 5), 2024, Duration.ofHours(20), Duration.ZERO);
+
+        repository.remove(USER1, YearMonth.of(2024, 4));
+
+        List<OvertimeTotal> result = repository.findAtOrAbove(YearMonth.of(2024, 4), 2024, Duration.ZERO, Duration.ZERO);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).monthOvertime()).isZero();
+        assertThat(result.get(0).fiscalYearOvertime()).isEqualTo(Duration.ofHours(20));
+    }
+
+    @Test
+    void record_年度が変わった月を再記録_変更前の年度から付け替えられる() {
+        repository.record(USER1, YearMonth.of(2024, 3), 2024, Duration.ofHours(30), Duration.ZERO);
+
+        repository.record(USER1, YearMonth.of(2024, 3), 2023, Duration.ofHours(30), Duration.ZERO);
+
+        assertThat(repository.findAtOrAbove(YearMonth.of(2024, 4), 2024, Duration.ofMinutes(1), Duration.ofMinutes(1))).isEmpty();
+        assertThat(repository.findAtOrAbove(YearMonth.of(2024, 3), 2023, Duration.ZERO, Duration.ZERO))
+            .extracting(OvertimeTotal::fiscalYearOvertime)
+            .containsExactly(Duration.ofHours(30));
+    }
+
+    @Test
+    void findAtOrAbove_月または年度累計が閾値以上_該当ユーザーを年度累計の降順で返す() {
+        // USER1: 月は閾値未満だが年度累計が閾値以上
+        repository.record(USER1, YearMonth.of(2024, 4), 2024, Duration.ofHours(44), Duration.ZERO);
+        repository.record(USER1, YearMonth.of(2024, 5), 2024, Duration.ofHours(44), Duration.ZERO);
+        repository.record(USER1, YearMonth.of(2024, 6), 2024, Duration.ofHours(10), Duration.ZERO);
+        // USER2: 月が閾値以上
+        repository.record(USER2, YearMonth.of(2024, 6), 2024, Duration.ofHours(45), Duration.ZERO);
+        // 対象外: どちらも閾値未満
+        repository.record(new User("user003"), YearMonth.of(2024, 6), 2024, Duration.ofHours(5), Duration.ZERO);
+
+        List<OvertimeTotal> result = repository.findAtOrAbove(YearMonth.of(2024, 6), 2024,
+            Duration.ofHours(45), Duration.ofHours(90));
+
+        assertThat(result).extracting(total -> total.owner().userId())
+            .containsExactly("user001", "user002");
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportGenerationJobStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.ReportGenerationJob;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemoryReportGenerationJobRepositoryのUnit Test
+ * 
+ * テスト対象: 未終了ジョブの重複防止と状態遷移
+ */
+class InMemoryReportGenerationJobRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 2, 1, 9, 0);
+
+    private InMemoryReportGenerationJobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryReportGenerationJobRepository();
+    }
+
+    @Test
+    void saveIfNoActiveJob_未終了ジョブが存在する_既存のジョブを返す() {
+        ReportGenerationJob first = ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE);
+        ReportGenerationJob second = ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE.plusSeconds(1));
+
+        repository.saveIfNoActiveJob(first);
+        ReportGenerationJob result = repository.saveIfNoActiveJob(second);
+
+        assertThat(result.jobId()).isEqualTo(first.jobId());
+        assertThat(repository.findById(second.jobId())).isNull();
+    }
+
+    @Test
+    void saveIfNoActiveJob_年月またはユーザーが異なる_別のジョブとして保存する() {
+        ReportGenerationJob january = ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE);
+        ReportGenerationJob february = ReportGenerationJob.accept(YearMonth.of(2024, 2), new User("user001"), BASE);
+        ReportGenerationJob otherUser = ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user002"), BASE);
+
+        assertThat(repository.saveIfNoActiveJob(january).jobId()).isEqualTo(january.jobId());
+        assertThat(repository.saveIfNoActiveJob(february).jobId()).isEqualTo(february.jobId());
+        assertThat(repository.saveIfNoActiveJob(otherUser).jobId()).isEqualTo(otherUser.jobId());
+    }
+
+    @Test
+    void saveIfNoActiveJob_既存ジョブが終了済み_新しいジョブを保存する() {
+        ReportGenerationJob first = ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE);
+        repository.saveIfNoActiveJob(first);
+        ReportGenerationJob running = repository.claim(first.jobId(), BASE.plusSeconds(1));
+        repository.finish(running.succeed(BASE.plusSeconds(2)));
+
+        ReportGenerationJob second = ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE.plusSeconds(3));
+        ReportGenerationJob result = repository.saveIfNoActiveJob(second);
+
+        assertThat(result.jobId()).isEqualTo(second.jobId());
+    }
+
+    @Test
+    void saveIfNoActiveJob_同時に受付_1件のみ保存される() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ReportGenerationJob>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return repository.saveIfNoActiveJob(
+                        ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE));
+                }));
+            }
+            start.countDown();
+
+            Set<String> jobIds = new HashSet<>();
+            for (Future<ReportGenerationJob> future : futures) {
+                jobIds.add(future.get().jobId());
+            }
+            assertThat(jobIds).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void claim_受付状態のジョブ_1回のみ実行中に遷移する() {
+        ReportGenerationJob job = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE));
+
+        ReportGenerationJob claimed = repository.claim(job.jobId(), BASE.plusSeconds(1));
+        ReportGenerationJob claimedAgain = repository.claim(job.jobId(), BASE.plusSeconds(2));
+
+        assertThat(claimed.status()).isEqualTo(ReportGenerationJobStatus.RUNNING);
+        assertThat(claimed.startedAt()).isEqualTo(BASE.plusSeconds(1));
+        assertThat(claimedAgain).isNull();
+        assertThat(repository.claim("unknown", BASE)).isNull();
+    }
+
+    @Test
+    void requeueStale_基準日時より前に開始した実行中ジョブ_受付状態に戻す() {
+        ReportGenerationJob stale = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE));
+        ReportGenerationJob fresh = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user002"), BASE));
+        repository.claim(stale.jobId(), BASE);
+        repository.claim(fresh.jobId(), BASE.plusMinutes(20));
+
+        int requeued = repository.requeueStale(BASE.plusMinutes(10));
+
+        assertThat(requeued).isEqualTo(1);
+        assertThat(repository.findById(stale.jobId()).status()).isEqualTo(ReportGenerationJobStatus.PENDING);
+        assertThat(repository.findById(stale.jobId()).startedAt()).isNull();
+        assertThat(repository.findById(fresh.jobId()).status()).isEqualTo(ReportGenerationJobStatus.RUNNING);
+    }
+
+    @Test
+    void finish_受付状態に戻され他で実行し直しているジョブ_古い実行の結果で上書きしない() {
+        ReportGenerationJob job = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE));
+        ReportGenerationJob staleRun = repository.claim(job.jobId(), BASE);
+        repository.requeueStale(BASE.plusMinutes(10));
+        ReportGenerationJob currentRun = repository.claim(job.jobId(), BASE.plusMinutes(11));
+
+        boolean currentFinished = repository.finish(currentRun.succeed(BASE.plusMinutes(12)));
+        boolean staleFinished = repository.finish(staleRun.fail("タイムアウト", BASE.plusMinutes(13)));
+
+        assertThat(currentFinished).isTrue();
+        assertThat(staleFinished).isFalse();
+        assertThat(repository.findById(job.jobId()).status()).isEqualTo(ReportGenerationJobStatus.SUCCEEDED);
+        assertThat(repository.findById(job.jobId()).errorMessage()).isNull();
+    }
+
+    @Test
+    void finish_受付状態に戻されたジョブ_再実行前の終了も保存しない() {
+        ReportGenerationJob job = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE));
+        ReportGenerationJob staleRun = repository.claim(job.jobId(), BASE);
+        repository.requeueStale(BASE.plusMinutes(10));
+
+        boolean finished = repository.finish(staleRun.succeed(BASE.plusMinutes(11)));
+
+        assertThat(finished).isFalse();
+        assertThat(repository.findById(job.jobId()).status()).isEqualTo(ReportGenerationJobStatus.PENDING);
+    }
+
+    @Test
+    void findPending_受付日時の古い順に上限件数まで返す() {
+        ReportGenerationJob newer = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE.plusMinutes(2)));
+        ReportGenerationJob older = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user002"), BASE));
+        repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user003"), BASE.plusMinutes(5)));
+
+        List<ReportGenerationJob> pending = repository.findPending(2);
+
+        assertThat(pending).extracting(ReportGenerationJob::jobId).containsExactly(older.jobId(), newer.jobId());
+    }
+
+    @Test
+    void deleteFinishedBefore_保持期間を過ぎた終了済みジョブのみ削除する() {
+        ReportGenerationJob old = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user001"), BASE));
+        repository.finish(repository.claim(old.jobId(), BASE).fail("失敗", BASE.plusSeconds(1)));
+        ReportGenerationJob pending = repository.saveIfNoActiveJob(
+            ReportGenerationJob.accept(YearMonth.of(2024, 1), new User("user002"), BASE));
+
+        int deleted = repository.deleteFinishedBefore(BASE.plusDays(1));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findById(old.jobId())).isNull();
+        assertThat(repository.findById(pending.jobId())).isNotNull();
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.okanikani.kairos.reports.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
 import com.github.okanikani.kairos.reports.domains.models.constants.LeaveType;
 import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
 import com.github.okanikani.kairos.reports.domains.models.entities.Report;
@@ -36,6 +38,9 @@ class JpaReportRepositoryTest {
     @Mock
     private ReportJpaRepository reportJpaRepository;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private JpaReportRepository jpaReportRepository;
 
@@ -164,6 +169,32 @@ class JpaReportRepositoryTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void lockStatus_存在するレポート_行ロック付きで取得した状態が返される() {
+        // Given
+        when(reportJpaRepository.findStatusForUpdate("2025-01", "test-user-001"))
+                .thenReturn(Optional.of("SUBMITTED"));
+
+        // When
+        ReportStatus result = jpaReportRepository.lockStatus(testYearMonth, testUser);
+
+        // Then
+        assertThat(result).isEqualTo(ReportStatus.SUBMITTED);
+    }
+
+    @Test
+    void lockStatus_存在しないレポート_nullが返される() {
+        // Given
+        when(reportJpaRepository.findStatusForUpdate("2025-01", "test-user-001"))
+                .thenReturn(Optional.empty());
+
+        // When
+        ReportStatus result = jpaReportRepository.lockStatus(testYearMonth, testUser);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
     @Test
     void findAll_レポートが存在する場合_全てのReportリストが返される() {
         // Given
@@ -199,6 +230,7 @@ class JpaReportRepositoryTest {
 
         // Then
         verify(reportJpaRepository).deleteById(any(ReportId.class));
+        verify(cacheInvalidationPublisher).publish(CacheNames.REPORTS, testUser.userId());
     }
 
     @Test
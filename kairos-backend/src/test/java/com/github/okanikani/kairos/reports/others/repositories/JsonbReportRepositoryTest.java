@@ -0,0 +1,155 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.reports.domains.models.constants.LeaveType;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.vos.*;
+import com.github.okanikani.kairos.reports.others.jpa.entities.*;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportDocumentJpaRepository;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JsonbReportRepositoryのUnit Test
+ *
+ * テスト対象: 勤務日詳細のJSONBへの保存と、移行前の勤怠表の report_details からの読み込み
+ */
+@ExtendWith(MockitoExtension.class)
+class JsonbReportRepositoryTest {
+
+    @Mock
+    private ReportDocumentJpaRepository reportDocumentJpaRepository;
+
+    @Mock
+    private ReportJpaRepository reportJpaRepository;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private JsonbReportRepository jsonbReportRepository;
+
+    private Report testReport;
+    private User testUser;
+    private YearMonth testYearMonth;
+    private ReportId testReportId;
+
+    @BeforeEach
+    void setUp() {
+        jsonbReportRepository = new JsonbReportRepository(reportDocumentJpaRepository, reportJpaRepository,
+                cacheInvalidationPublisher);
+        testUser = new User("test-user-001");
+        testYearMonth = YearMonth.of(2025, 1);
+        testReportId = new ReportId(testYearMonth, "test-user-001");
+
+        List<Detail> workDays = List.of(
+                new Detail(
+                        LocalDate.of(2025, 1, 6), false, null,
+                        new WorkTime(LocalDateTime.of(2025, 1, 6, 9, 0)),
+                        new WorkTime(LocalDateTime.of(2025, 1, 6, 18, 0)),
+                        Duration.ofHours(8), Duration.ofMinutes(30), Duration.ZERO, null
+                ),
+                new Detail(
+                        LocalDate.of(2025, 1, 7), false, LeaveType.PAID_LEAVE_AM,
+                        new WorkTime(LocalDateTime.of(2025, 1, 7, 13, 0)),
+                        new WorkTime(LocalDateTime.of(2025, 1, 7, 18, 0)),
+                        Duration.ofHours(4), Duration.ZERO, Duration.ZERO, "午前半休取得"
+                )
+        );
+        Summary summary = new Summary(
+                2.0, 0.5, 0.0, 0.0,
+                Duration.ofHours(12), Duration.ofMinutes(30), Duration.ZERO
+        );
+        testReport = new Report(testYearMonth, testUser, ReportStatus.NOT_SUBMITTED, workDays, summary);
+    }
+
+    @Test
+    void save_勤務日詳細_1行のJSONとして保存され読み戻すと同じReportになる() {
+        // Given
+        ArgumentCaptor<ReportDocumentJpaEntity> captor = ArgumentCaptor.forClass(ReportDocumentJpaEntity.class);
+
+        // When
+        jsonbReportRepository.save(testReport);
+
+        // Then
+        verify(reportDocumentJpaRepository).save(captor.capture());
+        ReportDocumentJpaEntity saved = captor.getValue();
+        assertThat(saved.getId()).isEqualTo(testReportId);
+        assertThat(saved.getWorkDayDetails()).startsWith("[").contains("\"workDate\":\"2025-01-07\"");
+
+        when(reportDocumentJpaRepository.findById(testReportId)).thenReturn(Optional.of(saved));
+        Report result = jsonbReportRepository.find(testYearMonth, testUser);
+        assertThat(result).isEqualTo(testReport);
+        verify(reportJpaRepository, never()).findByYearMonthAndUserId(any(), any());
+    }
+
+    @Test
+    void find_JSONが未作成の勤怠表_report_detailsから読み込まれる() {
+        // Given: db/migrations/007 の実行前に保存された勤怠表
+        ReportDocumentJpaEntity legacy = mockDocument(null);
+        ReportJpaEntity relational = new ReportJpaEntity(testReportId, ReportStatus.SUBMITTED,
+                new SummaryJpaEntity(1.0, 0.0, 0.0, 0.0, Duration.ofHours(8), Duration.ZERO, Duration.ZERO));
+        relational.addWorkDay(new DetailJpaEntity(
+                LocalDate.of(2025, 1, 6), false, null,
+                LocalDateTime.of(2025, 1, 6, 9, 0), LocalDateTime.of(2025, 1, 6, 18, 0),
+                Duration.ofHours(8), Duration.ZERO, Duration.ZERO, null));
+        when(reportDocumentJpaRepository.findById(testReportId)).thenReturn(Optional.of(legacy));
+        when(reportJpaRepository.findByYearMonthAndUserId(testYearMonth, "test-user-001"))
+                .thenReturn(Optional.of(relational));
+
+        // When
+        Report result = jsonbReportRepository.find(testYearMonth, testUser);
+
+        // Then
+        assertThat(result.status()).isEqualTo(ReportStatus.SUBMITTED);
+        assertThat(result.workDays()).hasSize(1);
+        assertThat(result.workDays().get(0).workDate()).isEqualTo(LocalDate.of(2025, 1, 6));
+    }
+
+    @Test
+    void find_存在しないレポート_nullが返される() {
+        // Given
+        when(reportDocumentJpaRepository.findById(testReportId)).thenReturn(Optional.empty());
+
+        // When
+        Report result = jsonbReportRepository.find(testYearMonth, testUser);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void delete_存在するレポート_reportsの行が削除される() {
+        // When
+        jsonbReportRepository.delete(testYearMonth, testUser);
+
+        // Then
+        verify(reportDocumentJpaRepository).deleteById(testReportId);
+    }
+
+    private ReportDocumentJpaEntity mockDocument(String workDayDetails) {
+        ReportDocumentJpaEntity entity = mock(ReportDocumentJpaEntity.class);
+        when(entity.getId()).thenReturn(testReportId);
+        when(entity.getWorkDayDetails()).thenReturn(workDayDetails);
+        return entity;
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.OvertimeCapProperties;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.repositories.OvertimeTotalRepository;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * OvertimeTrackingReportRepositoryのUnit Test
+ *
+ * テスト対象: 勤怠表の保存・更新・削除に合わせた時間外労働集計の記録
+ */
+@ExtendWith(MockitoExtension.class)
+class OvertimeTrackingReportRepositoryTest {
+
+    @Mock
+    private ReportRepository delegate;
+
+    @Mock
+    private OvertimeTotalRepository overtimeTotalRepository;
+
+    private OvertimeTrackingReportRepository repository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OvertimeTrackingReportRepository(delegate, overtimeTotalRepository,
+            OvertimeCapProperties.defaultSettings());
+        user = new User("user001");
+    }
+
+    @Test
+    void save_正常ケース_保存後に勤怠年月の年度で集計値が記録される() {
+        // Arrange
+        Report report = createReport(YearMonth.of(2025, 3), Duration.ofHours(12), Duration.ofHours(8));
+
+        // Act
+        repository.save(report);
+
+        // Assert
+        InOrder inOrder = inOrder(delegate, overtimeTotalRepository);
+        inOrder.verify(delegate).save(report);
+        inOrder.verify(overtimeTotalRepository).record(user, YearMonth.of(2025, 3), 2024,
+            Duration.ofHours(12), Duration.ofHours(8));
+    }
+
+    @Test
+    void update_正常ケース_更新後の集計値で記録される() {
+        // Arrange
+        Report report = createReport(YearMonth.of(2025, 4), Duration.ofHours(20), Duration.ZERO);
+
+        // Act
+        repository.update(report);
+
+        // Assert
+        verify(delegate).update(report);
+        verify(overtimeTotalRepository).record(user, YearMonth.of(2025, 4), 2025, Duration.ofHours(20), Duration.ZERO);
+    }
+
+    @Test
+    void delete_正常ケース_集計値も削除される() {
+        // Act
+        repository.delete(YearMonth.of(2025, 4), user);
+
+        // Assert
+        verify(delegate).delete(YearMonth.of(2025, 4), user);
+        verify(overtimeTotalRepository).remove(user, YearMonth.of(2025, 4));
+    }
+
+    @Test
+    void save_勤怠表の保存に失敗_集計値は記録されない() {
+        // Arrange
+        Report report = createReport(YearMonth.of(2025, 4), Duration.ofHours(20), Duration.ZERO);
+        doThrow(new IllegalStateException("保存失敗")).when(delegate).save(report);
+
+        // Act
+        try {
+            repository.save(report);
+        } catch (IllegalStateException expected) {
+            // 例外はそのまま呼び出し元へ伝播する
+        }
+
+        // Assert
+        verify(overtimeTotalRepository, never()).record(any(), any(), anyInt(), any(), any());
+    }
+
+    private Report createReport(YearMonth yearMonth, Duration overtime, Duration holidayWork) {
+        Summary summary = new Summary(1.0, 0.0, 0.0, 0.0, Duration.ofHours(8).plus(overtime), overtime, holidayWork);
+        return new Report(yearMonth, user, ReportStatus.NOT_SUBMITTED, List.of(), summary);
+    }
+}
@@ -0,0 +1,182 @@
+package com.github.okanikani.kairos.reports.others.repositories;
+
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.reports.domains.models.constants.ReportStatus;
+import com.github.okanikani.kairos.reports.domains.models.entities.Report;
+import com.github.okanikani.kairos.reports.domains.models.repositories.ReportRepository;
+import com.github.okanikani.kairos.reports.domains.models.vos.Detail;
+import com.github.okanikani.kairos.reports.domains.models.vos.Summary;
+import com.github.okanikani.kairos.reports.domains.models.vos.User;
+import com.github.okanikani.kairos.reports.domains.models.vos.WorkTime;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportDocumentJpaRepository;
+import com.github.okanikani.kairos.reports.others.jpa.repositories.ReportJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 勤務日詳細の保存形式ごとの勤怠表の読み書き時間とテーブルの肥大化の比較
+ *
+ * report_details に1日1行で保存する形式（JpaReportRepository）と reports の JSONB 列に保存する形式
+ * （JsonbReportRepository）で、同じ件数の勤怠表を登録・再生成（上書き）・参照した時間と、
+ * 終了時のテーブルサイズ・不要行（n_dead_tup）の数を比較する。
+ * 時間がかかりDockerも必要なため、通常のテスト実行では実行しない。
+ *
+ * 実行例:
+ *   mvn test -Dtest=ReportStorageBenchmarkTest -Dkairos.benchmark=true
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("勤怠表の保存形式のベンチマーク")
+@TestPropertySource(properties = {
+        "spring.autoconfigure.exclude="
+})
+@EnabledIfSystemProperty(named = "kairos.benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportStorageBenchmarkTest {
+
+    private static final int USERS = 200;
+    private static final int REWRITES = 5;
+    private static final int READS_PER_REPORT = 10;
+    private static final YearMonth YEAR_MONTH = YearMonth.of(2024, 1);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("kairos_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.jdbc.batch_size", () -> "25");
+        registry.add("spring.jpa.properties.hibernate.order_inserts", () -> "true");
+    }
+
+    @Autowired
+    private ReportJpaRepository reportJpaRepository;
+
+    @Autowired
+    private ReportDocumentJpaRepository reportDocumentJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 通知の送信は計測の対象外とする
+    private final CacheInvalidationPublisher noopPublisher = new CacheInvalidationPublisher() {
+        @Override
+        public void publish(String cacheName, String userId) {
+        }
+
+        @Override
+        public void publishAll(String cacheName, Collection<String> userIds) {
+        }
+    };
+
+    @Test
+    void JSONB_リレーショナルより読み書きが速く不要行が少ない() throws Exception {
+        // Arrange
+        // 不要行の数を比較するため、計測中は自動VACUUMを止める
+        jdbcTemplate.execute("ALTER TABLE reports SET (autovacuum_enabled = false)");
+        jdbcTemplate.execute("ALTER TABLE report_details SET (autovacuum_enabled = false)");
+        Result relationalResult;
+        Result jsonbResult;
+
+        // Act
+        relationalResult = run("Relational", new JpaReportRepository(reportJpaRepository, noopPublisher));
+        jsonbResult = run("JSONB", new JsonbReportRepository(reportDocumentJpaRepository, reportJpaRepository, noopPublisher));
+
+        // Assert
+        assertTrue(jsonbResult.writeMillisPerReport() < relationalResult.writeMillisPerReport(),
+            "保存時間がリレーショナルを上回りました");
+        assertTrue(jsonbResult.readMillisPerReport() < relationalResult.readMillisPerReport(),
+            "参照時間がリレーショナルを上回りました");
+        assertTrue(jsonbResult.deadTuples() < relationalResult.deadTuples(),
+            "不要行がリレーショナルより多くなりました");
+    }
+
+    private record Result(double writeMillisPerReport, double readMillisPerReport, long totalBytes, long deadTuples) {
+    }
+
+    private Result run(String name, ReportRepository repository) throws Exception {
+        jdbcTemplate.execute("TRUNCATE report_details, reports");
+        long deadTuplesBefore = deadTuples();
+
+        // 保存: 月次の勤怠表の登録と、打刻の修正による再生成（同じ勤怠表の上書き）
+        long writeStart = System.nanoTime();
+        for (int rewrite = 0; rewrite <= REWRITES; rewrite++) {
+            for (int u = 0; u < USERS; u++) {
+                repository.save(report("benchmark-user-" + u, rewrite));
+            }
+        }
+        double writeMillis = (System.nanoTime() - writeStart) / 1e6 / (USERS * (REWRITES + 1));
+
+        // 参照: 勤怠表の表示と同じく1件ずつ取得する
+        long readStart = System.nanoTime();
+        for (int r = 0; r < READS_PER_REPORT; r++) {
+            for (int u = 0; u < USERS; u++) {
+                Report report = repository.find(YEAR_MONTH, new User("benchmark-user-" + u));
+                assertEquals(YEAR_MONTH.lengthOfMonth(), report.workDays().size());
+            }
+        }
+        double readMillis = (System.nanoTime() - readStart) / 1e6 / (USERS * READS_PER_REPORT);
+
+        // 統計情報はトランザクション終了から最大1秒遅れて反映される
+        Thread.sleep(2_000);
+        Long totalBytes = jdbcTemplate.queryForObject(
+            "SELECT pg_total_relation_size('reports') + pg_total_relation_size('report_details')", Long.class);
+        Result result = new Result(writeMillis, readMillis, totalBytes, deadTuples() - deadTuplesBefore);
+        System.out.printf("%s: write=%.2f ms/report, read=%.2f ms/report, size=%d bytes, dead-tuples=%d%n",
+            name, result.writeMillisPerReport(), result.readMillisPerReport(), result.totalBytes(), result.deadTuples());
+        return result;
+    }
+
+    private long deadTuples() {
+        Long deadTuples = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(n_dead_tup), 0) FROM pg_stat_user_tables WHERE relname IN ('reports', 'report_details')",
+            Long.class);
+        return deadTuples != null ? deadTuples : 0L;
+    }
+
+    private static Report report(String userId, int revision) {
+        List<Detail> workDays = new ArrayList<>();
+        for (int day = 1; day <= YEAR_MONTH.lengthOfMonth(); day++) {
+            LocalDate date = YEAR_MONTH.atDay(day);
+            workDays.add(new Detail(date, false, null,
+                new WorkTime(date.atTime(9, 0)),
+                new WorkTime(date.atTime(18, revision)),
+                Duration.ofMinutes(480 + revision), Duration.ofMinutes(revision), Duration.ZERO,
+                "修正" + revision));
+        }
+        Summary summary = new Summary(workDays.size(), 0.0, 0.0, 0.0,
+            Duration.ofMinutes((480L + revision) * workDays.size()),
+            Duration.ofMinutes((long) revision * workDays.size()), Duration.ZERO);
+        return new Report(YEAR_MONTH, new User(userId), ReportStatus.NOT_SUBMITTED, workDays, summary);
+    }
+}
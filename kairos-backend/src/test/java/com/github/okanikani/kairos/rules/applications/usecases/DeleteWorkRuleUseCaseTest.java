@@ -2,6 +2,8 @@ package com.github.okanikani.kairos.rules.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
@@ -15,6 +17,7 @@ import java.time.LocalTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -25,10 +28,13 @@ class DeleteWorkRuleUseCaseTest {
     @Mock
     private WorkRuleRepository workRuleRepository;
 
+    @Mock
+    private DomainChangeOutbox domainChangeOutbox;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deleteWorkRuleUseCase = new DeleteWorkRuleUseCase(workRuleRepository);
+        deleteWorkRuleUseCase = new DeleteWorkRuleUseCase(workRuleRepository, domainChangeOutbox);
     }
 
     @Test
@@ -52,6 +58,11 @@ class DeleteWorkRuleUseCaseTest {
         // Assert
         verify(workRuleRepository, times(1)).findById(eq(workRuleId));
         verify(workRuleRepository, times(1)).deleteById(eq(workRuleId));
+        verify(domainChangeOutbox, times(1)).append(argThat(event ->
+            event.type() == DomainChangeType.WORK_RULE_CHANGED
+                && event.userId().equals(userId)
+                && event.fromDate().equals(LocalDate.of(2024, 1, 1))
+                && event.toDate().equals(LocalDate.of(2024, 12, 31))));
     }
 
     @Test
@@ -126,7 +137,7 @@ class DeleteWorkRuleUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new DeleteWorkRuleUseCase(null)
+            () -> new DeleteWorkRuleUseCase(null, domainChangeOutbox)
         );
         assertEquals("workRuleRepositoryは必須です", exception.getMessage());
     }
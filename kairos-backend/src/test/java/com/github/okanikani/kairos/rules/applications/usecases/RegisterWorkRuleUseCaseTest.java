@@ -1,13 +1,13 @@
 package com.github.okanikani.kairos.rules.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.RegisterWorkRuleRequest;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.UserDto;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.WorkRuleResponse;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
-import com.github.okanikani.kairos.rules.domains.service.WorkRuleDomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -15,11 +15,10 @@ import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Arrays;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class RegisterWorkRuleUseCaseTest {
@@ -30,12 +29,12 @@ class RegisterWorkRuleUseCaseTest {
     private WorkRuleRepository workRuleRepository;
 
     @Mock
-    private WorkRuleDomainService workRuleDomainService;
+    private DomainChangeOutbox domainChangeOutbox;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        registerWorkRuleUseCase = new RegisterWorkRuleUseCase(workRuleRepository, workRuleDomainService);
+        registerWorkRuleUseCase = new RegisterWorkRuleUseCase(workRuleRepository, domainChangeOutbox);
     }
 
     @Test
@@ -61,8 +60,7 @@ class RegisterWorkRuleUseCaseTest {
             LocalTime.of(12, 0), LocalTime.of(13, 0),
             LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)
         );
-        when(workRuleRepository.findByUser(any(User.class))).thenReturn(Arrays.asList());
-        when(workRuleDomainService.hasOverlappingPeriod(any(), any(), any())).thenReturn(false);
+        when(workRuleRepository.existsOverlapping(any(User.class), any(), any(), isNull())).thenReturn(false);
         when(workRuleRepository.save(any(WorkRule.class))).thenReturn(savedWorkRule);
 
         // Act
@@ -119,8 +117,7 @@ class RegisterWorkRuleUseCaseTest {
             null, null,
             LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)
         );
-        when(workRuleRepository.findByUser(any(User.class))).thenReturn(Arrays.asList());
-        when(workRuleDomainService.hasOverlappingPeriod(any(), any(), any())).thenReturn(false);
+        when(workRuleRepository.existsOverlapping(any(User.class), any(), any(), isNull())).thenReturn(false);
         when(workRuleRepository.save(any(WorkRule.class))).thenReturn(savedWorkRule);
 
         // Act
@@ -139,21 +136,11 @@ class RegisterWorkRuleUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new RegisterWorkRuleUseCase(null, workRuleDomainService)
+            () -> new RegisterWorkRuleUseCase(null, domainChangeOutbox)
         );
         assertEquals("workRuleRepositoryは必須です", exception.getMessage());
     }
 
-    @Test
-    void constructor_nullDomainService_例外が発生する() {
-        // Act & Assert
-        NullPointerException exception = assertThrows(
-            NullPointerException.class,
-            () -> new RegisterWorkRuleUseCase(workRuleRepository, null)
-        );
-        assertEquals("workRuleDomainServiceは必須です", exception.getMessage());
-    }
-
     @Test
     void execute_所属期間重複_例外が発生する() {
         // Arrange
@@ -171,26 +158,10 @@ class RegisterWorkRuleUseCaseTest {
             LocalDate.of(2024, 8, 31)
         );
 
-        // 既存の勤怠ルール（重複する期間）
+        // 既存の勤怠ルール（2024/5/1 - 2024/7/31）と重複する
         User user = new User("testuser");
-        List<WorkRule> existingRules = Arrays.asList(
-            new WorkRule(
-                1L,
-                1L,
-                35.6762,
-                139.6503,
-                user,
-                LocalTime.of(9, 0),
-                LocalTime.of(17, 30),
-                LocalTime.of(12, 0),
-                LocalTime.of(13, 0),
-                LocalDate.of(2024, 5, 1),     // 既存期間: 2024/5/1 - 2024/7/31
-                LocalDate.of(2024, 7, 31)
-            )
-        );
-
-        when(workRuleRepository.findByUser(user)).thenReturn(existingRules);
-        when(workRuleDomainService.hasOverlappingPeriod(any(), any(), any())).thenReturn(true);
+        when(workRuleRepository.existsOverlapping(user, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 8, 31), null))
+            .thenReturn(true);
 
         // Act & Assert
         DuplicateResourceException exception = assertThrows(
@@ -219,23 +190,8 @@ class RegisterWorkRuleUseCaseTest {
             LocalDate.of(2024, 10, 31)
         );
 
-        // 既存の勤怠ルール（重複しない期間）
+        // 既存の勤怠ルール（2024/5/1 - 2024/7/31）とは重複しない
         User user = new User("testuser");
-        List<WorkRule> existingRules = Arrays.asList(
-            new WorkRule(
-                1L,
-                1L,
-                35.6762,
-                139.6503,
-                user,
-                LocalTime.of(9, 0),
-                LocalTime.of(17, 30),
-                LocalTime.of(12, 0),
-                LocalTime.of(13, 0),
-                LocalDate.of(2024, 5, 1),     // 既存期間: 2024/5/1 - 2024/7/31
-                LocalDate.of(2024, 7, 31)
-            )
-        );
 
         WorkRule savedWorkRule = new WorkRule(
             2L, 1L, 35.6762, 139.6503, user,
@@ -243,8 +199,8 @@ class RegisterWorkRuleUseCaseTest {
             LocalTime.of(12, 0), LocalTime.of(13, 0),
             LocalDate.of(2024, 8, 1), LocalDate.of(2024, 10, 31)
         );
-        when(workRuleRepository.findByUser(user)).thenReturn(existingRules);
-        when(workRuleDomainService.hasOverlappingPeriod(any(), any(), any())).thenReturn(false);
+        when(workRuleRepository.existsOverlapping(user, LocalDate.of(2024, 8, 1), LocalDate.of(2024, 10, 31), null))
+            .thenReturn(false);
         when(workRuleRepository.save(any(WorkRule.class))).thenReturn(savedWorkRule);
 
         // Act
@@ -254,7 +210,7 @@ class RegisterWorkRuleUseCaseTest {
         assertNotNull(response);
         assertEquals(request.workPlaceId(), response.workPlaceId());
 
-        verify(workRuleRepository, times(1)).findByUser(user);
+        verify(workRuleRepository, never()).findByUser(any());
         verify(workRuleRepository, times(1)).save(any(WorkRule.class));
     }
 
@@ -283,8 +239,8 @@ class RegisterWorkRuleUseCaseTest {
             LocalTime.of(12, 0), LocalTime.of(13, 0),
             LocalDate.of(2024, 6, 1), LocalDate.of(2024, 8, 31)
         );
-        when(workRuleRepository.findByUser(user)).thenReturn(Arrays.asList());
-        when(workRuleDomainService.hasOverlappingPeriod(any(), any(), any())).thenReturn(false);
+        when(workRuleRepository.existsOverlapping(user, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 8, 31), null))
+            .thenReturn(false);
         when(workRuleRepository.save(any(WorkRule.class))).thenReturn(savedWorkRule);
 
         // Act
@@ -294,7 +250,30 @@ class RegisterWorkRuleUseCaseTest {
         assertNotNull(response);
         assertEquals(request.workPlaceId(), response.workPlaceId());
 
-        verify(workRuleRepository, times(1)).findByUser(user);
+        verify(workRuleRepository, never()).findByUser(any());
         verify(workRuleRepository, times(1)).save(any(WorkRule.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void execute_異常ケース_同時登録で保存時に重複が検出された場合は例外が伝播する() {
+        // Arrange: 事前判定は通過したが、保存までの間に他の登録が確定した状況
+        RegisterWorkRuleRequest request = new RegisterWorkRuleRequest(
+            1L,
+            35.6762,
+            139.6503,
+            new UserDto("testuser"),
+            LocalTime.of(9, 0),
+            LocalTime.of(17, 30),
+            LocalTime.of(12, 0),
+            LocalTime.of(13, 0),
+            LocalDate.of(2024, 1, 1),
+            LocalDate.of(2024, 12, 31)
+        );
+        when(workRuleRepository.existsOverlapping(any(User.class), any(), any(), isNull())).thenReturn(false);
+        when(workRuleRepository.save(any(WorkRule.class)))
+            .thenThrow(new DuplicateResourceException("指定された所属期間は既存の勤怠ルールと重複しています"));
+
+        // Act & Assert
+        assertThrows(DuplicateResourceException.class, () -> registerWorkRuleUseCase.execute(request));
+    }
+}
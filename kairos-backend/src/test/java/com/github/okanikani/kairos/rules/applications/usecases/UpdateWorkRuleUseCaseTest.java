@@ -1,7 +1,11 @@
 package com.github.okanikani.kairos.rules.applications.usecases;
 
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.commons.exceptions.ResourceNotFoundException;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeEvent;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeOutbox;
+import com.github.okanikani.kairos.commons.outbox.DomainChangeType;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.UpdateWorkRuleRequest;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.UserDto;
 import com.github.okanikani.kairos.rules.applications.usecases.dto.WorkRuleResponse;
@@ -10,6 +14,7 @@ import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRep
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -28,10 +33,13 @@ class UpdateWorkRuleUseCaseTest {
     @Mock
     private WorkRuleRepository workRuleRepository;
 
+    @Mock
+    private DomainChangeOutbox domainChangeOutbox;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        updateWorkRuleUseCase = new UpdateWorkRuleUseCase(workRuleRepository);
+        updateWorkRuleUseCase = new UpdateWorkRuleUseCase(workRuleRepository, domainChangeOutbox);
     }
 
     @Test
@@ -77,6 +85,69 @@ class UpdateWorkRuleUseCaseTest {
         verify(workRuleRepository, times(1)).save(any(WorkRule.class));
     }
 
+    @Test
+    void execute_所属期間の変更_変更前と変更後の所属期間が再計算対象として記録される() {
+        // Arrange
+        Long workRuleId = 1L;
+        String userId = "testuser";
+        User user = new User(userId);
+        WorkRule existingWorkRule = new WorkRule(workRuleId, 100L, 35.6812, 139.7671, user,
+            LocalTime.of(9, 0), LocalTime.of(18, 0),
+            LocalTime.of(12, 0), LocalTime.of(13, 0),
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+        UpdateWorkRuleRequest request = new UpdateWorkRuleRequest(
+            100L, 35.6812, 139.7671, new UserDto(userId),
+            LocalTime.of(9, 0), LocalTime.of(18, 0),
+            LocalTime.of(12, 0), LocalTime.of(13, 0),
+            LocalDate.of(2024, 4, 1), LocalDate.of(2024, 9, 30)
+        );
+        when(workRuleRepository.findById(eq(workRuleId))).thenReturn(existingWorkRule);
+        ArgumentCaptor<DomainChangeEvent> captor = ArgumentCaptor.forClass(DomainChangeEvent.class);
+
+        // Act
+        updateWorkRuleUseCase.execute(workRuleId, request, userId);
+
+        // Assert
+        verify(domainChangeOutbox, times(2)).append(captor.capture());
+        assertEquals(DomainChangeType.WORK_RULE_CHANGED, captor.getAllValues().get(0).type());
+        assertEquals(LocalDate.of(2024, 1, 1), captor.getAllValues().get(0).fromDate());
+        assertEquals(LocalDate.of(2024, 6, 30), captor.getAllValues().get(0).toDate());
+        assertEquals(LocalDate.of(2024, 4, 1), captor.getAllValues().get(1).fromDate());
+        assertEquals(LocalDate.of(2024, 9, 30), captor.getAllValues().get(1).toDate());
+    }
+
+    @Test
+    void execute_所属期間が他の勤務ルールと重複する場合_例外が発生する() {
+        // Arrange
+        Long workRuleId = 1L;
+        String userId = "testuser";
+        User user = new User(userId);
+
+        WorkRule existingWorkRule = new WorkRule(workRuleId, 100L, 35.6812, 139.7671, user,
+            LocalTime.of(9, 0), LocalTime.of(18, 0),
+            LocalTime.of(12, 0), LocalTime.of(13, 0),
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+
+        UpdateWorkRuleRequest request = new UpdateWorkRuleRequest(
+            100L, 35.6812, 139.7671, new UserDto(userId),
+            LocalTime.of(9, 0), LocalTime.of(18, 0),
+            LocalTime.of(12, 0), LocalTime.of(13, 0),
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)  // 7月以降の別ルールと重複
+        );
+
+        when(workRuleRepository.findById(eq(workRuleId))).thenReturn(existingWorkRule);
+        when(workRuleRepository.existsOverlapping(user, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), workRuleId))
+            .thenReturn(true);
+
+        // Act & Assert
+        DuplicateResourceException exception = assertThrows(
+            DuplicateResourceException.class,
+            () -> updateWorkRuleUseCase.execute(workRuleId, request, userId)
+        );
+        assertEquals("指定された所属期間は既存の勤怠ルールと重複しています", exception.getMessage());
+        verify(workRuleRepository, never()).save(any());
+    }
+
     @Test
     void execute_勤務ルールが存在しない場合_例外が発生する() {
         // Arrange
@@ -195,7 +266,7 @@ class UpdateWorkRuleUseCaseTest {
         // Act & Assert
         NullPointerException exception = assertThrows(
             NullPointerException.class,
-            () -> new UpdateWorkRuleUseCase(null)
+            () -> new UpdateWorkRuleUseCase(null, domainChangeOutbox)
         );
         assertEquals("workRuleRepositoryは必須です", exception.getMessage());
     }
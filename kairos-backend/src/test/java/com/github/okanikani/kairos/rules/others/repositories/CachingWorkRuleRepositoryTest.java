@@ -0,0 +1,133 @@
+package com.github.okanikani.kairos.rules.others.repositories;
+
+import com.github.okanikani.kairos.commons.config.RuleCacheProperties;
+import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
+import com.github.okanikani.kairos.rules.domains.models.repositories.WorkRuleRepository;
+import com.github.okanikani.kairos.rules.domains.models.vos.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachingWorkRuleRepositoryのUnit Test
+ *
+ * テスト対象: ユーザー単位のキャッシュと書き込み時の同期的な無効化
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingWorkRuleRepositoryTest {
+
+    @Mock
+    private WorkRuleRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingWorkRuleRepository repository;
+    private User user;
+    private WorkRule januaryRule;
+    private WorkRule februaryRule;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingWorkRuleRepository(delegate, RuleCacheProperties.defaultSettings(), meterRegistry);
+        user = new User("user001");
+        januaryRule = createWorkRule(1L, user, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        februaryRule = createWorkRule(2L, user, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+    }
+
+    @Test
+    void findActiveByUserAndDate_正常ケース_日ごとの検索は1回の一覧取得で解決される() {
+        // Arrange
+        when(delegate.findByUser(user)).thenReturn(List.of(januaryRule, februaryRule));
+
+        // Act
+        List<WorkRule> january = repository.findActiveByUserAndDate(user, LocalDate.of(2025, 1, 15));
+        List<WorkRule> february = repository.findActiveByUserAndDate(user, LocalDate.of(2025, 2, 28));
+        List<WorkRule> march = repository.findActiveByUserAndDate(user, LocalDate.of(2025, 3, 1));
+
+        // Assert
+        assertEquals(List.of(januaryRule), january);
+        assertEquals(List.of(februaryRule), february);
+        assertTrue(march.isEmpty());
+        verify(delegate, times(1)).findByUser(user);
+        verify(delegate, never()).findActiveByUserAndDate(any(), any());
+        assertEquals(2.0, meterRegistry.get("kairos.cache.gets").tag("cache", "workRules").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void save_正常ケース_保存したユーザーのキャッシュが無効化される() {
+        // Arrange
+        WorkRule newRule = createWorkRule(null, user, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        WorkRule savedRule = createWorkRule(3L, user, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        when(delegate.findByUser(user))
+            .thenReturn(List.of(januaryRule))
+            .thenReturn(List.of(januaryRule, savedRule));
+        when(delegate.save(newRule)).thenReturn(savedRule);
+        repository.findByUser(user);
+
+        // Act
+        repository.save(newRule);
+        List<WorkRule> result = repository.findActiveByUserAndDate(user, LocalDate.of(2025, 3, 10));
+
+        // Assert
+        assertEquals(List.of(savedRule), result);
+        verify(delegate, times(2)).findByUser(user);
+    }
+
+    @Test
+    void save_正常ケース_更新でユーザーが変わる場合は変更前のユーザーも無効化される() {
+        // Arrange
+        User otherUser = new User("user002");
+        WorkRule movedRule = createWorkRule(1L, otherUser, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        when(delegate.findByUser(user)).thenReturn(List.of(januaryRule)).thenReturn(List.of());
+        when(delegate.findById(1L)).thenReturn(januaryRule);
+        when(delegate.save(movedRule)).thenReturn(movedRule);
+        repository.findByUser(user);
+
+        // Act
+        repository.save(movedRule);
+
+        // Assert
+        assertTrue(repository.findByUser(user).isEmpty());
+    }
+
+    @Test
+    void deleteById_正常ケース_削除したルールのユーザーのキャッシュが無効化される() {
+        // Arrange
+        when(delegate.findByUser(user)).thenReturn(List.of(januaryRule)).thenReturn(List.of());
+        when(delegate.findById(1L)).thenReturn(januaryRule);
+        repository.findByUser(user);
+
+        // Act
+        repository.deleteById(1L);
+
+        // Assert
+        verify(delegate).deleteById(1L);
+        assertTrue(repository.findActiveByUserAndDate(user, LocalDate.of(2025, 1, 15)).isEmpty());
+    }
+
+    private WorkRule createWorkRule(Long id, User owner, LocalDate startDate, LocalDate endDate) {
+        return new WorkRule(
+            id,
+            100L,
+            35.6762,
+            139.6503,
+            owner,
+            LocalTime.of(9, 0),
+            LocalTime.of(18, 0),
+            LocalTime.of(12, 0),
+            LocalTime.of(13, 0),
+            startDate,
+            endDate
+        );
+    }
+}
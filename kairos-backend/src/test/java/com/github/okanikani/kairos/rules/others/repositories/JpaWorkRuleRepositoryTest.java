@@ -1,5 +1,8 @@
 package com.github.okanikani.kairos.rules.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
+import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
 import com.github.okanikani.kairos.rules.domains.models.entities.WorkRule;
 import com.github.okanikani.kairos.rules.domains.models.vos.User;
 import com.github.okanikani.kairos.rules.others.jpa.entities.WorkRuleJpaEntity;
@@ -7,16 +10,20 @@ import com.github.okanikani.kairos.rules.others.jpa.repositories.WorkRuleJpaRepo
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -34,6 +41,9 @@ class JpaWorkRuleRepositoryTest {
     @Mock
     private WorkRuleJpaRepository workRuleJpaRepository;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private JpaWorkRuleRepository jpaWorkRuleRepository;
 
@@ -76,13 +86,13 @@ class JpaWorkRuleRepositoryTest {
     @Test
     void save_正常なWorkRule_正常に保存されドメインモデルが返される() {
         // Given
-        when(workRuleJpaRepository.save(any(WorkRuleJpaEntity.class))).thenReturn(testJpaEntity);
+        when(workRuleJpaRepository.saveAndFlush(any(WorkRuleJpaEntity.class))).thenReturn(testJpaEntity);
 
         // When
         WorkRule result = jpaWorkRuleRepository.save(testWorkRule);
 
         // Then
-        verify(workRuleJpaRepository).save(any(WorkRuleJpaEntity.class));
+        verify(workRuleJpaRepository).saveAndFlush(any(WorkRuleJpaEntity.class));
         assertThat(result).isNotNull();
         assertThat(result.workPlaceId()).isEqualTo(100L);
         assertThat(result.latitude()).isEqualTo(35.6762);
@@ -290,7 +300,7 @@ class JpaWorkRuleRepositoryTest {
                 LocalDate.of(2025, 11, 30)
         );
 
-        when(workRuleJpaRepository.save(any(WorkRuleJpaEntity.class))).thenReturn(expectedJpaEntity);
+        when(workRuleJpaRepository.saveAndFlush(any(WorkRuleJpaEntity.class))).thenReturn(expectedJpaEntity);
 
         // When
         WorkRule result = jpaWorkRuleRepository.save(workRuleWithoutBreak);
@@ -308,4 +318,78 @@ class JpaWorkRuleRepositoryTest {
         assertThat(result.membershipStartDate()).isEqualTo(LocalDate.of(2025, 2, 1));
         assertThat(result.membershipEndDate()).isEqualTo(LocalDate.of(2025, 11, 30));
     }
-}
\ No newline at end of file
+
+    @Test
+    void save_IDを持つWorkRule_既存行の更新としてIDが引き継がれる() {
+        // Given
+        when(workRuleJpaRepository.saveAndFlush(any(WorkRuleJpaEntity.class))).thenReturn(testJpaEntity);
+        ArgumentCaptor<WorkRuleJpaEntity> captor = ArgumentCaptor.forClass(WorkRuleJpaEntity.class);
+
+        // When
+        jpaWorkRuleRepository.save(testWorkRule);
+
+        // Then
+        verify(workRuleJpaRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void save_ユーザーを変更する更新_変更前後の両方のユーザーのキャッシュ無効化が通知される() {
+        // Given
+        WorkRuleJpaEntity previousEntity = new WorkRuleJpaEntity(
+                100L, 35.6762, 139.6503, "previous-user",
+                LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        when(workRuleJpaRepository.findById(1L)).thenReturn(Optional.of(previousEntity));
+        when(workRuleJpaRepository.saveAndFlush(any(WorkRuleJpaEntity.class))).thenReturn(testJpaEntity);
+
+        // When
+        jpaWorkRuleRepository.save(testWorkRule);
+
+        // Then
+        verify(cacheInvalidationPublisher).publish(CacheNames.WORK_RULES, "previous-user");
+        verify(cacheInvalidationPublisher).publish(CacheNames.WORK_RULES, "test-user-001");
+    }
+
+    @Test
+    void save_所属期間の排他制約違反_DuplicateResourceExceptionに変換される() {
+        // Given
+        SQLException exclusionViolation = new SQLException(
+                "conflicting key value violates exclusion constraint \"excl_work_rules_user_membership_period\"", "23P01");
+        when(workRuleJpaRepository.saveAndFlush(any(WorkRuleJpaEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", exclusionViolation));
+
+        // When & Then
+        assertThatThrownBy(() -> jpaWorkRuleRepository.save(testWorkRule))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("指定された所属期間は既存の勤怠ルールと重複しています");
+    }
+
+    @Test
+    void save_排他制約以外の整合性違反_そのまま再スローされる() {
+        // Given
+        SQLException checkViolation = new SQLException(
+                "new row violates check constraint \"chk_work_rules_latitude\"", "23514");
+        when(workRuleJpaRepository.saveAndFlush(any(WorkRuleJpaEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", checkViolation));
+
+        // When & Then
+        assertThatThrownBy(() -> jpaWorkRuleRepository.save(testWorkRule))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void existsOverlapping_除外IDなし_登録用の判定クエリが使われる() {
+        // Given
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 30);
+        when(workRuleJpaRepository.existsOverlappingRules("test-user-001", startDate, endDate)).thenReturn(true);
+
+        // When
+        boolean result = jpaWorkRuleRepository.existsOverlapping(testUser, startDate, endDate, null);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(workRuleJpaRepository).existsOverlappingRules("test-user-001", startDate, endDate);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.okanikani.kairos.security;
+
+import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
+import com.github.okanikani.kairos.users.domains.models.entities.Role;
+import com.github.okanikani.kairos.users.domains.models.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuthorizationTest {
+
+    @Test
+    void isAdmin_JWTフィルターと同じ認証情報の管理者_trueを返す() {
+        // Arrange: JwtAuthenticationFilter は CustomUserPrincipal と ROLE_ なしの権限名で認証情報を作る
+        Authentication admin = authenticationOf(Role.ADMIN);
+        Authentication systemAdmin = authenticationOf(Role.SYSTEM_ADMIN);
+
+        // Act & Assert
+        assertEquals("ADMIN", admin.getAuthorities().iterator().next().getAuthority());
+        assertTrue(AdminAuthorization.isAdmin(admin));
+        assertTrue(AdminAuthorization.isAdmin(systemAdmin));
+    }
+
+    @Test
+    void isAdmin_一般ユーザー_falseを返す() {
+        // Act & Assert
+        assertFalse(AdminAuthorization.isAdmin(authenticationOf(Role.USER)));
+        assertFalse(AdminAuthorization.isAdmin(null));
+    }
+
+    @Test
+    void isAdmin_CustomUserPrincipal以外の認証情報_権限名のプレフィックスの有無によらず判定する() {
+        // Arrange
+        Authentication raw = new UsernamePasswordAuthenticationToken("admin", null,
+            List.of(new SimpleGrantedAuthority("ADMIN")));
+        Authentication prefixed = new UsernamePasswordAuthenticationToken("admin", null,
+            List.of(new SimpleGrantedAuthority("ROLE_SYSTEM_ADMIN")));
+        Authentication user = new UsernamePasswordAuthenticationToken("user", null,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // Act & Assert
+        assertTrue(AdminAuthorization.isAdmin(raw));
+        assertTrue(AdminAuthorization.isAdmin(prefixed));
+        assertFalse(AdminAuthorization.isAdmin(user));
+    }
+
+    @Test
+    void requireAdmin_一般ユーザー_AuthorizationExceptionが発生する() {
+        // Act & Assert
+        AuthorizationException exception = assertThrows(AuthorizationException.class,
+            () -> AdminAuthorization.requireAdmin(authenticationOf(Role.USER), "管理者のみ"));
+        assertEquals("管理者のみ", exception.getMessage());
+        assertDoesNotThrow(() -> AdminAuthorization.requireAdmin(authenticationOf(Role.ADMIN), "管理者のみ"));
+    }
+
+    private static Authentication authenticationOf(Role role) {
+        User user = new User(1L, "user001", "ユーザー", "user001@example.com",
+            "hashedPassword", role, true, LocalDateTime.now(), null);
+        CustomUserPrincipal principal = new CustomUserPrincipal(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -3,6 +3,7 @@ package com.github.okanikani.kairos.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.okanikani.kairos.commons.exceptions.AuthorizationException;
 import com.github.okanikani.kairos.commons.exceptions.DuplicateResourceException;
+import com.github.okanikani.kairos.commons.exceptions.TooManyRequestsException;
 import com.github.okanikani.kairos.commons.exceptions.ValidationException;
 import com.github.okanikani.kairos.users.applications.usecases.AuthenticationUseCase;
 import com.github.okanikani.kairos.users.applications.usecases.RegisterUserUseCase;
@@ -20,9 +21,12 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -54,6 +58,9 @@ class AuthControllerTest {
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    @MockitoBean
+    private LoginAttemptThrottle loginAttemptThrottle;
+    
     @Test
     @WithMockUser
     @DisplayName("POST /api/auth/login_正常ケース_JWTトークンが返される")
@@ -102,6 +109,27 @@ class AuthControllerTest {
                 .andExpect(status().isForbidden());
     }
     
+    @Test
+    @DisplayName("POST /api/auth/login_試行回数超過_照合せずに429エラーが返される")
+    void login_試行回数超過_照合せずに429エラーが返される() throws Exception {
+        // Given
+        LoginRequest request = new LoginRequest("testuser123", "WrongPassword!");
+        
+        doThrow(new TooManyRequestsException("ログインの試行回数が多すぎます。しばらくしてから再試行してください", Duration.ofMillis(1500)))
+            .when(loginAttemptThrottle).acquire(eq("testuser123"), anyString());
+        
+        // When & Then
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_REQUESTS"));
+        
+        verify(authenticationUseCase, never()).authenticate(any(LoginRequest.class));
+    }
+    
     @Test
     @DisplayName("POST /api/auth/login_バリデーションエラー_400エラーが返される")
     void login_バリデーションエラー_400エラーが返される() throws Exception {
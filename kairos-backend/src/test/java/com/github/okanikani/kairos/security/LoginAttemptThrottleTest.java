@@ -0,0 +1,82 @@
+package com.github.okanikani.kairos.security;
+
+import com.github.okanikani.kairos.commons.config.LoginThrottleProperties;
+import com.github.okanikani.kairos.commons.config.LoginThrottleProperties.Bucket;
+import com.github.okanikani.kairos.commons.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_ユーザーの試行回数超過_例外が発生しロックされる() {
+        // Arrange
+        LoginAttemptThrottle throttle = throttle(true, 2, 100);
+        throttle.acquire("user1", "192.0.2.1");
+        throttle.acquire("user1", "192.0.2.2");
+
+        // Act
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+            () -> throttle.acquire("user1", "192.0.2.3"));
+
+        // Assert
+        assertEquals(Duration.ofMinutes(15), exception.getRetryAfter());
+        assertTrue(throttle.isLocked("user1"));
+        assertEquals(1.0, meterRegistry.get(LoginAttemptThrottle.LOGIN_THROTTLED)
+            .tag(LoginAttemptThrottle.TAG_REASON, "user").counter().count());
+    }
+
+    @Test
+    void acquire_接続元の試行回数超過_別のユーザーIDでも例外が発生する() {
+        // Arrange
+        LoginAttemptThrottle throttle = throttle(true, 100, 2);
+        throttle.acquire("user1", "192.0.2.1");
+        throttle.acquire("user2", "192.0.2.1");
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("user3", "192.0.2.1"));
+        assertFalse(throttle.isLocked("user3"));
+        assertEquals(1.0, meterRegistry.get(LoginAttemptThrottle.LOGIN_THROTTLED)
+            .tag(LoginAttemptThrottle.TAG_REASON, "ip").counter().count());
+    }
+
+    @Test
+    void recordSuccess_ログイン成功_ユーザーの試行回数が回復する() {
+        // Arrange
+        LoginAttemptThrottle throttle = throttle(true, 2, 100);
+        throttle.acquire("user1", "192.0.2.1");
+        throttle.acquire("user1", "192.0.2.1");
+
+        // Act
+        throttle.recordSuccess("user1");
+
+        // Assert
+        assertDoesNotThrow(() -> throttle.acquire("user1", "192.0.2.1"));
+        assertDoesNotThrow(() -> throttle.acquire("user1", "192.0.2.1"));
+    }
+
+    @Test
+    void acquire_無効設定_制限しない() {
+        // Arrange
+        LoginAttemptThrottle throttle = throttle(false, 1, 1);
+
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertDoesNotThrow(() -> throttle.acquire("user1", "192.0.2.1"));
+        }
+        assertFalse(throttle.isLocked("user1"));
+    }
+
+    private LoginAttemptThrottle throttle(boolean enabled, int userCapacity, int ipCapacity) {
+        LoginThrottleProperties properties = new LoginThrottleProperties(enabled, 1024,
+            new Bucket(userCapacity, Duration.ofMinutes(1), Duration.ofMinutes(15)),
+            new Bucket(ipCapacity, Duration.ofSeconds(1), Duration.ofMinutes(5)));
+        return new LoginAttemptThrottle(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.okanikani.kairos.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityConfigurationTest {
+
+    @Test
+    void metricsScrapeRequest_管理用ポートへのメトリクス収集_認証なしで許可する() {
+        // Arrange
+        RequestMatcher matcher = SecurityConfiguration.metricsScrapeRequest(8081);
+
+        // Act & Assert
+        assertTrue(matcher.matches(request("/actuator/prometheus", 8081)));
+    }
+
+    @Test
+    void metricsScrapeRequest_APIポートへのメトリクス収集_許可の対象外() {
+        // Arrange
+        RequestMatcher matcher = SecurityConfiguration.metricsScrapeRequest(8081);
+
+        // Act & Assert
+        assertFalse(matcher.matches(request("/actuator/prometheus", 8080)));
+        assertFalse(matcher.matches(request("/api/reports", 8081)));
+    }
+
+    @Test
+    void metricsScrapeRequest_管理用ポートを分けていない_パスのみで判定する() {
+        // Arrange
+        RequestMatcher matcher = SecurityConfiguration.metricsScrapeRequest(null);
+
+        // Act & Assert
+        assertTrue(matcher.matches(request("/actuator/prometheus", 8080)));
+        assertFalse(matcher.matches(request("/api/reports", 8080)));
+    }
+
+    private static MockHttpServletRequest request(String path, int localPort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.okanikani.kairos.users.applications.usecases;
+
+import com.github.okanikani.kairos.commons.config.UserOnboardingProperties;
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterRowResult;
+import com.github.okanikani.kairos.users.applications.usecases.dto.BulkRegisterRowResult.Status;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import com.github.okanikani.kairos.users.domains.models.entities.Role;
+import com.github.okanikani.kairos.users.domains.models.entities.User;
+import com.github.okanikani.kairos.users.domains.services.PasswordService;
+import com.github.okanikani.kairos.users.others.repositories.InMemoryUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BulkRegisterUsersUseCaseのテスト
+ * 行ごとの検証・重複判定・並列ハッシュ計算・まとめての保存を確認
+ */
+class BulkRegisterUsersUseCaseTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    private InMemoryUserRepository userRepository;
+    private PasswordService passwordService;
+    private BulkRegisterUsersUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = spy(new InMemoryUserRepository());
+        passwordService = mock(PasswordService.class);
+        when(passwordService.hashPassword(anyString())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        useCase = new BulkRegisterUsersUseCase(userRepository, passwordService, new UserOnboardingProperties(3, 4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.shutdown();
+    }
+
+    @Test
+    void execute_正常な行_全件登録され入力順に結果が返る() {
+        // Arrange
+        List<RegisterRequest> requests = List.of(
+            request("bulk-001", "bulk1@example.com"),
+            new RegisterRequest("bulk-002", "一括2", "bulk2@example.com", PASSWORD, "admin"));
+
+        // Act
+        BulkRegisterResponse response = useCase.execute(requests);
+
+        // Assert
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rows()).extracting(BulkRegisterRowResult::row).containsExactly(1, 2);
+        assertThat(response.rows()).extracting(BulkRegisterRowResult::status).containsOnly(Status.CREATED);
+        assertThat(response.rows()).allSatisfy(row -> assertThat(row.id()).isNotNull());
+        assertThat(userRepository.findByUserId("bulk-002")).get()
+            .satisfies(user -> {
+                assertThat(user.role()).isEqualTo(Role.ADMIN);
+                assertThat(user.hashedPassword()).isEqualTo("hashed:" + PASSWORD);
+            });
+        verify(userRepository, times(1)).saveAllNew(anyList());
+    }
+
+    @Test
+    void execute_既存ユーザーと一覧内の重複_1回の問い合わせで判定し重複行は登録しない() {
+        // Arrange
+        userRepository.save(new User(null, "existing", "既存", "Existing@Example.com",
+            "hash", Role.USER, true, LocalDateTime.now(), null));
+        List<RegisterRequest> requests = List.of(
+            request("existing", "new@example.com"),
+            request("new-user", "existing@example.com"),
+            request("bulk-001", "bulk1@example.com"),
+            request("bulk-001", "other@example.com"));
+        useCase = new BulkRegisterUsersUseCase(userRepository, passwordService, new UserOnboardingProperties(10, 2));
+
+        // Act
+        BulkRegisterResponse response = useCase.execute(requests);
+
+        // Assert
+        assertThat(response.rows()).extracting(BulkRegisterRowResult::status)
+            .containsExactly(Status.DUPLICATE, Status.DUPLICATE, Status.CREATED, Status.DUPLICATE);
+        assertThat(response.rows().get(3).message()).contains("前の行と重複");
+        verify(userRepository, times(1)).findByUserIdInOrEmailIn(
+            List.of("existing", "new-user", "bulk-001"),
+            List.of("new@example.com", "existing@example.com", "bulk1@example.com"));
+        verify(passwordService, times(1)).hashPassword(anyString());
+    }
+
+    @Test
+    void execute_不正な行_その行のみINVALIDとなりハッシュ計算しない() {
+        // Arrange
+        List<RegisterRequest> requests = new ArrayList<>();
+        requests.add(new RegisterRequest("bulk-001", "一括1", "bulk1@example.com", "weak", null));
+        requests.add(new RegisterRequest("bulk-002", "一括2", "bulk2@example.com", PASSWORD, "UNKNOWN"));
+        requests.add(null);
+
+        // Act
+        BulkRegisterResponse response = useCase.execute(requests);
+
+        // Assert
+        assertThat(response.invalid()).isEqualTo(3);
+        assertThat(response.rows()).allSatisfy(row -> assertThat(row.message()).isNotBlank());
+        verify(passwordService, never()).hashPassword(anyString());
+    }
+
+    @Test
+    void execute_ハッシュ計算_複数スレッドで並列に実行される() throws Exception {
+        // Arrange: 2件のハッシュ計算が同時に始まらないと完了しない
+        CountDownLatch started = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(passwordService.hashPassword(anyString())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            started.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            return "hashed";
+        });
+
+        // Act
+        BulkRegisterResponse response = useCase.execute(List.of(
+            request("bulk-001", "bulk1@example.com"),
+            request("bulk-002", "bulk2@example.com")));
+
+        // Assert
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(threads).hasSize(2).allMatch(name -> name.startsWith("password-hash-"));
+    }
+
+    @Test
+    void execute_ハッシュ計算の失敗_その行のみFAILEDとなる() {
+        // Arrange
+        when(passwordService.hashPassword("Broken0rd!")).thenThrow(new IllegalStateException("encoder error"));
+
+        // Act
+        BulkRegisterResponse response = useCase.execute(List.of(
+            new RegisterRequest("bulk-001", "一括1", "bulk1@example.com", "Broken0rd!", null),
+            request("bulk-002", "bulk2@example.com")));
+
+        // Assert
+        assertThat(response.rows()).extracting(BulkRegisterRowResult::status)
+            .containsExactly(Status.FAILED, Status.CREATED);
+    }
+
+    @Test
+    void execute_最大行数を超える_ValidationExceptionが発生する() {
+        // Arrange
+        List<RegisterRequest> requests = List.of(
+            request("bulk-001", "bulk1@example.com"),
+            request("bulk-002", "bulk2@example.com"),
+            request("bulk-003", "bulk3@example.com"),
+            request("bulk-004", "bulk4@example.com"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(requests))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("3件まで");
+        assertThatThrownBy(() -> useCase.execute(List.of()))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    private static RegisterRequest request(String userId, String email) {
+        return new RegisterRequest(userId, "ユーザー " + userId, email, PASSWORD, null);
+    }
+}
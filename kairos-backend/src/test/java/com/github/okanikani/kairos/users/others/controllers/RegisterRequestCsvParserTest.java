@@ -0,0 +1,56 @@
+package com.github.okanikani.kairos.users.others.controllers;
+
+import com.github.okanikani.kairos.commons.exceptions.ValidationException;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegisterRequestCsvParserTest {
+
+    @Test
+    void parse_ヘッダー行の列順に従って変換される() {
+        // Arrange
+        String csv = "\uFEFFEmail,userId,username,password\r\n"
+            + "taro@example.com,yamada-taro,山田 太郎,Passw0rd!\r\n"
+            + "\r\n"
+            + "hanako@example.com,sato-hanako,佐藤 花子,Passw0rd!\r\n";
+
+        // Act
+        List<RegisterRequest> requests = RegisterRequestCsvParser.parse(csv);
+
+        // Assert
+        assertThat(requests).containsExactly(
+            new RegisterRequest("yamada-taro", "山田 太郎", "taro@example.com", "Passw0rd!", null),
+            new RegisterRequest("sato-hanako", "佐藤 花子", "hanako@example.com", "Passw0rd!", null));
+    }
+
+    @Test
+    void parse_クォートされた値_カンマやダブルクォートを含められる() {
+        // Arrange
+        String csv = "userId,username,email,password,role\n"
+            + "yamada-taro,\"山田, \"\"タロウ\"\"\",taro@example.com,Passw0rd!,ADMIN\n"
+            + "sato-hanako,佐藤,hanako@example.com,Passw0rd!";
+
+        // Act
+        List<RegisterRequest> requests = RegisterRequestCsvParser.parse(csv);
+
+        // Assert
+        assertThat(requests).extracting(RegisterRequest::username).containsExactly("山田, \"タロウ\"", "佐藤");
+        assertThat(requests).extracting(RegisterRequest::role).containsExactly("ADMIN", null);
+    }
+
+    @Test
+    void parse_必須の列がない_ValidationExceptionが発生する() {
+        // Act & Assert
+        assertThatThrownBy(() -> RegisterRequestCsvParser.parse("userId,username,email\nuser,名前,a@example.com"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("password");
+        assertThatThrownBy(() -> RegisterRequestCsvParser.parse("userId,username,email,password\n\"user,名前"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessageContaining("閉じられていません");
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.okanikani.kairos.users.others.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginRequest;
+import com.github.okanikani.kairos.users.applications.usecases.dto.LoginResponse;
+import com.github.okanikani.kairos.users.applications.usecases.dto.RegisterRequest;
+import com.github.okanikani.kairos.users.domains.models.repositories.UserRepository;
+import com.github.okanikani.kairos.users.others.repositories.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ユーザー一括登録API統合テスト
+ * 登録・ログインしたユーザーのJWTでアクセスし、管理者のみ実行できることを検証
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "jwt.secret=test-secret-key-for-integration-testing-must-be-at-least-256-bits",
+    "jwt.expiration=86400000"
+})
+@DisplayName("ユーザー一括登録API統合テスト")
+class UserOnboardingApiIntegrationTest {
+
+    private static final String PASSWORD = "OnboardingTest123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        // テスト用のユーザーをクリア（InMemoryRepositoryの場合）
+        if (userRepository instanceof InMemoryUserRepository inMemoryUserRepository) {
+            inMemoryUserRepository.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("管理者ユーザーのJWT_JSON配列のユーザーを一括登録できる")
+    void 管理者ユーザー_JSON配列で一括登録できる() throws Exception {
+        // Arrange
+        String token = registerAndLogin("onboardingadmin", "ADMIN");
+        List<RegisterRequest> requests = List.of(
+            new RegisterRequest("bulkuser001", "一括登録ユーザー1", "bulkuser001@example.com", PASSWORD, "USER"),
+            new RegisterRequest("bulkuser002", "一括登録ユーザー2", "bulkuser002@example.com", PASSWORD, "USER"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/bulk")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(2));
+        assertThat(userRepository.existsByUserId("bulkuser001")).isTrue();
+        assertThat(userRepository.existsByUserId("bulkuser002")).isTrue();
+    }
+
+    @Test
+    @DisplayName("システム管理者ユーザーのJWT_CSVのユーザーを一括登録できる")
+    void システム管理者ユーザー_CSVで一括登録できる() throws Exception {
+        // Arrange
+        String token = registerAndLogin("onboardingsysadmin", "SYSTEM_ADMIN");
+        String csv = "userId,username,email,password,role\n"
+            + "bulkcsv001,CSVユーザー,bulkcsv001@example.com," + PASSWORD + ",USER\n";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/bulk")
+                .header("Authorization", "Bearer " + token)
+                .contentType(UserOnboardingController.TEXT_CSV_VALUE)
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+    }
+
+    @Test
+    @DisplayName("一般ユーザーのJWT_403が返され登録されない")
+    void 一般ユーザー_403が返される() throws Exception {
+        // Arrange
+        String token = registerAndLogin("onboardinguser", "USER");
+        List<RegisterRequest> requests = List.of(
+            new RegisterRequest("bulkuser003", "一括登録ユーザー3", "bulkuser003@example.com", PASSWORD, "USER"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/bulk")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isForbidden());
+        assertThat(userRepository.existsByUserId("bulkuser003")).isFalse();
+    }
+
+    private String registerAndLogin(String userId, String role) throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest(
+            userId, "一括登録テストユーザー", userId + "@example.com", PASSWORD, role);
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(userId, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(loginResult.getResponse().getContentAsString(), LoginResponse.class).accessToken();
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.okanikani.kairos.users.others.repositories;
 
+import com.github.okanikani.kairos.commons.cache.CacheInvalidationPublisher;
+import com.github.okanikani.kairos.commons.cache.CacheNames;
 import com.github.okanikani.kairos.users.domains.models.entities.Role;
 import com.github.okanikani.kairos.users.domains.models.entities.User;
 import com.github.okanikani.kairos.users.others.jpa.entities.UserJpaEntity;
@@ -10,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +38,12 @@ class JpaUserRepositoryTest {
     @Mock
     private UserJpaRepository userJpaRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private JpaUserRepository jpaUserRepository;
 
@@ -322,6 +333,20 @@ class JpaUserRepositoryTest {
 
         // Then
         verify(userJpaRepository).deleteByUserId("test-user-001");
+        verify(cacheInvalidationPublisher).publish(CacheNames.USERS, "test-user-001");
+    }
+
+    @Test
+    void deleteById_存在するID_削除したユーザーのキャッシュ無効化が通知される() {
+        // Given
+        when(userJpaRepository.findById(1L)).thenReturn(Optional.of(testJpaEntity));
+
+        // When
+        jpaUserRepository.deleteById(1L);
+
+        // Then
+        verify(userJpaRepository).deleteById(1L);
+        verify(cacheInvalidationPublisher).publish(CacheNames.USERS, testJpaEntity.getUserId());
     }
 
     @Test
@@ -417,4 +442,39 @@ class JpaUserRepositoryTest {
         assertThat(result.lastLoginAt()).isNull();
         assertThat(result.userId()).isEqualTo("disabled-001");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByUserIdInOrEmailIn_メールアドレスを小文字に揃えて1回で問い合わせる() {
+        // Given
+        when(userJpaRepository.findByUserIdInOrLowerEmailIn(List.of("test-user-001"), List.of("test@example.com")))
+                .thenReturn(List.of(testJpaEntity));
+
+        // When
+        List<User> result = jpaUserRepository.findByUserIdInOrEmailIn(List.of("test-user-001"), List.of("Test@Example.com"));
+
+        // Then
+        assertThat(result).extracting(User::userId).containsExactly("test-user-001");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAllNew_JDBCバッチで登録しハッシュが一致する行のみ保存済みとして返す() {
+        // Given: 2件目は重複チェック後に他のリクエストで登録された（別のハッシュで既に存在する）
+        LocalDateTime now = LocalDateTime.now();
+        User first = new User(null, "bulk-001", "一括1", "bulk1@example.com", "hash-1", Role.USER, true, now, null);
+        User second = new User(null, "bulk-002", "一括2", "bulk2@example.com", "hash-2", Role.USER, true, now, null);
+        UserJpaEntity savedFirst = new UserJpaEntity("bulk-001", "一括1", "bulk1@example.com", "hash-1", Role.USER, true, now, null);
+        savedFirst.setId(10L);
+        UserJpaEntity concurrentSecond = new UserJpaEntity("bulk-002", "他", "other@example.com", "hash-other", Role.USER, true, now, null);
+        concurrentSecond.setId(11L);
+        when(userJpaRepository.findByUserIdIn(any())).thenReturn(List.of(savedFirst, concurrentSecond));
+
+        // When
+        List<User> result = jpaUserRepository.saveAllNew(List.of(first, second));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq(JpaUserRepository.INSERT_USER_SQL), eq(List.of(first, second)),
+                eq(JpaUserRepository.INSERT_BATCH_SIZE), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(result).extracting(User::id).containsExactly(10L);
+    }
+}